@@ -223,7 +223,11 @@ if ($crystal::crystalCoefCalc == 9)
    $crystal::crystalCoefCalcClass = new CoefCalcFromCIF($crystal::cif);												  													
 }
 
-
+// the number of simulated electrons applies to all computed compositions
+if ($crystal::simElectrons > 0 && $crystal::crystalCoefCalcClass instanceof CoefCalcCompute)
+{
+   ((CoefCalcCompute) $crystal::crystalCoefCalcClass).setNumberSimulatedElectrons($crystal::simElectrons);
+}
 
 $crystal::crystalProperties.put(Crystal.CRYSTAL_COEFCALC, $crystal::crystalCoefCalcClass);
 
@@ -332,6 +336,7 @@ crystalLine
 							   $crystal::crystalProperties.putAll($nn.properties);
 							  }; }
         | pp=polarisationDirection	{ $crystal::crystalProperties.put(Crystal.CRYSTAL_POLARISATION_DIRECTION, $pp.value); }					 
+	| oo=seed	                { $crystal::crystalProperties.put(Crystal.CRYSTAL_SEED, $oo.value); }
 							
 	;
 
@@ -621,6 +626,18 @@ runs returns [int value]
 RUNS  
 	:	 ('R'|'r')('U'|'u')('N'|'n')('S'|'s') ;
 
+seed returns [Long value]
+	: SEED a=FLOAT {
+		try {
+			$value = Long.parseLong($a.text);
+		} catch (NumberFormatException e) {
+			emitErrorMessage("line " + $a.line + ":" + $a.pos
+				+ " Seed must be a whole number, not " + $a.text);
+		}
+	};
+SEED  
+	:	 ('S'|'s')('E'|'e')('E'|'e')('D'|'d') ;
+
 
 // ------------------------------------------------------------------
 beam returns [Beam bObj] 
@@ -1,4 +1,4 @@
-// $ANTLR 3.4 /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g 2021-03-13 16:23:09
+// $ANTLR 3.4 /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g 2026-10-19 00:14:16
 
 package se.raddo.raddose3D.parser;
 
@@ -86,31 +86,32 @@ public class InputfileLexer extends Lexer {
     public static final int RUNS=76;
     public static final int SAXS=77;
     public static final int SAXSSEQ=78;
-    public static final int SEMIANGLE=79;
-    public static final int SEQFILE=80;
-    public static final int SEQUENCE=81;
-    public static final int SEQUENCEFILE=82;
-    public static final int SIMELECTRONS=83;
-    public static final int SIMPHOTONS=84;
-    public static final int SIMPLE=85;
-    public static final int SMALLMOLE=86;
-    public static final int SMALLMOLEATOMS=87;
-    public static final int SOLVENTFRACTION=88;
-    public static final int SOLVENTHEAVYCONC=89;
-    public static final int STARTOFFSET=90;
-    public static final int STRING=91;
-    public static final int SUBPROGRAM=92;
-    public static final int SURROUNDINGDENSITY=93;
-    public static final int SURROUNDINGELEMENTS=94;
-    public static final int SURROUNDINGHEAVYCONC=95;
-    public static final int SURROUNDINGTHICKNESS=96;
-    public static final int TRANSLATEPERDEGREE=97;
-    public static final int TYPE=98;
-    public static final int UNITCELL=99;
-    public static final int VERTICAL=100;
-    public static final int WEDGE=101;
-    public static final int WIREFRAMETYPE=102;
-    public static final int WS=103;
+    public static final int SEED=79;
+    public static final int SEMIANGLE=80;
+    public static final int SEQFILE=81;
+    public static final int SEQUENCE=82;
+    public static final int SEQUENCEFILE=83;
+    public static final int SIMELECTRONS=84;
+    public static final int SIMPHOTONS=85;
+    public static final int SIMPLE=86;
+    public static final int SMALLMOLE=87;
+    public static final int SMALLMOLEATOMS=88;
+    public static final int SOLVENTFRACTION=89;
+    public static final int SOLVENTHEAVYCONC=90;
+    public static final int STARTOFFSET=91;
+    public static final int STRING=92;
+    public static final int SUBPROGRAM=93;
+    public static final int SURROUNDINGDENSITY=94;
+    public static final int SURROUNDINGELEMENTS=95;
+    public static final int SURROUNDINGHEAVYCONC=96;
+    public static final int SURROUNDINGTHICKNESS=97;
+    public static final int TRANSLATEPERDEGREE=98;
+    public static final int TYPE=99;
+    public static final int UNITCELL=100;
+    public static final int VERTICAL=101;
+    public static final int WEDGE=102;
+    public static final int WIREFRAMETYPE=103;
+    public static final int WS=104;
 
     // delegates
     // delegators
@@ -132,8 +133,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CRYSTAL;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:269:9: ( ( 'C' | 'c' ) ( 'R' | 'r' ) ( 'Y' | 'y' ) ( 'S' | 's' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:269:11: ( 'C' | 'c' ) ( 'R' | 'r' ) ( 'Y' | 'y' ) ( 'S' | 's' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:273:9: ( ( 'C' | 'c' ) ( 'R' | 'r' ) ( 'Y' | 'y' ) ( 'S' | 's' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:273:11: ( 'C' | 'c' ) ( 'R' | 'r' ) ( 'Y' | 'y' ) ( 'S' | 's' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -221,8 +222,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = TYPE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:341:6: ( ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:341:8: ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:346:6: ( ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:346:8: ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='T'||input.LA(1)=='t' ) {
                 input.consume();
@@ -280,8 +281,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = DIFFRACTIONDECAYMODEL;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:345:23: ( ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'Y' | 'y' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'L' | 'l' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:345:25: ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'Y' | 'y' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'L' | 'l' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:350:23: ( ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'Y' | 'y' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'L' | 'l' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:350:25: ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'Y' | 'y' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'L' | 'l' )
             {
             if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
                 input.consume();
@@ -509,8 +510,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = DDM;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:346:5: ( ( 'D' | 'd' ) ( 'D' | 'd' ) ( 'M' | 'm' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:346:7: ( 'D' | 'd' ) ( 'D' | 'd' ) ( 'M' | 'm' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:351:5: ( ( 'D' | 'd' ) ( 'D' | 'd' ) ( 'M' | 'm' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:351:7: ( 'D' | 'd' ) ( 'D' | 'd' ) ( 'M' | 'm' )
             {
             if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
                 input.consume();
@@ -558,8 +559,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SIMPLE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:352:8: ( ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'P' | 'p' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:352:10: ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'P' | 'p' ) ( 'L' | 'l' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:357:8: ( ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'P' | 'p' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:357:10: ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'P' | 'p' ) ( 'L' | 'l' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -637,8 +638,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = LINEAR;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:353:8: ( ( 'L' | 'l' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'R' | 'r' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:353:10: ( 'L' | 'l' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'R' | 'r' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:358:8: ( ( 'L' | 'l' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'R' | 'r' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:358:10: ( 'L' | 'l' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'R' | 'r' )
             {
             if ( input.LA(1)=='L'||input.LA(1)=='l' ) {
                 input.consume();
@@ -716,8 +717,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = LEAL;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:354:6: ( ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'L' | 'l' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:354:8: ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'L' | 'l' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:359:6: ( ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'L' | 'l' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:359:8: ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'L' | 'l' )
             {
             if ( input.LA(1)=='L'||input.LA(1)=='l' ) {
                 input.consume();
@@ -775,8 +776,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = DECAYPARAM;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:358:13: ( ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:358:15: ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:363:13: ( ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:363:15: ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' )
             {
             if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
                 input.consume();
@@ -894,10 +895,10 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = ABSCOEFCALC;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:362:13: ( ( ( 'A' | 'a' ) ( 'B' | 'b' ) ( 'S' | 's' ) )? ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:362:15: ( ( 'A' | 'a' ) ( 'B' | 'b' ) ( 'S' | 's' ) )? ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:367:13: ( ( ( 'A' | 'a' ) ( 'B' | 'b' ) ( 'S' | 's' ) )? ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:367:15: ( ( 'A' | 'a' ) ( 'B' | 'b' ) ( 'S' | 's' ) )? ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' )
             {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:362:15: ( ( 'A' | 'a' ) ( 'B' | 'b' ) ( 'S' | 's' ) )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:367:15: ( ( 'A' | 'a' ) ( 'B' | 'b' ) ( 'S' | 's' ) )?
             int alt1=2;
             int LA1_0 = input.LA(1);
 
@@ -906,7 +907,7 @@ public class InputfileLexer extends Lexer {
             }
             switch (alt1) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:362:16: ( 'A' | 'a' ) ( 'B' | 'b' ) ( 'S' | 's' )
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:367:16: ( 'A' | 'a' ) ( 'B' | 'b' ) ( 'S' | 's' )
                     {
                     if ( input.LA(1)=='A'||input.LA(1)=='a' ) {
                         input.consume();
@@ -1040,8 +1041,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = DUMMY;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:376:7: ( ( 'D' | 'd' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'M' | 'm' ) ( 'Y' | 'y' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:376:9: ( 'D' | 'd' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'M' | 'm' ) ( 'Y' | 'y' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:381:7: ( ( 'D' | 'd' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'M' | 'm' ) ( 'Y' | 'y' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:381:9: ( 'D' | 'd' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'M' | 'm' ) ( 'Y' | 'y' )
             {
             if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
                 input.consume();
@@ -1109,8 +1110,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = DEFAULT;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:377:9: ( ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'A' | 'a' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'T' | 't' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:377:11: ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'A' | 'a' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'T' | 't' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:382:9: ( ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'A' | 'a' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'T' | 't' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:382:11: ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'A' | 'a' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'T' | 't' )
             {
             if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
                 input.consume();
@@ -1198,8 +1199,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = AVERAGE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:378:9: ( ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'G' | 'g' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:378:11: ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'G' | 'g' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:383:9: ( ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'G' | 'g' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:383:11: ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'G' | 'g' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='A'||input.LA(1)=='a' ) {
                 input.consume();
@@ -1287,8 +1288,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = RDFORTAN;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:379:10: ( ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'V' | 'v' ) ( '2' | '3' )? )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:379:12: ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'V' | 'v' ) ( '2' | '3' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:384:10: ( ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'V' | 'v' ) ( '2' | '3' )? )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:384:12: ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'V' | 'v' ) ( '2' | '3' )?
             {
             if ( input.LA(1)=='R'||input.LA(1)=='r' ) {
                 input.consume();
@@ -1320,7 +1321,7 @@ public class InputfileLexer extends Lexer {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:379:39: ( '2' | '3' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:384:39: ( '2' | '3' )?
             int alt2=2;
             int LA2_0 = input.LA(1);
 
@@ -1363,8 +1364,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = RDJAVA;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:380:8: ( ( 'R' | 'r' ) ( 'D' | 'd' ) ( '3' ) ( 'D' | 'd' )? )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:380:10: ( 'R' | 'r' ) ( 'D' | 'd' ) ( '3' ) ( 'D' | 'd' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:385:8: ( ( 'R' | 'r' ) ( 'D' | 'd' ) ( '3' ) ( 'D' | 'd' )? )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:385:10: ( 'R' | 'r' ) ( 'D' | 'd' ) ( '3' ) ( 'D' | 'd' )?
             {
             if ( input.LA(1)=='R'||input.LA(1)=='r' ) {
                 input.consume();
@@ -1386,15 +1387,15 @@ public class InputfileLexer extends Lexer {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:380:28: ( '3' )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:380:29: '3'
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:385:28: ( '3' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:385:29: '3'
             {
             match('3'); 
 
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:380:33: ( 'D' | 'd' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:385:33: ( 'D' | 'd' )?
             int alt3=2;
             int LA3_0 = input.LA(1);
 
@@ -1437,8 +1438,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = PDB;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:381:5: ( ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:381:7: ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:386:5: ( ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:386:7: ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' )
             {
             if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
                 input.consume();
@@ -1486,8 +1487,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SAXS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:382:6: ( ( 'S' | 's' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:382:8: ( 'S' | 's' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:387:6: ( ( 'S' | 's' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:387:8: ( 'S' | 's' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -1545,8 +1546,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SEQUENCE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:383:10: ( ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:383:12: ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:388:10: ( ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:388:12: ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -1644,8 +1645,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SAXSSEQ;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:384:9: ( ( 'S' | 's' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'S' | 's' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:384:11: ( 'S' | 's' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'S' | 's' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:389:9: ( ( 'S' | 's' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'S' | 's' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:389:11: ( 'S' | 's' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'S' | 's' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -1733,8 +1734,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SMALLMOLE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:385:11: ( ( 'S' | 's' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:385:13: ( 'S' | 's' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:390:11: ( ( 'S' | 's' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:390:13: ( 'S' | 's' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -1842,8 +1843,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CIF;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:386:5: ( ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'S' | 's' ) ( 'M' | 'm' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:386:7: ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'S' | 's' ) ( 'M' | 'm' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:391:5: ( ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'S' | 's' ) ( 'M' | 'm' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:391:7: ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'S' | 's' ) ( 'M' | 'm' )
             {
             if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
                 input.consume();
@@ -1911,8 +1912,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = DIMENSION;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:400:11: ( ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' )? )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:400:13: ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:405:11: ( ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' )? )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:405:13: ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' )?
             {
             if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
                 input.consume();
@@ -2004,7 +2005,7 @@ public class InputfileLexer extends Lexer {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:400:94: ( 'S' | 's' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:405:94: ( 'S' | 's' )?
             int alt4=2;
             int LA4_0 = input.LA(1);
 
@@ -2047,8 +2048,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = ANGLEP;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:405:8: ( ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'P' | 'p' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:405:10: ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'P' | 'p' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:410:8: ( ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'P' | 'p' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:410:10: ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'P' | 'p' )
             {
             if ( input.LA(1)=='A'||input.LA(1)=='a' ) {
                 input.consume();
@@ -2126,8 +2127,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = ANGLEL;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:410:8: ( ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:410:10: ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:415:8: ( ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:415:10: ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' )
             {
             if ( input.LA(1)=='A'||input.LA(1)=='a' ) {
                 input.consume();
@@ -2205,8 +2206,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = PIXELSPERMICRON;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:414:17: ( ( 'P' | 'p' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:414:19: ( 'P' | 'p' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'N' | 'n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:419:17: ( ( 'P' | 'p' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:419:19: ( 'P' | 'p' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'N' | 'n' )
             {
             if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
                 input.consume();
@@ -2374,8 +2375,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = UNITCELL;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:427:10: ( ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'L' | 'l' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:427:12: ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'L' | 'l' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:432:10: ( ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'L' | 'l' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:432:12: ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'L' | 'l' )
             {
             if ( input.LA(1)=='U'||input.LA(1)=='u' ) {
                 input.consume();
@@ -2473,8 +2474,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SURROUNDINGTHICKNESS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:439:22: ( ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'K' | 'k' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:439:24: ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'K' | 'k' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:444:22: ( ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'K' | 'k' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:444:24: ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'K' | 'k' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -2692,8 +2693,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = PROTEINCONC;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:444:12: ( ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:444:14: ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:449:12: ( ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:449:14: ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' )
             {
             if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
                 input.consume();
@@ -2821,8 +2822,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = PROTEINCONCENTRATION;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:445:21: ( ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:445:23: ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:450:21: ( ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:450:23: ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
             {
             if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
                 input.consume();
@@ -3040,8 +3041,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = NUMMONOMERS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:449:12: ( ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:449:14: ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:454:12: ( ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:454:14: ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='N'||input.LA(1)=='n' ) {
                 input.consume();
@@ -3169,8 +3170,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = NUMRESIDUES;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:453:13: ( ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'D' | 'd' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:453:15: ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'D' | 'd' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:458:13: ( ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'D' | 'd' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:458:15: ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'D' | 'd' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='N'||input.LA(1)=='n' ) {
                 input.consume();
@@ -3298,8 +3299,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = NUMRNA;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:457:8: ( ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'R' | 'r' ) ( 'N' | 'n' ) ( 'A' | 'a' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:457:10: ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'R' | 'r' ) ( 'N' | 'n' ) ( 'A' | 'a' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:462:8: ( ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'R' | 'r' ) ( 'N' | 'n' ) ( 'A' | 'a' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:462:10: ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'R' | 'r' ) ( 'N' | 'n' ) ( 'A' | 'a' )
             {
             if ( input.LA(1)=='N'||input.LA(1)=='n' ) {
                 input.consume();
@@ -3377,8 +3378,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = NUMDNA;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:461:8: ( ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'D' | 'd' ) ( 'N' | 'n' ) ( 'A' | 'a' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:461:10: ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'D' | 'd' ) ( 'N' | 'n' ) ( 'A' | 'a' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:466:8: ( ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'D' | 'd' ) ( 'N' | 'n' ) ( 'A' | 'a' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:466:10: ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'D' | 'd' ) ( 'N' | 'n' ) ( 'A' | 'a' )
             {
             if ( input.LA(1)=='N'||input.LA(1)=='n' ) {
                 input.consume();
@@ -3456,8 +3457,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = NUMCARB;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:465:9: ( ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'B' | 'b' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:465:11: ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'B' | 'b' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:470:9: ( ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'B' | 'b' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:470:11: ( 'N' | 'n' ) ( 'U' | 'u' ) ( 'M' | 'm' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'B' | 'b' )
             {
             if ( input.LA(1)=='N'||input.LA(1)=='n' ) {
                 input.consume();
@@ -3545,8 +3546,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = PROTEINHEAVYATOMS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:473:19: ( ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:473:21: ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:478:19: ( ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:478:21: ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
                 input.consume();
@@ -3734,8 +3735,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = ELEMENT;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:474:9: ( ( 'A' .. 'Z' | 'a' .. 'z' ) ( 'A' .. 'Z' | 'a' .. 'z' )? )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:474:11: ( 'A' .. 'Z' | 'a' .. 'z' ) ( 'A' .. 'Z' | 'a' .. 'z' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:479:9: ( ( 'A' .. 'Z' | 'a' .. 'z' ) ( 'A' .. 'Z' | 'a' .. 'z' )? )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:479:11: ( 'A' .. 'Z' | 'a' .. 'z' ) ( 'A' .. 'Z' | 'a' .. 'z' )?
             {
             if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
                 input.consume();
@@ -3747,7 +3748,7 @@ public class InputfileLexer extends Lexer {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:474:32: ( 'A' .. 'Z' | 'a' .. 'z' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:479:32: ( 'A' .. 'Z' | 'a' .. 'z' )?
             int alt5=2;
             int LA5_0 = input.LA(1);
 
@@ -3790,8 +3791,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SMALLMOLEATOMS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:482:16: ( ( 'S' | 's' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:482:18: ( 'S' | 's' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:487:16: ( ( 'S' | 's' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:487:18: ( 'S' | 's' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -3949,8 +3950,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SOLVENTHEAVYCONC;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:490:18: ( ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:490:20: ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:495:18: ( ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:495:20: ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -4128,8 +4129,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SOLVENTFRACTION;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:494:17: ( ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:494:19: ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:499:17: ( ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:499:19: ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -4297,8 +4298,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = PDBNAME;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:498:9: ( ( 'P' | 'p' ) ( 'D' | 'd' ) ( 'B' | 'b' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:498:11: ( 'P' | 'p' ) ( 'D' | 'd' ) ( 'B' | 'b' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:503:9: ( ( 'P' | 'p' ) ( 'D' | 'd' ) ( 'B' | 'b' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:503:11: ( 'P' | 'p' ) ( 'D' | 'd' ) ( 'B' | 'b' )
             {
             if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
                 input.consume();
@@ -4346,8 +4347,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CIFNAME;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:502:9: ( ( 'C' | 'c' ) ( 'I' | 'i' ) ( 'F' | 'f' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:502:11: ( 'C' | 'c' ) ( 'I' | 'i' ) ( 'F' | 'f' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:507:9: ( ( 'C' | 'c' ) ( 'I' | 'i' ) ( 'F' | 'f' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:507:11: ( 'C' | 'c' ) ( 'I' | 'i' ) ( 'F' | 'f' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -4395,8 +4396,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = WIREFRAMETYPE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:506:15: ( ( 'W' | 'w' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'Y' | 'y' |) ( 'P' | 'p' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:506:17: ( 'W' | 'w' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'Y' | 'y' |) ( 'P' | 'p' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:511:15: ( ( 'W' | 'w' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'Y' | 'y' |) ( 'P' | 'p' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:511:17: ( 'W' | 'w' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'Y' | 'y' |) ( 'P' | 'p' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='W'||input.LA(1)=='w' ) {
                 input.consume();
@@ -4498,7 +4499,7 @@ public class InputfileLexer extends Lexer {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:506:107: ( 'Y' | 'y' |)
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:511:107: ( 'Y' | 'y' |)
             int alt6=3;
             switch ( input.LA(1) ) {
             case 'Y':
@@ -4527,21 +4528,21 @@ public class InputfileLexer extends Lexer {
 
             switch (alt6) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:506:108: 'Y'
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:511:108: 'Y'
                     {
                     match('Y'); 
 
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:506:112: 'y'
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:511:112: 'y'
                     {
                     match('y'); 
 
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:506:116: 
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:511:116: 
                     {
                     }
                     break;
@@ -4585,8 +4586,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = MODELFILE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:510:11: ( ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:510:13: ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:515:11: ( ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:515:13: ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='M'||input.LA(1)=='m' ) {
                 input.consume();
@@ -4694,8 +4695,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CALCULATEPEESCAPE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:515:2: ( ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:515:5: ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:520:2: ( ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:520:5: ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -4883,8 +4884,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = GONIOMETERAXIS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:520:2: ( ( 'G' | 'g' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'I' | 'i' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:520:5: ( 'G' | 'g' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'I' | 'i' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:525:2: ( ( 'G' | 'g' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'I' | 'i' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:525:5: ( 'G' | 'g' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'I' | 'i' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='G'||input.LA(1)=='g' ) {
                 input.consume();
@@ -5042,8 +5043,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = POLARISATIONDIRECTION;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:525:2: ( ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'S' | 's' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:525:5: ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'S' | 's' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:530:2: ( ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'S' | 's' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:530:5: ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'S' | 's' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
             {
             if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
                 input.consume();
@@ -5271,8 +5272,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CONTAINERMATERIALTYPE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:529:23: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:529:25: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:534:23: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:534:25: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -5500,8 +5501,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = MATERIALTYPE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:530:14: ( ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:530:16: ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:535:14: ( ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:535:16: ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'P' | 'p' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='M'||input.LA(1)=='m' ) {
                 input.consume();
@@ -5639,8 +5640,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = NONE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:536:7: ( ( 'N' | 'n' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:536:9: ( 'N' | 'n' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:541:7: ( ( 'N' | 'n' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:541:9: ( 'N' | 'n' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='N'||input.LA(1)=='n' ) {
                 input.consume();
@@ -5698,8 +5699,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = MIXTURE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:537:9: ( ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:537:11: ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:542:9: ( ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:542:11: ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='M'||input.LA(1)=='m' ) {
                 input.consume();
@@ -5787,8 +5788,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = ELEMENTAL;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:538:11: ( ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:538:13: ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:543:11: ( ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:543:13: ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' )
             {
             if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
                 input.consume();
@@ -5896,8 +5897,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CONTAINERTHICKNESS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:542:19: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'K' | 'k' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:542:21: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'K' | 'k' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:547:19: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'K' | 'k' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:547:21: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'H' | 'h' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'K' | 'k' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -6095,8 +6096,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CONTAINERMATERIALMIXTURE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:546:25: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:546:27: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:551:25: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:551:27: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -6354,8 +6355,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = MATERIALMIXTURE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:547:16: ( ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:547:18: ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:552:16: ( ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:552:18: ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='M'||input.LA(1)=='m' ) {
                 input.consume();
@@ -6523,8 +6524,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CONTAINERMATERIALELEMENTS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:555:26: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:555:28: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:560:26: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:560:28: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -6792,8 +6793,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = MATERIALELEMENTS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:556:17: ( ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:556:19: ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:561:17: ( ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:561:19: ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='M'||input.LA(1)=='m' ) {
                 input.consume();
@@ -6971,8 +6972,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CONTAINERDENSITY;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:560:17: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:560:19: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:565:17: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:565:19: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -7150,8 +7151,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SEQUENCEFILE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:564:14: ( ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:564:17: ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:569:14: ( ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:569:17: ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'U' | 'u' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'C' | 'c' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -7289,8 +7290,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SEQFILE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:565:9: ( ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:565:11: ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:570:9: ( ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:570:11: ( 'S' | 's' ) ( 'E' | 'e' ) ( 'Q' | 'q' ) ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -7378,8 +7379,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CALCULATEFLESCAPE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:570:2: ( ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:570:5: ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:575:2: ( ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:575:5: ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -7567,8 +7568,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = FLRESOLUTION;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:574:14: ( ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:574:16: ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:579:14: ( ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:579:16: ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
             {
             if ( input.LA(1)=='F'||input.LA(1)=='f' ) {
                 input.consume();
@@ -7706,8 +7707,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = PERESOLUTION;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:578:14: ( ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:578:16: ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:583:14: ( ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:583:16: ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
             {
             if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
                 input.consume();
@@ -7845,8 +7846,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SURROUNDINGHEAVYCONC;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:586:22: ( ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:586:24: ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:591:22: ( ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:591:24: ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'H' | 'h' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'V' | 'v' ) ( 'Y' | 'y' ) ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'C' | 'c' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -8064,8 +8065,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = DENSITYBASED;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:590:14: ( ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'B' | 'b' ) ( 'A' | 'a' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'D' | 'd' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:590:16: ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'B' | 'b' ) ( 'A' | 'a' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'D' | 'd' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:595:14: ( ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'B' | 'b' ) ( 'A' | 'a' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'D' | 'd' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:595:16: ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' ) ( 'B' | 'b' ) ( 'A' | 'a' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'D' | 'd' )
             {
             if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
                 input.consume();
@@ -8203,8 +8204,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CALCSURROUNDING;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:594:17: ( ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:594:19: ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:599:17: ( ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:599:19: ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) ( 'C' | 'c' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -8372,8 +8373,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SURROUNDINGELEMENTS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:603:21: ( ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:603:23: ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:608:21: ( ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:608:23: ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -8581,8 +8582,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SURROUNDINGDENSITY;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:607:20: ( ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:607:22: ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:612:20: ( ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:612:22: ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'T' | 't' ) ( 'Y' | 'y' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -8780,8 +8781,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SIMELECTRONS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:611:14: ( ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:611:16: ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:616:14: ( ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:616:16: ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -8919,8 +8920,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SIMPHOTONS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:612:14: ( ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'P' | 'p' ) ( 'H' | 'h' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:612:16: ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'P' | 'p' ) ( 'H' | 'h' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:617:14: ( ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'P' | 'p' ) ( 'H' | 'h' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:617:16: ( 'S' | 's' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'P' | 'p' ) ( 'H' | 'h' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -9038,8 +9039,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SUBPROGRAM;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:617:2: ( ( 'S' | 's' ) ( 'U' | 'u' ) ( 'B' | 'b' ) ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'G' | 'g' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:617:5: ( 'S' | 's' ) ( 'U' | 'u' ) ( 'B' | 'b' ) ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'G' | 'g' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:622:2: ( ( 'S' | 's' ) ( 'U' | 'u' ) ( 'B' | 'b' ) ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'G' | 'g' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:622:5: ( 'S' | 's' ) ( 'U' | 'u' ) ( 'B' | 'b' ) ( 'P' | 'p' ) ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'G' | 'g' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'M' | 'm' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -9157,8 +9158,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = RUNS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:622:2: ( ( 'R' | 'r' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:622:5: ( 'R' | 'r' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:627:2: ( ( 'R' | 'r' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:627:5: ( 'R' | 'r' ) ( 'U' | 'u' ) ( 'N' | 'n' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='R'||input.LA(1)=='r' ) {
                 input.consume();
@@ -9211,13 +9212,72 @@ public class InputfileLexer extends Lexer {
     }
     // $ANTLR end "RUNS"
 
+    // $ANTLR start "SEED"
+    public final void mSEED() throws RecognitionException {
+        try {
+            int _type = SEED;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:632:2: ( ( 'S' | 's' ) ( 'E' | 'e' ) ( 'E' | 'e' ) ( 'D' | 'd' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:632:5: ( 'S' | 's' ) ( 'E' | 'e' ) ( 'E' | 'e' ) ( 'D' | 'd' )
+            {
+            if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SEED"
+
     // $ANTLR start "BEAM"
     public final void mBEAM() throws RecognitionException {
         try {
             int _type = BEAM;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:638:6: ( ( 'B' | 'b' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'M' | 'm' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:638:8: ( 'B' | 'b' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'M' | 'm' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:648:6: ( ( 'B' | 'b' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'M' | 'm' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:648:8: ( 'B' | 'b' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'M' | 'm' )
             {
             if ( input.LA(1)=='B'||input.LA(1)=='b' ) {
                 input.consume();
@@ -9275,8 +9335,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = FLUX;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:664:6: ( ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'X' | 'x' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:664:8: ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'X' | 'x' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:674:6: ( ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'X' | 'x' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:674:8: ( 'F' | 'f' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'X' | 'x' )
             {
             if ( input.LA(1)=='F'||input.LA(1)=='f' ) {
                 input.consume();
@@ -9334,8 +9394,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = EXPOSURE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:668:10: ( ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:668:12: ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:678:10: ( ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:678:12: ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
                 input.consume();
@@ -9433,8 +9493,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = IMAGEDIM;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:673:2: ( ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'G' | 'g' ) ( 'E' | 'e' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'M' | 'm' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:673:5: ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'G' | 'g' ) ( 'E' | 'e' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'M' | 'm' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:683:2: ( ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'G' | 'g' ) ( 'E' | 'e' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'M' | 'm' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:683:5: ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'G' | 'g' ) ( 'E' | 'e' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'M' | 'm' )
             {
             if ( input.LA(1)=='I'||input.LA(1)=='i' ) {
                 input.consume();
@@ -9532,8 +9592,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = FWHM;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:677:6: ( ( 'F' | 'f' ) ( 'W' | 'w' ) ( 'H' | 'h' ) ( 'M' | 'm' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:677:8: ( 'F' | 'f' ) ( 'W' | 'w' ) ( 'H' | 'h' ) ( 'M' | 'm' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:687:6: ( ( 'F' | 'f' ) ( 'W' | 'w' ) ( 'H' | 'h' ) ( 'M' | 'm' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:687:8: ( 'F' | 'f' ) ( 'W' | 'w' ) ( 'H' | 'h' ) ( 'M' | 'm' )
             {
             if ( input.LA(1)=='F'||input.LA(1)=='f' ) {
                 input.consume();
@@ -9591,8 +9651,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = ENERGY;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:683:8: ( ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:683:10: ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:693:8: ( ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:693:10: ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' )
             {
             if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
                 input.consume();
@@ -9670,8 +9730,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = KEV;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:684:5: ( ( 'K' | 'k' ) ( 'E' | 'e' ) ( 'V' | 'v' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:684:7: ( 'K' | 'k' ) ( 'E' | 'e' ) ( 'V' | 'v' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:694:5: ( ( 'K' | 'k' ) ( 'E' | 'e' ) ( 'V' | 'v' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:694:7: ( 'K' | 'k' ) ( 'E' | 'e' ) ( 'V' | 'v' )
             {
             if ( input.LA(1)=='K'||input.LA(1)=='k' ) {
                 input.consume();
@@ -9719,8 +9779,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = PULSEENERGY;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:688:13: ( ( 'P' | 'p' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:688:15: ( 'P' | 'p' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:698:13: ( ( 'P' | 'p' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:698:15: ( 'P' | 'p' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' )
             {
             if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
                 input.consume();
@@ -9848,8 +9908,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = SEMIANGLE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:694:2: ( ( 'S' | 's' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:694:5: ( 'S' | 's' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:704:2: ( ( 'S' | 's' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:704:5: ( 'S' | 's' ) ( 'E' | 'e' ) ( 'M' | 'm' ) ( 'I' | 'i' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'L' | 'l' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -9957,8 +10017,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = APERTURERADIUS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:699:2: ( ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'U' | 'u' ) ( 'S' | 's' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:699:4: ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'U' | 'u' ) ( 'S' | 's' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:709:2: ( ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'U' | 'u' ) ( 'S' | 's' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:709:4: ( 'A' | 'a' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'D' | 'd' ) ( 'I' | 'i' ) ( 'U' | 'u' ) ( 'S' | 's' )
             {
             if ( input.LA(1)=='A'||input.LA(1)=='a' ) {
                 input.consume();
@@ -10116,8 +10176,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = FILE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:704:6: ( ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:704:8: ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:714:6: ( ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:714:8: ( 'F' | 'f' ) ( 'I' | 'i' ) ( 'L' | 'l' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='F'||input.LA(1)=='f' ) {
                 input.consume();
@@ -10175,8 +10235,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = PIXELSIZE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:712:2: ( ( 'P' | 'p' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'Z' | 'z' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:712:5: ( 'P' | 'p' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'Z' | 'z' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:722:2: ( ( 'P' | 'p' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'Z' | 'z' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:722:5: ( 'P' | 'p' ) ( 'I' | 'i' ) ( 'X' | 'x' ) ( 'E' | 'e' ) ( 'L' | 'l' ) ( 'S' | 's' ) ( 'I' | 'i' ) ( 'Z' | 'z' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
                 input.consume();
@@ -10284,8 +10344,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = ENERGYFWHM;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:717:2: ( ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' ) ( 'F' | 'f' ) ( 'W' | 'w' ) ( 'H' | 'h' ) ( 'M' | 'm' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:717:4: ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' ) ( 'F' | 'f' ) ( 'W' | 'w' ) ( 'H' | 'h' ) ( 'M' | 'm' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:727:2: ( ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' ) ( 'F' | 'f' ) ( 'W' | 'w' ) ( 'H' | 'h' ) ( 'M' | 'm' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:727:4: ( 'E' | 'e' ) ( 'N' | 'n' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'G' | 'g' ) ( 'Y' | 'y' ) ( 'F' | 'f' ) ( 'W' | 'w' ) ( 'H' | 'h' ) ( 'M' | 'm' )
             {
             if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
                 input.consume();
@@ -10403,8 +10463,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = COLLIMATION;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:733:13: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:733:15: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:743:13: ( ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:743:15: ( 'C' | 'c' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'L' | 'l' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -10532,8 +10592,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = RECTANGULAR;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:734:13: ( ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:734:15: ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:744:13: ( ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:744:15: ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'C' | 'c' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' )
             {
             if ( input.LA(1)=='R'||input.LA(1)=='r' ) {
                 input.consume();
@@ -10661,8 +10721,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = CIRCULAR;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:735:11: ( ( 'C' | 'c' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:735:13: ( 'C' | 'c' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:745:11: ( ( 'C' | 'c' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:745:13: ( 'C' | 'c' ) ( 'I' | 'i' ) ( 'R' | 'r' ) ( 'C' | 'c' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' )
             {
             if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
                 input.consume();
@@ -10760,8 +10820,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = HORIZONTAL;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:736:13: ( ( 'H' | 'h' ) ( 'O' | 'o' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'Z' | 'z' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:736:15: ( 'H' | 'h' ) ( 'O' | 'o' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'Z' | 'z' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:746:13: ( ( 'H' | 'h' ) ( 'O' | 'o' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'Z' | 'z' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:746:15: ( 'H' | 'h' ) ( 'O' | 'o' ) ( 'R' | 'r' ) ( 'I' | 'i' ) ( 'Z' | 'z' ) ( 'O' | 'o' ) ( 'N' | 'n' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'L' | 'l' )
             {
             if ( input.LA(1)=='H'||input.LA(1)=='h' ) {
                 input.consume();
@@ -10879,8 +10939,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = VERTICAL;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:737:11: ( ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:737:13: ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:747:11: ( ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:747:13: ( 'V' | 'v' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'C' | 'c' ) ( 'A' | 'a' ) ( 'L' | 'l' )
             {
             if ( input.LA(1)=='V'||input.LA(1)=='v' ) {
                 input.consume();
@@ -10978,8 +11038,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = WEDGE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:764:7: ( ( 'W' | 'w' ) ( 'E' | 'e' ) ( 'D' | 'd' ) ( 'G' | 'g' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:764:9: ( 'W' | 'w' ) ( 'E' | 'e' ) ( 'D' | 'd' ) ( 'G' | 'g' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:774:7: ( ( 'W' | 'w' ) ( 'E' | 'e' ) ( 'D' | 'd' ) ( 'G' | 'g' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:774:9: ( 'W' | 'w' ) ( 'E' | 'e' ) ( 'D' | 'd' ) ( 'G' | 'g' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='W'||input.LA(1)=='w' ) {
                 input.consume();
@@ -11047,8 +11107,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = EXPOSURETIME;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:781:14: ( ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:781:16: ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:791:14: ( ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:791:16: ( 'E' | 'e' ) ( 'X' | 'x' ) ( 'P' | 'p' ) ( 'O' | 'o' ) ( 'S' | 's' ) ( 'U' | 'u' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'M' | 'm' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
                 input.consume();
@@ -11186,8 +11246,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = ANGULARRESOLUTION;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:785:19: ( ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:785:21: ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:795:19: ( ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:795:21: ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'G' | 'g' ) ( 'U' | 'u' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
             {
             if ( input.LA(1)=='A'||input.LA(1)=='a' ) {
                 input.consume();
@@ -11375,8 +11435,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = STARTOFFSET;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:791:13: ( ( 'S' | 's' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'T' | 't' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:791:15: ( 'S' | 's' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'T' | 't' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:801:13: ( ( 'S' | 's' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'T' | 't' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:801:15: ( 'S' | 's' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'R' | 'r' ) ( 'T' | 't' ) ( 'O' | 'o' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'T' | 't' )
             {
             if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
                 input.consume();
@@ -11504,8 +11564,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = TRANSLATEPERDEGREE;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:797:20: ( ( 'T' | 't' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'G' | 'g' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'E' | 'e' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:797:22: ( 'T' | 't' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'G' | 'g' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'E' | 'e' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:807:20: ( ( 'T' | 't' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'G' | 'g' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'E' | 'e' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:807:22: ( 'T' | 't' ) ( 'R' | 'r' ) ( 'A' | 'a' ) ( 'N' | 'n' ) ( 'S' | 's' ) ( 'L' | 'l' ) ( 'A' | 'a' ) ( 'T' | 't' ) ( 'E' | 'e' ) ( 'P' | 'p' ) ( 'E' | 'e' ) ( 'R' | 'r' ) ( 'D' | 'd' ) ( 'E' | 'e' ) ( 'G' | 'g' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'E' | 'e' )
             {
             if ( input.LA(1)=='T'||input.LA(1)=='t' ) {
                 input.consume();
@@ -11703,8 +11763,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = ROTAXBEAMOFFSET;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:801:17: ( ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'B' | 'b' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'T' | 't' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:801:19: ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'B' | 'b' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'T' | 't' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:811:17: ( ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'B' | 'b' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'T' | 't' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:811:19: ( 'R' | 'r' ) ( 'O' | 'o' ) ( 'T' | 't' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'B' | 'b' ) ( 'E' | 'e' ) ( 'A' | 'a' ) ( 'M' | 'm' ) ( 'O' | 'o' ) ( 'F' | 'f' ) ( 'F' | 'f' ) ( 'S' | 's' ) ( 'E' | 'e' ) ( 'T' | 't' )
             {
             if ( input.LA(1)=='R'||input.LA(1)=='r' ) {
                 input.consume();
@@ -11872,8 +11932,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = MAXRESOLUTION;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:805:15: ( ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:805:17: ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:815:15: ( ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:815:17: ( 'M' | 'm' ) ( 'A' | 'a' ) ( 'X' | 'x' ) ( 'R' | 'r' ) ( 'E' | 'e' ) ( 'S' | 's' ) ( 'O' | 'o' ) ( 'L' | 'l' ) ( 'U' | 'u' ) ( 'T' | 't' ) ( 'I' | 'i' ) ( 'O' | 'o' ) ( 'N' | 'n' )
             {
             if ( input.LA(1)=='M'||input.LA(1)=='m' ) {
                 input.consume();
@@ -12021,10 +12081,10 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = FLOAT;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:810:5: ( ( '+' | '-' )? ( ( '0' .. '9' )+ | ( '0' .. '9' )+ '.' ( '0' .. '9' )* | '.' ( '0' .. '9' )+ ) ( EXPONENT )? )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:810:7: ( '+' | '-' )? ( ( '0' .. '9' )+ | ( '0' .. '9' )+ '.' ( '0' .. '9' )* | '.' ( '0' .. '9' )+ ) ( EXPONENT )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:5: ( ( '+' | '-' )? ( ( '0' .. '9' )+ | ( '0' .. '9' )+ '.' ( '0' .. '9' )* | '.' ( '0' .. '9' )+ ) ( EXPONENT )? )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:7: ( '+' | '-' )? ( ( '0' .. '9' )+ | ( '0' .. '9' )+ '.' ( '0' .. '9' )* | '.' ( '0' .. '9' )+ ) ( EXPONENT )?
             {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:810:7: ( '+' | '-' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:7: ( '+' | '-' )?
             int alt7=2;
             int LA7_0 = input.LA(1);
 
@@ -12051,14 +12111,14 @@ public class InputfileLexer extends Lexer {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:811:5: ( ( '0' .. '9' )+ | ( '0' .. '9' )+ '.' ( '0' .. '9' )* | '.' ( '0' .. '9' )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:821:5: ( ( '0' .. '9' )+ | ( '0' .. '9' )+ '.' ( '0' .. '9' )* | '.' ( '0' .. '9' )+ )
             int alt12=3;
             alt12 = dfa12.predict(input);
             switch (alt12) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:811:7: ( '0' .. '9' )+
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:821:7: ( '0' .. '9' )+
                     {
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:811:7: ( '0' .. '9' )+
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:821:7: ( '0' .. '9' )+
                     int cnt8=0;
                     loop8:
                     do {
@@ -12100,9 +12160,9 @@ public class InputfileLexer extends Lexer {
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:812:7: ( '0' .. '9' )+ '.' ( '0' .. '9' )*
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:822:7: ( '0' .. '9' )+ '.' ( '0' .. '9' )*
                     {
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:812:7: ( '0' .. '9' )+
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:822:7: ( '0' .. '9' )+
                     int cnt9=0;
                     loop9:
                     do {
@@ -12143,7 +12203,7 @@ public class InputfileLexer extends Lexer {
 
                     match('.'); 
 
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:812:23: ( '0' .. '9' )*
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:822:23: ( '0' .. '9' )*
                     loop10:
                     do {
                         int alt10=2;
@@ -12180,11 +12240,11 @@ public class InputfileLexer extends Lexer {
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:813:19: '.' ( '0' .. '9' )+
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:823:19: '.' ( '0' .. '9' )+
                     {
                     match('.'); 
 
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:813:23: ( '0' .. '9' )+
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:823:23: ( '0' .. '9' )+
                     int cnt11=0;
                     loop11:
                     do {
@@ -12229,7 +12289,7 @@ public class InputfileLexer extends Lexer {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:814:7: ( EXPONENT )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:824:7: ( EXPONENT )?
             int alt13=2;
             int LA13_0 = input.LA(1);
 
@@ -12238,7 +12298,7 @@ public class InputfileLexer extends Lexer {
             }
             switch (alt13) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:814:7: EXPONENT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:824:7: EXPONENT
                     {
                     mEXPONENT(); 
 
@@ -12263,8 +12323,8 @@ public class InputfileLexer extends Lexer {
     // $ANTLR start "EXPONENT"
     public final void mEXPONENT() throws RecognitionException {
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:818:10: ( ( 'e' | 'E' ) ( '+' | '-' )? ( '0' .. '9' )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:818:12: ( 'e' | 'E' ) ( '+' | '-' )? ( '0' .. '9' )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:828:10: ( ( 'e' | 'E' ) ( '+' | '-' )? ( '0' .. '9' )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:828:12: ( 'e' | 'E' ) ( '+' | '-' )? ( '0' .. '9' )+
             {
             if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
                 input.consume();
@@ -12276,7 +12336,7 @@ public class InputfileLexer extends Lexer {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:818:22: ( '+' | '-' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:828:22: ( '+' | '-' )?
             int alt14=2;
             int LA14_0 = input.LA(1);
 
@@ -12303,7 +12363,7 @@ public class InputfileLexer extends Lexer {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:818:33: ( '0' .. '9' )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:828:33: ( '0' .. '9' )+
             int cnt15=0;
             loop15:
             do {
@@ -12357,10 +12417,10 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = COMMENT;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:5: ( ( '#' | '//' | '!' ) (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n' )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:9: ( '#' | '//' | '!' ) (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n'
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:830:5: ( ( '#' | '//' | '!' ) (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:830:9: ( '#' | '//' | '!' ) (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n'
             {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:9: ( '#' | '//' | '!' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:830:9: ( '#' | '//' | '!' )
             int alt16=3;
             switch ( input.LA(1) ) {
             case '#':
@@ -12388,14 +12448,14 @@ public class InputfileLexer extends Lexer {
 
             switch (alt16) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:10: '#'
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:830:10: '#'
                     {
                     match('#'); 
 
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:16: '//'
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:830:16: '//'
                     {
                     match("//"); 
 
@@ -12404,7 +12464,7 @@ public class InputfileLexer extends Lexer {
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:23: '!'
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:830:23: '!'
                     {
                     match('!'); 
 
@@ -12414,7 +12474,7 @@ public class InputfileLexer extends Lexer {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:28: (~ ( '\\n' | '\\r' ) )*
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:830:28: (~ ( '\\n' | '\\r' ) )*
             loop17:
             do {
                 int alt17=2;
@@ -12448,7 +12508,7 @@ public class InputfileLexer extends Lexer {
             } while (true);
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:42: ( '\\r' )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:830:42: ( '\\r' )?
             int alt18=2;
             int LA18_0 = input.LA(1);
 
@@ -12457,7 +12517,7 @@ public class InputfileLexer extends Lexer {
             }
             switch (alt18) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:820:42: '\\r'
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:830:42: '\\r'
                     {
                     match('\r'); 
 
@@ -12487,8 +12547,8 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = WS;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:823:5: ( ( ' ' | '\\t' | '\\r' | '\\n' ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:823:9: ( ' ' | '\\t' | '\\r' | '\\n' )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:833:5: ( ( ' ' | '\\t' | '\\r' | '\\n' ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:833:9: ( ' ' | '\\t' | '\\r' | '\\n' )
             {
             if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||input.LA(1)=='\r'||input.LA(1)==' ' ) {
                 input.consume();
@@ -12518,10 +12578,10 @@ public class InputfileLexer extends Lexer {
         try {
             int _type = STRING;
             int _channel = DEFAULT_TOKEN_CHANNEL;
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:838:2: ( ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '.' | '$' | '-' | '_' | ':' | '\\\\' | '/' )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:838:4: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '.' | '$' | '-' | '_' | ':' | '\\\\' | '/' )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:848:2: ( ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '.' | '$' | '-' | '_' | ':' | '\\\\' | '/' )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:848:4: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '.' | '$' | '-' | '_' | ':' | '\\\\' | '/' )+
             {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:838:4: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '.' | '$' | '-' | '_' | ':' | '\\\\' | '/' )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:848:4: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '.' | '$' | '-' | '_' | ':' | '\\\\' | '/' )+
             int cnt19=0;
             loop19:
             do {
@@ -12572,8 +12632,8 @@ public class InputfileLexer extends Lexer {
     // $ANTLR end "STRING"
 
     public void mTokens() throws RecognitionException {
-        // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:8: ( CRYSTAL | TYPE | DIFFRACTIONDECAYMODEL | DDM | SIMPLE | LINEAR | LEAL | DECAYPARAM | ABSCOEFCALC | DUMMY | DEFAULT | AVERAGE | RDFORTAN | RDJAVA | PDB | SAXS | SEQUENCE | SAXSSEQ | SMALLMOLE | CIF | DIMENSION | ANGLEP | ANGLEL | PIXELSPERMICRON | UNITCELL | SURROUNDINGTHICKNESS | PROTEINCONC | PROTEINCONCENTRATION | NUMMONOMERS | NUMRESIDUES | NUMRNA | NUMDNA | NUMCARB | PROTEINHEAVYATOMS | ELEMENT | SMALLMOLEATOMS | SOLVENTHEAVYCONC | SOLVENTFRACTION | PDBNAME | CIFNAME | WIREFRAMETYPE | MODELFILE | CALCULATEPEESCAPE | GONIOMETERAXIS | POLARISATIONDIRECTION | CONTAINERMATERIALTYPE | MATERIALTYPE | NONE | MIXTURE | ELEMENTAL | CONTAINERTHICKNESS | CONTAINERMATERIALMIXTURE | MATERIALMIXTURE | CONTAINERMATERIALELEMENTS | MATERIALELEMENTS | CONTAINERDENSITY | SEQUENCEFILE | SEQFILE | CALCULATEFLESCAPE | FLRESOLUTION | PERESOLUTION | SURROUNDINGHEAVYCONC | DENSITYBASED | CALCSURROUNDING | SURROUNDINGELEMENTS | SURROUNDINGDENSITY | SIMELECTRONS | SIMPHOTONS | SUBPROGRAM | RUNS | BEAM | FLUX | EXPOSURE | IMAGEDIM | FWHM | ENERGY | KEV | PULSEENERGY | SEMIANGLE | APERTURERADIUS | FILE | PIXELSIZE | ENERGYFWHM | COLLIMATION | RECTANGULAR | CIRCULAR | HORIZONTAL | VERTICAL | WEDGE | EXPOSURETIME | ANGULARRESOLUTION | STARTOFFSET | TRANSLATEPERDEGREE | ROTAXBEAMOFFSET | MAXRESOLUTION | FLOAT | COMMENT | WS | STRING )
-        int alt20=99;
+        // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:8: ( CRYSTAL | TYPE | DIFFRACTIONDECAYMODEL | DDM | SIMPLE | LINEAR | LEAL | DECAYPARAM | ABSCOEFCALC | DUMMY | DEFAULT | AVERAGE | RDFORTAN | RDJAVA | PDB | SAXS | SEQUENCE | SAXSSEQ | SMALLMOLE | CIF | DIMENSION | ANGLEP | ANGLEL | PIXELSPERMICRON | UNITCELL | SURROUNDINGTHICKNESS | PROTEINCONC | PROTEINCONCENTRATION | NUMMONOMERS | NUMRESIDUES | NUMRNA | NUMDNA | NUMCARB | PROTEINHEAVYATOMS | ELEMENT | SMALLMOLEATOMS | SOLVENTHEAVYCONC | SOLVENTFRACTION | PDBNAME | CIFNAME | WIREFRAMETYPE | MODELFILE | CALCULATEPEESCAPE | GONIOMETERAXIS | POLARISATIONDIRECTION | CONTAINERMATERIALTYPE | MATERIALTYPE | NONE | MIXTURE | ELEMENTAL | CONTAINERTHICKNESS | CONTAINERMATERIALMIXTURE | MATERIALMIXTURE | CONTAINERMATERIALELEMENTS | MATERIALELEMENTS | CONTAINERDENSITY | SEQUENCEFILE | SEQFILE | CALCULATEFLESCAPE | FLRESOLUTION | PERESOLUTION | SURROUNDINGHEAVYCONC | DENSITYBASED | CALCSURROUNDING | SURROUNDINGELEMENTS | SURROUNDINGDENSITY | SIMELECTRONS | SIMPHOTONS | SUBPROGRAM | RUNS | SEED | BEAM | FLUX | EXPOSURE | IMAGEDIM | FWHM | ENERGY | KEV | PULSEENERGY | SEMIANGLE | APERTURERADIUS | FILE | PIXELSIZE | ENERGYFWHM | COLLIMATION | RECTANGULAR | CIRCULAR | HORIZONTAL | VERTICAL | WEDGE | EXPOSURETIME | ANGULARRESOLUTION | STARTOFFSET | TRANSLATEPERDEGREE | ROTAXBEAMOFFSET | MAXRESOLUTION | FLOAT | COMMENT | WS | STRING )
+        int alt20=100;
         alt20 = dfa20.predict(input);
         switch (alt20) {
             case 1 :
@@ -13137,231 +13197,239 @@ public class InputfileLexer extends Lexer {
                 }
                 break;
             case 71 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:859: BEAM
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:859: SEED
                 {
-                mBEAM(); 
+                mSEED(); 
 
 
                 }
                 break;
             case 72 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:864: FLUX
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:864: BEAM
                 {
-                mFLUX(); 
+                mBEAM(); 
 
 
                 }
                 break;
             case 73 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:869: EXPOSURE
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:869: FLUX
                 {
-                mEXPOSURE(); 
+                mFLUX(); 
 
 
                 }
                 break;
             case 74 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:878: IMAGEDIM
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:874: EXPOSURE
                 {
-                mIMAGEDIM(); 
+                mEXPOSURE(); 
 
 
                 }
                 break;
             case 75 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:887: FWHM
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:883: IMAGEDIM
                 {
-                mFWHM(); 
+                mIMAGEDIM(); 
 
 
                 }
                 break;
             case 76 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:892: ENERGY
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:892: FWHM
                 {
-                mENERGY(); 
+                mFWHM(); 
 
 
                 }
                 break;
             case 77 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:899: KEV
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:897: ENERGY
                 {
-                mKEV(); 
+                mENERGY(); 
 
 
                 }
                 break;
             case 78 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:903: PULSEENERGY
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:904: KEV
                 {
-                mPULSEENERGY(); 
+                mKEV(); 
 
 
                 }
                 break;
             case 79 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:915: SEMIANGLE
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:908: PULSEENERGY
                 {
-                mSEMIANGLE(); 
+                mPULSEENERGY(); 
 
 
                 }
                 break;
             case 80 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:925: APERTURERADIUS
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:920: SEMIANGLE
                 {
-                mAPERTURERADIUS(); 
+                mSEMIANGLE(); 
 
 
                 }
                 break;
             case 81 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:940: FILE
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:930: APERTURERADIUS
                 {
-                mFILE(); 
+                mAPERTURERADIUS(); 
 
 
                 }
                 break;
             case 82 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:945: PIXELSIZE
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:945: FILE
                 {
-                mPIXELSIZE(); 
+                mFILE(); 
 
 
                 }
                 break;
             case 83 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:955: ENERGYFWHM
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:950: PIXELSIZE
                 {
-                mENERGYFWHM(); 
+                mPIXELSIZE(); 
 
 
                 }
                 break;
             case 84 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:966: COLLIMATION
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:960: ENERGYFWHM
                 {
-                mCOLLIMATION(); 
+                mENERGYFWHM(); 
 
 
                 }
                 break;
             case 85 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:978: RECTANGULAR
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:971: COLLIMATION
                 {
-                mRECTANGULAR(); 
+                mCOLLIMATION(); 
 
 
                 }
                 break;
             case 86 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:990: CIRCULAR
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:983: RECTANGULAR
                 {
-                mCIRCULAR(); 
+                mRECTANGULAR(); 
 
 
                 }
                 break;
             case 87 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:999: HORIZONTAL
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:995: CIRCULAR
                 {
-                mHORIZONTAL(); 
+                mCIRCULAR(); 
 
 
                 }
                 break;
             case 88 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1010: VERTICAL
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1004: HORIZONTAL
                 {
-                mVERTICAL(); 
+                mHORIZONTAL(); 
 
 
                 }
                 break;
             case 89 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1019: WEDGE
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1015: VERTICAL
                 {
-                mWEDGE(); 
+                mVERTICAL(); 
 
 
                 }
                 break;
             case 90 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1025: EXPOSURETIME
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1024: WEDGE
                 {
-                mEXPOSURETIME(); 
+                mWEDGE(); 
 
 
                 }
                 break;
             case 91 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1038: ANGULARRESOLUTION
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1030: EXPOSURETIME
                 {
-                mANGULARRESOLUTION(); 
+                mEXPOSURETIME(); 
 
 
                 }
                 break;
             case 92 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1056: STARTOFFSET
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1043: ANGULARRESOLUTION
                 {
-                mSTARTOFFSET(); 
+                mANGULARRESOLUTION(); 
 
 
                 }
                 break;
             case 93 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1068: TRANSLATEPERDEGREE
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1061: STARTOFFSET
                 {
-                mTRANSLATEPERDEGREE(); 
+                mSTARTOFFSET(); 
 
 
                 }
                 break;
             case 94 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1087: ROTAXBEAMOFFSET
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1073: TRANSLATEPERDEGREE
                 {
-                mROTAXBEAMOFFSET(); 
+                mTRANSLATEPERDEGREE(); 
 
 
                 }
                 break;
             case 95 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1103: MAXRESOLUTION
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1092: ROTAXBEAMOFFSET
                 {
-                mMAXRESOLUTION(); 
+                mROTAXBEAMOFFSET(); 
 
 
                 }
                 break;
             case 96 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1117: FLOAT
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1108: MAXRESOLUTION
                 {
-                mFLOAT(); 
+                mMAXRESOLUTION(); 
 
 
                 }
                 break;
             case 97 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1123: COMMENT
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1122: FLOAT
                 {
-                mCOMMENT(); 
+                mFLOAT(); 
 
 
                 }
                 break;
             case 98 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1131: WS
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1128: COMMENT
                 {
-                mWS(); 
+                mCOMMENT(); 
 
 
                 }
                 break;
             case 99 :
-                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1134: STRING
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1136: WS
+                {
+                mWS(); 
+
+
+                }
+                break;
+            case 100 :
+                // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:1:1139: STRING
                 {
                 mSTRING(); 
 
@@ -13426,201 +13494,203 @@ public class InputfileLexer extends Lexer {
             this.transition = DFA12_transition;
         }
         public String getDescription() {
-            return "811:5: ( ( '0' .. '9' )+ | ( '0' .. '9' )+ '.' ( '0' .. '9' )* | '.' ( '0' .. '9' )+ )";
+            return "821:5: ( ( '0' .. '9' )+ | ( '0' .. '9' )+ '.' ( '0' .. '9' )* | '.' ( '0' .. '9' )+ )";
         }
     }
     static final String DFA20_eotS =
         "\1\uffff\25\43\1\35\1\34\1\35\1\uffff\1\35\3\uffff\5\43\1\uffff"+
-        "\61\43\1\35\2\34\5\35\1\u00a1\6\35\1\u00a8\23\35\1\u00c0\1\u00c2"+
-        "\3\35\1\u00c8\4\35\1\u00cd\23\35\1\u00e4\3\35\2\34\5\35\1\uffff"+
-        "\2\35\1\u00ee\3\35\1\uffff\6\35\1\u00fa\11\35\1\u0104\5\35\1\u00c0"+
-        "\1\uffff\1\u00c2\1\uffff\1\u010a\4\35\1\uffff\4\35\1\uffff\10\35"+
-        "\1\u011c\10\35\1\u0125\1\u0126\1\u0127\1\u0128\1\35\1\uffff\11\35"+
-        "\1\uffff\6\35\1\u0139\4\35\1\uffff\11\35\1\uffff\5\35\1\uffff\2"+
-        "\35\1\u014e\16\35\1\uffff\1\35\1\u015e\6\35\4\uffff\20\35\1\uffff"+
-        "\1\u0175\13\35\1\u0181\1\35\1\u0183\1\u0184\4\35\1\uffff\2\35\1"+
-        "\u018c\10\35\1\u0196\1\u0197\2\35\1\uffff\11\35\1\u01a3\12\35\1"+
-        "\u01ae\1\35\1\uffff\2\35\1\u01b2\1\35\1\u01b4\6\35\1\uffff\1\u01bc"+
-        "\2\uffff\7\35\1\uffff\11\35\2\uffff\1\u01ce\4\35\1\u01d3\5\35\1"+
-        "\uffff\1\u01d9\2\35\1\u01dc\6\35\1\uffff\3\35\1\uffff\1\u01e7\1"+
-        "\uffff\7\35\1\uffff\4\35\1\u01f4\11\35\1\u01fe\2\35\1\uffff\4\35"+
-        "\1\uffff\2\35\1\u0209\1\35\1\u020b\1\uffff\2\35\1\uffff\4\35\1\u0216"+
-        "\5\35\1\uffff\1\u021c\1\u021e\12\35\1\uffff\1\u0229\2\35\1\u022c"+
-        "\5\35\1\uffff\3\35\1\u0235\6\35\1\uffff\1\35\1\uffff\11\35\1\u0216"+
-        "\1\uffff\1\u0246\1\35\1\u0248\2\35\1\uffff\1\35\1\uffff\1\35\1\u024d"+
-        "\10\35\1\uffff\1\u0256\1\35\1\uffff\10\35\1\uffff\6\35\1\u0268\3"+
-        "\35\1\u026c\5\35\1\uffff\1\35\1\uffff\4\35\1\uffff\2\35\1\u027c"+
-        "\2\35\1\u027f\2\35\1\uffff\1\35\1\u0284\3\35\1\u0288\1\u0289\1\u028a"+
-        "\11\35\1\uffff\3\35\1\uffff\5\35\1\u029a\1\u029b\1\u029c\7\35\1"+
-        "\uffff\2\35\1\uffff\1\35\1\u02a7\2\35\1\uffff\2\35\1\u02ac\3\uffff"+
-        "\1\u02ad\1\u02ae\4\35\1\u02b3\10\35\3\uffff\12\35\1\uffff\4\35\3"+
-        "\uffff\2\35\1\u02cc\1\35\1\uffff\10\35\1\u02d6\7\35\1\u02de\7\35"+
-        "\1\uffff\1\u02e6\5\35\1\u02ec\2\35\1\uffff\5\35\1\u02f4\1\35\1\uffff"+
-        "\1\u02f6\1\u02f7\3\35\1\u02fb\1\35\1\uffff\2\35\1\u02ff\2\35\1\uffff"+
-        "\6\35\1\u0308\1\uffff\1\35\2\uffff\3\35\1\uffff\1\u030d\2\35\1\uffff"+
-        "\1\u0312\1\u0313\6\35\1\uffff\1\u031a\1\35\1\u031c\1\35\1\uffff"+
-        "\3\35\1\u0321\2\uffff\1\u0322\4\35\1\u0327\1\uffff\1\35\1\uffff"+
-        "\4\35\2\uffff\3\35\1\u0330\1\uffff\6\35\1\u0337\1\u0338\1\uffff"+
-        "\1\u0339\1\35\1\u033b\2\35\1\u033e\3\uffff\1\u033f\1\uffff\2\35"+
-        "\2\uffff\2\35\1\u0344\1\35\1\uffff\1\u0346\1\uffff";
+        "\61\43\1\35\2\34\5\35\1\u00a2\6\35\1\u00a9\24\35\1\u00c2\1\u00c4"+
+        "\3\35\1\u00ca\4\35\1\u00cf\23\35\1\u00e6\3\35\2\34\5\35\1\uffff"+
+        "\2\35\1\u00f0\3\35\1\uffff\6\35\1\u00fc\2\35\1\u00ff\7\35\1\u0107"+
+        "\5\35\1\u00c2\1\uffff\1\u00c4\1\uffff\1\u010d\4\35\1\uffff\4\35"+
+        "\1\uffff\10\35\1\u011f\10\35\1\u0128\1\u0129\1\u012a\1\u012b\1\35"+
+        "\1\uffff\11\35\1\uffff\6\35\1\u013c\4\35\1\uffff\2\35\1\uffff\7"+
+        "\35\1\uffff\5\35\1\uffff\2\35\1\u0151\16\35\1\uffff\1\35\1\u0161"+
+        "\6\35\4\uffff\20\35\1\uffff\1\u0178\13\35\1\u0184\1\35\1\u0186\1"+
+        "\u0187\4\35\1\uffff\2\35\1\u018f\10\35\1\u0199\1\u019a\2\35\1\uffff"+
+        "\11\35\1\u01a6\12\35\1\u01b1\1\35\1\uffff\2\35\1\u01b5\1\35\1\u01b7"+
+        "\6\35\1\uffff\1\u01bf\2\uffff\7\35\1\uffff\11\35\2\uffff\1\u01d1"+
+        "\4\35\1\u01d6\5\35\1\uffff\1\u01dc\2\35\1\u01df\6\35\1\uffff\3\35"+
+        "\1\uffff\1\u01ea\1\uffff\7\35\1\uffff\4\35\1\u01f7\11\35\1\u0201"+
+        "\2\35\1\uffff\4\35\1\uffff\2\35\1\u020c\1\35\1\u020e\1\uffff\2\35"+
+        "\1\uffff\4\35\1\u0219\5\35\1\uffff\1\u021f\1\u0221\12\35\1\uffff"+
+        "\1\u022c\2\35\1\u022f\5\35\1\uffff\3\35\1\u0238\6\35\1\uffff\1\35"+
+        "\1\uffff\11\35\1\u0219\1\uffff\1\u0249\1\35\1\u024b\2\35\1\uffff"+
+        "\1\35\1\uffff\1\35\1\u0250\10\35\1\uffff\1\u0259\1\35\1\uffff\10"+
+        "\35\1\uffff\6\35\1\u026b\3\35\1\u026f\5\35\1\uffff\1\35\1\uffff"+
+        "\4\35\1\uffff\2\35\1\u027f\2\35\1\u0282\2\35\1\uffff\1\35\1\u0287"+
+        "\3\35\1\u028b\1\u028c\1\u028d\11\35\1\uffff\3\35\1\uffff\5\35\1"+
+        "\u029d\1\u029e\1\u029f\7\35\1\uffff\2\35\1\uffff\1\35\1\u02aa\2"+
+        "\35\1\uffff\2\35\1\u02af\3\uffff\1\u02b0\1\u02b1\4\35\1\u02b6\10"+
+        "\35\3\uffff\12\35\1\uffff\4\35\3\uffff\2\35\1\u02cf\1\35\1\uffff"+
+        "\10\35\1\u02d9\7\35\1\u02e1\7\35\1\uffff\1\u02e9\5\35\1\u02ef\2"+
+        "\35\1\uffff\5\35\1\u02f7\1\35\1\uffff\1\u02f9\1\u02fa\3\35\1\u02fe"+
+        "\1\35\1\uffff\2\35\1\u0302\2\35\1\uffff\6\35\1\u030b\1\uffff\1\35"+
+        "\2\uffff\3\35\1\uffff\1\u0310\2\35\1\uffff\1\u0315\1\u0316\6\35"+
+        "\1\uffff\1\u031d\1\35\1\u031f\1\35\1\uffff\3\35\1\u0324\2\uffff"+
+        "\1\u0325\4\35\1\u032a\1\uffff\1\35\1\uffff\4\35\2\uffff\3\35\1\u0333"+
+        "\1\uffff\6\35\1\u033a\1\u033b\1\uffff\1\u033c\1\35\1\u033e\2\35"+
+        "\1\u0341\3\uffff\1\u0342\1\uffff\2\35\2\uffff\2\35\1\u0347\1\35"+
+        "\1\uffff\1\u0349\1\uffff";
     static final String DFA20_eofS =
-        "\u0347\uffff";
+        "\u034a\uffff";
     static final String DFA20_minS =
         "\1\11\25\44\1\56\1\44\1\60\1\uffff\1\57\3\uffff\5\44\1\uffff\61"+
         "\44\1\53\2\44\1\0\1\123\1\106\1\124\1\114\1\44\2\103\1\105\1\116"+
-        "\1\106\1\105\1\44\2\101\1\123\1\115\1\105\1\123\1\106\1\111\1\114"+
-        "\1\122\1\120\1\126\1\122\1\105\1\114\1\103\1\122\1\114\1\122\2\44"+
-        "\1\123\1\124\1\101\1\44\1\115\1\122\1\105\1\124\1\44\1\101\1\105"+
-        "\1\123\1\124\1\103\2\105\1\107\2\105\1\122\1\124\1\111\1\105\1\130"+
-        "\1\115\1\105\1\115\1\107\1\44\1\111\1\124\1\60\2\44\1\0\1\124\1"+
-        "\103\1\101\1\111\1\uffff\1\125\1\123\1\44\1\123\1\122\1\116\1\uffff"+
-        "\1\131\1\125\1\111\1\131\1\110\1\114\1\44\1\105\1\111\1\101\1\114"+
-        "\1\117\1\122\1\105\1\124\1\101\1\44\1\117\1\101\1\105\1\114\1\124"+
-        "\1\44\1\uffff\1\44\1\uffff\1\44\1\101\1\130\1\115\1\123\1\uffff"+
-        "\1\105\1\107\1\114\1\105\1\uffff\1\122\1\123\1\105\1\103\1\117\1"+
-        "\105\1\116\1\101\1\44\1\106\1\105\1\114\1\122\1\105\1\125\1\117"+
-        "\1\123\4\44\1\105\1\uffff\1\132\1\111\2\101\1\111\1\115\2\114\1"+
-        "\125\1\uffff\1\114\1\101\1\123\1\120\1\114\1\124\1\44\1\105\1\117"+
-        "\2\105\1\uffff\1\116\1\114\1\116\1\115\1\125\1\117\1\116\1\117\1"+
-        "\122\1\uffff\1\105\1\107\1\114\1\101\1\125\1\uffff\1\116\1\102\1"+
-        "\44\1\125\1\116\1\131\1\123\2\111\1\117\2\105\1\116\1\123\2\101"+
-        "\1\122\1\uffff\1\122\1\44\1\106\1\111\1\123\1\122\1\115\1\117\4"+
-        "\uffff\1\104\1\117\1\103\2\114\1\116\3\101\1\122\1\101\1\103\1\111"+
-        "\1\101\1\124\1\131\1\uffff\1\44\1\124\1\103\1\121\1\103\1\105\1"+
-        "\107\1\117\1\116\1\107\1\124\1\106\1\44\1\105\2\44\2\122\1\107\1"+
-        "\105\1\uffff\1\122\1\124\1\44\1\111\1\116\1\123\1\114\1\116\1\114"+
-        "\1\117\1\111\2\44\1\102\1\101\1\uffff\1\111\1\101\1\117\2\105\1"+
-        "\114\1\111\1\116\1\101\1\44\1\103\1\105\1\124\1\122\1\124\1\122"+
-        "\2\124\1\117\1\122\1\44\1\102\1\uffff\1\117\1\124\1\44\1\105\1\44"+
-        "\2\114\1\104\1\122\2\106\1\uffff\1\44\2\uffff\1\122\1\105\1\125"+
-        "\1\101\1\105\1\101\1\127\1\uffff\1\105\1\132\1\103\1\101\1\125\1"+
-        "\105\1\114\1\115\1\104\2\uffff\1\44\1\115\3\114\1\44\1\124\1\125"+
-        "\1\115\1\124\1\114\1\uffff\1\44\1\122\1\111\1\44\1\105\1\117\1\105"+
-        "\1\111\1\116\1\101\1\uffff\1\101\1\116\1\122\1\uffff\1\44\1\uffff"+
-        "\2\105\1\111\1\101\1\105\1\122\1\123\1\uffff\1\105\1\122\1\114\1"+
-        "\115\1\44\1\114\1\110\1\122\1\105\1\117\1\105\2\124\1\122\1\44\1"+
-        "\105\1\125\1\uffff\3\105\1\125\1\uffff\1\105\1\124\1\44\1\101\1"+
-        "\44\1\uffff\1\104\1\117\1\uffff\1\106\1\125\1\120\1\117\1\44\1\115"+
-        "\2\123\1\117\1\111\1\uffff\2\44\1\116\1\115\2\101\1\105\1\123\2"+
-        "\101\1\117\1\111\1\uffff\1\44\2\115\1\44\1\116\1\101\2\111\1\107"+
-        "\1\uffff\1\122\1\105\1\124\1\44\1\131\1\111\1\114\1\124\1\122\1"+
-        "\111\1\uffff\1\114\1\uffff\1\101\1\110\1\105\1\116\1\105\1\114\1"+
-        "\116\1\105\1\116\1\44\1\uffff\1\44\1\105\1\44\1\116\1\114\1\uffff"+
-        "\1\124\1\uffff\1\107\1\44\1\126\1\103\1\124\1\117\1\104\1\122\1"+
-        "\106\1\115\1\uffff\1\44\1\111\1\uffff\1\103\1\126\2\117\1\131\2"+
-        "\123\1\120\1\uffff\1\120\1\130\1\105\1\111\1\101\1\117\1\44\1\124"+
-        "\1\111\1\116\1\44\2\105\1\104\1\122\1\104\1\uffff\1\104\1\uffff"+
-        "\1\123\1\105\1\117\1\104\1\uffff\1\131\1\124\1\44\1\114\1\111\1"+
-        "\44\1\106\1\105\1\uffff\1\103\1\44\1\131\2\116\3\44\2\120\2\105"+
-        "\1\124\1\115\1\117\1\130\1\116\1\uffff\1\105\1\103\1\123\1\uffff"+
-        "\2\123\1\111\1\104\1\105\3\44\1\115\1\110\1\105\1\114\1\105\1\103"+
-        "\1\111\1\uffff\2\125\1\uffff\1\123\1\44\1\122\1\116\1\uffff\1\101"+
-        "\1\104\1\44\3\uffff\2\44\1\125\1\105\1\116\1\111\1\44\1\122\1\113"+
-        "\1\111\2\103\1\116\1\105\1\103\3\uffff\1\123\1\111\1\101\1\105\1"+
-        "\116\2\117\1\124\1\123\1\105\1\uffff\1\117\2\124\1\111\3\uffff\1"+
-        "\122\1\116\1\44\1\123\1\uffff\1\111\1\116\1\124\2\101\2\107\1\101"+
-        "\1\44\1\103\1\126\1\115\1\123\2\116\1\111\1\44\1\124\1\116\1\122"+
-        "\1\117\1\122\1\105\1\124\1\uffff\1\44\1\101\1\105\1\131\2\120\1"+
-        "\44\1\122\1\131\1\uffff\1\113\1\131\1\105\1\111\1\103\1\44\1\117"+
-        "\1\uffff\2\44\1\101\1\115\1\105\1\44\1\123\1\uffff\1\114\1\123\1"+
-        "\44\2\105\1\uffff\1\105\1\115\1\116\1\103\1\116\1\124\1\44\1\uffff"+
-        "\1\116\2\uffff\1\124\1\123\1\103\1\uffff\1\44\1\105\1\123\1\uffff"+
-        "\2\44\1\105\1\117\1\105\1\117\1\124\1\131\1\uffff\1\44\1\111\1\44"+
-        "\1\124\1\uffff\1\131\1\111\1\114\1\44\2\uffff\1\44\1\104\1\123\1"+
-        "\116\1\123\1\44\1\uffff\1\117\1\uffff\1\111\1\120\1\130\1\105\2"+
-        "\uffff\1\105\1\123\1\103\1\44\1\uffff\1\116\1\117\1\105\1\124\1"+
-        "\115\1\114\2\44\1\uffff\1\44\1\116\1\44\1\125\1\105\1\44\3\uffff"+
-        "\1\44\1\uffff\1\122\1\116\2\uffff\1\105\1\124\1\44\1\123\1\uffff"+
-        "\1\44\1\uffff";
+        "\1\106\1\105\1\44\2\101\1\123\1\115\1\105\1\123\1\106\1\104\1\111"+
+        "\1\114\1\122\1\120\1\126\1\122\1\105\1\114\1\103\1\122\1\114\1\122"+
+        "\2\44\1\123\1\124\1\101\1\44\1\115\1\122\1\105\1\124\1\44\1\101"+
+        "\1\105\1\123\1\124\1\103\2\105\1\107\2\105\1\122\1\124\1\111\1\105"+
+        "\1\130\1\115\1\105\1\115\1\107\1\44\1\111\1\124\1\60\2\44\1\0\1"+
+        "\124\1\103\1\101\1\111\1\uffff\1\125\1\123\1\44\1\123\1\122\1\116"+
+        "\1\uffff\1\131\1\125\1\111\1\131\1\110\1\114\1\44\1\105\1\111\1"+
+        "\44\1\101\1\114\1\117\1\122\1\105\1\124\1\101\1\44\1\117\1\101\1"+
+        "\105\1\114\1\124\1\44\1\uffff\1\44\1\uffff\1\44\1\101\1\130\1\115"+
+        "\1\123\1\uffff\1\105\1\107\1\114\1\105\1\uffff\1\122\1\123\1\105"+
+        "\1\103\1\117\1\105\1\116\1\101\1\44\1\106\1\105\1\114\1\122\1\105"+
+        "\1\125\1\117\1\123\4\44\1\105\1\uffff\1\132\1\111\2\101\1\111\1"+
+        "\115\2\114\1\125\1\uffff\1\114\1\101\1\123\1\120\1\114\1\124\1\44"+
+        "\1\105\1\117\2\105\1\uffff\1\116\1\114\1\uffff\1\116\1\115\1\125"+
+        "\1\117\1\116\1\117\1\122\1\uffff\1\105\1\107\1\114\1\101\1\125\1"+
+        "\uffff\1\116\1\102\1\44\1\125\1\116\1\131\1\123\2\111\1\117\2\105"+
+        "\1\116\1\123\2\101\1\122\1\uffff\1\122\1\44\1\106\1\111\1\123\1"+
+        "\122\1\115\1\117\4\uffff\1\104\1\117\1\103\2\114\1\116\3\101\1\122"+
+        "\1\101\1\103\1\111\1\101\1\124\1\131\1\uffff\1\44\1\124\1\103\1"+
+        "\121\1\103\1\105\1\107\1\117\1\116\1\107\1\124\1\106\1\44\1\105"+
+        "\2\44\2\122\1\107\1\105\1\uffff\1\122\1\124\1\44\1\111\1\116\1\123"+
+        "\1\114\1\116\1\114\1\117\1\111\2\44\1\102\1\101\1\uffff\1\111\1"+
+        "\101\1\117\2\105\1\114\1\111\1\116\1\101\1\44\1\103\1\105\1\124"+
+        "\1\122\1\124\1\122\2\124\1\117\1\122\1\44\1\102\1\uffff\1\117\1"+
+        "\124\1\44\1\105\1\44\2\114\1\104\1\122\2\106\1\uffff\1\44\2\uffff"+
+        "\1\122\1\105\1\125\1\101\1\105\1\101\1\127\1\uffff\1\105\1\132\1"+
+        "\103\1\101\1\125\1\105\1\114\1\115\1\104\2\uffff\1\44\1\115\3\114"+
+        "\1\44\1\124\1\125\1\115\1\124\1\114\1\uffff\1\44\1\122\1\111\1\44"+
+        "\1\105\1\117\1\105\1\111\1\116\1\101\1\uffff\1\101\1\116\1\122\1"+
+        "\uffff\1\44\1\uffff\2\105\1\111\1\101\1\105\1\122\1\123\1\uffff"+
+        "\1\105\1\122\1\114\1\115\1\44\1\114\1\110\1\122\1\105\1\117\1\105"+
+        "\2\124\1\122\1\44\1\105\1\125\1\uffff\3\105\1\125\1\uffff\1\105"+
+        "\1\124\1\44\1\101\1\44\1\uffff\1\104\1\117\1\uffff\1\106\1\125\1"+
+        "\120\1\117\1\44\1\115\2\123\1\117\1\111\1\uffff\2\44\1\116\1\115"+
+        "\2\101\1\105\1\123\2\101\1\117\1\111\1\uffff\1\44\2\115\1\44\1\116"+
+        "\1\101\2\111\1\107\1\uffff\1\122\1\105\1\124\1\44\1\131\1\111\1"+
+        "\114\1\124\1\122\1\111\1\uffff\1\114\1\uffff\1\101\1\110\1\105\1"+
+        "\116\1\105\1\114\1\116\1\105\1\116\1\44\1\uffff\1\44\1\105\1\44"+
+        "\1\116\1\114\1\uffff\1\124\1\uffff\1\107\1\44\1\126\1\103\1\124"+
+        "\1\117\1\104\1\122\1\106\1\115\1\uffff\1\44\1\111\1\uffff\1\103"+
+        "\1\126\2\117\1\131\2\123\1\120\1\uffff\1\120\1\130\1\105\1\111\1"+
+        "\101\1\117\1\44\1\124\1\111\1\116\1\44\2\105\1\104\1\122\1\104\1"+
+        "\uffff\1\104\1\uffff\1\123\1\105\1\117\1\104\1\uffff\1\131\1\124"+
+        "\1\44\1\114\1\111\1\44\1\106\1\105\1\uffff\1\103\1\44\1\131\2\116"+
+        "\3\44\2\120\2\105\1\124\1\115\1\117\1\130\1\116\1\uffff\1\105\1"+
+        "\103\1\123\1\uffff\2\123\1\111\1\104\1\105\3\44\1\115\1\110\1\105"+
+        "\1\114\1\105\1\103\1\111\1\uffff\2\125\1\uffff\1\123\1\44\1\122"+
+        "\1\116\1\uffff\1\101\1\104\1\44\3\uffff\2\44\1\125\1\105\1\116\1"+
+        "\111\1\44\1\122\1\113\1\111\2\103\1\116\1\105\1\103\3\uffff\1\123"+
+        "\1\111\1\101\1\105\1\116\2\117\1\124\1\123\1\105\1\uffff\1\117\2"+
+        "\124\1\111\3\uffff\1\122\1\116\1\44\1\123\1\uffff\1\111\1\116\1"+
+        "\124\2\101\2\107\1\101\1\44\1\103\1\126\1\115\1\123\2\116\1\111"+
+        "\1\44\1\124\1\116\1\122\1\117\1\122\1\105\1\124\1\uffff\1\44\1\101"+
+        "\1\105\1\131\2\120\1\44\1\122\1\131\1\uffff\1\113\1\131\1\105\1"+
+        "\111\1\103\1\44\1\117\1\uffff\2\44\1\101\1\115\1\105\1\44\1\123"+
+        "\1\uffff\1\114\1\123\1\44\2\105\1\uffff\1\105\1\115\1\116\1\103"+
+        "\1\116\1\124\1\44\1\uffff\1\116\2\uffff\1\124\1\123\1\103\1\uffff"+
+        "\1\44\1\105\1\123\1\uffff\2\44\1\105\1\117\1\105\1\117\1\124\1\131"+
+        "\1\uffff\1\44\1\111\1\44\1\124\1\uffff\1\131\1\111\1\114\1\44\2"+
+        "\uffff\1\44\1\104\1\123\1\116\1\123\1\44\1\uffff\1\117\1\uffff\1"+
+        "\111\1\120\1\130\1\105\2\uffff\1\105\1\123\1\103\1\44\1\uffff\1"+
+        "\116\1\117\1\105\1\124\1\115\1\114\2\44\1\uffff\1\44\1\116\1\44"+
+        "\1\125\1\105\1\44\3\uffff\1\44\1\uffff\1\122\1\116\2\uffff\1\105"+
+        "\1\124\1\44\1\123\1\uffff\1\44\1\uffff";
     static final String DFA20_maxS =
         "\26\172\1\71\1\172\1\71\1\uffff\1\57\3\uffff\5\172\1\uffff\61\172"+
         "\1\71\2\172\1\uffff\1\163\1\146\1\164\1\154\1\172\2\143\1\145\1"+
-        "\156\1\146\1\145\1\172\2\141\1\163\1\155\1\160\1\163\1\165\1\151"+
-        "\1\154\1\162\1\160\1\166\1\162\1\145\1\154\1\143\1\162\1\165\1\162"+
-        "\2\172\1\163\1\164\1\141\1\172\1\155\1\162\1\145\1\164\1\172\1\141"+
-        "\1\145\1\163\1\164\1\162\2\145\1\147\2\145\1\162\1\164\1\151\1\145"+
-        "\1\170\1\155\1\145\1\155\1\147\1\172\1\151\1\164\1\71\2\172\1\uffff"+
-        "\1\164\1\143\1\141\1\151\1\uffff\2\165\1\172\1\163\1\162\1\156\1"+
-        "\uffff\1\171\1\165\1\151\1\171\2\154\1\172\1\145\1\151\1\141\1\154"+
-        "\1\157\1\162\1\145\1\164\1\141\1\172\1\157\1\141\1\145\1\154\1\164"+
-        "\1\172\1\uffff\1\172\1\uffff\1\172\1\141\1\170\1\155\1\163\1\uffff"+
-        "\1\145\1\147\1\154\1\145\1\uffff\1\162\1\163\1\145\1\143\1\157\2"+
-        "\156\1\141\1\172\1\146\1\145\1\154\1\162\1\145\1\165\1\157\1\163"+
-        "\4\172\1\145\1\uffff\1\172\1\151\2\141\1\151\1\155\2\154\1\165\1"+
-        "\uffff\1\154\1\141\1\163\1\160\1\154\1\164\1\172\1\145\1\157\2\145"+
-        "\1\uffff\1\156\1\154\1\156\1\155\1\165\1\157\1\156\1\157\1\162\1"+
-        "\uffff\1\145\1\147\1\160\1\141\1\165\1\uffff\1\156\1\142\1\172\1"+
-        "\165\1\156\1\171\1\163\2\151\1\157\2\145\1\156\1\163\2\141\1\162"+
-        "\1\uffff\1\162\1\172\1\146\1\151\1\163\1\162\1\155\1\157\4\uffff"+
-        "\1\144\1\157\1\143\2\154\1\156\3\141\1\162\1\141\1\143\1\151\1\141"+
-        "\1\164\1\171\1\uffff\1\172\1\164\1\143\1\161\1\143\1\145\1\147\1"+
-        "\157\1\156\1\147\1\164\1\146\1\172\1\145\2\172\2\162\1\147\1\145"+
-        "\1\uffff\1\162\1\164\1\172\1\160\1\156\1\163\1\154\1\156\1\154\1"+
-        "\157\1\151\2\172\1\142\1\141\1\uffff\1\151\1\141\1\157\2\145\1\154"+
-        "\1\151\1\156\1\141\1\172\1\143\1\145\1\164\1\162\1\164\1\162\2\164"+
-        "\1\157\1\162\1\172\1\142\1\uffff\1\157\1\164\1\172\1\145\1\172\2"+
-        "\154\1\144\1\162\1\150\1\146\1\uffff\1\172\2\uffff\1\162\1\145\1"+
-        "\165\1\141\1\145\1\141\1\167\1\uffff\1\145\1\172\1\150\1\141\1\165"+
-        "\1\145\1\154\1\155\1\144\2\uffff\1\172\1\155\3\154\1\172\1\164\1"+
-        "\165\1\155\1\164\1\154\1\uffff\1\172\1\162\1\151\1\172\1\145\1\157"+
-        "\1\145\1\151\1\156\1\141\1\uffff\1\141\1\156\1\162\1\uffff\1\172"+
-        "\1\uffff\2\145\1\151\1\141\1\145\1\162\1\163\1\uffff\1\145\1\162"+
-        "\1\154\1\155\1\172\1\154\1\150\1\162\1\145\1\157\1\145\2\164\1\162"+
-        "\1\172\1\145\1\165\1\uffff\2\145\1\164\1\165\1\uffff\1\145\1\164"+
-        "\1\172\1\141\1\172\1\uffff\1\164\1\157\1\uffff\1\160\1\165\1\160"+
-        "\1\157\1\172\1\155\2\163\1\157\1\151\1\uffff\2\172\1\156\1\155\2"+
-        "\141\1\145\1\163\2\141\1\157\1\151\1\uffff\1\172\2\155\1\172\1\156"+
-        "\1\141\2\151\1\147\1\uffff\1\162\1\145\1\164\1\172\1\171\1\151\1"+
-        "\154\1\164\1\162\1\151\1\uffff\1\154\1\uffff\1\141\1\150\1\145\1"+
-        "\156\1\145\1\154\1\156\1\145\1\156\1\172\1\uffff\1\172\1\145\1\172"+
-        "\1\156\1\154\1\uffff\1\164\1\uffff\1\147\1\172\1\166\1\143\1\164"+
-        "\1\157\1\144\1\162\1\146\1\155\1\uffff\1\172\1\151\1\uffff\1\143"+
-        "\1\166\2\157\1\171\2\163\1\171\1\uffff\1\160\1\170\1\145\1\151\1"+
-        "\141\1\157\1\172\1\164\1\151\1\156\1\172\2\145\1\144\1\162\1\144"+
-        "\1\uffff\1\144\1\uffff\1\163\1\145\1\157\1\164\1\uffff\1\171\1\164"+
-        "\1\172\1\154\1\151\1\172\1\146\1\145\1\uffff\1\143\1\172\1\171\2"+
-        "\156\3\172\2\160\2\145\1\164\1\155\1\157\1\170\1\156\1\uffff\1\145"+
-        "\1\143\1\163\1\uffff\2\163\1\151\1\144\1\145\3\172\1\155\1\150\1"+
-        "\145\1\154\1\145\1\143\1\151\1\uffff\2\165\1\uffff\1\163\1\172\1"+
-        "\162\1\156\1\uffff\1\141\1\144\1\172\3\uffff\2\172\1\165\1\145\1"+
-        "\156\1\151\1\172\1\162\1\153\1\151\2\143\1\156\1\145\1\143\3\uffff"+
-        "\1\163\1\151\1\141\1\145\1\156\2\157\1\164\1\163\1\145\1\uffff\1"+
-        "\157\2\164\1\151\3\uffff\1\162\1\156\1\172\1\163\1\uffff\1\151\1"+
-        "\156\1\164\2\141\2\147\1\141\1\172\1\143\1\166\1\155\1\163\2\156"+
-        "\1\151\1\172\1\164\1\156\1\162\1\157\1\162\1\145\1\164\1\uffff\1"+
-        "\172\1\141\1\145\1\171\2\160\1\172\1\162\1\171\1\uffff\1\153\1\171"+
-        "\1\145\1\151\1\143\1\172\1\157\1\uffff\2\172\1\141\1\155\1\145\1"+
-        "\172\1\163\1\uffff\1\154\1\163\1\172\2\145\1\uffff\1\145\1\155\1"+
-        "\156\1\143\1\156\1\164\1\172\1\uffff\1\156\2\uffff\1\164\1\163\1"+
-        "\143\1\uffff\1\172\1\164\1\163\1\uffff\2\172\1\145\1\157\1\145\1"+
-        "\157\1\164\1\171\1\uffff\1\172\1\151\1\172\1\164\1\uffff\1\171\1"+
-        "\151\1\154\1\172\2\uffff\1\172\1\144\1\163\1\156\1\163\1\172\1\uffff"+
-        "\1\157\1\uffff\1\151\1\160\1\170\1\145\2\uffff\1\145\1\163\1\143"+
-        "\1\172\1\uffff\1\156\1\157\1\145\1\164\1\155\1\154\2\172\1\uffff"+
-        "\1\172\1\156\1\172\1\165\1\145\1\172\3\uffff\1\172\1\uffff\1\162"+
-        "\1\156\2\uffff\1\145\1\164\1\172\1\163\1\uffff\1\172\1\uffff";
+        "\156\1\146\1\145\1\172\2\141\1\163\1\155\1\160\1\163\1\165\1\144"+
+        "\1\151\1\154\1\162\1\160\1\166\1\162\1\145\1\154\1\143\1\162\1\165"+
+        "\1\162\2\172\1\163\1\164\1\141\1\172\1\155\1\162\1\145\1\164\1\172"+
+        "\1\141\1\145\1\163\1\164\1\162\2\145\1\147\2\145\1\162\1\164\1\151"+
+        "\1\145\1\170\1\155\1\145\1\155\1\147\1\172\1\151\1\164\1\71\2\172"+
+        "\1\uffff\1\164\1\143\1\141\1\151\1\uffff\2\165\1\172\1\163\1\162"+
+        "\1\156\1\uffff\1\171\1\165\1\151\1\171\2\154\1\172\1\145\1\151\1"+
+        "\172\1\141\1\154\1\157\1\162\1\145\1\164\1\141\1\172\1\157\1\141"+
+        "\1\145\1\154\1\164\1\172\1\uffff\1\172\1\uffff\1\172\1\141\1\170"+
+        "\1\155\1\163\1\uffff\1\145\1\147\1\154\1\145\1\uffff\1\162\1\163"+
+        "\1\145\1\143\1\157\2\156\1\141\1\172\1\146\1\145\1\154\1\162\1\145"+
+        "\1\165\1\157\1\163\4\172\1\145\1\uffff\1\172\1\151\2\141\1\151\1"+
+        "\155\2\154\1\165\1\uffff\1\154\1\141\1\163\1\160\1\154\1\164\1\172"+
+        "\1\145\1\157\2\145\1\uffff\1\156\1\154\1\uffff\1\156\1\155\1\165"+
+        "\1\157\1\156\1\157\1\162\1\uffff\1\145\1\147\1\160\1\141\1\165\1"+
+        "\uffff\1\156\1\142\1\172\1\165\1\156\1\171\1\163\2\151\1\157\2\145"+
+        "\1\156\1\163\2\141\1\162\1\uffff\1\162\1\172\1\146\1\151\1\163\1"+
+        "\162\1\155\1\157\4\uffff\1\144\1\157\1\143\2\154\1\156\3\141\1\162"+
+        "\1\141\1\143\1\151\1\141\1\164\1\171\1\uffff\1\172\1\164\1\143\1"+
+        "\161\1\143\1\145\1\147\1\157\1\156\1\147\1\164\1\146\1\172\1\145"+
+        "\2\172\2\162\1\147\1\145\1\uffff\1\162\1\164\1\172\1\160\1\156\1"+
+        "\163\1\154\1\156\1\154\1\157\1\151\2\172\1\142\1\141\1\uffff\1\151"+
+        "\1\141\1\157\2\145\1\154\1\151\1\156\1\141\1\172\1\143\1\145\1\164"+
+        "\1\162\1\164\1\162\2\164\1\157\1\162\1\172\1\142\1\uffff\1\157\1"+
+        "\164\1\172\1\145\1\172\2\154\1\144\1\162\1\150\1\146\1\uffff\1\172"+
+        "\2\uffff\1\162\1\145\1\165\1\141\1\145\1\141\1\167\1\uffff\1\145"+
+        "\1\172\1\150\1\141\1\165\1\145\1\154\1\155\1\144\2\uffff\1\172\1"+
+        "\155\3\154\1\172\1\164\1\165\1\155\1\164\1\154\1\uffff\1\172\1\162"+
+        "\1\151\1\172\1\145\1\157\1\145\1\151\1\156\1\141\1\uffff\1\141\1"+
+        "\156\1\162\1\uffff\1\172\1\uffff\2\145\1\151\1\141\1\145\1\162\1"+
+        "\163\1\uffff\1\145\1\162\1\154\1\155\1\172\1\154\1\150\1\162\1\145"+
+        "\1\157\1\145\2\164\1\162\1\172\1\145\1\165\1\uffff\2\145\1\164\1"+
+        "\165\1\uffff\1\145\1\164\1\172\1\141\1\172\1\uffff\1\164\1\157\1"+
+        "\uffff\1\160\1\165\1\160\1\157\1\172\1\155\2\163\1\157\1\151\1\uffff"+
+        "\2\172\1\156\1\155\2\141\1\145\1\163\2\141\1\157\1\151\1\uffff\1"+
+        "\172\2\155\1\172\1\156\1\141\2\151\1\147\1\uffff\1\162\1\145\1\164"+
+        "\1\172\1\171\1\151\1\154\1\164\1\162\1\151\1\uffff\1\154\1\uffff"+
+        "\1\141\1\150\1\145\1\156\1\145\1\154\1\156\1\145\1\156\1\172\1\uffff"+
+        "\1\172\1\145\1\172\1\156\1\154\1\uffff\1\164\1\uffff\1\147\1\172"+
+        "\1\166\1\143\1\164\1\157\1\144\1\162\1\146\1\155\1\uffff\1\172\1"+
+        "\151\1\uffff\1\143\1\166\2\157\1\171\2\163\1\171\1\uffff\1\160\1"+
+        "\170\1\145\1\151\1\141\1\157\1\172\1\164\1\151\1\156\1\172\2\145"+
+        "\1\144\1\162\1\144\1\uffff\1\144\1\uffff\1\163\1\145\1\157\1\164"+
+        "\1\uffff\1\171\1\164\1\172\1\154\1\151\1\172\1\146\1\145\1\uffff"+
+        "\1\143\1\172\1\171\2\156\3\172\2\160\2\145\1\164\1\155\1\157\1\170"+
+        "\1\156\1\uffff\1\145\1\143\1\163\1\uffff\2\163\1\151\1\144\1\145"+
+        "\3\172\1\155\1\150\1\145\1\154\1\145\1\143\1\151\1\uffff\2\165\1"+
+        "\uffff\1\163\1\172\1\162\1\156\1\uffff\1\141\1\144\1\172\3\uffff"+
+        "\2\172\1\165\1\145\1\156\1\151\1\172\1\162\1\153\1\151\2\143\1\156"+
+        "\1\145\1\143\3\uffff\1\163\1\151\1\141\1\145\1\156\2\157\1\164\1"+
+        "\163\1\145\1\uffff\1\157\2\164\1\151\3\uffff\1\162\1\156\1\172\1"+
+        "\163\1\uffff\1\151\1\156\1\164\2\141\2\147\1\141\1\172\1\143\1\166"+
+        "\1\155\1\163\2\156\1\151\1\172\1\164\1\156\1\162\1\157\1\162\1\145"+
+        "\1\164\1\uffff\1\172\1\141\1\145\1\171\2\160\1\172\1\162\1\171\1"+
+        "\uffff\1\153\1\171\1\145\1\151\1\143\1\172\1\157\1\uffff\2\172\1"+
+        "\141\1\155\1\145\1\172\1\163\1\uffff\1\154\1\163\1\172\2\145\1\uffff"+
+        "\1\145\1\155\1\156\1\143\1\156\1\164\1\172\1\uffff\1\156\2\uffff"+
+        "\1\164\1\163\1\143\1\uffff\1\172\1\164\1\163\1\uffff\2\172\1\145"+
+        "\1\157\1\145\1\157\1\164\1\171\1\uffff\1\172\1\151\1\172\1\164\1"+
+        "\uffff\1\171\1\151\1\154\1\172\2\uffff\1\172\1\144\1\163\1\156\1"+
+        "\163\1\172\1\uffff\1\157\1\uffff\1\151\1\160\1\170\1\145\2\uffff"+
+        "\1\145\1\163\1\143\1\172\1\uffff\1\156\1\157\1\145\1\164\1\155\1"+
+        "\154\2\172\1\uffff\1\172\1\156\1\172\1\165\1\145\1\172\3\uffff\1"+
+        "\172\1\uffff\1\162\1\156\2\uffff\1\145\1\164\1\172\1\163\1\uffff"+
+        "\1\172\1\uffff";
     static final String DFA20_acceptS =
-        "\31\uffff\1\141\1\uffff\1\142\1\140\1\143\5\uffff\1\43\175\uffff"+
-        "\1\50\6\uffff\1\4\27\uffff\1\15\1\uffff\1\16\5\uffff\1\17\4\uffff"+
-        "\1\47\26\uffff\1\115\11\uffff\1\2\13\uffff\1\20\11\uffff\1\7\5\uffff"+
-        "\1\106\21\uffff\1\60\10\uffff\1\110\1\113\1\121\1\107\20\uffff\1"+
-        "\12\24\uffff\1\24\17\uffff\1\131\26\uffff\1\5\13\uffff\1\6\1\uffff"+
-        "\1\26\1\27\7\uffff\1\114\11\uffff\1\37\1\40\13\uffff\1\1\12\uffff"+
-        "\1\13\3\uffff\1\22\1\uffff\1\72\7\uffff\1\14\21\uffff\1\41\4\uffff"+
-        "\1\61\5\uffff\1\11\2\uffff\1\126\12\uffff\1\21\14\uffff\1\111\11"+
-        "\uffff\1\31\12\uffff\1\112\1\uffff\1\130\12\uffff\1\25\5\uffff\1"+
-        "\117\1\uffff\1\23\12\uffff\1\62\2\uffff\1\122\10\uffff\1\52\20\uffff"+
-        "\1\10\1\uffff\1\104\4\uffff\1\105\10\uffff\1\123\21\uffff\1\127"+
-        "\3\uffff\1\124\17\uffff\1\134\2\uffff\1\125\4\uffff\1\33\3\uffff"+
-        "\1\116\1\35\1\36\17\uffff\1\77\1\103\1\71\12\uffff\1\132\4\uffff"+
-        "\1\75\1\51\1\57\4\uffff\1\74\30\uffff\1\137\11\uffff\1\44\7\uffff"+
-        "\1\120\7\uffff\1\54\5\uffff\1\100\7\uffff\1\46\1\uffff\1\136\1\30"+
-        "\3\uffff\1\65\3\uffff\1\70\10\uffff\1\45\4\uffff\1\67\4\uffff\1"+
-        "\53\1\73\6\uffff\1\133\1\uffff\1\42\4\uffff\1\63\1\135\4\uffff\1"+
-        "\102\10\uffff\1\101\6\uffff\1\32\1\76\1\34\1\uffff\1\56\2\uffff"+
-        "\1\3\1\55\4\uffff\1\64\1\uffff\1\66";
+        "\31\uffff\1\142\1\uffff\1\143\1\141\1\144\5\uffff\1\43\176\uffff"+
+        "\1\50\6\uffff\1\4\30\uffff\1\15\1\uffff\1\16\5\uffff\1\17\4\uffff"+
+        "\1\47\26\uffff\1\116\11\uffff\1\2\13\uffff\1\20\2\uffff\1\107\7"+
+        "\uffff\1\7\5\uffff\1\106\21\uffff\1\60\10\uffff\1\111\1\114\1\122"+
+        "\1\110\20\uffff\1\12\24\uffff\1\24\17\uffff\1\132\26\uffff\1\5\13"+
+        "\uffff\1\6\1\uffff\1\26\1\27\7\uffff\1\115\11\uffff\1\37\1\40\13"+
+        "\uffff\1\1\12\uffff\1\13\3\uffff\1\22\1\uffff\1\72\7\uffff\1\14"+
+        "\21\uffff\1\41\4\uffff\1\61\5\uffff\1\11\2\uffff\1\127\12\uffff"+
+        "\1\21\14\uffff\1\112\11\uffff\1\31\12\uffff\1\113\1\uffff\1\131"+
+        "\12\uffff\1\25\5\uffff\1\120\1\uffff\1\23\12\uffff\1\62\2\uffff"+
+        "\1\123\10\uffff\1\52\20\uffff\1\10\1\uffff\1\104\4\uffff\1\105\10"+
+        "\uffff\1\124\21\uffff\1\130\3\uffff\1\125\17\uffff\1\135\2\uffff"+
+        "\1\126\4\uffff\1\33\3\uffff\1\117\1\35\1\36\17\uffff\1\77\1\103"+
+        "\1\71\12\uffff\1\133\4\uffff\1\75\1\51\1\57\4\uffff\1\74\30\uffff"+
+        "\1\140\11\uffff\1\44\7\uffff\1\121\7\uffff\1\54\5\uffff\1\100\7"+
+        "\uffff\1\46\1\uffff\1\137\1\30\3\uffff\1\65\3\uffff\1\70\10\uffff"+
+        "\1\45\4\uffff\1\67\4\uffff\1\53\1\73\6\uffff\1\134\1\uffff\1\42"+
+        "\4\uffff\1\63\1\136\4\uffff\1\102\10\uffff\1\101\6\uffff\1\32\1"+
+        "\76\1\34\1\uffff\1\56\2\uffff\1\3\1\55\4\uffff\1\64\1\uffff\1\66";
     static final String DFA20_specialS =
-        "\130\uffff\1\0\103\uffff\1\1\u02aa\uffff}>";
+        "\130\uffff\1\0\104\uffff\1\1\u02ac\uffff}>";
     static final String[] DFA20_transitionS = {
             "\2\33\2\uffff\1\33\22\uffff\1\33\1\31\1\uffff\1\31\1\35\6\uffff"+
             "\1\34\1\uffff\1\26\1\30\1\32\12\27\1\35\6\uffff\1\6\1\20\1\1"+
@@ -13720,119 +13790,119 @@ public class InputfileLexer extends Lexer {
             "\2\uffff\1\35\1\uffff\14\35\1\151\15\35",
             "\1\35\10\uffff\16\35\6\uffff\27\35\1\152\2\35\1\uffff\1\35"+
             "\2\uffff\1\35\1\uffff\27\35\1\152\2\35",
-            "\1\35\10\uffff\16\35\6\uffff\14\35\1\154\3\35\1\153\11\35\1"+
-            "\uffff\1\35\2\uffff\1\35\1\uffff\14\35\1\154\3\35\1\153\11\35",
-            "\1\35\10\uffff\16\35\6\uffff\1\155\31\35\1\uffff\1\35\2\uffff"+
-            "\1\35\1\uffff\1\155\31\35",
-            "\1\35\10\uffff\16\35\6\uffff\1\35\1\157\17\35\1\156\10\35\1"+
-            "\uffff\1\35\2\uffff\1\35\1\uffff\1\35\1\157\17\35\1\156\10\35",
-            "\1\35\10\uffff\16\35\6\uffff\13\35\1\160\16\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\13\35\1\160\16\35",
-            "\1\35\10\uffff\16\35\6\uffff\1\161\31\35\1\uffff\1\35\2\uffff"+
-            "\1\35\1\uffff\1\161\31\35",
-            "\1\35\10\uffff\16\35\6\uffff\15\35\1\162\14\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\15\35\1\162\14\35",
-            "\1\35\10\uffff\16\35\6\uffff\1\163\31\35\1\uffff\1\35\2\uffff"+
-            "\1\35\1\uffff\1\163\31\35",
-            "\1\35\10\uffff\16\35\6\uffff\22\35\1\164\7\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\22\35\1\164\7\35",
-            "\1\35\10\uffff\16\35\6\uffff\4\35\1\165\25\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\4\35\1\165\25\35",
-            "\1\35\10\uffff\16\35\6\uffff\6\35\1\166\23\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\6\35\1\166\23\35",
-            "\1\35\10\uffff\16\35\6\uffff\4\35\1\167\25\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\4\35\1\167\25\35",
-            "\1\35\10\uffff\6\35\1\171\7\35\6\uffff\25\35\1\170\4\35\1\uffff"+
-            "\1\35\2\uffff\1\35\1\uffff\25\35\1\170\4\35",
-            "\1\35\10\uffff\16\35\6\uffff\15\35\1\172\14\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\15\35\1\172\14\35",
-            "\1\35\10\uffff\16\35\6\uffff\2\35\1\173\27\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\2\35\1\173\27\35",
-            "\1\35\10\uffff\16\35\6\uffff\23\35\1\174\6\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\23\35\1\174\6\35",
-            "\1\35\10\uffff\16\35\6\uffff\17\35\1\175\12\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\17\35\1\175\12\35",
-            "\1\35\10\uffff\16\35\6\uffff\4\35\1\176\25\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\4\35\1\176\25\35",
+            "\1\35\10\uffff\16\35\6\uffff\4\35\1\154\7\35\1\155\3\35\1\153"+
+            "\11\35\1\uffff\1\35\2\uffff\1\35\1\uffff\4\35\1\154\7\35\1\155"+
+            "\3\35\1\153\11\35",
+            "\1\35\10\uffff\16\35\6\uffff\1\156\31\35\1\uffff\1\35\2\uffff"+
+            "\1\35\1\uffff\1\156\31\35",
+            "\1\35\10\uffff\16\35\6\uffff\1\35\1\160\17\35\1\157\10\35\1"+
+            "\uffff\1\35\2\uffff\1\35\1\uffff\1\35\1\160\17\35\1\157\10\35",
+            "\1\35\10\uffff\16\35\6\uffff\13\35\1\161\16\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\13\35\1\161\16\35",
+            "\1\35\10\uffff\16\35\6\uffff\1\162\31\35\1\uffff\1\35\2\uffff"+
+            "\1\35\1\uffff\1\162\31\35",
+            "\1\35\10\uffff\16\35\6\uffff\15\35\1\163\14\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\15\35\1\163\14\35",
+            "\1\35\10\uffff\16\35\6\uffff\1\164\31\35\1\uffff\1\35\2\uffff"+
+            "\1\35\1\uffff\1\164\31\35",
+            "\1\35\10\uffff\16\35\6\uffff\22\35\1\165\7\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\22\35\1\165\7\35",
+            "\1\35\10\uffff\16\35\6\uffff\4\35\1\166\25\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\4\35\1\166\25\35",
+            "\1\35\10\uffff\16\35\6\uffff\6\35\1\167\23\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\6\35\1\167\23\35",
+            "\1\35\10\uffff\16\35\6\uffff\4\35\1\170\25\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\4\35\1\170\25\35",
+            "\1\35\10\uffff\6\35\1\172\7\35\6\uffff\25\35\1\171\4\35\1\uffff"+
+            "\1\35\2\uffff\1\35\1\uffff\25\35\1\171\4\35",
+            "\1\35\10\uffff\16\35\6\uffff\15\35\1\173\14\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\15\35\1\173\14\35",
+            "\1\35\10\uffff\16\35\6\uffff\2\35\1\174\27\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\2\35\1\174\27\35",
+            "\1\35\10\uffff\16\35\6\uffff\23\35\1\175\6\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\23\35\1\175\6\35",
+            "\1\35\10\uffff\16\35\6\uffff\17\35\1\176\12\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\17\35\1\176\12\35",
             "\1\35\10\uffff\16\35\6\uffff\4\35\1\177\25\35\1\uffff\1\35"+
             "\2\uffff\1\35\1\uffff\4\35\1\177\25\35",
-            "\1\35\10\uffff\16\35\6\uffff\27\35\1\u0080\2\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\27\35\1\u0080\2\35",
-            "\1\35\10\uffff\16\35\6\uffff\16\35\1\u0081\13\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\16\35\1\u0081\13\35",
-            "\1\35\10\uffff\16\35\6\uffff\1\35\1\u0082\30\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\1\35\1\u0082\30\35",
-            "\1\35\10\uffff\16\35\6\uffff\13\35\1\u0083\16\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\13\35\1\u0083\16\35",
-            "\1\35\10\uffff\16\35\6\uffff\21\35\1\u0084\10\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\21\35\1\u0084\10\35",
-            "\1\35\10\uffff\16\35\6\uffff\13\35\1\u0085\16\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\13\35\1\u0085\16\35",
-            "\1\35\10\uffff\16\35\6\uffff\10\35\1\u0086\21\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\10\35\1\u0086\21\35",
-            "\1\35\10\uffff\16\35\6\uffff\14\35\1\u0087\15\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\14\35\1\u0087\15\35",
-            "\1\35\10\uffff\16\35\6\uffff\15\35\1\u0088\14\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\15\35\1\u0088\14\35",
-            "\1\35\10\uffff\16\35\6\uffff\21\35\1\u0089\10\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\21\35\1\u0089\10\35",
-            "\1\35\10\uffff\16\35\6\uffff\3\35\1\u008a\26\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\3\35\1\u008a\26\35",
+            "\1\35\10\uffff\16\35\6\uffff\4\35\1\u0080\25\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\4\35\1\u0080\25\35",
+            "\1\35\10\uffff\16\35\6\uffff\27\35\1\u0081\2\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\27\35\1\u0081\2\35",
+            "\1\35\10\uffff\16\35\6\uffff\16\35\1\u0082\13\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\16\35\1\u0082\13\35",
+            "\1\35\10\uffff\16\35\6\uffff\1\35\1\u0083\30\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\1\35\1\u0083\30\35",
+            "\1\35\10\uffff\16\35\6\uffff\13\35\1\u0084\16\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\13\35\1\u0084\16\35",
+            "\1\35\10\uffff\16\35\6\uffff\21\35\1\u0085\10\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\21\35\1\u0085\10\35",
+            "\1\35\10\uffff\16\35\6\uffff\13\35\1\u0086\16\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\13\35\1\u0086\16\35",
+            "\1\35\10\uffff\16\35\6\uffff\10\35\1\u0087\21\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\10\35\1\u0087\21\35",
+            "\1\35\10\uffff\16\35\6\uffff\14\35\1\u0088\15\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\14\35\1\u0088\15\35",
+            "\1\35\10\uffff\16\35\6\uffff\15\35\1\u0089\14\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\15\35\1\u0089\14\35",
+            "\1\35\10\uffff\16\35\6\uffff\21\35\1\u008a\10\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\21\35\1\u008a\10\35",
             "\1\35\10\uffff\16\35\6\uffff\3\35\1\u008b\26\35\1\uffff\1\35"+
             "\2\uffff\1\35\1\uffff\3\35\1\u008b\26\35",
-            "\1\35\10\uffff\16\35\6\uffff\23\35\1\u008c\3\35\1\u008d\2\35"+
-            "\1\uffff\1\35\2\uffff\1\35\1\uffff\23\35\1\u008c\3\35\1\u008d"+
+            "\1\35\10\uffff\16\35\6\uffff\3\35\1\u008c\26\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\3\35\1\u008c\26\35",
+            "\1\35\10\uffff\16\35\6\uffff\23\35\1\u008d\3\35\1\u008e\2\35"+
+            "\1\uffff\1\35\2\uffff\1\35\1\uffff\23\35\1\u008d\3\35\1\u008e"+
             "\2\35",
-            "\1\35\10\uffff\16\35\6\uffff\27\35\1\u008e\2\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\27\35\1\u008e\2\35",
-            "\1\35\10\uffff\16\35\6\uffff\15\35\1\u008f\14\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\15\35\1\u008f\14\35",
-            "\1\35\10\uffff\16\35\6\uffff\21\35\1\u0090\2\35\1\u0091\5\35"+
-            "\1\uffff\1\35\2\uffff\1\35\1\uffff\21\35\1\u0090\2\35\1\u0091"+
+            "\1\35\10\uffff\16\35\6\uffff\27\35\1\u008f\2\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\27\35\1\u008f\2\35",
+            "\1\35\10\uffff\16\35\6\uffff\15\35\1\u0090\14\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\15\35\1\u0090\14\35",
+            "\1\35\10\uffff\16\35\6\uffff\21\35\1\u0091\2\35\1\u0092\5\35"+
+            "\1\uffff\1\35\2\uffff\1\35\1\uffff\21\35\1\u0091\2\35\1\u0092"+
             "\5\35",
-            "\1\35\10\uffff\16\35\6\uffff\7\35\1\u0092\22\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\7\35\1\u0092\22\35",
-            "\1\35\10\uffff\16\35\6\uffff\13\35\1\u0093\16\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\13\35\1\u0093\16\35",
-            "\1\35\10\uffff\16\35\6\uffff\1\u0094\31\35\1\uffff\1\35\2\uffff"+
-            "\1\35\1\uffff\1\u0094\31\35",
+            "\1\35\10\uffff\16\35\6\uffff\7\35\1\u0093\22\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\7\35\1\u0093\22\35",
+            "\1\35\10\uffff\16\35\6\uffff\13\35\1\u0094\16\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\13\35\1\u0094\16\35",
             "\1\35\10\uffff\16\35\6\uffff\1\u0095\31\35\1\uffff\1\35\2\uffff"+
             "\1\35\1\uffff\1\u0095\31\35",
-            "\1\35\10\uffff\16\35\6\uffff\25\35\1\u0096\4\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\25\35\1\u0096\4\35",
-            "\1\35\10\uffff\16\35\6\uffff\21\35\1\u0097\10\35\1\uffff\1"+
-            "\35\2\uffff\1\35\1\uffff\21\35\1\u0097\10\35",
+            "\1\35\10\uffff\16\35\6\uffff\1\u0096\31\35\1\uffff\1\35\2\uffff"+
+            "\1\35\1\uffff\1\u0096\31\35",
+            "\1\35\10\uffff\16\35\6\uffff\25\35\1\u0097\4\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\25\35\1\u0097\4\35",
             "\1\35\10\uffff\16\35\6\uffff\21\35\1\u0098\10\35\1\uffff\1"+
             "\35\2\uffff\1\35\1\uffff\21\35\1\u0098\10\35",
-            "\1\34\1\uffff\1\u0099\2\uffff\12\u009a",
-            "\1\35\10\uffff\3\35\12\u009b\1\35\6\uffff\4\35\1\125\25\35"+
+            "\1\35\10\uffff\16\35\6\uffff\21\35\1\u0099\10\35\1\uffff\1"+
+            "\35\2\uffff\1\35\1\uffff\21\35\1\u0099\10\35",
+            "\1\34\1\uffff\1\u009a\2\uffff\12\u009b",
+            "\1\35\10\uffff\3\35\12\u009c\1\35\6\uffff\4\35\1\125\25\35"+
             "\1\uffff\1\35\2\uffff\1\35\1\uffff\4\35\1\125\25\35",
             "\1\35\10\uffff\3\35\12\127\1\35\6\uffff\4\35\1\125\25\35\1"+
             "\uffff\1\35\2\uffff\1\35\1\uffff\4\35\1\125\25\35",
-            "\44\31\1\u009c\10\31\16\u009c\6\31\32\u009c\1\31\1\u009c\2"+
-            "\31\1\u009c\1\31\32\u009c\uff85\31",
-            "\1\u009d\37\uffff\1\u009d",
+            "\44\31\1\u009d\10\31\16\u009d\6\31\32\u009d\1\31\1\u009d\2"+
+            "\31\1\u009d\1\31\32\u009d\uff85\31",
             "\1\u009e\37\uffff\1\u009e",
             "\1\u009f\37\uffff\1\u009f",
             "\1\u00a0\37\uffff\1\u00a0",
+            "\1\u00a1\37\uffff\1\u00a1",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u00a2\37\uffff\1\u00a2",
             "\1\u00a3\37\uffff\1\u00a3",
             "\1\u00a4\37\uffff\1\u00a4",
             "\1\u00a5\37\uffff\1\u00a5",
             "\1\u00a6\37\uffff\1\u00a6",
             "\1\u00a7\37\uffff\1\u00a7",
+            "\1\u00a8\37\uffff\1\u00a8",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u00a9\37\uffff\1\u00a9",
             "\1\u00aa\37\uffff\1\u00aa",
             "\1\u00ab\37\uffff\1\u00ab",
             "\1\u00ac\37\uffff\1\u00ac",
-            "\1\u00ae\12\uffff\1\u00ad\24\uffff\1\u00ae\12\uffff\1\u00ad",
-            "\1\u00af\37\uffff\1\u00af",
-            "\1\u00b1\16\uffff\1\u00b0\20\uffff\1\u00b1\16\uffff\1\u00b0",
-            "\1\u00b2\37\uffff\1\u00b2",
+            "\1\u00ad\37\uffff\1\u00ad",
+            "\1\u00af\12\uffff\1\u00ae\24\uffff\1\u00af\12\uffff\1\u00ae",
+            "\1\u00b0\37\uffff\1\u00b0",
+            "\1\u00b2\16\uffff\1\u00b1\20\uffff\1\u00b2\16\uffff\1\u00b1",
             "\1\u00b3\37\uffff\1\u00b3",
             "\1\u00b4\37\uffff\1\u00b4",
             "\1\u00b5\37\uffff\1\u00b5",
@@ -13842,32 +13912,32 @@ public class InputfileLexer extends Lexer {
             "\1\u00b9\37\uffff\1\u00b9",
             "\1\u00ba\37\uffff\1\u00ba",
             "\1\u00bb\37\uffff\1\u00bb",
-            "\1\u00bc\10\uffff\1\u00bd\26\uffff\1\u00bc\10\uffff\1\u00bd",
-            "\1\u00be\37\uffff\1\u00be",
-            "\1\35\10\uffff\5\35\2\u00bf\7\35\6\uffff\32\35\1\uffff\1\35"+
+            "\1\u00bc\37\uffff\1\u00bc",
+            "\1\u00bd\37\uffff\1\u00bd",
+            "\1\u00be\10\uffff\1\u00bf\26\uffff\1\u00be\10\uffff\1\u00bf",
+            "\1\u00c0\37\uffff\1\u00c0",
+            "\1\35\10\uffff\5\35\2\u00c1\7\35\6\uffff\32\35\1\uffff\1\35"+
             "\2\uffff\1\35\1\uffff\32\35",
-            "\1\35\10\uffff\16\35\6\uffff\3\35\1\u00c1\26\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\3\35\1\u00c1\26\35",
-            "\1\u00c3\37\uffff\1\u00c3",
-            "\1\u00c4\37\uffff\1\u00c4",
+            "\1\35\10\uffff\16\35\6\uffff\3\35\1\u00c3\26\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\3\35\1\u00c3\26\35",
             "\1\u00c5\37\uffff\1\u00c5",
-            "\1\35\10\uffff\16\35\6\uffff\16\35\1\u00c7\3\35\1\u00c6\7\35"+
-            "\1\uffff\1\35\2\uffff\1\35\1\uffff\16\35\1\u00c7\3\35\1\u00c6"+
+            "\1\u00c6\37\uffff\1\u00c6",
+            "\1\u00c7\37\uffff\1\u00c7",
+            "\1\35\10\uffff\16\35\6\uffff\16\35\1\u00c9\3\35\1\u00c8\7\35"+
+            "\1\uffff\1\35\2\uffff\1\35\1\uffff\16\35\1\u00c9\3\35\1\u00c8"+
             "\7\35",
-            "\1\u00c9\37\uffff\1\u00c9",
-            "\1\u00ca\37\uffff\1\u00ca",
             "\1\u00cb\37\uffff\1\u00cb",
             "\1\u00cc\37\uffff\1\u00cc",
+            "\1\u00cd\37\uffff\1\u00cd",
+            "\1\u00ce\37\uffff\1\u00ce",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u00ce\37\uffff\1\u00ce",
-            "\1\u00cf\37\uffff\1\u00cf",
             "\1\u00d0\37\uffff\1\u00d0",
             "\1\u00d1\37\uffff\1\u00d1",
-            "\1\u00d5\1\u00d4\10\uffff\1\u00d2\4\uffff\1\u00d3\20\uffff"+
-            "\1\u00d5\1\u00d4\10\uffff\1\u00d2\4\uffff\1\u00d3",
-            "\1\u00d6\37\uffff\1\u00d6",
-            "\1\u00d7\37\uffff\1\u00d7",
+            "\1\u00d2\37\uffff\1\u00d2",
+            "\1\u00d3\37\uffff\1\u00d3",
+            "\1\u00d7\1\u00d6\10\uffff\1\u00d4\4\uffff\1\u00d5\20\uffff"+
+            "\1\u00d7\1\u00d6\10\uffff\1\u00d4\4\uffff\1\u00d5",
             "\1\u00d8\37\uffff\1\u00d8",
             "\1\u00d9\37\uffff\1\u00d9",
             "\1\u00da\37\uffff\1\u00da",
@@ -13880,54 +13950,58 @@ public class InputfileLexer extends Lexer {
             "\1\u00e1\37\uffff\1\u00e1",
             "\1\u00e2\37\uffff\1\u00e2",
             "\1\u00e3\37\uffff\1\u00e3",
+            "\1\u00e4\37\uffff\1\u00e4",
+            "\1\u00e5\37\uffff\1\u00e5",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u00e5\37\uffff\1\u00e5",
-            "\1\u00e6\37\uffff\1\u00e6",
-            "\12\u009a",
-            "\1\35\10\uffff\3\35\12\u009a\1\35\6\uffff\32\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\32\35",
-            "\1\35\10\uffff\3\35\12\u009b\1\35\6\uffff\4\35\1\125\25\35"+
-            "\1\uffff\1\35\2\uffff\1\35\1\uffff\4\35\1\125\25\35",
-            "\44\31\1\u009c\10\31\16\u009c\6\31\32\u009c\1\31\1\u009c\2"+
-            "\31\1\u009c\1\31\32\u009c\uff85\31",
             "\1\u00e7\37\uffff\1\u00e7",
             "\1\u00e8\37\uffff\1\u00e8",
+            "\12\u009b",
+            "\1\35\10\uffff\3\35\12\u009b\1\35\6\uffff\32\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\32\35",
+            "\1\35\10\uffff\3\35\12\u009c\1\35\6\uffff\4\35\1\125\25\35"+
+            "\1\uffff\1\35\2\uffff\1\35\1\uffff\4\35\1\125\25\35",
+            "\44\31\1\u009d\10\31\16\u009d\6\31\32\u009d\1\31\1\u009d\2"+
+            "\31\1\u009d\1\31\32\u009d\uff85\31",
             "\1\u00e9\37\uffff\1\u00e9",
             "\1\u00ea\37\uffff\1\u00ea",
-            "",
             "\1\u00eb\37\uffff\1\u00eb",
-            "\1\u00ed\1\uffff\1\u00ec\35\uffff\1\u00ed\1\uffff\1\u00ec",
+            "\1\u00ec\37\uffff\1\u00ec",
+            "",
+            "\1\u00ed\37\uffff\1\u00ed",
+            "\1\u00ef\1\uffff\1\u00ee\35\uffff\1\u00ef\1\uffff\1\u00ee",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u00ef\37\uffff\1\u00ef",
-            "\1\u00f0\37\uffff\1\u00f0",
             "\1\u00f1\37\uffff\1\u00f1",
-            "",
             "\1\u00f2\37\uffff\1\u00f2",
             "\1\u00f3\37\uffff\1\u00f3",
+            "",
             "\1\u00f4\37\uffff\1\u00f4",
             "\1\u00f5\37\uffff\1\u00f5",
-            "\1\u00f7\3\uffff\1\u00f6\33\uffff\1\u00f7\3\uffff\1\u00f6",
-            "\1\u00f8\37\uffff\1\u00f8",
-            "\1\35\10\uffff\16\35\6\uffff\22\35\1\u00f9\7\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\22\35\1\u00f9\7\35",
-            "\1\u00fb\37\uffff\1\u00fb",
-            "\1\u00fc\37\uffff\1\u00fc",
+            "\1\u00f6\37\uffff\1\u00f6",
+            "\1\u00f7\37\uffff\1\u00f7",
+            "\1\u00f9\3\uffff\1\u00f8\33\uffff\1\u00f9\3\uffff\1\u00f8",
+            "\1\u00fa\37\uffff\1\u00fa",
+            "\1\35\10\uffff\16\35\6\uffff\22\35\1\u00fb\7\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\22\35\1\u00fb\7\35",
             "\1\u00fd\37\uffff\1\u00fd",
             "\1\u00fe\37\uffff\1\u00fe",
-            "\1\u00ff\37\uffff\1\u00ff",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u0100\37\uffff\1\u0100",
             "\1\u0101\37\uffff\1\u0101",
             "\1\u0102\37\uffff\1\u0102",
             "\1\u0103\37\uffff\1\u0103",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u0104\37\uffff\1\u0104",
             "\1\u0105\37\uffff\1\u0105",
             "\1\u0106\37\uffff\1\u0106",
-            "\1\u0107\37\uffff\1\u0107",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u0108\37\uffff\1\u0108",
             "\1\u0109\37\uffff\1\u0109",
+            "\1\u010a\37\uffff\1\u010a",
+            "\1\u010b\37\uffff\1\u010b",
+            "\1\u010c\37\uffff\1\u010c",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "",
@@ -13936,34 +14010,34 @@ public class InputfileLexer extends Lexer {
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u010b\37\uffff\1\u010b",
-            "\1\u010c\37\uffff\1\u010c",
-            "\1\u010d\37\uffff\1\u010d",
             "\1\u010e\37\uffff\1\u010e",
-            "",
             "\1\u010f\37\uffff\1\u010f",
             "\1\u0110\37\uffff\1\u0110",
             "\1\u0111\37\uffff\1\u0111",
-            "\1\u0112\37\uffff\1\u0112",
             "",
+            "\1\u0112\37\uffff\1\u0112",
             "\1\u0113\37\uffff\1\u0113",
             "\1\u0114\37\uffff\1\u0114",
             "\1\u0115\37\uffff\1\u0115",
+            "",
             "\1\u0116\37\uffff\1\u0116",
             "\1\u0117\37\uffff\1\u0117",
-            "\1\u0118\10\uffff\1\u0119\26\uffff\1\u0118\10\uffff\1\u0119",
+            "\1\u0118\37\uffff\1\u0118",
+            "\1\u0119\37\uffff\1\u0119",
             "\1\u011a\37\uffff\1\u011a",
-            "\1\u011b\37\uffff\1\u011b",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u011b\10\uffff\1\u011c\26\uffff\1\u011b\10\uffff\1\u011c",
             "\1\u011d\37\uffff\1\u011d",
             "\1\u011e\37\uffff\1\u011e",
-            "\1\u011f\37\uffff\1\u011f",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u0120\37\uffff\1\u0120",
             "\1\u0121\37\uffff\1\u0121",
             "\1\u0122\37\uffff\1\u0122",
             "\1\u0123\37\uffff\1\u0123",
             "\1\u0124\37\uffff\1\u0124",
+            "\1\u0125\37\uffff\1\u0125",
+            "\1\u0126\37\uffff\1\u0126",
+            "\1\u0127\37\uffff\1\u0127",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
@@ -13972,54 +14046,52 @@ public class InputfileLexer extends Lexer {
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0129\37\uffff\1\u0129",
-            "",
-            "\1\u012a\37\uffff\1\u012a",
-            "\1\u012b\37\uffff\1\u012b",
             "\1\u012c\37\uffff\1\u012c",
+            "",
             "\1\u012d\37\uffff\1\u012d",
             "\1\u012e\37\uffff\1\u012e",
             "\1\u012f\37\uffff\1\u012f",
             "\1\u0130\37\uffff\1\u0130",
             "\1\u0131\37\uffff\1\u0131",
             "\1\u0132\37\uffff\1\u0132",
-            "",
             "\1\u0133\37\uffff\1\u0133",
             "\1\u0134\37\uffff\1\u0134",
             "\1\u0135\37\uffff\1\u0135",
+            "",
             "\1\u0136\37\uffff\1\u0136",
             "\1\u0137\37\uffff\1\u0137",
             "\1\u0138\37\uffff\1\u0138",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u0139\37\uffff\1\u0139",
             "\1\u013a\37\uffff\1\u013a",
             "\1\u013b\37\uffff\1\u013b",
-            "\1\u013c\37\uffff\1\u013c",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u013d\37\uffff\1\u013d",
-            "",
             "\1\u013e\37\uffff\1\u013e",
             "\1\u013f\37\uffff\1\u013f",
             "\1\u0140\37\uffff\1\u0140",
+            "",
             "\1\u0141\37\uffff\1\u0141",
             "\1\u0142\37\uffff\1\u0142",
+            "",
             "\1\u0143\37\uffff\1\u0143",
             "\1\u0144\37\uffff\1\u0144",
             "\1\u0145\37\uffff\1\u0145",
             "\1\u0146\37\uffff\1\u0146",
+            "\1\u0147\37\uffff\1\u0147",
+            "\1\u0148\37\uffff\1\u0148",
+            "\1\u0149\37\uffff\1\u0149",
             "",
             "\1\132\37\uffff\1\132",
-            "\1\u0147\37\uffff\1\u0147",
-            "\1\u0149\3\uffff\1\u0148\33\uffff\1\u0149\3\uffff\1\u0148",
             "\1\u014a\37\uffff\1\u014a",
-            "\1\u014b\37\uffff\1\u014b",
-            "",
-            "\1\u014c\37\uffff\1\u014c",
+            "\1\u014c\3\uffff\1\u014b\33\uffff\1\u014c\3\uffff\1\u014b",
             "\1\u014d\37\uffff\1\u014d",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u014e\37\uffff\1\u014e",
+            "",
             "\1\u014f\37\uffff\1\u014f",
             "\1\u0150\37\uffff\1\u0150",
-            "\1\u0151\37\uffff\1\u0151",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u0152\37\uffff\1\u0152",
             "\1\u0153\37\uffff\1\u0153",
             "\1\u0154\37\uffff\1\u0154",
@@ -14031,23 +14103,23 @@ public class InputfileLexer extends Lexer {
             "\1\u015a\37\uffff\1\u015a",
             "\1\u015b\37\uffff\1\u015b",
             "\1\u015c\37\uffff\1\u015c",
-            "",
             "\1\u015d\37\uffff\1\u015d",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u015e\37\uffff\1\u015e",
             "\1\u015f\37\uffff\1\u015f",
+            "",
             "\1\u0160\37\uffff\1\u0160",
-            "\1\u0161\37\uffff\1\u0161",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u0162\37\uffff\1\u0162",
             "\1\u0163\37\uffff\1\u0163",
             "\1\u0164\37\uffff\1\u0164",
+            "\1\u0165\37\uffff\1\u0165",
+            "\1\u0166\37\uffff\1\u0166",
+            "\1\u0167\37\uffff\1\u0167",
             "",
             "",
             "",
             "",
-            "\1\u0165\37\uffff\1\u0165",
-            "\1\u0166\37\uffff\1\u0166",
-            "\1\u0167\37\uffff\1\u0167",
             "\1\u0168\37\uffff\1\u0168",
             "\1\u0169\37\uffff\1\u0169",
             "\1\u016a\37\uffff\1\u016a",
@@ -14061,12 +14133,12 @@ public class InputfileLexer extends Lexer {
             "\1\u0172\37\uffff\1\u0172",
             "\1\u0173\37\uffff\1\u0173",
             "\1\u0174\37\uffff\1\u0174",
+            "\1\u0175\37\uffff\1\u0175",
+            "\1\u0176\37\uffff\1\u0176",
+            "\1\u0177\37\uffff\1\u0177",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0176\37\uffff\1\u0176",
-            "\1\u0177\37\uffff\1\u0177",
-            "\1\u0178\37\uffff\1\u0178",
             "\1\u0179\37\uffff\1\u0179",
             "\1\u017a\37\uffff\1\u017a",
             "\1\u017b\37\uffff\1\u017b",
@@ -14075,51 +14147,51 @@ public class InputfileLexer extends Lexer {
             "\1\u017e\37\uffff\1\u017e",
             "\1\u017f\37\uffff\1\u017f",
             "\1\u0180\37\uffff\1\u0180",
+            "\1\u0181\37\uffff\1\u0181",
+            "\1\u0182\37\uffff\1\u0182",
+            "\1\u0183\37\uffff\1\u0183",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0182\37\uffff\1\u0182",
+            "\1\u0185\37\uffff\1\u0185",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0185\37\uffff\1\u0185",
-            "\1\u0186\37\uffff\1\u0186",
-            "\1\u0187\37\uffff\1\u0187",
             "\1\u0188\37\uffff\1\u0188",
-            "",
             "\1\u0189\37\uffff\1\u0189",
             "\1\u018a\37\uffff\1\u018a",
-            "\1\35\10\uffff\16\35\6\uffff\5\35\1\u018b\24\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\5\35\1\u018b\24\35",
-            "\1\u018e\6\uffff\1\u018d\30\uffff\1\u018e\6\uffff\1\u018d",
-            "\1\u018f\37\uffff\1\u018f",
-            "\1\u0190\37\uffff\1\u0190",
-            "\1\u0191\37\uffff\1\u0191",
+            "\1\u018b\37\uffff\1\u018b",
+            "",
+            "\1\u018c\37\uffff\1\u018c",
+            "\1\u018d\37\uffff\1\u018d",
+            "\1\35\10\uffff\16\35\6\uffff\5\35\1\u018e\24\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\5\35\1\u018e\24\35",
+            "\1\u0191\6\uffff\1\u0190\30\uffff\1\u0191\6\uffff\1\u0190",
             "\1\u0192\37\uffff\1\u0192",
             "\1\u0193\37\uffff\1\u0193",
             "\1\u0194\37\uffff\1\u0194",
             "\1\u0195\37\uffff\1\u0195",
+            "\1\u0196\37\uffff\1\u0196",
+            "\1\u0197\37\uffff\1\u0197",
+            "\1\u0198\37\uffff\1\u0198",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0198\37\uffff\1\u0198",
-            "\1\u0199\37\uffff\1\u0199",
-            "",
-            "\1\u019a\37\uffff\1\u019a",
             "\1\u019b\37\uffff\1\u019b",
             "\1\u019c\37\uffff\1\u019c",
+            "",
             "\1\u019d\37\uffff\1\u019d",
             "\1\u019e\37\uffff\1\u019e",
             "\1\u019f\37\uffff\1\u019f",
             "\1\u01a0\37\uffff\1\u01a0",
             "\1\u01a1\37\uffff\1\u01a1",
             "\1\u01a2\37\uffff\1\u01a2",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u01a3\37\uffff\1\u01a3",
             "\1\u01a4\37\uffff\1\u01a4",
             "\1\u01a5\37\uffff\1\u01a5",
-            "\1\u01a6\37\uffff\1\u01a6",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u01a7\37\uffff\1\u01a7",
             "\1\u01a8\37\uffff\1\u01a8",
             "\1\u01a9\37\uffff\1\u01a9",
@@ -14127,146 +14199,146 @@ public class InputfileLexer extends Lexer {
             "\1\u01ab\37\uffff\1\u01ab",
             "\1\u01ac\37\uffff\1\u01ac",
             "\1\u01ad\37\uffff\1\u01ad",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u01ae\37\uffff\1\u01ae",
             "\1\u01af\37\uffff\1\u01af",
-            "",
             "\1\u01b0\37\uffff\1\u01b0",
-            "\1\u01b1\37\uffff\1\u01b1",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
+            "\1\u01b2\37\uffff\1\u01b2",
+            "",
             "\1\u01b3\37\uffff\1\u01b3",
+            "\1\u01b4\37\uffff\1\u01b4",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u01b5\37\uffff\1\u01b5",
             "\1\u01b6\37\uffff\1\u01b6",
-            "\1\u01b7\37\uffff\1\u01b7",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u01b8\37\uffff\1\u01b8",
-            "\1\u01ba\1\uffff\1\u01b9\35\uffff\1\u01ba\1\uffff\1\u01b9",
+            "\1\u01b9\37\uffff\1\u01b9",
+            "\1\u01ba\37\uffff\1\u01ba",
             "\1\u01bb\37\uffff\1\u01bb",
+            "\1\u01bd\1\uffff\1\u01bc\35\uffff\1\u01bd\1\uffff\1\u01bc",
+            "\1\u01be\37\uffff\1\u01be",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "",
             "",
-            "\1\u01bd\37\uffff\1\u01bd",
-            "\1\u01be\37\uffff\1\u01be",
-            "\1\u01bf\37\uffff\1\u01bf",
             "\1\u01c0\37\uffff\1\u01c0",
             "\1\u01c1\37\uffff\1\u01c1",
             "\1\u01c2\37\uffff\1\u01c2",
             "\1\u01c3\37\uffff\1\u01c3",
-            "",
             "\1\u01c4\37\uffff\1\u01c4",
             "\1\u01c5\37\uffff\1\u01c5",
-            "\1\u01c6\4\uffff\1\u01c7\32\uffff\1\u01c6\4\uffff\1\u01c7",
+            "\1\u01c6\37\uffff\1\u01c6",
+            "",
+            "\1\u01c7\37\uffff\1\u01c7",
             "\1\u01c8\37\uffff\1\u01c8",
-            "\1\u01c9\37\uffff\1\u01c9",
-            "\1\u01ca\37\uffff\1\u01ca",
+            "\1\u01c9\4\uffff\1\u01ca\32\uffff\1\u01c9\4\uffff\1\u01ca",
             "\1\u01cb\37\uffff\1\u01cb",
             "\1\u01cc\37\uffff\1\u01cc",
             "\1\u01cd\37\uffff\1\u01cd",
+            "\1\u01ce\37\uffff\1\u01ce",
+            "\1\u01cf\37\uffff\1\u01cf",
+            "\1\u01d0\37\uffff\1\u01d0",
             "",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u01cf\37\uffff\1\u01cf",
-            "\1\u01d0\37\uffff\1\u01d0",
-            "\1\u01d1\37\uffff\1\u01d1",
             "\1\u01d2\37\uffff\1\u01d2",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u01d3\37\uffff\1\u01d3",
             "\1\u01d4\37\uffff\1\u01d4",
             "\1\u01d5\37\uffff\1\u01d5",
-            "\1\u01d6\37\uffff\1\u01d6",
-            "\1\u01d7\37\uffff\1\u01d7",
-            "\1\u01d8\37\uffff\1\u01d8",
-            "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
+            "\1\u01d7\37\uffff\1\u01d7",
+            "\1\u01d8\37\uffff\1\u01d8",
+            "\1\u01d9\37\uffff\1\u01d9",
             "\1\u01da\37\uffff\1\u01da",
             "\1\u01db\37\uffff\1\u01db",
+            "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\u01dd\37\uffff\1\u01dd",
             "\1\u01de\37\uffff\1\u01de",
-            "\1\u01df\37\uffff\1\u01df",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u01e0\37\uffff\1\u01e0",
             "\1\u01e1\37\uffff\1\u01e1",
             "\1\u01e2\37\uffff\1\u01e2",
-            "",
             "\1\u01e3\37\uffff\1\u01e3",
             "\1\u01e4\37\uffff\1\u01e4",
             "\1\u01e5\37\uffff\1\u01e5",
             "",
-            "\1\35\10\uffff\16\35\6\uffff\5\35\1\u01e6\24\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\5\35\1\u01e6\24\35",
-            "",
+            "\1\u01e6\37\uffff\1\u01e6",
+            "\1\u01e7\37\uffff\1\u01e7",
             "\1\u01e8\37\uffff\1\u01e8",
-            "\1\u01e9\37\uffff\1\u01e9",
-            "\1\u01ea\37\uffff\1\u01ea",
+            "",
+            "\1\35\10\uffff\16\35\6\uffff\5\35\1\u01e9\24\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\5\35\1\u01e9\24\35",
+            "",
             "\1\u01eb\37\uffff\1\u01eb",
             "\1\u01ec\37\uffff\1\u01ec",
             "\1\u01ed\37\uffff\1\u01ed",
             "\1\u01ee\37\uffff\1\u01ee",
-            "",
             "\1\u01ef\37\uffff\1\u01ef",
             "\1\u01f0\37\uffff\1\u01f0",
             "\1\u01f1\37\uffff\1\u01f1",
+            "",
             "\1\u01f2\37\uffff\1\u01f2",
-            "\1\35\10\uffff\16\35\6\uffff\23\35\1\u01f3\6\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\23\35\1\u01f3\6\35",
+            "\1\u01f3\37\uffff\1\u01f3",
+            "\1\u01f4\37\uffff\1\u01f4",
             "\1\u01f5\37\uffff\1\u01f5",
-            "\1\u01f6\37\uffff\1\u01f6",
-            "\1\u01f7\37\uffff\1\u01f7",
+            "\1\35\10\uffff\16\35\6\uffff\23\35\1\u01f6\6\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\23\35\1\u01f6\6\35",
             "\1\u01f8\37\uffff\1\u01f8",
             "\1\u01f9\37\uffff\1\u01f9",
             "\1\u01fa\37\uffff\1\u01fa",
             "\1\u01fb\37\uffff\1\u01fb",
             "\1\u01fc\37\uffff\1\u01fc",
             "\1\u01fd\37\uffff\1\u01fd",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u01fe\37\uffff\1\u01fe",
             "\1\u01ff\37\uffff\1\u01ff",
             "\1\u0200\37\uffff\1\u0200",
-            "",
-            "\1\u0201\37\uffff\1\u0201",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u0202\37\uffff\1\u0202",
-            "\1\u0205\7\uffff\1\u0204\6\uffff\1\u0203\20\uffff\1\u0205\7"+
-            "\uffff\1\u0204\6\uffff\1\u0203",
-            "\1\u0206\37\uffff\1\u0206",
+            "\1\u0203\37\uffff\1\u0203",
+            "",
+            "\1\u0204\37\uffff\1\u0204",
+            "\1\u0205\37\uffff\1\u0205",
+            "\1\u0208\7\uffff\1\u0207\6\uffff\1\u0206\20\uffff\1\u0208\7"+
+            "\uffff\1\u0207\6\uffff\1\u0206",
+            "\1\u0209\37\uffff\1\u0209",
             "",
-            "\1\u0207\37\uffff\1\u0207",
-            "\1\u0208\37\uffff\1\u0208",
+            "\1\u020a\37\uffff\1\u020a",
+            "\1\u020b\37\uffff\1\u020b",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u020a\37\uffff\1\u020a",
+            "\1\u020d\37\uffff\1\u020d",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "",
-            "\1\u020e\10\uffff\1\u020c\6\uffff\1\u020d\17\uffff\1\u020e"+
-            "\10\uffff\1\u020c\6\uffff\1\u020d",
-            "\1\u020f\37\uffff\1\u020f",
-            "",
-            "\1\u0211\11\uffff\1\u0210\25\uffff\1\u0211\11\uffff\1\u0210",
+            "\1\u0211\10\uffff\1\u020f\6\uffff\1\u0210\17\uffff\1\u0211"+
+            "\10\uffff\1\u020f\6\uffff\1\u0210",
             "\1\u0212\37\uffff\1\u0212",
-            "\1\u0213\37\uffff\1\u0213",
-            "\1\u0214\37\uffff\1\u0214",
-            "\1\35\10\uffff\16\35\6\uffff\22\35\1\u0215\7\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\22\35\1\u0215\7\35",
+            "",
+            "\1\u0214\11\uffff\1\u0213\25\uffff\1\u0214\11\uffff\1\u0213",
+            "\1\u0215\37\uffff\1\u0215",
+            "\1\u0216\37\uffff\1\u0216",
             "\1\u0217\37\uffff\1\u0217",
-            "\1\u0218\37\uffff\1\u0218",
-            "\1\u0219\37\uffff\1\u0219",
+            "\1\35\10\uffff\16\35\6\uffff\22\35\1\u0218\7\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\22\35\1\u0218\7\35",
             "\1\u021a\37\uffff\1\u021a",
             "\1\u021b\37\uffff\1\u021b",
+            "\1\u021c\37\uffff\1\u021c",
+            "\1\u021d\37\uffff\1\u021d",
+            "\1\u021e\37\uffff\1\u021e",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\35\10\uffff\16\35\6\uffff\1\u021d\31\35\1\uffff\1\35\2\uffff"+
-            "\1\35\1\uffff\1\u021d\31\35",
-            "\1\u021f\37\uffff\1\u021f",
-            "\1\u0220\37\uffff\1\u0220",
-            "\1\u0221\37\uffff\1\u0221",
+            "\1\35\10\uffff\16\35\6\uffff\1\u0220\31\35\1\uffff\1\35\2\uffff"+
+            "\1\35\1\uffff\1\u0220\31\35",
             "\1\u0222\37\uffff\1\u0222",
             "\1\u0223\37\uffff\1\u0223",
             "\1\u0224\37\uffff\1\u0224",
@@ -14274,140 +14346,139 @@ public class InputfileLexer extends Lexer {
             "\1\u0226\37\uffff\1\u0226",
             "\1\u0227\37\uffff\1\u0227",
             "\1\u0228\37\uffff\1\u0228",
-            "",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u0229\37\uffff\1\u0229",
             "\1\u022a\37\uffff\1\u022a",
             "\1\u022b\37\uffff\1\u022b",
+            "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\u022d\37\uffff\1\u022d",
             "\1\u022e\37\uffff\1\u022e",
-            "\1\u022f\37\uffff\1\u022f",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u0230\37\uffff\1\u0230",
             "\1\u0231\37\uffff\1\u0231",
-            "",
             "\1\u0232\37\uffff\1\u0232",
             "\1\u0233\37\uffff\1\u0233",
             "\1\u0234\37\uffff\1\u0234",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "",
+            "\1\u0235\37\uffff\1\u0235",
             "\1\u0236\37\uffff\1\u0236",
             "\1\u0237\37\uffff\1\u0237",
-            "\1\u0238\37\uffff\1\u0238",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u0239\37\uffff\1\u0239",
             "\1\u023a\37\uffff\1\u023a",
             "\1\u023b\37\uffff\1\u023b",
-            "",
             "\1\u023c\37\uffff\1\u023c",
-            "",
             "\1\u023d\37\uffff\1\u023d",
             "\1\u023e\37\uffff\1\u023e",
+            "",
             "\1\u023f\37\uffff\1\u023f",
+            "",
             "\1\u0240\37\uffff\1\u0240",
             "\1\u0241\37\uffff\1\u0241",
             "\1\u0242\37\uffff\1\u0242",
             "\1\u0243\37\uffff\1\u0243",
             "\1\u0244\37\uffff\1\u0244",
             "\1\u0245\37\uffff\1\u0245",
+            "\1\u0246\37\uffff\1\u0246",
+            "\1\u0247\37\uffff\1\u0247",
+            "\1\u0248\37\uffff\1\u0248",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0247\37\uffff\1\u0247",
+            "\1\u024a\37\uffff\1\u024a",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0249\37\uffff\1\u0249",
-            "\1\u024a\37\uffff\1\u024a",
+            "\1\u024c\37\uffff\1\u024c",
+            "\1\u024d\37\uffff\1\u024d",
             "",
-            "\1\u024b\37\uffff\1\u024b",
+            "\1\u024e\37\uffff\1\u024e",
             "",
-            "\1\u024c\37\uffff\1\u024c",
+            "\1\u024f\37\uffff\1\u024f",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u024e\37\uffff\1\u024e",
-            "\1\u024f\37\uffff\1\u024f",
-            "\1\u0250\37\uffff\1\u0250",
             "\1\u0251\37\uffff\1\u0251",
             "\1\u0252\37\uffff\1\u0252",
             "\1\u0253\37\uffff\1\u0253",
             "\1\u0254\37\uffff\1\u0254",
             "\1\u0255\37\uffff\1\u0255",
+            "\1\u0256\37\uffff\1\u0256",
+            "\1\u0257\37\uffff\1\u0257",
+            "\1\u0258\37\uffff\1\u0258",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0257\37\uffff\1\u0257",
-            "",
-            "\1\u0258\37\uffff\1\u0258",
-            "\1\u0259\37\uffff\1\u0259",
             "\1\u025a\37\uffff\1\u025a",
+            "",
             "\1\u025b\37\uffff\1\u025b",
             "\1\u025c\37\uffff\1\u025c",
             "\1\u025d\37\uffff\1\u025d",
             "\1\u025e\37\uffff\1\u025e",
-            "\1\u0261\10\uffff\1\u025f\26\uffff\1\u0261\10\uffff\1\u0260",
+            "\1\u025f\37\uffff\1\u025f",
+            "\1\u0260\37\uffff\1\u0260",
+            "\1\u0261\37\uffff\1\u0261",
+            "\1\u0264\10\uffff\1\u0262\26\uffff\1\u0264\10\uffff\1\u0263",
             "",
-            "\1\u0262\37\uffff\1\u0262",
-            "\1\u0263\37\uffff\1\u0263",
-            "\1\u0264\37\uffff\1\u0264",
             "\1\u0265\37\uffff\1\u0265",
             "\1\u0266\37\uffff\1\u0266",
             "\1\u0267\37\uffff\1\u0267",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u0268\37\uffff\1\u0268",
             "\1\u0269\37\uffff\1\u0269",
             "\1\u026a\37\uffff\1\u026a",
-            "\1\u026b\37\uffff\1\u026b",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
+            "\1\u026c\37\uffff\1\u026c",
             "\1\u026d\37\uffff\1\u026d",
             "\1\u026e\37\uffff\1\u026e",
-            "\1\u026f\37\uffff\1\u026f",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u0270\37\uffff\1\u0270",
             "\1\u0271\37\uffff\1\u0271",
-            "",
             "\1\u0272\37\uffff\1\u0272",
-            "",
             "\1\u0273\37\uffff\1\u0273",
             "\1\u0274\37\uffff\1\u0274",
+            "",
             "\1\u0275\37\uffff\1\u0275",
-            "\1\u0279\1\u0278\2\uffff\1\u0277\13\uffff\1\u0276\17\uffff"+
-            "\1\u0279\1\u0278\2\uffff\1\u0277\13\uffff\1\u0276",
             "",
-            "\1\u027a\37\uffff\1\u027a",
-            "\1\u027b\37\uffff\1\u027b",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u0276\37\uffff\1\u0276",
+            "\1\u0277\37\uffff\1\u0277",
+            "\1\u0278\37\uffff\1\u0278",
+            "\1\u027c\1\u027b\2\uffff\1\u027a\13\uffff\1\u0279\17\uffff"+
+            "\1\u027c\1\u027b\2\uffff\1\u027a\13\uffff\1\u0279",
+            "",
             "\1\u027d\37\uffff\1\u027d",
             "\1\u027e\37\uffff\1\u027e",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\u0280\37\uffff\1\u0280",
             "\1\u0281\37\uffff\1\u0281",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
+            "\1\u0283\37\uffff\1\u0283",
+            "\1\u0284\37\uffff\1\u0284",
             "",
-            "\1\u0282\37\uffff\1\u0282",
-            "\1\35\10\uffff\16\35\6\uffff\4\35\1\u0283\25\35\1\uffff\1\35"+
-            "\2\uffff\1\35\1\uffff\4\35\1\u0283\25\35",
             "\1\u0285\37\uffff\1\u0285",
-            "\1\u0286\37\uffff\1\u0286",
-            "\1\u0287\37\uffff\1\u0287",
+            "\1\35\10\uffff\16\35\6\uffff\4\35\1\u0286\25\35\1\uffff\1\35"+
+            "\2\uffff\1\35\1\uffff\4\35\1\u0286\25\35",
+            "\1\u0288\37\uffff\1\u0288",
+            "\1\u0289\37\uffff\1\u0289",
+            "\1\u028a\37\uffff\1\u028a",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0261\37\uffff\1\u0261",
-            "\1\u0261\37\uffff\1\u0261",
-            "\1\u028b\37\uffff\1\u028b",
-            "\1\u028c\37\uffff\1\u028c",
-            "\1\u028d\37\uffff\1\u028d",
+            "\1\u0264\37\uffff\1\u0264",
+            "\1\u0264\37\uffff\1\u0264",
             "\1\u028e\37\uffff\1\u028e",
             "\1\u028f\37\uffff\1\u028f",
             "\1\u0290\37\uffff\1\u0290",
             "\1\u0291\37\uffff\1\u0291",
-            "",
             "\1\u0292\37\uffff\1\u0292",
             "\1\u0293\37\uffff\1\u0293",
             "\1\u0294\37\uffff\1\u0294",
@@ -14415,33 +14486,37 @@ public class InputfileLexer extends Lexer {
             "\1\u0295\37\uffff\1\u0295",
             "\1\u0296\37\uffff\1\u0296",
             "\1\u0297\37\uffff\1\u0297",
+            "",
             "\1\u0298\37\uffff\1\u0298",
             "\1\u0299\37\uffff\1\u0299",
+            "\1\u029a\37\uffff\1\u029a",
+            "\1\u029b\37\uffff\1\u029b",
+            "\1\u029c\37\uffff\1\u029c",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u029d\37\uffff\1\u029d",
-            "\1\u029e\37\uffff\1\u029e",
-            "\1\u029f\37\uffff\1\u029f",
             "\1\u02a0\37\uffff\1\u02a0",
             "\1\u02a1\37\uffff\1\u02a1",
             "\1\u02a2\37\uffff\1\u02a2",
             "\1\u02a3\37\uffff\1\u02a3",
-            "",
             "\1\u02a4\37\uffff\1\u02a4",
             "\1\u02a5\37\uffff\1\u02a5",
-            "",
             "\1\u02a6\37\uffff\1\u02a6",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "",
+            "\1\u02a7\37\uffff\1\u02a7",
             "\1\u02a8\37\uffff\1\u02a8",
-            "\1\u02a9\37\uffff\1\u02a9",
             "",
-            "\1\u02aa\37\uffff\1\u02aa",
+            "\1\u02a9\37\uffff\1\u02a9",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u02ab\37\uffff\1\u02ab",
+            "\1\u02ac\37\uffff\1\u02ac",
+            "",
+            "\1\u02ad\37\uffff\1\u02ad",
+            "\1\u02ae\37\uffff\1\u02ae",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "",
@@ -14451,26 +14526,23 @@ public class InputfileLexer extends Lexer {
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u02af\37\uffff\1\u02af",
-            "\1\u02b0\37\uffff\1\u02b0",
-            "\1\u02b1\37\uffff\1\u02b1",
             "\1\u02b2\37\uffff\1\u02b2",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u02b3\37\uffff\1\u02b3",
             "\1\u02b4\37\uffff\1\u02b4",
             "\1\u02b5\37\uffff\1\u02b5",
-            "\1\u02b6\37\uffff\1\u02b6",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u02b7\37\uffff\1\u02b7",
             "\1\u02b8\37\uffff\1\u02b8",
             "\1\u02b9\37\uffff\1\u02b9",
             "\1\u02ba\37\uffff\1\u02ba",
             "\1\u02bb\37\uffff\1\u02bb",
-            "",
-            "",
-            "",
             "\1\u02bc\37\uffff\1\u02bc",
             "\1\u02bd\37\uffff\1\u02bd",
             "\1\u02be\37\uffff\1\u02be",
+            "",
+            "",
+            "",
             "\1\u02bf\37\uffff\1\u02bf",
             "\1\u02c0\37\uffff\1\u02c0",
             "\1\u02c1\37\uffff\1\u02c1",
@@ -14478,162 +14550,165 @@ public class InputfileLexer extends Lexer {
             "\1\u02c3\37\uffff\1\u02c3",
             "\1\u02c4\37\uffff\1\u02c4",
             "\1\u02c5\37\uffff\1\u02c5",
-            "",
             "\1\u02c6\37\uffff\1\u02c6",
             "\1\u02c7\37\uffff\1\u02c7",
             "\1\u02c8\37\uffff\1\u02c8",
+            "",
             "\1\u02c9\37\uffff\1\u02c9",
+            "\1\u02ca\37\uffff\1\u02ca",
+            "\1\u02cb\37\uffff\1\u02cb",
+            "\1\u02cc\37\uffff\1\u02cc",
             "",
             "",
             "",
-            "\1\u02ca\37\uffff\1\u02ca",
-            "\1\u02cb\37\uffff\1\u02cb",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
             "\1\u02cd\37\uffff\1\u02cd",
-            "",
             "\1\u02ce\37\uffff\1\u02ce",
-            "\1\u02cf\37\uffff\1\u02cf",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u02d0\37\uffff\1\u02d0",
+            "",
             "\1\u02d1\37\uffff\1\u02d1",
             "\1\u02d2\37\uffff\1\u02d2",
             "\1\u02d3\37\uffff\1\u02d3",
             "\1\u02d4\37\uffff\1\u02d4",
             "\1\u02d5\37\uffff\1\u02d5",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u02d6\37\uffff\1\u02d6",
             "\1\u02d7\37\uffff\1\u02d7",
             "\1\u02d8\37\uffff\1\u02d8",
-            "\1\u02d9\37\uffff\1\u02d9",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u02da\37\uffff\1\u02da",
             "\1\u02db\37\uffff\1\u02db",
             "\1\u02dc\37\uffff\1\u02dc",
             "\1\u02dd\37\uffff\1\u02dd",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u02de\37\uffff\1\u02de",
             "\1\u02df\37\uffff\1\u02df",
             "\1\u02e0\37\uffff\1\u02e0",
-            "\1\u02e1\37\uffff\1\u02e1",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u02e2\37\uffff\1\u02e2",
             "\1\u02e3\37\uffff\1\u02e3",
             "\1\u02e4\37\uffff\1\u02e4",
             "\1\u02e5\37\uffff\1\u02e5",
+            "\1\u02e6\37\uffff\1\u02e6",
+            "\1\u02e7\37\uffff\1\u02e7",
+            "\1\u02e8\37\uffff\1\u02e8",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u02e7\37\uffff\1\u02e7",
-            "\1\u02e8\37\uffff\1\u02e8",
-            "\1\u02e9\37\uffff\1\u02e9",
             "\1\u02ea\37\uffff\1\u02ea",
             "\1\u02eb\37\uffff\1\u02eb",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u02ec\37\uffff\1\u02ec",
             "\1\u02ed\37\uffff\1\u02ed",
             "\1\u02ee\37\uffff\1\u02ee",
-            "",
-            "\1\u02ef\37\uffff\1\u02ef",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u02f0\37\uffff\1\u02f0",
             "\1\u02f1\37\uffff\1\u02f1",
+            "",
             "\1\u02f2\37\uffff\1\u02f2",
             "\1\u02f3\37\uffff\1\u02f3",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
+            "\1\u02f4\37\uffff\1\u02f4",
             "\1\u02f5\37\uffff\1\u02f5",
-            "",
+            "\1\u02f6\37\uffff\1\u02f6",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
+            "\1\u02f8\37\uffff\1\u02f8",
+            "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u02f8\37\uffff\1\u02f8",
-            "\1\u02f9\37\uffff\1\u02f9",
-            "\1\u02fa\37\uffff\1\u02fa",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
+            "\1\u02fb\37\uffff\1\u02fb",
             "\1\u02fc\37\uffff\1\u02fc",
-            "",
             "\1\u02fd\37\uffff\1\u02fd",
-            "\1\u02fe\37\uffff\1\u02fe",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
+            "\1\u02ff\37\uffff\1\u02ff",
+            "",
             "\1\u0300\37\uffff\1\u0300",
             "\1\u0301\37\uffff\1\u0301",
-            "",
-            "\1\u0302\37\uffff\1\u0302",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
             "\1\u0303\37\uffff\1\u0303",
             "\1\u0304\37\uffff\1\u0304",
+            "",
             "\1\u0305\37\uffff\1\u0305",
             "\1\u0306\37\uffff\1\u0306",
             "\1\u0307\37\uffff\1\u0307",
+            "\1\u0308\37\uffff\1\u0308",
+            "\1\u0309\37\uffff\1\u0309",
+            "\1\u030a\37\uffff\1\u030a",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "",
-            "\1\u0309\37\uffff\1\u0309",
+            "\1\u030c\37\uffff\1\u030c",
             "",
             "",
-            "\1\u030a\37\uffff\1\u030a",
-            "\1\u030b\37\uffff\1\u030b",
-            "\1\u030c\37\uffff\1\u030c",
+            "\1\u030d\37\uffff\1\u030d",
+            "\1\u030e\37\uffff\1\u030e",
+            "\1\u030f\37\uffff\1\u030f",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0310\7\uffff\1\u030f\6\uffff\1\u030e\20\uffff\1\u0310\7"+
-            "\uffff\1\u030f\6\uffff\1\u030e",
-            "\1\u0311\37\uffff\1\u0311",
+            "\1\u0313\7\uffff\1\u0312\6\uffff\1\u0311\20\uffff\1\u0313\7"+
+            "\uffff\1\u0312\6\uffff\1\u0311",
+            "\1\u0314\37\uffff\1\u0314",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0314\37\uffff\1\u0314",
-            "\1\u0315\37\uffff\1\u0315",
-            "\1\u0316\37\uffff\1\u0316",
             "\1\u0317\37\uffff\1\u0317",
             "\1\u0318\37\uffff\1\u0318",
             "\1\u0319\37\uffff\1\u0319",
+            "\1\u031a\37\uffff\1\u031a",
+            "\1\u031b\37\uffff\1\u031b",
+            "\1\u031c\37\uffff\1\u031c",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u031b\37\uffff\1\u031b",
+            "\1\u031e\37\uffff\1\u031e",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u031d\37\uffff\1\u031d",
-            "",
-            "\1\u031e\37\uffff\1\u031e",
-            "\1\u031f\37\uffff\1\u031f",
             "\1\u0320\37\uffff\1\u0320",
+            "",
+            "\1\u0321\37\uffff\1\u0321",
+            "\1\u0322\37\uffff\1\u0322",
+            "\1\u0323\37\uffff\1\u0323",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0323\37\uffff\1\u0323",
-            "\1\u0324\37\uffff\1\u0324",
-            "\1\u0325\37\uffff\1\u0325",
             "\1\u0326\37\uffff\1\u0326",
+            "\1\u0327\37\uffff\1\u0327",
+            "\1\u0328\37\uffff\1\u0328",
+            "\1\u0329\37\uffff\1\u0329",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "",
-            "\1\u0328\37\uffff\1\u0328",
-            "",
-            "\1\u0329\37\uffff\1\u0329",
-            "\1\u032a\37\uffff\1\u032a",
             "\1\u032b\37\uffff\1\u032b",
-            "\1\u032c\37\uffff\1\u032c",
-            "",
             "",
+            "\1\u032c\37\uffff\1\u032c",
             "\1\u032d\37\uffff\1\u032d",
             "\1\u032e\37\uffff\1\u032e",
             "\1\u032f\37\uffff\1\u032f",
-            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
-            "\1\uffff\32\35",
             "",
+            "",
+            "\1\u0330\37\uffff\1\u0330",
             "\1\u0331\37\uffff\1\u0331",
             "\1\u0332\37\uffff\1\u0332",
-            "\1\u0333\37\uffff\1\u0333",
+            "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
+            "\1\uffff\32\35",
+            "",
             "\1\u0334\37\uffff\1\u0334",
             "\1\u0335\37\uffff\1\u0335",
             "\1\u0336\37\uffff\1\u0336",
+            "\1\u0337\37\uffff\1\u0337",
+            "\1\u0338\37\uffff\1\u0338",
+            "\1\u0339\37\uffff\1\u0339",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
@@ -14641,11 +14716,11 @@ public class InputfileLexer extends Lexer {
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u033a\37\uffff\1\u033a",
+            "\1\u033d\37\uffff\1\u033d",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u033c\37\uffff\1\u033c",
-            "\1\u033d\37\uffff\1\u033d",
+            "\1\u033f\37\uffff\1\u033f",
+            "\1\u0340\37\uffff\1\u0340",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "",
@@ -14654,15 +14729,15 @@ public class InputfileLexer extends Lexer {
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
             "",
-            "\1\u0340\37\uffff\1\u0340",
-            "\1\u0341\37\uffff\1\u0341",
+            "\1\u0343\37\uffff\1\u0343",
+            "\1\u0344\37\uffff\1\u0344",
             "",
             "",
-            "\1\u0342\37\uffff\1\u0342",
-            "\1\u0343\37\uffff\1\u0343",
+            "\1\u0345\37\uffff\1\u0345",
+            "\1\u0346\37\uffff\1\u0346",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
-            "\1\u0345\37\uffff\1\u0345",
+            "\1\u0348\37\uffff\1\u0348",
             "",
             "\1\35\10\uffff\16\35\6\uffff\32\35\1\uffff\1\35\2\uffff\1\35"+
             "\1\uffff\32\35",
@@ -14699,7 +14774,7 @@ public class InputfileLexer extends Lexer {
             this.transition = DFA20_transition;
         }
         public String getDescription() {
-            return "1:1: Tokens : ( CRYSTAL | TYPE | DIFFRACTIONDECAYMODEL | DDM | SIMPLE | LINEAR | LEAL | DECAYPARAM | ABSCOEFCALC | DUMMY | DEFAULT | AVERAGE | RDFORTAN | RDJAVA | PDB | SAXS | SEQUENCE | SAXSSEQ | SMALLMOLE | CIF | DIMENSION | ANGLEP | ANGLEL | PIXELSPERMICRON | UNITCELL | SURROUNDINGTHICKNESS | PROTEINCONC | PROTEINCONCENTRATION | NUMMONOMERS | NUMRESIDUES | NUMRNA | NUMDNA | NUMCARB | PROTEINHEAVYATOMS | ELEMENT | SMALLMOLEATOMS | SOLVENTHEAVYCONC | SOLVENTFRACTION | PDBNAME | CIFNAME | WIREFRAMETYPE | MODELFILE | CALCULATEPEESCAPE | GONIOMETERAXIS | POLARISATIONDIRECTION | CONTAINERMATERIALTYPE | MATERIALTYPE | NONE | MIXTURE | ELEMENTAL | CONTAINERTHICKNESS | CONTAINERMATERIALMIXTURE | MATERIALMIXTURE | CONTAINERMATERIALELEMENTS | MATERIALELEMENTS | CONTAINERDENSITY | SEQUENCEFILE | SEQFILE | CALCULATEFLESCAPE | FLRESOLUTION | PERESOLUTION | SURROUNDINGHEAVYCONC | DENSITYBASED | CALCSURROUNDING | SURROUNDINGELEMENTS | SURROUNDINGDENSITY | SIMELECTRONS | SIMPHOTONS | SUBPROGRAM | RUNS | BEAM | FLUX | EXPOSURE | IMAGEDIM | FWHM | ENERGY | KEV | PULSEENERGY | SEMIANGLE | APERTURERADIUS | FILE | PIXELSIZE | ENERGYFWHM | COLLIMATION | RECTANGULAR | CIRCULAR | HORIZONTAL | VERTICAL | WEDGE | EXPOSURETIME | ANGULARRESOLUTION | STARTOFFSET | TRANSLATEPERDEGREE | ROTAXBEAMOFFSET | MAXRESOLUTION | FLOAT | COMMENT | WS | STRING );";
+            return "1:1: Tokens : ( CRYSTAL | TYPE | DIFFRACTIONDECAYMODEL | DDM | SIMPLE | LINEAR | LEAL | DECAYPARAM | ABSCOEFCALC | DUMMY | DEFAULT | AVERAGE | RDFORTAN | RDJAVA | PDB | SAXS | SEQUENCE | SAXSSEQ | SMALLMOLE | CIF | DIMENSION | ANGLEP | ANGLEL | PIXELSPERMICRON | UNITCELL | SURROUNDINGTHICKNESS | PROTEINCONC | PROTEINCONCENTRATION | NUMMONOMERS | NUMRESIDUES | NUMRNA | NUMDNA | NUMCARB | PROTEINHEAVYATOMS | ELEMENT | SMALLMOLEATOMS | SOLVENTHEAVYCONC | SOLVENTFRACTION | PDBNAME | CIFNAME | WIREFRAMETYPE | MODELFILE | CALCULATEPEESCAPE | GONIOMETERAXIS | POLARISATIONDIRECTION | CONTAINERMATERIALTYPE | MATERIALTYPE | NONE | MIXTURE | ELEMENTAL | CONTAINERTHICKNESS | CONTAINERMATERIALMIXTURE | MATERIALMIXTURE | CONTAINERMATERIALELEMENTS | MATERIALELEMENTS | CONTAINERDENSITY | SEQUENCEFILE | SEQFILE | CALCULATEFLESCAPE | FLRESOLUTION | PERESOLUTION | SURROUNDINGHEAVYCONC | DENSITYBASED | CALCSURROUNDING | SURROUNDINGELEMENTS | SURROUNDINGDENSITY | SIMELECTRONS | SIMPHOTONS | SUBPROGRAM | RUNS | SEED | BEAM | FLUX | EXPOSURE | IMAGEDIM | FWHM | ENERGY | KEV | PULSEENERGY | SEMIANGLE | APERTURERADIUS | FILE | PIXELSIZE | ENERGYFWHM | COLLIMATION | RECTANGULAR | CIRCULAR | HORIZONTAL | VERTICAL | WEDGE | EXPOSURETIME | ANGULARRESOLUTION | STARTOFFSET | TRANSLATEPERDEGREE | ROTAXBEAMOFFSET | MAXRESOLUTION | FLOAT | COMMENT | WS | STRING );";
         }
         public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
             IntStream input = _input;
@@ -14709,7 +14784,7 @@ public class InputfileLexer extends Lexer {
                         int LA20_88 = input.LA(1);
 
                         s = -1;
-                        if ( (LA20_88=='$'||(LA20_88 >= '-' && LA20_88 <= ':')||(LA20_88 >= 'A' && LA20_88 <= 'Z')||LA20_88=='\\'||LA20_88=='_'||(LA20_88 >= 'a' && LA20_88 <= 'z')) ) {s = 156;}
+                        if ( (LA20_88=='$'||(LA20_88 >= '-' && LA20_88 <= ':')||(LA20_88 >= 'A' && LA20_88 <= 'Z')||LA20_88=='\\'||LA20_88=='_'||(LA20_88 >= 'a' && LA20_88 <= 'z')) ) {s = 157;}
 
                         else if ( ((LA20_88 >= '\u0000' && LA20_88 <= '#')||(LA20_88 >= '%' && LA20_88 <= ',')||(LA20_88 >= ';' && LA20_88 <= '@')||LA20_88=='['||(LA20_88 >= ']' && LA20_88 <= '^')||LA20_88=='`'||(LA20_88 >= '{' && LA20_88 <= '\uFFFF')) ) {s = 25;}
 
@@ -14719,12 +14794,12 @@ public class InputfileLexer extends Lexer {
                         break;
 
                     case 1 : 
-                        int LA20_156 = input.LA(1);
+                        int LA20_157 = input.LA(1);
 
                         s = -1;
-                        if ( ((LA20_156 >= '\u0000' && LA20_156 <= '#')||(LA20_156 >= '%' && LA20_156 <= ',')||(LA20_156 >= ';' && LA20_156 <= '@')||LA20_156=='['||(LA20_156 >= ']' && LA20_156 <= '^')||LA20_156=='`'||(LA20_156 >= '{' && LA20_156 <= '\uFFFF')) ) {s = 25;}
+                        if ( ((LA20_157 >= '\u0000' && LA20_157 <= '#')||(LA20_157 >= '%' && LA20_157 <= ',')||(LA20_157 >= ';' && LA20_157 <= '@')||LA20_157=='['||(LA20_157 >= ']' && LA20_157 <= '^')||LA20_157=='`'||(LA20_157 >= '{' && LA20_157 <= '\uFFFF')) ) {s = 25;}
 
-                        else if ( (LA20_156=='$'||(LA20_156 >= '-' && LA20_156 <= ':')||(LA20_156 >= 'A' && LA20_156 <= 'Z')||LA20_156=='\\'||LA20_156=='_'||(LA20_156 >= 'a' && LA20_156 <= 'z')) ) {s = 156;}
+                        else if ( (LA20_157=='$'||(LA20_157 >= '-' && LA20_157 <= ':')||(LA20_157 >= 'A' && LA20_157 <= 'Z')||LA20_157=='\\'||LA20_157=='_'||(LA20_157 >= 'a' && LA20_157 <= 'z')) ) {s = 157;}
 
                         else s = 29;
 
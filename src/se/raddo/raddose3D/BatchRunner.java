@@ -0,0 +1,283 @@
+package se.raddo.raddose3D;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * BatchRunner runs many experiments concurrently on a pool of worker threads
+ * within one JVM, so that the element and residue databases, the constants
+ * tables and the compiled code are shared between all of them.
+ * <p>
+ * A batch is either a directory, in which case every .txt file in it is one
+ * experiment, or a manifest file listing one input file per line, optionally
+ * followed by the output prefix for that experiment. Empty lines and lines
+ * starting with # are ignored. Relative paths in a manifest are resolved
+ * against the directory of the manifest.
+ * <p>
+ * The SummaryCSV output of all experiments is collected and written as one
+ * consolidated table, in batch order, once all experiments have finished.
+ */
+public class BatchRunner {
+  /** File extension of input files picked up from a batch directory. */
+  private static final String INPUT_EXTENSION = ".txt";
+
+  /** Start of every header line of the SummaryCSV output. */
+  private static final String SUMMARY_HEADER  = "Wedge Number";
+
+  /** Creates the threads of all batches. */
+  private static final ThreadFactory WORKERS =
+      new NamedThreadFactory("RADDOSE-3D batch ");
+
+  /** Experiments of this batch. */
+  private final List<Job>     jobs;
+
+  /** Number of experiments run at the same time. */
+  private final int           workers;
+
+  /**
+   * A single experiment of a batch.
+   */
+  public static final class Job {
+    /** Input file of the experiment. */
+    private final String input;
+    /** Common prefix for output files of the experiment. */
+    private final String prefix;
+
+    /**
+     * Describe an experiment of a batch.
+     *
+     * @param inputFile
+     *          input file of the experiment
+     * @param outputPrefix
+     *          common prefix for output files of the experiment
+     */
+    public Job(final String inputFile, final String outputPrefix) {
+      input = inputFile;
+      prefix = outputPrefix;
+    }
+
+    /**
+     * @return
+     *         input file of the experiment
+     */
+    public String getInput() {
+      return input;
+    }
+
+    /**
+     * @return
+     *         common prefix for output files of the experiment
+     */
+    public String getPrefix() {
+      return prefix;
+    }
+  }
+
+  /**
+   * Runs a single experiment of a batch. Called concurrently on the worker
+   * threads.
+   */
+  public interface Runner {
+    /**
+     * Run an experiment to completion.
+     *
+     * @param job
+     *          the experiment
+     * @param summary
+     *          Writer receiving the SummaryCSV output of the experiment
+     * @throws Exception
+     *           the experiment failed. Other experiments are not affected.
+     */
+    void run(Job job, Writer summary) throws Exception;
+  }
+
+  /**
+   * Prepare a batch of experiments.
+   *
+   * @param batchJobs
+   *          experiments in batch order
+   * @param workerCount
+   *          number of experiments run at the same time, at least 1
+   */
+  public BatchRunner(final List<Job> batchJobs, final int workerCount) {
+    if (workerCount < 1) {
+      throw new IllegalArgumentException(
+          "Number of batch workers must be at least 1");
+    }
+    jobs = new ArrayList<Job>(batchJobs);
+    workers = workerCount;
+  }
+
+  /**
+   * Returns the experiments of this batch.
+   *
+   * @return
+   *         experiments in batch order
+   */
+  public List<Job> getJobs() {
+    return new ArrayList<Job>(jobs);
+  }
+
+  /**
+   * Read the experiments of a batch from a directory or a manifest file.
+   *
+   * @param path
+   *          batch directory or manifest file
+   * @param prefix
+   *          common prefix for output files. Experiments without an explicit
+   *          prefix write to this prefix followed by the name of the input
+   *          file without extension and a dash.
+   * @return
+   *         experiments in batch order
+   * @throws IOException
+   *           the batch directory or manifest could not be read
+   */
+  public static List<Job> readJobs(final String path, final String prefix)
+      throws IOException {
+    File batch = new File(path);
+    List<Job> result = new ArrayList<Job>();
+
+    if (batch.isDirectory()) {
+      File[] files = batch.listFiles();
+      if (files == null) {
+        throw new IOException("Could not list batch directory " + path);
+      }
+      Arrays.sort(files);
+      for (File f : files) {
+        if (f.isFile() && f.getName().endsWith(INPUT_EXTENSION)) {
+          result.add(new Job(f.getPath(), defaultPrefix(prefix, f)));
+        }
+      }
+      return result;
+    }
+
+    BufferedReader in = new BufferedReader(new InputStreamReader(
+        new FileInputStream(batch), "UTF-8"));
+    try {
+      String line;
+      while ((line = in.readLine()) != null) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        String[] fields = line.split("\\s+");
+        File input = new File(fields[0]);
+        if (!input.isAbsolute()) {
+          input = new File(batch.getAbsoluteFile().getParentFile(), fields[0]);
+        }
+        String jobPrefix;
+        if (fields.length > 1) {
+          jobPrefix = prefix + fields[1];
+        } else {
+          jobPrefix = defaultPrefix(prefix, input);
+        }
+        result.add(new Job(input.getPath(), jobPrefix));
+      }
+    } finally {
+      in.close();
+    }
+    return result;
+  }
+
+  /**
+   * Derive the output prefix of an experiment from its input file.
+   *
+   * @param prefix
+   *          common prefix for output files
+   * @param input
+   *          input file of the experiment
+   * @return
+   *         output prefix of the experiment
+   */
+  private static String defaultPrefix(final String prefix, final File input) {
+    String name = input.getName();
+    int dot = name.lastIndexOf('.');
+    if (dot > 0) {
+      name = name.substring(0, dot);
+    }
+    return prefix + name + "-";
+  }
+
+  /**
+   * Run all experiments of the batch and write the consolidated summary.
+   * Failed experiments are reported and left out of the summary.
+   *
+   * @param runner
+   *          runs a single experiment
+   * @param summary
+   *          Writer receiving the consolidated summary. It is closed
+   *          afterwards.
+   * @return
+   *         number of experiments that failed
+   */
+  public int run(final Runner runner, final Writer summary) {
+    ExecutorService pool = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(workers, jobs.size())),
+        WORKERS);
+    List<Future<WriterString>> results =
+        new ArrayList<Future<WriterString>>();
+    try {
+      for (final Job job : jobs) {
+        results.add(pool.submit(new Callable<WriterString>() {
+          @Override
+          public WriterString call() throws Exception {
+            WriterString jobSummary = new WriterString();
+            runner.run(job, jobSummary);
+            return jobSummary;
+          }
+        }));
+      }
+
+      int failed = 0;
+      String written = null;
+      for (int i = 0; i < jobs.size(); i++) {
+        String input = jobs.get(i).getInput();
+        String[] lines;
+        try {
+          lines = results.get(i).get().getDataString().split("\r?\n");
+        } catch (ExecutionException e) {
+          failed++;
+          System.err.println("Batch experiment " + input + " failed: "
+              + e.getCause());
+          continue;
+        }
+        // Subprogram results come with headers of their own. A header is
+        // only repeated if the columns change and rows follow.
+        String header = null;
+        for (String line : lines) {
+          if (line.isEmpty()) {
+            continue;
+          }
+          if (line.startsWith(SUMMARY_HEADER)) {
+            header = line;
+            continue;
+          }
+          if (header != null && !header.equals(written)) {
+            summary.write("Input File, " + header + "\n");
+            written = header;
+          }
+          summary.write(input + ", " + line + "\n");
+        }
+      }
+      return failed;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Batch was interrupted", e);
+    } finally {
+      pool.shutdownNow();
+      summary.close();
+    }
+  }
+}
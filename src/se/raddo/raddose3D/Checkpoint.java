@@ -0,0 +1,1172 @@
+package se.raddo.raddose3D;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A Checkpoint periodically saves the state of a running experiment, so that
+ * an interrupted run, eg. one killed by a node preemption, can be resumed
+ * where it left off instead of starting from zero.
+ * <p>
+ * Snapshots are taken after a wedge and after every batch of a simulation
+ * subprogram, at most once per interval. A snapshot holds the number of
+ * completed wedges, the length of every tracked output file, the counters of
+ * every output and the state of the current crystal: its dose, fluence and
+ * elastic grids, voxImageDoseLast, the escape accumulators, the
+ * {@link ExposureSummary} and the {@link RandomStream} states. It is written
+ * as a compressed binary file under a temporary name and then moved into
+ * place, so that an interruption while saving leaves the previous snapshot
+ * intact.
+ * <p>
+ * State is captured by reflection. All instance fields holding numbers,
+ * strings, elements, arrays, lists or maps of these are saved, and the
+ * ExposureSummary and RandomStream objects of the crystal are restored in
+ * place. References to other objects, such as the absorption coefficient
+ * calculator or the beam, are not saved, as they are recreated from the
+ * input.
+ * <p>
+ * Output files are opened by the checkpoint. On resume the input is processed
+ * again from the start. The output files of the interrupted run are cut back
+ * to their saved length and continued, and completed wedges are skipped
+ * without exposing the crystal or writing to the files. After the last
+ * completed wedge the saved state is restored and the run continues. A
+ * snapshot is only used with the same input text, outputs and program
+ * version.
+ * <p>
+ * Simulations run by {@link ParallelSimulation} report their merged tallies
+ * after every batch. A snapshot taken there holds the state at the start of
+ * the wedge, the number of the simulation within the wedge, the number of
+ * merged batches and the tallies. On resume the wedge is exposed again, and
+ * the interrupted simulation continues after its last merged batch. The
+ * subprograms draw from substreams of the crystal's random number streams,
+ * which are part of the snapshot, so a resumed run gives the same results as
+ * an uninterrupted one. Earlier simulations of the same wedge, eg. earlier
+ * runs of a subprogram, are simulated again.
+ */
+public final class Checkpoint {
+  /** Default interval between snapshots in milliseconds. */
+  public static final long    DEFAULT_INTERVAL = 10 * 60 * 1000L;
+
+  /** Version of the file format. */
+  private static final int    FORMAT_VERSION   = 2;
+
+  /** Identifies a checkpoint file, "RD3DCHK" followed by the version. */
+  private static final long   MAGIC            = 0x5244334443484B00L
+                                                   | FORMAT_VERSION;
+
+  /** Value tags of the state encoding. */
+  private static final byte   NULL = 0, BOOLEAN = 1, INT = 2, LONG = 3,
+      DOUBLE = 4, FLOAT = 5, STRING = 6, DOUBLES = 7, INTS = 8, LONGS = 9,
+      BOOLEANS = 10, FLOATS = 11, ARRAY = 12, LIST = 13, MAP = 14, STATE = 15,
+      ELEMENT = 16;
+
+  /** File holding the snapshot. */
+  private final File          file;
+
+  /** Minimum time between snapshots in milliseconds. */
+  private final long          interval;
+
+  /** Files whose length is part of the snapshot, in order of creation. */
+  private final List<TrackedFile> files = new ArrayList<TrackedFile>();
+
+  /** Receives the merged tallies of the simulations of a wedge. */
+  private final ParallelSimulation.Progress progress =
+      new SimulationProgress();
+
+  /** Identifies input and outputs, or null if snapshots are disabled. */
+  private String              fingerprint;
+
+  /** Number of wedges completed, including skipped ones. */
+  private int                 wedges;
+
+  /** Time of the last snapshot, or of the start of the run. */
+  private long                lastSave;
+
+  /**
+   * Outputs and crystal at the start of the current wedge, if it runs a
+   * simulation subprogram, otherwise null.
+   */
+  private byte[]              wedgeState;
+
+  /** Number of simulations started in the current wedge. */
+  private int                 simulations;
+
+  /** Number of histories of the current simulation. */
+  private long                histories;
+
+  /** Number of wedges to skip on resume. */
+  private int                 resumeWedges;
+
+  /** Saved outputs and crystal, until they are restored. */
+  private byte[]              resumeState;
+
+  /**
+   * Number of the interrupted simulation within the wedge after the skipped
+   * ones, or 0 if the snapshot was taken after a wedge.
+   */
+  private int                 resumeSimulation;
+
+  /** Number of batches merged by the interrupted simulation. */
+  private int                 resumeBatches;
+
+  /** Number of histories of the interrupted simulation. */
+  private long                resumeHistories;
+
+  /** Merged tallies of the interrupted simulation, until restored. */
+  private byte[]              resumeTallies;
+
+  /**
+   * Create a checkpoint.
+   *
+   * @param file
+   *          file holding the snapshot
+   * @param interval
+   *          minimum time between snapshots in milliseconds, 0 to save after
+   *          every wedge and simulation batch
+   */
+  public Checkpoint(final File file, final long interval) {
+    this.file = file;
+    this.interval = interval;
+  }
+
+  /**
+   * @return
+   *         file holding the snapshot
+   */
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * @return
+   *         number of wedges completed so far, including those completed
+   *         before the run was resumed
+   */
+  public int getCompletedWedges() {
+    return wedges;
+  }
+
+  /**
+   * Create a writer for an output file whose length becomes part of the
+   * snapshot. The file is opened by open(), which continues the file of an
+   * interrupted run on resume. All files must be tracked in the same order
+   * when a run is resumed.
+   *
+   * @param filename
+   *          name of the file, may include absolute or relative path
+   * @param async
+   *          write the file through a background thread, see
+   *          {@link WriterFileAsync}
+   * @return
+   *         writer to pass to the output
+   */
+  public Writer track(final String filename, final boolean async) {
+    TrackedFile t = new TrackedFile(filename, async);
+    files.add(t);
+    return t;
+  }
+
+  /**
+   * Calculate the fingerprint of an experiment, which must match for a
+   * snapshot to be resumed.
+   *
+   * @param inputs
+   *          inputs of the experiment
+   * @param outputs
+   *          outputs of the experiment, in order
+   * @return
+   *         SHA-256 hash of the version, input text and output types, or
+   *         null if an input does not provide its text
+   */
+  public static String getFingerprint(final List<Input> inputs,
+      final List<Output> outputs) {
+    StringBuilder description = new StringBuilder(Version.VERSION_STRING);
+    for (Input i : inputs) {
+      if (!(i instanceof InputParser)) {
+        return null;
+      }
+      String text = ((InputParser) i).getInputText();
+      description.append('\n').append(text.length()).append(':')
+          .append(text);
+    }
+    for (Output o : outputs) {
+      description.append('\n').append(o.getClass().getName());
+    }
+    return ResultCache.sha256(description.toString()
+        .getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Start a run, resuming from the snapshot if requested and possible, and
+   * open the tracked files.
+   *
+   * @param experiment
+   *          fingerprint calculated by getFingerprint(), or null to disable
+   *          snapshots
+   * @param resume
+   *          true to resume from an existing snapshot
+   * @return
+   *         true if the run is resumed, false if it starts from zero
+   */
+  public boolean open(final String experiment, final boolean resume) {
+    fingerprint = experiment;
+    wedges = 0;
+    wedgeState = null;
+    lastSave = System.currentTimeMillis();
+    boolean resumed = false;
+    if (fingerprint == null) {
+      System.err.println("Checkpoint: Input cannot be checkpointed");
+    } else if (resume && file.isFile()) {
+      resumed = read();
+    }
+    if (!resumed) {
+      resumeWedges = 0;
+      resumeState = null;
+      resumeSimulation = 0;
+      resumeTallies = null;
+    }
+
+    for (TrackedFile t : files) {
+      t.open(resumed);
+    }
+    if (resumed) {
+      System.out.println("Resuming from " + file + " after wedge "
+          + resumeWedges);
+    }
+    return resumed;
+  }
+
+  /**
+   * Read the snapshot and check that the tracked files can be continued.
+   *
+   * @return
+   *         true if the run can be resumed
+   */
+  private boolean read() {
+    try {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(
+          new InflaterInputStream(new FileInputStream(file))));
+      try {
+        if (in.readLong() != MAGIC || !fingerprint.equals(in.readUTF())) {
+          System.err.println("Checkpoint: " + file + " belongs to a different"
+              + " experiment, starting from zero");
+          return false;
+        }
+        int completed = in.readInt();
+        if (in.readInt() != files.size()) {
+          System.err.println("Checkpoint: " + file + " has a different number"
+              + " of output files, starting from zero");
+          return false;
+        }
+        for (TrackedFile t : files) {
+          String name = in.readUTF();
+          long length = in.readLong();
+          if (!t.name.equals(name) || !t.canContinue(length)) {
+            System.err.println("Checkpoint: " + t.name + " does not continue"
+                + " " + file + ", starting from zero");
+            return false;
+          }
+          t.length = length;
+        }
+        resumeState = readBytes(in);
+        resumeSimulation = in.readInt();
+        if (resumeSimulation > 0) {
+          resumeBatches = in.readInt();
+          resumeHistories = in.readLong();
+          resumeTallies = readBytes(in);
+        }
+        resumeWedges = completed;
+      } finally {
+        in.close();
+      }
+    } catch (IOException e) {
+      System.err.println("Checkpoint: Could not read " + file
+          + ", starting from zero: " + e.getMessage());
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the Progress to set for the simulations of a wedge, see
+   * {@link ParallelSimulation#setProgress(ParallelSimulation.Progress)}.
+   *
+   * @return
+   *         progress of the simulations
+   */
+  ParallelSimulation.Progress getProgress() {
+    return progress;
+  }
+
+  /**
+   * Called by the experiment before a wedge is exposed. Skips the wedge if it
+   * was completed before the run was resumed. The saved state is restored
+   * after the last of these, or before the wedge that was interrupted during
+   * a simulation.
+   *
+   * @param crystal
+   *          current crystal
+   * @param outputs
+   *          outputs of the experiment, in order
+   * @return
+   *         true if the wedge must not be exposed
+   */
+  boolean skipWedge(final Crystal crystal, final List<Output> outputs) {
+    if (wedges < resumeWedges) {
+      wedges++;
+      if (wedges == resumeWedges && resumeSimulation == 0) {
+        restore(crystal, outputs);
+      }
+      return true;
+    }
+    if (resumeState != null) {
+      restore(crystal, outputs);
+    }
+
+    simulations = 0;
+    wedgeState = null;
+    if (fingerprint != null && !"RD3D".equals(crystal.subprogram)) {
+      try {
+        wedgeState = capture(crystal, outputs);
+      } catch (IOException e) {
+        System.err.println("Checkpoint: Could not save the state of wedge "
+            + (wedges + 1) + ": " + e.getMessage());
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Called by the experiment after a wedge has been exposed and published.
+   * Saves a snapshot if the interval has passed since the last one.
+   *
+   * @param crystal
+   *          current crystal
+   * @param outputs
+   *          outputs of the experiment, in order
+   */
+  void wedgeComplete(final Crystal crystal, final List<Output> outputs) {
+    wedges++;
+    wedgeState = null;
+    if (fingerprint == null
+        || System.currentTimeMillis() - lastSave < interval) {
+      return;
+    }
+    try {
+      save(capture(crystal, outputs), null, 0);
+    } catch (IOException e) {
+      System.err.println("Checkpoint: Could not write " + file + ": "
+          + e.getMessage());
+    }
+    lastSave = System.currentTimeMillis();
+  }
+
+  /**
+   * Remove the snapshot, eg. after the run has finished, together with
+   * temporary files left by a run killed while saving.
+   */
+  public void delete() {
+    if (file.exists() && !file.delete()) {
+      System.err.println("Checkpoint: Could not delete " + file);
+    }
+    File[] leftovers = file.getAbsoluteFile().getParentFile().listFiles(
+        new FilenameFilter() {
+          @Override
+          public boolean accept(final File dir, final String name) {
+            return name.startsWith(file.getName()) && name.endsWith(".tmp");
+          }
+        });
+    if (leftovers != null) {
+      for (File f : leftovers) {
+        if (!f.delete()) {
+          System.err.println("Checkpoint: Could not delete " + f);
+        }
+      }
+    }
+  }
+
+  /**
+   * Encode the state of the outputs and the crystal.
+   *
+   * @param crystal
+   *          current crystal
+   * @param outputs
+   *          outputs of the experiment, in order
+   * @return
+   *         encoded state
+   * @throws IOException
+   *           The state could not be encoded.
+   */
+  private static byte[] capture(final Crystal crystal,
+      final List<Output> outputs) throws IOException {
+    ByteArrayOutputStream state = new ByteArrayOutputStream();
+    DataOutputStream s = new DataOutputStream(state);
+    s.writeInt(outputs.size());
+    for (Output o : outputs) {
+      s.writeUTF(o.getClass().getName());
+      writeFields(s, o, false);
+    }
+    s.writeUTF(crystal.getClass().getName());
+    writeFields(s, crystal, true);
+    s.close();
+    return state.toByteArray();
+  }
+
+  /**
+   * Write a snapshot of the experiment after the completed wedges, or within
+   * the current wedge.
+   *
+   * @param state
+   *          outputs and crystal, encoded by capture(), after the completed
+   *          wedges
+   * @param tallies
+   *          merged tallies of the current simulation, or null if the
+   *          snapshot is taken after a wedge
+   * @param batches
+   *          number of batches merged into the tallies
+   * @throws IOException
+   *           The file could not be written.
+   */
+  private void save(final byte[] state, final Object tallies,
+      final int batches) throws IOException {
+    // The saved lengths must be on disk when the snapshot is.
+    for (TrackedFile t : files) {
+      t.flush();
+    }
+
+    File dir = file.getAbsoluteFile().getParentFile();
+    File tmp = File.createTempFile(file.getName(), ".tmp", dir);
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          new DeflaterOutputStream(new FileOutputStream(tmp), deflater)));
+      try {
+        out.writeLong(MAGIC);
+        out.writeUTF(fingerprint);
+        out.writeInt(wedges);
+        out.writeInt(files.size());
+        for (TrackedFile t : files) {
+          out.writeUTF(t.name);
+          out.writeLong(t.length);
+        }
+        out.writeInt(state.length);
+        out.write(state);
+        if (tallies == null) {
+          out.writeInt(0);
+        } else {
+          ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+          DataOutputStream t = new DataOutputStream(encoded);
+          t.writeUTF(tallies.getClass().getName());
+          writeFields(t, tallies, false);
+          t.close();
+          out.writeInt(simulations);
+          out.writeInt(batches);
+          out.writeLong(histories);
+          out.writeInt(encoded.size());
+          encoded.writeTo(out);
+        }
+      } finally {
+        out.close();
+      }
+
+      try {
+        Files.move(tmp.toPath(), file.toPath(),
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp.toPath(), file.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      deflater.end();
+      if (tmp.exists() && !tmp.delete()) {
+        tmp.deleteOnExit();
+      }
+    }
+  }
+
+  /**
+   * Restore the saved outputs and crystal, and continue writing the tracked
+   * files.
+   *
+   * @param crystal
+   *          current crystal
+   * @param outputs
+   *          outputs of the experiment, in order
+   */
+  private void restore(final Crystal crystal, final List<Output> outputs) {
+    try {
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+          resumeState));
+      if (in.readInt() != outputs.size()) {
+        throw new IOException("Number of outputs has changed");
+      }
+      for (Output o : outputs) {
+        checkClass(in.readUTF(), o);
+        readFields(in, o);
+      }
+      checkClass(in.readUTF(), crystal);
+      readFields(in, crystal);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not restore checkpoint "
+          + file, e);
+    }
+
+    for (TrackedFile t : files) {
+      t.muted = false;
+    }
+    resumeState = null;
+    lastSave = System.currentTimeMillis();
+  }
+
+  /**
+   * @param in
+   *          source
+   * @return
+   *         a block of data preceded by its length
+   * @throws IOException
+   *           The data could not be read.
+   */
+  private static byte[] readBytes(final DataInputStream in)
+      throws IOException {
+    byte[] data = new byte[in.readInt()];
+    in.readFully(data);
+    return data;
+  }
+
+  /**
+   * @param name
+   *          saved class name
+   * @param o
+   *          object to be restored
+   * @throws IOException
+   *           The object is of a different class.
+   */
+  private static void checkClass(final String name, final Object o)
+      throws IOException {
+    if (!o.getClass().getName().equals(name)) {
+      throw new IOException("Expected " + name + ", found "
+          + o.getClass().getName());
+    }
+  }
+
+  /**
+   * Returns the fields of a class and its superclasses that make up the state
+   * of an object. Static and transient fields, and final fields holding
+   * settings such as dimensions, are left out.
+   *
+   * @param c
+   *          class of the object
+   * @return
+   *         fields by declaring class and name
+   */
+  private static Map<String, Field> stateFields(final Class<?> c) {
+    Map<String, Field> fields = new TreeMap<String, Field>();
+    for (Class<?> k = c; k != Object.class; k = k.getSuperclass()) {
+      for (Field f : k.getDeclaredFields()) {
+        int modifiers = f.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+            || (Modifier.isFinal(modifiers) && isImmutable(f.getType()))) {
+          continue;
+        }
+        f.setAccessible(true);
+        fields.put(k.getName() + "." + f.getName(), f);
+      }
+    }
+    return fields;
+  }
+
+  /**
+   * @param type
+   *          type of a field
+   * @return
+   *         true if values of this type cannot be modified
+   */
+  private static boolean isImmutable(final Class<?> type) {
+    return type.isPrimitive() || type == String.class
+        || Number.class.isAssignableFrom(type) || type == Boolean.class;
+  }
+
+  /**
+   * @param type
+   *          class of an object
+   * @return
+   *         true if objects of this class are saved field by field and
+   *         restored in place
+   */
+  private static boolean isState(final Class<?> type) {
+    return type == ExposureSummary.class || type == RandomStream.class;
+  }
+
+  /**
+   * Write the state fields of an object. Fields with values that cannot be
+   * encoded are left out.
+   *
+   * @param out
+   *          destination
+   * @param o
+   *          object
+   * @param deep
+   *          true to include ExposureSummary and RandomStream objects
+   * @throws IOException
+   *           The data could not be written.
+   */
+  private static void writeFields(final DataOutputStream out, final Object o,
+      final boolean deep) throws IOException {
+    Map<String, byte[]> values = new TreeMap<String, byte[]>();
+    for (Map.Entry<String, Field> f : stateFields(o.getClass()).entrySet()) {
+      ByteArrayOutputStream value = new ByteArrayOutputStream();
+      DataOutputStream v = new DataOutputStream(value);
+      try {
+        writeValue(v, f.getValue().get(o), deep);
+      } catch (UnsupportedOperationException e) {
+        continue;
+      } catch (IllegalAccessException e) {
+        continue;
+      }
+      v.close();
+      values.put(f.getKey(), value.toByteArray());
+    }
+    out.writeInt(values.size());
+    for (Map.Entry<String, byte[]> v : values.entrySet()) {
+      out.writeUTF(v.getKey());
+      out.write(v.getValue());
+    }
+  }
+
+  /**
+   * Read the state fields of an object written by writeFields().
+   *
+   * @param in
+   *          source
+   * @param o
+   *          object to be restored, or null to discard the values
+   * @throws IOException
+   *           The data could not be read or does not fit the object.
+   */
+  private static void readFields(final DataInputStream in, final Object o)
+      throws IOException {
+    Map<String, Field> fields = null;
+    if (o != null) {
+      fields = stateFields(o.getClass());
+    }
+    int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      Field f = null;
+      String name = in.readUTF();
+      if (fields != null) {
+        f = fields.get(name);
+      }
+      try {
+        Object current = null;
+        if (f != null) {
+          current = f.get(o);
+        }
+        Object value = readValue(in, current);
+        if (f != null) {
+          f.set(o, value);
+        }
+      } catch (IllegalAccessException e) {
+        throw new IOException("Could not restore " + name, e);
+      } catch (IllegalArgumentException e) {
+        throw new IOException("Could not restore " + name, e);
+      }
+    }
+  }
+
+  /**
+   * Encode a value.
+   *
+   * @param out
+   *          destination
+   * @param value
+   *          value to be encoded
+   * @param deep
+   *          true to include ExposureSummary and RandomStream objects
+   * @throws IOException
+   *           The data could not be written.
+   * @throws UnsupportedOperationException
+   *           The value cannot be encoded.
+   */
+  @SuppressWarnings("PMD.CyclomaticComplexity")
+  private static void writeValue(final DataOutputStream out,
+      final Object value, final boolean deep) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL);
+    } else if (value instanceof Boolean) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean((Boolean) value);
+    } else if (value instanceof Integer) {
+      out.writeByte(INT);
+      out.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      out.writeByte(LONG);
+      out.writeLong((Long) value);
+    } else if (value instanceof Double) {
+      out.writeByte(DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (value instanceof Float) {
+      out.writeByte(FLOAT);
+      out.writeFloat((Float) value);
+    } else if (value instanceof String) {
+      byte[] data = ((String) value).getBytes(StandardCharsets.UTF_8);
+      out.writeByte(STRING);
+      out.writeInt(data.length);
+      out.write(data);
+    } else if (value instanceof double[]) {
+      double[] a = (double[]) value;
+      out.writeByte(DOUBLES);
+      out.writeInt(a.length);
+      for (double d : a) {
+        out.writeDouble(d);
+      }
+    } else if (value instanceof int[]) {
+      int[] a = (int[]) value;
+      out.writeByte(INTS);
+      out.writeInt(a.length);
+      for (int n : a) {
+        out.writeInt(n);
+      }
+    } else if (value instanceof long[]) {
+      long[] a = (long[]) value;
+      out.writeByte(LONGS);
+      out.writeInt(a.length);
+      for (long n : a) {
+        out.writeLong(n);
+      }
+    } else if (value instanceof boolean[]) {
+      boolean[] a = (boolean[]) value;
+      out.writeByte(BOOLEANS);
+      out.writeInt(a.length);
+      for (boolean b : a) {
+        out.writeBoolean(b);
+      }
+    } else if (value instanceof float[]) {
+      float[] a = (float[]) value;
+      out.writeByte(FLOATS);
+      out.writeInt(a.length);
+      for (float f : a) {
+        out.writeFloat(f);
+      }
+    } else if (value instanceof Object[]) {
+      Object[] a = (Object[]) value;
+      out.writeByte(ARRAY);
+      out.writeUTF(a.getClass().getComponentType().getName());
+      out.writeInt(a.length);
+      for (Object element : a) {
+        writeValue(out, element, false);
+      }
+    } else if (value instanceof List) {
+      checkConstructor(value.getClass());
+      out.writeByte(LIST);
+      out.writeUTF(value.getClass().getName());
+      out.writeInt(((List<?>) value).size());
+      for (Object element : (Collection<?>) value) {
+        writeValue(out, element, false);
+      }
+    } else if (value instanceof Map) {
+      checkConstructor(value.getClass());
+      out.writeByte(MAP);
+      out.writeUTF(value.getClass().getName());
+      out.writeInt(((Map<?, ?>) value).size());
+      for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+        writeValue(out, e.getKey(), false);
+        writeValue(out, e.getValue(), false);
+      }
+    } else if (value.getClass() == Element.class) {
+      out.writeByte(ELEMENT);
+      out.writeInt(((Element) value).getAtomicNumber());
+    } else if (deep && isState(value.getClass())) {
+      out.writeByte(STATE);
+      writeFields(out, value, false);
+    } else {
+      throw new UnsupportedOperationException(value.getClass().getName());
+    }
+  }
+
+  /**
+   * Decode a value written by writeValue().
+   *
+   * @param in
+   *          source
+   * @param current
+   *          present value, which ExposureSummary and RandomStream objects
+   *          are restored into
+   * @return
+   *         decoded value
+   * @throws IOException
+   *           The data could not be read.
+   */
+  @SuppressWarnings({ "unchecked", "PMD.CyclomaticComplexity" })
+  private static Object readValue(final DataInputStream in,
+      final Object current) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return null;
+      case BOOLEAN:
+        return in.readBoolean();
+      case INT:
+        return in.readInt();
+      case LONG:
+        return in.readLong();
+      case DOUBLE:
+        return in.readDouble();
+      case FLOAT:
+        return in.readFloat();
+      case STRING:
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return new String(data, StandardCharsets.UTF_8);
+      case DOUBLES:
+        double[] doubles = new double[in.readInt()];
+        for (int i = 0; i < doubles.length; i++) {
+          doubles[i] = in.readDouble();
+        }
+        return doubles;
+      case INTS:
+        int[] ints = new int[in.readInt()];
+        for (int i = 0; i < ints.length; i++) {
+          ints[i] = in.readInt();
+        }
+        return ints;
+      case LONGS:
+        long[] longs = new long[in.readInt()];
+        for (int i = 0; i < longs.length; i++) {
+          longs[i] = in.readLong();
+        }
+        return longs;
+      case BOOLEANS:
+        boolean[] booleans = new boolean[in.readInt()];
+        for (int i = 0; i < booleans.length; i++) {
+          booleans[i] = in.readBoolean();
+        }
+        return booleans;
+      case FLOATS:
+        float[] floats = new float[in.readInt()];
+        for (int i = 0; i < floats.length; i++) {
+          floats[i] = in.readFloat();
+        }
+        return floats;
+      case ARRAY:
+        Object[] array = (Object[]) Array.newInstance(
+            loadClass(in.readUTF()), in.readInt());
+        for (int i = 0; i < array.length; i++) {
+          array[i] = readValue(in, null);
+        }
+        return array;
+      case LIST:
+        List<Object> list = (List<Object>) newInstance(in.readUTF());
+        int elements = in.readInt();
+        for (int i = 0; i < elements; i++) {
+          list.add(readValue(in, null));
+        }
+        return list;
+      case MAP:
+        Map<Object, Object> map = (Map<Object, Object>) newInstance(
+            in.readUTF());
+        int entries = in.readInt();
+        for (int i = 0; i < entries; i++) {
+          map.put(readValue(in, null), readValue(in, null));
+        }
+        return map;
+      case ELEMENT:
+        return ElementDatabase.getInstance().getElement(in.readInt());
+      case STATE:
+        if (current != null && isState(current.getClass())) {
+          readFields(in, current);
+        } else {
+          readFields(in, null);
+        }
+        return current;
+      default:
+        throw new IOException("Unknown value type " + tag);
+    }
+  }
+
+  /**
+   * @param type
+   *          class of a collection
+   * @throws UnsupportedOperationException
+   *           The class has no public constructor without arguments.
+   */
+  private static void checkConstructor(final Class<?> type) {
+    try {
+      type.getConstructor();
+    } catch (NoSuchMethodException e) {
+      throw new UnsupportedOperationException(type.getName(), e);
+    }
+  }
+
+  /**
+   * @param name
+   *          class name as returned by Class.getName()
+   * @return
+   *         the class
+   * @throws IOException
+   *           The class does not exist.
+   */
+  private static Class<?> loadClass(final String name) throws IOException {
+    try {
+      return Class.forName(name);
+    } catch (ClassNotFoundException e) {
+      throw new IOException("Unknown class " + name, e);
+    }
+  }
+
+  /**
+   * @param name
+   *          name of a collection class
+   * @return
+   *         new, empty instance
+   * @throws IOException
+   *           The class cannot be instantiated.
+   */
+  private static Object newInstance(final String name) throws IOException {
+    try {
+      return loadClass(name).getConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IOException("Could not create " + name, e);
+    }
+  }
+
+  /**
+   * Receives the merged tallies of the simulations of a wedge, saving them
+   * once the interval has passed, and restores the tallies of the
+   * interrupted simulation on resume.
+   */
+  private final class SimulationProgress
+      implements ParallelSimulation.Progress {
+    @Override
+    public int start(final Object tallies, final long total) {
+      simulations++;
+      histories = total;
+      if (resumeTallies == null || simulations != resumeSimulation) {
+        return 0;
+      }
+      if (total != resumeHistories) {
+        throw new IllegalStateException("Could not restore checkpoint "
+            + file + ": Simulation " + simulations + " has changed");
+      }
+      try {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+            resumeTallies));
+        checkClass(in.readUTF(), tallies);
+        readFields(in, tallies);
+      } catch (IOException e) {
+        throw new IllegalStateException("Could not restore checkpoint "
+            + file, e);
+      }
+      resumeTallies = null;
+      resumeSimulation = 0;
+      System.out.println("Resuming simulation after batch " + resumeBatches);
+      return resumeBatches;
+    }
+
+    @Override
+    public void merged(final Object tallies, final int merged) {
+      if (wedgeState == null
+          || System.currentTimeMillis() - lastSave < interval) {
+        return;
+      }
+      try {
+        save(wedgeState, tallies, merged);
+      } catch (IOException e) {
+        System.err.println("Checkpoint: Could not write " + file + ": "
+            + e.getMessage());
+      }
+      lastSave = System.currentTimeMillis();
+    }
+  }
+
+  /**
+   * Writer for an output file that counts the bytes written, and drops the
+   * text while completed wedges are skipped on resume. Text written before
+   * the file is opened is kept until then.
+   */
+  private static final class TrackedFile extends Writer {
+    /** Name of the file. */
+    private final String  name;
+
+    /** Write the file through a background thread. */
+    private final boolean async;
+
+    /** Text written before the file was opened, null once it is open. */
+    private StringBuilder early = new StringBuilder();
+
+    /** The open file, or null if it is not open or could not be opened. */
+    private Writer        destination;
+
+    /** Length of the file in bytes, including text not yet flushed. */
+    private long          length;
+
+    /** Text is dropped while true. */
+    private boolean       muted;
+
+    /**
+     * @param filename
+     *          name of the file
+     * @param async
+     *          write the file through a background thread
+     */
+    TrackedFile(final String filename, final boolean async) {
+      name = filename;
+      this.async = async;
+    }
+
+    /**
+     * Check whether the file of an interrupted run can be continued. It must
+     * hold at least the saved length, starting with the text written so far.
+     *
+     * @param saved
+     *          saved length of the file
+     * @return
+     *         true if the file can be continued
+     * @throws IOException
+     *           The file could not be read.
+     */
+    boolean canContinue(final long saved) throws IOException {
+      File f = new File(name);
+      byte[] expected = early.toString().getBytes(StandardCharsets.UTF_8);
+      if (!f.isFile() || f.length() < saved || saved < expected.length) {
+        return false;
+      }
+      byte[] actual = new byte[expected.length];
+      DataInputStream in = new DataInputStream(new FileInputStream(f));
+      try {
+        in.readFully(actual);
+      } finally {
+        in.close();
+      }
+      return Arrays.equals(actual, expected);
+    }
+
+    /**
+     * Open the file. A resumed file is cut back to the saved length and
+     * continued once the saved state is restored, otherwise the file is
+     * replaced and the text written so far is passed on.
+     *
+     * @param resumed
+     *          true if the run is resumed
+     */
+    void open(final boolean resumed) {
+      String text = early.toString();
+      early = null;
+      try {
+        if (resumed) {
+          RandomAccessFile f = new RandomAccessFile(name, "rw");
+          try {
+            f.setLength(length);
+          } finally {
+            f.close();
+          }
+          muted = true;
+        }
+        if (async) {
+          destination = new WriterFileAsync(new FileOutputStream(name,
+              resumed), name, WriterFileAsync.DEFAULT_BUFFER_SIZE);
+        } else {
+          destination = new WriterFile(name, resumed);
+        }
+      } catch (IOException e) {
+        e.printStackTrace();
+        System.err.println("Checkpoint: Could not open file " + name
+            + " for writing.");
+        return;
+      }
+      if (!resumed) {
+        length = 0;
+        write(text);
+      }
+    }
+
+    @Override
+    public void write(final String s) {
+      if (muted) {
+        return;
+      }
+      if (early != null) {
+        early.append(s);
+      } else if (destination != null) {
+        destination.write(s);
+        length += utf8Length(s);
+      }
+    }
+
+    @Override
+    public void write(final StringBuffer b) {
+      write(b.toString());
+    }
+
+    @Override
+    public void flush() {
+      if (destination != null) {
+        try {
+          destination.flush();
+        } catch (IOException e) {
+          System.err.println("Checkpoint: Could not flush file " + name
+              + ": " + e.getMessage());
+        }
+      }
+    }
+
+    @Override
+    public void close() {
+      if (early != null) {
+        open(false);
+      }
+      if (destination != null) {
+        destination.close();
+      }
+    }
+
+    /**
+     * @param s
+     *          text
+     * @return
+     *         number of bytes of the text in UTF-8
+     */
+    private static long utf8Length(final String s) {
+      long bytes = 0;
+      for (int i = 0; i < s.length(); i++) {
+        char c = s.charAt(i);
+        if (c < 0x80) {
+          bytes++;
+        } else if (c < 0x800) {
+          bytes += 2;
+        } else if (Character.isHighSurrogate(c)) {
+          // Four bytes for the pair, none for the low surrogate.
+          bytes += 4;
+        } else if (!Character.isLowSurrogate(c)) {
+          bytes += 3;
+        }
+      }
+      return bytes;
+    }
+  }
+}
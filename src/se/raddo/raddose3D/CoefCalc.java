@@ -7,7 +7,25 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
-public abstract class CoefCalc {
+public abstract class CoefCalc implements Cloneable {
+  /**
+   * Returns a copy of this object for use on another simulation thread.
+   * Methods such as updateCoefficients() store their results in the object
+   * they are called on, so concurrent simulations each need their own copy.
+   * The copy is shallow: tables that are only read during a simulation are
+   * shared, per-energy results are replaced rather than modified in place.
+   * 
+   * @return
+   *         independent copy of this object
+   */
+  public CoefCalc copy() {
+    try {
+      return (CoefCalc) clone();
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   /**
    * Calculate cross-sections for the new photon energy.
    * 
@@ -158,6 +176,32 @@ public abstract class CoefCalc {
   public abstract Map<Element, double[]> getAllShellProbs(boolean surrounding);
  
   public abstract Map<ElementEM, Double> getElasticProbs(boolean surrounding);
+
+  /**
+   * Returns the probabilities of getAllShellProbs() compiled for sampling.
+   * Compiles them at every call unless overridden.
+   *
+   * @param surrounding
+   *          true for the surrounding, false for the sample
+   * @return
+   *         model with one outcome per shell of each element
+   */
+  public MaterialModel<Element> getShellModel(final boolean surrounding) {
+    return MaterialModel.fromCumulativeShells(getAllShellProbs(surrounding));
+  }
+
+  /**
+   * Returns the probabilities of getElasticProbs() compiled for sampling.
+   * Compiles them at every call unless overridden.
+   *
+   * @param surrounding
+   *          true for the surrounding, false for the sample
+   * @return
+   *         model with one outcome per element
+   */
+  public MaterialModel<ElementEM> getElasticModel(final boolean surrounding) {
+    return MaterialModel.fromCumulative(getElasticProbs(surrounding));
+  }
   
   public abstract double getEMFlAbsCoef(double flEnergy);
   
@@ -166,7 +210,40 @@ public abstract class CoefCalc {
   public abstract double getZav();
   
   public abstract void populateCrossSectionCoefficients();
-  
+
+  /**
+   * Tabulate the electron interaction data of the sample and the surrounding
+   * up to an electron energy, so that electron tracking looks them up rather
+   * than recalculating them at every step. Does nothing unless overridden.
+   *
+   * @param maxEnergy
+   *          highest electron energy in keV
+   */
+  public void tabulateElectronPhysics(final double maxEnergy) {
+  }
+
+  /**
+   * Tabulate the inelastic cross sections of the GOS model for the sample and
+   * the surrounding up to an electron energy, so that getGOSInel() looks them
+   * up rather than integrating at every step. Does nothing unless overridden.
+   *
+   * @param maxEnergy
+   *          highest electron energy in keV
+   */
+  public void tabulateGOSInelastic(final double maxEnergy) {
+  }
+
+  /**
+   * Set the random number stream of the electron or photon being tracked.
+   * Lookups in tabulated data draw from it to choose between neighbouring
+   * grid points. Does nothing unless overridden.
+   *
+   * @param random
+   *          random number stream, or null to use none
+   */
+  public void setRandomStream(final RandomStream random) {
+  }
+
   public abstract double getPlasmaMFPL(double electronEnergy, boolean surrounding);
   
   public abstract double getPlasmaFrequency(boolean surrounding);
@@ -208,7 +285,7 @@ public abstract class CoefCalc {
   
   public abstract double getWcbAll(boolean surrounding);
   
-  public abstract double getRecoilEnergyDistant(double EkeV, double WakeV, double Qak);
+  public abstract double getRecoilEnergyDistant(double EkeV, double WakeV, double Qak, double rnd);
   
   public abstract double getAvgInelasticEnergy(double E);
   
@@ -358,7 +358,7 @@ public class CoefCalcAverage extends CoefCalc {
   }
 
   @Override
-  public double getRecoilEnergyDistant(double EkeV, double WakeV, double Qak) {
+  public double getRecoilEnergyDistant(double EkeV, double WakeV, double Qak, double rnd) {
     // TODO Auto-generated method stub
     return 0;
   }
@@ -1,19 +1,16 @@
 package se.raddo.raddose3D;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.Set;
-import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
 
 import se.raddo.raddose3D.Element.CrossSection;
 
@@ -51,6 +48,42 @@ public class CoefCalcCompute extends CoefCalc {
    */
   private double[][][] highOvervoltages;
   
+  /**
+   * Tabulated electron interaction data of the sample and the surrounding,
+   * null until tabulateElectronPhysics() is called. Shared between copies.
+   */
+  private ElectronPhysicsTable electronTable, electronTableSurrounding;
+  
+  /**
+   * Table and grid point of the last elastic cross section lookup, so that
+   * getElasticProbs() can return the tabulated probabilities. The table is
+   * null if the cross sections were calculated directly.
+   */
+  private ElectronPhysicsTable elasticTable;
+  private int elasticTablePoint;
+  
+  /**
+   * Table and grid point of the last inner shell cross section lookup, so
+   * that getAllShellProbs() can return the tabulated probabilities.
+   */
+  private ElectronPhysicsTable betheTable;
+  private int betheTablePoint;
+  
+  /**
+   * Random number stream used to choose between the two grid points enclosing
+   * an energy in a table, or null to take the grid point at or below it.
+   */
+  private RandomStream random;
+  
+  /**
+   * Tabulated GOS inelastic cross sections of the sample and the surrounding,
+   * null until tabulateGOSInelastic() is called. Shared between copies.
+   */
+  private GOSInelasticTable gosTable, gosTableSurrounding;
+  
+  /** Conduction band cross sections of the material not looked up last. */
+  private static final double[] NO_PLASMON = new double[4];
+  
   /**
    * Set of the unique elements present in the crystal (including solvent
    * and macromolecular)
@@ -328,9 +361,203 @@ public class CoefCalcCompute extends CoefCalc {
     cryoConcentrationEM = new HashMap<ElementEM, Double>();
     
     fractionElementEM = new HashMap<String, Double>();
-    
+
+  }
+
+  /**
+   * Returns a copy of this object for use on another simulation thread.
+   * The stopping power calculation updates fractionElementEM in place, so
+   * each copy gets its own map.
+   *
+   * @return
+   *         independent copy of this object
+   */
+  @Override
+  public CoefCalc copy() {
+    CoefCalcCompute copy = (CoefCalcCompute) super.copy();
+    copy.fractionElementEM = new HashMap<String, Double>(fractionElementEM);
+    return copy;
+  }
+
+  /**
+   * Tabulate the stopping power, the elastic, inner shell and plasmon cross
+   * sections and the element and shell probabilities of the sample and, if
+   * there is one, the surrounding. Afterwards these are interpolated from the
+   * tables for energies between ElectronPhysicsTable.MIN_ENERGY and maxEnergy
+   * and calculated directly otherwise. Copies made afterwards share the
+   * tables.
+   *
+   * @param maxEnergy
+   *          highest electron energy in keV
+   */
+  @Override
+  public void tabulateElectronPhysics(final double maxEnergy) {
+    //the tables are calculated directly, not from older tables
+    electronTable = null;
+    electronTableSurrounding = null;
+    elasticTable = null;
+    betheTable = null;
+    populateCrossSectionCoefficients();
+    ElectronPhysicsTable table = new ElectronPhysicsTable(this, false, maxEnergy);
+    ElectronPhysicsTable tableSurrounding = null;
+    if (isCryo()) {
+      tableSurrounding = new ElectronPhysicsTable(this, true, maxEnergy);
+    }
+    electronTable = table;
+    electronTableSurrounding = tableSurrounding;
+  }
+
+  /**
+   * Tabulate the GOS inelastic cross sections of the sample and, if there is
+   * one, the surrounding, using the default cache directory. See
+   * tabulateGOSInelastic(double, GOSInelasticCache).
+   *
+   * @param maxEnergy
+   *          highest electron energy in keV
+   */
+  @Override
+  public void tabulateGOSInelastic(final double maxEnergy) {
+    tabulateGOSInelastic(maxEnergy, GOSInelasticCache.getDefault());
+  }
+
+  /**
+   * Tabulate the GOS inelastic cross sections of the sample and, if there is
+   * one, the surrounding. Tables of the same composition are read from the
+   * cache if present, otherwise they are calculated and stored there.
+   * Afterwards getGOSInel() looks up energies between
+   * ElectronPhysicsTable.MIN_ENERGY and maxEnergy and calculates others
+   * directly. Copies made afterwards share the tables.
+   *
+   * @param maxEnergy
+   *          highest electron energy in keV
+   * @param cache
+   *          cache holding previously calculated tables
+   */
+  public void tabulateGOSInelastic(final double maxEnergy,
+      final GOSInelasticCache cache) {
+    //the tables are calculated directly, not from older tables
+    gosTable = null;
+    gosTableSurrounding = null;
+    String key = GOSInelasticCache.getKey(this, maxEnergy);
+    GOSInelasticTable[] tables = cache.load(key, this);
+    if (tables == null || (isCryo() && tables[1] == null)) {
+      tables = new GOSInelasticTable[2];
+      tables[0] = new GOSInelasticTable(this, false, maxEnergy);
+      if (isCryo()) {
+        tables[1] = new GOSInelasticTable(this, true, maxEnergy);
+      }
+      try {
+        cache.store(key, tables[0], tables[1]);
+      } catch (IOException e) {
+        System.err.println("Could not store GOS tables in "
+            + cache.getFile(key) + ": " + e.getMessage());
+      }
+    }
+    gosTable = tables[0];
+    gosTableSurrounding = tables[1];
+  }
+
+  /**
+   * Returns the electron physics table of the sample or the surrounding.
+   *
+   * @param surrounding
+   *          true for the surrounding, false for the sample
+   * @return
+   *         the table, or null if it has not been tabulated
+   */
+  private ElectronPhysicsTable getElectronTable(final boolean surrounding) {
+    if (surrounding) {
+      return electronTableSurrounding;
+    }
+    return electronTable;
+  }
+
+  /**
+   * Returns the electron physics table of the sample or the surrounding if it
+   * covers an electron energy.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @param surrounding
+   *          true for the surrounding, false for the sample
+   * @return
+   *         the table, or null if the energy has to be calculated directly
+   */
+  private ElectronPhysicsTable getElectronTable(final double energy,
+      final boolean surrounding) {
+    ElectronPhysicsTable table = getElectronTable(surrounding);
+    if (table != null && table.covers(energy)) {
+      return table;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the grid point of an electron physics table to take per element
+   * and per shell data from for an electron energy.
+   *
+   * @param table
+   *          electron physics table covering the energy
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         grid point
+   */
+  private int getTablePoint(final ElectronPhysicsTable table,
+      final double energy) {
+    if (random == null) {
+      return table.getPoint(energy);
+    }
+    return table.samplePoint(energy, random.nextDouble());
+  }
+  
+  /**
+   * Returns the grid point of a GOS inelastic table to take the mean free
+   * path and cross sections from for an electron energy.
+   *
+   * @param table
+   *          GOS inelastic table covering the energy
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         grid point
+   */
+  private int getTablePoint(final GOSInelasticTable table,
+      final double energy) {
+    if (random == null) {
+      return table.getPoint(energy);
+    }
+    return table.samplePoint(energy, random.nextDouble());
   }
   
+  @Override
+  public void setRandomStream(final RandomStream random) {
+    this.random = random;
+  }
+
+  /**
+   * Returns the GOS inelastic table of the sample or the surrounding if it
+   * covers an electron energy.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @param surrounding
+   *          true for the surrounding, false for the sample
+   * @return
+   *         the table, or null if the energy has to be calculated directly
+   */
+  private GOSInelasticTable getGOSTable(final double energy,
+      final boolean surrounding) {
+    GOSInelasticTable table = gosTable;
+    if (surrounding) {
+      table = gosTableSurrounding;
+    }
+    if (table != null && table.covers(energy)) {
+      return table;
+    }
+    return null;
+  }
+
   /**
    * Calculate the density of the crystal from its composition.
    */
@@ -634,11 +861,28 @@ public class CoefCalcCompute extends CoefCalc {
     return absCoeffs;
   }
   
+  /**
+   * Returns elements sorted by atomic number. The maps of cumulative
+   * probabilities are filled in this order, so that their running sums are
+   * built, scanned and compiled in the same order in every run.
+   *
+   * @param elements
+   *          elements in any order
+   * @return
+   *         new list of the elements in atomic number order
+   */
+  private static <E extends Comparable<E>> List<E> byAtomicNumber(
+      final Collection<E> elements) {
+    List<E> sorted = new ArrayList<E>(elements);
+    Collections.sort(sorted);
+    return sorted;
+  }
+
   @Override
   public Map<Element, Double> getPhotoElectricProbsElement(double beamEnergy) {
-    Map<Element, Double> elementAbsorptionProbs = new HashMap<Element, Double>(); 
+    Map<Element, Double> elementAbsorptionProbs = new LinkedHashMap<Element, Double>(); 
     double runnningSumProb = 0;
-    for (Element e : this.presentElements) {
+    for (Element e : byAtomicNumber(this.presentElements)) {
       Map<String, Double> absCoeffs = calculateCoefficientsElement(beamEnergy, e);
       double absorptionProb = absCoeffs.get(PHOTOELECTRIC)/absCoeffphoto;
       runnningSumProb += absorptionProb;
@@ -649,9 +893,9 @@ public class CoefCalcCompute extends CoefCalc {
   
   @Override
   public Map<Element, Double> getComptonProbsElement(double beamEnergy) {
-    Map<Element, Double> elementComptonProbs = new HashMap<Element, Double>(); 
+    Map<Element, Double> elementComptonProbs = new LinkedHashMap<Element, Double>(); 
     double runnningSumProb = 0;
-    for (Element e : this.presentElements) {
+    for (Element e : byAtomicNumber(this.presentElements)) {
       Map<String, Double> absCoeffs = calculateCoefficientsElement(beamEnergy, e);
       double comptonProb = absCoeffs.get(COMPTON)/absCoeffcomp;
       runnningSumProb += comptonProb;
@@ -662,9 +906,9 @@ public class CoefCalcCompute extends CoefCalc {
   
   @Override
   public Map<Element, Double> getPhotoElectricProbsElementSurrounding(double beamEnergy) {
-    Map<Element, Double> elementAbsorptionProbs = new HashMap<Element, Double>(); 
+    Map<Element, Double> elementAbsorptionProbs = new LinkedHashMap<Element, Double>(); 
     double runnningSumProb = 0;
-    for (Element e : cryoElements) {
+    for (Element e : byAtomicNumber(cryoElements)) {
       Map<String, Double> absCoeffs = calculateCoefficientsCryoElement(beamEnergy, e);
       double absorptionProb = absCoeffs.get(PHOTOELECTRIC)/cryoAbsCoeffPhoto;
       runnningSumProb += absorptionProb;
@@ -2161,6 +2405,27 @@ public class CoefCalcCompute extends CoefCalc {
   
   @Override
   public double getElectronElasticMFPL(double electronEnergy, boolean surrounding) {
+    ElectronPhysicsTable table = getElectronTable(electronEnergy, surrounding);
+    if (table != null) {
+      //leave the per element cross sections as a direct calculation would
+      int point = getTablePoint(table, electronEnergy);
+      ElasticxSectionTotPerElement = 0;
+      ElasticxSectionTotPerElementSurrounding = 0;
+      elasticXSections = Collections.emptyMap();
+      elasticXSectionsSurrounding = Collections.emptyMap();
+      if (surrounding == false) {
+        elasticXSections = table.getElasticXSections(point);
+        ElasticxSectionTotPerElement = table.getElasticXSectionTotal(point);
+      }
+      else {
+        elasticXSectionsSurrounding = table.getElasticXSections(point);
+        ElasticxSectionTotPerElementSurrounding = table.getElasticXSectionTotal(point);
+      }
+      elasticTable = table;
+      elasticTablePoint = point;
+      return table.getElasticMFPL(electronEnergy);
+    }
+    elasticTable = null;
     double partLambda = getElectronElasticCrossSection(electronEnergy, surrounding);
     double densityCalc = 0;
     if (surrounding == false) {
@@ -2178,19 +2443,30 @@ public class CoefCalcCompute extends CoefCalc {
     return lambda; //nm
   }
   
+  @Override
+  public MaterialModel<ElementEM> getElasticModel(final boolean surrounding) {
+    if (elasticTable != null && elasticTable == getElectronTable(surrounding)) {
+      return elasticTable.getElasticModel(elasticTablePoint);
+    }
+    return super.getElasticModel(surrounding);
+  }
+
   @Override
   public Map<ElementEM, Double> getElasticProbs(boolean surrounding){
-    Map<ElementEM, Double> elasticProbs = new HashMap<ElementEM, Double>();
+    if (elasticTable != null && elasticTable == getElectronTable(surrounding)) {
+      return elasticTable.getElasticProbs(elasticTablePoint);
+    }
+    Map<ElementEM, Double> elasticProbs = new LinkedHashMap<ElementEM, Double>();
     double runningSumFraction = 0;  //should equal 1 by the end
     if (surrounding == false) {
-      for (ElementEM e : elasticXSections.keySet()) {
+      for (ElementEM e : byAtomicNumber(elasticXSections.keySet())) {
         double lambdaFraction = elasticXSections.get(e)/ElasticxSectionTotPerElement;
         runningSumFraction += lambdaFraction;
         elasticProbs.put(e, runningSumFraction);
       }
     }
     else {
-      for (ElementEM e : elasticXSectionsSurrounding.keySet()) {
+      for (ElementEM e : byAtomicNumber(elasticXSectionsSurrounding.keySet())) {
         double lambdaFraction = elasticXSectionsSurrounding.get(e)/ElasticxSectionTotPerElementSurrounding;
         runningSumFraction += lambdaFraction;
         elasticProbs.put(e, runningSumFraction);
@@ -2338,6 +2614,10 @@ public class CoefCalcCompute extends CoefCalc {
    */
   @Override
   public double getStoppingPower(double avgEnergy, boolean surrounding) {
+    ElectronPhysicsTable table = getElectronTable(avgEnergy, surrounding);
+    if (table != null) {
+      return table.getStoppingPower(avgEnergy);
+    }
     double stoppingPower = 0;
     
     double distance = getExpectedDistance(12, true)/1000;
@@ -2619,6 +2899,10 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
   
   @Override
   public double getFSELambda(double FSExSection, boolean surrounding) {  //FSExSection is in cm^2/electron
+    ElectronPhysicsTable table = getElectronTable(surrounding);
+    if (table != null) {
+      return table.getFSELambda(FSExSection);
+    }
     double lambda = 0;
     double numEl = 0; //num electrons in the unit cell  
     if (surrounding == false) {
@@ -2651,6 +2935,28 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
   
   @Override
   public double betheIonisationxSection(double electronEnergy, boolean surrounding) {  //still need to do L and M edges as well
+    ElectronPhysicsTable table = getElectronTable(electronEnergy, surrounding);
+    if (table != null) {
+      //leave the per shell cross sections as a direct calculation would
+      int point = getTablePoint(table, electronEnergy);
+      betheXSections = Collections.emptyMap();
+      shellXSections = Collections.emptyMap();
+      BethexSectionTotPerElement = 0;
+      shellXSectionsSurrounding = Collections.emptyMap();
+      BethexSectionTotPerElementSurrounding = 0;
+      if (surrounding == false) {
+        shellXSections = table.getShellXSections(point);
+        BethexSectionTotPerElement = table.getShellXSectionTotal(point);
+      }
+      else {
+        shellXSectionsSurrounding = table.getShellXSections(point);
+        BethexSectionTotPerElementSurrounding = table.getShellXSectionTotal(point);
+      }
+      betheTable = table;
+      betheTablePoint = point;
+      return table.getInnerShellMFPL(electronEnergy);
+    }
+    betheTable = null;
     //need to sort this out for when energy less than shell binding energy
     double a0 = 5.2917721067E-2; //bohr radius in nm
     double m = 9.10938356E-31; // in Kg
@@ -2857,12 +3163,23 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
   }
   */
   
+  @Override
+  public MaterialModel<Element> getShellModel(final boolean surrounding) {
+    if (betheTable != null && betheTable == getElectronTable(surrounding)) {
+      return betheTable.getShellModel(betheTablePoint);
+    }
+    return super.getShellModel(surrounding);
+  }
+
   @Override
   public Map<Element, double[]> getAllShellProbs(boolean surrounding){
-    Map<Element, double[]> ionisationProbs = new HashMap<Element, double[]>();
+    if (betheTable != null && betheTable == getElectronTable(surrounding)) {
+      return betheTable.getShellProbs(betheTablePoint);
+    }
+    Map<Element, double[]> ionisationProbs = new LinkedHashMap<Element, double[]>();
     double runningSumFraction = 0;  //should equal 1 by the end
     if (surrounding == false) {
-      for (Element e : shellXSections.keySet()) {
+      for (Element e : byAtomicNumber(shellXSections.keySet())) {
         double[] elementShells = shellXSections.get(e);
    //     double[] shellProbs = new double[4];
         double[] shellProbs = new double[9];
@@ -2877,7 +3194,7 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
       }
     }
     else {
-      for (Element e : shellXSectionsSurrounding.keySet()) {
+      for (Element e : byAtomicNumber(shellXSectionsSurrounding.keySet())) {
         double[] elementShells = shellXSectionsSurrounding.get(e);
    //     double[] shellProbs = new double[4];
         double[] shellProbs = new double[9];
@@ -2923,6 +3240,9 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
   
   @Override
   public void populateCrossSectionCoefficients(){
+    if (lowOvervoltages != null && highOvervoltages != null) {
+      return; //the coefficients do not change, so read them only once
+    }
     try {
       populateLowOvervoltageCoefficeints();
     } catch (IOException e) {
@@ -2939,15 +3259,12 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
   
   private void populateLowOvervoltageCoefficeints() throws IOException{
     lowOvervoltages = new double[95][9][6];
-    InputStreamReader isr = locateConstantsFile("constants/low_overvoltage.csv");
-    BufferedReader br = new BufferedReader(isr);
-    String line;
-    String[] components;
+    ConstantsTable table =
+        ConstantsCache.getInstance().getTable("constants/low_overvoltage.csv");
     
-    while ((line = br.readLine()) != null) {
-      components = line.split(",");
-      int atomicNumber = Integer.parseInt(components[0]);
-      int numberIterations = (int)(components.length - 1) / 7;
+    for (int row = 0; row < table.getRowCount(); row++) {
+      int atomicNumber = (int) table.getValue(row, 0);
+      int numberIterations = (int)(table.getColumnCount(row) - 1) / 7;
       
       for (int i = 0; i < numberIterations; i++) {
         /*
@@ -2960,25 +3277,20 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
         double a5 = Double.valueOf(components[(i*7)+7]);
         */
         for (int j = 0; j < 6; j++) {
-          lowOvervoltages[atomicNumber][i][j] = Double.valueOf(components[(i*7)+j+2]);
+          lowOvervoltages[atomicNumber][i][j] = table.getValue(row, (i*7)+j+2);
         }
       }
     }
-    br.close();
-    isr.close();
   }
   
   private void populateHighOvervoltageCoefficeints() throws IOException{
     highOvervoltages = new double[95][9][7];
-    InputStreamReader isr = locateConstantsFile("constants/high_overvoltage.csv");
-    BufferedReader br = new BufferedReader(isr);
-    String line;
-    String[] components;
+    ConstantsTable table =
+        ConstantsCache.getInstance().getTable("constants/high_overvoltage.csv");
     
-    while ((line = br.readLine()) != null) {
-      components = line.split(",");
-      int atomicNumber = Integer.parseInt(components[0]);
-      int numberIterations = (int)(components.length - 1) / 8;
+    for (int row = 0; row < table.getRowCount(); row++) {
+      int atomicNumber = (int) table.getValue(row, 0);
+      int numberIterations = (int)(table.getColumnCount(row) - 1) / 8;
       
       for (int i = 0; i < numberIterations; i++) {
         /*
@@ -2992,25 +3304,10 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
         double g4 = Double.valueOf(components[(i*8)+8]);
         */
         for (int j = 0; j < 7; j++) {
-          highOvervoltages[atomicNumber][i][j] = Double.valueOf(components[(i*8)+j+2]);
+          highOvervoltages[atomicNumber][i][j] = table.getValue(row, (i*8)+j+2);
         }
       }
     }
-    br.close();
-    isr.close();
-  }
-  
-  private InputStreamReader locateConstantsFile(String fileName)
-      throws UnsupportedEncodingException, FileNotFoundException {
-    // Try to find it within class path;
-    InputStream is = getClass().getResourceAsStream("/" + fileName);
-
-    if (is == null) {
-      // If it is not within the class path, try via the file system.
-      is = new FileInputStream(fileName);
-    }
-
-    return new InputStreamReader(is, "US-ASCII");
   }
   
   private int getNumberOfShells(int Z) {
@@ -3041,6 +3338,10 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
   
   @Override
   public double getPlasmaMFPL(double electronEnergy, boolean surrounding) {  //non-relativistic at the moment
+    ElectronPhysicsTable table = getElectronTable(electronEnergy, surrounding);
+    if (table != null) {
+      return table.getPlasmaMFPL(electronEnergy);
+    }
     double lambda = 0;
     double m = 9.10938356E-31;
     double h = 6.626070040E-34; //m^2 Kg/s
@@ -4839,6 +5140,23 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
   
   @Override
   public double getGOSInel(boolean surrounding, double E) {
+    GOSInelasticTable table = getGOSTable(E, surrounding);
+    if (table != null) {
+      //leave the shell and plasmon cross sections as a direct calculation would
+      int point = getTablePoint(table, E);
+      sturnheimerAdjustment = table.getAdjustment(point);
+      if (surrounding == false) {
+        GOSinelastic = table.getShellXSections(point);
+        cbInel = table.getPlasmonXSections(point);
+        cbInelSurrounding = NO_PLASMON;
+      }
+      else {
+        GOSinelasticSurrounding = table.getShellXSections(point);
+        cbInelSurrounding = table.getPlasmonXSections(point);
+        cbInel = NO_PLASMON;
+      }
+      return table.getInelasticLambda(point);
+    }
 
     //so this is going to return the inelastic cross section calculated by the GOS model
  //   double E = 100; //keV
@@ -5118,16 +5436,15 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
   }
   
   @Override
-  public double getRecoilEnergyDistant(double EkeV, double WakeV, double Qak) {
+  public double getRecoilEnergyDistant(double EkeV, double WakeV, double Qak, double rnd) {
     double m = 9.10938356E-31; // in Kg
     double c = 299792458;
     double csquared = c*c;  // (m/s)^2
     
     double Qminus = getQminusModified(EkeV, WakeV);
     double Qs = Qminus / (1+Qminus/(2*m*csquared));
-    double RND = Math.random();
     //gotta make sure all these units are changed to Joules to be correct when I do it properly
-    double Q = Qs * 1/(Math.pow((Qs/((Qak/1000)*Beam.KEVTOJOULES))*(1+(((Qak/1000)*Beam.KEVTOJOULES)/(2*m*csquared))), RND) - (Qs/(2*m*csquared)));
+    double Q = Qs * 1/(Math.pow((Qs/((Qak/1000)*Beam.KEVTOJOULES))*(1+(((Qak/1000)*Beam.KEVTOJOULES)/(2*m*csquared))), rnd) - (Qs/(2*m*csquared)));
     if (Qak == 0) {
       Q = 0;
     }
@@ -5234,10 +5551,10 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
   @Override
   public Map<Element, double[]> getGOSShellProbs(boolean surrounding, double totLambda){
     double totInel = 1/totLambda;  //nm^-1
-    Map<Element, double[]> ionisationProbs = new HashMap<Element, double[]>();
+    Map<Element, double[]> ionisationProbs = new LinkedHashMap<Element, double[]>();
     double runningSumFraction = 0;  //should equal 1 by the end
     if (surrounding == false) {
-      for (Element e : GOSinelastic.keySet()) {
+      for (Element e : byAtomicNumber(GOSinelastic.keySet())) {
         double[][] elementShells = GOSinelastic.get(e);
    //     double[] shellProbs = new double[4];
         double[] shellProbs = new double[9];
@@ -5252,7 +5569,7 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
       }
     }
     else {
-      for (Element e : GOSinelasticSurrounding.keySet()) {
+      for (Element e : byAtomicNumber(GOSinelasticSurrounding.keySet())) {
         double[][] elementShells = GOSinelasticSurrounding.get(e);
    //     double[] shellProbs = new double[4];
         double[] shellProbs = new double[9];
@@ -5273,10 +5590,10 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
   @Override
   public Map<Element, Double> getGOSOuterShellProbs(boolean surrounding, double totLambda){
     double totInel = 1/totLambda;  //nm^-1
-    Map<Element, Double> ionisationProbs = new HashMap<Element, Double>();
+    Map<Element, Double> ionisationProbs = new LinkedHashMap<Element, Double>();
     double runningSumFraction = 0;  //should equal 1 by the end
     if (surrounding == false) {
-      for (Element e : GOSinelastic.keySet()) {
+      for (Element e : byAtomicNumber(GOSinelastic.keySet())) {
         double[][] elementShells = GOSinelastic.get(e);
         int[] electrons = getNumValenceElectronsSubshells(e);
         int numInnerShells = electrons[1];
@@ -5288,7 +5605,7 @@ stoppingPower = stoppingPower * 1000 * density /1E7;
       }
     }
     else {
-      for (Element e : GOSinelasticSurrounding.keySet()) {
+      for (Element e : byAtomicNumber(GOSinelasticSurrounding.keySet())) {
         double[][] elementShells = GOSinelasticSurrounding.get(e);
         int[] electrons = getNumValenceElectronsSubshells(e);
         int numInnerShells = electrons[1];
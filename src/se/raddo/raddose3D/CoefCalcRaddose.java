@@ -621,7 +621,7 @@ public class CoefCalcRaddose extends CoefCalc {
   }
 
   @Override
-  public double getRecoilEnergyDistant(double EkeV, double WakeV, double Qak) {
+  public double getRecoilEnergyDistant(double EkeV, double WakeV, double Qak, double rnd) {
     // TODO Auto-generated method stub
     return 0;
   }
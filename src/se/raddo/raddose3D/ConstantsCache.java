@@ -0,0 +1,746 @@
+package se.raddo.raddose3D;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * The ConstantsCache provides the large comma separated physics tables in
+ * constants/ (ELSEPA angular cross sections, overvoltage coefficients, Auger
+ * and fluorescence linewidths) as {@link ConstantsTable} objects.
+ * <p>
+ * On first use all known tables are parsed once and written to a binary cache
+ * file. Later runs memory-map this file and decode tables lazily when they are
+ * requested, instead of parsing ~100 MB of CSV. Each cached table records the
+ * size, modification time and CRC32 checksum of its CSV source. When the cache
+ * file is opened, the size and modification time of every source are compared
+ * with the cache; only a source of the same size with a different
+ * modification time is read to compare its checksum. The cache file is
+ * rebuilt if any source has changed, or if a table that exists is missing
+ * from it.
+ * <p>
+ * The cache file is kept in the directory given by the system property
+ * raddose3d.cachedir, or in ~/.raddose3d by default. Setting the property to
+ * "none" disables the cache, in which case tables are parsed from CSV on
+ * first request. Either way, each table is read at most once per JVM.
+ * <p>
+ * This class is a Singleton. To obtain an instance of this class, call the
+ * getInstance() function. Separate instances with their own cache and
+ * constants directories may be created for testing.
+ */
+public final class ConstantsCache {
+  /** System property selecting the cache directory. */
+  public static final String               CACHE_DIR_PROPERTY = "raddose3d.cachedir";
+
+  /** Value of CACHE_DIR_PROPERTY that disables the cache file. */
+  public static final String               CACHE_DISABLED     = "none";
+
+  /** Name of the cache file within the cache directory. */
+  private static final String              CACHE_FILE         = "constants-tables.bin";
+
+  /** Identifies a cache file, "RD3DTBL" followed by the format version. */
+  private static final long                MAGIC              = 0x5244334454424C01L;
+
+  /** Highest atomic number for which tables may exist. */
+  private static final int                 MAX_ATOMIC_NUMBER  = 100;
+
+  /** Highest shell index for which linewidth tables may exist. */
+  private static final int                 MAX_SHELL          = 12;
+
+  /** Size of a double in bytes. */
+  private static final int                 DOUBLE_BYTES       = 8;
+
+  /** Size of an int in bytes. */
+  private static final int                 INT_BYTES          = 4;
+
+  /** Marks an unknown checksum or time stamp. */
+  private static final long                UNKNOWN            = -1;
+
+  /** Reference to the singleton instance of ConstantsCache. */
+  private static ConstantsCache            singleton;
+
+  /** Memory-mapped cache file, or null if no cache is available. */
+  private final ByteBuffer                 mapped;
+
+  /** Position of each table within the mapped cache file. */
+  private final Map<String, Long>          offsets;
+
+  /** Directory containing constants/, or null for the working directory. */
+  private final File                       root;
+
+  /** All tables that have been requested so far. */
+  private final Map<String, ConstantsTable> tables;
+
+  /**
+   * Fingerprint of a CSV source file, used to decide whether a cached table
+   * is still valid.
+   */
+  private static final class Source {
+    /** Size of the source in bytes. */
+    private final long size;
+    /** Modification time, or UNKNOWN. */
+    private final long modified;
+    /** CRC32 checksum of the content, or UNKNOWN. */
+    private final long crc;
+
+    /**
+     * Create a new fingerprint.
+     *
+     * @param size
+     *          size of the source in bytes
+     * @param modified
+     *          modification time, or UNKNOWN
+     * @param crc
+     *          CRC32 checksum of the content, or UNKNOWN
+     */
+    private Source(final long size, final long modified, final long crc) {
+      this.size = size;
+      this.modified = modified;
+      this.crc = crc;
+    }
+
+  }
+
+  /**
+   * Private constructor for the singleton instance, which uses the cache
+   * directory given by raddose3d.cachedir and the constants in the class path
+   * or working directory.
+   */
+  private ConstantsCache() {
+    this(getCacheDirectory(), null);
+  }
+
+  /**
+   * Create a constants cache that is independent of the singleton instance.
+   * Maps an existing, valid cache file or builds a new one if necessary.
+   *
+   * @param cacheDir
+   *          directory of the cache file, or null to disable the cache
+   * @param root
+   *          directory containing constants/ if it is not in the class path,
+   *          or null for the working directory
+   */
+  public ConstantsCache(final File cacheDir, final File root) {
+    this.root = root;
+    tables = new HashMap<String, ConstantsTable>();
+    offsets = new HashMap<String, Long>();
+
+    File cacheFile = null;
+    if (cacheDir != null) {
+      cacheFile = new File(cacheDir, CACHE_FILE);
+    }
+    ByteBuffer buffer = null;
+    if (cacheFile != null) {
+      try {
+        buffer = openCache(cacheFile);
+        if (buffer == null) {
+          buildCache(cacheFile);
+          buffer = openCache(cacheFile);
+        }
+      } catch (IOException e) {
+        System.err.println("ConstantsCache: Could not use cache file "
+            + cacheFile + ", reading tables from CSV: " + e.getMessage());
+        offsets.clear();
+        buffer = null;
+      }
+    }
+    mapped = buffer;
+  }
+
+  /**
+   * Returns an instance of the constants cache. The true constructor of
+   * ConstantsCache is private, as ConstantsCache is a Singleton.
+   *
+   * @return
+   *         Instance of the constants cache.
+   */
+  @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+  public static synchronized ConstantsCache getInstance() {
+    if (singleton == null) {
+      singleton = new ConstantsCache();
+    }
+    return singleton;
+  }
+
+  /**
+   * Returns the content of a constants file.
+   *
+   * @param path
+   *          relative path of the CSV file, eg. "constants/fullelsepa.csv"
+   * @return
+   *         the table
+   * @throws IOException
+   *           The constants file could not be found or accessed.
+   */
+  public synchronized ConstantsTable getTable(final String path)
+      throws IOException {
+    ConstantsTable t = tables.get(path);
+    if (t == null) {
+      Long offset = offsets.get(path);
+      if (offset == null) {
+        t = parseCSV(openSource(path), null);
+      } else {
+        t = decodeTable(offset);
+      }
+      tables.put(path, t);
+    }
+    return t;
+  }
+
+  /**
+   * Returns the directory in which RADDOSE-3D keeps its cache files.
+   *
+   * @return
+   *         the cache directory, or null if caching is disabled
+   */
+  static File getCacheDirectory() {
+    String dir = System.getProperty(CACHE_DIR_PROPERTY);
+    if (dir == null) {
+      dir = System.getProperty("user.home") + File.separator + ".raddose3d";
+    }
+    if (CACHE_DISABLED.equalsIgnoreCase(dir)) {
+      return null;
+    }
+    return new File(dir);
+  }
+
+  /**
+   * Map a cache file and read its index, if the file exists and all tables
+   * in it are up to date.
+   *
+   * @param cacheFile
+   *          location of the cache file
+   * @return
+   *         the mapped file, or null if it needs to be (re)built
+   * @throws IOException
+   *           The cache file could not be read.
+   */
+  private ByteBuffer openCache(final File cacheFile) throws IOException {
+    if (!cacheFile.isFile()) {
+      return null;
+    }
+    RandomAccessFile raf = new RandomAccessFile(cacheFile, "r");
+    MappedByteBuffer buffer;
+    try {
+      FileChannel channel = raf.getChannel();
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } finally {
+      // The mapping stays valid after the file is closed.
+      raf.close();
+    }
+
+    if (buffer.limit() < DOUBLE_BYTES * 2 || buffer.getLong(0) != MAGIC) {
+      return null;
+    }
+    try {
+      return readIndex(buffer);
+    } catch (IndexOutOfBoundsException e) {
+      // Truncated or otherwise damaged file
+      return null;
+    }
+  }
+
+  /**
+   * Read the index of a mapped cache file and check that all tables in it
+   * are up to date, and that it holds every table that exists.
+   *
+   * @param buffer
+   *          the mapped cache file
+   * @return
+   *         the mapped file, or null if it needs to be rebuilt
+   * @throws IOException
+   *           The sources of the tables could not be accessed.
+   */
+  private ByteBuffer readIndex(final ByteBuffer buffer) throws IOException {
+    int position = (int) buffer.getLong(DOUBLE_BYTES);
+    int count = buffer.getInt(position);
+    position += INT_BYTES;
+
+    Map<String, Long> index = new HashMap<String, Long>();
+    for (int i = 0; i < count; i++) {
+      int length = buffer.getShort(position) & 0xFFFF;
+      position += 2;
+      byte[] name = new byte[length];
+      for (int j = 0; j < length; j++) {
+        name[j] = buffer.get(position + j);
+      }
+      position += length;
+      String path = new String(name, "UTF-8");
+      Source cached = new Source(buffer.getLong(position),
+          buffer.getLong(position + DOUBLE_BYTES),
+          buffer.getLong(position + 2 * DOUBLE_BYTES));
+      long offset = buffer.getLong(position + 3 * DOUBLE_BYTES);
+      position += 4 * DOUBLE_BYTES;
+
+      if (!isCurrent(path, cached)) {
+        return null;
+      }
+      index.put(path, offset);
+    }
+    // A cache built where only some tables were found, eg. from a different
+    // working directory, is incomplete.
+    if (index.isEmpty() || !index.keySet().containsAll(knownTables())) {
+      return null;
+    }
+    offsets.clear();
+    offsets.putAll(index);
+    return buffer;
+  }
+
+  /**
+   * Check whether a table in the cache was built from the current content of
+   * its source. Checksums are compared directly when both are known (eg. for
+   * sources within a .jar file). Otherwise a source with an unchanged size
+   * and modification time is taken to be unchanged, and a source of the same
+   * size that has been touched since, eg. by a fresh checkout, is read to
+   * compare its checksum.
+   *
+   * @param path
+   *          relative path of the CSV file
+   * @param cached
+   *          fingerprint stored in the cache
+   * @return
+   *         true if the cached table was built from the current source
+   * @throws IOException
+   *           The source could not be read.
+   */
+  private boolean isCurrent(final String path, final Source cached)
+      throws IOException {
+    Source current = fingerprint(path);
+    if (current == null || current.size != cached.size) {
+      return false;
+    }
+    if (current.crc != UNKNOWN && cached.crc != UNKNOWN) {
+      return current.crc == cached.crc;
+    }
+    if (current.modified == cached.modified) {
+      return true;
+    }
+    if (cached.crc == UNKNOWN) {
+      return false;
+    }
+    CRC32 crc = new CRC32();
+    InputStream in = new CheckedInputStream(openSource(path), crc);
+    try {
+      byte[] buffer = new byte[64 * 1024];
+      while (in.read(buffer) >= 0) {
+        continue;
+      }
+    } finally {
+      in.close();
+    }
+    return crc.getValue() == cached.crc;
+  }
+
+  /**
+   * Parse all known constants files and write them to a new cache file. The
+   * file is written under a temporary name and then moved into place, so that
+   * concurrent processes never see a partially written cache.
+   *
+   * @param cacheFile
+   *          location of the cache file
+   * @throws IOException
+   *           No constants files were found, or the cache file could not be
+   *           written.
+   */
+  private void buildCache(final File cacheFile) throws IOException {
+    List<String> paths = knownTables();
+    if (paths.isEmpty()) {
+      throw new IOException("No constants tables found in the class path or "
+          + new File(root, "constants").getAbsolutePath());
+    }
+    File dir = cacheFile.getAbsoluteFile().getParentFile();
+    if (!dir.isDirectory() && !dir.mkdirs()) {
+      throw new IOException("Could not create directory " + dir);
+    }
+    System.out.println("Building constants table cache " + cacheFile);
+
+    File tmp = File.createTempFile(CACHE_FILE, ".tmp", dir);
+    try {
+      Map<String, Source> sources = new LinkedHashMap<String, Source>();
+      Map<String, Long> positions = new LinkedHashMap<String, Long>();
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          new FileOutputStream(tmp)));
+      long position = 0;
+      try {
+        out.writeLong(MAGIC);
+        out.writeLong(0); // index position, filled in below
+        position += 2 * DOUBLE_BYTES;
+
+        for (String path : paths) {
+          Source s = fingerprint(path);
+          CRC32 crc = new CRC32();
+          ConstantsTable t = parseCSV(openSource(path), crc);
+          sources.put(path, new Source(s.size, s.modified, crc.getValue()));
+          positions.put(path, position);
+          position += writeTable(out, t);
+        }
+
+        out.writeInt(sources.size());
+        for (Map.Entry<String, Source> e : sources.entrySet()) {
+          byte[] name = e.getKey().getBytes("UTF-8");
+          out.writeShort(name.length);
+          out.write(name);
+          out.writeLong(e.getValue().size);
+          out.writeLong(e.getValue().modified);
+          out.writeLong(e.getValue().crc);
+          out.writeLong(positions.get(e.getKey()));
+        }
+      } finally {
+        out.close();
+      }
+
+      RandomAccessFile raf = new RandomAccessFile(tmp, "rw");
+      try {
+        raf.seek(DOUBLE_BYTES);
+        raf.writeLong(position);
+      } finally {
+        raf.close();
+      }
+
+      try {
+        Files.move(tmp.toPath(), cacheFile.toPath(),
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp.toPath(), cacheFile.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      if (tmp.exists() && !tmp.delete()) {
+        tmp.deleteOnExit();
+      }
+    }
+  }
+
+  /**
+   * Write a single table in cache format. Layout: number of rows, row start
+   * indices, padding to a multiple of 8 bytes, all cell values, number of
+   * text cells followed by (cell index, text) pairs, padding.
+   *
+   * @param out
+   *          stream positioned at a multiple of 8 bytes
+   * @param t
+   *          table to be written
+   * @return
+   *         number of bytes written
+   * @throws IOException
+   *           The table could not be written.
+   */
+  private static long writeTable(final DataOutputStream out,
+      final ConstantsTable t) throws IOException {
+    long bytes = 0;
+    int rows = t.getRowCount();
+    out.writeInt(rows);
+    int cells = 0;
+    for (int r = 0; r < rows; r++) {
+      out.writeInt(cells);
+      cells += t.getColumnCount(r);
+    }
+    out.writeInt(cells);
+    bytes += (rows + 2) * INT_BYTES;
+    bytes += pad(out, bytes);
+
+    List<Integer> textCells = new ArrayList<Integer>();
+    List<String> textValues = new ArrayList<String>();
+    int cell = 0;
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < t.getColumnCount(r); c++) {
+        out.writeDouble(t.getValue(r, c));
+        String text = t.getText(r, c);
+        if (text != null) {
+          textCells.add(cell);
+          textValues.add(text);
+        }
+        cell++;
+      }
+    }
+    bytes += (long) cells * DOUBLE_BYTES;
+
+    out.writeInt(textCells.size());
+    bytes += INT_BYTES;
+    for (int i = 0; i < textCells.size(); i++) {
+      byte[] text = textValues.get(i).getBytes("UTF-8");
+      out.writeInt(textCells.get(i));
+      out.writeShort(text.length);
+      out.write(text);
+      bytes += INT_BYTES + 2 + text.length;
+    }
+    bytes += pad(out, bytes);
+    return bytes;
+  }
+
+  /**
+   * Pad a stream to a multiple of 8 bytes.
+   *
+   * @param out
+   *          the stream
+   * @param written
+   *          number of bytes written since the last aligned position
+   * @return
+   *         number of padding bytes written
+   * @throws IOException
+   *           The padding could not be written.
+   */
+  private static int pad(final DataOutputStream out, final long written)
+      throws IOException {
+    int padding = (int) ((DOUBLE_BYTES - written % DOUBLE_BYTES)
+        % DOUBLE_BYTES);
+    for (int i = 0; i < padding; i++) {
+      out.writeByte(0);
+    }
+    return padding;
+  }
+
+  /**
+   * Create a table backed by the mapped cache file.
+   *
+   * @param offset
+   *          position of the table within the cache file
+   * @return
+   *         the table
+   * @throws IOException
+   *           The text cells could not be decoded.
+   */
+  private ConstantsTable decodeTable(final long offset) throws IOException {
+    int position = (int) offset;
+    int rows = mapped.getInt(position);
+    position += INT_BYTES;
+
+    ByteBuffer view = mapped.duplicate();
+    view.position(position);
+    IntBuffer rowStart = view.slice().asIntBuffer();
+    rowStart.limit(rows + 1);
+    int cells = rowStart.get(rows);
+    position += (rows + 1) * INT_BYTES;
+    position += (DOUBLE_BYTES - (rows + 2) * INT_BYTES % DOUBLE_BYTES)
+        % DOUBLE_BYTES;
+
+    view.position(position);
+    DoubleBuffer values = view.slice().asDoubleBuffer();
+    values.limit(cells);
+    position += cells * DOUBLE_BYTES;
+
+    Map<Integer, String> texts = new HashMap<Integer, String>();
+    int count = mapped.getInt(position);
+    position += INT_BYTES;
+    for (int i = 0; i < count; i++) {
+      int cell = mapped.getInt(position);
+      int length = mapped.getShort(position + INT_BYTES) & 0xFFFF;
+      position += INT_BYTES + 2;
+      byte[] text = new byte[length];
+      for (int j = 0; j < length; j++) {
+        text[j] = mapped.get(position + j);
+      }
+      position += length;
+      texts.put(cell, new String(text, "UTF-8"));
+    }
+    return new ConstantsTable(rowStart, values, texts);
+  }
+
+  /**
+   * Parse a comma separated constants file into a heap-backed table.
+   *
+   * @param is
+   *          stream with the file content, will be closed
+   * @param crc
+   *          checksum to be updated with the file content, may be null
+   * @return
+   *         the table
+   * @throws IOException
+   *           The file could not be read.
+   */
+  static ConstantsTable parseCSV(final InputStream is, final CRC32 crc)
+      throws IOException {
+    InputStream in = is;
+    if (crc != null) {
+      in = new CheckedInputStream(is, crc);
+    }
+    BufferedReader br = new BufferedReader(new InputStreamReader(in,
+        "US-ASCII"));
+
+    List<Integer> rowStart = new ArrayList<Integer>();
+    double[] values = new double[1024];
+    int cells = 0;
+    Map<Integer, String> texts = new HashMap<Integer, String>();
+    try {
+      String line;
+      while ((line = br.readLine()) != null) {
+        if (line.length() == 0 || line.charAt(0) == '#') {
+          continue;
+        }
+        rowStart.add(cells);
+        for (String component : line.split(",", -1)) {
+          if (cells == values.length) {
+            double[] larger = new double[values.length * 2];
+            System.arraycopy(values, 0, larger, 0, cells);
+            values = larger;
+          }
+          try {
+            values[cells] = Double.parseDouble(component);
+          } catch (NumberFormatException e) {
+            values[cells] = Double.NaN;
+            texts.put(cells, component);
+          }
+          cells++;
+        }
+      }
+    } finally {
+      br.close();
+    }
+
+    int[] starts = new int[rowStart.size() + 1];
+    for (int i = 0; i < rowStart.size(); i++) {
+      starts[i] = rowStart.get(i);
+    }
+    starts[rowStart.size()] = cells;
+    return new ConstantsTable(IntBuffer.wrap(starts),
+        DoubleBuffer.wrap(values, 0, cells).slice(), texts);
+  }
+
+  /**
+   * Lists all constants files that are stored in the cache.
+   *
+   * @return
+   *         relative paths of all existing constants tables
+   */
+  private List<String> knownTables() {
+    List<String> paths = new ArrayList<String>();
+    addIfPresent(paths, "constants/fullelsepa.csv");
+    addIfPresent(paths, "constants/low_overvoltage.csv");
+    addIfPresent(paths, "constants/high_overvoltage.csv");
+    for (int z = 1; z <= MAX_ATOMIC_NUMBER; z++) {
+      addIfPresent(paths, "constants/above_20000/" + z + ".csv");
+      addIfPresent(paths, "constants/below_20000/" + z + ".csv");
+      for (int shell = 0; shell <= MAX_SHELL; shell++) {
+        addIfPresent(paths, "constants/auger_linewidths/" + z + "-" + shell
+            + ".csv");
+        addIfPresent(paths, "constants/fl_linewidths/" + z + "-" + shell
+            + ".csv");
+      }
+    }
+    return paths;
+  }
+
+  /**
+   * Add a path to a list if the file exists.
+   *
+   * @param paths
+   *          list of paths
+   * @param path
+   *          relative path of a constants file
+   */
+  private void addIfPresent(final List<String> paths, final String path) {
+    if (findResource(path) != null || new File(root, path).isFile()) {
+      paths.add(path);
+    }
+  }
+
+  /**
+   * Look up a constants file in the class path. The class path is not
+   * searched if an explicit constants directory was given.
+   *
+   * @param path
+   *          relative path of the constants file
+   * @return
+   *         location of the file, or null if it is not in the class path
+   */
+  private URL findResource(final String path) {
+    if (root != null) {
+      return null;
+    }
+    return ConstantsCache.class.getResource("/" + path);
+  }
+
+  /**
+   * Open a constants file. This may be in the class path (ie. within a .jar
+   * file), or in the file system.
+   *
+   * @param path
+   *          relative path of the constants file
+   * @return
+   *         stream with the file content
+   * @throws IOException
+   *           The file could not be found.
+   */
+  private InputStream openSource(final String path) throws IOException {
+    URL url = findResource(path);
+    if (url != null) {
+      return url.openStream();
+    }
+    return new FileInputStream(new File(root, path));
+  }
+
+  /**
+   * Determine the fingerprint of a constants file without reading it. For
+   * files within a .jar the checksum is taken from the archive directory.
+   *
+   * @param path
+   *          relative path of the constants file
+   * @return
+   *         fingerprint of the file, or null if it does not exist
+   * @throws IOException
+   *           The .jar file could not be accessed.
+   */
+  private Source fingerprint(final String path) throws IOException {
+    URL url = findResource(path);
+    if (url != null) {
+      if ("file".equals(url.getProtocol())) {
+        try {
+          return fingerprint(new File(url.toURI()));
+        } catch (java.net.URISyntaxException e) {
+          throw new IOException("Invalid resource location " + url, e);
+        }
+      }
+      URLConnection connection = url.openConnection();
+      if (connection instanceof JarURLConnection) {
+        JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+        return new Source(entry.getSize(), entry.getTime(), entry.getCrc());
+      }
+      return new Source(connection.getContentLengthLong(),
+          connection.getLastModified(), UNKNOWN);
+    }
+    File f = new File(root, path);
+    if (!f.isFile()) {
+      return null;
+    }
+    return fingerprint(f);
+  }
+
+  /**
+   * Determine the fingerprint of a file in the file system.
+   *
+   * @param f
+   *          the file
+   * @return
+   *         fingerprint of the file
+   */
+  private static Source fingerprint(final File f) {
+    return new Source(f.length(), f.lastModified(), UNKNOWN);
+  }
+}
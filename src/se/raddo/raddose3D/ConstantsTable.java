@@ -0,0 +1,137 @@
+package se.raddo.raddose3D;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.Map;
+
+/**
+ * A ConstantsTable holds the content of one comma separated constants file
+ * from the constants/ directory. Cells are stored as doubles. Cells that are
+ * not numbers (eg. element names or shell labels) are stored as NaN, and their
+ * text is available through getText(). Lines starting with '#' are comments
+ * and are not part of the table.
+ * <p>
+ * Tables are either backed by a memory-mapped {@link ConstantsCache} file or,
+ * if no cache is available, by arrays on the heap. Instances are immutable and
+ * can be shared between threads.
+ */
+public final class ConstantsTable {
+  /** Index of the first cell of each row, plus the total number of cells. */
+  private final IntBuffer            rowStart;
+
+  /** All cells of the table, row after row. */
+  private final DoubleBuffer         values;
+
+  /** Text of all non-numeric cells, keyed by cell index. */
+  private final Map<Integer, String> texts;
+
+  /**
+   * Create a table from its components.
+   *
+   * @param rowStart
+   *          index of the first cell of each row, followed by the total
+   *          number of cells
+   * @param values
+   *          cell values
+   * @param texts
+   *          text of non-numeric cells, keyed by cell index
+   */
+  ConstantsTable(final IntBuffer rowStart, final DoubleBuffer values,
+      final Map<Integer, String> texts) {
+    this.rowStart = rowStart;
+    this.values = values;
+    this.texts = texts;
+  }
+
+  /**
+   * Returns the number of rows in the table.
+   *
+   * @return
+   *         number of rows
+   */
+  public int getRowCount() {
+    return rowStart.limit() - 1;
+  }
+
+  /**
+   * Returns the number of cells in a row.
+   *
+   * @param row
+   *          row index, starting at 0
+   * @return
+   *         number of cells in the row
+   */
+  public int getColumnCount(final int row) {
+    return rowStart.get(row + 1) - rowStart.get(row);
+  }
+
+  /**
+   * Returns the numeric value of a cell.
+   *
+   * @param row
+   *          row index, starting at 0
+   * @param column
+   *          column index, starting at 0
+   * @return
+   *         value of the cell, NaN if the cell is not a number
+   */
+  public double getValue(final int row, final int column) {
+    return values.get(cellIndex(row, column));
+  }
+
+  /**
+   * Returns the numeric values of a row, starting at a given column.
+   *
+   * @param row
+   *          row index, starting at 0
+   * @param fromColumn
+   *          first column to be returned
+   * @return
+   *         newly allocated array with the values of the columns fromColumn
+   *         to the end of the row
+   */
+  public double[] getRow(final int row, final int fromColumn) {
+    int length = getColumnCount(row) - fromColumn;
+    if (length <= 0) {
+      return new double[0];
+    }
+    double[] result = new double[length];
+    // Bulk copy on a private view, so that tables stay thread safe.
+    DoubleBuffer view = values.duplicate();
+    view.position(cellIndex(row, fromColumn));
+    view.get(result);
+    return result;
+  }
+
+  /**
+   * Returns the text of a non-numeric cell.
+   *
+   * @param row
+   *          row index, starting at 0
+   * @param column
+   *          column index, starting at 0
+   * @return
+   *         the original text of the cell, or null if the cell is a number
+   */
+  public String getText(final int row, final int column) {
+    return texts.get(cellIndex(row, column));
+  }
+
+  /**
+   * Convert row and column into a position in the value buffer.
+   *
+   * @param row
+   *          row index, starting at 0
+   * @param column
+   *          column index, starting at 0
+   * @return
+   *         position of the cell in the value buffer
+   */
+  private int cellIndex(final int row, final int column) {
+    if (column < 0 || column >= getColumnCount(row)) {
+      throw new IndexOutOfBoundsException("Row " + row + " has no column "
+          + column);
+    }
+    return rowStart.get(row) + column;
+  }
+}
@@ -45,6 +45,8 @@ public abstract class Crystal {
   public static final String     CRYSTAL_PROGRAM       = "PROGRAM";
   /** Constant for data fields in Map constructors: Electrons. */
   public static final String     CRYSTAL_RUNS       = "RUNS";
+  /** Constant for data fields in Map constructors: Random number seed. */
+  public static final String     CRYSTAL_SEED       = "SEED";
   
   /** Constant for data fields in Map constructors: Electrons. */
   public static final String     SURROUNDING_X       = "SURROUNDINGX";
@@ -60,8 +62,11 @@ public abstract class Crystal {
   /** Constant for data fields in Map constructors: Container Type. */
   public static final String     CRYSTAL_CONTAINER             = "CONTAINER";
 
-  /** Default recommended voxel resolution in voxels/micrometre. */
-  protected static  Double  CRYSTAL_RESOLUTION_DEF        = 0.5d;
+  /**
+   * Default recommended voxel resolution in voxels/micrometre. Kept per
+   * instance, as it is derived from the dimensions of this crystal.
+   */
+  protected Double               CRYSTAL_RESOLUTION_DEF        = 0.5d;
 
   /** Number of exposure-steps when crystal is exposed without rotation. */
   public static final int        STATICEXPOSURE                = 100;
@@ -151,6 +156,26 @@ public abstract class Crystal {
  // public final boolean useElectrons;
   public final String subprogram;
   public final int runs;
+
+  /** Results of the subprogram runs of the last exposure. */
+  private final List<SubprogramResult> subprogramResults = new ArrayList<SubprogramResult>();
+
+  /**
+   * Root of all random number streams used by the Monte Carlo simulations of
+   * this crystal. Each simulation receives its own substream.
+   */
+  private final RandomStream randomStreams;
+
+  /** Number of substreams handed out by nextRandomStream(). */
+  private long randomStreamCount;
+
+  /** Let the subprograms write their csv files. */
+  private boolean writeOutputFiles = true;
+  /**
+   * Prefix of the csv files written by the subprograms, or null for the
+   * legacy file names.
+   */
+  private String outputPrefix;
   
   /**
    * Goniometer Orientation
@@ -278,6 +303,14 @@ public abstract class Crystal {
       runs = 1;
     }
 
+    if (properties.get(CRYSTAL_SEED) != null) {
+      randomStreams = RandomStream.fromSeed(
+          ((Number) properties.get(CRYSTAL_SEED)).longValue());
+    }
+    else {
+      randomStreams = RandomStream.fromSeed(null);
+    }
+
     //Check that ppm is sensible
     if ((properties.get(CRYSTAL_RESOLUTION) != null) && (properties.get(CRYSTAL_DIM_X) != null)) {
       isPPMSensible(properties); 
@@ -440,9 +473,13 @@ public abstract class Crystal {
   public abstract void setFLparamsForCurrentBeam(final double[][] feFactors);
   public abstract void setCryoPEparamsForCurrentBeam(Beam beam, CoefCalc coefCalc, double[][] feFactors);
   
-  public abstract void startMicroED(double XDim, double YDim, double ZDim, Beam beam, Wedge wedge, CoefCalc coefCalc, String crystalType);
-  public abstract void startXFEL(double XDim, double YDim, double ZDim, Beam beam, Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer, boolean xfel, boolean gos, boolean verticalPolarisation);
-  public abstract void startMC(double XDim, double YDim, double ZDim, Beam beam, Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer, boolean xfel, boolean gos, double[] surrThickness, boolean verticalPolarisation);
+  /*
+   * The subprograms return their results keyed by the csv column names, or
+   * null if the crystal type does not support them.
+   */
+  public abstract Map<String, Double> startMicroED(double XDim, double YDim, double ZDim, Beam beam, Wedge wedge, CoefCalc coefCalc, String crystalType);
+  public abstract Map<String, Double> startXFEL(double XDim, double YDim, double ZDim, Beam beam, Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer, boolean xfel, boolean gos, boolean verticalPolarisation);
+  public abstract Map<String, Double> startMC(double XDim, double YDim, double ZDim, Beam beam, Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer, boolean xfel, boolean gos, double[] surrThickness, boolean verticalPolarisation);
   
   /**
    * finds the voxels that the bins on the tracks are in
@@ -552,6 +589,63 @@ public abstract class Crystal {
     return ddm;
   }
 
+  /**
+   * Returns the seed of the random number streams of this crystal. Setting
+   * the same seed in the input file reproduces a simulation.
+   *
+   * @return
+   *         Random number seed.
+   */
+  public final long getRandomSeed() {
+    return randomStreams.getSeed();
+  }
+
+  /**
+   * Sets where the simulation subprograms write their csv files. Without a
+   * prefix they keep their legacy file names in the working directory.
+   *
+   * @param write
+   *          let the subprograms write their csv files at all
+   * @param prefix
+   *          output file prefix, or null
+   */
+  public final void setOutputFiles(final boolean write, final String prefix) {
+    writeOutputFiles = write;
+    outputPrefix = prefix;
+  }
+
+  /**
+   * Returns whether the subprograms write their csv files.
+   *
+   * @return
+   *         true if the csv files are written
+   */
+  protected final boolean writesOutputFiles() {
+    return writeOutputFiles;
+  }
+
+  /**
+   * Returns the prefix of the csv files written by the subprograms.
+   *
+   * @return
+   *         output file prefix, or null for the legacy file names
+   */
+  protected final String getOutputPrefix() {
+    return outputPrefix;
+  }
+
+  /**
+   * Returns a new random number stream for a Monte Carlo simulation. Each call
+   * returns an independent substream, determined by the seed and the number
+   * of preceding calls.
+   *
+   * @return
+   *         RandomStream object.
+   */
+  protected final RandomStream nextRandomStream() {
+    return randomStreams.substream(randomStreamCount++);
+  }
+
   /**
    * Register an observer for crystal exposures.
    * If the observer has already been registered it will not be registered
@@ -698,6 +792,32 @@ public abstract class Crystal {
     setCryoPEparamsForCurrentBeam(beam, coefCalc, cryoFeFactors); 
   }
   
+  /**
+   * Record the results of a subprogram run.
+   *
+   * @param runNum
+   *          Number of the run, starting at 1.
+   * @param results
+   *          Results of the run, or null if there are none.
+   */
+  private void addSubprogramResult(final int runNum,
+      final Map<String, Double> results) {
+    if (results != null) {
+      subprogramResults.add(new SubprogramResult(subprogram, runNum, results));
+    }
+  }
+
+  /**
+   * Returns the results of the subprogram runs of the last exposure.
+   *
+   * @return
+   *         one result per run, empty if the last wedge was exposed by the
+   *         standard dose calculation.
+   */
+  public List<SubprogramResult> getSubprogramResults() {
+    return new ArrayList<SubprogramResult>(subprogramResults);
+  }
+
   /**
    * Expose this crystal to a given beam according to a strategy.
    *
@@ -713,8 +833,10 @@ public abstract class Crystal {
 
     //start XFEL here, just comment and uncomment for now
     System.out.println("Current RADDOSE-3D version is: " + Version.VERSION_MAJOR + "." + Version.VERSION_MINOR);
+    System.out.println("Random number seed is: " + randomStreams.getSeed());
     
     coefCalc.updateCoefficients(beam);
+    subprogramResults.clear();
     boolean xfel = true;
     boolean gos = true;
     double[] surrThickness = new double[3];
@@ -728,13 +850,11 @@ public abstract class Crystal {
       gos = true;
       for (int i = 0; i < runs; i++) {
         int runNum = i+1;
-        startXFEL(XDim, YDim, ZDim, beam, wedge, coefCalc, runNum, verticalGoniometer, xfel, gos, verticalPolarisation);
+        addSubprogramResult(runNum, startXFEL(XDim, YDim, ZDim, beam, wedge, coefCalc, runNum, verticalGoniometer, xfel, gos, verticalPolarisation));
       }
-      //terminate the program
-      System.exit(0);
     }
     else if (subprogram.equals("EMSP") || subprogram.equals("EMED")){
-      startMicroED(XDim, YDim, ZDim, beam, wedge, coefCalc, crystalType);
+      addSubprogramResult(1, startMicroED(XDim, YDim, ZDim, beam, wedge, coefCalc, crystalType));
     }
     else if (subprogram.equals("MONTECARLO")){
     //want to add in a simple Monte Carlo and a GOS Monte Carlo
@@ -742,20 +862,16 @@ public abstract class Crystal {
     gos = false;
     for (int i = 0; i < runs; i++) {
       int runNum = i+1;
-      startMC(XDim, YDim, ZDim, beam, wedge, coefCalc, runNum, verticalGoniometer, xfel, gos, surrThickness, verticalPolarisation);
+      addSubprogramResult(runNum, startMC(XDim, YDim, ZDim, beam, wedge, coefCalc, runNum, verticalGoniometer, xfel, gos, surrThickness, verticalPolarisation));
     }
-    //terminate the program
-    System.exit(0);
     }
     else if (subprogram.equals("GOS")){
       xfel = false;
       gos = true;
       for (int i = 0; i < runs; i++) {
         int runNum = i+1;
-        startMC(XDim, YDim, ZDim, beam, wedge, coefCalc, runNum, verticalGoniometer, xfel, gos, surrThickness, verticalPolarisation);
+        addSubprogramResult(runNum, startMC(XDim, YDim, ZDim, beam, wedge, coefCalc, runNum, verticalGoniometer, xfel, gos, surrThickness, verticalPolarisation));
       }
-      //terminate the program
-      System.exit(0);
     }
     else {
   
@@ -594,17 +594,17 @@ public class CrystalCuboidOld extends Crystal {
     return 0;
   }
 
-  public void startMicroED(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startMicroED(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, String crystalType) {
     // TODO Auto-generated method stub
-    
+    return null;
   }
 
   @Override
-  public void startXFEL(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startXFEL(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer, boolean xfelTrue, boolean gos, boolean verticalPolarisation) {
     // TODO Auto-generated method stub
-    
+    return null;
   }
   
 
@@ -632,11 +632,11 @@ public class CrystalCuboidOld extends Crystal {
   }
 
   @Override
-  public void startMC(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startMC(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer,
       boolean xfel, boolean gos, double[] surrThickness, boolean verticalPolarisation) {
     // TODO Auto-generated method stub
-    
+    return null;
   }
 
 }
@@ -18,7 +18,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * @author magd3052
@@ -76,22 +75,22 @@ public class CrystalPolyhedron extends Crystal {
   /**
    * Constants for calculation of Gumbel distribution mu and beta parameters.
    */
-  private static  double[] GUMBEL_DISTN_CALC_LOC = {0.0121, 0.0405}; //initially set as 1.17, <20keV
-  private static  double[] GUMBEL_DISTN_CALC_SCALE = {0.002, 0.0076}; //initially set as 1.17, <20keV
-  private static  double[] CRYO_GUMBEL_DISTN_CALC_LOC = {0.0121, 0.0405}; //initially set as 1.17, <20keV
-  private static  double[] CRYO_GUMBEL_DISTN_CALC_SCALE = {0.002, 0.0076}; //initially set as 1.17, <20keV
+  private double[] GUMBEL_DISTN_CALC_LOC = {0.0121, 0.0405}; //initially set as 1.17, <20keV
+  private double[] GUMBEL_DISTN_CALC_SCALE = {0.002, 0.0076}; //initially set as 1.17, <20keV
+  private double[] CRYO_GUMBEL_DISTN_CALC_LOC = {0.0121, 0.0405}; //initially set as 1.17, <20keV
+  private double[] CRYO_GUMBEL_DISTN_CALC_SCALE = {0.002, 0.0076}; //initially set as 1.17, <20keV
 
   /**
    * Constants for calculation of JohnsonSU distribution gamma and eta and loc/scale parameters.
    */
-  private static  double JSU_DISTN_CALC_LOC; //initially set as 1.17, <20keV
-  private static  double JSU_DISTN_CALC_SCALE; //initially set as 1.17, <20keV
-  private static  double JSU_DISTN_CALC_GAMMA; //initially set as 1.17, <20keV
-  private static  double JSU_DISTN_CALC_ETA; //initially set as 1.17, <20keV
-  private static  double CRYO_JSU_DISTN_CALC_LOC; //initially set as 1.17, <20keV
-  private static  double CRYO_JSU_DISTN_CALC_SCALE; //initially set as 1.17, <20keV
-  private static  double CRYO_JSU_DISTN_CALC_GAMMA; //initially set as 1.17, <20keV
-  private static  double CRYO_JSU_DISTN_CALC_ETA; //initially set as 1.17, <20keV
+  private double JSU_DISTN_CALC_LOC; //initially set as 1.17, <20keV
+  private double JSU_DISTN_CALC_SCALE; //initially set as 1.17, <20keV
+  private double JSU_DISTN_CALC_GAMMA; //initially set as 1.17, <20keV
+  private double JSU_DISTN_CALC_ETA; //initially set as 1.17, <20keV
+  private double CRYO_JSU_DISTN_CALC_LOC; //initially set as 1.17, <20keV
+  private double CRYO_JSU_DISTN_CALC_SCALE; //initially set as 1.17, <20keV
+  private double CRYO_JSU_DISTN_CALC_GAMMA; //initially set as 1.17, <20keV
+  private double CRYO_JSU_DISTN_CALC_ETA; //initially set as 1.17, <20keV
   
   /**
    * Distance bins travelled by a photoelectron.
@@ -143,8 +142,11 @@ public class CrystalPolyhedron extends Crystal {
   private static final int   FL_ANGLE_RES_LIMIT = 16;
 
 //  private final int numberAngularEmissionBins = 10;
-  public TreeMap<Double, double[]>[]  lowEnergyAngles;
-  public TreeMap<Double, double[]>[]  highEnergyAngles;
+  
+  /**
+   * Random number stream for photoelectron and fluorescence escape.
+   */
+  private final RandomStream random;
   
   /**
    * Stores the number of tracks used for fluorescence 
@@ -152,15 +154,17 @@ public class CrystalPolyhedron extends Crystal {
   private int numberOfTracksFL;
   
   /**
-   * Stores the indexes of the tracks, biased so a more likely tracks is stored proportionally more times
+   * Stores the indexes of the tracks, biased so a more likely tracks is stored proportionally more times.
+   * Recalculated for every wedge, so not part of a checkpoint.
    */
-  private int [] trackNumberBias;
+  private transient int [] trackNumberBias;
   
   /**
-   * 3d array for voxels where photoelectrons can reach
+   * 3d array for voxels where photoelectrons can reach.
+   * Recalculated for every wedge, so not part of a checkpoint.
    */
-  private  double[][][] relativeVoxXYZ;
-  private  double[][][] relativeVoxXYZCryoCrystal;
+  private transient double[][][] relativeVoxXYZ;
+  private transient double[][][] relativeVoxXYZCryoCrystal;
   
   /**
    * Has the photoelectron angular distribution based on the material
@@ -179,9 +183,10 @@ public class CrystalPolyhedron extends Crystal {
   
   /**
    * 5d array for voxels where fluorescence can reach
-   * the first two dimensions are element and shell
+   * the first two dimensions are element and shell.
+   * Recalculated for every wedge, so not part of a checkpoint.
    */
-  private double[][][][][] flRelativeVoxXYZ;
+  private transient double[][][][][] flRelativeVoxXYZ;
  // private double[][][][] flRelativeVoxXYZ;
   /**
    * Proportion of voxel dose deposited at each distance
@@ -250,203 +255,15 @@ public class CrystalPolyhedron extends Crystal {
   public double[]              originDistances, rotatedOriginDistances;
 
   /**
-   * Vector class containing magical vector methods
-   * like cross products and magnitudes.
-   *
-   * @author magd3052
-   */
-  public static class Vector {
-    /**
-     * Returns magnitude of 3D vector.
-     *
-     * @param vector 3d coordinates of vector
-     * @return magnitude scalar.
-     */
-    public static double vectorMagnitude(final double[] vector) {
-      double squaredDistance = Math.pow(vector[0], 2) + Math.pow(vector[1], 2)
-          + Math.pow(vector[2], 2);
-
-      double distance = Math.sqrt(squaredDistance);
-
-      return distance;
-    }
-
-    /**
-     * returns 3D vector between FROM and TO points.
-     *
-     * @param from from point
-     * @param to to point
-     * @return vector between points.
-     */
-    public static double[] vectorBetweenPoints(final double[] from,
-        final double[] to) {
-      double[] newVector = new double[3];
-
-      for (int i = 0; i < 3; i++) {
-        newVector[i] = to[i] - from[i];
-      }
-
-      return newVector;
-    }
-
-    /**
-     * returns 3D cross-product between two vectors.
-     *
-     * @param vector1 vector1
-     * @param vector2 vector2
-     * @return cross product
-     */
-    public static double[] crossProduct(final double[] vector1,
-        final double[] vector2) {
-      double[] newVector = new double[3];
-
-      newVector[0] = vector1[1] * vector2[2] - vector1[2] * vector2[1];
-      newVector[1] = vector1[2] * vector2[0] - vector1[0] * vector2[2];
-      newVector[2] = vector1[0] * vector2[1] - vector1[1] * vector2[0];
-
-      return newVector;
-    }
-
-    /**
-     * returns 3D cross product with magnitude set to 1 between
-     * two vectors.
-     *
-     * @param vector1 vector1
-     * @param vector2 vector2
-     * @return normalised cross product
-     */
-    public static double[] normalisedCrossProduct(final double[] vector1,
-        final double[] vector2) {
-      double[] newVector = crossProduct(vector1, vector2);
-      double magnitude = vectorMagnitude(newVector);
-
-      for (int i = 0; i < 3; i++) {
-        newVector[i] /= magnitude;
-      }
-
-      return newVector;
-    }
-
-    /**
-     * returns dot product between two 3D vectors.
-     *
-     * @param vector1 vector1
-     * @param vector2 vector2
-     * @return dot product
-     */
-    public static double dotProduct(final double[] vector1,
-        final double[] vector2) {
-      double dotProduct = 0;
-
-      for (int i = 0; i < 3; i++) {
-        dotProduct += vector1[i] * vector2[i];
-      }
-
-      return dotProduct;
-    }
-
-    /**
-     * Ray trace from a point to a plane via a direction vector,
-     * find the intersection between the direction vector and the
-     * plane and return this point.
-     *
-     * @param normalUnitVector normal vector with magnitude 1
-     * @param directionVector direction vector of any magnitude
-     * @param origin point from which ray is traced (i.e. voxel coordinate)
-     * @param planeDistance distance of plane from true origin (0, 0, 0)
-     * @return intersection point between plane and direction vector
-     */
-    @SuppressWarnings("unused")
-    public static double[] rayTraceToPoint(final double[] normalUnitVector,
-        final double[] directionVector, final double[] origin,
-        final double planeDistance) {
-      double t = rayTraceDistance(normalUnitVector, directionVector, origin,
-          planeDistance);
-
-      double[] point = new double[3];
-
-      for (int i = 0; i < 3; i++) {
-        point[i] = origin[i] + t * directionVector[i];
-      }
-
-      return point;
-    }
-
-    /**
-     * Ray trace - find intersection of direction vector from point
-     * with plane from already-known distance t.
-     *
-     * @param directionVector direction vector
-     * @param origin point from which ray is traced
-     * @param t distance of origin to plane along direction vector
-     * @return point of intersection
-     */
-    public static double[] rayTraceToPointWithDistance(
-        final double[] directionVector,
-        final double[] origin,
-        final double t) {
-      double[] point = new double[3];
-
-      for (int i = 0; i < 3; i++) {
-        point[i] = origin[i] + t * directionVector[i];
-      }
-
-      return point;
-    }
+   * Triangles of the crystal and of the rotated crystal, for ray queries.
+   */
+  private TriangleMesh         mesh, rotatedMesh;
 
-    /**
-     * Ray trace from a point to a plane via a direction vector,
-     * find the signed distance between the direction vector and
-     * the plane and return this point.
-     *
-     * @param normalUnitVector normal vector with magnitude 1
-     * @param directionVector direction vector of any magnitude
-     * @param origin point from which ray is traced (i.e. voxel coordinate)
-     * @param planeDistance distance of plane from true origin (0, 0, 0)
-     * @return signed distance between direction vector and plane
-     */
-    public static double rayTraceDistance(final double[] normalUnitVector,
-        final double[] directionVector, final double[] origin,
-        final double planeDistance) {
-
-      double originNormalDotProduct = dotProduct(origin, normalUnitVector);
-      double directionNormalDotProduct = dotProduct(directionVector,
-          normalUnitVector);
-
-      double t = -(originNormalDotProduct + planeDistance)
-          / directionNormalDotProduct;
-
-      return t;
-    }
-
-    /**
-     * Original C code
-     * http://www.ecse.rpi.edu/~wrf/Research/Short_Notes/pnpoly.html
-     * Takes an array of vertices of a polygon and determines whether a point
-     * is contained within the polygon or not. Ignores the z axis at the
-     * moment.
-     *
-     * @param vertices array of 3D vertices
-     * @param point point to test inclusion - must be in same plane
-     *          as vertices
-     * @return boolean value - in polygon or not in polygon.
-     */
-    public static boolean polygonInclusionTest(final double[][] vertices,
-        final double[] point) {
-      boolean c = false;
-
-      for (int i = 0, j = vertices.length - 1; i < vertices.length; j = i++) {
-        if (((vertices[i][1] > point[1]) != (vertices[j][1] > point[1]))
-            && (point[0] < (vertices[j][0] - vertices[i][0])
-                * (point[1] - vertices[i][1])
-                / (vertices[j][1] - vertices[i][1]) + vertices[i][0])) {
-          c = !c;
-        }
-      }
+  /**
+   * Distances of the triangles crossed in findDepth, reused between calls.
+   */
+  private double[]             crossingDistances;
 
-      return c;
-    }
-  }
 
   /**
    * Returns the minimum and maximum values of a vertex array
@@ -525,6 +342,7 @@ public class CrystalPolyhedron extends Crystal {
   public CrystalPolyhedron(final Map<Object, Object> properties) {
     super(properties);
     // Pass properties to Crystal()-constructor
+    random = nextRandomStream();
 
     // Check if optional values are initialized, otherwise set to defaults.
     Map<Object, Object> mergedProperties = new HashMap<Object, Object>();
@@ -685,8 +503,6 @@ public class CrystalPolyhedron extends Crystal {
    if (photoElectronEscape) {
     peRes = (int) mergedProperties.get(Crystal.CRYSTAL_PHOTOELECTRON_RESOLUTION);
    }
-   lowEnergyAngles = new TreeMap[95];
-   highEnergyAngles = new TreeMap[95];
   }
   
   /**
@@ -866,6 +682,7 @@ public class CrystalPolyhedron extends Crystal {
 
       System.arraycopy(originDistancesUsed, 0, rotatedOriginDistances, 0,
           indices.length);
+      rotatedMesh = new TriangleMesh(rotatedVertices, indices);
     } else {
       originDistances = new double[indices.length];
       normals = new double[indices.length][3];
@@ -876,6 +693,7 @@ public class CrystalPolyhedron extends Crystal {
 
       System.arraycopy(originDistancesUsed, 0, originDistances, 0,
           indices.length);
+      mesh = new TriangleMesh(vertices, indices);
     }
   }
 
@@ -894,43 +712,9 @@ public class CrystalPolyhedron extends Crystal {
       calculateNormals(false);
     }
 
-    boolean inside = false;
-
-    double[] directionVector = { 0, 0, 1 };
     double[] origin = crystCoord[i][j][k];
 
-    for (int l = 0; l < indices.length; l++) {
-      double intersectionDistance = Vector.rayTraceDistance(normals[l],
-          directionVector, origin, originDistances[l]);
-
-      Double distanceObject = Double.valueOf(intersectionDistance);
-
-      if (intersectionDistance < 0 || distanceObject.isNaN()
-          || distanceObject.isInfinite()) {
-        continue;
-      }
-
-      double[] intersectionPoint = Vector.rayTraceToPointWithDistance(
-          directionVector, origin, intersectionDistance);
-
-      double[][] triangleVertices = new double[3][3];
-
-      // copy vertices referenced by indices into single array for
-      // passing onto the polygon inclusion test.
-      for (int m = 0; m < 3; m++) {
-        System.arraycopy(vertices[indices[l][m] - 1], 0, triangleVertices[m],
-            0, 3);
-      }
-
-      boolean crosses = Vector.polygonInclusionTest(triangleVertices,
-          intersectionPoint);
-
-      if (crosses) {
-        inside = !inside;
-      }
-    }
-
-    return inside;
+    return mesh.isInside(origin[0], origin[1], origin[2]);
   }
 
   /*
@@ -994,52 +778,35 @@ public class CrystalPolyhedron extends Crystal {
   @Override
   public double findDepth(final double[] voxCoord, final double deltaPhi,
       final Wedge myWedge) {
-    double[] zAxis = { 0, 0, 1 };
-
-    List<Double> distancesFound = new ArrayList<Double>();
-
-    for (int i = 0; i < indices.length; i++) {
-      double intersectionDistance = (-1)
-          * Vector.rayTraceDistance(rotatedNormals[i],
-              zAxis, voxCoord, rotatedOriginDistances[i]);
-
-      Double distanceObject = Double.valueOf(intersectionDistance);
-
-      if (intersectionDistance <= 0 || distanceObject.isNaN()
-          || distanceObject.isInfinite()) {
-        continue;
-      }
-
-      double[] intersectionPoint = Vector.rayTraceToPointWithDistance(
-          zAxis, voxCoord, intersectionDistance);
-
-      boolean crosses = Vector.polygonInclusionTest(expandedRotatedVertices[i],
-          intersectionPoint);
-
-      if (crosses) {
-        distancesFound.add(Double.valueOf(intersectionDistance));
+    if (crossingDistances == null
+        || crossingDistances.length < rotatedMesh.size()) {
+      crossingDistances = new double[rotatedMesh.size()];
+    }
+    int crossings = rotatedMesh.zAxisCrossings(voxCoord[0], voxCoord[1],
+        voxCoord[2], crossingDistances);
+
+    // keep the crossings in front of the voxel
+    int found = 0;
+    for (int i = 0; i < crossings; i++) {
+      double intersectionDistance = (-1) * crossingDistances[i];
+      if (intersectionDistance > 0) {
+        crossingDistances[found++] = intersectionDistance;
       }
     }
 
-    Collections.sort(distancesFound);
-
-    for (int i = 0; i < distancesFound.size() - 1; i++) {
-      if (distancesFound.get(i + 1) == distancesFound.get(i)) {
-        distancesFound.remove(i + 1);
-      }
-    }
+    // Duplicates were never removed here: the old list compared Double
+    // objects by reference.
+    Arrays.sort(crossingDistances, 0, found);
 
     // sanity check that point is within crystal
-    if (distancesFound.isEmpty() || distancesFound.size() % 2 == 0) {
+    if (found == 0 || found % 2 == 0) {
       return 0;
     }
 
-    double depth = distancesFound.get(0).doubleValue();
-
-    for (int i = 1; i < distancesFound.size(); i += 2) {
-      Double addition = distancesFound.get(i + 1) - distancesFound.get(i);
+    double depth = crossingDistances[0];
 
-      depth += addition.doubleValue();
+    for (int i = 1; i < found; i += 2) {
+      depth += crossingDistances[i + 1] - crossingDistances[i];
     }
     /*
      * if (deltaPhi == 0) {
@@ -2080,7 +1847,7 @@ public class CrystalPolyhedron extends Crystal {
        
     double doseLostFromCrystalPE = 0;  
       for (int q = 0; q < PE_ANGLE_RESOLUTION*PE_ANGLE_RESOLUTION; q++) { //for every tracks i'm choosing
-        int randomIndex = ThreadLocalRandom.current().nextInt(0, trackNumberBias.length);
+        int randomIndex = random.nextInt(0, trackNumberBias.length);
         int randomTrack = trackNumberBias[randomIndex];
  
         for (int m = 0; m < peDistBins; m++) {   
@@ -2114,7 +1881,7 @@ public class CrystalPolyhedron extends Crystal {
       final double doseIncreaseFL) {
    double doseLostFromCrystalFL = 0;
    //choose a random track
-   int randomTrack = ThreadLocalRandom.current().nextInt(0, numberOfTracksFL);
+   int randomTrack = random.nextInt(0, numberOfTracksFL);
    
    //for every energy distribution
     for (int n = 0; n < fluorescenceProportionEvent.length; n++) { 
@@ -2173,7 +1940,7 @@ public class CrystalPolyhedron extends Crystal {
     
     for (int q = 0; q < PE_ANGLE_RESOLUTION*PE_ANGLE_RESOLUTION; q++) { //for every tracks i'm choosing
     //     int randomTrack = ThreadLocalRandom.current().nextInt(0, numberOfTracksPE); //choose one at random
-      int randomIndex = ThreadLocalRandom.current().nextInt(0, trackNumberBias.length);
+      int randomIndex = random.nextInt(0, trackNumberBias.length);
       int randomTrack = trackNumberBias[randomIndex];
 
       for (int m = 0; m < peDistBins; m++) { 
@@ -2426,32 +2193,41 @@ public class CrystalPolyhedron extends Crystal {
     }
   }
 
-  public void startMicroED(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startMicroED(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, String crystalType) {
     //also need indices, vertices, crystalCoords, numberVoxelsm, PPM (may not need all of these but just 
     //to be safe for now
     MicroED microED = new MicroED(vertices, indices, crystCoord, 
-                                  crystalPixPerUM, crystSizeVoxels, crystOcc, crystalType);
+                                  crystalPixPerUM, crystSizeVoxels, crystOcc, crystalType,
+                                  nextRandomStream());
+    microED.setOutputFiles(writesOutputFiles(), getOutputPrefix());
     microED.CalculateEM(beam, wedge, coefCalc);
+    return microED.getResults();
   }
   @Override
-  public void startXFEL(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startXFEL(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer, boolean xfelTrue, boolean gos, boolean verticalPolarisation) {
     //also need indices, vertices, crystalCoords, numberVoxelsm, PPM (may not need all of these but just 
     //to be safe for now
     XFEL xfel = new XFEL(vertices, indices, crystCoord, 
-                                  crystalPixPerUM, crystSizeVoxels, crystOcc, runNum, verticalGoniometer, xfelTrue, gos, wedge, verticalPolarisation);
+                                  crystalPixPerUM, crystSizeVoxels, crystOcc, runNum, verticalGoniometer, xfelTrue, gos, wedge, verticalPolarisation,
+                                  nextRandomStream());
+    xfel.setOutputFiles(writesOutputFiles(), getOutputPrefix());
     xfel.CalculateXFEL(beam, wedge, coefCalc);
+    return xfel.getResults();
   }
   
   @Override
-  public void startMC(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startMC(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer, boolean xfelTrue, boolean gos, double[] surrThickness, boolean verticalPolarisation) {
     //also need indices, vertices, crystalCoords, numberVoxelsm, PPM (may not need all of these but just 
     //to be safe for now
     MC mc = new MC(vertices, indices, crystCoord, 
-                                  crystalPixPerUM, crystSizeVoxels, crystOcc, runNum, verticalGoniometer, xfelTrue, gos, surrThickness, verticalPolarisation);
+                                  crystalPixPerUM, crystSizeVoxels, crystOcc, runNum, verticalGoniometer, xfelTrue, gos, surrThickness, verticalPolarisation,
+                                  nextRandomStream());
+    mc.setOutputFiles(writesOutputFiles(), getOutputPrefix());
     mc.CalculateXFEL(beam, wedge, coefCalc);
+    return mc.getResults();
   }
   
   
@@ -2487,15 +2263,15 @@ public class CrystalPolyhedron extends Crystal {
     if (shellIndex == 0) { //then I want to send out in a biased direction
       xNorm = getCosAngleToX(angularEmissionProbs);
       //get yNorm and zNorm
-      yNorm = PosOrNeg() * Math.random() * Math.pow(1-Math.pow(xNorm, 2), 0.5);
+      yNorm = PosOrNeg() * random.nextDouble() * Math.pow(1-Math.pow(xNorm, 2), 0.5);
       zNorm = PosOrNeg() * Math.pow(1 - Math.pow(xNorm, 2) - Math.pow(yNorm, 2), 0.5);
       //get theta and phi
       theta = Math.acos(zNorm);
       phi = Math.acos(xNorm / Math.sin(theta));
     }
     else { // send it out in a random direction
-      theta = Math.random() * 2 * Math.PI;
-      phi = Math.random() * 2 * Math.PI;
+      theta = random.nextDouble() * 2 * Math.PI;
+      phi = random.nextDouble() * 2 * Math.PI;
       xNorm = Math.sin(theta) * Math.cos(phi);
       yNorm = Math.sin(theta) * Math.sin(phi);
       zNorm = Math.cos(theta);
@@ -2514,7 +2290,7 @@ public class CrystalPolyhedron extends Crystal {
     lambdaT = startingLambda_el;
     
     //first distance
-    double testRND = Math.random();
+    double testRND = random.nextDouble();
     double s = -lambdaT*Math.log(testRND) / 1000; //um
  //   double Pinel = 1 - (lambdaT / startingLambda_el);
     double xn = previousX + s * xNorm;
@@ -2547,7 +2323,7 @@ public class CrystalPolyhedron extends Crystal {
         previousZ = zn;
         
         //update angle and stuff - for now it is always an elastic interaction
-        double elasticElementRND = Math.random();
+        double elasticElementRND = random.nextDouble();
         ElementEM elasticElement = null;
         for (ElementEM e : elasticProbs.keySet()) {
           if (elasticProbs.get(e) > elasticElementRND) { //Then this element is the one that was ionised
@@ -2568,7 +2344,7 @@ public class CrystalPolyhedron extends Crystal {
         if (theta >= (2 * Math.PI)) {
           theta -= 2*Math.PI;
         }
-        phi = 2 * Math.PI * Math.random();
+        phi = 2 * Math.PI * random.nextDouble();
         
         //testing a straight line
      //   phi = 0;
@@ -2589,7 +2365,7 @@ public class CrystalPolyhedron extends Crystal {
         //get new lambdaT
         double lambdaEl = coefCalc.getElectronElasticMFPL(electronEnergy, false);
         lambdaT = lambdaEl;
-        s = -lambdaT*Math.log(Math.random()) /1000;
+        s = -lambdaT*Math.log(random.nextDouble()) /1000;
         elasticProbs = coefCalc.getElasticProbs(false);
         
         //update to new position
@@ -2684,7 +2460,7 @@ public class CrystalPolyhedron extends Crystal {
   }
   
   private Element getIonisedElement(Map<Element, Double> elementAbsorptionProbs) {
-    double elementRND = Math.random();
+    double elementRND = random.nextDouble();
     Element ionisedElement = null;
     for (Element e : elementAbsorptionProbs.keySet()) {
       double elementProb =  elementAbsorptionProbs.get(e);
@@ -2698,7 +2474,7 @@ public class CrystalPolyhedron extends Crystal {
   
   private int getIonisedShell(Map<Element, double[]> ionisationProbs, Element ionisedElement) {
     double[] shellProbs = ionisationProbs.get(ionisedElement);
-    double shellRND = Math.random();
+    double shellRND = random.nextDouble();
     int shellIndex = 0;
     for (int j = 0; j < shellProbs.length; j++) {
       if (shellProbs[j] > shellRND) {
@@ -2735,7 +2511,7 @@ public class CrystalPolyhedron extends Crystal {
   }
   
   private double getCosAngleToX( double[] angularEmissionProbs) {
-    double RNDangle = Math.random();
+    double RNDangle = random.nextDouble();
     double lastProb = 0;
     double angle = 0;
     for (int i = 0; i < numberAngularEmissionBins; i++) {
@@ -2752,7 +2528,7 @@ public class CrystalPolyhedron extends Crystal {
     return Math.cos(angle);
   }
   private double PosOrNeg() {
-    double RND = Math.random();
+    double RND = random.nextDouble();
     if (RND < 0.5) {
       return 1;
     }
@@ -2767,44 +2543,16 @@ public class CrystalPolyhedron extends Crystal {
       highEnergy = true;
     }
    
-    //determine if need to get data from file or it's already loaded
-    boolean getFile = mapPopulated(highEnergy, atomicNumber);
-    
-    //get the right file if I need to
-    if (getFile == true) {
-      
-      TreeMap<Double, double[]> elementData = new TreeMap<Double, double[]>();
-      try {
-        elementData =  getAngleFileData(highEnergy, atomicNumber);
-      } catch (IOException e) {
-        // TODO Auto-generated catch block
-        e.printStackTrace();
-      } 
-      //now add the file data to the global array
-      if (highEnergy == true) {
-        highEnergyAngles[atomicNumber] = elementData;
-      }
-      else {
-        lowEnergyAngles[atomicNumber] = elementData;
-      }
-    }
-    
-    //Now use the data in the global array to work out the angle
-    //get nearest energy
-    Double energyKey = returnNearestEnergy(highEnergy, atomicNumber, electronEnergy);
-    
-    //should probably interpolate the values here tbh.... will do at some point
-    
-    //get the differential cross sections for that energy of the element
-    double[] energyAngleProbs = null;
-    if (highEnergy == true) {
-      energyAngleProbs = highEnergyAngles[atomicNumber].get(energyKey);
-    }
-    else {
-      energyAngleProbs = lowEnergyAngles[atomicNumber].get(energyKey);
-    }
+    //the tables are loaded once and shared between all simulations
+    ElasticScatteringTable angles =
+        ElasticScatteringTable.getInstance(highEnergy, atomicNumber);
+    //pick one of the neighbouring tabulated energies, interpolating in log(energy)
+    int energyIndex = angles.interpolatedEnergyIndex(electronEnergy, random.nextDouble());
+    
+    //sample an angle bin from the precomputed distribution for that energy
+    int angleIndex = angles.sampleAngleIndex(energyIndex, random.nextDouble());
     //get the angle from this 
-    double deflectionAngle = returnDeflectionAngle(highEnergy, energyAngleProbs);
+    double deflectionAngle = returnDeflectionAngle(highEnergy, angleIndex);
     
     if (Double.isNaN(deflectionAngle)){
       System.out.println("test");
@@ -2823,114 +2571,7 @@ public class CrystalPolyhedron extends Crystal {
     return new InputStreamReader(is, "US-ASCII");
   }
 
-  public boolean mapPopulated(boolean highEnergy, int atomicNumber) {
-    if (highEnergy == true) {
-      if (highEnergyAngles[atomicNumber] == null) {
-        return true;
-      }
-      else {
-        return false;
-      }
-    }
-    else {
-      if (lowEnergyAngles[atomicNumber] == null) {
-        return true;
-      }
-      else {
-       return false;
-      }
-    }
-  }
-
-//--put it in here when I have copy and paste back
-public TreeMap<Double, double[]> getAngleFileData(boolean highEnergy, int atomicNum) throws IOException{
-String elementNum = String.valueOf(atomicNum) + ".csv";
-String filePath = "";
-if (highEnergy == true) {
-filePath = "constants/above_20000/" + elementNum;
-}
-else {
-filePath = "constants/below_20000/" + elementNum;
-}
-
-InputStreamReader isr = locateFile(filePath);
-BufferedReader br = new BufferedReader(isr);
-TreeMap<Double, double[]> elementData = new TreeMap<Double, double[]>();
-String line;
-String[] components;
-int count = -1;
-while ((line = br.readLine()) != null) {
-count +=1 ;
-components = line.split(",");
-if (count > 0) { //if this is not the first line
-  Double energy = Double.valueOf(components[0]);
-  String[] angleProbsString = Arrays.copyOfRange(components, 1, components.length);
-  double[] angleProbs = new double[angleProbsString.length];
-  for (int i = 0; i < angleProbsString.length; i++) {
-    angleProbs[i] = Double.parseDouble(angleProbsString[i]);
-  }
-  //Now add this to the local treemap
-  elementData.put(energy, angleProbs);
-}
-}
-return elementData;
-}
-
-
-public Double returnNearestEnergy(boolean highEnergy, int atomicNumber, double electronEnergy) {
-Double nearestEnergy = 0.;
-if (electronEnergy >= 0.05 && electronEnergy <= 300) {
-Double beforeKey = 0.;
-Double afterKey = 0.;
-if (highEnergy == true) {
-  beforeKey = highEnergyAngles[atomicNumber].floorKey(electronEnergy);
-  afterKey = highEnergyAngles[atomicNumber].ceilingKey(electronEnergy);
-  
-}
-else {
-  beforeKey = lowEnergyAngles[atomicNumber].floorKey(electronEnergy);
-  afterKey = lowEnergyAngles[atomicNumber].ceilingKey(electronEnergy);
-}
-if (beforeKey == null) {
-  beforeKey = 0.;
-}
-if (afterKey == null) {
-  afterKey = 0.;
-}
-beforeKey = (beforeKey == 0.) ? afterKey: beforeKey;
-afterKey = (afterKey == 0.) ? beforeKey: afterKey;
-if (Math.abs(electronEnergy - beforeKey) <= Math.abs(electronEnergy-afterKey)) {
-  nearestEnergy = beforeKey;
-}
-else {
-  nearestEnergy = afterKey;
-}
-
-}
-return nearestEnergy;
-}
-
-public double returnDeflectionAngle(boolean highEnergy, double[] energyAngleProbs) {
-double totalProb = 0;
-for (int i = 0; i < energyAngleProbs.length; i++) {
-totalProb += energyAngleProbs[i];
-}
-double[] probPerAngle = new double[energyAngleProbs.length];
-double sumProb = 0;
-for (int j = 0; j < energyAngleProbs.length; j++) {
-sumProb += energyAngleProbs[j];
-probPerAngle[j] = sumProb/totalProb;
-}
-
-double RND = Math.random();
-double index = 0;
-for (int k = 0; k < probPerAngle.length; k++) {
-if (probPerAngle[k] >= RND) {
-  index = k;
-  break;
-}
-
-}
+public double returnDeflectionAngle(boolean highEnergy, double index) {
 //convert the index to an angle
 double angleDegrees = 0;
 if (highEnergy == true) {
@@ -2988,38 +2629,8 @@ private double getIntersectionDistance(double x, double y, double z, double ca,
   if (normals == null) {
     calculateNormals(false);
   }
-
-  double[] directionVector = {ca, cb, cc}; //the actual direction vector
-  double minIntersect = 0;
-  double[] origin = new double[3];
-  origin[0] = x;
-  origin[1] = y;
-  origin[2] = z;
-  
-  double intersectionDistance = 0;
-  for (int l = 0; l < indices.length; l++) {
-    intersectionDistance = Vector.rayTraceDistance(normals[l],
-        directionVector, origin, originDistances[l]);
-
-    Double distanceObject = Double.valueOf(intersectionDistance);
-
-    if (intersectionDistance < 0 || distanceObject.isNaN()
-        || distanceObject.isInfinite()) {
-        //do nothing
-    }
-    else {
-  //    break; //maybe should just be closest, or an issue with the rayTRace
-      if (minIntersect == 0) {
-        minIntersect = intersectionDistance;
-      }
-      else {
-        double min = Math.min(minIntersect, intersectionDistance);
-        minIntersect = min;
-      }
-    }
-
-  }
-  return minIntersect;
+  //nearest plane in the direction of travel
+  return mesh.planeIntersectionDistance(x, y, z, ca, cb, cc, true);
 }
 
 @Override
@@ -3039,30 +2650,9 @@ public void setELSEPA(CoefCalc coefCalc) {
  }
   private void readELSEPA(Element e) {
     int atomicNumber = e.getAtomicNumber();
-    boolean getFile = mapPopulated(true, atomicNumber);
-    
-    //get the right file if I need to
-
-    TreeMap<Double, double[]> elementData = new TreeMap<Double, double[]>();
-    if (getFile == true) {
-    try {
-      elementData =  getAngleFileData(true, atomicNumber);
-    } catch (IOException e1) {
-      // TODO Auto-generated catch block
-      e1.printStackTrace();
-    } 
-    highEnergyAngles[atomicNumber] = elementData;
-    }
-    getFile = mapPopulated(false, atomicNumber);
-    if (getFile == true) {
-    try {
-      elementData =  getAngleFileData(false, atomicNumber);
-    } catch (IOException e1) {
-      // TODO Auto-generated catch block
-      e1.printStackTrace();
-    }
-    lowEnergyAngles[atomicNumber] = elementData;
-    }
+    //load the shared tables now rather than during the first electron track
+    ElasticScatteringTable.getInstance(true, atomicNumber);
+    ElasticScatteringTable.getInstance(false, atomicNumber);
   }
 
   /*
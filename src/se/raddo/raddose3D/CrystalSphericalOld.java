@@ -317,16 +317,16 @@ public class CrystalSphericalOld extends Crystal {
   }
   
   @Override
-  public void startMicroED(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startMicroED(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, String crystalType) {
-    
+    return null;
   }
 
   @Override
-  public void startXFEL(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startXFEL(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer, boolean xfelTrue, boolean gos, boolean verticalPolarisation) {
     // TODO Auto-generated method stub
-    
+    return null;
   }
 
   @Override
@@ -354,11 +354,11 @@ public class CrystalSphericalOld extends Crystal {
   }
 
   @Override
-  public void startMC(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startMC(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer,
       boolean xfel, boolean gos, double[] surrThickness, boolean verticalPolarisation) {
     // TODO Auto-generated method stub
-    
+    return null;
   }
 
 }
@@ -0,0 +1,291 @@
+package se.raddo.raddose3D;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Daemon keeps a warm JVM that runs a stream of experiments, so that small
+ * jobs do not pay for JVM startup, class loading and database parsing.
+ * <p>
+ * Jobs arrive in sessions, either on STDIN or over connections to a local
+ * TCP port. A session is a sequence of input documents, each terminated by a
+ * line containing only {@link #DELIMITER}. The end of the session terminates
+ * the last document. Jobs of all sessions run concurrently on a shared pool
+ * of worker threads.
+ * <p>
+ * For every job the SummaryCSV output is sent back in the order the jobs
+ * were submitted within the session, as soon as the job and all earlier jobs
+ * of the session have finished. Each response starts with a line
+ * "# Job n" or "# Job n failed: reason" and is terminated by a
+ * {@link #DELIMITER} line.
+ */
+public class Daemon {
+  /** Line separating input documents and responses. */
+  public static final String          DELIMITER         = "%%";
+
+  /** Number of jobs per worker a session may submit ahead of its output. */
+  private static final int            QUEUED_PER_WORKER = 4;
+
+  /** Marks the end of the jobs of a session. */
+  private static final Future<String> END_OF_SESSION    =
+      CompletableFuture.completedFuture(null);
+
+  /** Worker threads running the jobs of all sessions. */
+  private final ExecutorService       pool;
+
+  /** Number of worker threads. */
+  private final int                   workers;
+
+  /**
+   * Start a daemon.
+   *
+   * @param workerCount
+   *          number of jobs run at the same time, at least 1
+   */
+  public Daemon(final int workerCount) {
+    if (workerCount < 1) {
+      throw new IllegalArgumentException(
+          "Number of daemon workers must be at least 1");
+    }
+    workers = workerCount;
+    pool = Executors.newFixedThreadPool(workers,
+        new NamedThreadFactory("RADDOSE-3D worker "));
+  }
+
+  /**
+   * Accept sessions on a local TCP port until the process is terminated.
+   *
+   * @param port
+   *          port on the loopback interface
+   * @throws IOException
+   *           the port could not be opened
+   */
+  public void listen(final int port) throws IOException {
+    ServerSocket server = new ServerSocket(port, 0,
+        InetAddress.getLoopbackAddress());
+    System.out.println("Accepting jobs on " + server.getLocalSocketAddress());
+    listen(server);
+  }
+
+  /**
+   * Accept sessions on a server socket until it is closed. Every connection
+   * is a session, handled on its own thread.
+   *
+   * @param server
+   *          bound server socket
+   * @throws IOException
+   *           a connection could not be accepted
+   */
+  public void listen(final ServerSocket server) throws IOException {
+    ThreadFactory sessions = new NamedThreadFactory("RADDOSE-3D session ");
+    try {
+      while (true) {
+        final Socket connection;
+        try {
+          connection = server.accept();
+        } catch (SocketException e) {
+          if (server.isClosed()) {
+            return;
+          }
+          throw e;
+        }
+        sessions.newThread(new Runnable() {
+          @Override
+          public void run() {
+            try {
+              serve(connection.getInputStream(),
+                  connection.getOutputStream());
+            } catch (IOException e) {
+              System.err.println("Session with "
+                  + connection.getRemoteSocketAddress() + " failed: " + e);
+            } finally {
+              try {
+                connection.close();
+              } catch (IOException e) {
+                System.err.println("Could not close connection: " + e);
+              }
+            }
+          }
+        }).start();
+      }
+    } finally {
+      server.close();
+    }
+  }
+
+  /**
+   * Run all jobs of a session and send back their responses. Returns once
+   * the input has ended and all responses have been sent.
+   *
+   * @param in
+   *          input documents of the session
+   * @param out
+   *          receives the responses
+   * @throws IOException
+   *           the input could not be read or the responses could not be
+   *           sent
+   */
+  public void serve(final InputStream in, final OutputStream out)
+      throws IOException {
+    final BlockingQueue<Future<String>> pending =
+        new ArrayBlockingQueue<Future<String>>(workers * QUEUED_PER_WORKER);
+    final java.io.Writer responses = new OutputStreamWriter(out, "UTF-8");
+    final AtomicReference<IOException> responseFailure =
+        new AtomicReference<IOException>();
+
+    Thread responder = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          int job = 0;
+          Future<String> result;
+          while ((result = pending.take()) != END_OF_SESSION) {
+            job++;
+            if (responseFailure.get() != null) {
+              // Nobody is listening any more, but the queue must drain.
+              result.cancel(true);
+              continue;
+            }
+            try {
+              responses.write(response(job, result));
+              responses.flush();
+            } catch (IOException e) {
+              responseFailure.set(e);
+            }
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }, "RADDOSE-3D responder");
+    responder.setDaemon(true);
+    responder.start();
+
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in,
+        "UTF-8"));
+    IOException readFailure = null;
+    try {
+      StringBuilder document = new StringBuilder();
+      try {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (DELIMITER.equals(line.trim())) {
+            pending.put(submit(document.toString()));
+            document.setLength(0);
+          } else {
+            document.append(line).append('\n');
+          }
+        }
+        if (document.toString().trim().length() > 0) {
+          pending.put(submit(document.toString()));
+        }
+      } catch (IOException e) {
+        // Still answer all jobs received so far.
+        readFailure = e;
+      }
+      pending.put(END_OF_SESSION);
+      responder.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      responder.interrupt();
+      throw new IllegalStateException("Session was interrupted", e);
+    }
+    if (readFailure != null) {
+      throw readFailure;
+    }
+    if (responseFailure.get() != null) {
+      throw responseFailure.get();
+    }
+  }
+
+  /**
+   * Stop accepting jobs and abandon all running jobs.
+   */
+  public void close() {
+    pool.shutdownNow();
+  }
+
+  /**
+   * Queue a job on the worker threads.
+   *
+   * @param input
+   *          input document of the job
+   * @return
+   *         SummaryCSV output of the job, once finished
+   */
+  private Future<String> submit(final String input) {
+    return pool.submit(new Callable<String>() {
+      @Override
+      public String call() throws InputException {
+        return runJob(input);
+      }
+    });
+  }
+
+  /**
+   * Run a single experiment.
+   *
+   * @param input
+   *          input document of the experiment
+   * @return
+   *         SummaryCSV output of the experiment
+   * @throws InputException
+   *           the input document is malformed
+   */
+  private String runJob(final String input) throws InputException {
+    Experiment exp = new Experiment();
+    exp.setSubprogramFiles(false);
+    WriterString summary = new WriterString();
+    exp.addObserver(new OutputFactory().createOutputSimple("SummaryCSV",
+        summary));
+    exp.process(new InputParserString(input));
+    exp.close();
+    return summary.getDataString();
+  }
+
+  /**
+   * Wait for a job to finish and format its response.
+   *
+   * @param job
+   *          number of the job within its session
+   * @param result
+   *          the job
+   * @return
+   *         the response, including the terminating delimiter line
+   * @throws InterruptedException
+   *           interrupted while waiting for the job
+   */
+  private static String response(final int job, final Future<String> result)
+      throws InterruptedException {
+    String summary;
+    try {
+      summary = result.get();
+    } catch (ExecutionException e) {
+      String reason = String.valueOf(e.getCause()).replaceAll("\\s*\\R\\s*",
+          " ");
+      return "# Job " + job + " failed: " + reason + "\n" + DELIMITER + "\n";
+    }
+    if (summary.length() > 0 && !summary.endsWith("\n")) {
+      summary = summary + "\n";
+    }
+    return "# Job " + job + "\n" + summary + DELIMITER + "\n";
+  }
+}
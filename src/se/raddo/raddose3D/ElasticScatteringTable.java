@@ -0,0 +1,304 @@
+package se.raddo.raddose3D;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An ElasticScatteringTable holds the differential elastic scattering cross
+ * sections of one element over a range of electron energies, as read from the
+ * files in constants/above_20000 and constants/below_20000.
+ * <p>
+ * The cross sections of each tabulated energy are converted into a normalised
+ * cumulative distribution when the table is created, so that sampling a
+ * scattering angle only requires a binary search. Tabulated energies are kept
+ * in a sorted flat array. Instances are immutable and can be shared between
+ * threads.
+ * <p>
+ * getInstance() loads the table of each element and energy range once per
+ * JVM, so all simulation engines share the same data.
+ */
+public final class ElasticScatteringTable {
+  /** Largest atomic number for which tables are provided. */
+  private static final int MAX_ATOMIC_NUMBER = 100;
+
+  /** Shared tables above 20 keV, indexed by atomic number. */
+  private static final AtomicReferenceArray<ElasticScatteringTable> HIGH_ENERGY =
+      new AtomicReferenceArray<ElasticScatteringTable>(MAX_ATOMIC_NUMBER + 1);
+
+  /** Shared tables below 20 keV, indexed by atomic number. */
+  private static final AtomicReferenceArray<ElasticScatteringTable> LOW_ENERGY =
+      new AtomicReferenceArray<ElasticScatteringTable>(MAX_ATOMIC_NUMBER + 1);
+
+  /** Tabulated electron energies in keV, in ascending order. */
+  private final double[]   energies;
+
+  /** Natural logarithm of each tabulated energy. */
+  private final double[]   logEnergies;
+
+  /**
+   * Normalised cumulative distribution over the angle bins for each tabulated
+   * energy, or null if the cross sections of that energy do not sum up to a
+   * positive number.
+   */
+  private final double[][] cdfs;
+
+  /**
+   * Create a table from the content of an angle file. The first row holds the
+   * column headers, every following row an energy followed by the cross
+   * sections of all angle bins. Rows need not be sorted by energy. If an
+   * energy occurs more than once, the last row with that energy is used.
+   *
+   * @param table
+   *          parsed angle file
+   */
+  public ElasticScatteringTable(final ConstantsTable table) {
+    TreeMap<Double, Integer> rowOfEnergy = new TreeMap<Double, Integer>();
+    for (int row = 1; row < table.getRowCount(); row++) {
+      rowOfEnergy.put(table.getValue(row, 0), row);
+    }
+    int rows = rowOfEnergy.size();
+    if (rows < 1) {
+      throw new IllegalArgumentException("Empty elastic scattering table");
+    }
+    energies = new double[rows];
+    logEnergies = new double[rows];
+    cdfs = new double[rows][];
+    int i = 0;
+    for (Map.Entry<Double, Integer> entry : rowOfEnergy.entrySet()) {
+      energies[i] = entry.getKey();
+      logEnergies[i] = Math.log(energies[i]);
+      cdfs[i] = cumulativeDistribution(table.getRow(entry.getValue(), 1));
+      i++;
+    }
+  }
+
+  /**
+   * Returns the shared elastic scattering table of an element. The table is
+   * loaded on first use and kept for the lifetime of the JVM. This method is
+   * thread safe and does not lock once the table has been loaded.
+   *
+   * @param highEnergy
+   *          true for the table above 20 keV, false for the table below
+   * @param atomicNumber
+   *          atomic number of the element
+   * @return
+   *         the elastic scattering table
+   */
+  public static ElasticScatteringTable getInstance(final boolean highEnergy,
+      final int atomicNumber) {
+    if (atomicNumber < 1 || atomicNumber > MAX_ATOMIC_NUMBER) {
+      throw new IllegalArgumentException(
+          "No elastic scattering table for atomic number " + atomicNumber);
+    }
+    AtomicReferenceArray<ElasticScatteringTable> tables;
+    if (highEnergy) {
+      tables = HIGH_ENERGY;
+    } else {
+      tables = LOW_ENERGY;
+    }
+    ElasticScatteringTable table = tables.get(atomicNumber);
+    if (table == null) {
+      synchronized (tables) {
+        table = tables.get(atomicNumber);
+        if (table == null) {
+          try {
+            table = load(highEnergy, atomicNumber);
+          } catch (IOException e) {
+            throw new IllegalStateException(
+                "Error accessing elastic scattering table for atomic number "
+                    + atomicNumber, e);
+          }
+          tables.set(atomicNumber, table);
+        }
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Load the elastic scattering table of an element.
+   *
+   * @param highEnergy
+   *          true for the table above 20 keV, false for the table below
+   * @param atomicNumber
+   *          atomic number of the element
+   * @return
+   *         the elastic scattering table
+   * @throws IOException
+   *           if the constants file could not be read
+   */
+  public static ElasticScatteringTable load(final boolean highEnergy,
+      final int atomicNumber) throws IOException {
+    String filePath;
+    if (highEnergy) {
+      filePath = "constants/above_20000/" + atomicNumber + ".csv";
+    } else {
+      filePath = "constants/below_20000/" + atomicNumber + ".csv";
+    }
+    return new ElasticScatteringTable(ConstantsCache.getInstance().getTable(
+        filePath));
+  }
+
+  /**
+   * Convert cross sections into a normalised cumulative distribution.
+   *
+   * @param probs
+   *          cross sections of all angle bins
+   * @return
+   *         cumulative distribution, or null if the cross sections do not sum
+   *         up to a positive number
+   */
+  private static double[] cumulativeDistribution(final double[] probs) {
+    double totalProb = 0;
+    for (int i = 0; i < probs.length; i++) {
+      totalProb += probs[i];
+    }
+    if (!(totalProb > 0)) {
+      return null;
+    }
+    double[] cdf = new double[probs.length];
+    double sumProb = 0;
+    for (int i = 0; i < probs.length; i++) {
+      sumProb += probs[i];
+      cdf[i] = sumProb / totalProb;
+    }
+    return cdf;
+  }
+
+  /**
+   * Returns the number of tabulated energies.
+   *
+   * @return
+   *         number of tabulated energies
+   */
+  public int getEnergyCount() {
+    return energies.length;
+  }
+
+  /**
+   * Returns a tabulated energy.
+   *
+   * @param index
+   *          energy index
+   * @return
+   *         energy in keV
+   */
+  public double getEnergy(final int index) {
+    return energies[index];
+  }
+
+  /**
+   * Find the tabulated energy closest to a given electron energy. Energies
+   * outside the tabulated range map to the first or last energy. If the
+   * electron energy lies exactly halfway between two tabulated energies the
+   * lower one is chosen.
+   *
+   * @param electronEnergy
+   *          electron energy in keV
+   * @return
+   *         index of the nearest tabulated energy
+   */
+  public int nearestEnergyIndex(final double electronEnergy) {
+    int upper = ceilingIndex(electronEnergy);
+    if (upper == 0) {
+      return 0;
+    }
+    if (upper == energies.length) {
+      return energies.length - 1;
+    }
+    if (electronEnergy - energies[upper - 1]
+        <= energies[upper] - electronEnergy) {
+      return upper - 1;
+    }
+    return upper;
+  }
+
+  /**
+   * Choose one of the two tabulated energies enclosing a given electron
+   * energy, with a probability that falls linearly with the distance in
+   * log(energy). Sampling an angle bin for the returned energy is then
+   * equivalent to sampling from the angular distribution interpolated
+   * linearly in log(energy) between both tabulated energies. Energies outside
+   * the tabulated range map to the first or last energy.
+   *
+   * @param electronEnergy
+   *          electron energy in keV
+   * @param rnd
+   *          uniformly distributed random number in [0, 1)
+   * @return
+   *         index of the chosen tabulated energy
+   */
+  public int interpolatedEnergyIndex(final double electronEnergy,
+      final double rnd) {
+    int upper = ceilingIndex(electronEnergy);
+    if (upper == 0) {
+      return 0;
+    }
+    if (upper == energies.length) {
+      return energies.length - 1;
+    }
+    double fraction = (Math.log(electronEnergy) - logEnergies[upper - 1])
+        / (logEnergies[upper] - logEnergies[upper - 1]);
+    if (rnd < fraction) {
+      return upper;
+    }
+    return upper - 1;
+  }
+
+  /**
+   * Returns the index of the first tabulated energy that is not smaller than
+   * the given energy.
+   *
+   * @param electronEnergy
+   *          electron energy in keV
+   * @return
+   *         index between 0 and getEnergyCount(), inclusive
+   */
+  private int ceilingIndex(final double electronEnergy) {
+    int low = 0;
+    int high = energies.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (energies[mid] < electronEnergy) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Sample an angle bin from the distribution of a tabulated energy.
+   *
+   * @param energyIndex
+   *          index of the tabulated energy
+   * @param rnd
+   *          uniformly distributed random number in [0, 1)
+   * @return
+   *         the first angle bin whose cumulative probability is at least rnd,
+   *         or 0 if the distribution is empty
+   */
+  public int sampleAngleIndex(final int energyIndex, final double rnd) {
+    double[] cdf = cdfs[energyIndex];
+    if (cdf == null) {
+      return 0;
+    }
+    int low = 0;
+    int high = cdf.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (cdf[mid] < rnd) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    if (low == cdf.length) {
+      return 0;
+    }
+    return low;
+  }
+}
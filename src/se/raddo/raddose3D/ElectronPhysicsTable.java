@@ -0,0 +1,400 @@
+package se.raddo.raddose3D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An ElectronPhysicsTable holds the electron interaction data of one
+ * material, either the sample or its surrounding, on a fine grid of
+ * logarithmically spaced electron energies.
+ * <p>
+ * The table is calculated once by a {@link CoefCalcCompute}, which then looks
+ * up its stopping power, elastic, inner shell and plasmon mean free paths
+ * instead of summing over all elements every time an electron loses energy.
+ * Stopping powers and cross sections are interpolated linearly in log energy.
+ * Per element and per shell probabilities are taken from one of the two grid
+ * points enclosing the energy, chosen at random so that on average they are
+ * interpolated as well, and a lookup never allocates. They are also kept
+ * compiled as {@link MaterialModel}s for sampling.
+ * <p>
+ * Instances are immutable and can be shared between threads. The maps
+ * returned must not be modified.
+ */
+public final class ElectronPhysicsTable {
+  /**
+   * Lowest tabulated electron energy in keV. Electrons below this energy are
+   * no longer tracked.
+   */
+  public static final double MIN_ENERGY        = 0.05;
+
+  /** Number of grid points per factor of ten in energy. */
+  private static final int   POINTS_PER_DECADE = 250;
+
+  /** Natural logarithm of the lowest tabulated energy. */
+  private final double       logMinEnergy;
+
+  /** Number of grid points per unit of natural log energy. */
+  private final double       pointsPerLog;
+
+  /** Highest tabulated energy in keV. */
+  private final double       maxEnergy;
+
+  /** Stopping power at each grid point in keV/nm. */
+  private final double[]     stoppingPower;
+
+  /** Elastic cross section (inverse mean free path) in nm^-1. */
+  private final double[]     elasticXSection;
+
+  /** Inner shell ionisation cross section in nm^-1, 0 below all edges. */
+  private final double[]     innerShellXSection;
+
+  /** Plasmon cross section in nm^-1. */
+  private final double[]     plasmonXSection;
+
+  /** Elastic cross section of each element in nm^-1. */
+  private final List<Map<ElementEM, Double>> elasticElementXSections;
+
+  /** Sum of the elastic cross sections of all elements in nm^-1. */
+  private final double[]     elasticElementXSectionTotal;
+
+  /** Cumulative elastic scattering probability of each element. */
+  private final List<Map<ElementEM, Double>> elasticProbs;
+
+  /** Elastic scattering probabilities compiled for sampling. */
+  private final List<MaterialModel<ElementEM>> elasticModels;
+
+  /** Ionisation cross section of each shell of each element. */
+  private final List<Map<Element, double[]>> shellXSections;
+
+  /** Sum of the ionisation cross sections of all shells in nm^-1. */
+  private final double[]     shellXSectionTotal;
+
+  /** Cumulative ionisation probability of each shell of each element. */
+  private final List<Map<Element, double[]>> shellProbs;
+
+  /** Shell ionisation probabilities compiled for sampling. */
+  private final List<MaterialModel<Element>> shellModels;
+
+  /** Free secondary electron mean free path per unit of cross section. */
+  private final double       fseLambdaPerXSection;
+
+  /**
+   * Tabulate the electron interaction data of a material from the minimum
+   * energy up to at least maxEnergy. The cross section coefficients of
+   * coefCalc must have been populated, and coefCalc must calculate rather
+   * than look up its values while the table is built.
+   *
+   * @param coefCalc
+   *          coefficient calculation of the material
+   * @param surrounding
+   *          true for the surrounding, false for the sample
+   * @param maxEnergy
+   *          highest electron energy to tabulate in keV
+   */
+  public ElectronPhysicsTable(final CoefCalcCompute coefCalc,
+      final boolean surrounding, final double maxEnergy) {
+    logMinEnergy = Math.log(MIN_ENERGY);
+    pointsPerLog = POINTS_PER_DECADE / Math.log(10);
+    int points = Math.max(2, (int) Math.ceil(
+        (Math.log(maxEnergy) - logMinEnergy) * pointsPerLog) + 1);
+    this.maxEnergy = getEnergy(points - 1);
+
+    stoppingPower = new double[points];
+    elasticXSection = new double[points];
+    innerShellXSection = new double[points];
+    plasmonXSection = new double[points];
+    elasticElementXSections = new ArrayList<Map<ElementEM, Double>>(points);
+    elasticElementXSectionTotal = new double[points];
+    elasticProbs = new ArrayList<Map<ElementEM, Double>>(points);
+    elasticModels = new ArrayList<MaterialModel<ElementEM>>(points);
+    shellXSections = new ArrayList<Map<Element, double[]>>(points);
+    shellXSectionTotal = new double[points];
+    shellProbs = new ArrayList<Map<Element, double[]>>(points);
+    shellModels = new ArrayList<MaterialModel<Element>>(points);
+
+    for (int i = 0; i < points; i++) {
+      double energy = getEnergy(i);
+      stoppingPower[i] = coefCalc.getStoppingPower(energy, surrounding);
+
+      elasticXSection[i] = 1 / coefCalc.getElectronElasticMFPL(energy,
+          surrounding);
+      elasticProbs.add(coefCalc.getElasticProbs(surrounding));
+      elasticModels.add(MaterialModel.fromCumulative(elasticProbs.get(i)));
+
+      double innerShellLambda = coefCalc.betheIonisationxSection(energy,
+          surrounding);
+      if (innerShellLambda > 0) {
+        innerShellXSection[i] = 1 / innerShellLambda;
+      }
+      shellProbs.add(coefCalc.getAllShellProbs(surrounding));
+      shellModels.add(MaterialModel.fromCumulativeShells(shellProbs.get(i)));
+
+      if (surrounding) {
+        elasticElementXSections.add(coefCalc.elasticXSectionsSurrounding);
+        elasticElementXSectionTotal[i] =
+            coefCalc.ElasticxSectionTotPerElementSurrounding;
+        shellXSections.add(coefCalc.shellXSectionsSurrounding);
+        shellXSectionTotal[i] = coefCalc.BethexSectionTotPerElementSurrounding;
+      } else {
+        elasticElementXSections.add(coefCalc.elasticXSections);
+        elasticElementXSectionTotal[i] = coefCalc.ElasticxSectionTotPerElement;
+        shellXSections.add(coefCalc.shellXSections);
+        shellXSectionTotal[i] = coefCalc.BethexSectionTotPerElement;
+      }
+
+      plasmonXSection[i] = 1 / coefCalc.getPlasmaMFPL(energy, surrounding);
+    }
+    fseLambdaPerXSection = coefCalc.getFSELambda(1.0, surrounding);
+  }
+
+  /**
+   * Returns the energy of a grid point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         energy in keV
+   */
+  private double getEnergy(final int point) {
+    return Math.exp(logMinEnergy + point / pointsPerLog);
+  }
+
+  /**
+   * Returns whether an energy lies within the tabulated range.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         true if the energy is tabulated
+   */
+  public boolean covers(final double energy) {
+    return energy >= MIN_ENERGY && energy <= maxEnergy;
+  }
+
+  /**
+   * Returns the grid point at or below an energy. Energies outside the
+   * tabulated range map to the first or last interval.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         grid point
+   */
+  public int getPoint(final double energy) {
+    int point = (int) ((Math.log(energy) - logMinEnergy) * pointsPerLog);
+    return Math.max(0, Math.min(stoppingPower.length - 2, point));
+  }
+
+  /**
+   * Choose one of the two grid points enclosing an energy at random, the upper
+   * one with a probability equal to the position of the energy between them
+   * in log energy. Probabilities taken from the chosen point then follow
+   * those interpolated linearly in log energy, as ElasticScatteringTable does
+   * for the angle distributions. Energies outside the tabulated range map to
+   * the first or last grid point.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @param rnd
+   *          uniformly distributed random number in [0, 1)
+   * @return
+   *         grid point
+   */
+  public int samplePoint(final double energy, final double rnd) {
+    double position = (Math.log(energy) - logMinEnergy) * pointsPerLog;
+    int point = Math.max(0, Math.min(stoppingPower.length - 2, (int) position));
+    if (rnd < position - point) {
+      return point + 1;
+    }
+    return point;
+  }
+
+  /**
+   * Interpolate tabulated values linearly in log energy. Next to a point
+   * where the value is 0 or undefined, eg. below an absorption edge, the
+   * value of the lower grid point is returned, so that the value agrees with
+   * the probabilities of that point.
+   *
+   * @param values
+   *          tabulated values
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         interpolated value
+   */
+  private double interpolate(final double[] values, final double energy) {
+    double position = (Math.log(energy) - logMinEnergy) * pointsPerLog;
+    int point = Math.max(0, Math.min(values.length - 2, (int) position));
+    double lower = values[point];
+    double upper = values[point + 1];
+    if (lower == 0 || upper == 0 || Double.isNaN(lower)
+        || Double.isNaN(upper)) {
+      return lower;
+    }
+    return lower + (position - point) * (upper - lower);
+  }
+
+  /**
+   * Returns the stopping power.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         stopping power in keV/nm
+   */
+  public double getStoppingPower(final double energy) {
+    return interpolate(stoppingPower, energy);
+  }
+
+  /**
+   * Returns the elastic mean free path.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         elastic mean free path in nm
+   */
+  public double getElasticMFPL(final double energy) {
+    return 1 / interpolate(elasticXSection, energy);
+  }
+
+  /**
+   * Returns the inner shell ionisation mean free path.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         mean free path in nm, or 0 if no shell can be ionised
+   */
+  public double getInnerShellMFPL(final double energy) {
+    double xSection = interpolate(innerShellXSection, energy);
+    if (xSection > 0) {
+      return 1 / xSection;
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the plasmon mean free path.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         plasmon mean free path in nm
+   */
+  public double getPlasmaMFPL(final double energy) {
+    return 1 / interpolate(plasmonXSection, energy);
+  }
+
+  /**
+   * Returns the free secondary electron mean free path.
+   *
+   * @param fseXSection
+   *          free secondary electron cross section in cm^2/electron
+   * @return
+   *         mean free path in nm
+   */
+  public double getFSELambda(final double fseXSection) {
+    return fseLambdaPerXSection / fseXSection;
+  }
+
+  /**
+   * Returns the elastic cross section of each element at a grid point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         cross section of each element in nm^-1
+   */
+  public Map<ElementEM, Double> getElasticXSections(final int point) {
+    return elasticElementXSections.get(point);
+  }
+
+  /**
+   * Returns the sum of the elastic cross sections of all elements at a grid
+   * point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         cross section in nm^-1
+   */
+  public double getElasticXSectionTotal(final int point) {
+    return elasticElementXSectionTotal[point];
+  }
+
+  /**
+   * Returns the cumulative elastic scattering probabilities at a grid point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         cumulative probability of each element
+   */
+  public Map<ElementEM, Double> getElasticProbs(final int point) {
+    return elasticProbs.get(point);
+  }
+
+  /**
+   * Returns the elastic scattering probabilities at a grid point compiled
+   * for sampling.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         model with one outcome per element
+   */
+  public MaterialModel<ElementEM> getElasticModel(final int point) {
+    return elasticModels.get(point);
+  }
+
+  /**
+   * Returns the ionisation cross section of each shell at a grid point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         cross section of each shell of each element
+   */
+  public Map<Element, double[]> getShellXSections(final int point) {
+    return shellXSections.get(point);
+  }
+
+  /**
+   * Returns the sum of the shell ionisation cross sections at a grid point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         cross section in nm^-1
+   */
+  public double getShellXSectionTotal(final int point) {
+    return shellXSectionTotal[point];
+  }
+
+  /**
+   * Returns the cumulative shell ionisation probabilities at a grid point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         cumulative probability of each shell of each element
+   */
+  public Map<Element, double[]> getShellProbs(final int point) {
+    return shellProbs.get(point);
+  }
+
+  /**
+   * Returns the shell ionisation probabilities at a grid point compiled for
+   * sampling.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         model with one outcome per shell of each element
+   */
+  public MaterialModel<Element> getShellModel(final int point) {
+    return shellModels.get(point);
+  }
+}
@@ -9,7 +9,7 @@ import se.raddo.raddose3D.ElementDatabase.DatabaseFields;
  * The Element class contains physical constants of an element associated with
  * x-ray cross sections.
  */
-public class Element {
+public class Element implements Comparable<Element> {
   /**
    * Element name.
    */
@@ -117,46 +117,34 @@ public class Element {
   }
   
   public void EdgeRatio (){
-    probKShellIonisation = 1 - 1 / getKEdgeRatio();
-    probL1ShellIonisation = 1 - 1 / getL1EdgeRatio();
-    probL2ShellIonisation = 1 - 1 / getL2EdgeRatio();
-    probL3ShellIonisation = 1 - 1 / getL3EdgeRatio();
+    // Each field is assigned its final value exactly once, as concurrent
+    // simulation threads may read them while another thread updates them.
+    probKShellIonisation = shellIonisationProb(getKEdgeRatio());
+    probL1ShellIonisation = shellIonisationProb(getL1EdgeRatio());
+    probL2ShellIonisation = shellIonisationProb(getL2EdgeRatio());
+    probL3ShellIonisation = shellIonisationProb(getL3EdgeRatio());
     
-    probM1ShellIonisation = 1 - 1 / getM1EdgeRatio();
-    probM2ShellIonisation = 1 - 1 / getM2EdgeRatio();
-    probM3ShellIonisation = 1 - 1 / getM3EdgeRatio();
-    probM4ShellIonisation = 1 - 1 / getM4EdgeRatio();
-    probM5ShellIonisation = 1 - 1 / getM5EdgeRatio();
-    
-    if (probKShellIonisation == Double.NEGATIVE_INFINITY){   //If statements added as some ratios were equalling -Infinity becuase some Edge ratios were 0
-      probKShellIonisation = 1;
-    }
-    if (probL1ShellIonisation == Double.NEGATIVE_INFINITY){
-      probL1ShellIonisation = 1;
-    }
-    if (probL2ShellIonisation == Double.NEGATIVE_INFINITY){
-      probL2ShellIonisation = 1;
-    }
-    if (probL3ShellIonisation == Double.NEGATIVE_INFINITY){
-      probL3ShellIonisation = 1;
-    }
-    
-    if (probM1ShellIonisation == Double.NEGATIVE_INFINITY){
-      probM1ShellIonisation = 1;
-    }
-    if (probM2ShellIonisation == Double.NEGATIVE_INFINITY){
-      probM2ShellIonisation = 1;
-    }
-    if (probM3ShellIonisation == Double.NEGATIVE_INFINITY){
-      probM3ShellIonisation = 1;
-    }
-    if (probM4ShellIonisation == Double.NEGATIVE_INFINITY){
-      probM4ShellIonisation = 1;
-    }
-    if (probM5ShellIonisation == Double.NEGATIVE_INFINITY){
-      probM5ShellIonisation = 1;
+    probM1ShellIonisation = shellIonisationProb(getM1EdgeRatio());
+    probM2ShellIonisation = shellIonisationProb(getM2EdgeRatio());
+    probM3ShellIonisation = shellIonisationProb(getM3EdgeRatio());
+    probM4ShellIonisation = shellIonisationProb(getM4EdgeRatio());
+    probM5ShellIonisation = shellIonisationProb(getM5EdgeRatio());
+  }
+  
+  /**
+   * Converts an edge ratio into the probability of ionising that shell.
+   * 
+   * @param edgeRatio
+   *          edge ratio of the shell
+   * @return
+   *         ionisation probability
+   */
+  private static double shellIonisationProb(final double edgeRatio) {
+    double prob = 1 - 1 / edgeRatio;
+    if (prob == Double.NEGATIVE_INFINITY) {   //some ratios were equalling -Infinity becuase some Edge ratios were 0
+      prob = 1;
     }
-    
+    return prob;
   }
 
   /**
@@ -768,4 +756,33 @@ public class Element {
   public double getI() {
     return elementData.get(DatabaseFields.I);
   }
+
+  /**
+   * Elements are equal if they have the same atomic number. Hash based
+   * collections of elements then iterate in the same order in every JVM,
+   * which keeps seeded simulations reproducible.
+   */
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return atomicNumber == ((Element) obj).atomicNumber;
+  }
+
+  @Override
+  public int hashCode() {
+    return atomicNumber;
+  }
+
+  /**
+   * Orders elements by atomic number.
+   */
+  @Override
+  public int compareTo(final Element other) {
+    return Integer.compare(atomicNumber, other.atomicNumber);
+  }
 }
@@ -1,12 +1,6 @@
 package se.raddo.raddose3D;
 
-import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
 import java.util.HashMap;
 import java.util.TreeMap;
 import java.util.Map;
@@ -101,31 +95,18 @@ public class ElementDatabaseEM {
   protected ElementDatabaseEM() throws IOException {
     elements = new HashMap<Object, ElementEM>();
 
-    InputStreamReader isr = locateConstantsFile();
-    BufferedReader br = new BufferedReader(isr);
-
-    // Read in constants file, consider some kind of error checking
-    String line;
-    String[] components;
+    ConstantsTable table = ConstantsCache.getInstance().getTable(ELCALC_FILE);
 
     TreeMap<Double, Double> elementInfo =
         new TreeMap<Double, Double>();
 
-    while ((line = br.readLine()) != null) {
-      // ignore commented out lines.
-      if (Character.toString(line.charAt(0)).equals("#")) {
-        continue;
-      }
-
-      // array containing all those numbers from the calculator file
-      components = line.split(",", -1);
-
+    for (int row = 0; row < table.getRowCount(); row++) {
       // Setting all the properties of the new atom.
-      // component[x] where the values of x are in order
-      // as listed in the constants file.
+      // The column numbers are in order as listed in the constants file.
 
-      int atomicNumber = Integer.parseInt(components[ATOMIC_NUMBER]);
-      double atomicWeight = Double.valueOf(components[2]);
+      int atomicNumber = (int) table.getValue(row, ATOMIC_NUMBER);
+      String elementName = table.getText(row, ELEMENT_NAME);
+      double atomicWeight = table.getValue(row, 2);
 
       elementInfo.clear();
       for (int i = 3; i <= 321; i++) {
@@ -136,45 +117,18 @@ public class ElementDatabaseEM {
           multiplyFactor = 1;
         }
         double energy = ((double)(i - minusFactor)) * multiplyFactor;
-        if ("".equals(components[i])) {
+        if ("".equals(table.getText(row, i))) {
           elementInfo.put(energy, null);
         } else {
-          elementInfo.put(energy, Double.valueOf(components[i]));
+          elementInfo.put(energy, table.getValue(row, i));
         }
       }
 
-      ElementEM elem = new ElementEM(components[ELEMENT_NAME], atomicNumber, atomicWeight,
+      ElementEM elem = new ElementEM(elementName, atomicNumber, atomicWeight,
           elementInfo);   //really check this
-      elements.put(components[ELEMENT_NAME].toLowerCase(), elem);
+      elements.put(elementName.toLowerCase(), elem);
       elements.put(atomicNumber, elem);
     }
-
-    br.close();
-    isr.close();
-  }
-
-  /**
-   * Try to locate MUCALC_FILE. This may be in the class path (ie. within a .jar
-   * file), or in the file system.
-   * 
-   * @return
-   *         InputStreamReader pointing to the correct resource.
-   * @throws FileNotFoundException
-   *           The file could not be found.
-   * @throws UnsupportedEncodingException
-   *           The file charset cannot be interpreted.
-   */
-  private InputStreamReader locateConstantsFile()
-      throws UnsupportedEncodingException, FileNotFoundException {
-    // Try to find it within class path;
-    InputStream is = getClass().getResourceAsStream("/" + ELCALC_FILE);
-
-    if (is == null) {
-      // If it is not within the class path, try via the file system.
-      is = new FileInputStream(ELCALC_FILE);
-    }
-
-    return new InputStreamReader(is, "US-ASCII");
   }
 
   /**
@@ -6,7 +6,7 @@ import java.util.Map;
 
 // import se.raddo.raddose3D.ElementDatabaseEM.DatabaseFields;
 
-public class ElementEM {
+public class ElementEM implements Comparable<ElementEM> {
   /**
    * Element name.
    */
@@ -89,4 +89,33 @@ public class ElementEM {
   public double getAtomicWeight() {
     return atomicWeightEM;
   }
+
+  /**
+   * Elements are equal if they have the same atomic number. Hash based
+   * collections of elements then iterate in the same order in every JVM,
+   * which keeps seeded simulations reproducible.
+   */
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return atomicNumberEM == ((ElementEM) obj).atomicNumberEM;
+  }
+
+  @Override
+  public int hashCode() {
+    return atomicNumberEM;
+  }
+
+  /**
+   * Orders elements by atomic number.
+   */
+  @Override
+  public int compareTo(final ElementEM other) {
+    return Integer.compare(atomicNumberEM, other.atomicNumberEM);
+  }
 }
@@ -25,6 +25,18 @@ public class Experiment implements Initializer {
    */
   private final List<Output> observers = new ArrayList<Output>();
 
+  /** Saves and restores the progress of the experiment, or null. */
+  private Checkpoint         checkpoint;
+
+  /** Let subprograms write files directly. */
+  private boolean            subprogramFiles = true;
+
+  /**
+   * Prefix of the files written directly by subprograms, or null for their
+   * legacy file names.
+   */
+  private String             outputPrefix;
+
   /**
    * Cause given Input object to send its object stream to this Experiment.
    * Basically this is where the parser is called on the input stream, and
@@ -52,6 +64,42 @@ public class Experiment implements Initializer {
     observers.add(o);
   }
 
+  /**
+   * Sets the Checkpoint that saves the progress of the experiment after each
+   * wedge and simulation batch, and on resume skips the work that was
+   * completed before.
+   * 
+   * @param c
+   *          Checkpoint object, or null to disable checkpointing
+   */
+  public void setCheckpoint(final Checkpoint c) {
+    checkpoint = c;
+  }
+
+  /**
+   * Sets the prefix of the csv files the simulation subprograms write next to
+   * the results they publish to observers. Without a prefix these files keep
+   * their legacy names, such as outputMC.CSV, in the working directory.
+   * 
+   * @param prefix
+   *          output file prefix, or null
+   */
+  public void setOutputPrefix(final String prefix) {
+    outputPrefix = prefix;
+  }
+
+  /**
+   * Sets whether the simulation subprograms write their csv files at all.
+   * Experiments run next to each other in one process should not, unless
+   * each has its own prefix.
+   * 
+   * @param write
+   *          let the subprograms write their csv files
+   */
+  public void setSubprogramFiles(final boolean write) {
+    subprogramFiles = write;
+  }
+
   /**
    * Passes a Wedge object to all observers.
    * 
@@ -64,6 +112,23 @@ public class Experiment implements Initializer {
     }
   }
 
+  /**
+   * Passes the results of a subprogram run to all observers interested in
+   * them.
+   * 
+   * @param w
+   *          The Wedge object describing the exposure.
+   * @param r
+   *          Results of the run.
+   */
+  protected void notifyObserver(final Wedge w, final SubprogramResult r) {
+    for (Output o : observers) {
+      if (o instanceof OutputSubprogramResults) {
+        ((OutputSubprogramResults) o).publishSubprogramResult(w, r);
+      }
+    }
+  }
+
   /**
    * Passes a Crystal object to all observers.
    * 
@@ -90,7 +155,10 @@ public class Experiment implements Initializer {
 
   /**
    * Exposes wedge of crystal to the beam.
-   * Notifies all subscribers after wedge exposure.
+   * Notifies all subscribers after wedge exposure. If the crystal ran a
+   * simulation subprogram, its results are published instead of the wedge.
+   * Wedges that were completed before a resumed checkpoint are skipped, and
+   * the checkpoint receives the progress of the simulations of a wedge.
    * 
    * @param w
    *          Wedge object for exposure
@@ -98,8 +166,29 @@ public class Experiment implements Initializer {
   @Override
   public void exposeWedge(final Wedge w) {
     if (w != null) {
-      currentCrystal.expose(currentBeam, w);
-      notifyObserver(w);
+      if (checkpoint != null
+          && checkpoint.skipWedge(currentCrystal, observers)) {
+        return;
+      }
+      if (checkpoint != null) {
+        ParallelSimulation.setProgress(checkpoint.getProgress());
+      }
+      try {
+        currentCrystal.expose(currentBeam, w);
+      } finally {
+        ParallelSimulation.setProgress(null);
+      }
+      List<SubprogramResult> results = currentCrystal.getSubprogramResults();
+      if (results.isEmpty()) {
+        notifyObserver(w);
+      } else {
+        for (SubprogramResult r : results) {
+          notifyObserver(w, r);
+        }
+      }
+      if (checkpoint != null) {
+        checkpoint.wedgeComplete(currentCrystal, observers);
+      }
     }
   }
 
@@ -114,6 +203,7 @@ public class Experiment implements Initializer {
   public void setCrystal(final Crystal c) {
     if (c != null) {
       currentCrystal = c;
+      currentCrystal.setOutputFiles(subprogramFiles, outputPrefix);
       notifyObserver(currentCrystal);
     }
   }
@@ -148,6 +238,7 @@ public class Experiment implements Initializer {
     // Delete all references to other objects.
     currentBeam = null;
     currentCrystal = null;
+    checkpoint = null;
   }
 
   /**
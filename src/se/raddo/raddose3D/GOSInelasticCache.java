@@ -0,0 +1,263 @@
+package se.raddo.raddose3D;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The GOSInelasticCache keeps calculated {@link GOSInelasticTable} objects on
+ * disk, so that runs on a material that has been simulated before skip the
+ * numerical integration of the generalised oscillator strengths.
+ * <p>
+ * Tables are content-addressed: the file name is a SHA-256 hash of everything
+ * the GOS calculation depends on, namely the atom counts and binding energies
+ * of every element in the sample and the surrounding, the unit cell volume,
+ * the density and the energy grid. A changed composition therefore never
+ * picks up stale tables. FORMAT_VERSION has to be increased whenever the GOS
+ * model itself changes.
+ * <p>
+ * Files are kept in the same directory as the {@link ConstantsCache}, which
+ * is selected with the system property raddose3d.cachedir.
+ */
+public final class GOSInelasticCache {
+  /** Version of the GOS model and file format, part of every key. */
+  private static final int    FORMAT_VERSION = 1;
+
+  /** Identifies a cache file, "RD3DGOS" followed by the format version. */
+  private static final long   MAGIC          = 0x52443344474F5300L
+                                                 | FORMAT_VERSION;
+
+  /** Prefix of the cache file names. */
+  private static final String FILE_PREFIX    = "gos-";
+
+  /** Suffix of the cache file names. */
+  private static final String FILE_SUFFIX    = ".bin";
+
+  /** Directory of the cache files, or null if caching is disabled. */
+  private final File          dir;
+
+  /**
+   * Create a cache that keeps its files in a directory.
+   *
+   * @param dir
+   *          the cache directory, or null to disable caching
+   */
+  public GOSInelasticCache(final File dir) {
+    this.dir = dir;
+  }
+
+  /**
+   * Returns a cache in the directory selected by the raddose3d.cachedir
+   * system property.
+   *
+   * @return
+   *         the cache, which may be disabled
+   */
+  public static GOSInelasticCache getDefault() {
+    return new GOSInelasticCache(ConstantsCache.getCacheDirectory());
+  }
+
+  /**
+   * Calculate the key of the GOS tables of a material.
+   *
+   * @param coefCalc
+   *          coefficient calculation of the material
+   * @param maxEnergy
+   *          highest electron energy to tabulate in keV
+   * @return
+   *         key as a hexadecimal string
+   */
+  public static String getKey(final CoefCalcCompute coefCalc,
+      final double maxEnergy) {
+    Set<Element> sample = coefCalc.getPresentElements(false);
+    Set<Element> surrounding = coefCalc.getPresentElements(true);
+    Map<Integer, Element> elements = new TreeMap<Integer, Element>();
+    addElements(elements, sample);
+    addElements(elements, surrounding);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    try {
+      out.writeLong(MAGIC);
+      out.writeDouble(ElectronPhysicsTable.MIN_ENERGY);
+      out.writeInt(GOSInelasticTable.getPointCount(maxEnergy));
+      out.writeDouble(coefCalc.cellVolume);
+      out.writeDouble(coefCalc.getDensity());
+      out.writeBoolean(coefCalc.isCryo());
+      for (Element e : elements.values()) {
+        out.writeInt(e.getAtomicNumber());
+        out.writeBoolean(sample != null && sample.contains(e));
+        out.writeBoolean(surrounding != null && surrounding.contains(e));
+        out.writeDouble(coefCalc.totalAtoms(e));
+        out.writeDouble(coefCalc.totalAtomsSurr(e));
+        int numInnerShells = coefCalc.getNumValenceElectronsSubshells(e)[1];
+        for (int shell = 0; shell <= numInnerShells; shell++) {
+          out.writeDouble(coefCalc.getShellBindingSubshell(shell, e));
+        }
+      }
+      out.close();
+    } catch (IOException e) {
+      // writing to a byte array does not fail
+      throw new IllegalStateException(e);
+    }
+
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    StringBuilder key = new StringBuilder();
+    for (byte b : digest.digest(bytes.toByteArray())) {
+      key.append(String.format("%02x", b));
+    }
+    return key.toString();
+  }
+
+  /**
+   * Add elements to a map by atomic number.
+   *
+   * @param elements
+   *          map to be added to
+   * @param set
+   *          elements to be added, may be null
+   */
+  private static void addElements(final Map<Integer, Element> elements,
+      final Collection<Element> set) {
+    if (set != null) {
+      for (Element e : set) {
+        elements.put(e.getAtomicNumber(), e);
+      }
+    }
+  }
+
+  /**
+   * Returns the file holding the tables of a key.
+   *
+   * @param key
+   *          key calculated by getKey()
+   * @return
+   *         the file, or null if caching is disabled
+   */
+  public File getFile(final String key) {
+    if (dir == null) {
+      return null;
+    }
+    return new File(dir, FILE_PREFIX + key + FILE_SUFFIX);
+  }
+
+  /**
+   * Read the tables of a key, if they have been stored before.
+   *
+   * @param key
+   *          key calculated by getKey()
+   * @param coefCalc
+   *          coefficient calculation of the material, used to look up its
+   *          elements
+   * @return
+   *         the tables of the sample and the surrounding, the latter
+   *         possibly null, or null if there are no usable tables
+   */
+  public GOSInelasticTable[] load(final String key,
+      final CoefCalcCompute coefCalc) {
+    File file = getFile(key);
+    if (file == null || !file.isFile()) {
+      return null;
+    }
+    Map<Integer, Element> elements = new HashMap<Integer, Element>();
+    addElements(elements, coefCalc.getPresentElements(false));
+    addElements(elements, coefCalc.getPresentElements(true));
+
+    try {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(
+          new FileInputStream(file)));
+      try {
+        if (in.readLong() != MAGIC || !key.equals(in.readUTF())) {
+          return null;
+        }
+        GOSInelasticTable[] tables = new GOSInelasticTable[2];
+        tables[0] = new GOSInelasticTable(in, elements);
+        if (in.readBoolean()) {
+          tables[1] = new GOSInelasticTable(in, elements);
+        }
+        return tables;
+      } finally {
+        in.close();
+      }
+    } catch (IOException e) {
+      System.err.println("GOSInelasticCache: Could not read " + file
+          + ", recalculating: " + e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Store the tables of a key. The file is written under a temporary name and
+   * then moved into place, so that concurrent processes never see a partially
+   * written file. Does nothing if caching is disabled.
+   *
+   * @param key
+   *          key calculated by getKey()
+   * @param table
+   *          table of the sample
+   * @param tableSurrounding
+   *          table of the surrounding, or null
+   * @throws IOException
+   *           The file could not be written.
+   */
+  public void store(final String key, final GOSInelasticTable table,
+      final GOSInelasticTable tableSurrounding) throws IOException {
+    File file = getFile(key);
+    if (file == null) {
+      return;
+    }
+    if (!dir.isDirectory() && !dir.mkdirs()) {
+      throw new IOException("Could not create directory " + dir);
+    }
+
+    File tmp = File.createTempFile(FILE_PREFIX, ".tmp", dir);
+    try {
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          new FileOutputStream(tmp)));
+      try {
+        out.writeLong(MAGIC);
+        out.writeUTF(key);
+        table.write(out);
+        out.writeBoolean(tableSurrounding != null);
+        if (tableSurrounding != null) {
+          tableSurrounding.write(out);
+        }
+      } finally {
+        out.close();
+      }
+
+      try {
+        Files.move(tmp.toPath(), file.toPath(),
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp.toPath(), file.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      if (tmp.exists() && !tmp.delete()) {
+        tmp.deleteOnExit();
+      }
+    }
+  }
+}
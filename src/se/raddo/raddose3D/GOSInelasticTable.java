@@ -0,0 +1,347 @@
+package se.raddo.raddose3D;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A GOSInelasticTable holds the inelastic cross sections of the generalised
+ * oscillator strength (GOS) model for one material, either the sample or its
+ * surrounding, on a grid of logarithmically spaced electron energies.
+ * <p>
+ * The table is calculated once by a {@link CoefCalcCompute}, or read back from
+ * a {@link GOSInelasticCache}, and replaces the numerical integration that
+ * getGOSInel() would otherwise repeat every time an electron loses energy.
+ * All values are taken from one of the two grid points enclosing the energy,
+ * chosen at random so that on average they are interpolated linearly in log
+ * energy. The mean free path then agrees with the shell and plasmon cross
+ * sections returned with it, and a lookup never allocates.
+ * <p>
+ * Instances are immutable and can be shared between threads. The maps and
+ * arrays returned must not be modified.
+ */
+public final class GOSInelasticTable {
+  /** Number of grid points per factor of ten in energy. */
+  private static final int   POINTS_PER_DECADE = 250;
+
+  /** Natural logarithm of the lowest tabulated energy. */
+  private final double       logMinEnergy;
+
+  /** Number of grid points per unit of natural log energy. */
+  private final double       pointsPerLog;
+
+  /** Highest tabulated energy in keV. */
+  private final double       maxEnergy;
+
+  /** Inelastic mean free path at each grid point in nm. */
+  private final double[]     inelasticLambda;
+
+  /** Sternheimer adjustment factor at each grid point. */
+  private final double[]     adjustment;
+
+  /**
+   * Longitudinal, transverse, close and total cross section of each shell of
+   * each element in nm^-1.
+   */
+  private final List<Map<Element, double[][]>> shellXSections;
+
+  /**
+   * Longitudinal, transverse, close and total cross section of the conduction
+   * band in nm^-1.
+   */
+  private final double[][]   plasmonXSections;
+
+  /**
+   * Tabulate the GOS inelastic cross sections of a material from
+   * ElectronPhysicsTable.MIN_ENERGY up to at least maxEnergy. coefCalc must
+   * calculate rather than look up its values while the table is built.
+   *
+   * @param coefCalc
+   *          coefficient calculation of the material
+   * @param surrounding
+   *          true for the surrounding, false for the sample
+   * @param maxEnergy
+   *          highest electron energy to tabulate in keV
+   */
+  public GOSInelasticTable(final CoefCalcCompute coefCalc,
+      final boolean surrounding, final double maxEnergy) {
+    logMinEnergy = Math.log(ElectronPhysicsTable.MIN_ENERGY);
+    pointsPerLog = POINTS_PER_DECADE / Math.log(10);
+    int points = getPointCount(maxEnergy);
+    this.maxEnergy = getEnergy(points - 1);
+
+    inelasticLambda = new double[points];
+    adjustment = new double[points];
+    shellXSections = new ArrayList<Map<Element, double[][]>>(points);
+    plasmonXSections = new double[points][];
+
+    for (int i = 0; i < points; i++) {
+      inelasticLambda[i] = coefCalc.getGOSInel(surrounding, getEnergy(i));
+      adjustment[i] = coefCalc.returnAdjustment();
+      shellXSections.add(coefCalc.getGOSVariable(surrounding));
+      plasmonXSections[i] = coefCalc.getPlasmonVariable(surrounding);
+    }
+  }
+
+  /**
+   * Read a table written by write().
+   *
+   * @param in
+   *          stream positioned at the start of the table
+   * @param elements
+   *          the elements of the material by atomic number
+   * @throws IOException
+   *           The table could not be read or refers to an unknown element.
+   */
+  GOSInelasticTable(final DataInputStream in,
+      final Map<Integer, Element> elements) throws IOException {
+    logMinEnergy = in.readDouble();
+    pointsPerLog = in.readDouble();
+    int points = in.readInt();
+    maxEnergy = getEnergy(points - 1);
+
+    int numElements = in.readInt();
+    Element[] tableElements = new Element[numElements];
+    for (int e = 0; e < numElements; e++) {
+      tableElements[e] = elements.get(in.readInt());
+      if (tableElements[e] == null) {
+        throw new IOException("Table refers to an element not in the material");
+      }
+    }
+    int shells = in.readInt();
+    int columns = in.readInt();
+
+    inelasticLambda = new double[points];
+    adjustment = new double[points];
+    shellXSections = new ArrayList<Map<Element, double[][]>>(points);
+    plasmonXSections = new double[points][];
+    for (int i = 0; i < points; i++) {
+      inelasticLambda[i] = in.readDouble();
+      adjustment[i] = in.readDouble();
+      plasmonXSections[i] = readRow(in, in.readInt());
+      Map<Element, double[][]> shellMap = new HashMap<Element, double[][]>();
+      for (Element e : tableElements) {
+        double[][] elementShells = new double[shells][];
+        for (int shell = 0; shell < shells; shell++) {
+          elementShells[shell] = readRow(in, columns);
+        }
+        shellMap.put(e, elementShells);
+      }
+      shellXSections.add(shellMap);
+    }
+  }
+
+  /**
+   * Write the table in the format read by the stream constructor. Layout:
+   * grid, number of points, atomic numbers of the elements, shells and
+   * columns per element, then for each point the mean free path, the
+   * adjustment factor, the plasmon cross sections and the shell cross
+   * sections of each element.
+   *
+   * @param out
+   *          the stream
+   * @throws IOException
+   *           The table could not be written.
+   */
+  void write(final DataOutputStream out) throws IOException {
+    int points = inelasticLambda.length;
+    out.writeDouble(logMinEnergy);
+    out.writeDouble(pointsPerLog);
+    out.writeInt(points);
+
+    // every point has the same elements and shells
+    List<Element> tableElements =
+        new ArrayList<Element>(shellXSections.get(0).keySet());
+    int shells = 0;
+    int columns = 0;
+    if (!tableElements.isEmpty()) {
+      double[][] elementShells = shellXSections.get(0).get(tableElements.get(0));
+      shells = elementShells.length;
+      columns = elementShells[0].length;
+    }
+    out.writeInt(tableElements.size());
+    for (Element e : tableElements) {
+      out.writeInt(e.getAtomicNumber());
+    }
+    out.writeInt(shells);
+    out.writeInt(columns);
+
+    for (int i = 0; i < points; i++) {
+      out.writeDouble(inelasticLambda[i]);
+      out.writeDouble(adjustment[i]);
+      out.writeInt(plasmonXSections[i].length);
+      writeRow(out, plasmonXSections[i]);
+      for (Element e : tableElements) {
+        for (double[] shell : shellXSections.get(i).get(e)) {
+          writeRow(out, shell);
+        }
+      }
+    }
+  }
+
+  /**
+   * Read an array of doubles.
+   *
+   * @param in
+   *          the stream
+   * @param length
+   *          number of values
+   * @return
+   *         the values
+   * @throws IOException
+   *           The values could not be read.
+   */
+  private static double[] readRow(final DataInputStream in, final int length)
+      throws IOException {
+    double[] row = new double[length];
+    for (int i = 0; i < length; i++) {
+      row[i] = in.readDouble();
+    }
+    return row;
+  }
+
+  /**
+   * Write an array of doubles.
+   *
+   * @param out
+   *          the stream
+   * @param row
+   *          the values
+   * @throws IOException
+   *           The values could not be written.
+   */
+  private static void writeRow(final DataOutputStream out, final double[] row)
+      throws IOException {
+    for (double value : row) {
+      out.writeDouble(value);
+    }
+  }
+
+  /**
+   * Returns the number of grid points needed to reach an energy.
+   *
+   * @param maxEnergy
+   *          highest electron energy to tabulate in keV
+   * @return
+   *         number of grid points
+   */
+  static int getPointCount(final double maxEnergy) {
+    return Math.max(2, (int) Math.ceil(POINTS_PER_DECADE
+        * Math.log10(maxEnergy / ElectronPhysicsTable.MIN_ENERGY)) + 1);
+  }
+
+  /**
+   * Returns the energy of a grid point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         energy in keV
+   */
+  public double getEnergy(final int point) {
+    return Math.exp(logMinEnergy + point / pointsPerLog);
+  }
+
+  /**
+   * Returns whether an energy lies within the tabulated range.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         true if the energy is tabulated
+   */
+  public boolean covers(final double energy) {
+    return energy >= ElectronPhysicsTable.MIN_ENERGY && energy <= maxEnergy;
+  }
+
+  /**
+   * Returns the grid point at or below an energy. Energies outside the
+   * tabulated range map to the first or last point.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @return
+   *         grid point
+   */
+  public int getPoint(final double energy) {
+    int point = (int) ((Math.log(energy) - logMinEnergy) * pointsPerLog);
+    return Math.max(0, Math.min(inelasticLambda.length - 1, point));
+  }
+
+  /**
+   * Choose one of the two grid points enclosing an energy at random, the upper
+   * one with a probability equal to the position of the energy between them
+   * in log energy, as ElectronPhysicsTable.samplePoint() does. Energies
+   * outside the tabulated range map to the first or last point.
+   *
+   * @param energy
+   *          electron energy in keV
+   * @param rnd
+   *          uniformly distributed random number in [0, 1)
+   * @return
+   *         grid point
+   */
+  public int samplePoint(final double energy, final double rnd) {
+    double position = (Math.log(energy) - logMinEnergy) * pointsPerLog;
+    int point = Math.max(0, Math.min(inelasticLambda.length - 2,
+        (int) position));
+    if (rnd < position - point) {
+      return point + 1;
+    }
+    return point;
+  }
+
+  /**
+   * Returns the inelastic mean free path at a grid point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         mean free path in nm
+   */
+  public double getInelasticLambda(final int point) {
+    return inelasticLambda[point];
+  }
+
+  /**
+   * Returns the Sternheimer adjustment factor at a grid point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         adjustment factor
+   */
+  public double getAdjustment(final int point) {
+    return adjustment[point];
+  }
+
+  /**
+   * Returns the cross sections of each shell of each element at a grid
+   * point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         longitudinal, transverse, close and total cross section of each
+   *         shell in nm^-1
+   */
+  public Map<Element, double[][]> getShellXSections(final int point) {
+    return shellXSections.get(point);
+  }
+
+  /**
+   * Returns the conduction band cross sections at a grid point.
+   *
+   * @param point
+   *          grid point
+   * @return
+   *         longitudinal, transverse, close and total cross section in nm^-1
+   */
+  public double[] getPlasmonXSections(final int point) {
+    return plasmonXSections[point];
+  }
+}
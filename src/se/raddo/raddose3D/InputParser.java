@@ -18,6 +18,8 @@ import org.antlr.runtime.RecognitionException;
  * interaction from the rest of the project.
  */
 public class InputParser implements Input {
+  /** The ANTLR CharStream holding the input text. */
+  private final CharStream        input;
   /** The ANTLR CommonTokenStream that the InputParser works on. */
   private final CommonTokenStream tokens;
 
@@ -39,6 +41,7 @@ public class InputParser implements Input {
    *          ANTLR CharStream object
    */
   public InputParser(final CharStream stream) {
+    input = stream;
     InputfileLexer lex = new InputfileLexer(stream);
     tokens = new CommonTokenStream(lex);
   }
@@ -67,6 +70,16 @@ public class InputParser implements Input {
     bf = beamFact;
   }
 
+  /**
+   * Returns the complete text of the input, including comments.
+   * 
+   * @return
+   *         input text
+   */
+  public String getInputText() {
+    return input.substring(0, input.size() - 1);
+  }
+
   @Override
   public void sendData(final Initializer i) throws InputException {
     InputfileParser parser = new InputfileParser(tokens);
@@ -2,20 +2,18 @@ package se.raddo.raddose3D;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
-import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -24,10 +22,9 @@ import java.util.List;
 import org.apache.commons.math3.distribution.MultivariateNormalDistribution;
 import org.apache.commons.math3.distribution.NormalDistribution;
 
-import se.raddo.raddose3D.CrystalPolyhedron.Vector;
 
 
-public class MC {
+public class MC implements Cloneable {
   //polyhderon variables
   public double[][] verticesXFEL;
   public double[][] rotatedVerticesXFEL;
@@ -61,6 +58,33 @@ public class MC {
   private double[][] normalsSurrounding, rotatedNormalsSurrounding;
   private double[] originDistancesSurrounding, rotatedOriginDistancesSurrounding;
   
+  /**
+   * Triangles of the crystal and surrounding, unrotated and rotated, for ray
+   * queries. Updated together with the normals.
+   */
+  private TriangleMesh mesh, rotatedMesh, meshSurrounding, rotatedMeshSurrounding;
+  
+  /**
+   * Voxelised crystal in its unrotated frame, shared by all workers, and the
+   * voxelised surrounding of this worker, looked up again when the
+   * surrounding thickness changes. Null where the exact ray cast has to be
+   * used.
+   */
+  private OccupancyGrid crystalGrid, surroundingGrid;
+  
+  /**
+   * Voxelised surroundings by surrounding thickness, shared by all workers so
+   * that each thickness is voxelised only once.
+   */
+  private ConcurrentMap<List<Double>, OccupancyGrid> surroundingGrids;
+  
+  /**
+   * Rotation and translation of the crystal and of the surrounding, as
+   * {cos, sin, x, y, z} with the translation in um, used to map points back
+   * into the frame of the occupancy grids.
+   */
+  private double[] crystalFrame, surroundingFrame;
+  
   
   public double XDimension; //nm
   public double YDimension;
@@ -87,9 +111,6 @@ public class MC {
   private double[] angularEmissionProbs;
   private final int numberAngularEmissionBins = 50;
   
-  private TreeMap<Double, double[]>[]  lowEnergyAngles;
-  private TreeMap<Double, double[]>[]  highEnergyAngles;
-  
   private HashMap<Integer, HashMap<Integer, double[]>> augerTransitionLinewidths;
   private HashMap<Integer, HashMap<Integer, double[]>> augerTransitionProbabilities;
   private HashMap<Integer, HashMap<Integer, double[]>> cumulativeTransitionProbabilities;
@@ -153,6 +174,10 @@ public class MC {
   private final boolean silicon = false;
   
   private boolean simpleMC = false; 
+
+  /** Results of the simulation, in the order of the csv columns. */
+  private final Map<String, Double> results = new LinkedHashMap<String, Double>();
+
   private boolean doXFEL = true;
   
   
@@ -174,9 +199,25 @@ public class MC {
   
   private double[] surroundingThickness;
   
+  /** Root of the random number streams, one substream per simulated photon. */
+  private final RandomStream randomStreams;
+  /** Random number stream of the photon currently being simulated. */
+  private RandomStream random;
+
+  /** Write the csv files of the simulation. */
+  private boolean writeFiles = true;
+  /**
+   * Prefix of the csv files written by the simulation, or null for the
+   * legacy file names in the working directory.
+   */
+  private String outputPrefix;
+  
   public MC(double vertices[][], int[][] indices, double[][][][] crystCoord, 
       double crystalPixPerUM, int[] crystSizeVoxels, boolean[][][][] crystOcc, int runNum, boolean verticalGoniometer,
-      boolean xfel, boolean gos, double[] surrThickness, boolean verticalPolarisation) {
+      boolean xfel, boolean gos, double[] surrThickness, boolean verticalPolarisation,
+      RandomStream randomStreams) {
+    this.randomStreams = randomStreams;
+    random = randomStreams;
     verticesXFEL = vertices;
     indicesXFEL = indices;
     crystCoordXFEL = crystCoord;
@@ -220,9 +261,6 @@ public class MC {
     atomicIonisationsExposed = new HashMap<Element, Long>();
     atomicIonisationsPerAtomExposed = new HashMap<Element, Double>();
     
-    lowEnergyAngles = new TreeMap[95];
-    highEnergyAngles = new TreeMap[95];
-    
     augerTransitionLinewidths = new HashMap<Integer, HashMap<Integer, double[]>>();
     augerTransitionProbabilities = new HashMap<Integer, HashMap<Integer, double[]>>();
     augerTransitionEnergies = new HashMap<Integer, HashMap<Integer, double[]>>();
@@ -254,16 +292,25 @@ public class MC {
   
   private void setupSurroundingVolume() {
     
+    boolean changed = false;
     for (int i = 0; i < verticesXFEL.length; i++) {
       for (int j = 0; j < 3; j++) {
+        double vertex;
         if (verticesXFEL[i][j] < 0) {
-          verticesSurrounding[i][j] = verticesXFEL[i][j] - surroundingThickness[j]/1000;
+          vertex = verticesXFEL[i][j] - surroundingThickness[j]/1000;
         }
         else {
-          verticesSurrounding[i][j] = verticesXFEL[i][j] + surroundingThickness[j]/1000;
+          vertex = verticesXFEL[i][j] + surroundingThickness[j]/1000;
+        }
+        if (verticesSurrounding[i][j] != vertex) {
+          verticesSurrounding[i][j] = vertex;
+          changed = true;
         }
       }
     }
+    if (changed == true) {
+      surroundingGrid = null;
+    }
     
     indicesSurrounding = indicesXFEL;
   }
@@ -332,6 +379,52 @@ public class MC {
     System.out.println("");
 
   }
+
+  /**
+   * Sets where the csv files of the simulation are written. Without a prefix
+   * the legacy file names in the working directory are used, which
+   * concurrent simulations would overwrite.
+   *
+   * @param write
+   *          write the csv files at all
+   * @param prefix
+   *          output file prefix, or null
+   */
+  public void setOutputFiles(final boolean write, final String prefix) {
+    writeFiles = write;
+    outputPrefix = prefix;
+  }
+
+  /**
+   * Returns the file a csv output of the simulation is written to.
+   *
+   * @param legacyName
+   *          file name used without a prefix
+   * @param name
+   *          file name appended to the prefix
+   * @return
+   *         file name, or null if no files are written
+   */
+  private String getOutputFile(final String legacyName, final String name) {
+    if (!writeFiles) {
+      return null;
+    }
+    if (outputPrefix == null) {
+      return legacyName;
+    }
+    return outputPrefix + name;
+  }
+
+  /**
+   * Returns the results of the simulation, keyed by the column names of the
+   * csv output. Empty until the simulation has run.
+   *
+   * @return
+   *         results in the order of the csv columns
+   */
+  public Map<String, Double> getResults() {
+    return results;
+  }
   
   /**
    * @param beam
@@ -360,92 +453,156 @@ public class MC {
     
     //elastic electron angle setup
     coefCalc.populateCrossSectionCoefficients();     // DONT MOVE IN
-    int missCount = 0;
+    
+    //tabulate the electron interaction data up to the highest photon energy
+    double maxPhotonEnergy = 0;
+    for (int i = 0; i < photonEnergyArray.length; i++) {
+      maxPhotonEnergy = Math.max(maxPhotonEnergy, photonEnergyArray[i]);
+    }
+    coefCalc.tabulateElectronPhysics(maxPhotonEnergy);
+    if (simpleMC == false) {
+      coefCalc.tabulateGOSInelastic(maxPhotonEnergy);
+    }
+    
+    //voxelise the crystal once, inside tests then rotate the point instead
+    crystalGrid = new OccupancyGrid(verticesXFEL, indicesXFEL);
+    surroundingGrids = new ConcurrentHashMap<List<Double>, OccupancyGrid>();
+    
+    //simulate the photons in batches, each on a private copy of this object.
+    //The merged tallies are held by this object, so a checkpoint can save them
+    final MC template = newWorker();
+    final Map<Long, double[]> batchThickness = getBatchSurroundingThickness(coefCalc);
+    ParallelSimulation.run(NUM_PHOTONS, new ParallelSimulation.Batch<MC>() {
+      private double lastProgress = 0;
+      
+      @Override
+      public MC simulate(long first, long end) {
+        MC worker = template.newWorker();
+        worker.surroundingThickness = batchThickness.get(first).clone();
+        worker.simulatePhotons(beam, wedge, coefCalc.copy(), (int) first, (int) end);
+        return worker;
+      }
+      
+      @Override
+      public void merge(MC worker, long end) {
+        addTallies(worker);
+        double progress = ((double) end)/NUM_PHOTONS;
+        if (progress - lastProgress >= 0.05 && end < NUM_PHOTONS) {
+          lastProgress = progress;
+          System.out.print((int)(progress*100) + "% ");
+        }
+      }
+    }, this);
+    
+    //leave the geometry rotated as for the last photon, as the single threaded loop did
+    double lastAngle = getPhotonAngle(wedge, ((double) NUM_PHOTONS - 1)/NUM_PHOTONS);
+    setUpRotatedVertices(lastAngle, wedge);
+    if (coefCalc.isCryo()) {
+      setupSurroundingVolume();
+      setUpRotatedVerticesSurrounding(lastAngle, wedge);
+    }
+    
+    //get time at which last photon exits the sample
+    lastTime = ((1/c) * (ZDimension/1E9) * 1E15) + PULSE_LENGTH;
+    //get the time at which the last photon exits the last voxel
+    for (int i = 0; i < lastTimeVox.length; i++) {
+      lastTimeVox[i] = ((1/c) * ((ZDimension/1E9)/lastTimeVox.length)*(i+1) * 1E15) + PULSE_LENGTH;
+    }
+  }
+  
+  /**
+   * Simulate a range of photons, adding to the tallies of this object.
+   * 
+   * @param beam
+   * @param wedge
+   * @param coefCalc coefficients, not shared with any other thread
+   * @param first index of the first photon
+   * @param end index after the last photon
+   */
+  private void simulatePhotons(Beam beam, Wedge wedge, CoefCalc coefCalc, int first, int end) {
     double angle = 0;
     
     //Decide a starting time stamp for the photons
     double photonDivisions =  NUM_PHOTONS / (PULSE_LENGTH/PULSE_BIN_LENGTH);
      
-    double xn = 0, yn = 0, zn = 0, progress = 0, lastProgress = 0;
-    for (int i = 0; i < NUM_PHOTONS; i++) { //for every photon to simulate
+    double xn = 0, yn = 0, zn = 0, progress = 0;
+    
+    //setup that depends only on the angle and the photon energy, recomputed
+    //only when either changes, so a static monochromatic run does it once
+    double setupAngle = Double.NaN, setupEnergy = Double.NaN;
+    double absCoef = 0, comptonCoef = 0, elasticCoef = 0, photonMFPL = 0, probCompton = 0, totalMFPL = 0, elasticProb = 0;
+    MaterialModel<Element> absorptionModel = null;
+    MaterialModel<Element> comptonModel = null;
+    double absCoefSurrounding = 0, comptonCoefSurrounding = 0, photonMFPLSurrounding = 0, probComptonSurrounding = 0, distanceNM = 0, wickTest = 0;
+    MaterialModel<Element> absorptionModelSurrounding = null;
+    for (int i = first; i < end; i++) { //for every photon to simulate
+      random = randomStreams.substream(i);
+      coefCalc.setRandomStream(random);
       double energyOfPhoton = photonEnergyArray[i];
       progress = ((double)i)/NUM_PHOTONS;
-      if (progress - lastProgress >= 0.05) {
-        lastProgress = progress;
-        System.out.print((int)(progress*100) + "% ");
-      }
       
-      //need to get the angle if there is any rotation 
-      if ((Math.abs(wedge.getStartAng() - wedge.getEndAng()) < wedge.getAngRes()) || (wedge.getEndAng() == 0)) {
-        angle = 0;
-      }
-      else {
-        //choose angle dependent on angular resolution and how far in the photon is
-        Integer sign = 1;
-        if (wedge.getEndAng() < wedge.getStartAng()) {
-          sign = -1;
-        }
-        angle = wedge.getStartAng() + (progress * ((double)sign * (wedge.getEndAng() - wedge.getStartAng())));
-      }
-      //convert to 0-2pi
-      int timesOver = (int) (angle/(2*Math.PI));
-      angle = angle - (timesOver * 2 *Math.PI);
+      angle = getPhotonAngle(wedge, progress);
+      boolean newAngle = (angle != setupAngle);
+      boolean newEnergy = (energyOfPhoton != setupEnergy);
+      setupAngle = angle;
+      setupEnergy = energyOfPhoton;
       
       //need to update the vertices and stuff 
-      setUpRotatedVertices(angle, wedge);
+      if (newAngle) {
+        setUpRotatedVertices(angle, wedge);
+      }
       
       
       // SECTION FOR STUFF MOVED INTO FOR LOOP
       //get absorption coefficient
-      coefCalc.updateCoefficients(energyOfPhoton);                                                                       // CHANGE AS EXPLAINED!
+      if (newEnergy) {
+        coefCalc.updateCoefficients(energyOfPhoton);                                                                       // CHANGE AS EXPLAINED!
 
-      double absCoef = coefCalc.getAbsorptionCoefficient(); //um-1
-      double comptonCoef = coefCalc.getInelasticCoefficient(); //um-1
-      double elasticCoef = coefCalc.getElasticCoefficient(); //um^-1
+        absCoef = coefCalc.getAbsorptionCoefficient(); //um-1
+        comptonCoef = coefCalc.getInelasticCoefficient(); //um-1
+        elasticCoef = coefCalc.getElasticCoefficient(); //um^-1
       
-//    double photonMFPL = (1/absCoef)*1000; //just photoelectric absorption for now can put in Compton later
-      double photonMFPL = (1/(absCoef + comptonCoef))*1000; //including Compton
-      double probCompton = 1 - (photonMFPL/((1/absCoef)*1000));
-      double totalMFPL = (1/(absCoef + comptonCoef + elasticCoef))*1000;
-      double elasticProb = elasticCoef / (absCoef + comptonCoef);
+//      photonMFPL = (1/absCoef)*1000; //just photoelectric absorption for now can put in Compton later
+        photonMFPL = (1/(absCoef + comptonCoef))*1000; //including Compton
+        probCompton = 1 - (photonMFPL/((1/absCoef)*1000));
+        totalMFPL = (1/(absCoef + comptonCoef + elasticCoef))*1000;
+        elasticProb = elasticCoef / (absCoef + comptonCoef);
       
-      //populate the relative element cross sections here 
-      Map<Element, Double> elementAbsorptionProbs = coefCalc.getPhotoElectricProbsElement(energyOfPhoton);
-      Map<Element, Double> elementComptonProbs = coefCalc.getComptonProbsElement(energyOfPhoton);
-      //populate the relative shell cross sections
-      Map<Element, double[]> ionisationProbs = getRelativeShellProbs(elementAbsorptionProbs, energyOfPhoton);
+        //populate the relative element cross sections here 
+        Map<Element, Double> elementAbsorptionProbs = coefCalc.getPhotoElectricProbsElement(energyOfPhoton);
+        comptonModel = MaterialModel.fromCumulative(coefCalc.getComptonProbsElement(energyOfPhoton));
+        //populate the relative shell cross sections
+        absorptionModel = MaterialModel.fromCumulative(elementAbsorptionProbs, getRelativeShellProbs(elementAbsorptionProbs, energyOfPhoton));
+      }
 
       
       // AND SOME MORE STUFF MOVED IN
       
       //set up the surrounding stuff if there is one
-      double absCoefSurrounding = 0, comptonCoefSurrounding = 0, photonMFPLSurrounding = 0, probComptonSurrounding = 0, distanceNM = 0, wickTest = 0;
-      Map<Element, Double> elementAbsorptionProbsSurrounding = null;
-      Map<Element, double[]> ionisationProbsSurrounding = null;
       if (coefCalc.isCryo() == true) { //user wants to simulate a surrounding
-        coefCalc.updateCryoCoefficients(energyOfPhoton);                                                                       // CHANGE AS DISCUSSED
-        absCoefSurrounding = coefCalc.getCryoAbsorptionCoefficient();
-        comptonCoefSurrounding = coefCalc.getCryoInelasticCoefficient();
-        photonMFPLSurrounding = (1/(absCoefSurrounding + comptonCoefSurrounding))*1000;
-        probComptonSurrounding = 1 - (photonMFPLSurrounding/((1/absCoefSurrounding)*1000));
-        elementAbsorptionProbsSurrounding = coefCalc.getPhotoElectricProbsElementSurrounding(energyOfPhoton);
-        ionisationProbsSurrounding = getRelativeShellProbs(elementAbsorptionProbsSurrounding, energyOfPhoton);
-        //just use the same angular emission probs
+        if (newEnergy) {
+          coefCalc.updateCryoCoefficients(energyOfPhoton);                                                                       // CHANGE AS DISCUSSED
+          absCoefSurrounding = coefCalc.getCryoAbsorptionCoefficient();
+          comptonCoefSurrounding = coefCalc.getCryoInelasticCoefficient();
+          photonMFPLSurrounding = (1/(absCoefSurrounding + comptonCoefSurrounding))*1000;
+          probComptonSurrounding = 1 - (photonMFPLSurrounding/((1/absCoefSurrounding)*1000));
+          Map<Element, Double> elementAbsorptionProbsSurrounding = coefCalc.getPhotoElectricProbsElementSurrounding(energyOfPhoton);
+          absorptionModelSurrounding = MaterialModel.fromCumulative(elementAbsorptionProbsSurrounding, getRelativeShellProbs(elementAbsorptionProbsSurrounding, energyOfPhoton));
+          //just use the same angular emission probs
         
-        //get the maximum photoelectron travel distance (based on photon energy) for tracking purposes   
-        //take the max using the CSDA without integration so a little bit of an overestimate 
-        double stoppingPower = coefCalc.getStoppingPower(energyOfPhoton, true);
-        distanceNM = (energyOfPhoton/stoppingPower);      
-        wickTest = distanceNM;
-        for (int test = 0; test < 3; test++) {
-          if (surroundingThickness[test] <= 0.0 || surroundingThickness[test] > wickTest) {
-            surroundingThickness[test] = wickTest;
-          }
-        }
+          //get the maximum photoelectron travel distance (based on photon energy) for tracking purposes   
+          //take the max using the CSDA without integration so a little bit of an overestimate 
+          double stoppingPower = coefCalc.getStoppingPower(energyOfPhoton, true);
+          distanceNM = (energyOfPhoton/stoppingPower);      
+          wickTest = distanceNM;
+          shrinkSurrounding(surroundingThickness, wickTest);
         
-        setupSurroundingVolume();
+          setupSurroundingVolume();
+        }
         //rotateSurrounding
-        setUpRotatedVerticesSurrounding(angle, wedge);
+        if (newAngle || newEnergy) {
+          setUpRotatedVerticesSurrounding(angle, wedge);
+        }
         //space here to change the wickTest distance
         //wickTest = 1000;
        // wickTest = beam.getPulseEnergy() * 1000;
@@ -527,7 +684,6 @@ public class MC {
       if (previousZ == 0.0) {
         track = false; //outside tracked area
         exited = true;
-        missCount += 1;
       }
       
       
@@ -538,22 +694,22 @@ public class MC {
       //first deal with photons that first see surrounding
       if (track == true) {
         if (surrounding == true) {
-          s = -photonMFPLSurrounding*Math.log(Math.random());
+          s = -photonMFPLSurrounding*Math.log(random.nextDouble());
           if (hitting == true) { //need to deal with photons that could interact before the crystal as MFPL changes on hitting xtal
             double frontThickness = Math.abs(crystalZ-previousZ);
             if (s < frontThickness) { // has interacted before the crystal
               xn = previousX + s * xNorm;
               yn = previousY + s * yNorm;
               zn = previousZ + s * zNorm;
-              double RNDcompton = Math.random();
+              double RNDcompton = random.nextDouble();
               int doseTime = 0;
               if (RNDcompton < probComptonSurrounding) {
                 //produce a compton electron
-                produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, elementComptonProbs, angle, wedge);
+                produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, comptonModel, angle, wedge);
               }
               else {
                 //produce a photoelectron
-                producePhotoElectron(beam, coefCalc, elementAbsorptionProbsSurrounding, ionisationProbsSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
+                producePhotoElectron(beam, coefCalc, absorptionModelSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
               }           
               // set exited to true so this photon is no longer tracked 
               exited = true;
@@ -564,7 +720,7 @@ public class MC {
       
       //now set s for the photons that didn't interact before crystal
       if (hitting == true) {
-        s = -totalMFPL*Math.log(Math.random());
+        s = -totalMFPL*Math.log(random.nextDouble());
       }
       //get interaction position
       xn = previousX + s * xNorm;
@@ -583,7 +739,7 @@ public class MC {
           int doseTime = (int) (timeStamp/PULSE_BIN_LENGTH); //rounding down so 0 = 0-0.99999, 1 - 1-1.99999 etc 
           
           //determine if elastic or inel
-          double RNDel = Math.random();
+          double RNDel = random.nextDouble();
           if (RNDel < elasticProb) {
             //do elastic
             int[] pixelCoord = convertToPixelCoordinates(xn, yn, zn, angle, wedge);
@@ -592,15 +748,15 @@ public class MC {
           }
           else {
           //determine if this was Compton scattering or photoelectric absorption
-          double RNDcompton = Math.random();
+          double RNDcompton = random.nextDouble();
           if (RNDcompton < probCompton) {
             ionisationsOld += 1;
-            produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, elementComptonProbs, angle, wedge);
+            produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, comptonModel, angle, wedge);
           }
           else {
             //this was a photoelectric absorption
             ionisationsOld += 1;
-            producePhotoElectron(beam, coefCalc, elementAbsorptionProbs, ionisationProbs, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
+            producePhotoElectron(beam, coefCalc, absorptionModel, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
           }
           }
           //photon is absorbed so don't need to keep track of it after this and update stuff
@@ -614,14 +770,14 @@ public class MC {
                   double timeToPoint = ((1/c) * (s/1E9)); //in seconds
                   timeStamp += timeToPoint * 1E15; //time from start of pulse that this happened
                   int doseTime = (int) (timeStamp/PULSE_BIN_LENGTH); //rounding down so 0 = 0-0.99999, 1 - 1-1.99999 etc 
-                  double RNDcompton = Math.random();
+                  double RNDcompton = random.nextDouble();
                   if (RNDcompton < probComptonSurrounding) {
                     //produce a compton electron
-                    produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, elementComptonProbs, angle, wedge);
+                    produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, comptonModel, angle, wedge);
                   }
                   else {
                     //produce a photoelectron
-                    producePhotoElectron(beam, coefCalc, elementAbsorptionProbsSurrounding, ionisationProbsSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
+                    producePhotoElectron(beam, coefCalc, absorptionModelSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
                   }           
                 }
               else {
@@ -636,10 +792,10 @@ public class MC {
                 if (silicon == true) {
                   Map<String, Double> siCoeffs = coefCalc.calculateCoefficientsSilicon(energyOfPhoton);
                   double siMFPL = (1/(siCoeffs.get("Photoelectric") + siCoeffs.get("Compton Attenuation")))*1000;
-                  s = -siMFPL*Math.log(Math.random());
+                  s = -siMFPL*Math.log(random.nextDouble());
                 }
                 else {
-                  s = -photonMFPLSurrounding*Math.log(Math.random());
+                  s = -photonMFPLSurrounding*Math.log(random.nextDouble());
                 }
                 
                 //set the Z to the point at the back of the crystal!!!
@@ -658,14 +814,14 @@ public class MC {
                   timeToPoint = (1/c) * (s/1E9);
                   timeStamp += timeToPoint * 1E15;
                   int doseTime = (int) (timeStamp/PULSE_BIN_LENGTH);
-                  double RNDcompton = Math.random();
+                  double RNDcompton = random.nextDouble();
                   if (RNDcompton < probComptonSurrounding) {
                     //produce a compton electron
-                    produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, elementComptonProbs, angle, wedge);
+                    produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, comptonModel, angle, wedge);
                   }
                   else {
                     //produce a photoelectron
-                    producePhotoElectron(beam, coefCalc, elementAbsorptionProbsSurrounding, ionisationProbsSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
+                    producePhotoElectron(beam, coefCalc, absorptionModelSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
                   }           
                 }
               }
@@ -685,13 +841,172 @@ public class MC {
     
     
 // END OF FOR LOOP (ITERATING THROUGH PHOTONS)
+  }
+  
+  /**
+   * Limit the surrounding thickness to the photoelectron range of a photon.
+   * 
+   * @param thickness thickness in each dimension in nm, updated in place
+   * @param range maximum photoelectron travel distance in nm
+   */
+  private static void shrinkSurrounding(double[] thickness, double range) {
+    for (int i = 0; i < 3; i++) {
+      if (thickness[i] <= 0.0 || thickness[i] > range) {
+        thickness[i] = range;
+      }
+    }
+  }
+  
+  /**
+   * Returns the surrounding thickness at the start of each batch of photons.
+   * Each photon shrinks the surrounding to its photoelectron range, so a
+   * batch starts from the thickness left by all photons before it, exactly
+   * as if the photons were simulated one after another.
+   * 
+   * @param coefCalc coefficients with tabulated electron physics
+   * @return thickness in nm by index of the first photon of each batch
+   */
+  private Map<Long, double[]> getBatchSurroundingThickness(CoefCalc coefCalc) {
+    Map<Long, double[]> batchThickness = new HashMap<Long, double[]>();
+    double[] thickness = surroundingThickness.clone();
+    double lastEnergy = Double.NaN;
+    int photon = 0;
+    for (int b = 0; b < ParallelSimulation.getBatchCount(NUM_PHOTONS); b++) {
+      long first = ParallelSimulation.getBatchStart(NUM_PHOTONS, b);
+      for (; photon < first; photon++) {
+        double energy = photonEnergyArray[photon];
+        if (coefCalc.isCryo() && energy != lastEnergy) {
+          shrinkSurrounding(thickness, energy/coefCalc.getStoppingPower(energy, true));
+        }
+        lastEnergy = energy;
+      }
+      batchThickness.put(first, thickness.clone());
+    }
+    return batchThickness;
+  }
+  
+  /**
+   * Returns the rotation angle at which a photon hits the crystal.
+   * 
+   * @param wedge
+   * @param progress fraction of the photons simulated before this one
+   * @return angle in radians, between 0 and 2pi
+   */
+  private double getPhotonAngle(Wedge wedge, double progress) {
+    double angle = 0;
+    //need to get the angle if there is any rotation 
+    if ((Math.abs(wedge.getStartAng() - wedge.getEndAng()) < wedge.getAngRes()) || (wedge.getEndAng() == 0)) {
+      angle = 0;
+    }
+    else {
+      //choose angle dependent on angular resolution and how far in the photon is
+      Integer sign = 1;
+      if (wedge.getEndAng() < wedge.getStartAng()) {
+        sign = -1;
+      }
+      angle = wedge.getStartAng() + (progress * ((double)sign * (wedge.getEndAng() - wedge.getStartAng())));
+    }
+    //convert to 0-2pi
+    int timesOver = (int) (angle/(2*Math.PI));
+    angle = angle - (timesOver * 2 *Math.PI);
+    return angle;
+  }
+  
+  /**
+   * Returns a copy of this object with empty tallies, to simulate a batch of
+   * photons on another thread. Geometry, beam settings and lookup tables are
+   * shared with this object and must not be modified while workers run.
+   * 
+   * @return worker with empty tallies
+   */
+  private MC newWorker() {
+    MC worker;
+    try {
+      worker = (MC) clone();
+    } catch (CloneNotSupportedException e) {
+      throw new IllegalStateException(e);
+    }
+    int[] maxVoxel = getMaxPixelCoordinates();
+    worker.voxelEnergyvResolved = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]];
+    worker.voxelIonisationsvResolved = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]];
+    worker.voxelElastic = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]];
+    worker.doseSimple = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]];
+    worker.atomicIonisations = new HashMap<Element, Long>();
+    worker.atomicIonisationsExposed = new HashMap<Element, Long>();
+    worker.maxDims = new double[3];
+    worker.minDims = new double[3];
+    //surrounding geometry is updated in place for each photon
+    worker.verticesSurrounding = new double[verticesXFEL.length][3];
+    worker.surroundingThickness = surroundingThickness.clone();
+    worker.surroundingGrid = null;
+    return worker;
+  }
+  
+  /**
+   * Add the tallies of a worker to the tallies of this object.
+   * 
+   * @param worker worker that simulated a batch of photons
+   */
+  private void addTallies(MC worker) {
+    dose += worker.dose;
+    photonDose += worker.photonDose;
+    electronDose += worker.electronDose;
+    gosElectronDose += worker.gosElectronDose;
+    gosElectronDosevResolved += worker.gosElectronDosevResolved;
+    electronDoseSurrounding += worker.electronDoseSurrounding;
+    raddoseStyleDose += worker.raddoseStyleDose;
+    raddoseStyleDoseCompton += worker.raddoseStyleDoseCompton;
+    escapedEnergy += worker.escapedEnergy;
+    totalIonisationEvents += worker.totalIonisationEvents;
+    totalIonisationEventsvResolved += worker.totalIonisationEventsvResolved;
+    totalShellBindingEnergy += worker.totalShellBindingEnergy;
+    ionisationsOld += worker.ionisationsOld;
+    lowEnergyIonisations += worker.lowEnergyIonisations;
+    avgW += worker.avgW;
+    avgWNum += worker.avgWNum;
+    avgUk += worker.avgUk;
+    avgUkNum += worker.avgUkNum;
+    totElastic += worker.totElastic;
+    
+    addVoxels(voxelEnergyvResolved, worker.voxelEnergyvResolved);
+    addVoxels(voxelIonisationsvResolved, worker.voxelIonisationsvResolved);
+    addVoxels(voxelElastic, worker.voxelElastic);
+    addVoxels(doseSimple, worker.doseSimple);
+    addIonisations(atomicIonisations, worker.atomicIonisations);
+    addIonisations(atomicIonisationsExposed, worker.atomicIonisationsExposed);
     
-    //get time at which last photon exits the sample
-    double missFrac = (double) missCount / NUM_PHOTONS;
-    lastTime = ((1/c) * (ZDimension/1E9) * 1E15) + PULSE_LENGTH;
-    //get the time at which the last photon exits the last voxel
-    for (int i = 0; i < lastTimeVox.length; i++) {
-      lastTimeVox[i] = ((1/c) * ((ZDimension/1E9)/lastTimeVox.length)*(i+1) * 1E15) + PULSE_LENGTH;
+    for (int i = 0; i < 3; i++) {
+      maxDims[i] = Math.max(maxDims[i], worker.maxDims[i]);
+      minDims[i] = Math.min(minDims[i], worker.minDims[i]);
+    }
+    //the surrounding only shrinks, so the thinnest one is that left by the
+    //last photon
+    for (int i = 0; i < 3; i++) {
+      if (surroundingThickness[i] <= 0.0 || surroundingThickness[i] > worker.surroundingThickness[i]) {
+        surroundingThickness[i] = worker.surroundingThickness[i];
+      }
+    }
+  }
+  
+  private static void addVoxels(double[][][] total, double[][][] part) {
+    for (int i = 0; i < total.length; i++) {
+      for (int j = 0; j < total[i].length; j++) {
+        for (int k = 0; k < total[i][j].length; k++) {
+          total[i][j][k] += part[i][j][k];
+        }
+      }
+    }
+  }
+  
+  private static void addIonisations(Map<Element, Long> total, Map<Element, Long> part) {
+    for (Map.Entry<Element, Long> e : part.entrySet()) {
+      Long old = total.get(e.getKey());
+      if (old == null) {
+        total.put(e.getKey(), e.getValue());
+      }
+      else {
+        total.put(e.getKey(), old + e.getValue());
+      }
     }
   }
 
@@ -983,16 +1298,27 @@ public class MC {
     //write for RADDOSE-MC
     /*
     try {
-      WriterFile("outputMC.CSV", sumDoseNoCutOff, DEFull, sumElectronDoseSurroundingNoCutOff);
+      WriterFile(getOutputFile("outputMC.CSV", "MC.csv"), sumDoseNoCutOff, DEFull, sumElectronDoseSurroundingNoCutOff);
     } catch (IOException e) {
       // TODO Auto-generated catch block
       e.printStackTrace();
     }
     */
     double voxFrac = voxDosevResolved/gosTot;
+    //keep the results of this run, in the columns of the csv
+    results.put("RD3D-ADWC", totRADDOSEdose);
+    results.put("RD3D-ADER", rdExposed);
+    results.put("XFEL-ADWC", voxDosevResolved);
+    results.put("XFEL-ADER", voxDoseExposed);
+    results.put("Diffraction efficiency", diffractionEfficiency);
+    results.put("ions per atom", ionisationsPerAtomvResolvedExposed);
+    results.put("ions per non-H atom", ionisationsPerNonHExposed);
+    results.put("vResolvedNoCut", voxDoseNoCutoffvResolved);
+    results.put("DWDcoarse", DWDcoarse);
+    results.put("DWD", DWD);
     //write output to csv
     try {
-      WriterFile("outputXFEL.CSV", totRADDOSEdose, rdExposed, voxDosevResolved, voxDoseExposed, diffractionEfficiency, ionisationsPerAtomvResolvedExposed, ionisationsPerNonHExposed, voxFrac, voxDoseNoCutoffvResolved, DWDcoarse, DWD);
+      WriterFile(getOutputFile("outputXFEL.CSV", "XFEL.csv"), totRADDOSEdose, rdExposed, voxDosevResolved, voxDoseExposed, diffractionEfficiency, ionisationsPerAtomvResolvedExposed, ionisationsPerNonHExposed, voxFrac, voxDoseNoCutoffvResolved, DWDcoarse, DWD);
     } catch (IOException e) {
       // TODO Auto-generated catch block
       e.printStackTrace();
@@ -1000,7 +1326,7 @@ public class MC {
     
     //write a csv for elements as well
     try {
-      WriteElements("outputIonsPerAtom.CSV");
+      WriteElements(getOutputFile("outputIonsPerAtom.CSV", "IonsPerAtom.csv"));
     } catch (IOException e) {
       // TODO Auto-generated catch block
       e.printStackTrace();
@@ -1009,8 +1335,11 @@ public class MC {
     //write stuff for simple MC
     if (simpleMC == true) {
       //write output to csv
+      results.put("MC-ADWC", sumMCDose);
+      results.put("MC-ADER", sumDoseNoCutOffExposed);
+      results.put("numEl", numberElastic);
       try {
-        WriterFileMCsimple("outputMC.CSV", totRADDOSEdose, rdExposed, sumMCDose, sumDoseNoCutOffExposed, numberElastic);
+        WriterFileMCsimple(getOutputFile("outputMC.CSV", "MC.csv"), totRADDOSEdose, rdExposed, sumMCDose, sumDoseNoCutOffExposed, numberElastic);
       } catch (IOException e) {
         // TODO Auto-generated catch block
         e.printStackTrace();
@@ -1022,6 +1351,9 @@ public class MC {
   private void WriterFile(final String filename, final double totRADDOSEdose, final double rdExposed, final double voxDosevResolved, final double voxDoseExposed
                           ,final double diffractionEfficiency, final double ionisationsPerAtomvResolvedExposed, final double ionisationsPerNonHExposed, final double voxFrac,
                           final double vResolvedNoCut, final double DWDcoarse, final double DWD) throws IOException {
+    if (filename == null) {
+      return;
+    }
 
     BufferedWriter outFile;
     if (runNumber == 1) {
@@ -1052,6 +1384,9 @@ public class MC {
   }
   
   private void WriteElements(final String filename)throws IOException {
+    if (filename == null) {
+      return;
+    }
     BufferedWriter outFile;
     outFile = new BufferedWriter(new OutputStreamWriter(
         new FileOutputStream(filename), "UTF-8"));
@@ -1082,6 +1417,9 @@ public class MC {
   
   private void WriterFileMCsimple(final String filename, final double totRADDOSEdose, final double rdExposed, final double MCdose, final double MCdoseExposed,
       final double numberEl) throws IOException {
+    if (filename == null) {
+      return;
+    }
     BufferedWriter outFile;
     if (runNumber == 1) {
       outFile = new BufferedWriter(new OutputStreamWriter(
@@ -1137,39 +1475,26 @@ public class MC {
     return timeTos;
   }
   
-  private Element getIonisedElement(Map<Element, Double> elementAbsorptionProbs) {
-    double elementRND = Math.random();
-    Element ionisedElement = null;
-    for (Element e : elementAbsorptionProbs.keySet()) {
-      double elementProb =  elementAbsorptionProbs.get(e);
-      if (elementProb > elementRND) {
-        ionisedElement = e;
-        break;
-      }
-    }
-    return ionisedElement;
+  private Element getIonisedElement(MaterialModel<Element> elementModel) {
+    return elementModel.getElement(elementModel.sample(random.nextDouble()));
   }
   
-  private int getIonisedShell(Element ionisedElement, Map<Element, double[]> ionisationProbs) {
-    double[] shellProbs = ionisationProbs.get(ionisedElement);
-    double shellRND = Math.random();
-    int shellIndex = 0;
-    for (int j = 0; j < shellProbs.length; j++) {
-      if (shellProbs[j] > shellRND) {
-        shellIndex = j;
-        break;
-      }
+  private int getIonisedShell(MaterialModel<Element> absorptionModel, int ionised) {
+    int shellIndex = absorptionModel.sampleShell(ionised, random.nextDouble());
+    if (shellIndex < 0) { //no shell above its edge, same default as before
+      shellIndex = 0;
     }
     return shellIndex;
   }
   
-  private void producePhotoElectron(Beam beam, CoefCalc coefCalc, Map<Element, Double> elementAbsorptionProbs, Map<Element, double[]> ionisationProbs,
+  private void producePhotoElectron(Beam beam, CoefCalc coefCalc, MaterialModel<Element> absorptionModel,
                                     double timeStamp, int doseTime, double xn, double yn, double zn, boolean surrounding, double photonEnergy,
                                     double angle, Wedge wedge) {
   //work out the element that has been absorbed with and hence the shell binding energy and photoelectron energy
     //element
     int[] pixelCoord = convertToPixelCoordinates(xn, yn, zn, angle, wedge);
-    Element ionisedElement = getIonisedElement(elementAbsorptionProbs);
+    int ionised = absorptionModel.sample(random.nextDouble());
+    Element ionisedElement = absorptionModel.getElement(ionised);
    // if (timeStamp <lastTime-(1*PULSE_BIN_LENGTH) && surrounding == false) {
     int ionisationTime = (int) (timeStamp/PULSE_BIN_LENGTH);
     if (ionisationTime < 0) {
@@ -1180,7 +1505,7 @@ public class MC {
       addIonisation(timeStamp, pixelCoord, ionisedElement, xn, yn, beam, 1);
     }
     //shell
-    int shellIndex = getIonisedShell(ionisedElement, ionisationProbs);
+    int shellIndex = getIonisedShell(absorptionModel, ionised);
     //get the shell binding energy
     double shellBindingEnergy = getShellBindingEnergy(ionisedElement, shellIndex);
     double photoelectronEnergy = photonEnergy - shellBindingEnergy;
@@ -1206,18 +1531,18 @@ public class MC {
     //get direction and angles assuming 100% polarisation in the X axis
     //if there is rootation need to add this in as well
     double thisAngle = 2*Math.PI - angle;
-    double polarised = Math.random();
+    double polarised = random.nextDouble();
     double xNorminit = 0, zNorminit = 0, xNorm = 0, yNorm = 0, zNorm = 0, phi = 0, theta = 0;
     if (shellIndex == 0 && polarised > 0.25) { //then I want to send out in a biased direction
       if ((verticalGoni == true && verticalPol == false) || (verticalGoni == false && verticalPol == true)) {
         xNorminit = getCosAngleToX();
         //get yNorm and zNorm
-        yNorm = PosOrNeg() * Math.random() * Math.pow(1-Math.pow(xNorminit, 2), 0.5);
+        yNorm = PosOrNeg() * random.nextDouble() * Math.pow(1-Math.pow(xNorminit, 2), 0.5);
       }
       else {
         yNorm = getCosAngleToX();
         //get yNorm and zNorm
-        xNorminit = PosOrNeg() * Math.random() * Math.pow(1-Math.pow(yNorm, 2), 0.5);
+        xNorminit = PosOrNeg() * random.nextDouble() * Math.pow(1-Math.pow(yNorm, 2), 0.5);
       }
       zNorminit = PosOrNeg() * Math.pow(1 - Math.pow(xNorminit, 2) - Math.pow(yNorm, 2), 0.5);
       
@@ -1230,7 +1555,7 @@ public class MC {
       /*
       xNorm = getCosAngleToX();
       //get yNorm and zNorm
-      yNorm = PosOrNeg() * Math.random() * Math.pow(1-Math.pow(xNorm, 2), 0.5);
+      yNorm = PosOrNeg() * random.nextDouble() * Math.pow(1-Math.pow(xNorm, 2), 0.5);
       zNorm = PosOrNeg() * Math.pow(1 - Math.pow(xNorm, 2) - Math.pow(yNorm, 2), 0.5);
       //get theta and phi
       theta = Math.acos(zNorm);
@@ -1238,8 +1563,8 @@ public class MC {
       */
     }
     else { // send it out in a random direction
-      theta = Math.random() * 2 * Math.PI;
-      phi = Math.random() * 2 * Math.PI;
+      theta = random.nextDouble() * 2 * Math.PI;
+      phi = random.nextDouble() * 2 * Math.PI;
       xNorm = Math.sin(theta) * Math.cos(phi);
       yNorm = Math.sin(theta) * Math.sin(phi);
       zNorm = Math.cos(theta);
@@ -1275,7 +1600,7 @@ public class MC {
     if (shellIndex == 0 || (shellIndex < 2 && Z==11) || (shellIndex < 3 && Z==12) || (shellIndex < 4 && Z<=20 && Z>12) || (shellIndex < 7 && Z>=25 && Z<31) || (shellIndex < 9 && Z>32 && Z < 35)) {
       //only do for elements that are possible right now - C N O S
         double shellFluorescenceYield = getShellFluorescenceYield(ionisedElement, shellIndex);
-        double fluoresenceYieldRND = Math.random(); 
+        double fluoresenceYieldRND = random.nextDouble(); 
 
         if (fluoresenceYieldRND > shellFluorescenceYield) { //then this will emit an Auger electron 
           // determine which transition happened in the usual way from cumulative probs
@@ -1302,8 +1627,8 @@ public class MC {
           
           //send out the Auger
           //choose a random direction
-          double theta = Math.random() * 2 * Math.PI;
-          double phi = Math.random() * 2 * Math.PI;
+          double theta = random.nextDouble() * 2 * Math.PI;
+          double phi = random.nextDouble() * 2 * Math.PI;
           double xNorm = Math.sin(theta) * Math.cos(phi);
           double yNorm = Math.sin(theta) * Math.sin(phi);
           double zNorm = Math.cos(theta);
@@ -1363,8 +1688,8 @@ public class MC {
         double augerEnergy = 6.5;
         double augerLifetime = 1E15*((h/(2*Math.PI)) / ((0.55/1000)*Beam.KEVTOJOULES));
         timeStamp += augerLifetime;
-        double theta = Math.random() * 2 * Math.PI;
-        double phi = Math.random() * 2 * Math.PI;
+        double theta = random.nextDouble() * 2 * Math.PI;
+        double phi = random.nextDouble() * 2 * Math.PI;
         double xNorm = Math.sin(theta) * Math.cos(phi);
         double yNorm = Math.sin(theta) * Math.sin(phi);
         double zNorm = Math.cos(theta);
@@ -1394,7 +1719,7 @@ public class MC {
   private int getTransitionIndex(int Z, int shell, boolean auger) {
     double[] transitionProbs = cumulativeTransitionProbabilities.get(Z).get(shell);
     int transitionIndex = 0;
-    double transitionRND = Math.random();
+    double transitionRND = random.nextDouble();
     for (int i = 0; i < transitionProbs.length; i++) {
       if (transitionRND < transitionProbs[i]) { // then it's this transition
         transitionIndex = i;
@@ -1437,11 +1762,11 @@ public class MC {
   
   
   private void produceCompton(Beam beam, CoefCalc coefCalc, double timeStamp, double xn, double yn, double zn, boolean surrounding, 
-                              double photonEnergy, Map<Element, Double> elementComptonProbs, double angle, Wedge wedge) {
+                              double photonEnergy, MaterialModel<Element> comptonModel, double angle, Wedge wedge) {
     //then the photon scattered by the compton effect
     //pick an angle theta
     int[] pixelCoord = convertToPixelCoordinates(xn, yn, zn, angle, wedge);
-    double photonTheta = Math.PI * Math.random();
+    double photonTheta = Math.PI * random.nextDouble();
     //now get the energy of the compton electron
     double mcSquared = m * Math.pow(c, 2);
     double incidentEnergy = photonEnergy * Beam.KEVTOJOULES;
@@ -1455,7 +1780,7 @@ public class MC {
     double electronPhi = Math.atan((1/Math.tan(photonTheta/2)) / (1 + (incidentEnergy/mcSquared)));
     //now get the angles and direction
     double zNorm = Math.cos(electronPhi);
-    double xNorm = PosOrNeg() * Math.random() * Math.pow(1-Math.pow(zNorm, 2), 0.5);
+    double xNorm = PosOrNeg() * random.nextDouble() * Math.pow(1-Math.pow(zNorm, 2), 0.5);
     double yNorm = PosOrNeg() * Math.pow(1 - Math.pow(xNorm, 2) - Math.pow(zNorm, 2), 0.5);
     double theta = Math.acos(zNorm);
     double phi = Math.acos(xNorm / Math.sin(theta));
@@ -1465,7 +1790,7 @@ public class MC {
       ionisationTime = 0;
     }
     if (surrounding == false) {
-        Element ionisedElement = getIonisedElement(elementComptonProbs);
+        Element ionisedElement = getIonisedElement(comptonModel);
         addIonisation(timeStamp, pixelCoord, ionisedElement, xn, yn, beam, 1);
      
       
@@ -1540,7 +1865,7 @@ public class MC {
     double stoppingPower = startingStoppingPower;
     
     double startingLambda_el = coefCalc.getElectronElasticMFPL(startingEnergy, surrounding);
-    Map<ElementEM, Double> elasticProbs = coefCalc.getElasticProbs(surrounding);
+    MaterialModel<ElementEM> elasticModel = coefCalc.getElasticModel(surrounding);
     
     
     //the FSE stuff 
@@ -1554,9 +1879,8 @@ public class MC {
     
     
     //Inner shell ionisation x section
-    coefCalc.populateCrossSectionCoefficients();
     double startingInnerShellLambda = coefCalc.betheIonisationxSection(startingEnergy, surrounding);
-    Map<Element, double[]> ionisationProbs = coefCalc.getAllShellProbs(surrounding); //Really need to make sure that these are in the same order
+    MaterialModel<Element> shellModel = coefCalc.getShellModel(surrounding); //Really need to make sure that these are in the same order
     
     double gosInelasticLambda = 0, gosInnerLambda = 0, gosOuterLambda = 0;
     Map<Element, double[]> gosIonisationProbs = null;
@@ -1597,7 +1921,7 @@ public class MC {
       Pinner = (gosInelasticLambda/startingInnerShellLambda);
     }
     
-    double testRND = Math.random();
+    double testRND = random.nextDouble();
     double s = -lambdaT*Math.log(testRND);
     double Pinel = 1 - (lambdaT / startingLambda_el);
     
@@ -1645,7 +1969,7 @@ public class MC {
           if (numIonisation > 0 && surrounding == false) {
             lowEnergyIonisations+= numIonisation;
             //decide what elements to add this to
-            Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, ionisationProbs);
+            Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, shellModel);
             addIonisation(timeStamp, pixelCoord, hitElem, xn, yn, beam, numIonisation);
           }
         }
@@ -1680,7 +2004,7 @@ public class MC {
           double newFSELambda = coefCalc.getFSELambda(startingFSExSection, false);
           if (simpleMC == false) {
           startingInnerShellLambda = coefCalc.betheIonisationxSection(startingEnergy, surrounding);
-          ionisationProbs = coefCalc.getAllShellProbs(surrounding);
+          shellModel = coefCalc.getShellModel(surrounding);
           gosInelasticLambda = coefCalc.getGOSInel(surrounding, electronEnergy);
           gosInnerLambda = coefCalc.getGOSInnerLambda(surrounding);
           gosOuterLambda = coefCalc.getGOSOuterLambda(surrounding);
@@ -1707,12 +2031,12 @@ public class MC {
           else {
             lambdaT = startingLambda_el;
           }
-          elasticProbs = coefCalc.getElasticProbs(surrounding);
+          elasticModel = coefCalc.getElasticModel(surrounding);
 
           Pinel = 1 - (lambdaT / startingLambda_el);
 
           //get a new s and xn, yn, zn
-          s = -lambdaT*Math.log(Math.random());
+          s = -lambdaT*Math.log(random.nextDouble());
           xn = previousX + s*xNorm;
           yn = previousY + s*yNorm;
           zn = previousZ + s*zNorm;
@@ -1762,7 +2086,7 @@ public class MC {
         previousZ = zn;
 
         //here would be where I check if elastic or inelastic collision
-        double RNDinelastic = Math.random();
+        double RNDinelastic = random.nextDouble();
         if (RNDinelastic  < Pinel) {
           
           //generate a charge if possible //this below is the FSE model
@@ -1771,9 +2095,9 @@ public class MC {
           double shellBindingEnergy = 0;
           Element collidedElement = null;
           int collidedShell = -1;
-          double elementRND = Math.random();
-          for (Element e : ionisationProbs.keySet()) {
-            collidedShell = findIfElementIonised(e, ionisationProbs, elementRND);
+          double elementRND = random.nextDouble();
+          for (Element e : shellModel.keySet()) {
+            collidedShell = findIfElementIonised(e, shellModel, elementRND);
             if (collidedShell >= 0) {
               collidedElement = e;
               break;
@@ -1801,7 +2125,7 @@ public class MC {
               sinSquaredGamma = 2*(1-epsilon) / (2 + tFSE*epsilon); 
             
               FSEtheta = Math.asin(Math.pow(sinSquaredGamma, 0.5));
-              FSEphi = 2 * Math.PI * Math.random();
+              FSEphi = 2 * Math.PI * random.nextDouble();
             
             
               FSEtheta = FSEpreviousTheta + FSEtheta;
@@ -1867,17 +2191,13 @@ public class MC {
           
           //I want to check if it's an inner shell ionisation and if it is use the proper inner shell cross sections
           //determine if the interaction was inner shell or outer shell
-          double RNDInner = Math.random();
-          double elementRND = Math.random();
+          double RNDInner = random.nextDouble();
+          double elementRND = random.nextDouble();
           if (RNDInner < Pinner) {
             //then this hit an inner shell
-            for (Element e : ionisationProbs.keySet()) {
-              collidedShell = findIfElementIonised(e, ionisationProbs, elementRND);
-              if (collidedShell >= 0) {
-                collidedElement = e;
-                break;
-              }
-            } 
+            int ionised = shellModel.sample(elementRND);
+            collidedElement = shellModel.getElement(ionised);
+            collidedShell = shellModel.getShell(ionised);
           }
           else {
             //hit an outer shell
@@ -1949,7 +2269,7 @@ public class MC {
             else {
               W = getEnergyLossDistant(Wdis, Uk)/1000; //in keV  
             }
-            Q = coefCalc.getRecoilEnergyDistant(electronEnergy, Wak, Qak); //J
+            Q = coefCalc.getRecoilEnergyDistant(electronEnergy, Wak, Qak, random.nextDouble()); //J
             //get theta (new to add on to previous)
             if (type == 1) {
               //transverse - no deflection 
@@ -2011,13 +2331,13 @@ public class MC {
               }
               //get phi
               /*
-              SEPhi = 2 * Math.PI * Math.random();
+              SEPhi = 2 * Math.PI * random.nextDouble();
               SEPhi = SEPreviousPhi + SEPhi;
               if (SEPhi >= (2 * Math.PI)) {
                 SEPhi -= 2*Math.PI;
               }
               */
-              SEdeflectionPhi = 2* Math.PI * Math.random();
+              SEdeflectionPhi = 2* Math.PI * random.nextDouble();
               
               //now get SE normals from SE scatter angle
               double[] newVector = getNewDirectionVector(xNorm, yNorm, zNorm, SEdeflectionTheta, SEdeflectionPhi);
@@ -2062,7 +2382,7 @@ public class MC {
                 if (numIonisation > 0) {
                   lowEnergyIonisations += numIonisation;
                   //decide what elements to add this to
-                  Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, ionisationProbs);
+                  Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, shellModel);
                   addIonisation(timeStamp, pixelCoord, hitElem, xn, yn, beam, numIonisation);
                 }
               }
@@ -2076,7 +2396,7 @@ public class MC {
           //I still need to add a cutoff in here and do dose time and ionisations
           
          // scatterTheta += 1;
-          double deflectionPhi = 2* Math.PI * Math.random();
+          double deflectionPhi = 2* Math.PI * random.nextDouble();
           double[] newDirectionVector = getNewDirectionVector(xNorm, yNorm, zNorm, scatterTheta, deflectionPhi);
           
           xNorm = newDirectionVector[0];
@@ -2087,9 +2407,9 @@ public class MC {
         }
         else {
           //do elastic
-     //     theta = getElectronElasticTheta(electronEnergy, elasticProbs, previousTheta);
+     //     theta = getElectronElasticTheta(electronEnergy, elasticModel, previousTheta);
           
-          double angularDeflectionTheta = getScatteringTheta(electronEnergy, elasticProbs);
+          double angularDeflectionTheta = getScatteringTheta(electronEnergy, elasticModel);
           double deflectionPhi = getScatteringPhi();
           double[] newDirectionVector = getNewDirectionVector(xNorm, yNorm, zNorm, angularDeflectionTheta, deflectionPhi);
           
@@ -2177,9 +2497,9 @@ public class MC {
         else {
           lambdaT = 1/(1/lambdaEl);
         }
-        s = -lambdaT*Math.log(Math.random());
-        elasticProbs = coefCalc.getElasticProbs(false);
-        ionisationProbs = coefCalc.getAllShellProbs(false);
+        s = -lambdaT*Math.log(random.nextDouble());
+        elasticModel = coefCalc.getElasticModel(false);
+        shellModel = coefCalc.getShellModel(false);
         //GOS ionisation probs
         Pinel = 1 - (lambdaT / lambdaEl);
         if (innerShellLamda > 0) {
@@ -2290,10 +2610,10 @@ public class MC {
           else {
             lambdaT = 1/(1/lambdaEl);
           }
-          s = -lambdaT*Math.log(Math.random());
+          s = -lambdaT*Math.log(random.nextDouble());
           
-          elasticProbs = coefCalc.getElasticProbs(surrounding);
-          ionisationProbs = coefCalc.getAllShellProbs(false);
+          elasticModel = coefCalc.getElasticModel(surrounding);
+          shellModel = coefCalc.getShellModel(false);
           //GOS ionisation probs
           Pinel = 1 - (lambdaT / lambdaEl);
           if (innerShellLamda > 0) {
@@ -2416,7 +2736,7 @@ public class MC {
             //update angle and stuff - for now it is always an elastic interaction
             
             /*
-            theta = getElectronElasticTheta(electronEnergy, elasticProbs, previousTheta);
+            theta = getElectronElasticTheta(electronEnergy, elasticModel, previousTheta);
             phi = getElectronElasticPhi(previousPhi);
           //now further update the primary
             
@@ -2424,7 +2744,7 @@ public class MC {
             yNorm = Math.sin(theta) * Math.sin(phi);
             zNorm = Math.cos(theta);
             */
-            double angularDeflectionTheta = getScatteringTheta(electronEnergy, elasticProbs);
+            double angularDeflectionTheta = getScatteringTheta(electronEnergy, elasticModel);
             double deflectionPhi = getScatteringPhi();
             double[] newDirectionVector = getNewDirectionVector(xNorm, yNorm, zNorm, angularDeflectionTheta, deflectionPhi);
             
@@ -2443,8 +2763,8 @@ public class MC {
             lambdaEl = coefCalc.getElectronElasticMFPL(electronEnergy, surrounding);
             
             lambdaT = lambdaEl;
-            s = -lambdaT*Math.log(Math.random());
-            elasticProbs = coefCalc.getElasticProbs(surrounding);
+            s = -lambdaT*Math.log(random.nextDouble());
+            elasticModel = coefCalc.getElasticModel(surrounding);
             
             //update to new position
             xn = previousX + s * xNorm;
@@ -2487,7 +2807,7 @@ public class MC {
             if (numIonisation > 0) {
               lowEnergyIonisations += numIonisation;
               //decide what elements to add this to
-              Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, ionisationProbs);
+              Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, shellModel);
               addIonisation(timeStamp, pixelCoord, hitElem, xn, yn, beam, numIonisation);
               
             } 
@@ -2499,8 +2819,8 @@ public class MC {
     
   }
   
-  private double getElectronElasticTheta(double electronEnergy, Map<ElementEM, Double> elasticProbs, double previousTheta) {
-    ElementEM elasticElement = getElasticElement(elasticProbs);
+  private double getElectronElasticTheta(double electronEnergy, MaterialModel<ElementEM> elasticModel, double previousTheta) {
+    ElementEM elasticElement = getElasticElement(elasticModel);
     //get the angles
     
     //ELSEPA stuff
@@ -2512,34 +2832,28 @@ public class MC {
     return theta;
   }
   
-  private ElementEM getElasticElement(Map<ElementEM, Double> elasticProbs) {
-    double elasticElementRND = Math.random();
-    ElementEM elasticElement = null;
-    for (ElementEM e : elasticProbs.keySet()) {
-      if (elasticProbs.get(e) > elasticElementRND) { //Then this element is the one that was ionised
-        elasticElement = e;
-        break;
-      }
-    }
+  private ElementEM getElasticElement(MaterialModel<ElementEM> elasticModel) {
+    double elasticElementRND = random.nextDouble();
+    ElementEM elasticElement = elasticModel.getElement(elasticModel.sample(elasticElementRND));
     return elasticElement;
   }
   
   private double getElectronElasticPhi(double previousPhi) {
-    double phi = 2 * Math.PI * Math.random();
+    double phi = 2 * Math.PI * random.nextDouble();
     phi = previousPhi + phi;
     if (phi >= (2 * Math.PI)) {
       phi -= 2*Math.PI;
     }
     return phi;
   }
-  private double getScatteringTheta(double electronEnergy, Map<ElementEM, Double> elasticProbs) {
-    ElementEM elasticElement = getElasticElement(elasticProbs);
+  private double getScatteringTheta(double electronEnergy, MaterialModel<ElementEM> elasticModel) {
+    ElementEM elasticElement = getElasticElement(elasticModel);
     double theta = getPrimaryElasticScatteringAngle(electronEnergy, elasticElement.getAtomicNumber());
     return theta;
   }
   
   private double getScatteringPhi() {
-    double phi = 2 * Math.PI * Math.random();
+    double phi = 2 * Math.PI * random.nextDouble();
     return phi;
   }
   
@@ -2586,18 +2900,6 @@ public class MC {
     return crossSection; 
   }
   
-  private int findIfElementIonised(Element e, Map<Element, double[]> ionisationProbs, double elementRND) {
-    double[] elementShellProbs = ionisationProbs.get(e);
-    int shell = -1;
-    for (int k = 0; k < elementShellProbs.length; k++) {
-      if (elementShellProbs[k] > elementRND) { //Then this element is the one that was ionised
-        shell = k;
-        break;
-      }
-    }
-    return shell;
-  }
-  
   private boolean findIfOuterShellIonised(Element e, Map<Element, Double> ionisationProbs, double elementRND) {
     boolean hit = false;
     double elementShellProbs = ionisationProbs.get(e);
@@ -2608,7 +2910,7 @@ public class MC {
   }
   
   private double getFSEEnergy(double electronEnergy, double shellBindingEnergy) {
-    double RNDFSEEnergy = Math.random();
+    double RNDFSEEnergy = random.nextDouble();
     double energyCutOff = (14.0/1000.0)/electronEnergy;
     
     double tau = electronEnergy/511;
@@ -2620,13 +2922,13 @@ public class MC {
                       (2*(omegaParam+alphaParam-2*betaParam));
     
     double omega = 1 / ((1/energyCutOff) - ((1/energyCutOff)-2)*RNDFSEEnergy);
-//      double omega = 1 / (100 - 98*Math.random());
+//      double omega = 1 / (100 - 98*random.nextDouble());
     return epsilon;
   }
   
 
   private double getCosAngleToX() {
-    double RNDangle = Math.random();
+    double RNDangle = random.nextDouble();
     double lastProb = 0;
     double angle = 0;
     for (int i = 0; i < numberAngularEmissionBins; i++) {
@@ -2643,7 +2945,7 @@ public class MC {
     return Math.cos(angle);
   }
   private double PosOrNeg() {
-    double RND = Math.random();
+    double RND = random.nextDouble();
     if (RND < 0.5) {
       return 1;
     }
@@ -2759,8 +3061,8 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
     
     if(beam.getType() == "Tophat") {
     
-      double RND1 = Math.random();
-      double RND2 = Math.random();
+      double RND1 = random.nextDouble();
+      double RND2 = random.nextDouble();
       
       double xCollimation = beam.getBeamX(); // fetch x collimation in um
       xyPos[0] = 1000*xCollimation*(RND1 - 0.5); // x position in nm
@@ -2800,8 +3102,8 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
           double upperCumulativeProbY = gy.cumulativeProbability(yCollimation/2);
           
           // Randomly select cumulative probabilities between those limits
-          double RCPx = lowerCumulativeProbX + Math.random()*(upperCumulativeProbX - lowerCumulativeProbX); // gets a random cumulative probability
-          double RCPy = lowerCumulativeProbY + Math.random()*(upperCumulativeProbY - lowerCumulativeProbY);
+          double RCPx = lowerCumulativeProbX + random.nextDouble()*(upperCumulativeProbX - lowerCumulativeProbX); // gets a random cumulative probability
+          double RCPy = lowerCumulativeProbY + random.nextDouble()*(upperCumulativeProbY - lowerCumulativeProbY);
           
           // Generate the coordinates, units nm
           xyPos[0] = gx.inverseCumulativeProbability(RCPx)*1000;
@@ -2810,8 +3112,8 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
         
         else if(beam.getIsCircular() == true) { // elliptical 2D Gaussian
           
-          double RND1 = Math.random();
-          double RND2 = Math.random();  
+          double RND1 = random.nextDouble();
+          double RND2 = random.nextDouble();  
  
 // First test if can use circular Gaussian because it is quicker to run (do not have to keep placing until you get a photon within the exposed area, as always places in exposed area)
           if(beam.getSx() == beam.getSy()) {
@@ -2822,7 +3124,7 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
           
             double lowerCumulativeProbR = gr.cumulativeProbability(-xCollimation/2);
             double upperCumulativeProbR = gr.cumulativeProbability(xCollimation/2);
-            double RCPr = lowerCumulativeProbR + Math.random()*(upperCumulativeProbR - lowerCumulativeProbR); // gets a random cumulative probability
+            double RCPr = lowerCumulativeProbR + random.nextDouble()*(upperCumulativeProbR - lowerCumulativeProbR); // gets a random cumulative probability
           
             rtPos[0] = gr.inverseCumulativeProbability(RCPr)*1000; // value of r
             rtPos[1] = 2*(Math.PI)*RND2; // angle anticlockwise from x-axis, using convention 0 <= theta < 2*pi, in radians
@@ -2942,19 +3244,13 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
       double[] transitionEnergies = new double[65];
       String elementNum = String.valueOf(augerElements[i]) + "-" + j + ".csv";
       String filePath = "constants/auger_linewidths/" + elementNum;
-      InputStreamReader isr = locateFile(filePath);
-      BufferedReader br = new BufferedReader(isr);
-      String line;
-      String[] components;
-      int count = -1;
-      while ((line = br.readLine()) != null) {
-        count += 1;
-        components = line.split(",");
-        transitionLinewidths[count] = Double.parseDouble(components[1]);
-        transitionProbs[count] = Double.parseDouble(components[2]);
-        transitionEnergies[count] = Double.parseDouble(components[3]);
-        leftShellIndex[count] = Double.parseDouble(components[4]);
-        dropShellIndex[count] = Double.parseDouble(components[5]);
+      ConstantsTable table = ConstantsCache.getInstance().getTable(filePath);
+      for (int count = 0; count < table.getRowCount(); count++) {
+        transitionLinewidths[count] = table.getValue(count, 1);
+        transitionProbs[count] = table.getValue(count, 2);
+        transitionEnergies[count] = table.getValue(count, 3);
+        leftShellIndex[count] = table.getValue(count, 4);
+        dropShellIndex[count] = table.getValue(count, 5);
         sumProb += transitionProbs[count];
         cumulativeTransitionProbs[count] = sumProb;
       }
@@ -3006,18 +3302,12 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
           double[] transitionEnergies = new double[65];
           String elementNum = String.valueOf(augerElements[i]) + "-" + j + ".csv";
           String filePath = "constants/fl_linewidths/" + elementNum;
-          InputStreamReader isr = locateFile(filePath);
-          BufferedReader br = new BufferedReader(isr);
-          String line;
-          String[] components;
-          int count = -1;
-          while ((line = br.readLine()) != null) {
-            count += 1;
-            components = line.split(",");
-            transitionLinewidths[count] = Double.parseDouble(components[1]);
-            transitionProbs[count] = Double.parseDouble(components[2]);
-            transitionEnergies[count] = Double.parseDouble(components[3]);
-            dropShellIndex[count] = Double.parseDouble(components[4]);
+          ConstantsTable table = ConstantsCache.getInstance().getTable(filePath);
+          for (int count = 0; count < table.getRowCount(); count++) {
+            transitionLinewidths[count] = table.getValue(count, 1);
+            transitionProbs[count] = table.getValue(count, 2);
+            transitionEnergies[count] = table.getValue(count, 3);
+            dropShellIndex[count] = table.getValue(count, 4);
             sumProb += transitionProbs[count];
             cumulativeTransitionProbs[count] = sumProb;
           }
@@ -3189,44 +3479,16 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
       highEnergy = true;
     }
    
-    //determine if need to get data from file or it's already loaded
-    boolean getFile = mapPopulated(highEnergy, atomicNumber);
-    
-    //get the right file if I need to
-    if (getFile == true) {
-      
-      TreeMap<Double, double[]> elementData = new TreeMap<Double, double[]>();
-      try {
-        elementData =  getAngleFileData(highEnergy, atomicNumber);
-      } catch (IOException e) {
-        // TODO Auto-generated catch block
-        e.printStackTrace();
-      } 
-      //now add the file data to the global array
-      if (highEnergy == true) {
-        highEnergyAngles[atomicNumber] = elementData;
-      }
-      else {
-        lowEnergyAngles[atomicNumber] = elementData;
-      }
-    }
-    
-    //Now use the data in the global array to work out the angle
-    //get nearest energy
-    Double energyKey = returnNearestEnergy(highEnergy, atomicNumber, electronEnergy);
-    
-    //should probably interpolate the values here tbh.... will do at some point
-    
-    //get the differential cross sections for that energy of the element
-    double[] energyAngleProbs = null;
-    if (highEnergy == true) {
-      energyAngleProbs = highEnergyAngles[atomicNumber].get(energyKey);
-    }
-    else {
-      energyAngleProbs = lowEnergyAngles[atomicNumber].get(energyKey);
-    }
+    //the tables are loaded once and shared between all simulations
+    ElasticScatteringTable angles =
+        ElasticScatteringTable.getInstance(highEnergy, atomicNumber);
+    //pick one of the neighbouring tabulated energies, interpolating in log(energy)
+    int energyIndex = angles.interpolatedEnergyIndex(electronEnergy, random.nextDouble());
+    
+    //sample an angle bin from the precomputed distribution for that energy
+    int angleIndex = angles.sampleAngleIndex(energyIndex, random.nextDouble());
     //get the angle from this 
-    double deflectionAngle = returnDeflectionAngle(highEnergy, energyAngleProbs);
+    double deflectionAngle = returnDeflectionAngle(highEnergy, angleIndex);
     
     if (Double.isNaN(deflectionAngle)){
       System.out.println("test");
@@ -3234,124 +3496,7 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
     return deflectionAngle;
   }
   
-  private InputStreamReader locateFile(String filePath) 
-      throws UnsupportedEncodingException, FileNotFoundException{
-    InputStream is = getClass().getResourceAsStream("/" + filePath);
-
-    if (is == null) {
-      is = new FileInputStream(filePath);
-    }
-
-    return new InputStreamReader(is, "US-ASCII");
-  }
-
-  private boolean mapPopulated(boolean highEnergy, int atomicNumber) {
-    if (highEnergy == true) {
-      if (highEnergyAngles[atomicNumber] == null) {
-        return true;
-      }
-      else {
-        return false;
-      }
-    }
-    else {
-      if (lowEnergyAngles[atomicNumber] == null) {
-        return true;
-      }
-      else {
-       return false;
-      }
-    }
-  }
-
-//--put it in here when I have copy and paste back
-private TreeMap<Double, double[]> getAngleFileData(boolean highEnergy, int atomicNum) throws IOException{
-String elementNum = String.valueOf(atomicNum) + ".csv";
-String filePath = "";
-if (highEnergy == true) {
-filePath = "constants/above_20000/" + elementNum;
-}
-else {
-filePath = "constants/below_20000/" + elementNum;
-}
-
-InputStreamReader isr = locateFile(filePath);
-BufferedReader br = new BufferedReader(isr);
-TreeMap<Double, double[]> elementData = new TreeMap<Double, double[]>();
-String line;
-String[] components;
-int count = -1;
-while ((line = br.readLine()) != null) {
-count +=1 ;
-components = line.split(",");
-if (count > 0) { //if this is not the first line
-  Double energy = Double.valueOf(components[0]);
-  String[] angleProbsString = Arrays.copyOfRange(components, 1, components.length);
-  double[] angleProbs = new double[angleProbsString.length];
-  for (int i = 0; i < angleProbsString.length; i++) {
-    angleProbs[i] = Double.parseDouble(angleProbsString[i]);
-  }
-  //Now add this to the local treemap
-  elementData.put(energy, angleProbs);
-}
-}
-return elementData;
-}
-
-
-private Double returnNearestEnergy(boolean highEnergy, int atomicNumber, double electronEnergy) {
-Double nearestEnergy = 0.;
-if (electronEnergy >= 0.05 && electronEnergy <= 300) {
-Double beforeKey = 0.;
-Double afterKey = 0.;
-if (highEnergy == true) {
-  beforeKey = highEnergyAngles[atomicNumber].floorKey(electronEnergy);
-  afterKey = highEnergyAngles[atomicNumber].ceilingKey(electronEnergy);
-  
-}
-else {
-  beforeKey = lowEnergyAngles[atomicNumber].floorKey(electronEnergy);
-  afterKey = lowEnergyAngles[atomicNumber].ceilingKey(electronEnergy);
-}
-if (beforeKey == null) {
-  beforeKey = 0.;
-}
-if (afterKey == null) {
-  afterKey = 0.;
-}
-beforeKey = (beforeKey == 0.) ? afterKey: beforeKey;
-afterKey = (afterKey == 0.) ? beforeKey: afterKey;
-if (Math.abs(electronEnergy - beforeKey) <= Math.abs(electronEnergy-afterKey)) {
-  nearestEnergy = beforeKey;
-}
-else {
-  nearestEnergy = afterKey;
-}
-
-}
-return nearestEnergy;
-}
-
-private double returnDeflectionAngle(boolean highEnergy, double[] energyAngleProbs) {
-double totalProb = 0;
-for (int i = 0; i < energyAngleProbs.length; i++) {
-totalProb += energyAngleProbs[i];
-}
-double[] probPerAngle = new double[energyAngleProbs.length];
-double sumProb = 0;
-for (int j = 0; j < energyAngleProbs.length; j++) {
-sumProb += energyAngleProbs[j];
-probPerAngle[j] = sumProb/totalProb;
-}
-
-double RND = Math.random();
-double index = 0;
-for (int k = 0; k < probPerAngle.length; k++) {
-if (probPerAngle[k] >= RND) {
-  index = k;
-  break;
-}
-}
+private double returnDeflectionAngle(boolean highEnergy, double index) {
 //convert the index to an angle
 double angleDegrees = 0;
 if (highEnergy == true) {
@@ -3405,20 +3550,16 @@ System.out.println("test");
 return angleRadians;
 }
   
-private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element, Double> gosOuterIonisationProbs, Map<Element, double[]> ionisationProbs) {
+private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element, Double> gosOuterIonisationProbs, MaterialModel<Element> shellModel) {
   Element collidedElement = null;
   int collidedShell = -1;
-  double RNDInner = Math.random();
-  double elementRND = Math.random();
+  double RNDInner = random.nextDouble();
+  double elementRND = random.nextDouble();
   if (RNDInner < Pinner) {
     //then this hit an inner shell
-    for (Element e : ionisationProbs.keySet()) {
-      collidedShell = findIfElementIonised(e, ionisationProbs, elementRND);
-      if (collidedShell >= 0) {
-        collidedElement = e;
-        break;
-      }
-    } 
+    int ionised = shellModel.sample(elementRND);
+    collidedElement = shellModel.getElement(ionised);
+    collidedShell = shellModel.getShell(ionised);
   }
   else {
     //hit an outer shell
@@ -3437,7 +3578,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
 
   private int getGOSInelasticType(double[][] shellProbs, int shellIndex) {
     double runningSum = 0;
-    double RND = Math.random();
+    double RND = random.nextDouble();
     int type = 0;
     for (int i = 0; i < 3; i++) {
       runningSum += shellProbs[shellIndex][i]/shellProbs[shellIndex][3];
@@ -3451,7 +3592,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
   
   private int getGOSInelasticTypePlasmon(double[] plasmonProbs) {
     double runningSum = 0;
-    double RND = Math.random();
+    double RND = random.nextDouble();
     int type = 0;
     for (int i = 0; i < 3; i++) {
       runningSum += plasmonProbs[i]/plasmonProbs[3];
@@ -3482,7 +3623,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
   }
   
   public double getEnergyLossDistant(double Wdis, double Uk){ 
-    double RND = Math.random();
+    double RND = random.nextDouble();
     double W = Wdis - Math.pow(RND*Math.pow(Wdis-Uk, 2), 0.5);
     return W; //returning eV
   }
@@ -3534,7 +3675,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
     double kc = Math.max(Qk, Wcc) / (E*1000 + Qk);  //get units right ofc
     double k = 0;
     double a = getClosea(E);
-    double RND = Math.random();
+    double RND = random.nextDouble();
     double zeta = RND * (1.0+5.0*a*kc/2.0);
     if (zeta < 1) {
       k = kc / (1-zeta*(1-2*kc));
@@ -3561,7 +3702,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
     int count = 0;
     while (exit == false) {
       k = getRandomk(E, Qk);
-      double RND = Math.random();
+      double RND = random.nextDouble();
       double LHS = RND * (1 + 5*a*Math.pow(k, 2));
       double RHS = Math.pow(k, 2) * getPDFk(E, k, Qk);
       if (LHS < RHS) {
@@ -3947,10 +4088,12 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
     if (normals == null) {
       calculateNormals(false);
     }
+    
+    int occupancy = classifyInFrame(crystalGrid, crystalFrame, x, y, z);
+    if (occupancy != OccupancyGrid.UNKNOWN) {
+      return occupancy == OccupancyGrid.INSIDE;
+    }
 
-    boolean inside = false;
-
-    double[] directionVector = { 0, 0, 1 };
     double[] origin = new double[3];
     origin[0] = x/1000;
     origin[1] = y/1000;
@@ -3960,56 +4103,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
       origin[0] += 0.00001;
     }
 
-    for (int l = 0; l < indicesXFEL.length; l++) {
-      double intersectionDistance = Vector.rayTraceDistance(rotatedNormals[l],
-          directionVector, origin, rotatedOriginDistances[l]);
-
-      Double distanceObject = Double.valueOf(intersectionDistance);
-
-      if (intersectionDistance < 0 || distanceObject.isNaN()
-          || distanceObject.isInfinite()) {
-        continue;
-      }
-
-      double[] intersectionPoint = Vector.rayTraceToPointWithDistance(
-          directionVector, origin, intersectionDistance);
-
-      double[][] triangleVertices = new double[3][3];
-
-      // copy vertices referenced by indices into single array for
-      // passing onto the polygon inclusion test.
-      for (int m = 0; m < 3; m++) {
-        System.arraycopy(rotatedVerticesXFEL[indicesXFEL[l][m] - 1], 0, triangleVertices[m],
-            0, 3);
-      }
-
-  //    boolean crosses = Vector.polygonInclusionTest(triangleVertices,
-  //        intersectionPoint);
-      
-      boolean crosses = Vector.polygonInclusionTest(expandedRotatedVerticesXFEL[l],
-          intersectionPoint);
-
-      if (crosses) {
-        inside = !inside;
-      }
-    }
-    
-    //my quick test
-    /*
-    boolean outside = false;
-    double[] point = {x/1000, y/1000, z/1000};
-    for (int k = 0; k < 3; k++) {
-   //   point[k] = Math.round(point[k] *1000.0)/1000.0;
-      if (point[k] > 1.05 || point[k] < -1.05) {
-        outside = true;
-      }
-    }
-    
-    if(inside == outside) {
-      System.out.println("no");
-    }
-    */
-    return inside;
+    return rotatedMesh.isInside(origin[0], origin[1], origin[2]);
   }
   
   public boolean calculateCrystalOccupancySurrounding(final double x, final double y, final double z)
@@ -4021,10 +4115,15 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
     if (normalsSurrounding == null) {
       calculateNormalsSurrounding(false);
     }
+    
+    if (surroundingGrid == null && surroundingFrame != null && surroundingGrids != null) {
+      surroundingGrid = getSurroundingGrid();
+    }
+    int occupancy = classifyInFrame(surroundingGrid, surroundingFrame, x, y, z);
+    if (occupancy != OccupancyGrid.UNKNOWN) {
+      return occupancy == OccupancyGrid.INSIDE;
+    }
 
-    boolean inside = false;
-
-    double[] directionVector = { 0, 0, 1 };
     double[] origin = new double[3];
     origin[0] = x/1000;
     origin[1] = y/1000;
@@ -4034,41 +4133,50 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
       origin[0] += 0.00001;
     }
 
-    for (int l = 0; l < indicesSurrounding.length; l++) {
-      double intersectionDistance = Vector.rayTraceDistance(rotatedNormalsSurrounding[l],
-          directionVector, origin, rotatedOriginDistancesSurrounding[l]);
-
-      Double distanceObject = Double.valueOf(intersectionDistance);
-
-      if (intersectionDistance < 0 || distanceObject.isNaN()
-          || distanceObject.isInfinite()) {
-        continue;
-      }
-
-      double[] intersectionPoint = Vector.rayTraceToPointWithDistance(
-          directionVector, origin, intersectionDistance);
-
-      double[][] triangleVertices = new double[3][3];
-
-      // copy vertices referenced by indices into single array for
-      // passing onto the polygon inclusion test.
-      for (int m = 0; m < 3; m++) {
-        System.arraycopy(rotatedVerticesSurrounding[indicesSurrounding[l][m] - 1], 0, triangleVertices[m],
-            0, 3);
-      }
-
-  //    boolean crosses = Vector.polygonInclusionTest(triangleVertices,
-  //        intersectionPoint);
-      
-      boolean crosses = Vector.polygonInclusionTest(expandedRotatedVerticesSurrounding[l],
-          intersectionPoint);
-
-      if (crosses) {
-        inside = !inside;
+    return rotatedMeshSurrounding.isInside(origin[0], origin[1], origin[2]);
+  }
+  
+  /**
+   * Returns the voxelised surrounding for the current surrounding thickness,
+   * voxelising it if no worker has done so yet.
+   * 
+   * @return occupancy grid of the unrotated surrounding
+   */
+  private OccupancyGrid getSurroundingGrid() {
+    List<Double> key = Arrays.asList(surroundingThickness[0],
+        surroundingThickness[1], surroundingThickness[2]);
+    OccupancyGrid grid = surroundingGrids.get(key);
+    if (grid == null) {
+      grid = new OccupancyGrid(verticesSurrounding, indicesSurrounding);
+      OccupancyGrid existing = surroundingGrids.putIfAbsent(key, grid);
+      if (existing != null) {
+        grid = existing;
       }
     }
-
-    return inside;
+    return grid;
+  }
+  
+  /**
+   * Classify a point using an occupancy grid built in the unrotated frame,
+   * by undoing the rotation and translation applied to the vertices.
+   * 
+   * @param grid occupancy grid, may be null
+   * @param frame rotation and translation of the vertices, may be null
+   * @param x x coordinate in nm
+   * @param y y coordinate in nm
+   * @param z z coordinate in nm
+   * @return INSIDE, OUTSIDE or UNKNOWN
+   */
+  private int classifyInFrame(OccupancyGrid grid, double[] frame,
+      final double x, final double y, final double z) {
+    if (grid == null || frame == null) {
+      return OccupancyGrid.UNKNOWN;
+    }
+    double rotatedX = x/1000;
+    double rotatedZ = z/1000;
+    return grid.classify(rotatedX * frame[0] - rotatedZ * frame[1] - frame[2],
+        y/1000 - frame[3],
+        rotatedX * frame[1] + rotatedZ * frame[0] - frame[4]);
   }
   
   private int[] getMaxPixelCoordinates() {
@@ -4117,88 +4225,14 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
     if (normals == null) {
       calculateNormals(false);
     }
-
-    double[] directionVector = {ca, cb, cc}; //the actual direction vector
-    double minIntersect = 0;
-    double[] origin = new double[3];
-    origin[0] = x/1000;
-    origin[1] = y/1000;
-    origin[2] = z/1000;
-    
-    double intersectionDistance = 0;
-    for (int l = 0; l < indicesXFEL.length; l++) {
-      intersectionDistance = Vector.rayTraceDistance(normals[l],
-          directionVector, origin, originDistances[l]);
-
-      Double distanceObject = Double.valueOf(intersectionDistance);
-
-      if (intersectionDistance < 0 || distanceObject.isNaN()
-          || distanceObject.isInfinite()) {
-          //do nothing
-      }
-      else {
-    //    break; //maybe should just be closest, or an issue with the rayTRace
-        if (minIntersect == 0) {
-          minIntersect = intersectionDistance;
-        }
-        else {
-          double min = Math.min(minIntersect, intersectionDistance);
-          double max = Math.max(minIntersect, intersectionDistance);
-          if (minVal == true) {
-            minIntersect = min;
-          }
-          else {
-            minIntersect = max;
-          }
-        }
-      }
-
-    }
-    return minIntersect;
+    return mesh.planeIntersectionDistance(x/1000, y/1000, z/1000, ca, cb, cc, minVal);
   }
   
   private double getIntersectionDistanceSurrounding(double x, double y, double z, double ca, double cb, double cc, boolean minVal) {
     if (normalsSurrounding == null) {
       calculateNormalsSurrounding(false);
     }
-
-    double[] directionVector = {ca, cb, cc}; //the actual direction vector
-    double minIntersect = 0;
-    double[] origin = new double[3];
-    origin[0] = x/1000;
-    origin[1] = y/1000;
-    origin[2] = z/1000;
-    
-    double intersectionDistance = 0;
-    for (int l = 0; l < indicesSurrounding.length; l++) {
-      intersectionDistance = Vector.rayTraceDistance(normalsSurrounding[l],
-          directionVector, origin, originDistancesSurrounding[l]);
-
-      Double distanceObject = Double.valueOf(intersectionDistance);
-
-      if (intersectionDistance < 0 || distanceObject.isNaN()
-          || distanceObject.isInfinite()) {
-          //do nothing
-      }
-      else {
-    //    break; //maybe should just be closest, or an issue with the rayTRace
-        if (minIntersect == 0) {
-          minIntersect = intersectionDistance;
-        }
-        else {
-          double min = Math.min(minIntersect, intersectionDistance);
-          double max = Math.max(minIntersect, intersectionDistance);
-          if (minVal == true) {
-            minIntersect = min;
-          }
-          else {
-            minIntersect = max;
-          }
-        }
-      }
-
-    }
-    return minIntersect;
+    return meshSurrounding.planeIntersectionDistance(x/1000, y/1000, z/1000, ca, cb, cc, minVal);
   }
   
   private double[] getIntersectionPoint(double intersectionDistance, double x, double y, double z,
@@ -4279,6 +4313,11 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
           indicesXFEL.length);
     }
     
+    if (rotated) {
+      rotatedMesh = new TriangleMesh(rotatedVerticesXFEL, indicesXFEL);
+    } else {
+      mesh = new TriangleMesh(verticesXFEL, indicesXFEL);
+    }
   }
   
   public void calculateNormalsSurrounding(final boolean rotated) {
@@ -4341,6 +4380,11 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
           indicesSurrounding.length);
     }
     
+    if (rotated) {
+      rotatedMeshSurrounding = new TriangleMesh(rotatedVerticesSurrounding, indicesSurrounding);
+    } else {
+      meshSurrounding = new TriangleMesh(verticesSurrounding, indicesSurrounding);
+    }
   }
   
   private void setUpRotatedVertices(final double angrad, final Wedge wedge) {
@@ -4372,6 +4416,10 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
     }
 
     calculateNormals(true);
+    crystalFrame = new double[] {Math.cos(angrad), Math.sin(angrad),
+        wedge.getStartX() + wedge.getTransX(angrad),
+        wedge.getStartY() + wedge.getTransY(angrad),
+        wedge.getStartZ() + wedge.getTransZ(angrad)};
 
     /*
      * Now we populate the expandedRotatedVertex array.
@@ -4416,6 +4464,10 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
     }
 
     calculateNormalsSurrounding(true);
+    surroundingFrame = new double[] {Math.cos(angrad), Math.sin(angrad),
+        wedge.getStartX() + wedge.getTransX(angrad),
+        wedge.getStartY() + wedge.getTransY(angrad),
+        wedge.getStartZ() + wedge.getTransZ(angrad)};
 
     /*
      * Now we populate the expandedRotatedVertex array.
@@ -4432,84 +4484,34 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
   }
   
   private double getStartingZSurrounding(double angle, Wedge wedge, double[] coord) {
-    double[] zAxis = { 0, 0, 1 };
-
-    List<Double> distancesFound = new ArrayList<Double>();
-
-    for (int i = 0; i < indicesSurrounding.length; i++) {
-      double intersectionDistance = 
-          Vector.rayTraceDistance(rotatedNormalsSurrounding[i],
-              zAxis, coord, rotatedOriginDistancesSurrounding[i]);
-
-      Double distanceObject = Double.valueOf(intersectionDistance);
-
-      if ( distanceObject.isNaN()
-          || distanceObject.isInfinite()) {
-        continue;
-      }
-
-      double[] intersectionPoint = Vector.rayTraceToPointWithDistance(
-          zAxis, coord, intersectionDistance);
-
-      boolean crosses = Vector.polygonInclusionTest(expandedRotatedVerticesSurrounding[i],
-          intersectionPoint);
-
-      if (crosses) {
-        distancesFound.add(Double.valueOf(intersectionDistance));
-      }
-    }
-
-    Collections.sort(distancesFound);
-    if (distancesFound.isEmpty()) {
+    double[] distancesFound = new double[rotatedMeshSurrounding.size()];
+    int found = rotatedMeshSurrounding.zAxisCrossings(coord[0], coord[1], coord[2], distancesFound);
+    Arrays.sort(distancesFound, 0, found);
+    if (found == 0) {
       return 0.0;
     }
     else {
       //then it does cross - return the most negative value
-      return 1000*distancesFound.get(0).doubleValue();
+      return 1000*distancesFound[0];
     }
   }
   
   private double getStartingZ(double angle, Wedge wedge, double[] coord, boolean front) {
-    double[] zAxis = { 0, 0, 1 };
-
-    List<Double> distancesFound = new ArrayList<Double>();
-
-    for (int i = 0; i < indicesXFEL.length; i++) {
-      double intersectionDistance = 
-          Vector.rayTraceDistance(rotatedNormals[i],
-              zAxis, coord, rotatedOriginDistances[i]);
-
-      Double distanceObject = Double.valueOf(intersectionDistance);
-
-      if ( distanceObject.isNaN()
-          || distanceObject.isInfinite()) {
-        continue;
-      }
-
-      double[] intersectionPoint = Vector.rayTraceToPointWithDistance(
-          zAxis, coord, intersectionDistance);
-
-      boolean crosses = Vector.polygonInclusionTest(expandedRotatedVerticesXFEL[i],
-          intersectionPoint);
-
-      if (crosses) {
-        distancesFound.add(Double.valueOf(intersectionDistance));
-      }
-    }
-
-    Collections.sort(distancesFound);
+    double[] distancesFound = new double[rotatedMesh.size()];
+    int found = rotatedMesh.zAxisCrossings(coord[0], coord[1], coord[2], distancesFound);
+    Arrays.sort(distancesFound, 0, found);
     
     //get front or back
     int index = 0;
     if (front == false) {
       index = 1;
     }
-    if (distancesFound.isEmpty()) {
+    if (found <= index) {
       return 0.0;
     }
     else {
       //then it does cross - return the most negative value
-      return 1000*distancesFound.get(index).doubleValue();
+      return 1000*distancesFound[index];
     }
   }
   
@@ -4543,213 +4545,6 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
   }
   
   
-  private static class Vector {
-    /**
-     * Returns magnitude of 3D vector.
-     *
-     * @param vector 3d coordinates of vector
-     * @return magnitude scalar.
-     */
-    public static double vectorMagnitude(final double[] vector) {
-      double squaredDistance = Math.pow(vector[0], 2) + Math.pow(vector[1], 2)
-          + Math.pow(vector[2], 2);
-
-      double distance = Math.sqrt(squaredDistance);
-
-      return distance;
-    }
-
-    /**
-     * returns 3D vector between FROM and TO points.
-     *
-     * @param from from point
-     * @param to to point
-     * @return vector between points.
-     */
-    public static double[] vectorBetweenPoints(final double[] from,
-        final double[] to) {
-      double[] newVector = new double[3];
-
-      for (int i = 0; i < 3; i++) {
-        newVector[i] = to[i] - from[i];
-      }
-
-      return newVector;
-    }
-    
-    public static double[] normaliseVector(final double[] vector) {
-      double[] newVector = new double[3];
-      double magnitude = vectorMagnitude(vector);
-      
-      for (int i = 0; i < 3; i++) {
-        newVector[i] = vector[i]/magnitude;
-      }
-      
-      return newVector;
-    }
-
-    /**
-     * returns 3D cross-product between two vectors.
-     *
-     * @param vector1 vector1
-     * @param vector2 vector2
-     * @return cross product
-     */
-    public static double[] crossProduct(final double[] vector1,
-        final double[] vector2) {
-      double[] newVector = new double[3];
-
-      newVector[0] = vector1[1] * vector2[2] - vector1[2] * vector2[1];
-      newVector[1] = vector1[2] * vector2[0] - vector1[0] * vector2[2];
-      newVector[2] = vector1[0] * vector2[1] - vector1[1] * vector2[0];
-
-      return newVector;
-    }
-
-    /**
-     * returns 3D cross product with magnitude set to 1 between
-     * two vectors.
-     *
-     * @param vector1 vector1
-     * @param vector2 vector2
-     * @return normalised cross product
-     */
-    public static double[] normalisedCrossProduct(final double[] vector1,
-        final double[] vector2) {
-      double[] newVector = crossProduct(vector1, vector2);
-      double magnitude = vectorMagnitude(newVector);
-
-      for (int i = 0; i < 3; i++) {
-        newVector[i] /= magnitude;
-      }
-
-      return newVector;
-    }
-
-    /**
-     * returns dot product between two 3D vectors.
-     *
-     * @param vector1 vector1
-     * @param vector2 vector2
-     * @return dot product
-     */
-    public static double dotProduct(final double[] vector1,
-        final double[] vector2) {
-      double dotProduct = 0;
-
-      for (int i = 0; i < 3; i++) {
-        dotProduct += vector1[i] * vector2[i];
-      }
-
-      return dotProduct;
-    }
-
-    /**
-     * Ray trace from a point to a plane via a direction vector,
-     * find the intersection between the direction vector and the
-     * plane and return this point.
-     *
-     * @param normalUnitVector normal vector with magnitude 1
-     * @param directionVector direction vector of any magnitude
-     * @param origin point from which ray is traced (i.e. voxel coordinate)
-     * @param planeDistance distance of plane from true origin (0, 0, 0)
-     * @return intersection point between plane and direction vector
-     */
-    @SuppressWarnings("unused")
-    public static double[] rayTraceToPoint(final double[] normalUnitVector,
-        final double[] directionVector, final double[] origin,
-        final double planeDistance) {
-      double t = rayTraceDistance(normalUnitVector, directionVector, origin,
-          planeDistance);
-
-      double[] point = new double[3];
-
-      for (int i = 0; i < 3; i++) {
-        point[i] = origin[i] + t * directionVector[i];
-      }
-
-      return point;
-    }
-
-    /**
-     * Ray trace - find intersection of direction vector from point
-     * with plane from already-known distance t.
-     *
-     * @param directionVector direction vector
-     * @param origin point from which ray is traced
-     * @param t distance of origin to plane along direction vector
-     * @return point of intersection
-     */
-    public static double[] rayTraceToPointWithDistance(
-        final double[] directionVector,
-        final double[] origin,
-        final double t) {
-      double[] point = new double[3];
-
-      for (int i = 0; i < 3; i++) {
-        point[i] = origin[i] + t * directionVector[i];
-      }
-
-      return point;
-    }
-
-    /**
-     * Ray trace from a point to a plane via a direction vector,
-     * find the signed distance between the direction vector and
-     * the plane and return this point.
-     *
-     * @param normalUnitVector normal vector with magnitude 1
-     * @param directionVector direction vector of any magnitude
-     * @param origin point from which ray is traced (i.e. voxel coordinate)
-     * @param planeDistance distance of plane from true origin (0, 0, 0)
-     * @return signed distance between direction vector and plane
-     */
-    public static double rayTraceDistance(final double[] normalUnitVector,
-        final double[] directionVector, final double[] origin,
-        final double planeDistance) {
-
-      double originNormalDotProduct = dotProduct(origin, normalUnitVector);
-      double directionNormalDotProduct = dotProduct(directionVector,
-          normalUnitVector);
-
-      double t = -(originNormalDotProduct + planeDistance)
-          / directionNormalDotProduct;
-
-      return t;
-    }
-
-    /**
-     * Original C code
-     * http://www.ecse.rpi.edu/~wrf/Research/Short_Notes/pnpoly.html
-     * Takes an array of vertices of a polygon and determines whether a point
-     * is contained within the polygon or not. Ignores the z axis at the
-     * moment.
-     *
-     * @param vertices array of 3D vertices
-     * @param point point to test inclusion - must be in same plane
-     *          as vertices
-     * @return boolean value - in polygon or not in polygon.
-     */
-    public static boolean polygonInclusionTest(final double[][] vertices,
-         double[] point) {
-      boolean c = false;
-      
-      
-
-      
-      for (int i = 0, j = vertices.length - 1; i < vertices.length; j = i++) {
-        if (((vertices[i][1] > point[1]) != (vertices[j][1] > point[1]))
-            && (point[0] < (vertices[j][0] - vertices[i][0])
-                * (point[1] - vertices[i][1])
-                / (vertices[j][1] - vertices[i][1]) + vertices[i][0])) {
-          c = !c;
-        }
-      }
-      
-
-      return c;
-    }
-  }
   /*
   private Element getRandomElement(CoefCalc coefCalc) { //weight this by number of electrons in the crystal.
     double sampleVolume = XDimension * YDimension * ZDimension * 1E-21; //cm^3
@@ -4771,7 +4566,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
       elementProb.put(e, sumProb);
     }
     Element toReturn = null;
-    double RND = Math.random();
+    double RND = random.nextDouble();
     for (Element e: numElectrons.keySet()) {
       if (RND <= elementProb.get(e)) {
         toReturn = e;
@@ -4794,7 +4589,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
       elementProb.put(e, sumProb);
     }
     Element toReturn = null;
-    double RND = Math.random();
+    double RND = random.nextDouble();
     for (Element e: presentElements) {
       if (RND <= elementProb.get(e)) {
         toReturn = e;
@@ -0,0 +1,368 @@
+package se.raddo.raddose3D;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * A MaterialModel is a compiled form of the per element and per shell
+ * interaction probabilities of a material, so that the transport engines can
+ * sample which element, and which shell of it, takes part in an interaction
+ * in constant time.
+ * <p>
+ * The CoefCalc classes describe these probabilities as maps holding running
+ * sums, which used to be scanned in iteration order for the first entry above
+ * a random number. The running sums only mean anything in the order they were
+ * built in, so the maps must have a defined iteration order: a LinkedHashMap
+ * filled in atomic number order, or a SortedMap. A MaterialModel is built
+ * from such a map. It numbers the elements in iteration order and stores the
+ * probability of each outcome in
+ * primitive arrays, sampled through Walker alias tables. Each outcome keeps
+ * the probability it had in the scan. When the running sum ends below 1 the
+ * scan could find no entry at all; that remainder is kept as a miss, which is
+ * returned as -1.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ *
+ * @param <E>
+ *          element type, Element or ElementEM
+ */
+public final class MaterialModel<E> {
+  /** Elements in the order of their ordinals. */
+  private final List<E>     elements;
+
+  /** Element ordinal of each outcome. */
+  private final int[]       outcomeElement;
+
+  /** Shell index of each outcome, 0 for models without shells. */
+  private final int[]       outcomeShell;
+
+  /** Alias table over all outcomes. */
+  private final AliasTable  outcomes;
+
+  /** Alias table over the shells of each element, or null if not known. */
+  private final AliasTable[] shells;
+
+  private MaterialModel(final List<E> elements, final int[] outcomeElement,
+      final int[] outcomeShell, final double[] cumulativeProbs,
+      final AliasTable[] shells) {
+    this.elements = elements;
+    this.outcomeElement = outcomeElement;
+    this.outcomeShell = outcomeShell;
+    this.outcomes = new AliasTable(cumulativeProbs);
+    this.shells = shells;
+  }
+
+  /**
+   * Compile a map of cumulative element probabilities, such as those
+   * returned by getPhotoElectricProbsElement() or getElasticProbs().
+   *
+   * @param cumulativeProbs
+   *          running sum of the probability of each element, in a
+   *          LinkedHashMap or SortedMap
+   * @return
+   *         model with one outcome per element
+   */
+  public static <E> MaterialModel<E> fromCumulative(
+      final Map<E, Double> cumulativeProbs) {
+    return fromCumulative(cumulativeProbs, null);
+  }
+
+  /**
+   * Compile a map of cumulative element probabilities together with the
+   * cumulative shell probabilities within each element, such as those
+   * calculated for photoelectric absorption.
+   *
+   * @param cumulativeProbs
+   *          running sum of the probability of each element, in a
+   *          LinkedHashMap or SortedMap
+   * @param cumulativeShellProbs
+   *          running sum of the probability of each shell, starting again
+   *          for every element, or null
+   * @return
+   *         model with one outcome per element
+   */
+  public static <E> MaterialModel<E> fromCumulative(
+      final Map<E, Double> cumulativeProbs,
+      final Map<E, double[]> cumulativeShellProbs) {
+    checkOrdered(cumulativeProbs);
+    int size = cumulativeProbs.size();
+    List<E> elements = new ArrayList<E>(size);
+    double[] probs = new double[size];
+    AliasTable[] shells = null;
+    if (cumulativeShellProbs != null) {
+      shells = new AliasTable[size];
+    }
+    int i = 0;
+    for (Map.Entry<E, Double> entry : cumulativeProbs.entrySet()) {
+      elements.add(entry.getKey());
+      probs[i] = entry.getValue();
+      if (shells != null) {
+        double[] shellProbs = cumulativeShellProbs.get(entry.getKey());
+        if (shellProbs != null) {
+          shells[i] = new AliasTable(shellProbs);
+        }
+      }
+      i++;
+    }
+    int[] outcomeElement = new int[size];
+    for (int j = 0; j < size; j++) {
+      outcomeElement[j] = j;
+    }
+    return new MaterialModel<E>(elements, outcomeElement, new int[size],
+        probs, shells);
+  }
+
+  /**
+   * Compile a map of shell probabilities that run on from one element to the
+   * next, such as those returned by getAllShellProbs(). Each outcome is one
+   * shell of one element.
+   *
+   * @param cumulativeShellProbs
+   *          running sum over all shells of all elements, in a LinkedHashMap
+   *          or SortedMap
+   * @return
+   *         model with one outcome per shell
+   */
+  public static <E> MaterialModel<E> fromCumulativeShells(
+      final Map<E, double[]> cumulativeShellProbs) {
+    checkOrdered(cumulativeShellProbs);
+    List<E> elements = new ArrayList<E>(cumulativeShellProbs.size());
+    int size = 0;
+    for (double[] shellProbs : cumulativeShellProbs.values()) {
+      size += shellProbs.length;
+    }
+    int[] outcomeElement = new int[size];
+    int[] outcomeShell = new int[size];
+    double[] probs = new double[size];
+    int outcome = 0;
+    for (Map.Entry<E, double[]> entry : cumulativeShellProbs.entrySet()) {
+      double[] shellProbs = entry.getValue();
+      for (int k = 0; k < shellProbs.length; k++) {
+        outcomeElement[outcome] = elements.size();
+        outcomeShell[outcome] = k;
+        probs[outcome] = shellProbs[k];
+        outcome++;
+      }
+      elements.add(entry.getKey());
+    }
+    return new MaterialModel<E>(elements, outcomeElement, outcomeShell, probs,
+        null);
+  }
+
+  /**
+   * Rejects maps without a defined iteration order, such as a HashMap. Their
+   * running sums could be read in another order than they were built in.
+   *
+   * @param cumulative
+   *          map of running sums
+   */
+  private static void checkOrdered(final Map<?, ?> cumulative) {
+    if (!(cumulative instanceof LinkedHashMap)
+        && !(cumulative instanceof SortedMap)) {
+      throw new IllegalArgumentException("Running sums need a map with a "
+          + "defined iteration order, not a "
+          + cumulative.getClass().getSimpleName());
+    }
+  }
+
+  /**
+   * Sample an outcome.
+   *
+   * @param random
+   *          uniform random number in [0, 1)
+   * @return
+   *         outcome, or -1 for a miss
+   */
+  public int sample(final double random) {
+    return outcomes.sample(random);
+  }
+
+  /**
+   * Returns the element of an outcome.
+   *
+   * @param outcome
+   *          outcome returned by sample()
+   * @return
+   *         element, or null for a miss
+   */
+  public E getElement(final int outcome) {
+    if (outcome < 0) {
+      return null;
+    }
+    return elements.get(outcomeElement[outcome]);
+  }
+
+  /**
+   * Returns the shell of an outcome.
+   *
+   * @param outcome
+   *          outcome returned by sample()
+   * @return
+   *         shell index, or -1 for a miss
+   */
+  public int getShell(final int outcome) {
+    if (outcome < 0) {
+      return -1;
+    }
+    return outcomeShell[outcome];
+  }
+
+  /**
+   * Sample a shell of the element of an outcome, for models compiled with
+   * shell probabilities within each element.
+   *
+   * @param outcome
+   *          outcome returned by sample()
+   * @param random
+   *          uniform random number in [0, 1)
+   * @return
+   *         shell index, or -1 for a miss
+   */
+  public int sampleShell(final int outcome, final double random) {
+    if (outcome < 0 || shells == null
+        || shells[outcomeElement[outcome]] == null) {
+      return -1;
+    }
+    return shells[outcomeElement[outcome]].sample(random);
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return
+   *         number of elements
+   */
+  public int getNumElements() {
+    return elements.size();
+  }
+
+  /**
+   * Returns the number of outcomes, not counting a miss.
+   *
+   * @return
+   *         number of outcomes
+   */
+  public int getNumOutcomes() {
+    return outcomeElement.length;
+  }
+
+  /**
+   * Returns the probability of an outcome.
+   *
+   * @param outcome
+   *          outcome, or -1 for a miss
+   * @return
+   *         probability
+   */
+  public double getProbability(final int outcome) {
+    return outcomes.getProbability(outcome);
+  }
+
+  /**
+   * Walker alias table over the outcomes of a running sum of probabilities.
+   */
+  private static final class AliasTable {
+    /** Probability of each outcome, the miss last. */
+    private final double[] probability;
+
+    /** Probability of keeping the column's own outcome. */
+    private final double[] keep;
+
+    /** Outcome replacing the column's own outcome otherwise. */
+    private final int[]    alias;
+
+    /** Number of columns, the outcomes plus one for a miss if any. */
+    private final int      columns;
+
+    /** Value returned for the miss column. */
+    private final int      miss;
+
+    /**
+     * Build the table. Outcome i is chosen when it is the first whose running
+     * sum exceeds the random number, so its probability is the amount by
+     * which it raises the largest running sum before it.
+     *
+     * @param cumulativeProbs
+     *          running sum of probabilities
+     */
+    AliasTable(final double[] cumulativeProbs) {
+      int n = cumulativeProbs.length;
+      probability = new double[n + 1];
+      double reached = 0;
+      for (int i = 0; i < n; i++) {
+        double sum = Math.min(1, cumulativeProbs[i]);
+        if (sum > reached) {
+          probability[i] = sum - reached;
+          reached = sum;
+        }
+      }
+      probability[n] = 1 - reached;
+      if (probability[n] > 0) {
+        columns = n + 1;
+      } else {
+        columns = Math.max(n, 1);
+      }
+      miss = n;
+
+      // Vose's construction: split columns into those below and above the
+      // average, and fill each small column up from a large one.
+      keep = new double[columns];
+      alias = new int[columns];
+      double[] scaled = new double[columns];
+      int[] small = new int[columns];
+      int[] large = new int[columns];
+      int numSmall = 0, numLarge = 0;
+      for (int i = 0; i < columns; i++) {
+        scaled[i] = probability[i] * columns;
+        alias[i] = i;
+        if (scaled[i] < 1) {
+          small[numSmall++] = i;
+        } else {
+          large[numLarge++] = i;
+        }
+      }
+      while (numSmall > 0 && numLarge > 0) {
+        int s = small[--numSmall];
+        int l = large[--numLarge];
+        keep[s] = scaled[s];
+        alias[s] = l;
+        scaled[l] = (scaled[l] + scaled[s]) - 1;
+        if (scaled[l] < 1) {
+          small[numSmall++] = l;
+        } else {
+          large[numLarge++] = l;
+        }
+      }
+      // what is left over differs from 1 by rounding only
+      while (numLarge > 0) {
+        keep[large[--numLarge]] = 1;
+      }
+      while (numSmall > 0) {
+        keep[small[--numSmall]] = 1;
+      }
+    }
+
+    int sample(final double random) {
+      double column = random * columns;
+      int i = Math.min((int) column, columns - 1);
+      int outcome = i;
+      if (column - i >= keep[i]) {
+        outcome = alias[i];
+      }
+      if (outcome == miss) {
+        return -1;
+      }
+      return outcome;
+    }
+
+    double getProbability(final int outcome) {
+      if (outcome < 0) {
+        return probability[miss];
+      }
+      return probability[outcome];
+    }
+  }
+}
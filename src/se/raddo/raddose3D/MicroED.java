@@ -2,14 +2,9 @@ package se.raddo.raddose3D;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.FileNotFoundException;
 import java.io.OutputStreamWriter;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -31,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -38,7 +34,7 @@ import java.util.TreeMap;
 
 
 
-public class MicroED {
+public class MicroED implements Cloneable {
   private int hit;
   //polyhderon variables
   public double[][] verticesEM;
@@ -63,15 +59,29 @@ public class MicroED {
    * Should have same no. of entries as the indices array.
    */
   private double[][]            normals, rotatedNormals;
-  
-  private TreeMap<Double, double[]>[]  lowEnergyAngles;
-  private TreeMap<Double, double[]>[]  highEnergyAngles;
 
   /**
    * Distances from origin for each of the triangle planes.
    * Should have same no. of entries as the indices array.
    */
   private double[]              originDistances, rotatedOriginDistances;
+
+  /**
+   * Triangles of the crystal, for ray queries. Updated together with the
+   * normals.
+   */
+  private TriangleMesh          mesh;
+
+  /**
+   * Voxelised crystal shared by all workers, or null where the exact ray
+   * cast has to be used.
+   */
+  private OccupancyGrid         crystalGrid;
+
+  /**
+   * Margin in um added to steps compared with the distance to the surface.
+   */
+  private static final double   SURFACE_MARGIN = 1E-5;
   
   
   public double crystalSurfaceArea;  //A^2
@@ -91,6 +101,9 @@ public class MicroED {
   
   private double doseOutput;
   private double gosDoseOutput;
+
+  /** Results of the simulation, in the order of the csv columns. */
+  private final Map<String, Double> results = new LinkedHashMap<String, Double>();
   
   private double numberElastic;
   private double numberSingleElastic;
@@ -201,9 +214,25 @@ public class MicroED {
   
   
   
+  /** Root of the random number streams, one substream per simulated electron. */
+  private final RandomStream randomStreams;
+  /** Random number stream of the electron currently being simulated. */
+  private RandomStream random;
+
+  /** Write the csv files of the simulation. */
+  private boolean writeFiles = true;
+  /**
+   * Prefix of the csv files written by the simulation, or null for the
+   * legacy file names in the working directory.
+   */
+  private String outputPrefix;
+  
   @SuppressWarnings("unchecked")
   public MicroED(double vertices[][], int[][] indices, double[][][][] crystCoord, 
-                  double crystalPixPerUM, int[] crystSizeVoxels, boolean[][][][] crystOcc, String crystalType) {
+                  double crystalPixPerUM, int[] crystSizeVoxels, boolean[][][][] crystOcc, String crystalType,
+                  RandomStream randomStreams) {
+    this.randomStreams = randomStreams;
+    random = randomStreams;
     verticesEM = vertices;
     indicesEM = indices;
     crystCoordEM = crystCoord;
@@ -234,9 +263,6 @@ public class MicroED {
     //note the volume would need to be updated for a polyhedron!!! - currently just a cube or cylinder 
     //although it isn't used
     
-    lowEnergyAngles = new TreeMap[95];
-    highEnergyAngles = new TreeMap[95];
-    
     //initialise voxel dose and charge
     int[] maxVoxel = getMaxPixelCoordinates();
     voxelCharge = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]];
@@ -331,14 +357,66 @@ public class MicroED {
     System.out.println("\nCharge buildup: " + MonteCarloCharge);
     System.out.println("Charge density " + MonteCarloChargeDensity);
     
+    results.put("beam_en", beam.getPhotonEnergy());
+    results.put("numSimulated", (double) numSimulatedElectrons);
+    results.put("dose", doseOutput);
+    results.put("gosDose", gosDoseOutput);
+    results.put("Productive", MonteCarloProductive);
+    results.put("Unproductive", MonteCarloUnproductiveMicroED);
     try {
-      WriterFile("outputMicroED.CSV", dose4[0], beam);
+      WriterFile(getOutputFile("outputMicroED.CSV", "MicroED.csv"), dose4[0], beam);
     } catch (IOException e) {
       // TODO Auto-generated catch block
       e.printStackTrace();
     }
-    System.exit(0);
   }
+
+  /**
+   * Sets where the csv files of the simulation are written. Without a prefix
+   * the legacy file names in the working directory are used, which
+   * concurrent simulations would overwrite.
+   *
+   * @param write
+   *          write the csv files at all
+   * @param prefix
+   *          output file prefix, or null
+   */
+  public void setOutputFiles(final boolean write, final String prefix) {
+    writeFiles = write;
+    outputPrefix = prefix;
+  }
+
+  /**
+   * Returns the file a csv output of the simulation is written to.
+   *
+   * @param legacyName
+   *          file name used without a prefix
+   * @param name
+   *          file name appended to the prefix
+   * @return
+   *         file name, or null if no files are written
+   */
+  private String getOutputFile(final String legacyName, final String name) {
+    if (!writeFiles) {
+      return null;
+    }
+    if (outputPrefix == null) {
+      return legacyName;
+    }
+    return outputPrefix + name;
+  }
+
+  /**
+   * Returns the results of the simulation, keyed by the column names of the
+   * csv output. Empty until the simulation has run.
+   *
+   * @return
+   *         results in the order of the csv columns
+   */
+  public Map<String, Double> getResults() {
+    return results;
+  }
+
   
   private double getWavelength(Beam beam) {
     double h = 6.626070040E-34;
@@ -576,6 +654,9 @@ private double getExposedY(Beam beam) {
 }
 
 private void WriterFile(final String filename, final double dose4, Beam beam) throws IOException {
+  if (filename == null) {
+    return;
+  }
   BufferedWriter outFile;
   outFile = new BufferedWriter(new OutputStreamWriter(
       new FileOutputStream(filename), "UTF-8"));
@@ -597,6 +678,9 @@ private void WriterFile(final String filename, final double dose4, Beam beam) th
 }
 
 private void writeDoseCSV(final String filename) throws IOException {
+  if (filename == null) {
+    return;
+  }
   BufferedWriter outFile;
   outFile = new BufferedWriter(new OutputStreamWriter(
       new FileOutputStream(filename), "UTF-8"));
@@ -626,7 +710,10 @@ private void writeDoseCSV(final String filename) throws IOException {
 }
 
 private void writeAngleCSV(HashMap<Double, Double> EnAngles, double startEn, ArrayList<Double> inelAngles) throws IOException{
-  String filename = "OutputAngles.csv";
+  String filename = getOutputFile("OutputAngles.csv", "Angles.csv");
+  if (filename == null) {
+    return;
+  }
   BufferedWriter outFile;
   outFile = new BufferedWriter(new OutputStreamWriter(
       new FileOutputStream(filename), "UTF-8"));
@@ -793,19 +880,82 @@ private double getESTARDose(CoefCalc coefCalc, Beam beam) {
 }
 
 // Everything below will be the Monte Carlo section of the code
-private void startMonteCarlo(CoefCalc coefCalc, Beam beam) {
- // boolean GOS = true;
-  int triggered = 0; //testing
-  int thisTriggered = 0; //testing
-  
+private void startMonteCarlo(final CoefCalc coefCalc, final Beam beam) {
   //get number of electrons to simulate
   long numSim = coefCalc.getNumberSimulatedElectrons();
   if (numSim == 0) {
     numSim = NUM_MONTE_CARLO_ELECTRONS;
-    numSim = 10000;
   }
   numSimulatedElectrons = numSim;
   
+  //set up the crystal once rather than in every worker
+  if (normals == null) {
+    calculateNormals(false);
+  }
+  crystalGrid = new OccupancyGrid(verticesEM, indicesEM);
+  inelEnAngle = new HashMap<Double, Double>();
+  
+  //tabulate the electron interaction data up to the beam energy
+  coefCalc.populateCrossSectionCoefficients();
+  coefCalc.tabulateElectronPhysics(beam.getPhotonEnergy());
+  if (GOS == true) {
+    coefCalc.tabulateGOSInelastic(beam.getPhotonEnergy());
+  }
+  
+  //simulate the electrons in batches, each on a private copy of this object
+  final MicroED template = newWorker();
+  ParallelSimulation.run(numSimulatedElectrons, new ParallelSimulation.Batch<MicroED>() {
+    private double lastProgress = 0;
+    
+    @Override
+    public MicroED simulate(long first, long end) {
+      MicroED worker = template.newWorker();
+      worker.simulateElectrons(coefCalc.copy(), beam, (int) first, (int) end);
+      return worker;
+    }
+    
+    @Override
+    public void merge(MicroED worker, long end) {
+      addTallies(worker);
+      double progress = ((double) end)/numSimulatedElectrons;
+      if (progress - lastProgress >= 0.05 && end < numSimulatedElectrons) {
+        lastProgress = progress;
+        System.out.print((int)(progress*100) + "% ");
+      }
+    }
+  });
+  
+  //Will need to do something about exiting the correct plane here
+
+  //Will also need to add in inel scattering here for productive (and then FSE stuff)
+   System.out.print(MonteCarloElectronsExited);
+   totBreakdownEnergy = totFSEEnergy + totShellEnergy + totPlasmonEnergy;
+   FSEsum = FSEsum/FSEcount;
+   double fraction = newMonteCarloFSEEscape/MonteCarloDose;
+   double fraction2 = newMonteCarloFSEEscape/totFSEEnergy;
+   //MonteCarloDose -= MonteCarloFSEEscape;
+   //MonteCarloDose -= newMonteCarloFSEEscape;
+   //MonteCarloDose -= MonteCarloAugerEscape;
+   //MonteCarloDose -= MonteCarloFlEscape;
+   //MonteCarloDose += MonteCarloAugerEntry;
+  // MonteCarloDose += MonteCarloFSEEntry;
+   
+   
+}
+
+/**
+ * Simulate a range of electrons, adding to the tallies of this object.
+ * 
+ * @param coefCalc coefficients, not shared with any other thread
+ * @param beam
+ * @param first index of the first electron
+ * @param end index after the last electron
+ */
+private void simulateElectrons(CoefCalc coefCalc, Beam beam, int first, int end) {
+ // boolean GOS = true;
+  int triggered = 0; //testing
+  int thisTriggered = 0; //testing
+  
   
   //set up for one electron to start with and then test how many needed to get little deviation and then scale up
   int numberBackscattered = 0;
@@ -816,17 +966,16 @@ private void startMonteCarlo(CoefCalc coefCalc, Beam beam) {
   double startingEnergy = beam.getPhotonEnergy();
   double startingStoppingPower = coefCalc.getStoppingPower(startingEnergy, false);
   double startingLambda_el = coefCalc.getElectronElasticMFPL(startingEnergy, false);
-  Map<ElementEM, Double> elasticProbs = coefCalc.getElasticProbs(false);
+  MaterialModel<ElementEM> elasticModel = coefCalc.getElasticModel(false);
   
   //the FSE stuff 
   double startingFSExSection = getFSEXSection(startingEnergy);
   double startingFSELambda = coefCalc.getFSELambda(startingFSExSection, false);
   
   //Inner shell ionisation x section
-  coefCalc.populateCrossSectionCoefficients();
   double startingInnerShellLambda = coefCalc.betheIonisationxSection(startingEnergy, false);
  // Map<Element, Double> ionisationProbs = coefCalc.getInnerShellProbs(); //Really need to make sure that these are in the same order
-  Map<Element, double[]> ionisationProbs = coefCalc.getAllShellProbs(false); //Really need to make sure that these are in the same order
+  MaterialModel<Element> shellModel = coefCalc.getShellModel(false); //Really need to make sure that these are in the same order
   
   //plasmon stuff
   
@@ -856,8 +1005,8 @@ private void startMonteCarlo(CoefCalc coefCalc, Beam beam) {
   
   //tot inelastic
   double startingInelasticLambda = coefCalc.getElectronInelasticMFPL(startingEnergy, false);
-  Map<ElementEM, Double> elasticProbsSurrounding = null;
-  Map<Element, double[]> ionisationProbsSurrounding = null;
+  MaterialModel<ElementEM> elasticModelSurrounding = null;
+  MaterialModel<Element> shellModelSurrounding = null;
   Map<Element, double[]> gosIonisationProbsSur = null;
   Map<Element, Double> gosOuterIonisationProbsSur = null;
   //now do all of the starting stuff again for electrons in the surrounding 
@@ -868,14 +1017,14 @@ private void startMonteCarlo(CoefCalc coefCalc, Beam beam) {
     startingStoppingPowerSurrounding = coefCalc.getStoppingPower(startingEnergy, true);
     //elastic
     startingLambda_elSurrounding = coefCalc.getElectronElasticMFPL(startingEnergy, true);
-    elasticProbsSurrounding = coefCalc.getElasticProbs(true);
+    elasticModelSurrounding = coefCalc.getElasticModel(true);
     //total inelastic
     startingInelasticLambdaSurrounding = coefCalc.getElectronInelasticMFPL(startingEnergy, true); 
     //FSE stuff
     startingFSELambdaSurrounding = coefCalc.getFSELambda(startingFSExSection, true); //xSection per electron is the same
     //inner shell ionisation
     startingInnershellLambdaSurrounding = coefCalc.betheIonisationxSection(startingEnergy, true);
-    ionisationProbsSurrounding = coefCalc.getAllShellProbs(true);
+    shellModelSurrounding = coefCalc.getShellModel(true);
     if (GOS == true) {
     gosInelasticLambdaSur = coefCalc.getGOSInel(true, startingEnergy);
     gosInnerLambdaSur  = coefCalc.getGOSInnerLambda(true);
@@ -897,15 +1046,10 @@ private void startMonteCarlo(CoefCalc coefCalc, Beam beam) {
   
   //test ELSEPA
  // startingLambda = 236;
-  double progress = 0, lastProgress = 0;
-  inelEnAngle = new HashMap<Double, Double>();
-  for (int i = 0; i < numSimulatedElectrons; i++) { //for every electron to simulate
+  for (int i = first; i < end; i++) { //for every electron to simulate
+    random = randomStreams.substream(i);
+    coefCalc.setRandomStream(random);
     simNumber = i;
-    progress = ((double)i)/numSimulatedElectrons;
-    if (progress - lastProgress >= 0.05) {
-      lastProgress = progress;
-      System.out.print((int)(progress*100) + "% ");
-    }
     //position stuff first
     
     //Need to change these to a uniform beam
@@ -921,12 +1065,12 @@ private void startMonteCarlo(CoefCalc coefCalc, Beam beam) {
     double previousZ = (-ZDimension/2)-aboveThickness;  //dodgy if specimen not flat - change for concave holes
     
     //position
-    double RNDx = Math.random();
+    double RNDx = random.nextDouble();
     double beamX = beam.getBeamX()*1000;
     previousX = (RNDx * XDimension) - (XDimension/2); //places on sample
     previousX = (0.99*RNDx * beamX) - (beamX/2); //places in beam area
     
-    double RNDy = Math.random();
+    double RNDy = random.nextDouble();
     double beamY = beam.getBeamY()*1000;
     previousY = (RNDy * YDimension) - (YDimension/2);
     if (beam.getIsCircular()) {   //reduce Y limits so you can't put it out of the circle / ellipse
@@ -944,14 +1088,14 @@ private void startMonteCarlo(CoefCalc coefCalc, Beam beam) {
     if (beam.getIsCircular()) { 
       //just do for a circle for now, choose polar coordinates and convert to cartesian
       double r = (beamX/2);
-      double u = Math.random()+Math.random();
+      double u = random.nextDouble()+random.nextDouble();
       if (u > 1) {
         r = r* (2-u);
       }
       else {
         r = r*u;
       }
-      double polarAngle = Math.random()*2*Math.PI;
+      double polarAngle = random.nextDouble()*2*Math.PI;
       previousX = r*Math.cos(polarAngle);
       previousY = r*Math.sin(polarAngle);
     }
@@ -1034,12 +1178,17 @@ private void startMonteCarlo(CoefCalc coefCalc, Beam beam) {
     }
     }
     Pfse = startingInelasticLambdaSurrounding/startingFSELambdaSurrounding;
-    double testRND = Math.random();
+    double testRND = random.nextDouble();
     s = -lambdaT*Math.log(testRND);
     // I need to check if it's going to intersect and what the distance is
-    double intersectionDistance = 1000*getIntersectionDistance(previousX, previousY, previousZ, xNorm, yNorm, zNorm);
-    double[] intersectionPoint = getIntersectionPoint(intersectionDistance, previousX, previousY, previousZ, xNorm, yNorm, zNorm);
-    boolean pointInCrystal = isIntersectionInCrystal(intersectionPoint);
+    double intersectionDistance = Double.POSITIVE_INFINITY;
+    double[] intersectionPoint = null;
+    boolean pointInCrystal = false;
+    if (mayEnterCrystal(previousX, previousY, previousZ, s)) {
+      intersectionDistance = 1000*getIntersectionDistance(previousX, previousY, previousZ, xNorm, yNorm, zNorm);
+      intersectionPoint = getIntersectionPoint(intersectionDistance, previousX, previousY, previousZ, xNorm, yNorm, zNorm);
+      pointInCrystal = isIntersectionInCrystal(intersectionPoint);
+    }
     if (intersectionDistance < s && pointInCrystal == true) { //then need to change region here and reset stuff
       surrounding = false;
       entered = true;
@@ -1092,7 +1241,7 @@ if (GOS == true) {
   // double PinnerShell = startingFSELambda/(startingInnerShellLambda + startingFSELambda); //this is not making sense, it's all innner shell now
   //  Pfse = startingInelasticLambda/startingFSELambda;
     Pfse = 1;
-    double testRND = Math.random();
+    double testRND = random.nextDouble();
     s = -lambdaT*Math.log(testRND);
     //now I'm going to go through the coordinates
   
@@ -1146,7 +1295,7 @@ if (GOS == true) {
     //add an elastic collision
 
     //Determining if the scattering event was inelastic or elastic 
-    double RNDscatter = Math.random();
+    double RNDscatter = random.nextDouble();
 //    RNDscatter = 0; // test
  //   double phi = 0, cosPhi = 1, psi = 0, AN = 0, AM = 0, V1 = 0, V2 = 0, V3 = 0, V4 = 0;
     
@@ -1155,21 +1304,21 @@ if (GOS == true) {
       inelastic = true;
       /*
       //if plasmon do plasmon
-      double RNDplasmon = Math.random();
+      double RNDplasmon = random.nextDouble();
       if (RNDplasmon > Pplasmon) {
         theta = 0;
         totPlasmonEnergy += plasmaEnergy;
       }
       */
       //if no secondary elecrton produced (other type of inelastic interaction such as a plasmon)
-      double RNDFSE = Math.random();
+      double RNDFSE = random.nextDouble();
    //   if (RNDFSE > Pfse) { //this was another interaction
    //     theta = 0;
    //   }
     //  else {
       //else produce an FSE
       triggered += 1;
-      theta = doPrimaryInelastic(coefCalc, previousX, previousY, previousZ, electronEnergy, ionisationProbs, false, beam, i, previousTheta, previousPhi, Pinner, gosOuterIonisationProbs, entered, xNorm, yNorm, zNorm);
+      theta = doPrimaryInelastic(coefCalc, previousX, previousY, previousZ, electronEnergy, shellModel, false, beam, i, previousTheta, previousPhi, Pinner, gosOuterIonisationProbs, entered, xNorm, yNorm, zNorm);
     //  inelAngleSum += theta;
     //  inelAngleCount += 1;
      // inelAngles.add(theta);
@@ -1185,8 +1334,8 @@ if (GOS == true) {
       
       //reupdate elastic probs because Monte carlo seconadry may have messed it up
       double fix = coefCalc.getElectronElasticMFPL(electronEnergy, false);
-      elasticProbs = coefCalc.getElasticProbs(false);
-      theta = doPrimaryElastic(electronEnergy, elasticProbs, false, coefCalc);
+      elasticModel = coefCalc.getElasticModel(false);
+      theta = doPrimaryElastic(electronEnergy, elasticModel, false, coefCalc);
       if (scatteredSolvent == false) {
         scatteredMacro += 1;
       }
@@ -1196,7 +1345,7 @@ if (GOS == true) {
     }
     //now further update the primary
     /*
-    phi =  2 * Math.PI * Math.random();
+    phi =  2 * Math.PI * random.nextDouble();
     theta = previousTheta + theta;
     if (theta >= (2 * Math.PI)) {
       theta -= 2*Math.PI;
@@ -1255,7 +1404,7 @@ if (GOS == true) {
       
       lambdaT = 1 / (1/lambdaEl + 1/gosInelasticLambda);
       }
-      s = -lambdaT*Math.log(Math.random());
+      s = -lambdaT*Math.log(random.nextDouble());
       PEL = lambdaT / lambdaEl;
       Pinel = 1 - (lambdaT / lambdaEl);
      // Pfse = lambdaInel / FSELambda;
@@ -1268,8 +1417,8 @@ if (GOS == true) {
  //     Pplasmon = plasmonLambda/ (FSELambda + plasmonLambda); 
  //     PinnerShell = FSELambda/(innerShellLambda + FSELambda);
       
-      ionisationProbs = coefCalc.getAllShellProbs(false);
-      elasticProbs = coefCalc.getElasticProbs(false);
+      shellModel = coefCalc.getShellModel(false);
+      elasticModel = coefCalc.getElasticModel(false);
       
       //update to new position
       xn = previousX + s * xNorm;
@@ -1316,7 +1465,7 @@ if (GOS == true) {
         //update dose and energy and stoppingPower
         energyLost = s * stoppingPower;
         
-        double RNDscatter = Math.random();
+        double RNDscatter = random.nextDouble();
 //      RNDscatter = 0; // test
    //   double phi = 0, cosPhi = 1, psi = 0, AN = 0, AM = 0, V1 = 0, V2 = 0, V3 = 0, V4 = 0;
       
@@ -1325,21 +1474,21 @@ if (GOS == true) {
         inelastic = true;
         /*
         //if plasmon do plasmon
-        double RNDplasmon = Math.random();
+        double RNDplasmon = random.nextDouble();
         if (RNDplasmon > Pplasmon) {
           theta = 0;
           totPlasmonEnergy += plasmaEnergy;
         }
         */
         //if no secondary elecrton produced (other type of inelastic interaction such as a plasmon)
-        double RNDFSE = Math.random();
+        double RNDFSE = random.nextDouble();
     //    if (RNDFSE > Pfse) { //this was another interaction
     //      theta = 0;
     //    }
      //   else {
         //else produce an FSE
         triggered += 1;
-        theta = doPrimaryInelastic(coefCalc, previousX, previousY, previousZ, electronEnergy, ionisationProbsSurrounding, true, beam, i, previousTheta, previousPhi, Pinner, gosOuterIonisationProbsSur, entered, xNorm, yNorm, zNorm);
+        theta = doPrimaryInelastic(coefCalc, previousX, previousY, previousZ, electronEnergy, shellModelSurrounding, true, beam, i, previousTheta, previousPhi, Pinner, gosOuterIonisationProbsSur, entered, xNorm, yNorm, zNorm);
         if (GOS == true) {
           electronEnergy -= energyLostGOS;
         }
@@ -1350,13 +1499,13 @@ if (GOS == true) {
         timesScattered += 1;
         MonteCarloTotElasticCount += 1;
         double fix = coefCalc.getElectronElasticMFPL(electronEnergy, true);
-        elasticProbsSurrounding = coefCalc.getElasticProbs(true);
-        theta = doPrimaryElastic(electronEnergy, elasticProbsSurrounding, true, coefCalc);
+        elasticModelSurrounding = coefCalc.getElasticModel(true);
+        theta = doPrimaryElastic(electronEnergy, elasticModelSurrounding, true, coefCalc);
         scatteredSol += 1;
       }
       //now further update the primary
       /*
-      phi =  2 * Math.PI * Math.random();
+      phi =  2 * Math.PI * random.nextDouble();
       theta = previousTheta + theta;
       if (theta >= (2 * Math.PI)) {
         theta -= 2*Math.PI;
@@ -1413,22 +1562,27 @@ if (GOS == true) {
    //     lambdaT =  1 / (1/lambdaEl + 1/innerShellLambda + 1/FSELambda);
    //     lambdaT =  1 / (1/lambdaEl);
       
-        s = -lambdaT*Math.log(Math.random());
+        s = -lambdaT*Math.log(random.nextDouble());
 
    //     Pplasmon = plasmonLambda/ (FSELambda + plasmonLambda); 
    //     PinnerShell = FSELambda/(innerShellLambda + FSELambda);
         
-        ionisationProbsSurrounding = coefCalc.getAllShellProbs(true);
-        elasticProbsSurrounding = coefCalc.getElasticProbs(true);
+        shellModelSurrounding = coefCalc.getShellModel(true);
+        elasticModelSurrounding = coefCalc.getElasticModel(true);
         if (GOS == true) {
         if (innerShellLambdaSurrounding > 0) {
           Pinner = gosInelasticLambdaSur / innerShellLambdaSurrounding;
         }
         }
         //need to check if it crosses before it reaches s again and if it does update to this point
-        double intersectionDistance = 1000*getIntersectionDistance(previousX, previousY, previousZ, xNorm, yNorm, zNorm);
-        double[] intersectionPoint = getIntersectionPoint(intersectionDistance, previousX, previousY, previousZ, xNorm, yNorm, zNorm);
-        boolean pointInCrystal = isIntersectionInCrystal(intersectionPoint);
+        double intersectionDistance = Double.POSITIVE_INFINITY;
+        double[] intersectionPoint = null;
+        boolean pointInCrystal = false;
+        if (mayEnterCrystal(previousX, previousY, previousZ, s)) {
+          intersectionDistance = 1000*getIntersectionDistance(previousX, previousY, previousZ, xNorm, yNorm, zNorm);
+          intersectionPoint = getIntersectionPoint(intersectionDistance, previousX, previousY, previousZ, xNorm, yNorm, zNorm);
+          pointInCrystal = isIntersectionInCrystal(intersectionPoint);
+        }
         if (intersectionDistance < s && pointInCrystal == true) { //then need to change region here and reset stuff
           surrounding = false;
           entered = true;
@@ -1462,14 +1616,14 @@ if (GOS == true) {
           if (GOS == true) {
           lambdaT = 1 / (1/lambdaEl + 1/gosInelasticLambda);
           }
-          s = -lambdaT*Math.log(Math.random());
+          s = -lambdaT*Math.log(random.nextDouble());
           if (GOS == true) {
           if (innerShellLambda > 0) {
             Pinner = gosInelasticLambda / innerShellLambda;
           }
           }
-          ionisationProbs = coefCalc.getAllShellProbs(false);
-          elasticProbs = coefCalc.getElasticProbs(false);
+          shellModel = coefCalc.getShellModel(false);
+          elasticModel = coefCalc.getElasticModel(false);
           
         }
         
@@ -1547,35 +1701,98 @@ if (GOS == true) {
   
   
   } //end looping through electrons
-  
-  //Will need to do something about exiting the correct plane here
+}
 
-  //Will also need to add in inel scattering here for productive (and then FSE stuff)
-   System.out.print(MonteCarloElectronsExited);
-   totBreakdownEnergy = totFSEEnergy + totShellEnergy + totPlasmonEnergy;
-   FSEsum = FSEsum/FSEcount;
-   double fraction = newMonteCarloFSEEscape/MonteCarloDose;
-   double fraction2 = newMonteCarloFSEEscape/totFSEEnergy;
-   //MonteCarloDose -= MonteCarloFSEEscape;
-   //MonteCarloDose -= newMonteCarloFSEEscape;
-   //MonteCarloDose -= MonteCarloAugerEscape;
-   //MonteCarloDose -= MonteCarloFlEscape;
-   //MonteCarloDose += MonteCarloAugerEntry;
-  // MonteCarloDose += MonteCarloFSEEntry;
-   
-   
+/**
+ * Returns a copy of this object with empty tallies, to simulate a batch of
+ * electrons on another thread. Geometry and beam settings are shared with
+ * this object and must not be modified while workers run.
+ * 
+ * @return worker with empty tallies
+ */
+private MicroED newWorker() {
+  MicroED worker;
+  try {
+    worker = (MicroED) clone();
+  } catch (CloneNotSupportedException e) {
+    throw new IllegalStateException(e);
+  }
+  int[] maxVoxel = getMaxPixelCoordinates();
+  worker.voxelCharge = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]];
+  worker.voxelDose = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]];
+  worker.regionDose = new double[NUM_REGIONS];
+  worker.inelAngles = new ArrayList<Double>();
+  worker.inelEnAngle = new HashMap<Double, Double>();
+  return worker;
 }
 
-private int findIfElementIonised(Element e, Map<Element, double[]> ionisationProbs, double elementRND) {
-  double[] elementShellProbs = ionisationProbs.get(e);
-  int shell = -1;
-  for (int k = 0; k < elementShellProbs.length; k++) {
-    if (elementShellProbs[k] > elementRND) { //Then this element is the one that was ionised
-      shell = k;
-      break;
+/**
+ * Add the tallies of a worker to the tallies of this object.
+ * 
+ * @param worker worker that simulated a batch of electrons
+ */
+private void addTallies(MicroED worker) {
+  hit += worker.hit;
+  MonteCarloDose += worker.MonteCarloDose;
+  MonteCarloImageDose += worker.MonteCarloImageDose;
+  MonteCarloTotElasticCount += worker.MonteCarloTotElasticCount;
+  MonteCarloSingleElasticCount += worker.MonteCarloSingleElasticCount;
+  MonteCarloFSEEscape += worker.MonteCarloFSEEscape;
+  MonteCarloFSEEntry += worker.MonteCarloFSEEntry;
+  MonteCarloFlEscape += worker.MonteCarloFlEscape;
+  MonteCarloAugerEscape += worker.MonteCarloAugerEscape;
+  MonteCarloAugerEntry += worker.MonteCarloAugerEntry;
+  MonteCarloProductive += worker.MonteCarloProductive;
+  MonteCarloProductiveSolvent += worker.MonteCarloProductiveSolvent;
+  MonteCarloUnproductive += worker.MonteCarloUnproductive;
+  MonteCarloUnproductiveMicroED += worker.MonteCarloUnproductiveMicroED;
+  MonteCarloUnproductiveMicroEDSolvent += worker.MonteCarloUnproductiveMicroEDSolvent;
+  extraFlEscape += worker.extraFlEscape;
+  extraAugerEscape += worker.extraAugerEscape;
+  newMonteCarloFSEEscape += worker.newMonteCarloFSEEscape;
+  FSEsum += worker.FSEsum;
+  FSEcount += worker.FSEcount;
+  lowEnDose += worker.lowEnDose;
+  MonteCarloElectronsExited += worker.MonteCarloElectronsExited;
+  MonteCarloElectronsEntered += worker.MonteCarloElectronsEntered;
+  MonteCarloCharge += worker.MonteCarloCharge;
+  elasticEnergyTot += worker.elasticEnergyTot;
+  displacementEnergy += worker.displacementEnergy;
+  totFSEEnergy += worker.totFSEEnergy;
+  totAugerEnergy += worker.totAugerEnergy;
+  totShellEnergy += worker.totShellEnergy;
+  totPlasmonEnergy += worker.totPlasmonEnergy;
+  avgDist += worker.avgDist;
+  numAuger += worker.numAuger;
+  numFL += worker.numFL;
+  numFSEFromSurr += worker.numFSEFromSurr;
+  numFSEFromSample += worker.numFSEFromSample;
+  MonteCarloGOSDose += worker.MonteCarloGOSDose;
+  energyLostGOS += worker.energyLostGOS;
+  GOSImageDose += worker.GOSImageDose;
+  totImageSecEnergy += worker.totImageSecEnergy;
+  imageSecDeposited += worker.imageSecDeposited;
+  imageEntry += worker.imageEntry;
+  gosSurroundingElastic += worker.gosSurroundingElastic;
+  gosSurroundingElasticImage += worker.gosSurroundingElasticImage;
+  avgW += worker.avgW;
+  Wcount += worker.Wcount;
+  avgShell += worker.avgShell;
+  
+  for (int i = 0; i < voxelDose.length; i++) {
+    for (int j = 0; j < voxelDose[i].length; j++) {
+      for (int k = 0; k < voxelDose[i][j].length; k++) {
+        voxelDose[i][j][k] += worker.voxelDose[i][j][k];
+        voxelCharge[i][j][k] += worker.voxelCharge[i][j][k];
+      }
     }
   }
-  return shell;
+  for (int i = 0; i < NUM_REGIONS; i++) {
+    regionDose[i] += worker.regionDose[i];
+  }
+  //in electron order, so later electrons overwrite earlier ones as before
+  inelAngles.addAll(worker.inelAngles);
+  inelEnAngle.putAll(worker.inelEnAngle);
 }
 
 private double[] processMonteCarloDose(Beam beam, CoefCalc coefCalc) {
@@ -1689,7 +1906,7 @@ private double[] processMonteCarloDose(Beam beam, CoefCalc coefCalc) {
   }
   //write a csv file
   try {
-    writeDoseCSV("outputVoxDose.CSV");
+    writeDoseCSV(getOutputFile("outputVoxDose.CSV", "VoxDose.csv"));
   } catch (IOException e) {
     // TODO Auto-generated catch block
     e.printStackTrace();
@@ -1917,7 +2134,7 @@ private double getShellBindingEnergy(Element collidedElement, int collidedShell)
 }
 
 private double doPrimaryInelastic(CoefCalc coefCalc, double previousX, double previousY, double previousZ, 
-                                  double electronEnergy, Map<Element, double[]> ionisationProbs, boolean surrounding, Beam beam, int i,
+                                  double electronEnergy, MaterialModel<Element> shellModel, boolean surrounding, Beam beam, int i,
                                   double previousTheta, double previousPhi, double Pinner,  Map<Element, Double> gosOuterIonisationProbs, boolean entered,
                                   double xNorm, double yNorm, double zNorm) {
  //I'm now going to change thi for the GOS model
@@ -1929,22 +2146,18 @@ private double doPrimaryInelastic(CoefCalc coefCalc, double previousX, double pr
   Element collidedElement = null;
   int collidedShell = -1;
   //did this come from an inner shell?
-  double RNDinnerShell = Math.random();
+  double RNDinnerShell = random.nextDouble();
 //    if (RNDinnerShell < PinnerShell) {  //they're all going to be coming from inner shells now
     //Then this secondary electron came from an inner shell
    // innerShell = true;
     //determine which elemental shell it came from
-    double elementRND = Math.random();
+    double elementRND = random.nextDouble();
     boolean plasmon = false;
     if (GOS == true) {
     if (RNDinnerShell < Pinner) {
-      for (Element e : ionisationProbs.keySet()) {
-        collidedShell = findIfElementIonised(e, ionisationProbs, elementRND);
-        if (collidedShell >= 0) {
-          collidedElement = e;
-          break;
-        }
-      }
+      int ionised = shellModel.sample(elementRND);
+      collidedElement = shellModel.getElement(ionised);
+      collidedShell = shellModel.getShell(ionised);
     }
     else { //outer shell
       for (Element e : gosOuterIonisationProbs.keySet()) {
@@ -2001,7 +2214,7 @@ private double doPrimaryInelastic(CoefCalc coefCalc, double previousX, double pr
       else {
         W = getEnergyLossDistant(Wdis, Uk)/1000; //in keV  
       }
-      Q = coefCalc.getRecoilEnergyDistant(electronEnergy, Wak, Qak); //J
+      Q = coefCalc.getRecoilEnergyDistant(electronEnergy, Wak, Qak, random.nextDouble()); //J
       //get theta (new to add on to previous)
       if (type == 1) {
         //transverse
@@ -2046,7 +2259,7 @@ private double doPrimaryInelastic(CoefCalc coefCalc, double previousX, double pr
         }
         /*
         //get phi
-        SEPhi = 2 * Math.PI * Math.random();
+        SEPhi = 2 * Math.PI * random.nextDouble();
         SEPhi = SEPreviousPhi + SEPhi;
         if (SEPhi >= (2 * Math.PI)) {
           SEPhi -= 2*Math.PI;
@@ -2160,7 +2373,7 @@ private double doPrimaryInelastic(CoefCalc coefCalc, double previousX, double pr
     sinSquaredGamma = 2*(1-epsilon) / (2 + tFSE*epsilon); 
   
   FSEtheta = Math.asin(Math.pow(sinSquaredGamma, 0.5));
-  FSEphi = 2 * Math.PI * Math.random();
+  FSEphi = 2 * Math.PI * random.nextDouble();
   
   
   FSEtheta = FSEpreviousTheta + FSEtheta;
@@ -2231,7 +2444,7 @@ private double doPrimaryInelastic(CoefCalc coefCalc, double previousX, double pr
   */
  // theta = Math.asin(Math.pow(sinSquaredAlpha, 0.5));
   /* not needed as done later
-  phi = 2 * Math.PI * Math.random();
+  phi = 2 * Math.PI * random.nextDouble();
   
   
   theta = previousTheta + theta;
@@ -2250,22 +2463,16 @@ private double doPrimaryInelastic(CoefCalc coefCalc, double previousX, double pr
   return theta;
 }
 
-private double doPrimaryElastic(double electronEnergy, Map<ElementEM, Double> elasticProbs, boolean surrounding, CoefCalc coefCalc) {
+private double doPrimaryElastic(double electronEnergy, MaterialModel<ElementEM> elasticModel, boolean surrounding, CoefCalc coefCalc) {
 //now start the loop - clean up the first iteration into this later 
   //Determine what element elastically scattered the electron so can choose an alpha correctly
 
-  double elasticElementRND = Math.random();
-  ElementEM elasticElement = null;
-  for (ElementEM e : elasticProbs.keySet()) {
-    if (elasticProbs.get(e) > elasticElementRND) { //Then this element is the one that was ionised
-      elasticElement = e;
-      break;
-    }
-  }
+  double elasticElementRND = random.nextDouble();
+  ElementEM elasticElement = elasticModel.getElement(elasticModel.sample(elasticElementRND));
   
   //get the angles
   double alpha = getRutherfordScreeningElement(elasticElement, electronEnergy);
-  double RND = Math.random();
+  double RND = random.nextDouble();
   /*
   cosPhi = 1 - ((2*alpha * Math.pow(RND, 2))/(1+alpha-RND));
   phi = Math.acos(cosPhi);
@@ -2314,7 +2521,7 @@ private double doPrimaryElastic(double electronEnergy, Map<ElementEM, Double> el
     double atomSolvent = coefCalc.getSolventAtoms(elasticElement);
     double atomProtein = coefCalc.getProteinAtoms(elasticElement);
     double proteinProb = atomProtein / (atomProtein+atomSolvent);
-    double typeRND = Math.random();
+    double typeRND = random.nextDouble();
     if (typeRND < proteinProb) {
       scatteredSolvent = false;
     }
@@ -2390,11 +2597,11 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
   }
   */
   double startingLambda_el = coefCalc.getElectronElasticMFPL(startingEnergy, surrounding);
-  Map<ElementEM, Double> elasticProbs = coefCalc.getElasticProbs(surrounding);
+  MaterialModel<ElementEM> elasticModel = coefCalc.getElasticModel(surrounding);
   
   double startingInnerShellLambda = coefCalc.betheIonisationxSection(startingEnergy, surrounding);
  // Map<Element, Double> ionisationProbs = coefCalc.getInnerShellProbs(); 
-  Map<Element, double[]> ionisationProbs = coefCalc.getAllShellProbs(surrounding); 
+  MaterialModel<Element> shellModel = coefCalc.getShellModel(surrounding); 
 
   //Just do elastic for now and then incorporate inner shell
 //  double lambdaT = startingLambda_el;
@@ -2405,7 +2612,7 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
   else{
     lambdaT = startingLambda_el;   //should probably change the whole thing to the FSe model and just not track the extra electrons
   }
-  double testRND = Math.random();
+  double testRND = random.nextDouble();
   double s = -lambdaT*Math.log(testRND);
   double Pinel = 1 - (lambdaT / startingLambda_el);
   double xNorm = Math.sin(theta) * Math.cos(phi);
@@ -2424,7 +2631,11 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
   if (surrounding == true) {
     
     // this could be a potential source of error as it could deflect in so need to test this to make sure it is valid
-    double intersectionDistance = 1000*getIntersectionDistance(previousX, previousY, previousZ, xNorm, yNorm, zNorm);
+    //a step shorter than the distance to the surface cannot enter the crystal
+    double intersectionDistance = Double.POSITIVE_INFINITY;
+    if (mayEnterCrystal(previousX, previousY, previousZ, s)) {
+      intersectionDistance = 1000*getIntersectionDistance(previousX, previousY, previousZ, xNorm, yNorm, zNorm);
+    }
     Double distanceObject = Double.valueOf(intersectionDistance);
     if (intersectionDistance < 0 || distanceObject.isNaN()
         || distanceObject.isInfinite()) {
@@ -2445,10 +2656,10 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
         stoppingPower = coefCalc.getStoppingPower(startingEnergy, surrounding);
 
         startingLambda_el = coefCalc.getElectronElasticMFPL(startingEnergy, surrounding);
-        elasticProbs = coefCalc.getElasticProbs(surrounding);
+        elasticModel = coefCalc.getElasticModel(surrounding);
         startingInnerShellLambda = coefCalc.betheIonisationxSection(startingEnergy, surrounding);
        // Map<Element, Double> ionisationProbs = coefCalc.getInnerShellProbs(); 
-        ionisationProbs = coefCalc.getAllShellProbs(surrounding); 
+        shellModel = coefCalc.getShellModel(surrounding); 
         //Just do elastic for now and then incorporate inner shell
   //      double lambdaT = startingLambda_el;
         if (startingInnerShellLambda > 0) {
@@ -2457,7 +2668,7 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
         else{
           lambdaT = startingLambda_el;   //should probably change the whole thing to the FSe model and just not track the extra electrons
         }
-        testRND = Math.random();
+        testRND = random.nextDouble();
         s = -lambdaT*Math.log(testRND);
         Pinel = 1 - (lambdaT / startingLambda_el);
       }
@@ -2596,20 +2807,16 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
       previousZ = zn;
       
       
-    double RNDscatter = Math.random();
+    double RNDscatter = random.nextDouble();
     if (RNDscatter < Pinel) { // If the scatter was an inner shell ionisation 
       double shellBindingEnergy = 0;
       Element collidedElement = null;
       int collidedShell = -1;
       
-      double elementRND = Math.random();
-      for (Element e : ionisationProbs.keySet()) {
-        collidedShell = findIfElementIonised(e, ionisationProbs, elementRND);
-        if (collidedShell >= 0) {
-          collidedElement = e;
-          break;
-        }
-      }
+      double elementRND = random.nextDouble();
+      int ionised = shellModel.sample(elementRND);
+      collidedElement = shellModel.getElement(ionised);
+      collidedShell = shellModel.getShell(ionised);
       
       shellBindingEnergy = getShellBindingEnergy(collidedElement, collidedShell);
       if (collidedElement.getAtomicNumber() > 2 && collidedShell < 4) {
@@ -2640,7 +2847,7 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
      //   voxelDose[getPixel[0]][getPixel[1]][getPixel[2]] -= flauEnergy;
         
       //RND for FL or Auger given it was that element
-        double fluoresenceYieldKRND = Math.random();
+        double fluoresenceYieldKRND = random.nextDouble();
     //    double KshellFluorescenceYield = collidedElement.getKShellFluorescenceYield();
         if (fluoresenceYieldKRND <= shellFluorescenceYield) { 
         //then it's fluorescence
@@ -2648,9 +2855,9 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
       //    double flEnergy = collidedElement.getKFluorescenceAverage();
           double absCoef = coefCalc.getEMFlAbsCoef(flauEnergy); //units um^-1
           //get a random direction vector
-          double SExNorm = Math.random();
-          double SEyNorm = Math.random();
-          double SEzNorm = Math.random();
+          double SExNorm = random.nextDouble();
+          double SEyNorm = random.nextDouble();
+          double SEzNorm = random.nextDouble();
           //Draw the vector to the edge
           double flEscapeDist = getIntersectionDistance(previousX, previousY, previousZ, SExNorm, SEyNorm, SEzNorm); //um
           double escapeFraction = Math.exp(-absCoef * flEscapeDist);
@@ -2669,9 +2876,9 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
        //   double augerEnergy = collidedElement.getKFluorescenceAverage();
        //   totAugerEnergy += flauEnergy;
           //get a random direction vector
-          double SExNorm = Math.random();
-          double SEyNorm = Math.random();
-          double SEzNorm = Math.random();
+          double SExNorm = random.nextDouble();
+          double SEyNorm = random.nextDouble();
+          double SEzNorm = random.nextDouble();
           //Draw the vector to the edge
           double augerEscapeDist = 1000 * getIntersectionDistance(previousX, previousY, previousZ, SExNorm, SEyNorm, SEzNorm); //um
           double augerStoppingPower = coefCalc.getStoppingPower(flauEnergy, false);
@@ -2707,19 +2914,13 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
       }
     }
     else {
-      double elasticElementRND = Math.random();
-      ElementEM elasticElement = null;
-      for (ElementEM e : elasticProbs.keySet()) {
-        if (elasticProbs.get(e) > elasticElementRND) { //Then this element is the one that was ionised
-          elasticElement = e;
-          break;
-        }
-      }
+      double elasticElementRND = random.nextDouble();
+      ElementEM elasticElement = elasticModel.getElement(elasticModel.sample(elasticElementRND));
       
       //get the angles
  //     double phi = 0, cosPhi = 1, psi = 0, AN = 0, AM = 0, V1 = 0, V2 = 0, V3 = 0, V4 = 0;
  //     double alpha = getRutherfordScreeningElement(elasticElement, electronEnergy);
-      double RND = Math.random();
+      double RND = random.nextDouble();
       /*
       cosPhi = 1 - ((2*alpha * Math.pow(RND, 2))/(1+alpha-RND));
       phi = Math.acos(cosPhi);
@@ -2735,13 +2936,13 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
       if (theta >= (2 * Math.PI)) {
         theta -= 2*Math.PI;
       }
-      phi = 2 * Math.PI * Math.random();
+      phi = 2 * Math.PI * random.nextDouble();
       phi = previousPhi + phi;
       if (phi >= (2 * Math.PI)) {
         phi -= 2*Math.PI;
       }
     //now further update the primary
-//      psi = 2 * Math.PI * Math.random();
+//      psi = 2 * Math.PI * random.nextDouble();
       
       xNorm = Math.sin(theta) * Math.cos(phi);
       yNorm = Math.sin(theta) * Math.sin(phi);
@@ -2772,9 +2973,9 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
       else {
         lambdaT = lambdaEl;
       }
-      s = -lambdaT*Math.log(Math.random());
-      elasticProbs = coefCalc.getElasticProbs(false);
-      ionisationProbs = coefCalc.getAllShellProbs(false);
+      s = -lambdaT*Math.log(random.nextDouble());
+      elasticModel = coefCalc.getElasticModel(false);
+      shellModel = coefCalc.getShellModel(false);
       Pinel = 1 - (lambdaT / lambdaEl); 
       
       //update the position and kinetic energy from the charge 
@@ -2958,26 +3159,20 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
           energyLost += kineticEnergyLossByCharge;
           
           
-        double RNDscatter = Math.random();
+        double RNDscatter = random.nextDouble();
         if (RNDscatter < Pinel) { // If the scatter was an inner shell ionisation 
             //do nothing
           
         } //end if inelastic scatter
         else { //else it stays false and the collision will be elastic
             //elastic just want to get the angle
-          double elasticElementRND = Math.random();
-          ElementEM elasticElement = null;
-          for (ElementEM e : elasticProbs.keySet()) {
-            if (elasticProbs.get(e) > elasticElementRND) { //Then this element is the one that was ionised
-              elasticElement = e;
-              break;
-            }
-          }
+          double elasticElementRND = random.nextDouble();
+          ElementEM elasticElement = elasticModel.getElement(elasticModel.sample(elasticElementRND));
           
           //get the angles
      //     double phi = 0, cosPhi = 1, psi = 0, AN = 0, AM = 0, V1 = 0, V2 = 0, V3 = 0, V4 = 0;
           double alpha = getRutherfordScreeningElement(elasticElement, electronEnergy);
-          double RND = Math.random();
+          double RND = random.nextDouble();
           /*
           cosPhi = 1 - ((2*alpha * Math.pow(RND, 2))/(1+alpha-RND));
           phi = Math.acos(cosPhi);
@@ -2993,7 +3188,7 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
           if (theta >= (2 * Math.PI)) {
             theta -= 2*Math.PI;
           }
-          phi = 2 * Math.PI * Math.random();
+          phi = 2 * Math.PI * random.nextDouble();
           phi = previousPhi + phi;
           if (phi >= (2 * Math.PI)) {
             phi -= 2*Math.PI;
@@ -3030,15 +3225,20 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
           else {
             lambdaT = 1 / (1/lambdaEl);
           }
-          s = -lambdaT*Math.log(Math.random());
+          s = -lambdaT*Math.log(random.nextDouble());
    
-          ionisationProbs = coefCalc.getAllShellProbs(true);
-          elasticProbs = coefCalc.getElasticProbs(true);
+          shellModel = coefCalc.getShellModel(true);
+          elasticModel = coefCalc.getElasticModel(true);
           
           //need to check if it crosses before it reaches s again and if it does update to this point
-          double intersectionDistance = 1000*getIntersectionDistance(previousX, previousY, previousZ, xNorm, yNorm, zNorm);
-          double[] intersectionPoint = getIntersectionPoint(intersectionDistance, previousX, previousY, previousZ, xNorm, yNorm, zNorm);
-          boolean pointInCrystal = isIntersectionInCrystal(intersectionPoint);
+          double intersectionDistance = Double.POSITIVE_INFINITY;
+          double[] intersectionPoint = null;
+          boolean pointInCrystal = false;
+          if (mayEnterCrystal(previousX, previousY, previousZ, s)) {
+            intersectionDistance = 1000*getIntersectionDistance(previousX, previousY, previousZ, xNorm, yNorm, zNorm);
+            intersectionPoint = getIntersectionPoint(intersectionDistance, previousX, previousY, previousZ, xNorm, yNorm, zNorm);
+            pointInCrystal = isIntersectionInCrystal(intersectionPoint);
+          }
           if (intersectionDistance < s && pointInCrystal == true) { //then need to change region here and reset stuff
             surrounding = false;
             entered = true;
@@ -3057,9 +3257,9 @@ private void MonteCarloSecondaryElastic(CoefCalc coefCalc, double FSEenergy, dou
             else {
               lambdaT = 1 / (1/lambdaEl);
             }
-            s = -lambdaT*Math.log(Math.random());
-            elasticProbs = coefCalc.getElasticProbs(surrounding);
-            ionisationProbs = coefCalc.getAllShellProbs(surrounding);
+            s = -lambdaT*Math.log(random.nextDouble());
+            elasticModel = coefCalc.getElasticModel(surrounding);
+            shellModel = coefCalc.getShellModel(surrounding);
             
           }
           
@@ -3229,8 +3429,8 @@ private double[] getElectronStartingDirection(Beam beam, double previousX, doubl
   //now get the aperture point
   double signX = (previousX >= 0) ? 1 : -1;
   double signY = (previousY >= 0) ? 1 : -1;
-  double apertureX = signX*(Math.random() * beamApertureRadius) + previousX;
-  double apertureY = signY*(Math.random() * beamApertureRadius) + previousY;
+  double apertureX = signX*(random.nextDouble() * beamApertureRadius) + previousX;
+  double apertureY = signY*(random.nextDouble() * beamApertureRadius) + previousY;
   double apertureZ = previousZ - (extraLength/Math.tan(beamSemiAngle/1000));
   double[] coordinateFrom = {apertureX, apertureY, apertureZ};
   double[] coordinateTo = {previousX, previousY, previousZ};
@@ -3277,7 +3477,7 @@ return normalVector;
 }
 
 private double getScatteringPhi() {
-  double phi = 2 * Math.PI * Math.random();
+  double phi = 2 * Math.PI * random.nextDouble();
   return phi;
 }
 
@@ -3287,44 +3487,16 @@ private double getPrimaryElasticScatteringAngle(double electronEnergy, int atomi
     highEnergy = true;
   }
  
-  //determine if need to get data from file or it's already loaded
-  boolean getFile = mapPopulated(highEnergy, atomicNumber);
-  
-  //get the right file if I need to
-  if (getFile == true) {
-    
-    TreeMap<Double, double[]> elementData = new TreeMap<Double, double[]>();
-    try {
-      elementData =  getAngleFileData(highEnergy, atomicNumber);
-    } catch (IOException e) {
-      // TODO Auto-generated catch block
-      e.printStackTrace();
-    } 
-    //now add the file data to the global array
-    if (highEnergy == true) {
-      highEnergyAngles[atomicNumber] = elementData;
-    }
-    else {
-      lowEnergyAngles[atomicNumber] = elementData;
-    }
-  }
-  
-  //Now use the data in the global array to work out the angle
-  //get nearest energy
-  Double energyKey = returnNearestEnergy(highEnergy, atomicNumber, electronEnergy);
-  
-  //should probably interpolate the values here tbh.... will do at some point
-  
-  //get the differential cross sections for that energy of the element
-  double[] energyAngleProbs = null;
-  if (highEnergy == true) {
-    energyAngleProbs = highEnergyAngles[atomicNumber].get(energyKey);
-  }
-  else {
-    energyAngleProbs = lowEnergyAngles[atomicNumber].get(energyKey);
-  }
+  //the tables are loaded once and shared between all simulations
+  ElasticScatteringTable angles =
+      ElasticScatteringTable.getInstance(highEnergy, atomicNumber);
+  //pick one of the neighbouring tabulated energies, interpolating in log(energy)
+  int energyIndex = angles.interpolatedEnergyIndex(electronEnergy, random.nextDouble());
+  
+  //sample an angle bin from the precomputed distribution for that energy
+  int angleIndex = angles.sampleAngleIndex(energyIndex, random.nextDouble());
   //get the angle from this 
-  double deflectionAngle = returnDeflectionAngle(highEnergy, energyAngleProbs);
+  double deflectionAngle = returnDeflectionAngle(highEnergy, angleIndex);
   
   if (Double.isNaN(deflectionAngle)){
     System.out.println("test");
@@ -3333,7 +3505,7 @@ private double getPrimaryElasticScatteringAngle(double electronEnergy, int atomi
 }
 
 private double getFSEEnergy(double electronEnergy, double shellBindingEnergy) {
-  double RNDFSEEnergy = Math.random();
+  double RNDFSEEnergy = random.nextDouble();
   double energyCutOff = (energyCUTOFF/1000.0)/electronEnergy;
   
   double tau = electronEnergy/511;
@@ -3345,7 +3517,7 @@ private double getFSEEnergy(double electronEnergy, double shellBindingEnergy) {
                     (2*(omegaParam+alphaParam-2*betaParam));
   
   double omega = 1 / ((1/energyCutOff) - ((1/energyCutOff)-2)*RNDFSEEnergy);
-//    double omega = 1 / (100 - 98*Math.random());
+//    double omega = 1 / (100 - 98*random.nextDouble());
   
   FSEcount +=1;
   FSEsum += epsilon*electronEnergy;
@@ -3379,7 +3551,7 @@ private void FlAugerMonteCarlo(Element collidedElement, double previousX, double
   
   //Do Fl or Auger
 //RND for FL or Auger given it was that element
-  double fluoresenceYieldKRND = Math.random();
+  double fluoresenceYieldKRND = random.nextDouble();
 //  double KshellFluorescenceYield = collidedElement.getKShellFluorescenceYield();
   if(flauEnergy > 0 && !Double.isNaN(flauEnergy)) {
     //subtract dose from the voxel that's this is in
@@ -3394,9 +3566,9 @@ private void FlAugerMonteCarlo(Element collidedElement, double previousX, double
       if (surrounding == false) {
         double absCoef = coefCalc.getEMFlAbsCoef(flauEnergy); //units um^-1
         //get a random direction vector
-        double SExNorm = Math.random();
-        double SEyNorm = Math.random();
-        double SEzNorm = Math.random();
+        double SExNorm = random.nextDouble();
+        double SEyNorm = random.nextDouble();
+        double SEzNorm = random.nextDouble();
         //Draw the vector to the edge
         double flEscapeDist = getIntersectionDistance(previousX, previousY, previousZ, SExNorm, SEyNorm, SEzNorm); //um
         double escapeFraction = Math.exp(-absCoef * flEscapeDist);
@@ -3421,9 +3593,9 @@ private void FlAugerMonteCarlo(Element collidedElement, double previousX, double
       }
       numAuger += 1;
       //get a random direction vector
-      double SExNorm = Math.random();
-      double SEyNorm = Math.random();
-      double SEzNorm = Math.random();
+      double SExNorm = random.nextDouble();
+      double SEyNorm = random.nextDouble();
+      double SEzNorm = random.nextDouble();
       //Draw the vector to the edge
       if (surrounding == false) {
         double augerEscapeDist = 1000* getIntersectionDistance(previousX, previousY, previousZ, SExNorm, SEyNorm, SEzNorm); //um
@@ -3476,128 +3648,7 @@ private void FlAugerMonteCarlo(Element collidedElement, double previousX, double
   }
 }
 
-private InputStreamReader locateFile(String filePath) 
-          throws UnsupportedEncodingException, FileNotFoundException{
-  InputStream is = getClass().getResourceAsStream("/" + filePath);
-  
-  if (is == null) {
-    is = new FileInputStream(filePath);
-  }
-  
-  return new InputStreamReader(is, "US-ASCII");
-}
-
-private boolean mapPopulated(boolean highEnergy, int atomicNumber) {
-  if (highEnergy == true) {
-    if (highEnergyAngles[atomicNumber] == null) {
-      return true;
-    }
-    else {
-      return false;
-    }
-  }
-  else {
-    if (lowEnergyAngles[atomicNumber] == null) {
-      return true;
-    }
-    else {
-      return false;
-    }
-  }
-}
-
-  //--put it in here when I have copy and paste back
-private TreeMap<Double, double[]> getAngleFileData(boolean highEnergy, int atomicNum) throws IOException{
-  String elementNum = String.valueOf(atomicNum) + ".csv";
-  String filePath = "";
-  if (highEnergy == true) {
-    filePath = "constants/above_20000/" + elementNum;
-  }
-  else {
-    filePath = "constants/below_20000/" + elementNum;
-  }
-  
-  InputStreamReader isr = locateFile(filePath);
-  BufferedReader br = new BufferedReader(isr);
-  TreeMap<Double, double[]> elementData = new TreeMap<Double, double[]>();
-  String line;
-  String[] components;
-  int count = -1;
-  while ((line = br.readLine()) != null) {
-    count +=1 ;
-    components = line.split(",");
-    if (count > 0) { //if this is not the first line
-      Double energy = Double.valueOf(components[0]);
-      String[] angleProbsString = Arrays.copyOfRange(components, 1, components.length);
-      double[] angleProbs = new double[angleProbsString.length];
-      for (int i = 0; i < angleProbsString.length; i++) {
-        angleProbs[i] = Double.parseDouble(angleProbsString[i]);
-      }
-      //Now add this to the local treemap
-      elementData.put(energy, angleProbs);
-    }
-  }
-  return elementData;
-}
-
-
-private Double returnNearestEnergy(boolean highEnergy, int atomicNumber, double electronEnergy) {
-  Double nearestEnergy = 0.;
-  if (electronEnergy >= 0.05 && electronEnergy <= 300) {
-    Double beforeKey = 0.;
-    Double afterKey = 0.;
-    if (highEnergy == true) {
-      beforeKey = highEnergyAngles[atomicNumber].floorKey(electronEnergy);
-      afterKey = highEnergyAngles[atomicNumber].ceilingKey(electronEnergy);
-      
-    }
-    else {
-      beforeKey = lowEnergyAngles[atomicNumber].floorKey(electronEnergy);
-      afterKey = lowEnergyAngles[atomicNumber].ceilingKey(electronEnergy);
-    }
-    if (beforeKey == null) {
-      beforeKey = 0.;
-    }
-    if (afterKey == null) {
-      afterKey = 0.;
-    }
-    beforeKey = (beforeKey == 0.) ? afterKey: beforeKey;
-    afterKey = (afterKey == 0.) ? beforeKey: afterKey;
-    if (Math.abs(electronEnergy - beforeKey) <= Math.abs(electronEnergy-afterKey)) {
-      nearestEnergy = beforeKey;
-    }
-    else {
-      nearestEnergy = afterKey;
-    }
-    
-  }
-  if (electronEnergy > 300) {
-    nearestEnergy = 300.0;
-  }
-  
-  return nearestEnergy;
-}
-
-private double returnDeflectionAngle(boolean highEnergy, double[] energyAngleProbs) {
-  double totalProb = 0;
-  for (int i = 0; i < energyAngleProbs.length; i++) {
-    totalProb += energyAngleProbs[i];
-  }
-  double[] probPerAngle = new double[energyAngleProbs.length];
-  double sumProb = 0;
-  for (int j = 0; j < energyAngleProbs.length; j++) {
-    sumProb += energyAngleProbs[j];
-    probPerAngle[j] = sumProb/totalProb;
-  }
-  
-  double RND = Math.random();
-  double index = 0;
-  for (int k = 0; k < probPerAngle.length; k++) {
-    if (probPerAngle[k] >= RND) {
-      index = k;
-      break;
-    }
-  }
+private double returnDeflectionAngle(boolean highEnergy, double index) {
   //convert the index to an angle
   double angleDegrees = 0;
   if (highEnergy == true) {
@@ -3662,7 +3713,7 @@ private boolean findIfOuterShellIonised(Element e, Map<Element, Double> ionisati
 
 private int getGOSInelasticType(double[][] shellProbs, int shellIndex) {
   double runningSum = 0;
-  double RND = Math.random();
+  double RND = random.nextDouble();
   int type = 0;
   for (int i = 0; i < 3; i++) {
     runningSum += shellProbs[shellIndex][i]/shellProbs[shellIndex][3];
@@ -3676,7 +3727,7 @@ private int getGOSInelasticType(double[][] shellProbs, int shellIndex) {
 
 private int getGOSInelasticTypePlasmon(double[] plasmonProbs) {
   double runningSum = 0;
-  double RND = Math.random();
+  double RND = random.nextDouble();
   int type = 0;
   for (int i = 0; i < 3; i++) {
     runningSum += plasmonProbs[i]/plasmonProbs[3];
@@ -3707,7 +3758,7 @@ public double getQak(double E, double Wk, double Uk) {
 }
 
 public double getEnergyLossDistant(double Wdis, double Uk){ 
-  double RND = Math.random();
+  double RND = random.nextDouble();
   double W = Wdis - Math.pow(RND*Math.pow(Wdis-Uk, 2), 0.5);
   return W; //returning eV
 }
@@ -3746,7 +3797,7 @@ public double getRandomk(double E, double Qk) { //E in keV and Qk in eV
   double kc = Math.max(Qk, Wcc) / (E*1000 + Qk);  //get units right ofc
   double k = 0;
   double a = getClosea(E);
-  double RND = Math.random();
+  double RND = random.nextDouble();
   double zeta = RND * (1.0+5.0*a*kc/2.0);
   if (zeta < 1) {
     k = kc / (1-zeta*(1-2*kc));
@@ -3773,7 +3824,7 @@ public double samplek(double E, double Qk) {
   int count = 0;
   while (exit == false) {
     k = getRandomk(E, Qk);
-    double RND = Math.random();
+    double RND = random.nextDouble();
     double LHS = RND * (1 + 5*a*Math.pow(k, 2));
     double RHS = Math.pow(k, 2) * getPDFk(E, k, Qk);
     if (LHS < RHS) {
@@ -3870,19 +3921,16 @@ private boolean isMicrocrystalAt(final double x, final double y, final double z)
   }
    
   //now do the crystal occupancy stuff
-  //convert xyz to ijk
-  
-  int[] pixelCoords = convertToPixelCoordinates(x, y, z); 
-  
-  boolean[] occ = crystOccEM[pixelCoords[0]][pixelCoords[1]][pixelCoords[2]];  //This means that if has already been done don't do it again
-                                        // Really needed to speed up Monte Carlo
-
-  if (!occ[0]) {
-    occ[1] = calculateCrystalOccupancy(x, y, z);
-    occ[0] = true;
+  //test the exact point every time, as in MC. Caching the result per voxel
+  //depended on which electron reached the voxel first and was not thread safe.
+  //The occupancy grid decides all points that are not close to the surface
+  if (crystalGrid != null) {
+    int occupancy = crystalGrid.classify(x/1000, y/1000, z/1000);
+    if (occupancy != OccupancyGrid.UNKNOWN) {
+      return occupancy == OccupancyGrid.INSIDE;
+    }
   }
-
-  return occ[1];
+  return calculateCrystalOccupancy(x, y, z);
 }
 
 private int[] convertToPixelCoordinates(final double x, final double y, final double z) {
@@ -3998,7 +4046,7 @@ private void addDoseToImagedRegion(double s, double xNorm, double yNorm, double
 
 private double PosOrNeg() {
   double sign = 1;
-  if (Math.random() < 0.5) {
+  if (random.nextDouble() < 0.5) {
     sign = -1;
   }
   return sign;
@@ -4060,6 +4108,32 @@ private void populateRegionVolumes() {
   }
 }
 
+/**
+ * Whether a step from a point in the surrounding can end up in the crystal.
+ * Steps shorter than the occupancy grid's bound on the distance to the
+ * surface skip the intersection tests, which cannot find an entry.
+ *
+ * @param x
+ *          x coordinate of the start of the step in nm
+ * @param y
+ *          y coordinate of the start of the step in nm
+ * @param z
+ *          z coordinate of the start of the step in nm
+ * @param s
+ *          length of the step in nm
+ * @return
+ *         false if the step cannot reach the crystal surface
+ */
+private boolean mayEnterCrystal(final double x, final double y,
+    final double z, final double s) {
+  if (crystalGrid == null) {
+    return true;
+  }
+  //the margin covers the point fudged in isIntersectionInCrystal
+  return s / 1000 + SURFACE_MARGIN
+      >= crystalGrid.getDistanceToSurface(x/1000, y/1000, z/1000);
+}
+
 private boolean isIntersectionInCrystal(double[] intersectionPoint) {
   //fudge the point
   for (int j = 0; j < 3; j++) {
@@ -4079,37 +4153,12 @@ private double getIntersectionDistance(double x, double y, double z, double ca,
     calculateNormals(false);
   }
 
-  double[] directionVector = {ca, cb, cc}; //the actual direction vector
-  double minIntersect = 0;
   double[] origin = new double[3];
   origin[0] = x/1000;
   origin[1] = y/1000;
   origin[2] = z/1000;
-  
-  double intersectionDistance = 0;
-  for (int l = 0; l < indicesEM.length; l++) {
-    intersectionDistance = Vector.rayTraceDistance(normals[l],
-        directionVector, origin, originDistances[l]);
-
-    Double distanceObject = Double.valueOf(intersectionDistance);
-
-    if (intersectionDistance < 0 || distanceObject.isNaN()
-        || distanceObject.isInfinite()) {
-        //do nothing
-    }
-    else {
-  //    break; //maybe should just be closest, or an issue with the rayTRace
-      if (minIntersect == 0) {
-        minIntersect = intersectionDistance;
-      }
-      else {
-        double min = Math.min(minIntersect, intersectionDistance);
-        minIntersect = min;
-      }
-    }
-
-  }
-  return minIntersect;
+  //nearest plane in the direction of travel
+  return mesh.planeIntersectionDistance(origin[0], origin[1], origin[2], ca, cb, cc, true);
 }
 
 private double[] getIntersectionPoint(double intersectionDistance, double x, double y, double z,
@@ -4201,6 +4250,7 @@ public void calculateNormals(final boolean rotated) {
 
     System.arraycopy(originDistancesUsed, 0, originDistances, 0,
         indicesEM.length);
+    mesh = new TriangleMesh(verticesEM, indicesEM);
   
 }
 
@@ -4211,9 +4261,6 @@ public boolean calculateCrystalOccupancy(final double x, final double y, final d
     calculateNormals(false);
   }
 
-  boolean inside = false;
-
-  double[] directionVector = { 0, 0, 1 };
   double[] origin = new double[3];
   origin[0] = x/1000;
   origin[1] = y/1000;
@@ -4223,37 +4270,7 @@ public boolean calculateCrystalOccupancy(final double x, final double y, final d
     origin[0] += 0.00001;
   }
 
-  for (int l = 0; l < indicesEM.length; l++) {
-    double intersectionDistance = Vector.rayTraceDistance(normals[l],
-        directionVector, origin, originDistances[l]);
-
-    Double distanceObject = Double.valueOf(intersectionDistance);
-
-    if (intersectionDistance < 0 || distanceObject.isNaN()
-        || distanceObject.isInfinite()) {
-      continue;
-    }
-
-    double[] intersectionPoint = Vector.rayTraceToPointWithDistance(
-        directionVector, origin, intersectionDistance);
-
-    double[][] triangleVertices = new double[3][3];
-
-    // copy vertices referenced by indices into single array for
-    // passing onto the polygon inclusion test.
-    for (int m = 0; m < 3; m++) {
-      System.arraycopy(verticesEM[indicesEM[l][m] - 1], 0, triangleVertices[m],
-          0, 3);
-    }
-
-    boolean crosses = Vector.polygonInclusionTest(triangleVertices,
-        intersectionPoint);
-
-    if (crosses) {
-      inside = !inside;
-    }
-  }
-  return inside;
+  return mesh.isInside(origin[0], origin[1], origin[2]);
 }
 
 //coulombs law function
@@ -4343,215 +4360,6 @@ private double[] adjustVelocityVectorByCharge(double[] electronPosition, double[
 }
 
 
-/**
- * Vector class containing magical vector methods
- * like cross products and magnitudes.
- *
- * @author magd3052
- */
-private static class Vector {
-  /**
-   * Returns magnitude of 3D vector.
-   *
-   * @param vector 3d coordinates of vector
-   * @return magnitude scalar.
-   */
-  public static double vectorMagnitude(final double[] vector) {
-    double squaredDistance = Math.pow(vector[0], 2) + Math.pow(vector[1], 2)
-        + Math.pow(vector[2], 2);
-
-    double distance = Math.sqrt(squaredDistance);
-
-    return distance;
-  }
-
-  /**
-   * returns 3D vector between FROM and TO points.
-   *
-   * @param from from point
-   * @param to to point
-   * @return vector between points.
-   */
-  public static double[] vectorBetweenPoints(final double[] from,
-      final double[] to) {
-    double[] newVector = new double[3];
-
-    for (int i = 0; i < 3; i++) {
-      newVector[i] = to[i] - from[i];
-    }
-
-    return newVector;
-  }
-  
-  public static double[] normaliseVector(final double[] vector) {
-    double[] newVector = new double[3];
-    double magnitude = vectorMagnitude(vector);
-    
-    for (int i = 0; i < 3; i++) {
-      newVector[i] = vector[i]/magnitude;
-    }
-    
-    return newVector;
-  }
-
-  /**
-   * returns 3D cross-product between two vectors.
-   *
-   * @param vector1 vector1
-   * @param vector2 vector2
-   * @return cross product
-   */
-  public static double[] crossProduct(final double[] vector1,
-      final double[] vector2) {
-    double[] newVector = new double[3];
-
-    newVector[0] = vector1[1] * vector2[2] - vector1[2] * vector2[1];
-    newVector[1] = vector1[2] * vector2[0] - vector1[0] * vector2[2];
-    newVector[2] = vector1[0] * vector2[1] - vector1[1] * vector2[0];
-
-    return newVector;
-  }
-
-  /**
-   * returns 3D cross product with magnitude set to 1 between
-   * two vectors.
-   *
-   * @param vector1 vector1
-   * @param vector2 vector2
-   * @return normalised cross product
-   */
-  public static double[] normalisedCrossProduct(final double[] vector1,
-      final double[] vector2) {
-    double[] newVector = crossProduct(vector1, vector2);
-    double magnitude = vectorMagnitude(newVector);
-
-    for (int i = 0; i < 3; i++) {
-      newVector[i] /= magnitude;
-    }
-
-    return newVector;
-  }
-
-  /**
-   * returns dot product between two 3D vectors.
-   *
-   * @param vector1 vector1
-   * @param vector2 vector2
-   * @return dot product
-   */
-  public static double dotProduct(final double[] vector1,
-      final double[] vector2) {
-    double dotProduct = 0;
-
-    for (int i = 0; i < 3; i++) {
-      dotProduct += vector1[i] * vector2[i];
-    }
-
-    return dotProduct;
-  }
-
-  /**
-   * Ray trace from a point to a plane via a direction vector,
-   * find the intersection between the direction vector and the
-   * plane and return this point.
-   *
-   * @param normalUnitVector normal vector with magnitude 1
-   * @param directionVector direction vector of any magnitude
-   * @param origin point from which ray is traced (i.e. voxel coordinate)
-   * @param planeDistance distance of plane from true origin (0, 0, 0)
-   * @return intersection point between plane and direction vector
-   */
-  @SuppressWarnings("unused")
-  public static double[] rayTraceToPoint(final double[] normalUnitVector,
-      final double[] directionVector, final double[] origin,
-      final double planeDistance) {
-    double t = rayTraceDistance(normalUnitVector, directionVector, origin,
-        planeDistance);
-
-    double[] point = new double[3];
-
-    for (int i = 0; i < 3; i++) {
-      point[i] = origin[i] + t * directionVector[i];
-    }
-
-    return point;
-  }
-
-  /**
-   * Ray trace - find intersection of direction vector from point
-   * with plane from already-known distance t.
-   *
-   * @param directionVector direction vector
-   * @param origin point from which ray is traced
-   * @param t distance of origin to plane along direction vector
-   * @return point of intersection
-   */
-  public static double[] rayTraceToPointWithDistance(
-      final double[] directionVector,
-      final double[] origin,
-      final double t) {
-    double[] point = new double[3];
-
-    for (int i = 0; i < 3; i++) {
-      point[i] = origin[i] + t * directionVector[i];
-    }
-
-    return point;
-  }
-
-  /**
-   * Ray trace from a point to a plane via a direction vector,
-   * find the signed distance between the direction vector and
-   * the plane and return this point.
-   *
-   * @param normalUnitVector normal vector with magnitude 1
-   * @param directionVector direction vector of any magnitude
-   * @param origin point from which ray is traced (i.e. voxel coordinate)
-   * @param planeDistance distance of plane from true origin (0, 0, 0)
-   * @return signed distance between direction vector and plane
-   */
-  public static double rayTraceDistance(final double[] normalUnitVector,
-      final double[] directionVector, final double[] origin,
-      final double planeDistance) {
-
-    double originNormalDotProduct = dotProduct(origin, normalUnitVector);
-    double directionNormalDotProduct = dotProduct(directionVector,
-        normalUnitVector);
-
-    double t = -(originNormalDotProduct + planeDistance)
-        / directionNormalDotProduct;
-
-    return t;
-  }
-
-  /**
-   * Original C code
-   * http://www.ecse.rpi.edu/~wrf/Research/Short_Notes/pnpoly.html
-   * Takes an array of vertices of a polygon and determines whether a point
-   * is contained within the polygon or not. Ignores the z axis at the
-   * moment.
-   *
-   * @param vertices array of 3D vertices
-   * @param point point to test inclusion - must be in same plane
-   *          as vertices
-   * @return boolean value - in polygon or not in polygon.
-   */
-  public static boolean polygonInclusionTest(final double[][] vertices,
-      final double[] point) {
-    boolean c = false;
-
-    for (int i = 0, j = vertices.length - 1; i < vertices.length; j = i++) {
-      if (((vertices[i][1] > point[1]) != (vertices[j][1] > point[1]))
-          && (point[0] < (vertices[j][0] - vertices[i][0])
-              * (point[1] - vertices[i][1])
-              / (vertices[j][1] - vertices[i][1]) + vertices[i][0])) {
-        c = !c;
-      }
-    }
-
-    return c;
-  }
-}
 
 private void testingXFELQuick(Beam beam, CoefCalc coefcalc) {
   double m = 9.10938356E-31; // in Kg
@@ -0,0 +1,49 @@
+package se.raddo.raddose3D;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates numbered daemon threads with a common name prefix, so that worker
+ * pools can be told apart in thread dumps and can never keep the JVM alive.
+ */
+public class NamedThreadFactory implements ThreadFactory {
+  /** Number of threads created so far. */
+  private final AtomicInteger count = new AtomicInteger();
+  /** Name prefix of the threads. */
+  private final String        name;
+  /** Priority of the threads. */
+  private final int           priority;
+
+  /**
+   * Create threads of normal priority.
+   *
+   * @param threadName
+   *          name prefix of the threads
+   */
+  public NamedThreadFactory(final String threadName) {
+    this(threadName, Thread.NORM_PRIORITY);
+  }
+
+  /**
+   * Create threads of a given priority.
+   *
+   * @param threadName
+   *          name prefix of the threads
+   * @param threadPriority
+   *          priority of the threads
+   */
+  public NamedThreadFactory(final String threadName,
+      final int threadPriority) {
+    name = threadName;
+    priority = threadPriority;
+  }
+
+  @Override
+  public Thread newThread(final Runnable r) {
+    Thread t = new Thread(r, name + count.incrementAndGet());
+    t.setPriority(priority);
+    t.setDaemon(true);
+    return t;
+  }
+}
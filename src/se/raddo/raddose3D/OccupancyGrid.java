@@ -0,0 +1,285 @@
+package se.raddo.raddose3D;
+
+import java.util.BitSet;
+
+/**
+ * An OccupancyGrid voxelises a closed triangle mesh once, so that most
+ * inside/outside tests become an array lookup instead of a ray cast against
+ * every triangle.
+ * <p>
+ * For the centre of every grid cell the grid stores whether it lies inside
+ * the mesh, and the signed distance to the nearest point on the surface
+ * (negative inside). A query point is at least the centre distance minus its
+ * distance from the centre away from the surface, so it is on the same side
+ * as the centre whenever that bound is positive. Points too close to the
+ * surface for the bound to decide are reported as UNKNOWN, and the caller
+ * falls back to its exact test. Decided points therefore agree with an exact
+ * test, while the grid resolution only affects how often the fallback is
+ * needed.
+ * <p>
+ * Coordinates are in the units of the mesh. Instances are immutable and can
+ * be shared between threads.
+ */
+public final class OccupancyGrid {
+  /** The point lies outside the mesh. */
+  public static final int     OUTSIDE           = 0;
+
+  /** The point lies inside the mesh. */
+  public static final int     INSIDE            = 1;
+
+  /** The point is too close to the surface to be decided by the grid. */
+  public static final int     UNKNOWN           = -1;
+
+  /** Largest number of cells along one axis. */
+  private static final int    MAX_CELLS_PER_AXIS = 128;
+
+  /** Largest number of cells in the grid. */
+  private static final int    MAX_CELLS         = 32 * 32 * 32;
+
+  /** Number of cell-triangle pairs evaluated when building a grid. */
+  private static final double MAX_WORK          = 4E6;
+
+  /**
+   * Points closer to the surface than this are not decided by the grid, in
+   * mesh units. Covers rounding in the callers' rotated geometry and their
+   * ray-cast fudges.
+   */
+  private static final double TOLERANCE         = 1E-4;
+
+  /**
+   * Directions of the parity rays used to classify cell centres. Three
+   * unrelated directions vote, so that a ray grazing an edge cannot flip a
+   * centre.
+   */
+  private static final double[][] RAY_DIRECTIONS = {
+      {0.5773502692, 0.5443310540, 0.6085806195 },
+      {-0.7071067812, 0.1543033500, 0.6900655593 },
+      {0.2357022604, -0.9428090416, 0.2357022604 } };
+
+  /** Triangles of the mesh. */
+  private final TriangleMesh  mesh;
+
+  /** Lower corner of the grid. */
+  private final double        originX, originY, originZ;
+
+  /** Edge length of a cell. */
+  private final double        cellSize;
+
+  /** Number of cells along each axis. */
+  private final int           cellsX, cellsY, cellsZ;
+
+  /** Whether the centre of each cell is inside the mesh. */
+  private final BitSet        occupancy;
+
+  /** Signed distance from each cell centre to the surface. */
+  private final double[]      signedDistance;
+
+  /** Bounds of the mesh. */
+  private final double        minX, minY, minZ, maxX, maxY, maxZ;
+
+  /**
+   * Voxelise a closed triangle mesh.
+   *
+   * @param vertices
+   *          vertex coordinates, one x, y, z triple per vertex
+   * @param indices
+   *          three 1-based vertex indices per triangle, as used by the
+   *          crystal classes
+   */
+  public OccupancyGrid(final double[][] vertices, final int[][] indices) {
+    mesh = new TriangleMesh(vertices, indices);
+    int numTriangles = mesh.size();
+    minX = mesh.getMinimum(0);
+    minY = mesh.getMinimum(1);
+    minZ = mesh.getMinimum(2);
+    maxX = mesh.getMaximum(0);
+    maxY = mesh.getMaximum(1);
+    maxZ = mesh.getMaximum(2);
+
+    // Choose roughly cubic cells so that the number of cells is bounded by
+    // both the grid size and the work of building it.
+    double largest = Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ));
+    double smallest = Math.max(largest / MAX_CELLS_PER_AXIS, Double.MIN_NORMAL);
+    double volume = Math.max(maxX - minX, smallest)
+        * Math.max(maxY - minY, smallest) * Math.max(maxZ - minZ, smallest);
+    double targetCells = Math.min(MAX_CELLS,
+        MAX_WORK / Math.max(numTriangles, 1));
+    cellSize = Math.max(Math.cbrt(volume / targetCells), smallest);
+
+    // Pad by one cell on every side, so that cells at the border lie
+    // outside the mesh.
+    originX = minX - cellSize;
+    originY = minY - cellSize;
+    originZ = minZ - cellSize;
+    cellsX = (int) Math.ceil((maxX - minX) / cellSize) + 2;
+    cellsY = (int) Math.ceil((maxY - minY) / cellSize) + 2;
+    cellsZ = (int) Math.ceil((maxZ - minZ) / cellSize) + 2;
+
+    occupancy = new BitSet(cellsX * cellsY * cellsZ);
+    signedDistance = new double[cellsX * cellsY * cellsZ];
+    for (int i = 0; i < cellsX; i++) {
+      for (int j = 0; j < cellsY; j++) {
+        for (int k = 0; k < cellsZ; k++) {
+          int cell = index(i, j, k);
+          double x = originX + (i + 0.5) * cellSize;
+          double y = originY + (j + 0.5) * cellSize;
+          double z = originZ + (k + 0.5) * cellSize;
+          double distance = Math.sqrt(squaredDistanceToMesh(x, y, z));
+          if (isInsideByParity(x, y, z)) {
+            occupancy.set(cell);
+            signedDistance[cell] = -distance;
+          } else {
+            signedDistance[cell] = distance;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns whether a point is inside the mesh, if the grid can decide it.
+   *
+   * @param x
+   *          x coordinate
+   * @param y
+   *          y coordinate
+   * @param z
+   *          z coordinate
+   * @return
+   *         INSIDE, OUTSIDE or UNKNOWN
+   */
+  public int classify(final double x, final double y, final double z) {
+    if (x < minX - TOLERANCE || x > maxX + TOLERANCE
+        || y < minY - TOLERANCE || y > maxY + TOLERANCE
+        || z < minZ - TOLERANCE || z > maxZ + TOLERANCE) {
+      return OUTSIDE;
+    }
+    int cell = getCell(x, y, z);
+    if (cell < 0) {
+      return UNKNOWN;
+    }
+    if (Math.abs(signedDistance[cell]) - distanceToCentre(cell, x, y, z)
+        <= TOLERANCE) {
+      return UNKNOWN;
+    }
+    if (occupancy.get(cell)) {
+      return INSIDE;
+    }
+    return OUTSIDE;
+  }
+
+  /**
+   * Returns a lower bound of the distance from a point to the surface of the
+   * mesh. A straight step shorter than this cannot cross the surface, so
+   * no boundary intersection has to be calculated for it.
+   *
+   * @param x
+   *          x coordinate
+   * @param y
+   *          y coordinate
+   * @param z
+   *          z coordinate
+   * @return
+   *         distance that is at most the distance to the surface
+   */
+  public double getDistanceToSurface(final double x, final double y,
+      final double z) {
+    int cell = getCell(x, y, z);
+    if (cell < 0) {
+      // outside the grid the bounding box of the mesh is closer than its
+      // surface
+      double dx = Math.max(0, Math.max(minX - x, x - maxX));
+      double dy = Math.max(0, Math.max(minY - y, y - maxY));
+      double dz = Math.max(0, Math.max(minZ - z, z - maxZ));
+      return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+    return Math.max(0, Math.abs(signedDistance[cell])
+        - distanceToCentre(cell, x, y, z));
+  }
+
+  /**
+   * Returns the signed distance from the centre of the cell containing a
+   * point to the surface of the mesh, negative inside.
+   *
+   * @param x
+   *          x coordinate
+   * @param y
+   *          y coordinate
+   * @param z
+   *          z coordinate
+   * @return
+   *         signed distance, or NaN if the point is outside the grid
+   */
+  public double getSignedDistance(final double x, final double y,
+      final double z) {
+    int cell = getCell(x, y, z);
+    if (cell < 0) {
+      return Double.NaN;
+    }
+    return signedDistance[cell];
+  }
+
+  /**
+   * Returns the edge length of the grid cells.
+   *
+   * @return
+   *         cell size in mesh units
+   */
+  public double getCellSize() {
+    return cellSize;
+  }
+
+  /**
+   * Returns the cell containing a point.
+   *
+   * @return
+   *         cell index, or -1 if the point is outside the grid
+   */
+  private int getCell(final double x, final double y, final double z) {
+    double fx = Math.floor((x - originX) / cellSize);
+    double fy = Math.floor((y - originY) / cellSize);
+    double fz = Math.floor((z - originZ) / cellSize);
+    if (fx < 0 || fx >= cellsX || fy < 0 || fy >= cellsY
+        || fz < 0 || fz >= cellsZ) {
+      return -1;
+    }
+    return index((int) fx, (int) fy, (int) fz);
+  }
+
+  private int index(final int i, final int j, final int k) {
+    return (i * cellsY + j) * cellsZ + k;
+  }
+
+  private double distanceToCentre(final int cell, final double x,
+      final double y, final double z) {
+    int k = cell % cellsZ;
+    int j = (cell / cellsZ) % cellsY;
+    int i = cell / (cellsZ * cellsY);
+    double dx = x - (originX + (i + 0.5) * cellSize);
+    double dy = y - (originY + (j + 0.5) * cellSize);
+    double dz = z - (originZ + (k + 0.5) * cellSize);
+    return Math.sqrt(dx * dx + dy * dy + dz * dz);
+  }
+
+  /**
+   * Classify a point by the majority of three parity ray casts.
+   */
+  private boolean isInsideByParity(final double x, final double y,
+      final double z) {
+    int votes = 0;
+    for (double[] direction : RAY_DIRECTIONS) {
+      votes += mesh.rayCrossings(x, y, z, direction[0], direction[1],
+          direction[2], null) % 2;
+    }
+    return votes >= 2;
+  }
+
+  private double squaredDistanceToMesh(final double x, final double y,
+      final double z) {
+    double min = Double.POSITIVE_INFINITY;
+    for (int t = 0; t < mesh.size(); t++) {
+      min = Math.min(min, mesh.squaredDistance(t, x, y, z));
+    }
+    return min;
+  }
+}
@@ -46,19 +46,22 @@ public class OutputDWDs implements Output{
     double[] angleDWD = expSummary.getAngleDWDs();
     double[] imageVol = expSummary.getImageVol();
     double[][] imageRDE = expSummary.getRDEs();
-    for(int i = 0; i < angleDWD.length; i++) {
+    TextFormatter t = new TextFormatter(w);
+    // no DWD arrays if only subprograms were run
+    for(int i = 0; angleDWD != null && i < angleDWD.length; i++) {
       double image = i+1;
       double angle = angleDWD[i] * (180/Math.PI);
-      w.write(image + ",");
-      w.write(angle + ",");
-      w.write(imageDWD[i] + ",");
-      w.write(imageVol[i] + ",");
-      w.write(imageRDE[i][1] + ",");
-      w.write(imageRDE[i][2] + ",");
-      w.write(imageRDE[i][3] + ",");
-      w.write(imageRDE[i][4] + ",");
-      w.write(imageRDE[i][0] + "\n");
+      t.append(image).append(',');
+      t.append(angle).append(',');
+      t.append(imageDWD[i]).append(',');
+      t.append(imageVol[i]).append(',');
+      t.append(imageRDE[i][1]).append(',');
+      t.append(imageRDE[i][2]).append(',');
+      t.append(imageRDE[i][3]).append(',');
+      t.append(imageRDE[i][4]).append(',');
+      t.append(imageRDE[i][0]).append('\n');
     }
+    t.flush();
     expSummary = null;
     w.close();
   }
@@ -61,37 +61,40 @@ public class OutputFinalDoseStateCSV implements Output {
       return;
     }
 
+    TextFormatter t = new TextFormatter(w);
     for (int i = 0; i < crystal.getCrystSizeVoxels()[0]; i++) {
       for (int j = 0; j < crystal.getCrystSizeVoxels()[1]; j++) {
         for (int k = 0; k < crystal.getCrystSizeVoxels()[2]; k++) {
           if (crystal.isCrystalAt(i, j, k)) {   //Added to prevent voxels outside of crystal being included in the .csv output
-            w.write(((float) crystal.getCrystCoord(i, j, k)[0]) + ","
-                + ((float) crystal.getCrystCoord(i, j, k)[1]) + ","
-                + ((float) crystal.getCrystCoord(i, j, k)[2]) + ",");
+            double[] coord = crystal.getCrystCoord(i, j, k);
+            t.append((float) coord[0]).append(',')
+                .append((float) coord[1]).append(',')
+                .append((float) coord[2]).append(',');
             float dose = (float) crystal.getDose(i, j, k);
             if (dose <= Float.MIN_VALUE) {
-            w.write("0,");
+              t.append("0,");
             } else {
-              w.write(dose + ",");
+              t.append(dose).append(',');
             }
 
             float fluence = (float) crystal.getFluence(i, j, k);
             if (fluence <= Float.MIN_VALUE) {
-              w.write("0,");
+              t.append("0,");
             } else {
-              w.write(fluence + ",");
+              t.append(fluence).append(',');
             }
 
             float elastic = (float) crystal.getElastic(i, j, k);
             if (elastic <= Float.MIN_VALUE) {
-              w.write("0\n");
+              t.append("0\n");
             } else {
-              w.write(elastic + "\n");
+              t.append(elastic).append('\n');
             }
           }
         }
       }
     }
+    t.flush();
 
     crystal = null;
     w.close();
@@ -83,25 +83,28 @@ public class OutputFinalDoseStateR implements Output {
     w.write("require(\"misc3d\")\n\n");
 
     w.write("# Three dimensional dose array (MGy)\n");
-    w.write(String.format("dose <- array(0, c(%d, %d, %d))%n",
-        csize[0], csize[1], csize[2]));
+    TextFormatter t = new TextFormatter(w);
+    t.append("dose <- array(0, c(").append(csize[0]).append(", ")
+        .append(csize[1]).append(", ").append(csize[2]).append("))")
+        .append(System.getProperty("line.separator"));
     for (int k = 0; k < csize[2]; k++) {
-      w.write(String.format("dose[,,%d]<-c(", (k + 1)));
+      t.append("dose[,,").append(k + 1).append("]<-c(");
       for (int j = 0; j < csize[1]; j++) {
         for (int i = 0; i < csize[0]; i++) {
           if ((i != 0) || (j != 0)) {
-            w.write(",");
+            t.append(',');
           }
           float dose = (float) crystal.getDose(i, j, k);
           if (dose <= Float.MIN_VALUE) {
-            w.write("0");
+            t.append('0');
           } else {
-            w.write(String.valueOf(dose));
+            t.append(dose);
           }
         }
       }
-      w.write(")\n");
+      t.append(")\n");
     }
+    t.flush();
 
     w.write("contour3d(dose, level=contourlevels, color=contourcolours, "
         + "alpha=contouropacity)\n");
@@ -105,14 +105,16 @@ public class OutputFinalDoseStateRPreview implements Output {
     w.write("require(\"misc3d\")\n\n");
 
     w.write("# Three dimensional dose array (MGy)\n");
-    w.write(String.format("dose <- array(0, c(%d, %d, %d))%n",
-        csizel[0], csizel[1], csizel[2]));
+    TextFormatter t = new TextFormatter(w);
+    t.append("dose <- array(0, c(").append(csizel[0]).append(", ")
+        .append(csizel[1]).append(", ").append(csizel[2]).append("))")
+        .append(System.getProperty("line.separator"));
     for (int k = 0; k < csizel[2]; k++) {
-      w.write(String.format("dose[,,%d]<-c(", (k + 1)));
+      t.append("dose[,,").append(k + 1).append("]<-c(");
       for (int j = 0; j < csizel[1]; j++) {
         for (int i = 0; i < csizel[0]; i++) {
           if ((i != 0) || (j != 0)) {
-            w.write(",");
+            t.append(',');
           }
 
           // Could put fancy interpolation algorithm here, eg.
@@ -128,14 +130,15 @@ public class OutputFinalDoseStateRPreview implements Output {
               trueCoordinateX, trueCoordinateY, trueCoordinateZ);
 
           if (dose <= Double.MIN_VALUE) {
-            w.write("0");
+            t.append('0');
           } else {
-            w.write(String.format("%.4e", dose));
+            t.appendScientific(dose, 4);
           }
         }
       }
-      w.write(")\n");
+      t.append(")\n");
     }
+    t.flush();
 
     w.write("\n");
     generateBoxFunctions();
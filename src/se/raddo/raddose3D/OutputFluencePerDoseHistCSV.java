@@ -31,6 +31,9 @@ public class OutputFluencePerDoseHistCSV implements Output, ExposeObserver {
   /** Where output should be directed to. */
   private final Writer         w;
 
+  /** Formats numbers for the output Writer. */
+  private final TextFormatter  t;
+
   /** Number of the current wedge. */
   private int                  wedgeCounter           = 1;
 
@@ -72,6 +75,7 @@ public class OutputFluencePerDoseHistCSV implements Output, ExposeObserver {
     a.checkIsClass(mProp.get(OUTPUT_WRITER), Writer.class,
         "no writer class given");
     w = (Writer) mProp.get(OUTPUT_WRITER);
+    t = new TextFormatter(w);
 
     a.checkIsClass(mProp.get(OUTPUT_HISTBINS), Integer.class,
         "number of histograms bins is not an integer");
@@ -100,6 +104,7 @@ public class OutputFluencePerDoseHistCSV implements Output, ExposeObserver {
   public OutputFluencePerDoseHistCSV(final Writer out,
       final double histMin, final double histMax, final int histBuckets) {
     w = out;
+    t = new TextFormatter(w);
     h = new Histogram(histMin, histMax, histBuckets);
   }
 
@@ -113,13 +118,14 @@ public class OutputFluencePerDoseHistCSV implements Output, ExposeObserver {
 
     h.reset();
     Double[] histogram = h.getHistogramBreaks();
-    w.write(String.format(
-        "Wedge Number, Angular position, Average Diffracted Dose, < %g",
-        histogram[1]));
+    t.append("Wedge Number, Angular position, Average Diffracted Dose, < ")
+        .appendGeneral(histogram[1]);
     for (int i = 1; i < histogram.length - 1; i++) {
-      w.write(String.format(", %g", histogram[i]));
+      t.append(", ").appendGeneral(histogram[i]);
     }
-    w.write(String.format(", > %g%n", histogram[histogram.length - 1]));
+    t.append(", > ").appendGeneral(histogram[histogram.length - 1])
+        .append(System.getProperty("line.separator"));
+    t.flush();
   }
 
   @Override
@@ -152,15 +158,16 @@ public class OutputFluencePerDoseHistCSV implements Output, ExposeObserver {
       avgDiffDose = diffractedIntensityNum / diffractedIntensityDenom;
     }
 
-    w.write(String.format("%d, %g, %g", wedgeCounter, Math.toDegrees(angle),
-        avgDiffDose));
+    t.append(wedgeCounter).append(", ").appendGeneral(Math.toDegrees(angle))
+        .append(", ").appendGeneral(avgDiffDose);
 
     Double[] histogram = h.getWeightHistogram();
 
     for (int i = 0; i < histogram.length; i++) {
-      w.write(String.format(", %f", histogram[i]));
+      t.append(", ").appendFixed(histogram[i]);
     }
-    w.write("\n");
+    t.append('\n');
+    t.flush();
     h.reset();
     diffractedIntensityNum = 0;
     diffractedIntensityDenom = 0;
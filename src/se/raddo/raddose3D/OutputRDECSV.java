@@ -48,14 +48,17 @@ public class OutputRDECSV implements Output{
   public void close() {
     double[][] arrayRDE = expSummary.getWeightedRDEArray();
     double[][] minArrayRDE = expSummary.getMinRDEArray();
-    for(int i = 0; i < arrayRDE.length; i++) {
+    TextFormatter t = new TextFormatter(w);
+    // no RDE arrays if only subprograms were run
+    for(int i = 0; arrayRDE != null && i < arrayRDE.length; i++) {
       double image = i+1;
       double angle = arrayRDE[i][0] * (180/Math.PI);
-      w.write(image + ",");
-      w.write(angle + ",");
-      w.write(arrayRDE[i][1] + ",");
-      w.write(minArrayRDE[i][1] + "\n");
+      t.append(image).append(',');
+      t.append(angle).append(',');
+      t.append(arrayRDE[i][1]).append(',');
+      t.append(minArrayRDE[i][1]).append('\n');
     }
+    t.flush();
     expSummary = null;
     w.close();
   }
@@ -0,0 +1,20 @@
+package se.raddo.raddose3D;
+
+/**
+ * Classes implementing both this and the {@link Output} interface can subscribe
+ * to {@link Experiment} and receive the results of simulation subprograms
+ * (XFEL, MONTECARLO, GOS, EMSP and EMED). Wedges exposed by a subprogram are
+ * reported through this interface instead of publishWedge(), as they do not
+ * update the dose state of the crystal.
+ */
+public interface OutputSubprogramResults {
+  /**
+   * Passes the results of one subprogram run to output modules.
+   *
+   * @param w
+   *          Wedge that was exposed.
+   * @param result
+   *          Results of the run.
+   */
+  public void publishSubprogramResult(Wedge w, SubprogramResult result);
+}
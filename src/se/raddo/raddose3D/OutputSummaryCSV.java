@@ -1,13 +1,21 @@
 package se.raddo.raddose3D;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-/** Output CSV for PNAS release. */
-public class OutputSummaryCSV implements Output {
+/**
+ * Output CSV for PNAS release. Results of simulation subprograms follow in
+ * their own columns, headed by a new header line whenever the columns change.
+ */
+public class OutputSummaryCSV implements Output, OutputSubprogramResults {
   /** Where output should be directed to. */
   private final Writer         w;
 
+  /** Formats numbers for the output Writer. */
+  private final TextFormatter  t;
+
   /** Default TAD to be reported is TAD-95. */
   private static final Double  ABSORBED_ENERGY_THRESHOLD = 0.95;
 
@@ -23,6 +31,9 @@ public class OutputSummaryCSV implements Output {
   /** Number of seen wedges. */
   private int                  wedgeCounter;
 
+  /** Columns of the last subprogram header line written, or null. */
+  private List<String>         subprogramColumns;
+
   /**
    * Generic property constructor for OutputSummaryCSV class.
    * Extracts all required information from a Map data structure.
@@ -47,6 +58,7 @@ public class OutputSummaryCSV implements Output {
     a.checkIsClass(mProp.get(Output.OUTPUT_WRITER), Writer.class,
         "no writer class given");
     w = (Writer) mProp.get(Output.OUTPUT_WRITER);
+    t = new TextFormatter(w);
 
     a.checkIsClass(mProp.get(OUTPUT_ABS_ENERGY_THRESH), Double.class,
         "absorbed energy threshold is not a double");
@@ -73,9 +85,7 @@ public class OutputSummaryCSV implements Output {
   public void publishWedge(final Wedge wdg) {
     wedgeCounter++;
 
-    w.write(String.format(
-        "%d, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f, %f%n",
-        wedgeCounter,
+    double[] values = new double[] {
         expSummary.getAvgDiffractedDose(),
         expSummary.getLastDWD(),
         expSummary.getWedgeElastic(),
@@ -90,7 +100,41 @@ public class OutputSummaryCSV implements Output {
         expSummary.getUsedVolumeFraction(),
         expSummary.getAbsEnergyTotal(),
         expSummary.getDoseInefficiency(),
-        expSummary.getDoseInefficiencyPE()));
+        expSummary.getDoseInefficiencyPE() };
+
+    t.append(wedgeCounter);
+    for (double v : values) {
+      t.append(", ").appendFixed(v);
+    }
+    t.append(System.getProperty("line.separator"));
+    t.flush();
+  }
+
+  @Override
+  public void publishSubprogramResult(final Wedge wdg,
+      final SubprogramResult result) {
+    if (result.getRun() == 1) {
+      wedgeCounter++;
+    }
+
+    List<String> columns =
+        new ArrayList<String>(result.getValues().keySet());
+    if (!columns.equals(subprogramColumns)) {
+      subprogramColumns = columns;
+      t.append("Wedge Number, Subprogram, Run");
+      for (String c : columns) {
+        t.append(", ").append(c);
+      }
+      t.append(System.getProperty("line.separator"));
+    }
+
+    t.append(wedgeCounter).append(", ").append(result.getSubprogram())
+        .append(", ").append(result.getRun());
+    for (Double v : result.getValues().values()) {
+      t.append(", ").appendFixed(v);
+    }
+    t.append(System.getProperty("line.separator"));
+    t.flush();
   }
 
   @Override
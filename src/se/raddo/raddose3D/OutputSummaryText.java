@@ -7,7 +7,7 @@ import java.util.Map;
 
 /** Summary text output module for the PNAS 2013 release of the code. */
 public class OutputSummaryText implements ExposeObserver, Output,
-    ExperimentNotices {
+    ExperimentNotices, OutputSubprogramResults {
   /** Where output should be directed to. */
   private final Writer         w;
 
@@ -241,6 +241,22 @@ public class OutputSummaryText implements ExposeObserver, Output,
     // No implementation required
   }
 
+  @Override
+  public void publishSubprogramResult(final Wedge wdg,
+      final SubprogramResult result) {
+    if (result.getRun() == 1) {
+      wedgeNum++;
+      w.write("Wedge " + wedgeNum + ":\n");
+      w.write(wdg.wedgeProperties() + crystalCoefCalc.toString() + "\n");
+    }
+    w.write(String.format("%s run %d:%n", result.getSubprogram(),
+        result.getRun()));
+    for (Map.Entry<String, Double> e : result.getValues().entrySet()) {
+      w.write(String.format("%-42s: %f%n", e.getKey(), e.getValue()));
+    }
+    w.write("\n");
+  }
+
   @Override
   public void raiseWarning(final String warning) {
     w.write("\n*** " + warning + "\n");
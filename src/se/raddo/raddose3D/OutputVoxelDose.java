@@ -64,38 +64,43 @@ public class OutputVoxelDose implements Output{
     //write first row
    // double totFluence = 0;
     
+    TextFormatter t = new TextFormatter(w);
     //write the names
     for (int i = 0; i < crystal.getCrystSizeVoxels()[0]; i++) {
       for (int j = 0; j < crystal.getCrystSizeVoxels()[1]; j++) {
         for (int k = 0; k < crystal.getCrystSizeVoxels()[2]; k++) {
           if (crystal.isCrystalAt(i, j, k)) {
-            w.write(((float) crystal.getCrystCoord(i, j, k)[0]) + "_"
-                + ((float) crystal.getCrystCoord(i, j, k)[1]) + "_"
-                + ((float) crystal.getCrystCoord(i, j, k)[2]) + ",");
+            double[] coord = crystal.getCrystCoord(i, j, k);
+            t.append((float) coord[0]).append('_')
+                .append((float) coord[1]).append('_')
+                .append((float) coord[2]).append(',');
           }
          // totFluence += (float) crystal.getFluence(i, j, k);
         }
       }
     }
-    w.write("\n");
+    t.append('\n');
 //    w.write("Fluence fraction\n");
   //  double[][][][] voxDoses = expSummary.getVoxelDoses();
     HashMap<Integer, double[][][]> voxDoses = expSummary.getVoxelDoses();
     
-    for (int l = 0; l < crystal.getNumImages(wedge);l++) {
+    // no images if only subprograms were run
+    double numImages = (wedge == null) ? 0 : crystal.getNumImages(wedge);
+    for (int l = 0; l < numImages; l++) {
       double imageDoses[][][] = voxDoses.get(l);
       for (int i = 0; i < crystal.getCrystSizeVoxels()[0]; i++) {
         for (int j = 0; j < crystal.getCrystSizeVoxels()[1]; j++) {
           for (int k = 0; k < crystal.getCrystSizeVoxels()[2]; k++) {
             if (crystal.isCrystalAt(i, j, k)) {
           //  w.write(((float) voxDoses[i][j][k][l]) + ",");
-            w.write(((float) imageDoses[i][j][k]) + ",");
+            t.append((float) imageDoses[i][j][k]).append(',');
             }
           }
         }
       }
-      w.write("\n");
+      t.append('\n');
     }
+    t.flush();
     
     
     crystal = null;
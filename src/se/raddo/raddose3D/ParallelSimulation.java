@@ -0,0 +1,319 @@
+package se.raddo.raddose3D;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * ParallelSimulation distributes the histories of a Monte Carlo simulation,
+ * eg. photons or electrons, over a pool of worker threads.
+ * <p>
+ * Histories are partitioned into contiguous batches. Each batch is simulated
+ * by a {@link Batch} task with private tallies, and the results are merged
+ * back on the calling thread strictly in batch order. The partitioning
+ * depends only on the number of histories, never on the number of threads,
+ * so together with per-history random number streams a simulation gives the
+ * same result on any number of threads.
+ * <p>
+ * The merged tallies after a batch are also the natural point to save the
+ * progress of a long simulation. A {@link Progress} set for the calling
+ * thread is told about every merged batch, and may let a simulation continue
+ * after the batches that were merged before it was interrupted.
+ */
+public final class ParallelSimulation {
+  /** Smallest number of histories worth handing to a separate batch. */
+  private static final long   MIN_BATCH_SIZE       = 1000;
+
+  /** Largest number of batches a simulation is split into. */
+  private static final int    MAX_BATCHES          = 256;
+
+  /**
+   * Number of batches that may be in flight or waiting to be merged per
+   * thread. Bounds the memory held by unmerged batch tallies.
+   */
+  private static final int    IN_FLIGHT_PER_THREAD = 2;
+
+  /** Number of threads used by all simulations. */
+  private static volatile int threads              =
+      Runtime.getRuntime().availableProcessors();
+
+  /** Creates the threads of all simulations. */
+  private static final ThreadFactory WORKERS =
+      new NamedThreadFactory("RADDOSE-3D simulation ");
+
+  /**
+   * A simulation of a range of histories.
+   *
+   * @param <T>
+   *          type holding the tallies of one batch
+   */
+  public interface Batch<T> {
+    /**
+     * Simulate a range of histories into fresh tallies. Called concurrently
+     * on the worker threads, so this must not touch shared mutable state.
+     *
+     * @param first
+     *          index of the first history
+     * @param end
+     *          index after the last history
+     * @return
+     *         tallies of the simulated histories
+     */
+    T simulate(long first, long end);
+
+    /**
+     * Merge the tallies of a batch into the overall result. Called on the
+     * thread that started the simulation, once per batch in batch order.
+     *
+     * @param tallies
+     *          tallies returned by simulate()
+     * @param end
+     *          index after the last history of the batch
+     */
+    void merge(T tallies, long end);
+  }
+
+  /**
+   * Receives the progress of the simulations run on a thread, eg. to save it
+   * so that an interrupted simulation can be resumed.
+   */
+  public interface Progress {
+    /**
+     * Called when a simulation starts, before any batch is simulated. May
+     * restore the tallies of batches merged before an interruption.
+     *
+     * @param tallies
+     *          object holding the merged tallies of the simulation
+     * @param histories
+     *          total number of histories
+     * @return
+     *         number of batches already merged into the tallies, which are
+     *         not simulated again
+     */
+    int start(Object tallies, long histories);
+
+    /**
+     * Called on the thread that started the simulation after a batch has been
+     * merged.
+     *
+     * @param tallies
+     *          object holding the merged tallies of the simulation
+     * @param merged
+     *          number of batches merged so far
+     */
+    void merged(Object tallies, int merged);
+  }
+
+  /** Progress of the simulations run on each thread. */
+  private static final ThreadLocal<Progress> PROGRESS =
+      new ThreadLocal<Progress>();
+
+  /** Static class, not to be instantiated. */
+  private ParallelSimulation() {
+  }
+
+  /**
+   * Set the number of threads used by all following simulations.
+   *
+   * @param threadCount
+   *          number of threads, at least 1
+   */
+  public static void setThreads(final int threadCount) {
+    if (threadCount < 1) {
+      throw new IllegalArgumentException(
+          "Number of simulation threads must be at least 1");
+    }
+    threads = threadCount;
+  }
+
+  /**
+   * Share the processors between a number of jobs run at the same time,
+   * rather than letting the simulation of every job use all of them.
+   *
+   * @param jobs
+   *          number of jobs run at the same time, at least 1
+   */
+  public static void shareProcessors(final int jobs) {
+    setThreads(Math.max(1,
+        Runtime.getRuntime().availableProcessors() / jobs));
+  }
+
+  /**
+   * Returns the number of threads used by simulations. Defaults to the number
+   * of available processors.
+   *
+   * @return
+   *         number of threads
+   */
+  public static int getThreads() {
+    return threads;
+  }
+
+  /**
+   * Set the Progress of the following simulations that are started on the
+   * calling thread and give their tallies.
+   *
+   * @param progress
+   *          receives the progress, or null to remove it
+   */
+  public static void setProgress(final Progress progress) {
+    if (progress == null) {
+      PROGRESS.remove();
+    } else {
+      PROGRESS.set(progress);
+    }
+  }
+
+  /**
+   * Returns the number of batches a simulation is split into.
+   *
+   * @param histories
+   *          total number of histories
+   * @return
+   *         number of batches
+   */
+  public static int getBatchCount(final long histories) {
+    long batches = (histories + MIN_BATCH_SIZE - 1) / MIN_BATCH_SIZE;
+    return (int) Math.max(1, Math.min(MAX_BATCHES, batches));
+  }
+
+  /**
+   * Returns the index of the first history of a batch. Batch sizes differ by
+   * at most one history.
+   *
+   * @param histories
+   *          total number of histories
+   * @param batch
+   *          batch index, between 0 and getBatchCount(), inclusive
+   * @return
+   *         index of the first history of the batch
+   */
+  public static long getBatchStart(final long histories, final int batch) {
+    int batches = getBatchCount(histories);
+    return histories / batches * batch
+        + Math.min(batch, histories % batches);
+  }
+
+  /**
+   * Simulate all histories and merge the results.
+   *
+   * @param histories
+   *          total number of histories
+   * @param batch
+   *          simulation task
+   * @param <T>
+   *          type holding the tallies of one batch
+   */
+  public static <T> void run(final long histories, final Batch<T> batch) {
+    run(histories, batch, null);
+  }
+
+  /**
+   * Simulate all histories and merge the results, reporting the progress to
+   * the Progress of the calling thread, if any.
+   *
+   * @param histories
+   *          total number of histories
+   * @param batch
+   *          simulation task
+   * @param tallies
+   *          object holding the merged tallies, which is passed to the
+   *          Progress, or null if the progress is not reported
+   * @param <T>
+   *          type holding the tallies of one batch
+   */
+  public static <T> void run(final long histories, final Batch<T> batch,
+      final Object tallies) {
+    final int batches = getBatchCount(histories);
+    Progress progress = null;
+    int skipped = 0;
+    if (tallies != null) {
+      progress = PROGRESS.get();
+    }
+    if (progress != null) {
+      skipped = Math.min(progress.start(tallies, histories), batches);
+    }
+    if (skipped == batches) {
+      return;
+    }
+
+    int threadCount = Math.min(threads, batches - skipped);
+    if (threadCount == 1) {
+      for (int b = skipped; b < batches; b++) {
+        long end = getBatchStart(histories, b + 1);
+        batch.merge(batch.simulate(getBatchStart(histories, b), end), end);
+        if (progress != null) {
+          progress.merged(tallies, b + 1);
+        }
+      }
+      return;
+    }
+
+    ExecutorService pool = Executors.newFixedThreadPool(threadCount,
+        WORKERS);
+    try {
+      Deque<Future<T>> pending = new ArrayDeque<Future<T>>();
+      int merged = skipped;
+      for (int b = skipped; b < batches; b++) {
+        if (pending.size() >= threadCount * IN_FLIGHT_PER_THREAD) {
+          merged++;
+          batch.merge(await(pending.poll()),
+              getBatchStart(histories, merged));
+          if (progress != null) {
+            progress.merged(tallies, merged);
+          }
+        }
+        final long first = getBatchStart(histories, b);
+        final long end = getBatchStart(histories, b + 1);
+        pending.add(pool.submit(new Callable<T>() {
+          @Override
+          public T call() {
+            return batch.simulate(first, end);
+          }
+        }));
+      }
+      while (!pending.isEmpty()) {
+        merged++;
+        batch.merge(await(pending.poll()), getBatchStart(histories, merged));
+        if (progress != null) {
+          progress.merged(tallies, merged);
+        }
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Wait for a batch to complete, passing on any exception it threw.
+   *
+   * @param future
+   *          the batch
+   * @param <T>
+   *          type holding the tallies of one batch
+   * @return
+   *         tallies of the batch
+   */
+  private static <T> T await(final Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Simulation was interrupted", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
@@ -1,10 +1,15 @@
 package se.raddo.raddose3D;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -14,6 +19,13 @@ public final class RD3D {
   
   /** Conversion factor for ns/s. */
   private static final long NANOSECONDSPERSECOND = 1000000000L;
+  /** Conversion factor for ms/min. */
+  private static final long MILLISECONDSPERMINUTE = 60000L;
+  /**
+   * File holding the SummaryCSV output of a checkpointed batch job until it
+   * is passed on to the batch summary.
+   */
+  private static final String BATCH_SUMMARY_PART = "BatchSummary.part";
   /** List of prepared input modules for the simulation. */
   private List<Input>       inputs               = new ArrayList<Input>();
   /** List of prepared output modules for the simulation. */
@@ -25,6 +37,34 @@ public final class RD3D {
   private Experiment        exp                  = new Experiment();
   /** Common prefix for output files. */
   private String            prefix               = "output-";
+  /** Write output files on a background thread. */
+  private boolean           asyncOutput          = false;
+  /** Minimum time between checkpoints in milliseconds, or null if unset. */
+  private Long              checkpointInterval;
+  /** Resume the experiment from its checkpoint. */
+  private boolean           resume               = false;
+  /**
+   * Saves the progress of the experiment to &lt;prefix&gt;Checkpoint.bin, or
+   * null if checkpointing is disabled.
+   */
+  private Checkpoint        checkpoint;
+  /** Batch directory or manifest. If set then a batch is run instead. */
+  private String            batch;
+  /**
+   * Daemon session: '-' for STDIN, otherwise a local port. If set then jobs
+   * are accepted there instead.
+   */
+  private String            daemon;
+  /** Command line parameters passed on to every experiment of a batch. */
+  private List<String>      jobParameters;
+  /** Number of experiments of a batch or daemon run at the same time. */
+  private int               workers              =
+      Runtime.getRuntime().availableProcessors();
+  /**
+   * Receives the SummaryCSV output of an experiment run as part of a batch,
+   * or null if the experiment is run on its own.
+   */
+  private final Writer      batchSummary;
 
   /**
    * Private class constructor. Only the class itself needs to instantiate it.
@@ -33,6 +73,21 @@ public final class RD3D {
    *          Command line parameters to be parsed.
    */
   private RD3D(final String[] args) {
+    this(args, null);
+  }
+
+  /**
+   * Private class constructor for a single experiment, which may be part of a
+   * batch.
+   * 
+   * @param args
+   *          Command line parameters to be parsed.
+   * @param summary
+   *          Receives the SummaryCSV output if the experiment is part of a
+   *          batch, otherwise null.
+   */
+  private RD3D(final String[] args, final Writer summary) {
+    batchSummary = summary;
     // Display help and exit if called without command line arguments
     if (args.length < 1) {
       exp = null;
@@ -41,6 +96,21 @@ public final class RD3D {
       // Check for high priority command line parameters.
       // This may change the default prefix.
       if (parseHighPriorityParameters(args)) {
+        if (batch != null || daemon != null) {
+          // Experiments are set up separately for each job.
+          exp = null;
+          jobParameters = new ArrayList<String>(Arrays.asList(args));
+          removeJobParameters();
+          return;
+        }
+        if (checkpointInterval != null || resume) {
+          if (checkpointInterval == null) {
+            checkpointInterval = Checkpoint.DEFAULT_INTERVAL;
+          }
+          checkpoint = new Checkpoint(new File(prefix + "Checkpoint.bin"),
+              checkpointInterval);
+        }
+
         // Now parse all command line options.
         parseCommandLineParameters(args);
 
@@ -48,6 +118,14 @@ public final class RD3D {
         if (outputs.isEmpty()) {
           setDefaultObservers();
         }
+        if (batchSummary != null) {
+          Writer w = batchSummary;
+          if (checkpoint != null) {
+            // A resumed job continues its summary from the file.
+            w = checkpoint.track(prefix + BATCH_SUMMARY_PART, false);
+          }
+          outputs.add(new OutputFactory().createOutputSimple("SummaryCSV", w));
+        }
 
       } else {
         exp = null;
@@ -63,7 +141,8 @@ public final class RD3D {
    */
   public static void main(final String[] cmdLineParams) {
     RD3D raddose = new RD3D(cmdLineParams);
-    if (raddose.runExperiment()) {
+    if (raddose.runExperiment() || raddose.runBatch()
+        || raddose.runDaemon()) {
       System.out.println(String.format(
           "RADDOSE-3D terminated after %.1f seconds",
           (double) ManagementFactory.getThreadMXBean()
@@ -86,11 +165,21 @@ public final class RD3D {
       return false;
     }
 
+    if (checkpoint != null) {
+      checkpoint.open(Checkpoint.getFingerprint(inputs, outputs), resume);
+      exp.setCheckpoint(checkpoint);
+    }
+
     // Add outputs to experiment.
     for (Output o : outputs) {
       exp.addObserver(o);
     }
     outputs = null;
+    // Experiments of a batch run at the same time. Single experiments keep
+    // the legacy subprogram file names.
+    if (batchSummary != null) {
+      exp.setOutputPrefix(prefix);
+    }
 
     // Process all inputs.
     for (Input i : inputs) {
@@ -106,9 +195,156 @@ public final class RD3D {
     exp.close();
     exp = null;
 
+    // The experiment has finished and cannot be resumed any more.
+    if (checkpoint != null) {
+      if (batchSummary != null) {
+        copySummaryPart();
+      }
+      checkpoint.delete();
+      checkpoint = null;
+    }
+
     return true;
   }
 
+  /**
+   * Runs every experiment of the batch on a pool of worker threads, each with
+   * the remaining command line parameters and its own output prefix, and
+   * writes a consolidated summary.
+   * 
+   * @return
+   *         Returns true if a batch was defined and could be read, false
+   *         otherwise.
+   */
+  private boolean runBatch() {
+    if (batch == null) {
+      return false;
+    }
+
+    BatchRunner runner;
+    try {
+      runner = new BatchRunner(BatchRunner.readJobs(batch, prefix),
+          workers);
+    } catch (IOException e) {
+      System.err.println("Could not read batch '" + batch + "'");
+      return false;
+    }
+
+    Writer summary;
+    try {
+      summary = openFile(prefix + "BatchSummary.csv");
+    } catch (IOException e) {
+      e.printStackTrace();
+      System.err.println("Could not open batch summary for writing");
+      return false;
+    }
+
+    // The batch itself occupies all workers. Simulations run single-threaded.
+    ParallelSimulation.setThreads(1);
+    System.out.println("Running " + runner.getJobs().size()
+        + " experiments on " + workers + " threads");
+
+    int failed = runner.run(new BatchRunner.Runner() {
+      @Override
+      public void run(final BatchRunner.Job job, final Writer jobSummary) {
+        List<String> args = new ArrayList<String>(jobParameters);
+        args.add("-p");
+        args.add(job.getPrefix());
+        args.add("-i");
+        args.add(job.getInput());
+        new RD3D(args.toArray(new String[args.size()]), jobSummary)
+            .runExperiment();
+      }
+    }, summary);
+
+    if (failed > 0) {
+      System.err.println(failed + " of " + runner.getJobs().size()
+          + " batch experiments failed");
+    }
+    batch = null;
+    return true;
+  }
+
+  /**
+   * Accepts jobs on STDIN or a local port and runs them on a pool of worker
+   * threads. When reading from STDIN, responses are written to STDOUT and all
+   * other console output is redirected to STDERR.
+   * 
+   * @return
+   *         Returns true if a daemon was defined and the session ended, false
+   *         otherwise.
+   */
+  private boolean runDaemon() {
+    if (daemon == null) {
+      return false;
+    }
+
+    for (String parameter : jobParameters) {
+      System.err.println("Ignored in daemon mode: " + parameter);
+    }
+
+    // The jobs themselves occupy all workers. Simulations run single-threaded.
+    ParallelSimulation.setThreads(1);
+    Daemon d = new Daemon(workers);
+    try {
+      if ("-".equals(daemon)) {
+        PrintStream responses = System.out;
+        System.setOut(System.err);
+        System.err.println("Accepting jobs on STDIN, separated by lines of "
+            + Daemon.DELIMITER);
+        d.serve(System.in, responses);
+      } else {
+        d.listen(Integer.parseInt(daemon));
+      }
+    } catch (NumberFormatException e) {
+      System.err.println("Invalid daemon port: " + daemon);
+      return false;
+    } catch (IOException e) {
+      System.err.println("Daemon stopped: " + e);
+      return false;
+    } finally {
+      d.close();
+    }
+    daemon = null;
+    return true;
+  }
+
+  /**
+   * Remove the command line parameters that are handled by a batch or daemon
+   * itself, leaving those that are passed on to every experiment.
+   */
+  private void removeJobParameters() {
+    Iterator<String> it = jobParameters.iterator();
+    while (it.hasNext()) {
+      String command = it.next().toLowerCase();
+      if ("-b".equals(command) || "--batch".equals(command)
+          || "-d".equals(command) || "--daemon".equals(command)
+          || "-p".equals(command) || "--prefix".equals(command)
+          || "-i".equals(command) || "--in".equals(command)) {
+        it.remove();
+        if (it.hasNext()) {
+          it.next();
+          it.remove();
+        }
+      } else if ("-j".equals(command) || "--threads".equals(command)) {
+        it.remove();
+        if (it.hasNext()) {
+          String threads = it.next();
+          it.remove();
+          try {
+            workers = Integer.parseInt(threads);
+          } catch (NumberFormatException e) {
+            System.err.println("Invalid number of threads: " + threads);
+          }
+        }
+      }
+    }
+    if (workers < 1) {
+      System.err.println("Invalid number of threads: " + workers);
+      workers = 1;
+    }
+  }
+
   /**
    * Check command line for high priority parameters.
    * Parameters such as -V, -? or -p affect all others, and must therefore be
@@ -145,6 +381,44 @@ public final class RD3D {
           prefix = cmdLineParams[++i];
           System.out.println("Output file prefix set to " + prefix);
         }
+
+      } else if ("-a".equals(command)
+          || "--async-output".equalsIgnoreCase(command)) {
+        asyncOutput = true;
+
+      } else if ("-c".equals(command)
+          || "--checkpoint".equalsIgnoreCase(command)) {
+        if ((i + 1) >= cmdLineParams.length) {
+          System.err.println("No checkpoint interval given");
+        } else {
+          i++;
+          try {
+            checkpointInterval = (long) (Double.parseDouble(cmdLineParams[i])
+                * MILLISECONDSPERMINUTE);
+          } catch (NumberFormatException e) {
+            System.err.println("Invalid checkpoint interval: "
+                + cmdLineParams[i]);
+          }
+        }
+
+      } else if ("--resume".equalsIgnoreCase(command)) {
+        resume = true;
+
+      } else if ("-b".equals(command)
+          || "--batch".equalsIgnoreCase(command)) {
+        if ((i + 1) >= cmdLineParams.length) {
+          System.err.println("No batch directory or manifest given");
+        } else {
+          batch = cmdLineParams[++i];
+        }
+
+      } else if ("-d".equals(command)
+          || "--daemon".equalsIgnoreCase(command)) {
+        if ((i + 1) >= cmdLineParams.length) {
+          System.err.println("No daemon port given");
+        } else {
+          daemon = cmdLineParams[++i];
+        }
       }
     }
     return true;
@@ -195,6 +469,35 @@ public final class RD3D {
           // so that it can affect earlier -o commands
         }
 
+      } else if ("-a".equals(command) || "--async-output".equals(command)) {
+        // asynchronous output is set as a priority parameter,
+        // so that it can affect earlier -o commands
+
+      } else if ("-c".equals(command) || "--checkpoint".equals(command)) {
+        if ((i + 1) < cmdLineParams.length) {
+          i++;
+          // checkpointing is set up as a priority parameter,
+          // so that it can track the writers of earlier -o commands
+        }
+
+      } else if ("--resume".equals(command)) {
+        // see --checkpoint
+
+      } else if ("-j".equals(command) || "--threads".equals(command)) {
+        if ((i + 1) >= cmdLineParams.length) {
+          System.err.println("No number of threads given");
+        } else {
+          i++;
+          try {
+            ParallelSimulation.setThreads(Integer.parseInt(cmdLineParams[i]));
+            System.out.println("Monte Carlo simulations will use "
+                + cmdLineParams[i] + " threads");
+          } catch (IllegalArgumentException e) {
+            System.err.println("Invalid number of threads: "
+                + cmdLineParams[i]);
+          }
+        }
+
       } else if ("-t".equals(command) || "--test".equals(command)) {
         System.out.println("Test run. No actual calculations will take place.");
         exp = new ExperimentDummy();
@@ -260,7 +563,7 @@ public final class RD3D {
     OutputFactory of = new OutputFactory();
 
     try {
-      Writer w = new WriterFile(prefix + "Summary.csv");
+      Writer w = openFile(prefix + "Summary.csv");
       outputs.add(of.createOutputSimple("SummaryCSV", w));
     } catch (IOException e) {
       e.printStackTrace();
@@ -268,8 +571,10 @@ public final class RD3D {
     }
 
     try {
-      Writer w = new WriterMultiple(Arrays.asList(
-          new WriterConsole(), new WriterFile(prefix + "Summary.txt")));
+      Writer w = openFile(prefix + "Summary.txt");
+      if (batchSummary == null) {
+        w = new WriterMultiple(Arrays.asList(new WriterConsole(), w));
+      }
       outputs.add(of.createOutputSimple("SummaryText", w));
     } catch (IOException e) {
       e.printStackTrace();
@@ -277,7 +582,7 @@ public final class RD3D {
     }
 
     try {
-      Writer w = new WriterFile(prefix + "DoseState.csv");
+      Writer w = openFile(prefix + "DoseState.csv");
       outputs.add(of.createOutputSimple("FinalDoseStateCSV", w));
     } catch (IOException e) {
       e.printStackTrace();
@@ -285,43 +590,46 @@ public final class RD3D {
     }
 
     try {
-      Writer w = new WriterFile(prefix + "DoseState.R");
+      Writer w = openFile(prefix + "DoseState.R");
       outputs.add(of.createOutputSimple("FinalDoseStateR", w));
     } catch (IOException e) {
       e.printStackTrace();
       System.err.println("Could not initialize OutputDoseStateR");
     }
     try {
-      Writer w = new WriterFile(prefix + "RDE.csv");
+      Writer w = openFile(prefix + "RDE.csv");
       outputs.add(of.createOutputSimple("RDECSV", w));
     } catch (IOException e) {
       e.printStackTrace();
       System.err.println("Could not initialize RDECSV");
     }
     try {
-      Writer w = new WriterFile(prefix + "DWDs.csv");
+      Writer w = openFile(prefix + "DWDs.csv");
       outputs.add(of.createOutputSimple("DWDs", w));
     } catch (IOException e) {
       e.printStackTrace();
       System.err.println("Could not initialize DWDs");
     }
     try {
-      Writer w = new WriterFile(prefix + "VoxelDose.csv");
+      Writer w = openFile(prefix + "VoxelDose.csv");
       outputs.add(of.createOutputSimple("VoxelDose", w));
     } catch (IOException e) {
       e.printStackTrace();
       System.err.println("Could not initialize VoxelDose");
     }
     try {
-      Writer w = new WriterFile(prefix + "VoxelFluences.csv");
+      Writer w = openFile(prefix + "VoxelFluences.csv");
       outputs.add(of.createOutputSimple("VoxelFluences", w));
     } catch (IOException e) {
       e.printStackTrace();
       System.err.println("Could not initialize VoxelFluences");
     }
 
-    Writer w = new WriterConsole();
-    outputs.add(of.createOutputSimple("ProgressIndicator", w));
+    // Progress of concurrent batch experiments would be interleaved.
+    if (batchSummary == null) {
+      Writer w = new WriterConsole();
+      outputs.add(of.createOutputSimple("ProgressIndicator", w));
+    }
   }
 
   /**
@@ -341,7 +649,28 @@ public final class RD3D {
     System.out.println();
     System.out.println(" -p   or --prefix name  prefix for output files");
     System.out.println(" -r   or --raddose path path to RaddoseV3 executable");
+    System.out.println(" -a   or --async-output write output files in the"
+        + " background");
+    System.out.println(" -j   or --threads n    number of Monte Carlo simulation"
+        + " threads");
     System.out.println(" -t   or --test         test run with no simulation");
+    System.out.println(" -c   or --checkpoint m save progress to"
+        + " <prefix>Checkpoint.bin after a wedge");
+    System.out.println("                        or simulation batch, at most"
+        + " every m minutes");
+    System.out.println("        --resume        continue from"
+        + " <prefix>Checkpoint.bin, if present");
+    System.out.println();
+    System.out.println(" -b   or --batch path   run every input file in a"
+        + " directory or manifest");
+    System.out.println("                        on -j threads, writing"
+        + " <prefix>BatchSummary.csv");
+    System.out.println(" -d - or --daemon -     run jobs from STDIN, separated"
+        + " by lines of " + Daemon.DELIMITER + ",");
+    System.out.println("                        on -j threads, returning"
+        + " their SummaryCSV in order");
+    System.out.println(" -d   or --daemon port  same, for connections to a"
+        + " local port");
     System.out.println();
     System.out.println(" -o   or --out <output> for user-defined output");
     // System.out.println("      see manual or use -o? for complete syntax");
@@ -363,6 +692,46 @@ public final class RD3D {
     System.out.println(" http://dx.doi.org/10.1107/S0021889813011461");
   }
 
+  /**
+   * Opens an output file for writing, either directly or through a background
+   * writer thread, depending on the --async-output command line parameter.
+   * With checkpointing, the file is opened by the checkpoint when the
+   * experiment starts, so that a resumed experiment continues it.
+   * 
+   * @param filename
+   *          Name of the file, may include absolute or relative path.
+   * @return
+   *         A Writer instance writing to the specified file.
+   * @throws IOException
+   *           thrown, if file cannot be opened for writing.
+   */
+  private Writer openFile(final String filename) throws IOException {
+    if (checkpoint != null) {
+      return checkpoint.track(filename, asyncOutput);
+    }
+    if (asyncOutput) {
+      return new WriterFileAsync(filename);
+    }
+    return new WriterFile(filename);
+  }
+
+  /**
+   * Passes the summary of a checkpointed batch job on to the batch summary
+   * and removes its file.
+   */
+  private void copySummaryPart() {
+    File part = new File(prefix + BATCH_SUMMARY_PART);
+    try {
+      batchSummary.write(new String(Files.readAllBytes(part.toPath()),
+          StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      System.err.println("Could not read " + part + ": " + e.getMessage());
+    }
+    if (!part.delete()) {
+      System.err.println("Could not delete " + part);
+    }
+  }
+
   /**
    * Creates an instance of Writer that writes to specified destinations.
    * Destinations can be '-' for STDOUT or filenames.
@@ -383,7 +752,7 @@ public final class RD3D {
       } else {
         String filename = prefix.concat(destination);
         try {
-          writers.add(new WriterFile(filename));
+          writers.add(openFile(filename));
         } catch (IOException e) {
           System.err.println("Could not open file " + filename
               + " for writing.");
@@ -0,0 +1,166 @@
+package se.raddo.raddose3D;
+
+import java.util.SplittableRandom;
+
+/**
+ * A RandomStream supplies the random numbers of a Monte Carlo simulation.
+ * <p>
+ * Every stream is identified by a 64 bit seed. Independent substreams, eg. one
+ * per simulated photon or electron, are derived from the seed and a
+ * substream index alone. A simulation that draws the numbers of history i
+ * from substream(i) therefore produces the same result regardless of the
+ * order in which, or the thread on which, the histories are simulated.
+ * <p>
+ * A single stream produces the same numbers as a {@link SplittableRandom}
+ * with the same seed, but keeps its state in plain fields so that a
+ * {@link Checkpoint} can save and restore it. A stream must not be shared
+ * between threads. Deriving substreams does not touch the state of the parent
+ * stream and is thread safe.
+ */
+public final class RandomStream {
+  /** Odd constant used to spread substream indices over the seed space. */
+  private static final long      GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  /** Scale of the 53 significant bits of a random double. */
+  private static final double    DOUBLE_UNIT  = 0x1.0p-53;
+
+  /** Seed of this stream. */
+  private long                   seed;
+
+  /** Position of the generator, advanced by GOLDEN_GAMMA per value. */
+  private long                   state;
+
+  /**
+   * Create a stream with a given seed.
+   *
+   * @param seed
+   *          the seed
+   */
+  public RandomStream(final long seed) {
+    this.seed = seed;
+    state = seed;
+  }
+
+  /**
+   * Create a stream from an optional seed.
+   *
+   * @param seed
+   *          the seed, or null to choose a seed at random
+   * @return
+   *         new stream
+   */
+  public static RandomStream fromSeed(final Long seed) {
+    if (seed == null) {
+      return new RandomStream(new SplittableRandom().nextLong());
+    }
+    return new RandomStream(seed);
+  }
+
+  /**
+   * Returns the seed of this stream. Passing it to the constructor reproduces
+   * the stream and all of its substreams.
+   *
+   * @return
+   *         the seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Derive an independent substream. The result depends only on the seed of
+   * this stream and the index, not on any numbers drawn so far.
+   *
+   * @param index
+   *          substream index, eg. the number of a photon history
+   * @return
+   *         new stream
+   */
+  public RandomStream substream(final long index) {
+    return new RandomStream(mix64(seed ^ mix64((index + 1) * GOLDEN_GAMMA)));
+  }
+
+  /**
+   * Returns a uniformly distributed value in [0, 1). Drop-in replacement for
+   * Math.random().
+   *
+   * @return
+   *         random value
+   */
+  public double nextDouble() {
+    return (mix64(nextState()) >>> 11) * DOUBLE_UNIT;
+  }
+
+  /**
+   * Returns a uniformly distributed integer in [origin, bound).
+   *
+   * @param origin
+   *          smallest value that can be returned
+   * @param bound
+   *          upper bound, exclusive
+   * @return
+   *         random value
+   */
+  public int nextInt(final int origin, final int bound) {
+    if (origin >= bound) {
+      throw new IllegalArgumentException("bound must be greater than origin");
+    }
+    // Unbiased rejection sampling as in SplittableRandom.
+    int r = mix32(nextState());
+    int n = bound - origin;
+    int m = n - 1;
+    if ((n & m) == 0) {
+      return (r & m) + origin;
+    } else if (n > 0) {
+      int u = r >>> 1;
+      r = u % n;
+      while (u + m - r < 0) {
+        u = mix32(nextState()) >>> 1;
+        r = u % n;
+      }
+      return r + origin;
+    }
+    while (r < origin || r >= bound) {
+      r = mix32(nextState());
+    }
+    return r;
+  }
+
+  /**
+   * Advance the generator.
+   *
+   * @return
+   *         the new position
+   */
+  private long nextState() {
+    state += GOLDEN_GAMMA;
+    return state;
+  }
+
+  /**
+   * Mixing function giving the 32 bit values of SplittableRandom.
+   *
+   * @param z
+   *          input value
+   * @return
+   *         mixed value
+   */
+  private static int mix32(final long z) {
+    long x = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+    return (int) (((x ^ (x >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+  }
+
+  /**
+   * SplitMix64 finaliser, a bijective mixing function on 64 bit values.
+   *
+   * @param z
+   *          input value
+   * @return
+   *         mixed value
+   */
+  private static long mix64(final long z) {
+    long x = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+    return x ^ (x >>> 31);
+  }
+}
@@ -484,7 +484,7 @@ public class ResidueDatabase {
    * 
    * @return Instance of the residue database.
    */
-  public static ResidueDatabase getInstance() {
+  public static synchronized ResidueDatabase getInstance() {
     if (singleton == null) {
       singleton = new ResidueDatabase();
     }
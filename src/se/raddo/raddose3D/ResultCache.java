@@ -0,0 +1,616 @@
+package se.raddo.raddose3D;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The ResultCache keeps the outputs of finished simulations on disk, so that
+ * an experiment that has been simulated before is answered without running
+ * it again.
+ * <p>
+ * Results are content-addressed: the file name is a SHA-256 hash of the
+ * parsed experiment, namely the type and properties of every crystal and
+ * beam, the composition of every sample, the contents of referenced wireframe
+ * and beam files, every wedge, the random number seed and the program
+ * version. Layout, comments and number formatting of the input therefore do
+ * not matter, while any change to the experiment gives a new key.
+ * <p>
+ * Only deterministic experiments are cached. Photoelectron and fluorescence
+ * escape draw random numbers and are only cached if a seed is given. The
+ * Monte Carlo subprograms are not cached, even with a seed. Their seeded
+ * results have depended on the state of the JVM before, and a cached result
+ * must match a fresh run in any JVM. They are kept out until that is shown
+ * for all of them.
+ * <p>
+ * Files are kept in the same directory as the {@link ConstantsCache}, which
+ * is selected with the system property raddose3d.cachedir. The total size of
+ * the results is limited by the system property raddose3d.resultcachesize in
+ * megabytes. The least recently used results are removed first.
+ */
+public final class ResultCache {
+  /** System property selecting the size limit in megabytes. */
+  public static final String  SIZE_PROPERTY  = "raddose3d.resultcachesize";
+
+  /** Default size limit in megabytes. */
+  private static final long   DEFAULT_SIZE   = 512;
+
+  /** Bytes per megabyte. */
+  private static final long   MEGABYTE       = 1024 * 1024;
+
+  /** Version of the key and file format, part of every key. */
+  private static final int    FORMAT_VERSION = 1;
+
+  /** Identifies a cache file, "RD3DRES" followed by the format version. */
+  private static final long   MAGIC          = 0x5244334452455300L
+                                                 | FORMAT_VERSION;
+
+  /** Prefix of the cache file names. */
+  private static final String FILE_PREFIX    = "result-";
+
+  /** Suffix of the cache file names. */
+  private static final String FILE_SUFFIX    = ".gz";
+
+  /** Directory of the cache files, or null if caching is disabled. */
+  private final File          dir;
+
+  /** Size limit of all cache files in bytes. */
+  private final long          maxSize;
+
+  /**
+   * Create a cache that keeps its files in a directory.
+   *
+   * @param dir
+   *          the cache directory, or null to disable caching
+   * @param maxSize
+   *          size limit of all cache files in bytes, 0 to disable caching
+   */
+  public ResultCache(final File dir, final long maxSize) {
+    if (maxSize > 0) {
+      this.dir = dir;
+    } else {
+      this.dir = null;
+    }
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns a cache in the directory selected by the raddose3d.cachedir
+   * system property, limited to the size selected by the
+   * raddose3d.resultcachesize system property.
+   *
+   * @return
+   *         the cache, which may be disabled
+   */
+  public static ResultCache getDefault() {
+    long size = DEFAULT_SIZE;
+    String property = System.getProperty(SIZE_PROPERTY);
+    if (property != null) {
+      try {
+        size = Long.parseLong(property.trim());
+      } catch (NumberFormatException e) {
+        System.err.println("ResultCache: Ignoring invalid " + SIZE_PROPERTY
+            + " '" + property + "'");
+      }
+    }
+    return new ResultCache(ConstantsCache.getCacheDirectory(), size
+        * MEGABYTE);
+  }
+
+  /**
+   * Returns whether results are cached at all.
+   *
+   * @return
+   *         false if caching is disabled
+   */
+  public boolean isEnabled() {
+    return dir != null;
+  }
+
+  /**
+   * Calculate the key of an experiment. The input is parsed, but no crystal
+   * or beam is created and nothing is simulated.
+   *
+   * @param input
+   *          input of the experiment, which is consumed
+   * @return
+   *         key as a hexadecimal string, or null if the experiment is not
+   *         deterministic and must not be cached
+   * @throws InputException
+   *           the input is malformed
+   */
+  public static String getKey(final InputParser input) throws InputException {
+    KeyRecorder recorder = new KeyRecorder();
+    input.setCrystalFactory(recorder.crystals);
+    input.setBeamFactory(recorder.beams);
+    input.sendData(recorder);
+    if (!recorder.cacheable) {
+      return null;
+    }
+    return sha256(recorder.description.toString().getBytes(
+        StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Calculate the SHA-256 hash of some data.
+   *
+   * @param data
+   *          data to be hashed
+   * @return
+   *         hash as a hexadecimal string
+   */
+  static String sha256(final byte[] data) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    StringBuilder key = new StringBuilder();
+    for (byte b : digest.digest(data)) {
+      key.append(String.format("%02x", b));
+    }
+    return key.toString();
+  }
+
+  /**
+   * Returns the file holding the results of a key.
+   *
+   * @param key
+   *          key calculated by getKey()
+   * @return
+   *         the file, or null if caching is disabled
+   */
+  public File getFile(final String key) {
+    if (dir == null) {
+      return null;
+    }
+    return new File(dir, FILE_PREFIX + key + FILE_SUFFIX);
+  }
+
+  /**
+   * Read the results of a key, if they have been stored before. A successful
+   * read marks the results as recently used.
+   *
+   * @param key
+   *          key calculated by getKey()
+   * @return
+   *         the outputs by name in the order they were stored, or null if
+   *         there are no usable results
+   */
+  public Map<String, String> load(final String key) {
+    File file = getFile(key);
+    if (file == null || !file.isFile()) {
+      return null;
+    }
+    Map<String, String> outputs = new LinkedHashMap<String, String>();
+    try {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(
+          new GZIPInputStream(new FileInputStream(file))));
+      try {
+        if (in.readLong() != MAGIC || !key.equals(in.readUTF())) {
+          return null;
+        }
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+          String name = in.readUTF();
+          byte[] data = new byte[in.readInt()];
+          in.readFully(data);
+          outputs.put(name, new String(data, StandardCharsets.UTF_8));
+        }
+      } finally {
+        in.close();
+      }
+    } catch (IOException e) {
+      System.err.println("ResultCache: Could not read " + file
+          + ", recalculating: " + e.getMessage());
+      return null;
+    }
+    if (!file.setLastModified(System.currentTimeMillis())) {
+      System.err.println("ResultCache: Could not mark " + file + " as used");
+    }
+    return outputs;
+  }
+
+  /**
+   * Store the results of a key, then remove the least recently used results
+   * until the cache fits its size limit. The file is written under a
+   * temporary name and then moved into place, so that concurrent processes
+   * never see a partially written file. Does nothing if caching is disabled.
+   *
+   * @param key
+   *          key calculated by getKey()
+   * @param outputs
+   *          the outputs by name
+   * @throws IOException
+   *           The file could not be written.
+   */
+  public void store(final String key, final Map<String, String> outputs)
+      throws IOException {
+    File file = getFile(key);
+    if (file == null) {
+      return;
+    }
+    if (!dir.isDirectory() && !dir.mkdirs()) {
+      throw new IOException("Could not create directory " + dir);
+    }
+
+    File tmp = File.createTempFile(FILE_PREFIX, ".tmp", dir);
+    try {
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          new GZIPOutputStream(new FileOutputStream(tmp))));
+      try {
+        out.writeLong(MAGIC);
+        out.writeUTF(key);
+        out.writeInt(outputs.size());
+        for (Map.Entry<String, String> output : outputs.entrySet()) {
+          byte[] data = output.getValue().getBytes(StandardCharsets.UTF_8);
+          out.writeUTF(output.getKey());
+          out.writeInt(data.length);
+          out.write(data);
+        }
+      } finally {
+        out.close();
+      }
+
+      try {
+        Files.move(tmp.toPath(), file.toPath(),
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp.toPath(), file.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      if (tmp.exists() && !tmp.delete()) {
+        tmp.deleteOnExit();
+      }
+    }
+    evict();
+  }
+
+  /**
+   * Remove the least recently used results until all cache files fit the
+   * size limit.
+   */
+  private void evict() {
+    File[] files = dir.listFiles(new FileFilter() {
+      @Override
+      public boolean accept(final File f) {
+        return f.isFile() && f.getName().startsWith(FILE_PREFIX)
+            && f.getName().endsWith(FILE_SUFFIX);
+      }
+    });
+    if (files == null) {
+      return;
+    }
+    final Map<File, Long> lastUsed = new TreeMap<File, Long>();
+    for (File f : files) {
+      lastUsed.put(f, f.lastModified());
+    }
+    // most recently used first
+    Arrays.sort(files, new Comparator<File>() {
+      @Override
+      public int compare(final File a, final File b) {
+        return lastUsed.get(b).compareTo(lastUsed.get(a));
+      }
+    });
+
+    long size = 0;
+    for (File f : files) {
+      size += f.length();
+      if (size > maxSize && !f.delete()) {
+        System.err.println("ResultCache: Could not remove " + f);
+      }
+    }
+  }
+
+  /**
+   * Records a canonical description of a parsed experiment instead of
+   * simulating it.
+   */
+  private static class KeyRecorder implements Initializer {
+    /** Canonical description of the experiment so far. */
+    private final StringBuilder description = new StringBuilder();
+
+    /** Cleared once anything non-deterministic is encountered. */
+    private boolean             cacheable   = true;
+
+    /** Records crystals instead of creating them. */
+    private final CrystalFactory crystals   = new CrystalFactory() {
+      @Override
+      public Crystal createCrystal(final String crystalName,
+          final Map<Object, Object> properties) {
+        checkDeterministic(properties);
+        description.append("Crystal ")
+            .append(String.valueOf(crystalName).toLowerCase()).append(' ');
+        appendProperties(properties, Crystal.CRYSTAL_WIREFRAME_FILE);
+        return null;
+      }
+    };
+
+    /** Records beams instead of creating them. */
+    private final BeamFactory    beams      = new BeamFactory() {
+      @Override
+      public Beam createBeam(final String beamName,
+          final Map<Object, Object> properties) {
+        description.append("Beam ")
+            .append(String.valueOf(beamName).toLowerCase()).append(' ');
+        appendProperties(properties, Beam.BEAM_EXTFILE);
+        return null;
+      }
+    };
+
+    /**
+     * Start the description with everything that is not part of the input.
+     */
+    KeyRecorder() {
+      description.append("RADDOSE-3D ").append(Version.VERSION_STRING)
+          .append(" result ").append(FORMAT_VERSION).append('\n');
+    }
+
+    /**
+     * Clear the cacheable flag if a crystal would run a Monte Carlo
+     * subprogram, or draw random numbers that do not follow a seed.
+     *
+     * @param properties
+     *          crystal properties
+     */
+    private void checkDeterministic(final Map<Object, Object> properties) {
+      Object program = properties.get(Crystal.CRYSTAL_PROGRAM);
+      if (program != null
+          && !"RD3D".equalsIgnoreCase(program.toString().trim())) {
+        cacheable = false;
+      }
+      if (properties.get(Crystal.CRYSTAL_SEED) == null
+          && (isTrue(properties.get(Crystal.CRYSTAL_ELECTRON_ESCAPE))
+          || isTrue(properties.get(Crystal.CRYSTAL_FLUORESCENT_ESCAPE)))) {
+        cacheable = false;
+      }
+    }
+
+    /**
+     * @param value
+     *          property value
+     * @return
+     *         true if the value is the string TRUE, in any case
+     */
+    private static boolean isTrue(final Object value) {
+      return value != null && "TRUE".equalsIgnoreCase(value.toString());
+    }
+
+    /**
+     * Describe a property map, sorted by key.
+     *
+     * @param properties
+     *          crystal or beam properties
+     * @param fileProperty
+     *          key of a property naming a file, whose contents are
+     *          described as well
+     */
+    private void appendProperties(final Map<Object, Object> properties,
+        final String fileProperty) {
+      appendValue(properties);
+      Object fileName = properties.get(fileProperty);
+      if (fileName != null) {
+        try {
+          description.append(" file ").append(sha256(Files.readAllBytes(
+              new File(fileName.toString()).toPath())));
+        } catch (IOException e) {
+          cacheable = false;
+        }
+      }
+      description.append('\n');
+    }
+
+    /**
+     * Describe a value in a form that does not depend on object identity or
+     * hash ordering. Clears the cacheable flag for values that cannot be
+     * described.
+     *
+     * @param value
+     *          the value
+     */
+    private void appendValue(final Object value) {
+      if (value == null) {
+        description.append("null");
+      } else if (value instanceof String) {
+        description.append('"').append(((String) value)
+            .replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+      } else if (value instanceof Double || value instanceof Float) {
+        description.append(((Number) value).doubleValue());
+      } else if (value instanceof Number || value instanceof Boolean
+          || value instanceof Character || value instanceof Enum) {
+        description.append(value);
+      } else if (value instanceof Map) {
+        Map<String, String> sorted = new TreeMap<String, String>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+          sorted.put(describe(entry.getKey()), describe(entry.getValue()));
+        }
+        description.append('{');
+        for (Map.Entry<String, String> entry : sorted.entrySet()) {
+          description.append(entry.getKey()).append('=')
+              .append(entry.getValue()).append(';');
+        }
+        description.append('}');
+      } else if (value instanceof Set) {
+        Set<String> sorted = new TreeSet<String>();
+        for (Object o : (Set<?>) value) {
+          sorted.add(describe(o));
+        }
+        description.append(sorted);
+      } else if (value instanceof Collection) {
+        description.append('[');
+        for (Object o : (Collection<?>) value) {
+          appendValue(o);
+          description.append(';');
+        }
+        description.append(']');
+      } else if (value.getClass().isArray()) {
+        description.append('[');
+        for (int i = 0; i < Array.getLength(value); i++) {
+          appendValue(Array.get(value, i));
+          description.append(';');
+        }
+        description.append(']');
+      } else if (value instanceof CoefCalcCompute) {
+        appendComposition((CoefCalcCompute) value);
+      } else if (value instanceof CoefCalcAverage) {
+        description.append(value.getClass().getName());
+      } else if (value instanceof DDM || value instanceof Container) {
+        appendFields(value);
+      } else {
+        cacheable = false;
+      }
+    }
+
+    /**
+     * Describe a value on its own.
+     *
+     * @param value
+     *          the value
+     * @return
+     *         the description
+     */
+    private String describe(final Object value) {
+      int start = description.length();
+      appendValue(value);
+      String s = description.substring(start);
+      description.setLength(start);
+      return s;
+    }
+
+    /**
+     * Describe the composition of a sample and its surrounding.
+     *
+     * @param coefCalc
+     *          coefficient calculation of the sample
+     */
+    private void appendComposition(final CoefCalcCompute coefCalc) {
+      Map<Integer, Element> elements = new TreeMap<Integer, Element>();
+      for (boolean surrounding : new boolean[] {false, true}) {
+        Collection<Element> present =
+            coefCalc.getPresentElements(surrounding);
+        if (present != null) {
+          for (Element e : present) {
+            elements.put(e.getAtomicNumber(), e);
+          }
+        }
+      }
+      description.append(coefCalc.getClass().getName()).append('(')
+          .append(coefCalc.cellVolume).append(';')
+          .append(coefCalc.getDensity()).append(';')
+          .append(coefCalc.isCryo()).append(';')
+          .append(coefCalc.getNumberSimulatedElectrons()).append(';');
+      for (Element e : elements.values()) {
+        description.append(e.getAtomicNumber()).append('=')
+            .append(coefCalc.totalAtoms(e)).append('/')
+            .append(coefCalc.totalAtomsSurr(e)).append(';');
+      }
+      description.append(')');
+    }
+
+    /**
+     * Describe a decay model or container by its class and the values of its
+     * fields.
+     *
+     * @param value
+     *          the object
+     */
+    private void appendFields(final Object value) {
+      description.append(value.getClass().getName()).append('(');
+      for (Class<?> c = value.getClass(); c != Object.class;
+          c = c.getSuperclass()) {
+        Map<String, Field> fields = new TreeMap<String, Field>();
+        for (Field f : c.getDeclaredFields()) {
+          if (!Modifier.isStatic(f.getModifiers())
+              && isDescribable(f.getType())) {
+            fields.put(f.getName(), f);
+          }
+        }
+        for (Field f : fields.values()) {
+          f.setAccessible(true);
+          description.append(f.getName()).append('=');
+          try {
+            appendValue(f.get(value));
+          } catch (IllegalAccessException e) {
+            cacheable = false;
+          }
+          description.append(';');
+        }
+      }
+      description.append(')');
+    }
+
+    /**
+     * @param type
+     *          type of a field
+     * @return
+     *         true if values of this type describe the state of an object,
+     *         false for references to helper objects such as databases
+     */
+    private static boolean isDescribable(final Class<?> type) {
+      return type.isPrimitive() || type.isArray()
+          || type == String.class || Number.class.isAssignableFrom(type)
+          || type == Boolean.class || Collection.class.isAssignableFrom(type)
+          || Map.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void setCrystal(final Crystal c) {
+      // recorded by the crystal factory
+    }
+
+    @Override
+    public void setBeam(final Beam b) {
+      // recorded by the beam factory
+    }
+
+    @Override
+    public void exposeWedge(final Wedge w) {
+      if (w == null) {
+        return;
+      }
+      description.append("Wedge ");
+      Map<String, String> values = new TreeMap<String, String>();
+      for (Wedge.WedgeProperties p : Wedge.WedgeProperties.values()) {
+        values.put(p.name(), describe(w.get(p)));
+      }
+      description.append(values).append('\n');
+    }
+
+    @Override
+    public void raiseWarning(final String warning) {
+      // warnings are repeated when the experiment is run
+    }
+
+    @Override
+    public void addReference(final String reference) {
+      // references are repeated when the experiment is run
+    }
+  }
+}
@@ -0,0 +1,246 @@
+package se.raddo.raddose3D;
+
+import java.util.Arrays;
+
+/**
+ * A SparseTimeTally accumulates values per voxel and per time bin, eg. the
+ * energy deposited in each voxel during each part of an XFEL pulse.
+ * <p>
+ * Only voxels and time bins that receive a value take up memory. Each voxel
+ * keeps a list of (time bin, value) entries. New values are appended to the
+ * list. When the list is full it is compacted: entries are sorted by time bin
+ * and entries of the same bin are summed in the order they were added, so
+ * every bin holds exactly the sum a dense array would hold. Memory therefore
+ * scales with the number of distinct (voxel, time bin) pairs rather than with
+ * voxels times time bins.
+ * <p>
+ * Instances are not thread safe.
+ */
+public final class SparseTimeTally {
+  /** Number of entries a voxel can hold before its list first grows. */
+  private static final int  INITIAL_CAPACITY = 8;
+
+  /** Entries of each voxel, or null for voxels without entries. */
+  private final Voxel[][][] voxels;
+
+  /**
+   * Create an empty tally.
+   *
+   * @param nx
+   *          number of voxels in x
+   * @param ny
+   *          number of voxels in y
+   * @param nz
+   *          number of voxels in z
+   */
+  public SparseTimeTally(final int nx, final int ny, final int nz) {
+    voxels = new Voxel[nx][ny][nz];
+  }
+
+  /**
+   * Add a value to a time bin of a voxel.
+   *
+   * @param i
+   *          voxel index in x
+   * @param j
+   *          voxel index in y
+   * @param k
+   *          voxel index in z
+   * @param bin
+   *          time bin, at least 0
+   * @param value
+   *          value to add
+   */
+  public void add(final int i, final int j, final int k, final int bin,
+      final double value) {
+    if (bin < 0) {
+      throw new IllegalArgumentException("Negative time bin " + bin);
+    }
+    Voxel voxel = voxels[i][j][k];
+    if (voxel == null) {
+      voxel = new Voxel();
+      voxels[i][j][k] = voxel;
+    }
+    voxel.add(bin, value);
+  }
+
+  /**
+   * Returns the number of non-empty time bins of a voxel.
+   *
+   * @param i
+   *          voxel index in x
+   * @param j
+   *          voxel index in y
+   * @param k
+   *          voxel index in z
+   * @return
+   *         number of time bins that received a value
+   */
+  public int size(final int i, final int j, final int k) {
+    Voxel voxel = voxels[i][j][k];
+    if (voxel == null) {
+      return 0;
+    }
+    voxel.compact();
+    return voxel.size;
+  }
+
+  /**
+   * Returns the time bin of an entry of a voxel. Entries are numbered from 0
+   * to size() - 1 in ascending order of time bin.
+   *
+   * @param i
+   *          voxel index in x
+   * @param j
+   *          voxel index in y
+   * @param k
+   *          voxel index in z
+   * @param entry
+   *          entry number
+   * @return
+   *         time bin of the entry
+   */
+  public int getBin(final int i, final int j, final int k, final int entry) {
+    Voxel voxel = voxels[i][j][k];
+    voxel.compact();
+    return voxel.bins[entry];
+  }
+
+  /**
+   * Returns the value of an entry of a voxel. Entries are numbered from 0
+   * to size() - 1 in ascending order of time bin.
+   *
+   * @param i
+   *          voxel index in x
+   * @param j
+   *          voxel index in y
+   * @param k
+   *          voxel index in z
+   * @param entry
+   *          entry number
+   * @return
+   *         sum of all values added to the time bin of the entry
+   */
+  public double getValue(final int i, final int j, final int k,
+      final int entry) {
+    Voxel voxel = voxels[i][j][k];
+    voxel.compact();
+    return voxel.values[entry];
+  }
+
+  /**
+   * Returns the value of a time bin of a voxel.
+   *
+   * @param i
+   *          voxel index in x
+   * @param j
+   *          voxel index in y
+   * @param k
+   *          voxel index in z
+   * @param bin
+   *          time bin
+   * @return
+   *         sum of all values added to the time bin, 0 if there are none
+   */
+  public double get(final int i, final int j, final int k, final int bin) {
+    Voxel voxel = voxels[i][j][k];
+    if (voxel == null) {
+      return 0;
+    }
+    voxel.compact();
+    int entry = Arrays.binarySearch(voxel.bins, 0, voxel.size, bin);
+    if (entry < 0) {
+      return 0;
+    }
+    return voxel.values[entry];
+  }
+
+  /**
+   * The entries of a single voxel. Entries before sorted are compacted: in
+   * ascending order of time bin with each bin occurring once. Entries from
+   * sorted up to size have been added since the last compaction.
+   */
+  private static class Voxel {
+    /** Time bin of each entry. */
+    private int[]    bins   = new int[INITIAL_CAPACITY];
+
+    /** Value of each entry. */
+    private double[] values = new double[INITIAL_CAPACITY];
+
+    /** Number of entries. */
+    private int      size;
+
+    /** Number of compacted entries. */
+    private int      sorted;
+
+    /**
+     * Append an entry, compacting or growing the list if it is full.
+     *
+     * @param bin
+     *          time bin
+     * @param value
+     *          value
+     */
+    private void add(final int bin, final double value) {
+      if (size == bins.length) {
+        compact();
+        if (size > bins.length / 2) {
+          bins = Arrays.copyOf(bins, bins.length * 2);
+          values = Arrays.copyOf(values, values.length * 2);
+        }
+      }
+      bins[size] = bin;
+      values[size] = value;
+      size++;
+    }
+
+    /**
+     * Merge the entries added since the last compaction into the compacted
+     * entries. Values of the same time bin are summed in the order they were
+     * added.
+     */
+    private void compact() {
+      if (sorted == size) {
+        return;
+      }
+      // Sort new entries by bin, and by insertion order within a bin.
+      int added = size - sorted;
+      long[] order = new long[added];
+      for (int n = 0; n < added; n++) {
+        order[n] = ((long) bins[sorted + n] << 32) | n;
+      }
+      Arrays.sort(order);
+
+      int[] newBins = new int[bins.length];
+      double[] newValues = new double[values.length];
+      int count = 0;
+      int old = 0;
+      int n = 0;
+      while (old < sorted || n < added) {
+        int bin;
+        double value;
+        if (n == added
+            || (old < sorted && bins[old] <= (int) (order[n] >>> 32))) {
+          bin = bins[old];
+          value = values[old];
+          old++;
+        } else {
+          bin = (int) (order[n] >>> 32);
+          value = values[sorted + (int) order[n]];
+          n++;
+        }
+        if (count > 0 && newBins[count - 1] == bin) {
+          newValues[count - 1] += value;
+        } else {
+          newBins[count] = bin;
+          newValues[count] = value;
+          count++;
+        }
+      }
+      bins = newBins;
+      values = newValues;
+      size = count;
+      sorted = count;
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package se.raddo.raddose3D;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of one run of a simulation subprogram (XFEL, MONTECARLO, GOS,
+ * EMSP or EMED). The values are named after the columns of the csv file the
+ * subprogram writes.
+ */
+public class SubprogramResult {
+  /** Name of the subprogram. */
+  private final String              subprogram;
+
+  /** Number of the run, starting at 1. */
+  private final int                 run;
+
+  /** Named values in the order of the csv columns. */
+  private final Map<String, Double> values;
+
+  /**
+   * Record the results of one run of a subprogram.
+   *
+   * @param subprogramName
+   *          Name of the subprogram.
+   * @param runNumber
+   *          Number of the run, starting at 1.
+   * @param results
+   *          Named values. These are copied.
+   */
+  public SubprogramResult(final String subprogramName, final int runNumber,
+      final Map<String, Double> results) {
+    subprogram = subprogramName;
+    run = runNumber;
+    values = Collections.unmodifiableMap(
+        new LinkedHashMap<String, Double>(results));
+  }
+
+  /**
+   * Returns the name of the subprogram.
+   *
+   * @return
+   *         subprogram name
+   */
+  public String getSubprogram() {
+    return subprogram;
+  }
+
+  /**
+   * Returns the number of the run.
+   *
+   * @return
+   *         run number, starting at 1
+   */
+  public int getRun() {
+    return run;
+  }
+
+  /**
+   * Returns all results.
+   *
+   * @return
+   *         named values in the order of the csv columns
+   */
+  public Map<String, Double> getValues() {
+    return values;
+  }
+
+  /**
+   * Returns a single result.
+   *
+   * @param name
+   *          Column name of the value.
+   * @return
+   *         the value, or null if the subprogram did not report it
+   */
+  public Double getValue(final String name) {
+    return values.get(name);
+  }
+}
@@ -0,0 +1,512 @@
+package se.raddo.raddose3D;
+
+/**
+ * TextFormatter collects text output in a reusable character buffer and
+ * passes it on to a {@link Writer} in large blocks.
+ * <p>
+ * Numbers are appended directly into the buffer without creating intermediate
+ * String objects. The text produced is identical to the previously used
+ * idioms:
+ * <ul>
+ * <li>append(float) and append(double) match String.valueOf()</li>
+ * <li>appendFixed(value, precision) matches String.format("%.<i>n</i>f")</li>
+ * <li>appendGeneral(value) matches String.format("%g")</li>
+ * <li>appendScientific(value, precision) matches
+ * String.format("%.<i>n</i>e")</li>
+ * </ul>
+ * Formatted output always uses '.' as decimal separator, as String.format()
+ * does in English locales.
+ * <p>
+ * A TextFormatter is not thread safe. Call flush() after the last append to
+ * hand remaining text to the Writer. The Writer itself is not flushed or
+ * closed.
+ */
+public class TextFormatter {
+  /** Default size of the character buffer. */
+  public static final int     DEFAULT_CAPACITY = 1 << 16;
+
+  /** Default number of digits after the decimal point for %f and %e. */
+  private static final int    DEFAULT_PRECISION = 6;
+
+  /** Smallest exponent printed in decimal notation by %g. */
+  private static final int    GENERAL_MIN_EXP  = -4;
+
+  /** Maximum number of significant digits of a double. */
+  private static final int    MAX_DIGITS       = 20;
+
+  /** Base of the decimal system. */
+  private static final int    TEN              = 10;
+
+  /** Where full buffers are sent to. */
+  private final Writer        target;
+
+  /** The character buffer. */
+  private final char[]        buf;
+
+  /** Number of used characters in the buffer. */
+  private int                 pos;
+
+  /**
+   * Scratch space for the JDK float to decimal conversion. StringBuilder
+   * appends floating point numbers without allocating String objects.
+   */
+  private final StringBuilder scratch          = new StringBuilder(32);
+
+  /** Significant decimal digits of the number currently being formatted. */
+  private final char[]        digits           = new char[MAX_DIGITS + 1];
+
+  /** Number of valid entries in digits. */
+  private int                 nDigits;
+
+  /**
+   * Decimal exponent of the number currently being formatted, so that the
+   * value equals 0.digits * 10^decExp.
+   */
+  private int                 decExp;
+
+  /**
+   * Create a TextFormatter with the default buffer size.
+   *
+   * @param w
+   *          Writer that receives the formatted text.
+   */
+  public TextFormatter(final Writer w) {
+    this(w, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a TextFormatter with a specific buffer size.
+   *
+   * @param w
+   *          Writer that receives the formatted text.
+   * @param capacity
+   *          Size of the character buffer.
+   */
+  public TextFormatter(final Writer w, final int capacity) {
+    if (capacity < MAX_DIGITS * 2) {
+      throw new IllegalArgumentException("Buffer capacity too small");
+    }
+    target = w;
+    buf = new char[capacity];
+  }
+
+  /**
+   * Pass all buffered text on to the Writer.
+   */
+  public void flush() {
+    if (pos > 0) {
+      target.write(buf, 0, pos);
+      pos = 0;
+    }
+  }
+
+  /**
+   * Make sure that at least n characters can be appended to the buffer.
+   *
+   * @param n
+   *          number of characters, must not exceed the buffer capacity.
+   */
+  private void reserve(final int n) {
+    if (pos + n > buf.length) {
+      flush();
+    }
+  }
+
+  /**
+   * Append a String.
+   *
+   * @param s
+   *          String to be appended
+   * @return
+   *         this TextFormatter
+   */
+  public TextFormatter append(final String s) {
+    final int length = s.length();
+    if (length > buf.length) {
+      flush();
+      target.write(s);
+    } else {
+      reserve(length);
+      s.getChars(0, length, buf, pos);
+      pos += length;
+    }
+    return this;
+  }
+
+  /**
+   * Append a single character.
+   *
+   * @param c
+   *          character to be appended
+   * @return
+   *         this TextFormatter
+   */
+  public TextFormatter append(final char c) {
+    reserve(1);
+    buf[pos++] = c;
+    return this;
+  }
+
+  /**
+   * Append an integer, as String.valueOf(int) would.
+   *
+   * @param i
+   *          value to be appended
+   * @return
+   *         this TextFormatter
+   */
+  public TextFormatter append(final int i) {
+    return append((long) i);
+  }
+
+  /**
+   * Append a long integer, as String.valueOf(long) would.
+   *
+   * @param l
+   *          value to be appended
+   * @return
+   *         this TextFormatter
+   */
+  public TextFormatter append(final long l) {
+    if (l == Long.MIN_VALUE) {
+      return append(String.valueOf(l));
+    }
+    reserve(MAX_DIGITS);
+    long v = l;
+    if (v < 0) {
+      buf[pos++] = '-';
+      v = -v;
+    }
+    int end = pos + countDigits(v);
+    int p = end;
+    do {
+      buf[--p] = (char) ('0' + (v % TEN));
+      v /= TEN;
+    } while (v != 0);
+    pos = end;
+    return this;
+  }
+
+  /**
+   * Count the decimal digits of a non-negative number.
+   *
+   * @param v
+   *          non-negative number
+   * @return
+   *         number of digits, at least 1
+   */
+  private static int countDigits(final long v) {
+    int n = 1;
+    for (long t = v / TEN; t != 0; t /= TEN) {
+      n++;
+    }
+    return n;
+  }
+
+  /**
+   * Append the shortest decimal representation of a float, as
+   * String.valueOf(float) would.
+   *
+   * @param f
+   *          value to be appended
+   * @return
+   *         this TextFormatter
+   */
+  public TextFormatter append(final float f) {
+    scratch.setLength(0);
+    scratch.append(f);
+    return appendScratch();
+  }
+
+  /**
+   * Append the shortest decimal representation of a double, as
+   * String.valueOf(double) would.
+   *
+   * @param d
+   *          value to be appended
+   * @return
+   *         this TextFormatter
+   */
+  public TextFormatter append(final double d) {
+    scratch.setLength(0);
+    scratch.append(d);
+    return appendScratch();
+  }
+
+  /**
+   * Copy the content of the scratch buffer into the character buffer.
+   *
+   * @return
+   *         this TextFormatter
+   */
+  private TextFormatter appendScratch() {
+    final int length = scratch.length();
+    reserve(length);
+    scratch.getChars(0, length, buf, pos);
+    pos += length;
+    return this;
+  }
+
+  /**
+   * Append a double with a fixed number of digits after the decimal point, as
+   * String.format("%.<i>precision</i>f", d) would.
+   *
+   * @param d
+   *          value to be appended
+   * @param precision
+   *          number of digits after the decimal point
+   * @return
+   *         this TextFormatter
+   */
+  public TextFormatter appendFixed(final double d, final int precision) {
+    if (!appendSign(d)) {
+      return this;
+    }
+    decompose(Math.abs(d));
+    int exp = applyPrecision(decExp + precision);
+    appendDecimal(exp, precision);
+    return this;
+  }
+
+  /**
+   * Append a double in scientific notation with a fixed number of digits
+   * after the decimal point, as String.format("%.<i>precision</i>e", d)
+   * would.
+   *
+   * @param d
+   *          value to be appended
+   * @param precision
+   *          number of digits after the decimal point
+   * @return
+   *         this TextFormatter
+   */
+  public TextFormatter appendScientific(final double d, final int precision) {
+    if (!appendSign(d)) {
+      return this;
+    }
+    if (d == 0) {
+      nDigits = 1;
+      digits[0] = '0';
+      appendScientific(1, precision);
+      return this;
+    }
+    decompose(Math.abs(d));
+    int exp = applyPrecision(precision + 1);
+    appendScientific(exp, precision);
+    return this;
+  }
+
+  /**
+   * Append a double using six significant digits, in decimal or scientific
+   * notation depending on its magnitude, as String.format("%g", d) would.
+   *
+   * @param d
+   *          value to be appended
+   * @return
+   *         this TextFormatter
+   */
+  public TextFormatter appendGeneral(final double d) {
+    if (!appendSign(d)) {
+      return this;
+    }
+    if (d == 0) {
+      nDigits = 1;
+      digits[0] = '0';
+      appendDecimal(1, DEFAULT_PRECISION - 1);
+      return this;
+    }
+    decompose(Math.abs(d));
+    int exp = applyPrecision(DEFAULT_PRECISION);
+    if (exp - 1 < GENERAL_MIN_EXP || exp - 1 >= DEFAULT_PRECISION) {
+      appendScientific(exp, DEFAULT_PRECISION - 1);
+    } else {
+      appendDecimal(exp, DEFAULT_PRECISION - exp);
+    }
+    return this;
+  }
+
+  /**
+   * Append a double as String.format("%f", d) would.
+   *
+   * @param d
+   *          value to be appended
+   * @return
+   *         this TextFormatter
+   */
+  public TextFormatter appendFixed(final double d) {
+    return appendFixed(d, DEFAULT_PRECISION);
+  }
+
+  /**
+   * Handle sign and non-finite values for the formatted output methods.
+   *
+   * @param d
+   *          value to be appended
+   * @return
+   *         true if d is a finite number whose magnitude still needs to be
+   *         appended, false if the value has been fully appended.
+   */
+  private boolean appendSign(final double d) {
+    if (Double.isNaN(d)) {
+      append("NaN");
+      return false;
+    }
+    if (Double.compare(d, 0.0) < 0) {
+      append('-');
+    }
+    if (Double.isInfinite(d)) {
+      append("Infinity");
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Split a positive finite double into significant digits and decimal
+   * exponent, using the same shortest representation as
+   * String.valueOf(double). Trailing zeros are dropped.
+   *
+   * @param d
+   *          positive finite value
+   */
+  private void decompose(final double d) {
+    scratch.setLength(0);
+    scratch.append(d);
+    final int length = scratch.length();
+    nDigits = 0;
+    decExp = 0;
+    boolean seenPoint = false;
+    boolean seenNonZero = false;
+    int i = 0;
+    for (; i < length; i++) {
+      char c = scratch.charAt(i);
+      if (c == '.') {
+        seenPoint = true;
+      } else if (c == 'E') {
+        break;
+      } else if (c != '0' || seenNonZero) {
+        seenNonZero = true;
+        digits[nDigits++] = c;
+        if (!seenPoint) {
+          decExp++;
+        }
+      } else if (seenPoint) {
+        // leading zero after the decimal point
+        decExp--;
+      }
+    }
+    if (i < length) {
+      // exponent of the computerized scientific notation, eg. 1.0E-5
+      boolean negative = scratch.charAt(++i) == '-';
+      if (negative) {
+        i++;
+      }
+      int e = 0;
+      for (; i < length; i++) {
+        e = e * TEN + (scratch.charAt(i) - '0');
+      }
+      decExp += negative ? -e : e;
+    }
+    while (nDigits > 1 && digits[nDigits - 1] == '0') {
+      nDigits--;
+    }
+  }
+
+  /**
+   * Round the current digits half-up to the given number of significant
+   * digits, in the same way java.util.Formatter does.
+   *
+   * @param prec
+   *          number of significant digits to keep
+   * @return
+   *         the decimal exponent after rounding
+   */
+  private int applyPrecision(final int prec) {
+    if (prec >= nDigits || prec < 0) {
+      return decExp;
+    }
+    if (prec == 0) {
+      if (digits[0] >= '5') {
+        digits[0] = '1';
+        nDigits = 1;
+        return decExp + 1;
+      }
+      digits[0] = '0';
+      nDigits = 1;
+      return decExp;
+    }
+    nDigits = prec;
+    if (digits[prec] >= '5') {
+      int i = prec - 1;
+      while (i >= 0 && digits[i] == '9') {
+        i--;
+      }
+      if (i < 0) {
+        digits[0] = '1';
+        nDigits = 1;
+        return decExp + 1;
+      }
+      digits[i]++;
+      nDigits = i + 1;
+    }
+    return decExp;
+  }
+
+  /**
+   * Append the current digits in decimal notation.
+   *
+   * @param exp
+   *          decimal exponent, value is 0.digits * 10^exp
+   * @param precision
+   *          number of digits after the decimal point
+   */
+  private void appendDecimal(final int exp, final int precision) {
+    if (exp > 0) {
+      for (int i = 0; i < exp; i++) {
+        append(i < nDigits ? digits[i] : '0');
+      }
+    } else {
+      append('0');
+    }
+    if (precision > 0) {
+      append('.');
+      for (int i = 0; i < precision; i++) {
+        int d = exp + i;
+        append(d >= 0 && d < nDigits ? digits[d] : '0');
+      }
+    }
+  }
+
+  /**
+   * Append the current digits in scientific notation.
+   *
+   * @param exp
+   *          decimal exponent, value is 0.digits * 10^exp
+   * @param precision
+   *          number of digits after the decimal point
+   */
+  private void appendScientific(final int exp, final int precision) {
+    append(digits[0]);
+    if (precision > 0) {
+      append('.');
+      for (int i = 1; i <= precision; i++) {
+        append(i < nDigits ? digits[i] : '0');
+      }
+    }
+    append('e');
+    int e = exp - 1;
+    if (digits[0] == '0') {
+      e = 0;
+    }
+    if (e < 0) {
+      append('-');
+      e = -e;
+    } else {
+      append('+');
+    }
+    if (e < TEN) {
+      append('0');
+    }
+    append(e);
+  }
+}
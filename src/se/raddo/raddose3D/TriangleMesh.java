@@ -0,0 +1,480 @@
+package se.raddo.raddose3D;
+
+/**
+ * A TriangleMesh holds the triangles of a crystal or surrounding polyhedron
+ * for ray queries, with the coordinates of all triangles in one array per
+ * component rather than one small array per vertex.
+ * <p>
+ * The queries along the z axis reproduce the plane intersection and
+ * polygon inclusion test of {@link Vector} exactly, so that inside tests and
+ * depths are unchanged, but they neither allocate nor copy vertices. Rays in
+ * other directions are intersected with the Moller-Trumbore algorithm. Where
+ * a query returns several distances they are written into an array owned by
+ * the caller, which must hold at least {@link #size()} values.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class TriangleMesh {
+  /** Number of triangles. */
+  private final int      size;
+
+  /** Coordinates of the first, second and third vertex of each triangle. */
+  private final double[] ax, ay, az, bx, by, bz, cx, cy, cz;
+
+  /** Unit normal of each triangle. */
+  private final double[] nx, ny, nz;
+
+  /** Signed distance of each triangle plane from the origin. */
+  private final double[] d;
+
+  /** Bounds of all vertices, per axis. */
+  private final double[] minimum, maximum;
+
+  /**
+   * Collect the triangles of a polyhedron.
+   *
+   * @param vertices
+   *          vertex coordinates, one x, y, z triple per vertex
+   * @param indices
+   *          three 1-based vertex indices per triangle, as used by the
+   *          crystal classes
+   */
+  public TriangleMesh(final double[][] vertices, final int[][] indices) {
+    size = indices.length;
+    ax = new double[size];
+    ay = new double[size];
+    az = new double[size];
+    bx = new double[size];
+    by = new double[size];
+    bz = new double[size];
+    cx = new double[size];
+    cy = new double[size];
+    cz = new double[size];
+    nx = new double[size];
+    ny = new double[size];
+    nz = new double[size];
+    d = new double[size];
+    minimum = new double[] {Double.POSITIVE_INFINITY,
+        Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY };
+    maximum = new double[] {Double.NEGATIVE_INFINITY,
+        Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY };
+
+    double[] vector1 = new double[3];
+    double[] vector2 = new double[3];
+    for (int i = 0; i < size; i++) {
+      double[] point1 = vertices[indices[i][0] - 1];
+      double[] point2 = vertices[indices[i][1] - 1];
+      double[] point3 = vertices[indices[i][2] - 1];
+      ax[i] = point1[0];
+      ay[i] = point1[1];
+      az[i] = point1[2];
+      bx[i] = point2[0];
+      by[i] = point2[1];
+      bz[i] = point2[2];
+      cx[i] = point3[0];
+      cy[i] = point3[1];
+      cz[i] = point3[2];
+
+      // the same normal and plane distance as the crystal classes calculate
+      Vector.vectorBetweenPoints(point1, point2, vector1);
+      Vector.vectorBetweenPoints(point1, point3, vector2);
+      double[] normal = Vector.normalisedCrossProduct(vector1, vector2);
+      nx[i] = normal[0];
+      ny[i] = normal[1];
+      nz[i] = normal[2];
+      d[i] = -(normal[0] * point1[0] + normal[1] * point1[1]
+          + normal[2] * point1[2]);
+
+      for (int axis = 0; axis < 3; axis++) {
+        minimum[axis] = Math.min(minimum[axis],
+            Math.min(point1[axis], Math.min(point2[axis], point3[axis])));
+        maximum[axis] = Math.max(maximum[axis],
+            Math.max(point1[axis], Math.max(point2[axis], point3[axis])));
+      }
+    }
+    if (size == 0) {
+      for (int axis = 0; axis < 3; axis++) {
+        minimum[axis] = 0;
+        maximum[axis] = 0;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of triangles.
+   *
+   * @return
+   *         number of triangles
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the smallest vertex coordinate along an axis.
+   *
+   * @param axis
+   *          0 = x, 1 = y, 2 = z
+   * @return
+   *         minimum coordinate, 0 for an empty mesh
+   */
+  public double getMinimum(final int axis) {
+    return minimum[axis];
+  }
+
+  /**
+   * Returns the largest vertex coordinate along an axis.
+   *
+   * @param axis
+   *          0 = x, 1 = y, 2 = z
+   * @return
+   *         maximum coordinate, 0 for an empty mesh
+   */
+  public double getMaximum(final int axis) {
+    return maximum[axis];
+  }
+
+  /**
+   * Signed distance along a direction from a point to the plane of a
+   * triangle, as calculated by {@link Vector#rayTraceDistance}.
+   *
+   * @param t
+   *          triangle
+   * @param x
+   *          x coordinate of the point
+   * @param y
+   *          y coordinate of the point
+   * @param z
+   *          z coordinate of the point
+   * @param dirX
+   *          x component of the direction
+   * @param dirY
+   *          y component of the direction
+   * @param dirZ
+   *          z component of the direction
+   * @return
+   *         distance in multiples of the direction vector, infinite or NaN
+   *         if the direction is parallel to the plane
+   */
+  public double planeDistance(final int t, final double x, final double y,
+      final double z, final double dirX, final double dirY,
+      final double dirZ) {
+    double originNormalDotProduct = 0.0 + x * nx[t] + y * ny[t] + z * nz[t];
+    double directionNormalDotProduct = 0.0 + dirX * nx[t] + dirY * ny[t]
+        + dirZ * nz[t];
+    return -(originNormalDotProduct + d[t]) / directionNormalDotProduct;
+  }
+
+  /**
+   * Whether the projection of a triangle onto the xy plane contains a point,
+   * as decided by {@link Vector#polygonInclusionTest}.
+   *
+   * @param t
+   *          triangle
+   * @param x
+   *          x coordinate of the point
+   * @param y
+   *          y coordinate of the point
+   * @return
+   *         true if the point is inside the projected triangle
+   */
+  public boolean projectionContains(final int t, final double x,
+      final double y) {
+    boolean c = false;
+    if (crosses(ax[t], ay[t], cx[t], cy[t], x, y)) {
+      c = !c;
+    }
+    if (crosses(bx[t], by[t], ax[t], ay[t], x, y)) {
+      c = !c;
+    }
+    if (crosses(cx[t], cy[t], bx[t], by[t], x, y)) {
+      c = !c;
+    }
+    return c;
+  }
+
+  /**
+   * One edge of the polygon inclusion test.
+   */
+  private static boolean crosses(final double ix, final double iy,
+      final double jx, final double jy, final double x, final double y) {
+    return ((iy > y) != (jy > y))
+        && (x < (jx - ix) * (y - iy) / (jy - iy) + ix);
+  }
+
+  /**
+   * Whether a point is inside the mesh, by counting the triangles crossed by
+   * a ray from the point along +z.
+   *
+   * @param x
+   *          x coordinate of the point
+   * @param y
+   *          y coordinate of the point
+   * @param z
+   *          z coordinate of the point
+   * @return
+   *         true if an odd number of triangles is crossed
+   */
+  public boolean isInside(final double x, final double y, final double z) {
+    boolean inside = false;
+    for (int t = 0; t < size; t++) {
+      double distance = planeDistance(t, x, y, z, 0, 0, 1);
+      if (distance < 0 || Double.isNaN(distance)
+          || Double.isInfinite(distance)) {
+        continue;
+      }
+      if (projectionContains(t, x, y)) {
+        inside = !inside;
+      }
+    }
+    return inside;
+  }
+
+  /**
+   * Find all triangles crossed by the line through a point parallel to the
+   * z axis.
+   *
+   * @param x
+   *          x coordinate of the point
+   * @param y
+   *          y coordinate of the point
+   * @param z
+   *          z coordinate of the point
+   * @param distances
+   *          receives the signed z distance from the point to each crossing,
+   *          in the order of the triangles
+   * @return
+   *         number of crossings written to distances
+   */
+  public int zAxisCrossings(final double x, final double y, final double z,
+      final double[] distances) {
+    int crossings = 0;
+    for (int t = 0; t < size; t++) {
+      double distance = planeDistance(t, x, y, z, 0, 0, 1);
+      if (Double.isNaN(distance) || Double.isInfinite(distance)) {
+        continue;
+      }
+      if (projectionContains(t, x, y)) {
+        distances[crossings++] = distance;
+      }
+    }
+    return crossings;
+  }
+
+  /**
+   * Distance along a direction to the nearest or furthest triangle plane in
+   * front of a point. Only the planes are considered, not the triangles.
+   *
+   * @param x
+   *          x coordinate of the point
+   * @param y
+   *          y coordinate of the point
+   * @param z
+   *          z coordinate of the point
+   * @param dirX
+   *          x component of the direction
+   * @param dirY
+   *          y component of the direction
+   * @param dirZ
+   *          z component of the direction
+   * @param nearest
+   *          true for the nearest, false for the furthest plane
+   * @return
+   *         distance in multiples of the direction vector, 0 if no plane is
+   *         in front of the point
+   */
+  public double planeIntersectionDistance(final double x, final double y,
+      final double z, final double dirX, final double dirY, final double dirZ,
+      final boolean nearest) {
+    double result = 0;
+    for (int t = 0; t < size; t++) {
+      double distance = planeDistance(t, x, y, z, dirX, dirY, dirZ);
+      if (distance < 0 || Double.isNaN(distance)
+          || Double.isInfinite(distance)) {
+        continue;
+      }
+      if (result == 0) {
+        result = distance;
+      } else if (nearest) {
+        result = Math.min(result, distance);
+      } else {
+        result = Math.max(result, distance);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Moller-Trumbore intersection of a ray with a triangle.
+   *
+   * @param t
+   *          triangle
+   * @param x
+   *          x coordinate of the start of the ray
+   * @param y
+   *          y coordinate of the start of the ray
+   * @param z
+   *          z coordinate of the start of the ray
+   * @param dirX
+   *          x component of the direction
+   * @param dirY
+   *          y component of the direction
+   * @param dirZ
+   *          z component of the direction
+   * @return
+   *         distance in multiples of the direction vector, or NaN if the ray
+   *         misses the triangle or starts behind it
+   */
+  public double rayIntersection(final int t, final double x, final double y,
+      final double z, final double dirX, final double dirY,
+      final double dirZ) {
+    double e1x = bx[t] - ax[t];
+    double e1y = by[t] - ay[t];
+    double e1z = bz[t] - az[t];
+    double e2x = cx[t] - ax[t];
+    double e2y = cy[t] - ay[t];
+    double e2z = cz[t] - az[t];
+    double px = dirY * e2z - dirZ * e2y;
+    double py = dirZ * e2x - dirX * e2z;
+    double pz = dirX * e2y - dirY * e2x;
+    double det = e1x * px + e1y * py + e1z * pz;
+    if (det == 0) {
+      return Double.NaN;
+    }
+    double inv = 1 / det;
+    double sx = x - ax[t];
+    double sy = y - ay[t];
+    double sz = z - az[t];
+    double u = (sx * px + sy * py + sz * pz) * inv;
+    if (u < 0 || u > 1) {
+      return Double.NaN;
+    }
+    double qx = sy * e1z - sz * e1y;
+    double qy = sz * e1x - sx * e1z;
+    double qz = sx * e1y - sy * e1x;
+    double v = (dirX * qx + dirY * qy + dirZ * qz) * inv;
+    if (v < 0 || u + v > 1) {
+      return Double.NaN;
+    }
+    double distance = (e2x * qx + e2y * qy + e2z * qz) * inv;
+    if (distance > 0) {
+      return distance;
+    }
+    return Double.NaN;
+  }
+
+  /**
+   * Find all triangles hit by a ray.
+   *
+   * @param x
+   *          x coordinate of the start of the ray
+   * @param y
+   *          y coordinate of the start of the ray
+   * @param z
+   *          z coordinate of the start of the ray
+   * @param dirX
+   *          x component of the direction
+   * @param dirY
+   *          y component of the direction
+   * @param dirZ
+   *          z component of the direction
+   * @param distances
+   *          receives the distance to each hit in multiples of the direction
+   *          vector, in the order of the triangles, or null if only the
+   *          number of hits is needed
+   * @return
+   *         number of triangles hit
+   */
+  public int rayCrossings(final double x, final double y, final double z,
+      final double dirX, final double dirY, final double dirZ,
+      final double[] distances) {
+    int crossings = 0;
+    for (int t = 0; t < size; t++) {
+      double distance = rayIntersection(t, x, y, z, dirX, dirY, dirZ);
+      if (!Double.isNaN(distance)) {
+        if (distances != null) {
+          distances[crossings] = distance;
+        }
+        crossings++;
+      }
+    }
+    return crossings;
+  }
+
+  /**
+   * Squared distance from a point to the closest point of a triangle, after
+   * Ericson, Real-Time Collision Detection, section 5.1.5.
+   *
+   * @param t
+   *          triangle
+   * @param x
+   *          x coordinate of the point
+   * @param y
+   *          y coordinate of the point
+   * @param z
+   *          z coordinate of the point
+   * @return
+   *         squared distance
+   */
+  public double squaredDistance(final int t, final double x, final double y,
+      final double z) {
+    double abx = bx[t] - ax[t];
+    double aby = by[t] - ay[t];
+    double abz = bz[t] - az[t];
+    double acx = cx[t] - ax[t];
+    double acy = cy[t] - ay[t];
+    double acz = cz[t] - az[t];
+    double apx = x - ax[t];
+    double apy = y - ay[t];
+    double apz = z - az[t];
+
+    double d1 = abx * apx + aby * apy + abz * apz;
+    double d2 = acx * apx + acy * apy + acz * apz;
+    if (d1 <= 0 && d2 <= 0) {
+      return squared(apx, apy, apz);
+    }
+    double bpx = x - bx[t];
+    double bpy = y - by[t];
+    double bpz = z - bz[t];
+    double d3 = abx * bpx + aby * bpy + abz * bpz;
+    double d4 = acx * bpx + acy * bpy + acz * bpz;
+    if (d3 >= 0 && d4 <= d3) {
+      return squared(bpx, bpy, bpz);
+    }
+    double vc = d1 * d4 - d3 * d2;
+    if (vc <= 0 && d1 >= 0 && d3 <= 0) {
+      double v = d1 / (d1 - d3);
+      return squared(apx - v * abx, apy - v * aby, apz - v * abz);
+    }
+    double cpx = x - cx[t];
+    double cpy = y - cy[t];
+    double cpz = z - cz[t];
+    double d5 = abx * cpx + aby * cpy + abz * cpz;
+    double d6 = acx * cpx + acy * cpy + acz * cpz;
+    if (d6 >= 0 && d5 <= d6) {
+      return squared(cpx, cpy, cpz);
+    }
+    double vb = d5 * d2 - d1 * d6;
+    if (vb <= 0 && d2 >= 0 && d6 <= 0) {
+      double w = d2 / (d2 - d6);
+      return squared(apx - w * acx, apy - w * acy, apz - w * acz);
+    }
+    double va = d3 * d6 - d5 * d4;
+    if (va <= 0 && (d4 - d3) >= 0 && (d5 - d6) >= 0) {
+      double w = (d4 - d3) / ((d4 - d3) + (d5 - d6));
+      // closest point on edge bc
+      return squared(bpx - w * (acx - abx), bpy - w * (acy - aby),
+          bpz - w * (acz - abz));
+    }
+    double denom = 1 / (va + vb + vc);
+    double v = vb * denom;
+    double w = vc * denom;
+    return squared(apx - abx * v - acx * w, apy - aby * v - acy * w,
+        apz - abz * v - acz * w);
+  }
+
+  private static double squared(final double x, final double y,
+      final double z) {
+    return x * x + y * y + z * z;
+  }
+}
@@ -0,0 +1,272 @@
+package se.raddo.raddose3D;
+
+/**
+ * Vector class containing magical vector methods
+ * like cross products and magnitudes.
+ * <p>
+ * Shared by all crystal and Monte Carlo classes. Methods returning a new
+ * array have an overload writing into a caller-owned array instead, for use
+ * in loops that run once per interaction. Ray/triangle queries against a
+ * whole mesh are done by {@link TriangleMesh}.
+ *
+ * @author magd3052
+ */
+public final class Vector {
+  /**
+   * Static methods only.
+   */
+  private Vector() {
+  }
+
+  /**
+   * Returns magnitude of 3D vector.
+   *
+   * @param vector 3d coordinates of vector
+   * @return magnitude scalar.
+   */
+  public static double vectorMagnitude(final double[] vector) {
+    double squaredDistance = Math.pow(vector[0], 2) + Math.pow(vector[1], 2)
+        + Math.pow(vector[2], 2);
+
+    double distance = Math.sqrt(squaredDistance);
+
+    return distance;
+  }
+
+  /**
+   * returns 3D vector between FROM and TO points.
+   *
+   * @param from from point
+   * @param to to point
+   * @return vector between points.
+   */
+  public static double[] vectorBetweenPoints(final double[] from,
+      final double[] to) {
+    return vectorBetweenPoints(from, to, new double[3]);
+  }
+
+  /**
+   * writes 3D vector between FROM and TO points into result.
+   *
+   * @param from from point
+   * @param to to point
+   * @param result array of length 3 receiving the vector
+   * @return result
+   */
+  public static double[] vectorBetweenPoints(final double[] from,
+      final double[] to, final double[] result) {
+    for (int i = 0; i < 3; i++) {
+      result[i] = to[i] - from[i];
+    }
+
+    return result;
+  }
+
+  /**
+   * returns 3D vector with magnitude set to 1.
+   *
+   * @param vector vector
+   * @return normalised vector
+   */
+  public static double[] normaliseVector(final double[] vector) {
+    return normaliseVector(vector, new double[3]);
+  }
+
+  /**
+   * writes 3D vector with magnitude set to 1 into result, which may be the
+   * same array as vector.
+   *
+   * @param vector vector
+   * @param result array of length 3 receiving the normalised vector
+   * @return result
+   */
+  public static double[] normaliseVector(final double[] vector,
+      final double[] result) {
+    double magnitude = vectorMagnitude(vector);
+
+    for (int i = 0; i < 3; i++) {
+      result[i] = vector[i] / magnitude;
+    }
+
+    return result;
+  }
+
+  /**
+   * returns 3D cross-product between two vectors.
+   *
+   * @param vector1 vector1
+   * @param vector2 vector2
+   * @return cross product
+   */
+  public static double[] crossProduct(final double[] vector1,
+      final double[] vector2) {
+    return crossProduct(vector1, vector2, new double[3]);
+  }
+
+  /**
+   * writes 3D cross-product between two vectors into result, which must not
+   * be one of the two vectors.
+   *
+   * @param vector1 vector1
+   * @param vector2 vector2
+   * @param result array of length 3 receiving the cross product
+   * @return result
+   */
+  public static double[] crossProduct(final double[] vector1,
+      final double[] vector2, final double[] result) {
+    result[0] = vector1[1] * vector2[2] - vector1[2] * vector2[1];
+    result[1] = vector1[2] * vector2[0] - vector1[0] * vector2[2];
+    result[2] = vector1[0] * vector2[1] - vector1[1] * vector2[0];
+
+    return result;
+  }
+
+  /**
+   * returns 3D cross product with magnitude set to 1 between
+   * two vectors.
+   *
+   * @param vector1 vector1
+   * @param vector2 vector2
+   * @return normalised cross product
+   */
+  public static double[] normalisedCrossProduct(final double[] vector1,
+      final double[] vector2) {
+    double[] newVector = crossProduct(vector1, vector2);
+    double magnitude = vectorMagnitude(newVector);
+
+    for (int i = 0; i < 3; i++) {
+      newVector[i] /= magnitude;
+    }
+
+    return newVector;
+  }
+
+  /**
+   * returns dot product between two 3D vectors.
+   *
+   * @param vector1 vector1
+   * @param vector2 vector2
+   * @return dot product
+   */
+  public static double dotProduct(final double[] vector1,
+      final double[] vector2) {
+    double dotProduct = 0;
+
+    for (int i = 0; i < 3; i++) {
+      dotProduct += vector1[i] * vector2[i];
+    }
+
+    return dotProduct;
+  }
+
+  /**
+   * Ray trace from a point to a plane via a direction vector,
+   * find the intersection between the direction vector and the
+   * plane and return this point.
+   *
+   * @param normalUnitVector normal vector with magnitude 1
+   * @param directionVector direction vector of any magnitude
+   * @param origin point from which ray is traced (i.e. voxel coordinate)
+   * @param planeDistance distance of plane from true origin (0, 0, 0)
+   * @return intersection point between plane and direction vector
+   */
+  public static double[] rayTraceToPoint(final double[] normalUnitVector,
+      final double[] directionVector, final double[] origin,
+      final double planeDistance) {
+    double t = rayTraceDistance(normalUnitVector, directionVector, origin,
+        planeDistance);
+
+    return rayTraceToPointWithDistance(directionVector, origin, t);
+  }
+
+  /**
+   * Ray trace - find intersection of direction vector from point
+   * with plane from already-known distance t.
+   *
+   * @param directionVector direction vector
+   * @param origin point from which ray is traced
+   * @param t distance of origin to plane along direction vector
+   * @return point of intersection
+   */
+  public static double[] rayTraceToPointWithDistance(
+      final double[] directionVector,
+      final double[] origin,
+      final double t) {
+    return rayTraceToPointWithDistance(directionVector, origin, t,
+        new double[3]);
+  }
+
+  /**
+   * Ray trace - write intersection of direction vector from point
+   * with plane from already-known distance t into result.
+   *
+   * @param directionVector direction vector
+   * @param origin point from which ray is traced
+   * @param t distance of origin to plane along direction vector
+   * @param result array of length 3 receiving the point of intersection
+   * @return result
+   */
+  public static double[] rayTraceToPointWithDistance(
+      final double[] directionVector,
+      final double[] origin,
+      final double t, final double[] result) {
+    for (int i = 0; i < 3; i++) {
+      result[i] = origin[i] + t * directionVector[i];
+    }
+
+    return result;
+  }
+
+  /**
+   * Ray trace from a point to a plane via a direction vector,
+   * find the signed distance between the direction vector and
+   * the plane and return this point.
+   *
+   * @param normalUnitVector normal vector with magnitude 1
+   * @param directionVector direction vector of any magnitude
+   * @param origin point from which ray is traced (i.e. voxel coordinate)
+   * @param planeDistance distance of plane from true origin (0, 0, 0)
+   * @return signed distance between direction vector and plane
+   */
+  public static double rayTraceDistance(final double[] normalUnitVector,
+      final double[] directionVector, final double[] origin,
+      final double planeDistance) {
+
+    double originNormalDotProduct = dotProduct(origin, normalUnitVector);
+    double directionNormalDotProduct = dotProduct(directionVector,
+        normalUnitVector);
+
+    double t = -(originNormalDotProduct + planeDistance)
+        / directionNormalDotProduct;
+
+    return t;
+  }
+
+  /**
+   * Original C code
+   * http://www.ecse.rpi.edu/~wrf/Research/Short_Notes/pnpoly.html
+   * Takes an array of vertices of a polygon and determines whether a point
+   * is contained within the polygon or not. Ignores the z axis at the
+   * moment.
+   *
+   * @param vertices array of 3D vertices
+   * @param point point to test inclusion - must be in same plane
+   *          as vertices
+   * @return boolean value - in polygon or not in polygon.
+   */
+  public static boolean polygonInclusionTest(final double[][] vertices,
+      final double[] point) {
+    boolean c = false;
+
+    for (int i = 0, j = vertices.length - 1; i < vertices.length; j = i++) {
+      if (((vertices[i][1] > point[1]) != (vertices[j][1] > point[1]))
+          && (point[0] < (vertices[j][0] - vertices[i][0])
+              * (point[1] - vertices[i][1])
+              / (vertices[j][1] - vertices[i][1]) + vertices[i][0])) {
+        c = !c;
+      }
+    }
+
+    return c;
+  }
+}
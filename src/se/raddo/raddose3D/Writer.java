@@ -26,6 +26,21 @@ public abstract class Writer extends OutputStream {
    */
   public abstract void write(StringBuffer b);
 
+  /**
+   * Write a portion of a character array. Implementing classes should
+   * override this method if they can avoid creating an intermediate String.
+   * 
+   * @param cbuf
+   *          Array of characters
+   * @param off
+   *          Offset from which to start writing characters
+   * @param len
+   *          Number of characters to write
+   */
+  public void write(final char[] cbuf, final int off, final int len) {
+    write(new String(cbuf, off, len));
+  }
+
   /**
    * Close the output. Open files will be flushed and closed. After close() is
    * called, the behaviour of further write() calls is undefined.
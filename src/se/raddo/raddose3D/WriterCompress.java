@@ -32,6 +32,11 @@ public class WriterCompress extends Writer {
     output.write(b);
   }
 
+  @Override
+  public void write(final char[] cbuf, final int off, final int len) {
+    output.write(cbuf, off, len);
+  }
+
   @Override
   public void flush() throws IOException {
     output.flush();
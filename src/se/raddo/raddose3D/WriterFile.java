@@ -24,9 +24,24 @@ public class WriterFile extends Writer {
    *           thrown, if file cannot be opened for writing.
    */
   public WriterFile(final String filename) throws IOException {
+    this(filename, false);
+  }
+
+  /**
+   * Constructor that opens a specified file for writing.
+   * 
+   * @param filename
+   *          Name of the file, may include absolute or relative path.
+   * @param append
+   *          Add to the end of an existing file instead of replacing it.
+   * @throws IOException
+   *           thrown, if file cannot be opened for writing.
+   */
+  public WriterFile(final String filename, final boolean append)
+      throws IOException {
     outFileName = filename;
     outFile = new BufferedWriter(new OutputStreamWriter(
-        new FileOutputStream(filename), "UTF-8"));
+        new FileOutputStream(filename, append), "UTF-8"));
   }
 
   @Override
@@ -44,6 +59,16 @@ public class WriterFile extends Writer {
     write(new String(b));
   }
 
+  @Override
+  public void write(final char[] cbuf, final int off, final int len) {
+    try {
+      outFile.write(cbuf, off, len);
+    } catch (IOException e) {
+      e.printStackTrace();
+      System.err.println("WriterFile: Could not write to file " + outFileName);
+    }
+  }
+
   @Override
   public void flush() {
     try {
@@ -0,0 +1,408 @@
+package se.raddo.raddose3D;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * WriterFileAsync writes all received data to a predefined file, like
+ * {@link WriterFile}, but moves character encoding and disk I/O onto a
+ * background thread.
+ * <p>
+ * Received data is copied into one of a small pool of large character
+ * buffers. Once a buffer is full it is handed to the background thread, and
+ * the producer continues on the next free buffer. If all buffers are in
+ * flight the producer blocks until one is returned, so memory use is bounded.
+ * <p>
+ * flush() returns only after all previously written data has been passed to
+ * the operating system. close() flushes, stops the background thread and
+ * closes the file. An I/O error on the background thread is reported by the
+ * next call of write(), flush() or close() on the producer side.
+ * <p>
+ * Instances are meant to be fed from a single thread, as is the case for all
+ * {@link Output} modules.
+ */
+public class WriterFileAsync extends Writer {
+  /** Default size of a single character buffer. */
+  public static final int             DEFAULT_BUFFER_SIZE = 1 << 20;
+
+  /** Number of character buffers, ie. double buffering. */
+  private static final int            BUFFER_COUNT        = 2;
+
+  /** Name of the output file, used for meaningful error messages. */
+  private final String                outFileName;
+
+  /** Buffers ready to be filled by the producer. */
+  private final BlockingQueue<char[]> freeBuffers;
+
+  /** Chunks waiting to be written by the background thread. */
+  private final BlockingQueue<Chunk>  pending;
+
+  /** The background thread doing the actual file output. */
+  private final Thread                ioThread;
+
+  /** First exception encountered by the background thread, if any. */
+  private volatile IOException        failure;
+
+  /** The buffer currently being filled. */
+  private char[]                      current;
+
+  /** Number of characters used in the current buffer. */
+  private int                         position;
+
+  /** Set once close() has been called. */
+  private boolean                     closed;
+
+  /**
+   * A unit of work for the background thread. Either a block of characters
+   * to be written, or a flush/close request that is acknowledged by counting
+   * down its latch once all preceding chunks have been written.
+   */
+  private static final class Chunk {
+    /** Characters to be written, or null for a flush/close request. */
+    private final char[]         data;
+    /** Number of valid characters in data. */
+    private final int            length;
+    /** Latch for flush/close requests, or null for data chunks. */
+    private final CountDownLatch done;
+    /** Whether the background thread should terminate after this chunk. */
+    private final boolean        last;
+
+    /**
+     * Create a new chunk.
+     *
+     * @param data
+     *          characters to be written, or null
+     * @param length
+     *          number of valid characters in data
+     * @param done
+     *          latch to count down once processed, or null
+     * @param last
+     *          true if the file should be closed after this chunk
+     */
+    private Chunk(final char[] data, final int length,
+        final CountDownLatch done, final boolean last) {
+      this.data = data;
+      this.length = length;
+      this.done = done;
+      this.last = last;
+    }
+  }
+
+  /**
+   * Constructor that opens a specified file for writing, using the default
+   * buffer size.
+   *
+   * @param filename
+   *          Name of the file, may include absolute or relative path.
+   * @throws IOException
+   *           thrown, if file cannot be opened for writing.
+   */
+  public WriterFileAsync(final String filename) throws IOException {
+    this(filename, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Constructor that opens a specified file for writing.
+   *
+   * @param filename
+   *          Name of the file, may include absolute or relative path.
+   * @param bufferSize
+   *          Size of each of the character buffers.
+   * @throws IOException
+   *           thrown, if file cannot be opened for writing.
+   */
+  public WriterFileAsync(final String filename, final int bufferSize)
+      throws IOException {
+    this(openFile(filename, bufferSize), filename, bufferSize);
+  }
+
+  /**
+   * Constructor that writes to an already opened stream, which is closed
+   * when the writer is closed.
+   *
+   * @param stream
+   *          Destination of the data.
+   * @param name
+   *          Name of the destination, used in error messages.
+   * @param bufferSize
+   *          Size of each of the character buffers.
+   * @throws IOException
+   *           thrown, if the character encoding is not supported.
+   */
+  public WriterFileAsync(final OutputStream stream, final String name,
+      final int bufferSize) throws IOException {
+    checkBufferSize(bufferSize);
+    outFileName = name;
+    final OutputStreamWriter outFile = new OutputStreamWriter(stream,
+        "UTF-8");
+
+    freeBuffers = new ArrayBlockingQueue<char[]>(BUFFER_COUNT);
+    for (int i = 1; i < BUFFER_COUNT; i++) {
+      freeBuffers.add(new char[bufferSize]);
+    }
+    pending = new ArrayBlockingQueue<Chunk>(BUFFER_COUNT + 1);
+    current = new char[bufferSize];
+
+    ioThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        drain(outFile);
+      }
+    }, "WriterFileAsync " + name);
+    ioThread.setDaemon(true);
+    ioThread.start();
+  }
+
+  /**
+   * Open a file for writing, once the buffer size has been checked.
+   *
+   * @param filename
+   *          Name of the file, may include absolute or relative path.
+   * @param bufferSize
+   *          Size of each of the character buffers.
+   * @return
+   *         the open file
+   * @throws IOException
+   *           thrown, if file cannot be opened for writing.
+   */
+  private static OutputStream openFile(final String filename,
+      final int bufferSize) throws IOException {
+    checkBufferSize(bufferSize);
+    return new FileOutputStream(filename);
+  }
+
+  /**
+   * Reject buffer sizes that cannot hold any data.
+   *
+   * @param bufferSize
+   *          Size of each of the character buffers.
+   */
+  private static void checkBufferSize(final int bufferSize) {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("Buffer size must be positive");
+    }
+  }
+
+  /**
+   * Main loop of the background thread. Writes chunks until a closing chunk
+   * is encountered. After an I/O error no further data is written, but
+   * buffers are still recycled and requests acknowledged so that the producer
+   * never blocks indefinitely.
+   *
+   * @param outFile
+   *          the open output file
+   */
+  private void drain(final OutputStreamWriter outFile) {
+    boolean running = true;
+    while (running) {
+      Chunk c;
+      try {
+        c = pending.take();
+      } catch (InterruptedException e) {
+        // Only close() may stop this thread.
+        continue;
+      }
+      try {
+        if (failure == null) {
+          if (c.data != null) {
+            outFile.write(c.data, 0, c.length);
+          } else if (c.last) {
+            outFile.close();
+          } else {
+            outFile.flush();
+          }
+        }
+      } catch (IOException e) {
+        failure = e;
+      }
+      if (c.last && failure != null) {
+        try {
+          outFile.close();
+        } catch (IOException e) {
+          // Already failed. Report the original exception.
+        }
+      }
+      if (c.data != null) {
+        freeBuffers.add(c.data);
+      }
+      if (c.done != null) {
+        c.done.countDown();
+      }
+      running = !c.last;
+    }
+  }
+
+  @Override
+  public void write(final String s) {
+    ensureOpen();
+    int offset = 0;
+    final int length = s.length();
+    while (offset < length) {
+      int n = Math.min(length - offset, current.length - position);
+      s.getChars(offset, offset + n, current, position);
+      position += n;
+      offset += n;
+      if (position == current.length) {
+        submitCurrent();
+      }
+    }
+  }
+
+  @Override
+  public void write(final StringBuffer b) {
+    ensureOpen();
+    int offset = 0;
+    final int length = b.length();
+    while (offset < length) {
+      int n = Math.min(length - offset, current.length - position);
+      b.getChars(offset, offset + n, current, position);
+      position += n;
+      offset += n;
+      if (position == current.length) {
+        submitCurrent();
+      }
+    }
+  }
+
+  @Override
+  public void write(final char[] cbuf, final int off, final int len) {
+    ensureOpen();
+    int offset = off;
+    final int end = off + len;
+    while (offset < end) {
+      int n = Math.min(end - offset, current.length - position);
+      System.arraycopy(cbuf, offset, current, position, n);
+      position += n;
+      offset += n;
+      if (position == current.length) {
+        submitCurrent();
+      }
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (closed) {
+      throw new IllegalStateException("Writer has been closed");
+    }
+    checkFailure();
+    await(request(false));
+    checkFailure();
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    CountDownLatch done = request(true);
+    closed = true;
+    current = null;
+    try {
+      await(done);
+      ioThread.join();
+    } catch (InterruptedIOException e) {
+      throw new UncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedIOException(new InterruptedIOException(
+          "Interrupted while closing file " + outFileName));
+    }
+    if (failure != null) {
+      throw new UncheckedIOException("WriterFileAsync: Could not write to file "
+          + outFileName, failure);
+    }
+  }
+
+  /**
+   * Throw an exception if the writer can no longer accept data, either
+   * because it has been closed or because the background thread failed.
+   */
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Writer has been closed");
+    }
+    if (failure != null) {
+      throw new UncheckedIOException("WriterFileAsync: Could not write to file "
+          + outFileName, failure);
+    }
+  }
+
+  /**
+   * Rethrow a failure of the background thread as a checked exception.
+   *
+   * @throws IOException
+   *           if the background thread encountered an I/O error
+   */
+  private void checkFailure() throws IOException {
+    if (failure != null) {
+      throw new IOException("WriterFileAsync: Could not write to file "
+          + outFileName, failure);
+    }
+  }
+
+  /**
+   * Hand the current buffer over to the background thread and continue with
+   * the next free buffer, waiting for one to become available if necessary.
+   */
+  private void submitCurrent() {
+    if (position == 0) {
+      return;
+    }
+    try {
+      pending.put(new Chunk(current, position, null, false));
+      current = freeBuffers.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedIOException(new InterruptedIOException(
+          "Interrupted while writing to file " + outFileName));
+    }
+    position = 0;
+  }
+
+  /**
+   * Submit any buffered data followed by a flush or close request.
+   *
+   * @param last
+   *          true to close the file, false to flush it
+   * @return
+   *         latch that is released once the request has been processed
+   */
+  private CountDownLatch request(final boolean last) {
+    submitCurrent();
+    CountDownLatch done = new CountDownLatch(1);
+    try {
+      pending.put(new Chunk(null, 0, done, last));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedIOException(new InterruptedIOException(
+          "Interrupted while writing to file " + outFileName));
+    }
+    return done;
+  }
+
+  /**
+   * Wait for a flush or close request to be processed.
+   *
+   * @param done
+   *          latch returned by request()
+   * @throws InterruptedIOException
+   *           if the calling thread was interrupted while waiting
+   */
+  private void await(final CountDownLatch done) throws InterruptedIOException {
+    try {
+      done.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while flushing file "
+          + outFileName);
+    }
+  }
+}
@@ -34,6 +34,13 @@ public class WriterMultiple extends Writer {
     }
   }
 
+  @Override
+  public void write(final char[] cbuf, final int off, final int len) {
+    for (Writer w : children) {
+      w.write(cbuf, off, len);
+    }
+  }
+
   @Override
   public void flush() throws IOException {
     for (Writer w : children) {
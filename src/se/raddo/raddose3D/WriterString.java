@@ -25,6 +25,14 @@ public class WriterString extends Writer {
     data.append(b);
   }
 
+  @Override
+  public void write(final char[] cbuf, final int off, final int len) {
+    if (readonly) {
+      throw new IllegalStateException("Writer has been closed");
+    }
+    data.append(cbuf, off, len);
+  }
+
   @Override
   public void close() {
     readonly = true;
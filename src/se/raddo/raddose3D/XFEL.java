@@ -2,16 +2,12 @@ package se.raddo.raddose3D;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
-import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -48,6 +44,12 @@ public class XFEL {
    * Should have same no. of entries as the indices array.
    */
   private double[]              originDistances, rotatedOriginDistances;
+
+  /**
+   * Triangles of the crystal, for ray queries. Updated together with the
+   * normals.
+   */
+  private TriangleMesh          mesh;
   
   public double XDimension; //nm
   public double YDimension;
@@ -71,9 +73,6 @@ public class XFEL {
   private double[] angularEmissionProbs;
   private final int numberAngularEmissionBins = 50;
   
-  private TreeMap<Double, double[]>[]  lowEnergyAngles;
-  private TreeMap<Double, double[]>[]  highEnergyAngles;
-  
   private HashMap<Integer, HashMap<Integer, double[]>> augerTransitionLinewidths;
   private HashMap<Integer, HashMap<Integer, double[]>> augerTransitionProbabilities;
   private HashMap<Integer, HashMap<Integer, double[]>> cumulativeTransitionProbabilities;
@@ -129,9 +128,9 @@ public class XFEL {
   private double RD3D_ADER;
   
   private double[][][][] voxelEnergy;
-  private double[][][][] voxelEnergyvResolved;
-  private double[][][][] doseSimple;
-  private double[][][][] voxelIonisationsvResolved;
+  private SparseTimeTally voxelEnergyvResolved;
+  private SparseTimeTally doseSimple;
+  private SparseTimeTally voxelIonisationsvResolved;
   public double[][][] voxelElastic;
   private double totElastic;
   
@@ -140,6 +139,9 @@ public class XFEL {
   
   private boolean simpleMC = false; 
   private boolean doXFEL = true;
+
+  /** Results of the simulation, in the order of the csv columns. */
+  private final Map<String, Double> results = new LinkedHashMap<String, Double>();
   
   
   private double numFluxPhotons;
@@ -159,9 +161,25 @@ public class XFEL {
 //private double totalNumberOfPhotons = PULSE_ENERGY / meanEnergy; // need to check where this is computed elsewhere and change 
   
   
+  /** Root of the random number streams, one substream per simulated photon. */
+  private final RandomStream randomStreams;
+  /** Random number stream of the photon currently being simulated. */
+  private RandomStream random;
+
+  /** Write the csv files of the simulation. */
+  private boolean writeFiles = true;
+  /**
+   * Prefix of the csv files written by the simulation, or null for the
+   * legacy file names in the working directory.
+   */
+  private String outputPrefix;
+  
   public XFEL(double vertices[][], int[][] indices, double[][][][] crystCoord, 
       double crystalPixPerUM, int[] crystSizeVoxels, boolean[][][][] crystOcc, int runNum, boolean verticalGoniometer,
-      boolean xfel, boolean gos, Wedge wedge, boolean verticalPolarisation) {
+      boolean xfel, boolean gos, Wedge wedge, boolean verticalPolarisation,
+      RandomStream randomStreams) {
+    this.randomStreams = randomStreams;
+    random = randomStreams;
     verticesXFEL = vertices;
     indicesXFEL = indices;
     crystCoordXFEL = crystCoord;
@@ -184,11 +202,11 @@ public class XFEL {
     
     int[] maxVoxel = getMaxPixelCoordinates();
   //  voxelEnergy = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]][(int) (PULSE_LENGTH/PULSE_BIN_LENGTH + (500/PULSE_BIN_LENGTH) + 1000)];
-    voxelEnergyvResolved = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]][(int) (PULSE_LENGTH/PULSE_BIN_LENGTH + (500/PULSE_BIN_LENGTH) + 10000)];
-    voxelIonisationsvResolved = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]][(int) (PULSE_LENGTH/PULSE_BIN_LENGTH + (500/PULSE_BIN_LENGTH) + 10000)];
+    voxelEnergyvResolved = new SparseTimeTally(maxVoxel[0], maxVoxel[1], maxVoxel[2]);
+    voxelIonisationsvResolved = new SparseTimeTally(maxVoxel[0], maxVoxel[1], maxVoxel[2]);
     voxelElastic = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]];
     lastTimeVox = new double[maxVoxel[2]];
-    doseSimple = new double[maxVoxel[0]][maxVoxel[1]][maxVoxel[2]][(int) (PULSE_LENGTH/PULSE_BIN_LENGTH + (500/PULSE_BIN_LENGTH) + 10000)];
+    doseSimple = new SparseTimeTally(maxVoxel[0], maxVoxel[1], maxVoxel[2]);
     
     //these break way way too easily so need a more permanent solution
     //need somw safety as last time is more than the pulse length, could calculate here
@@ -232,9 +250,6 @@ public class XFEL {
     atomicIonisationsExposed = new HashMap<Element, Long>();
     atomicIonisationsPerAtomExposed = new HashMap<Element, Double>();
     
-    lowEnergyAngles = new TreeMap[95];
-    highEnergyAngles = new TreeMap[95];
-    
     augerTransitionLinewidths = new HashMap<Integer, HashMap<Integer, double[]>>();
     augerTransitionProbabilities = new HashMap<Integer, HashMap<Integer, double[]>>();
     augerTransitionEnergies = new HashMap<Integer, HashMap<Integer, double[]>>();
@@ -311,6 +326,52 @@ public class XFEL {
     
 
   }
+
+  /**
+   * Sets where the csv files of the simulation are written. Without a prefix
+   * the legacy file names in the working directory are used, which
+   * concurrent simulations would overwrite.
+   *
+   * @param write
+   *          write the csv files at all
+   * @param prefix
+   *          output file prefix, or null
+   */
+  public void setOutputFiles(final boolean write, final String prefix) {
+    writeFiles = write;
+    outputPrefix = prefix;
+  }
+
+  /**
+   * Returns the file a csv output of the simulation is written to.
+   *
+   * @param legacyName
+   *          file name used without a prefix
+   * @param name
+   *          file name appended to the prefix
+   * @return
+   *         file name, or null if no files are written
+   */
+  private String getOutputFile(final String legacyName, final String name) {
+    if (!writeFiles) {
+      return null;
+    }
+    if (outputPrefix == null) {
+      return legacyName;
+    }
+    return outputPrefix + name;
+  }
+
+  /**
+   * Returns the results of the simulation, keyed by the column names of the
+   * csv output. Empty until the simulation has run.
+   *
+   * @return
+   *         results in the order of the csv columns
+   */
+  public Map<String, Double> getResults() {
+    return results;
+  }
   
   /**
    * @param beam
@@ -340,6 +401,13 @@ public class XFEL {
     //elastic electron angle setup
     coefCalc.populateCrossSectionCoefficients();     // DONT MOVE IN
     
+    //tabulate the electron interaction data up to the highest photon energy
+    double maxPhotonEnergy = 0;
+    for (int i = 0; i < photonEnergyArray.length; i++) {
+      maxPhotonEnergy = Math.max(maxPhotonEnergy, photonEnergyArray[i]);
+    }
+    coefCalc.tabulateElectronPhysics(maxPhotonEnergy);
+    
     double angle = 0;
     
     //Decide a starting time stamp for the photons
@@ -347,6 +415,8 @@ public class XFEL {
      
     double xn = 0, yn = 0, zn = 0, progress = 0, lastProgress = 0;
     for (int i = 0; i < NUM_PHOTONS; i++) { //for every photon to simulate
+      random = randomStreams.substream(i);
+      coefCalc.setRandomStream(random);
       double energyOfPhoton = photonEnergyArray[i];
       progress = ((double)i)/NUM_PHOTONS;
       if (progress - lastProgress >= 0.05) {
@@ -386,25 +456,24 @@ public class XFEL {
       
       //populate the relative element cross sections here 
       Map<Element, Double> elementAbsorptionProbs = coefCalc.getPhotoElectricProbsElement(energyOfPhoton);
-      Map<Element, Double> elementComptonProbs = coefCalc.getComptonProbsElement(energyOfPhoton);
+      MaterialModel<Element> comptonModel = MaterialModel.fromCumulative(coefCalc.getComptonProbsElement(energyOfPhoton));
       //populate the relative shell cross sections
-      Map<Element, double[]> ionisationProbs = getRelativeShellProbs(elementAbsorptionProbs, energyOfPhoton);
+      MaterialModel<Element> absorptionModel = MaterialModel.fromCumulative(elementAbsorptionProbs, getRelativeShellProbs(elementAbsorptionProbs, energyOfPhoton));
 
       
       // AND SOME MORE STUFF MOVED IN
       
       //set up the surrounding stuff if there is one
       double absCoefSurrounding = 0, comptonCoefSurrounding = 0, photonMFPLSurrounding = 0, probComptonSurrounding = 0, distanceNM = 0;
-      Map<Element, Double> elementAbsorptionProbsSurrounding = null;
-      Map<Element, double[]> ionisationProbsSurrounding = null;
+      MaterialModel<Element> absorptionModelSurrounding = null;
       if (coefCalc.isCryo() == true) { //user wants to simulate a surrounding
         coefCalc.updateCryoCoefficients(energyOfPhoton);                                                                       // CHANGE AS DISCUSSED
         absCoefSurrounding = coefCalc.getCryoAbsorptionCoefficient();
         comptonCoefSurrounding = coefCalc.getCryoInelasticCoefficient();
         photonMFPLSurrounding = (1/(absCoefSurrounding + comptonCoefSurrounding))*1000;
         probComptonSurrounding = 1 - (photonMFPLSurrounding/((1/absCoefSurrounding)*1000));
-        elementAbsorptionProbsSurrounding = coefCalc.getPhotoElectricProbsElementSurrounding(energyOfPhoton);
-        ionisationProbsSurrounding = getRelativeShellProbs(elementAbsorptionProbsSurrounding, energyOfPhoton);
+        Map<Element, Double> elementAbsorptionProbsSurrounding = coefCalc.getPhotoElectricProbsElementSurrounding(energyOfPhoton);
+        absorptionModelSurrounding = MaterialModel.fromCumulative(elementAbsorptionProbsSurrounding, getRelativeShellProbs(elementAbsorptionProbsSurrounding, energyOfPhoton));
         //just use the same angular emission probs
         
         //get the maximum photoelectron travel distance (based on photon energy) for tracking purposes   
@@ -450,7 +519,7 @@ public class XFEL {
             track = false;
           }
           if (track == true) {
-            s = -photonMFPLSurrounding*Math.log(Math.random());
+            s = -photonMFPLSurrounding*Math.log(random.nextDouble());
             //update Z
             previousZ = previousZ - distanceNM;
             //give it a negative timestamp
@@ -461,7 +530,7 @@ public class XFEL {
           }
         }
         else { // a photon that could interact before the crystal
-          s = -photonMFPLSurrounding*Math.log(Math.random());
+          s = -photonMFPLSurrounding*Math.log(random.nextDouble());
         //  if ((s < distanceNM) || (distanceNM + ZDimension < s && s < 2*distanceNM + ZDimension) ) { //then this photon will interact before or after hitting the crystal
             if ((s < distanceNM) ) { //photon interacts before hitting the crystal
             //need to give it a timestamp, I'm going to start it off with a negative one and if it is negative one put it on 0
@@ -483,14 +552,14 @@ public class XFEL {
             yn = previousY + s * yNorm;
             zn = previousZ + s * zNorm;
          
-            double RNDcompton = Math.random();
+            double RNDcompton = random.nextDouble();
             if (RNDcompton < probComptonSurrounding) {
               //produce a compton electron
-              produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, elementComptonProbs, angle, wedge);
+              produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, comptonModel, angle, wedge);
             }
             else {
               //produce a photoelectron
-              producePhotoElectron(beam, coefCalc, elementAbsorptionProbsSurrounding, ionisationProbsSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
+              producePhotoElectron(beam, coefCalc, absorptionModelSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
             }           
             // set exited to true so this photon is no longer tracked 
             exited = true;
@@ -505,8 +574,8 @@ public class XFEL {
       
       //the next step is to work out the distance s
       if (surrounding == false) {
-     //   s = -photonMFPL*Math.log(Math.random());
-        s = -totalMFPL*Math.log(Math.random());
+     //   s = -photonMFPL*Math.log(random.nextDouble());
+        s = -totalMFPL*Math.log(random.nextDouble());
       }
 
       xn = previousX + s * xNorm;
@@ -525,7 +594,7 @@ public class XFEL {
           int doseTime = (int) (timeStamp/PULSE_BIN_LENGTH); //rounding down so 0 = 0-0.99999, 1 - 1-1.99999 etc 
           
           //determine if elastic or inel
-          double RNDel = Math.random();
+          double RNDel = random.nextDouble();
           if (RNDel < elasticProb) {
             //do elastic
             int[] pixelCoord = convertToPixelCoordinates(xn, yn, zn, angle, wedge);
@@ -534,15 +603,15 @@ public class XFEL {
           }
           else {
           //determine if this was Compton scattering or photoelectric absorption
-          double RNDcompton = Math.random();
+          double RNDcompton = random.nextDouble();
           if (RNDcompton < probCompton) {
             ionisationsOld += 1;
-            produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, elementComptonProbs, angle, wedge);
+            produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, comptonModel, angle, wedge);
           }
           else {
             //this was a photoelectric absorption
             ionisationsOld += 1;
-            producePhotoElectron(beam, coefCalc, elementAbsorptionProbs, ionisationProbs, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
+            producePhotoElectron(beam, coefCalc, absorptionModel, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
           }
           }
           //photon is absorbed so don't need to keep track of it after this and update stuff
@@ -569,14 +638,14 @@ public class XFEL {
                   double timeToPoint = ((1/c) * (s/1E9)); //in seconds
                   timeStamp += timeToPoint * 1E15; //time from start of pulse that this happened
                   int doseTime = (int) (timeStamp/PULSE_BIN_LENGTH); //rounding down so 0 = 0-0.99999, 1 - 1-1.99999 etc 
-                  double RNDcompton = Math.random();
+                  double RNDcompton = random.nextDouble();
                   if (RNDcompton < probComptonSurrounding) {
                     //produce a compton electron
-                    produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, elementComptonProbs, angle, wedge);
+                    produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, comptonModel, angle, wedge);
                   }
                   else {
                     //produce a photoelectron
-                    producePhotoElectron(beam, coefCalc, elementAbsorptionProbsSurrounding, ionisationProbsSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
+                    producePhotoElectron(beam, coefCalc, absorptionModelSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
                   }           
                 }
               }
@@ -593,10 +662,10 @@ public class XFEL {
               if (silicon == true) {
                 Map<String, Double> siCoeffs = coefCalc.calculateCoefficientsSilicon(energyOfPhoton);
                 double siMFPL = (1/(siCoeffs.get("Photoelectric") + siCoeffs.get("Compton Attenuation")))*1000;
-                s = -siMFPL*Math.log(Math.random());
+                s = -siMFPL*Math.log(random.nextDouble());
               }
               else {
-                s = -photonMFPLSurrounding*Math.log(Math.random());
+                s = -photonMFPLSurrounding*Math.log(random.nextDouble());
               }
               
               
@@ -609,14 +678,14 @@ public class XFEL {
                 timeToPoint = (1/c) * (s/1E9);
                 timeStamp += timeToPoint * 1E15;
                 int doseTime = (int) (timeStamp/PULSE_BIN_LENGTH);
-                double RNDcompton = Math.random();
+                double RNDcompton = random.nextDouble();
                 if (RNDcompton < probComptonSurrounding) {
                   //produce a compton electron
-                  produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, elementComptonProbs, angle, wedge);
+                  produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, energyOfPhoton, comptonModel, angle, wedge);
                 }
                 else {
                   //produce a photoelectron
-                  producePhotoElectron(beam, coefCalc, elementAbsorptionProbsSurrounding, ionisationProbsSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
+                  producePhotoElectron(beam, coefCalc, absorptionModelSurrounding, timeStamp, doseTime, xn, yn, zn, surrounding, energyOfPhoton, angle, wedge);
                 }           
               }
             }
@@ -628,7 +697,7 @@ public class XFEL {
         exited = true; // because the photon is absorbed, also not tracking compton electrons after they scatter as unlikely to scatter again
       }
     }
-    
+    coefCalc.setRandomStream(null);
     
 // END OF FOR LOOP (ITERATING THROUGH PHOTONS)
     
@@ -663,11 +732,11 @@ public class XFEL {
 
       //populate the relative element cross sections here 
       Map<Element, Double> elementAbsorptionProbs = coefCalc.getPhotoElectricProbsElement(photonEnergy);
-      Map<Element, Double> elementComptonProbs = coefCalc.getComptonProbsElement(photonEnergy);
+      MaterialModel<Element> comptonModel = MaterialModel.fromCumulative(coefCalc.getComptonProbsElement(photonEnergy));
       //populate the relative shell cross sections
-      Map<Element, double[]> ionisationProbs = getRelativeShellProbs(elementAbsorptionProbs, photonEnergy);
+      MaterialModel<Element> absorptionModel = MaterialModel.fromCumulative(elementAbsorptionProbs, getRelativeShellProbs(elementAbsorptionProbs, photonEnergy));
       
-      double s = -photonMFPL*Math.log(Math.random());
+      double s = -photonMFPL*Math.log(random.nextDouble());
       double xn = previousX + s * xNorm;
       double yn = previousY + s * yNorm;
       double zn = previousZ + s * zNorm;
@@ -683,15 +752,15 @@ public class XFEL {
         
         //only do the next step if time cares
         
-        double RNDcompton = Math.random();
+        double RNDcompton = random.nextDouble();
         if (RNDcompton < probCompton) {
           ionisationsOld += 1;
-          produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, photonEnergy, elementComptonProbs, angle, wedge);
+          produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, photonEnergy, comptonModel, angle, wedge);
         }
         else {
           //this was a photoelectric absorption
           ionisationsOld += 1;
-          producePhotoElectron(beam, coefCalc, elementAbsorptionProbs, ionisationProbs, timeStamp, doseTime, xn, yn, zn, surrounding, photonEnergy, angle, wedge);
+          producePhotoElectron(beam, coefCalc, absorptionModel, timeStamp, doseTime, xn, yn, zn, surrounding, photonEnergy, angle, wedge);
         }
       }
       }
@@ -706,13 +775,13 @@ public class XFEL {
               //do nothing
             }
             else {
-              double RNDcompton = Math.random();
+              double RNDcompton = random.nextDouble();
               if (RNDcompton < probCompton) {
-                produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, photonEnergy, elementComptonProbs, angle, wedge);
+                produceCompton(beam, coefCalc, timeStamp, xn, yn, zn, surrounding, photonEnergy, comptonModel, angle, wedge);
               }
               else {
                 //this was a photoelectric absorption
-                producePhotoElectron(beam, coefCalc, elementAbsorptionProbs, ionisationProbs, timeStamp, doseTime, xn, yn, zn, surrounding, photonEnergy, angle, wedge);
+                producePhotoElectron(beam, coefCalc, absorptionModel, timeStamp, doseTime, xn, yn, zn, surrounding, photonEnergy, angle, wedge);
               }
             }
             
@@ -798,77 +867,91 @@ public class XFEL {
       sumPhotonDoseNoCutOff += photonDose[i];
       sumElectronDoseSurroundingNoCutOff += electronDoseSurrounding[i];
       sumGOSvResolvedNoCutoff += gosElectronDosevResolved[i];
-      
-      //now process the voxel dose
-      
-      for (int a = 0; a < maxVoxel[0]; a++) {
-        for (int b = 0; b < maxVoxel[1]; b++) {
-          double xyElastic = 0;
-          double energySumResolved = 0, energySum = 0;
-          for (int c = 0; c < maxVoxel[2]; c++) {
-            double[] cartesian = convertToCartesianCoordinates(a,b,c);
-            double flux = beam.beamIntensity(cartesian[0]/1000, cartesian[1]/1000, 0);
-            sumMCDose += ((doseSimple[a][b][c][i] * (numberOfPhotons/NUM_PHOTONS) * Beam.KEVTOJOULES));
-            if (testIfInsideExposedArea(cartesian[0], cartesian[1], beam) == true) { 
-              sumDoseNoCutOffExposed += ((doseSimple[a][b][c][i] * (numberOfPhotons/NUM_PHOTONS) * Beam.KEVTOJOULES));
+    }
+    
+    //now process the voxel dose, visiting only the time bins that were hit
+    double[] columnEnergy = new double[dose.length];
+    double[] columnEnergyResolved = new double[dose.length];
+    for (int a = 0; a < maxVoxel[0]; a++) {
+      for (int b = 0; b < maxVoxel[1]; b++) {
+        double xyElastic = 0;
+        int lastBin = -1;
+        for (int c = 0; c < maxVoxel[2]; c++) {
+          double[] cartesian = convertToCartesianCoordinates(a,b,c);
+          boolean exposed = testIfInsideExposedArea(cartesian[0], cartesian[1], beam);
+          voxelCount += 1;
+          voxelElastic[a][b][c] = voxelElastic[a][b][c] * (numberOfPhotons/NUM_PHOTONS);
+          xyElastic += voxelElastic[a][b][c];
+          testSumxyEl += xyElastic;
+          if (voxelElastic[a][b][c] > 0) {
+            voxelCountExposed += 1;
+          }
+          
+          for (int n = 0; n < doseSimple.size(a, b, c); n++) {
+            if (doseSimple.getBin(a, b, c, n) >= dose.length) {
+              break;
             }
-            
-         //   voxelEnergy[a][b][c][i] = ((voxelEnergy[a][b][c][i] * (numberOfPhotons/NUM_PHOTONS) * Beam.KEVTOJOULES));// / voxelMass) /1E6; //in MGy
-            voxelEnergyvResolved[a][b][c][i] = ((voxelEnergyvResolved[a][b][c][i] * (numberOfPhotons/NUM_PHOTONS) * Beam.KEVTOJOULES));
-            voxelIonisationsvResolved[a][b][c][i] = ((voxelIonisationsvResolved[a][b][c][i] * (numberOfPhotons/NUM_PHOTONS)));
-            if (i == 0) {
-              voxelCount += 1;
-              voxelElastic[a][b][c] = voxelElastic[a][b][c] * (numberOfPhotons/NUM_PHOTONS);
-               
+            sumMCDose += ((doseSimple.getValue(a, b, c, n) * (numberOfPhotons/NUM_PHOTONS) * Beam.KEVTOJOULES));
+            if (exposed) { 
+              sumDoseNoCutOffExposed += ((doseSimple.getValue(a, b, c, n) * (numberOfPhotons/NUM_PHOTONS) * Beam.KEVTOJOULES));
             }
-            xyElastic += voxelElastic[a][b][c];
-            
-            
-            if (i == 0) {
-              testSumxyEl += xyElastic;
+          }
+          
+          for (int n = 0; n < voxelIonisationsvResolved.size(a, b, c); n++) {
+            int i = voxelIonisationsvResolved.getBin(a, b, c, n);
+            if (i >= dose.length) {
+              break;
             }
-            
-            
+            double ionisations = voxelIonisationsvResolved.getValue(a, b, c, n) * (numberOfPhotons/NUM_PHOTONS);
             if (i*PULSE_BIN_LENGTH < lastTimeVox[c]-(1*PULSE_BIN_LENGTH)) {
-        //      voxDose += voxelEnergy[a][b][c][i];
-              energySumResolved += voxelEnergyvResolved[a][b][c][i];
-              voxDosevResolved += voxelEnergyvResolved[a][b][c][i];
-              totIonsvResolved += voxelIonisationsvResolved[a][b][c][i];
-              if ( voxelElastic[a][b][c]> 0) { //change later to wedge.getoffAxisUM
-               // voxDoseExposed += voxelEnergyvResolved[a][b][c][i];
-                DWD += voxelEnergyvResolved[a][b][c][i] * (voxelElastic[a][b][c]/totElastic);
-
+              totIonsvResolved += ionisations;
+              if (exposed) { 
+                totIonsvResolvedExposed += ionisations;
               }
-              if (xyElastic > 0 && energySumResolved > 0) {
-                if (c == maxVoxel[2] - 1) {
-                  DWDcoarse += (energySumResolved) * (xyElastic/totElastic);
-                }
+            }
+          }
+          
+          for (int n = 0; n < voxelEnergyvResolved.size(a, b, c); n++) {
+            int i = voxelEnergyvResolved.getBin(a, b, c, n);
+            if (i >= dose.length) {
+              break;
+            }
+            double energy = voxelEnergyvResolved.getValue(a, b, c, n) * (numberOfPhotons/NUM_PHOTONS) * Beam.KEVTOJOULES;
+            if (i*PULSE_BIN_LENGTH < lastTimeVox[c]-(1*PULSE_BIN_LENGTH)) {
+              columnEnergyResolved[i] += energy;
+              voxDosevResolved += energy;
+              if ( voxelElastic[a][b][c]> 0) { //change later to wedge.getoffAxisUM
+                DWD += energy * (voxelElastic[a][b][c]/totElastic);
               }
-              if(testIfInsideExposedArea(cartesian[0], cartesian[1], beam) == true) { 
-                voxDoseExposed += voxelEnergyvResolved[a][b][c][i];
-                totIonsvResolvedExposed += voxelIonisationsvResolved[a][b][c][i];
+              if (exposed) { 
+                voxDoseExposed += energy;
               }
             }
-        //    voxDoseNoCutoff += voxelEnergy[a][b][c][i];
-            voxDoseNoCutoffvResolved += voxelEnergyvResolved[a][b][c][i];
-            energySum += voxelEnergyvResolved[a][b][c][i];
+            voxDoseNoCutoffvResolved += energy;
+            columnEnergy[i] += energy;
+            lastBin = Math.max(lastBin, i);
             if (voxelElastic[a][b][c] > 0) { //change later to wedge.getoffAxisUM
-              //  voxDoseExposedNoCutoff += voxelEnergyvResolved[a][b][c][i];
-                DWDNoCutoff += voxelEnergyvResolved[a][b][c][i] * (voxelElastic[a][b][c]/totElastic);
-              if (i == 0) {
-                voxelCountExposed += 1;
-              }
+              DWDNoCutoff += energy * (voxelElastic[a][b][c]/totElastic);
             }
-            if (xyElastic > 0 && energySum > 0) {
-              if (c == maxVoxel[2] - 1) {
-                DWDcoarseNoCutoff += (energySum) * (xyElastic/totElastic);
-              }
-            }
-            if (testIfInsideExposedArea(cartesian[0], cartesian[1], beam) == true) { 
-              voxDoseExposedNoCutoff += voxelEnergyvResolved[a][b][c][i];
+            if (exposed) { 
+              voxDoseExposedNoCutoff += energy;
             }
           }
         }
+        
+        //dose weighted by the elastic scattering of the whole column, per time bin
+        int lastLayer = maxVoxel[2] - 1;
+        for (int i = 0; i <= lastBin; i++) {
+          if (xyElastic > 0 && columnEnergyResolved[i] > 0
+              && i*PULSE_BIN_LENGTH < lastTimeVox[lastLayer]-(1*PULSE_BIN_LENGTH)) {
+            DWDcoarse += (columnEnergyResolved[i]) * (xyElastic/totElastic);
+          }
+          if (xyElastic > 0 && columnEnergy[i] > 0) {
+            DWDcoarseNoCutoff += (columnEnergy[i]) * (xyElastic/totElastic);
+          }
+          columnEnergy[i] = 0;
+          columnEnergyResolved[i] = 0;
+        }
       }
     }
     
@@ -1006,16 +1089,27 @@ public class XFEL {
     //write for RADDOSE-MC
     /*
     try {
-      WriterFile("outputMC.CSV", sumDoseNoCutOff, DEFull, sumElectronDoseSurroundingNoCutOff);
+      WriterFile(getOutputFile("outputMC.CSV", "MC.csv"), sumDoseNoCutOff, DEFull, sumElectronDoseSurroundingNoCutOff);
     } catch (IOException e) {
       // TODO Auto-generated catch block
       e.printStackTrace();
     }
     */
     double voxFrac = voxDosevResolved/gosTot;
+    //keep the results of this run, in the columns of the csv
+    results.put("RD3D-ADWC", totRADDOSEdose);
+    results.put("RD3D-ADER", rdExposed);
+    results.put("XFEL-ADWC", voxDosevResolved);
+    results.put("XFEL-ADER", voxDoseExposed);
+    results.put("Diffraction efficiency", diffractionEfficiency);
+    results.put("ions per atom", ionisationsPerAtomvResolvedExposed);
+    results.put("ions per non-H atom", ionisationsPerNonHExposed);
+    results.put("vResolvedNoCut", voxDoseNoCutoffvResolved);
+    results.put("DWDcoarse", DWDcoarse);
+    results.put("DWD", DWD);
     //write output to csv
     try {
-      WriterFile("outputXFEL.CSV", totRADDOSEdose, rdExposed, voxDosevResolved, voxDoseExposed, diffractionEfficiency, ionisationsPerAtomvResolvedExposed, ionisationsPerNonHExposed, voxFrac, voxDoseNoCutoffvResolved, DWDcoarse, DWD);
+      WriterFile(getOutputFile("outputXFEL.CSV", "XFEL.csv"), totRADDOSEdose, rdExposed, voxDosevResolved, voxDoseExposed, diffractionEfficiency, ionisationsPerAtomvResolvedExposed, ionisationsPerNonHExposed, voxFrac, voxDoseNoCutoffvResolved, DWDcoarse, DWD);
     } catch (IOException e) {
       // TODO Auto-generated catch block
       e.printStackTrace();
@@ -1023,7 +1117,7 @@ public class XFEL {
     
     //write a csv for elements as well
     try {
-      WriteElements("outputIonsPerAtom.CSV");
+      WriteElements(getOutputFile("outputIonsPerAtom.CSV", "IonsPerAtom.csv"));
     } catch (IOException e) {
       // TODO Auto-generated catch block
       e.printStackTrace();
@@ -1033,7 +1127,7 @@ public class XFEL {
     if (simpleMC == true) {
       //write output to csv
       try {
-        WriterFileMCsimple("outputMC.CSV", totRADDOSEdose, rdExposed, sumDoseNoCutOff);
+        WriterFileMCsimple(getOutputFile("outputMC.CSV", "MC.csv"), totRADDOSEdose, rdExposed, sumDoseNoCutOff);
       } catch (IOException e) {
         // TODO Auto-generated catch block
         e.printStackTrace();
@@ -1045,6 +1139,9 @@ public class XFEL {
   private void WriterFile(final String filename, final double totRADDOSEdose, final double rdExposed, final double voxDosevResolved, final double voxDoseExposed
                           ,final double diffractionEfficiency, final double ionisationsPerAtomvResolvedExposed, final double ionisationsPerNonHExposed, final double voxFrac,
                           final double vResolvedNoCut, final double DWDcoarse, final double DWD) throws IOException {
+    if (filename == null) {
+      return;
+    }
 
     BufferedWriter outFile;
     if (runNumber == 1) {
@@ -1075,6 +1172,9 @@ public class XFEL {
   }
   
   private void WriteElements(final String filename)throws IOException {
+    if (filename == null) {
+      return;
+    }
     BufferedWriter outFile;
     outFile = new BufferedWriter(new OutputStreamWriter(
         new FileOutputStream(filename), "UTF-8"));
@@ -1104,6 +1204,9 @@ public class XFEL {
   }
   
   private void WriterFileMCsimple(final String filename, final double totRADDOSEdose, final double rdExposed, final double MCdose) throws IOException {
+    if (filename == null) {
+      return;
+    }
     BufferedWriter outFile;
     if (runNumber == 1) {
       outFile = new BufferedWriter(new OutputStreamWriter(
@@ -1159,39 +1262,26 @@ public class XFEL {
     return timeTos;
   }
   
-  private Element getIonisedElement(Map<Element, Double> elementAbsorptionProbs) {
-    double elementRND = Math.random();
-    Element ionisedElement = null;
-    for (Element e : elementAbsorptionProbs.keySet()) {
-      double elementProb =  elementAbsorptionProbs.get(e);
-      if (elementProb > elementRND) {
-        ionisedElement = e;
-        break;
-      }
-    }
-    return ionisedElement;
+  private Element getIonisedElement(MaterialModel<Element> elementModel) {
+    return elementModel.getElement(elementModel.sample(random.nextDouble()));
   }
   
-  private int getIonisedShell(Element ionisedElement, Map<Element, double[]> ionisationProbs) {
-    double[] shellProbs = ionisationProbs.get(ionisedElement);
-    double shellRND = Math.random();
-    int shellIndex = 0;
-    for (int j = 0; j < shellProbs.length; j++) {
-      if (shellProbs[j] > shellRND) {
-        shellIndex = j;
-        break;
-      }
+  private int getIonisedShell(MaterialModel<Element> absorptionModel, int ionised) {
+    int shellIndex = absorptionModel.sampleShell(ionised, random.nextDouble());
+    if (shellIndex < 0) { //no shell above its edge, same default as before
+      shellIndex = 0;
     }
     return shellIndex;
   }
   
-  private void producePhotoElectron(Beam beam, CoefCalc coefCalc, Map<Element, Double> elementAbsorptionProbs, Map<Element, double[]> ionisationProbs,
+  private void producePhotoElectron(Beam beam, CoefCalc coefCalc, MaterialModel<Element> absorptionModel,
                                     double timeStamp, int doseTime, double xn, double yn, double zn, boolean surrounding, double photonEnergy,
                                     double angle, Wedge wedge) {
   //work out the element that has been absorbed with and hence the shell binding energy and photoelectron energy
     //element
     int[] pixelCoord = convertToPixelCoordinates(xn, yn, zn, angle, wedge);
-    Element ionisedElement = getIonisedElement(elementAbsorptionProbs);
+    int ionised = absorptionModel.sample(random.nextDouble());
+    Element ionisedElement = absorptionModel.getElement(ionised);
    // if (timeStamp <lastTime-(1*PULSE_BIN_LENGTH) && surrounding == false) {
     int ionisationTime = (int) (timeStamp/PULSE_BIN_LENGTH);
     if (ionisationTime < 0) {
@@ -1201,7 +1291,7 @@ public class XFEL {
       addIonisation(timeStamp, pixelCoord, ionisedElement, ionisationTime, xn, yn, beam, 1);
     }
     //shell
-    int shellIndex = getIonisedShell(ionisedElement, ionisationProbs);
+    int shellIndex = getIonisedShell(absorptionModel, ionised);
     //get the shell binding energy
     double shellBindingEnergy = getShellBindingEnergy(ionisedElement, shellIndex);
     double photoelectronEnergy = photonEnergy - shellBindingEnergy;
@@ -1213,7 +1303,7 @@ public class XFEL {
     //Add the dose (shell binding energy) to the appropriate time
     if (surrounding == false) {
       dose[doseTime] += shellBindingEnergy;
-      doseSimple[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += shellBindingEnergy;
+      doseSimple.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, shellBindingEnergy);
       photonDose[doseTime] += shellBindingEnergy;
       raddoseStyleDose += photonEnergy;
       //add to voxel
@@ -1227,7 +1317,7 @@ public class XFEL {
     //get direction and angles assuming 100% polarisation in the X axis
     //if there is rootation need to add this in as well
     double thisAngle = 2*Math.PI - angle;
-    double polarised = Math.random();
+    double polarised = random.nextDouble();
     double xNorminit = 0, zNorminit = 0, xNorm = 0, yNorm = 0, zNorm = 0, phi = 0, theta = 0;
     //polarised 0 as asuming 100% polarised
     if (shellIndex == 0 && polarised > 0) { //then I want to send out in a biased direction
@@ -1235,12 +1325,12 @@ public class XFEL {
       if ((verticalGoni == true && verticalPol == false) || (verticalGoni == false && verticalPol == true)) {
         xNorminit = getCosAngleToX();
         //get yNorm and zNorm
-        yNorm = PosOrNeg() * Math.random() * Math.pow(1-Math.pow(xNorminit, 2), 0.5);
+        yNorm = PosOrNeg() * random.nextDouble() * Math.pow(1-Math.pow(xNorminit, 2), 0.5);
       }
       else {
         yNorm = getCosAngleToX();
         //get yNorm and zNorm
-        xNorminit = PosOrNeg() * Math.random() * Math.pow(1-Math.pow(yNorm, 2), 0.5);
+        xNorminit = PosOrNeg() * random.nextDouble() * Math.pow(1-Math.pow(yNorm, 2), 0.5);
       }
       zNorminit = PosOrNeg() * Math.pow(1 - Math.pow(xNorminit, 2) - Math.pow(yNorm, 2), 0.5);
       
@@ -1253,7 +1343,7 @@ public class XFEL {
       /*
       xNorm = getCosAngleToX();
       //get yNorm and zNorm
-      yNorm = PosOrNeg() * Math.random() * Math.pow(1-Math.pow(xNorm, 2), 0.5);
+      yNorm = PosOrNeg() * random.nextDouble() * Math.pow(1-Math.pow(xNorm, 2), 0.5);
       zNorm = PosOrNeg() * Math.pow(1 - Math.pow(xNorm, 2) - Math.pow(yNorm, 2), 0.5);
       //get theta and phi
       theta = Math.acos(zNorm);
@@ -1261,8 +1351,8 @@ public class XFEL {
       */
     }
     else { // send it out in a random direction
-      theta = Math.random() * 2 * Math.PI;
-      phi = Math.random() * 2 * Math.PI;
+      theta = random.nextDouble() * 2 * Math.PI;
+      phi = random.nextDouble() * 2 * Math.PI;
       xNorm = Math.sin(theta) * Math.cos(phi);
       yNorm = Math.sin(theta) * Math.sin(phi);
       zNorm = Math.cos(theta);
@@ -1299,7 +1389,7 @@ public class XFEL {
     if (shellIndex == 0 || (shellIndex < 2 && Z==11) || (shellIndex < 3 && Z==12) || (shellIndex < 4 && Z<=20 && Z>12) || (shellIndex < 7 && Z>=25 && Z<31) || (shellIndex < 9 && Z>32 && Z < 35)) {
       //only do for elements that are possible right now - C N O S
         double shellFluorescenceYield = getShellFluorescenceYield(ionisedElement, shellIndex);
-        double fluoresenceYieldRND = Math.random();
+        double fluoresenceYieldRND = random.nextDouble();
         
         if (fluoresenceYieldRND > shellFluorescenceYield) { //then this will emit and Auger electron 
           // determine which transition happened in the usual way from cumulative probs
@@ -1321,15 +1411,15 @@ public class XFEL {
       }
     else {
       gosElectronDosevResolved[doseTime] += shellBindingEnergy;
-      voxelEnergyvResolved[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += shellBindingEnergy;
+      voxelEnergyvResolved.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, shellBindingEnergy);
     }
     /*
       else if (Z == 26) {
         double augerEnergy = 6.5;
         double augerLifetime = 1E15*((h/(2*Math.PI)) / ((0.55/1000)*Beam.KEVTOJOULES));
         timeStamp += augerLifetime;
-        double theta = Math.random() * 2 * Math.PI;
-        double phi = Math.random() * 2 * Math.PI;
+        double theta = random.nextDouble() * 2 * Math.PI;
+        double phi = random.nextDouble() * 2 * Math.PI;
         double xNorm = Math.sin(theta) * Math.cos(phi);
         double yNorm = Math.sin(theta) * Math.sin(phi);
         double zNorm = Math.cos(theta);
@@ -1350,7 +1440,7 @@ public class XFEL {
     }
     else {
       gosElectronDosevResolved[doseTime] += shellBindingEnergy;
-      voxelEnergyvResolved[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += shellBindingEnergy;
+      voxelEnergyvResolved.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, shellBindingEnergy);
     }
     }
   }
@@ -1367,7 +1457,7 @@ public class XFEL {
     double augerEnergy = energies[transitionIndex];
     //can add the energy difference to the dose here
     gosElectronDosevResolved[doseTime] += shellBindingEnergy - augerEnergy; 
-    voxelEnergyvResolved[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += shellBindingEnergy - augerEnergy;
+    voxelEnergyvResolved.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, shellBindingEnergy - augerEnergy);
     
     double augerLinewidth = linewidths[transitionIndex];
     double augerLifetime = 1E15*((h/(2*Math.PI)) / ((augerLinewidth/1000)*Beam.KEVTOJOULES));
@@ -1380,8 +1470,8 @@ public class XFEL {
     
     //send out the Auger
     //choose a random direction
-    double theta = Math.random() * 2 * Math.PI;
-    double phi = Math.random() * 2 * Math.PI;
+    double theta = random.nextDouble() * 2 * Math.PI;
+    double phi = random.nextDouble() * 2 * Math.PI;
     double xNorm = Math.sin(theta) * Math.cos(phi);
     double yNorm = Math.sin(theta) * Math.sin(phi);
     double zNorm = Math.cos(theta);
@@ -1418,7 +1508,7 @@ public class XFEL {
     double flEnergy = energies[transitionIndex];
     //can add the energy difference to the dose here
     gosElectronDosevResolved[doseTime] += shellBindingEnergy - flEnergy; 
-    voxelEnergyvResolved[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += shellBindingEnergy - flEnergy;
+    voxelEnergyvResolved.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, shellBindingEnergy - flEnergy);
     
     double flLinewidth = linewidths[transitionIndex];
     double flLifetime = 1E15*((h/(2*Math.PI)) / ((flLinewidth/1000)*Beam.KEVTOJOULES));
@@ -1430,8 +1520,8 @@ public class XFEL {
     
     //send out the fl
     //choose a random direction
-    double theta = Math.random() * 2 * Math.PI;
-    double phi = Math.random() * 2 * Math.PI;
+    double theta = random.nextDouble() * 2 * Math.PI;
+    double phi = random.nextDouble() * 2 * Math.PI;
     double xNorm = Math.sin(theta) * Math.cos(phi);
     double yNorm = Math.sin(theta) * Math.sin(phi);
     double zNorm = Math.cos(theta);
@@ -1453,7 +1543,7 @@ public class XFEL {
   private int getTransitionIndex(int Z, int shell, boolean auger) {
     double[] transitionProbs = getTranstionProbs(Z, shell, auger);
     int transitionIndex = 0;
-    double transitionRND = Math.random();
+    double transitionRND = random.nextDouble();
     for (int i = 0; i < transitionProbs.length; i++) {
       if (transitionRND < transitionProbs[i]) { // then it's this transition
         transitionIndex = i;
@@ -1478,7 +1568,7 @@ public class XFEL {
     if (timeStamp <lastTimeVox[pixelCoord[2]]-(1*PULSE_BIN_LENGTH)) {
       
       totalIonisationEventsvResolved[ionisationTime] += numIonisation;
-      voxelIonisationsvResolved[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][ionisationTime] += numIonisation;
+      voxelIonisationsvResolved.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], ionisationTime, numIonisation);
       if (atomicIonisations.containsKey(ionisedElement)) {
         atomicIonisations.put(ionisedElement, atomicIonisations.get(ionisedElement)+numIonisation);
       }
@@ -1499,11 +1589,11 @@ public class XFEL {
   
   
   private void produceCompton(Beam beam, CoefCalc coefCalc, double timeStamp, double xn, double yn, double zn, boolean surrounding, 
-                              double photonEnergy, Map<Element, Double> elementComptonProbs, double angle, Wedge wedge) {
+                              double photonEnergy, MaterialModel<Element> comptonModel, double angle, Wedge wedge) {
     //then the photon scattered by the compton effect
     //pick an angle theta
     int[] pixelCoord = convertToPixelCoordinates(xn, yn, zn, angle, wedge);
-    double photonTheta = Math.PI * Math.random();
+    double photonTheta = Math.PI * random.nextDouble();
     //now get the energy of the compton electron
     double mcSquared = m * Math.pow(c, 2);
     double incidentEnergy = photonEnergy * Beam.KEVTOJOULES;
@@ -1517,7 +1607,7 @@ public class XFEL {
     double electronPhi = Math.atan((1/Math.tan(photonTheta/2)) / (1 + (incidentEnergy/mcSquared)));
     //now get the angles and direction
     double zNorm = Math.cos(electronPhi);
-    double xNorm = PosOrNeg() * Math.random() * Math.pow(1-Math.pow(zNorm, 2), 0.5);
+    double xNorm = PosOrNeg() * random.nextDouble() * Math.pow(1-Math.pow(zNorm, 2), 0.5);
     double yNorm = PosOrNeg() * Math.pow(1 - Math.pow(xNorm, 2) - Math.pow(zNorm, 2), 0.5);
     double theta = Math.acos(zNorm);
     double phi = Math.acos(xNorm / Math.sin(theta));
@@ -1526,7 +1616,7 @@ public class XFEL {
     if (ionisationTime < 0) {
       ionisationTime = 0;
     }
-    Element ionisedElement = getIonisedElement(elementComptonProbs);
+    Element ionisedElement = getIonisedElement(comptonModel);
     if (surrounding == false) {
       addIonisation(timeStamp, pixelCoord, ionisedElement, ionisationTime, xn, yn, beam, 1); 
     }
@@ -1599,7 +1689,7 @@ public class XFEL {
     double stoppingPower = startingStoppingPower;
     
     double startingLambda_el = coefCalc.getElectronElasticMFPL(startingEnergy, surrounding);
-    Map<ElementEM, Double> elasticProbs = coefCalc.getElasticProbs(surrounding);
+    MaterialModel<ElementEM> elasticModel = coefCalc.getElasticModel(surrounding);
     
     
     //the FSE stuff 
@@ -1613,9 +1703,8 @@ public class XFEL {
     
     
     //Inner shell ionisation x section
-    coefCalc.populateCrossSectionCoefficients();
     double startingInnerShellLambda = coefCalc.betheIonisationxSection(startingEnergy, surrounding);
-    Map<Element, double[]> ionisationProbs = coefCalc.getAllShellProbs(surrounding); //Really need to make sure that these are in the same order
+    MaterialModel<Element> shellModel = coefCalc.getShellModel(surrounding); //Really need to make sure that these are in the same order
     
     double gosInelasticLambda = 0, gosInnerLambda = 0, gosOuterLambda = 0;
     Map<Element, double[]> gosIonisationProbs = null;
@@ -1656,7 +1745,7 @@ public class XFEL {
       Pinner = (gosInelasticLambda/startingInnerShellLambda);
     }
     
-    double testRND = Math.random();
+    double testRND = random.nextDouble();
     double s = -lambdaT*Math.log(testRND);
     double Pinel = 1 - (lambdaT / startingLambda_el);
     
@@ -1691,9 +1780,9 @@ public class XFEL {
           gosElectronDose[doseTime] += startingEnergy;
           gosElectronDosevResolved[doseTime] += startingEnergy;
         //add to voxel
-          doseSimple[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += startingEnergy;
+          doseSimple.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, startingEnergy);
       //    voxelEnergy[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += startingEnergy;
-          voxelEnergyvResolved[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += startingEnergy;
+          voxelEnergyvResolved.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, startingEnergy);
           
         }
           
@@ -1706,7 +1795,7 @@ public class XFEL {
           if (numIonisation > 0 && surrounding == false) {
             lowEnergyIonisations[doseTime] += numIonisation;
             //decide what elements to add this to
-            Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, ionisationProbs);
+            Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, shellModel);
             addIonisation(timeStamp, pixelCoord, hitElem, doseTime, xn, yn, beam, numIonisation); 
           }
         }
@@ -1746,7 +1835,7 @@ public class XFEL {
           double newFSELambda = coefCalc.getFSELambda(startingFSExSection, false);
           if (simpleMC == false) {
           startingInnerShellLambda = coefCalc.betheIonisationxSection(startingEnergy, surrounding);
-          ionisationProbs = coefCalc.getAllShellProbs(surrounding);
+          shellModel = coefCalc.getShellModel(surrounding);
           gosInelasticLambda = coefCalc.getGOSInel(surrounding, electronEnergy);
           gosInnerLambda = coefCalc.getGOSInnerLambda(surrounding);
           gosOuterLambda = coefCalc.getGOSOuterLambda(surrounding);
@@ -1773,12 +1862,12 @@ public class XFEL {
           else {
             lambdaT = startingLambda_el;
           }
-          elasticProbs = coefCalc.getElasticProbs(surrounding);
+          elasticModel = coefCalc.getElasticModel(surrounding);
 
           Pinel = 1 - (lambdaT / startingLambda_el);
 
           //get a new s and xn, yn, zn
-          s = -lambdaT*Math.log(Math.random());
+          s = -lambdaT*Math.log(random.nextDouble());
           xn = previousX + s*xNorm;
           yn = previousY + s*yNorm;
           zn = previousZ + s*zNorm;
@@ -1811,7 +1900,7 @@ public class XFEL {
         if (primaryElectron == true) { //only doing dose from the primary
           int[] pixelCoord = convertToPixelCoordinates(xn, yn, zn, angle, wedge);
           dose[doseTime] += energyToAdd;  //still just adding keV
-          doseSimple[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += energyToAdd;
+          doseSimple.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, energyToAdd);
           if (entered == true) {
             electronDoseSurrounding[doseTime] += energyToAdd;
           }
@@ -1832,7 +1921,7 @@ public class XFEL {
         previousZ = zn;
 
         //here would be where I check if elastic or inelastic collision
-        double RNDinelastic = Math.random();
+        double RNDinelastic = random.nextDouble();
         if (RNDinelastic  < Pinel) {
           
           //generate a charge if possible //this below is the FSE model
@@ -1841,9 +1930,9 @@ public class XFEL {
           double shellBindingEnergy = 0;
           Element collidedElement = null;
           int collidedShell = -1;
-          double elementRND = Math.random();
-          for (Element e : ionisationProbs.keySet()) {
-            collidedShell = findIfElementIonised(e, ionisationProbs, elementRND);
+          double elementRND = random.nextDouble();
+          for (Element e : shellModel.keySet()) {
+            collidedShell = findIfElementIonised(e, shellModel, elementRND);
             if (collidedShell >= 0) {
               collidedElement = e;
               break;
@@ -1871,7 +1960,7 @@ public class XFEL {
               sinSquaredGamma = 2*(1-epsilon) / (2 + tFSE*epsilon); 
             
               FSEtheta = Math.asin(Math.pow(sinSquaredGamma, 0.5));
-              FSEphi = 2 * Math.PI * Math.random();
+              FSEphi = 2 * Math.PI * random.nextDouble();
             
             
               FSEtheta = FSEpreviousTheta + FSEtheta;
@@ -1938,17 +2027,13 @@ public class XFEL {
           
           //I want to check if it's an inner shell ionisation and if it is use the proper inner shell cross sections
           //determine if the interaction was inner shell or outer shell
-          double RNDInner = Math.random();
-          double elementRND = Math.random();
+          double RNDInner = random.nextDouble();
+          double elementRND = random.nextDouble();
           if (RNDInner < Pinner) {
             //then this hit an inner shell
-            for (Element e : ionisationProbs.keySet()) {
-              collidedShell = findIfElementIonised(e, ionisationProbs, elementRND);
-              if (collidedShell >= 0) {
-                collidedElement = e;
-                break;
-              }
-            } 
+            int ionised = shellModel.sample(elementRND);
+            collidedElement = shellModel.getElement(ionised);
+            collidedShell = shellModel.getShell(ionised);
           }
           else {
             //hit an outer shell
@@ -2020,7 +2105,7 @@ public class XFEL {
             else {
               W = getEnergyLossDistant(Wdis, Uk)/1000; //in keV  
             }
-            Q = coefCalc.getRecoilEnergyDistant(electronEnergy, Wak, Qak); //J
+            Q = coefCalc.getRecoilEnergyDistant(electronEnergy, Wak, Qak, random.nextDouble()); //J
             //get theta (new to add on to previous)
             if (type == 1) {
               //transverse
@@ -2084,7 +2169,7 @@ public class XFEL {
               }
               //get phi
               /*
-              SEPhi = 2 * Math.PI * Math.random();
+              SEPhi = 2 * Math.PI * random.nextDouble();
               SEPhi = SEPreviousPhi + SEPhi;
               if (SEPhi >= (2 * Math.PI)) {
                 SEPhi -= 2*Math.PI;
@@ -2097,7 +2182,7 @@ public class XFEL {
               //send it out with the correct timestamp
               */
               
-              SEdeflectionPhi = 2* Math.PI * Math.random();
+              SEdeflectionPhi = 2* Math.PI * random.nextDouble();
               
               //now get SE normals from SE scatter angle
               double[] newVector = getNewDirectionVector(xNorm, yNorm, zNorm, SEdeflectionTheta, SEdeflectionPhi);
@@ -2124,7 +2209,7 @@ public class XFEL {
          //       voxelEnergy[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTimeGOS] += W;
               }
               gosElectronDosevResolved[doseTimeGOS] += SEEnergy;
-              voxelEnergyvResolved[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTimeGOS] += SEEnergy;
+              voxelEnergyvResolved.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTimeGOS, SEEnergy);
            //   totalIonisationEvents[doseTimeGOS] += 1;
               //sort out how many extra ionisations this will cause
               double avgEnergy = coefCalc.getAvgInelasticEnergy(SEEnergy);
@@ -2132,7 +2217,7 @@ public class XFEL {
               if (avgEnergy > 0 && surrounding == false) {
                 int numIonisation = (int) (SEEnergy/avgEnergy);
                 if (numIonisation > 0) {
-                  Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, ionisationProbs);
+                  Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, shellModel);
                   addIonisation(timeStamp, pixelCoord, hitElem, doseTimeGOS, xn, yn, beam, numIonisation);
                   lowEnergyIonisations[doseTimeGOS] += numIonisation;
                   //decide what elements to add this to
@@ -2147,7 +2232,7 @@ public class XFEL {
             
           //I still need to add a cutoff in here and do dose time and ionisations
           
-          double deflectionPhi = 2* Math.PI * Math.random();
+          double deflectionPhi = 2* Math.PI * random.nextDouble();
           double[] newDirectionVector = getNewDirectionVector(xNorm, yNorm, zNorm, scatterTheta, deflectionPhi);
           
           xNorm = newDirectionVector[0];
@@ -2157,9 +2242,9 @@ public class XFEL {
         }
         else {
           //do elastic
-         // theta = getElectronElasticTheta(electronEnergy, elasticProbs, previousTheta);
+         // theta = getElectronElasticTheta(electronEnergy, elasticModel, previousTheta);
           
-          double angularDeflectionTheta = getScatteringTheta(electronEnergy, elasticProbs);
+          double angularDeflectionTheta = getScatteringTheta(electronEnergy, elasticModel);
           double deflectionPhi = getScatteringPhi();
           double[] newDirectionVector = getNewDirectionVector(xNorm, yNorm, zNorm, angularDeflectionTheta, deflectionPhi);
           
@@ -2243,9 +2328,9 @@ public class XFEL {
         else {
           lambdaT = 1/(1/lambdaEl);
         }
-        s = -lambdaT*Math.log(Math.random());
-        elasticProbs = coefCalc.getElasticProbs(false);
-        ionisationProbs = coefCalc.getAllShellProbs(false);
+        s = -lambdaT*Math.log(random.nextDouble());
+        elasticModel = coefCalc.getElasticModel(false);
+        shellModel = coefCalc.getShellModel(false);
         //GOS ionisation probs
         Pinel = 1 - (lambdaT / lambdaEl);
         if (innerShellLamda > 0) {
@@ -2302,7 +2387,7 @@ public class XFEL {
             
             if (isMicrocrystalAt(previousX, previousY, previousZ, angle, wedge) == true) {
               int[] pixelCoord = convertToPixelCoordinates(previousX, previousY, previousZ, angle, wedge);
-              doseSimple[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += energyLost;
+              doseSimple.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, energyLost);
             }
             else {
               //do nothing
@@ -2344,10 +2429,10 @@ public class XFEL {
           else {
             lambdaT = 1/(1/lambdaEl);
           }
-          s = -lambdaT*Math.log(Math.random());
+          s = -lambdaT*Math.log(random.nextDouble());
           
-          elasticProbs = coefCalc.getElasticProbs(surrounding);
-          ionisationProbs = coefCalc.getAllShellProbs(false);
+          elasticModel = coefCalc.getElasticModel(surrounding);
+          shellModel = coefCalc.getShellModel(false);
           //GOS ionisation probs
           Pinel = 1 - (lambdaT / lambdaEl);
           if (innerShellLamda > 0) {
@@ -2468,7 +2553,7 @@ public class XFEL {
             previousZ = zn;
             
             //update angle and stuff - for now it is always an elastic interaction
-            theta = getElectronElasticTheta(electronEnergy, elasticProbs, previousTheta);
+            theta = getElectronElasticTheta(electronEnergy, elasticModel, previousTheta);
             phi = getElectronElasticPhi(previousPhi);
           //now further update the primary
             
@@ -2483,8 +2568,8 @@ public class XFEL {
             lambdaEl = coefCalc.getElectronElasticMFPL(electronEnergy, surrounding);
             
             lambdaT = lambdaEl;
-            s = -lambdaT*Math.log(Math.random());
-            elasticProbs = coefCalc.getElasticProbs(surrounding);
+            s = -lambdaT*Math.log(random.nextDouble());
+            elasticModel = coefCalc.getElasticModel(surrounding);
             
             //update to new position
             xn = previousX + s * xNorm;
@@ -2504,7 +2589,7 @@ public class XFEL {
           if (primaryElectron == true) { //only doing dose from the primary
             dose[doseTime] += electronEnergy;
             int[] pixelCoord = convertToPixelCoordinates(previousX, previousY, previousZ, angle, wedge);
-            doseSimple[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += electronEnergy;
+            doseSimple.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, electronEnergy);
             gosElectronDose[doseTime] += electronEnergy;
             if (entered == false) {
               electronDose[doseTime] += electronEnergy;
@@ -2519,7 +2604,7 @@ public class XFEL {
           if (simpleMC == false) {
           gosElectronDosevResolved[doseTime] += electronEnergy;
           int[] pixelCoord = convertToPixelCoordinates(previousX, previousY, previousZ, angle, wedge);
-          voxelEnergyvResolved[pixelCoord[0]][pixelCoord[1]][pixelCoord[2]][doseTime] += electronEnergy;
+          voxelEnergyvResolved.add(pixelCoord[0], pixelCoord[1], pixelCoord[2], doseTime, electronEnergy);
           double avgEnergy = coefCalc.getAvgInelasticEnergy(electronEnergy); //can make this plasmon energy
           avgEnergy = coefCalc.getPlasmaEnergy(surrounding)/1000;
           if (avgEnergy > 0) {
@@ -2528,7 +2613,7 @@ public class XFEL {
               lowEnergyIonisations[doseTime] += numIonisation;
               
               //decide what elements to add this to
-              Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, ionisationProbs);
+              Element hitElem = chooseLowEnElement(coefCalc, Pinner, gosOuterIonisationProbs, shellModel);
               addIonisation(timeStamp, pixelCoord, hitElem, doseTime, xn, yn, beam, numIonisation);
             } 
           }
@@ -2539,8 +2624,8 @@ public class XFEL {
     
   }
   
-  private double getElectronElasticTheta(double electronEnergy, Map<ElementEM, Double> elasticProbs, double previousTheta) {
-    ElementEM elasticElement = getElasticElement(elasticProbs);
+  private double getElectronElasticTheta(double electronEnergy, MaterialModel<ElementEM> elasticModel, double previousTheta) {
+    ElementEM elasticElement = getElasticElement(elasticModel);
     //get the angles
     
     //ELSEPA stuff
@@ -2552,34 +2637,28 @@ public class XFEL {
     return theta;
   }
   
-  private ElementEM getElasticElement(Map<ElementEM, Double> elasticProbs) {
-    double elasticElementRND = Math.random();
-    ElementEM elasticElement = null;
-    for (ElementEM e : elasticProbs.keySet()) {
-      if (elasticProbs.get(e) > elasticElementRND) { //Then this element is the one that was ionised
-        elasticElement = e;
-        break;
-      }
-    }
+  private ElementEM getElasticElement(MaterialModel<ElementEM> elasticModel) {
+    double elasticElementRND = random.nextDouble();
+    ElementEM elasticElement = elasticModel.getElement(elasticModel.sample(elasticElementRND));
     return elasticElement;
   }
   
   private double getElectronElasticPhi(double previousPhi) {
-    double phi = 2 * Math.PI * Math.random();
+    double phi = 2 * Math.PI * random.nextDouble();
     phi = previousPhi + phi;
     if (phi >= (2 * Math.PI)) {
       phi -= 2*Math.PI;
     }
     return phi;
   }
-  private double getScatteringTheta(double electronEnergy, Map<ElementEM, Double> elasticProbs) {
-    ElementEM elasticElement = getElasticElement(elasticProbs);
+  private double getScatteringTheta(double electronEnergy, MaterialModel<ElementEM> elasticModel) {
+    ElementEM elasticElement = getElasticElement(elasticModel);
     double theta = getPrimaryElasticScatteringAngle(electronEnergy, elasticElement.getAtomicNumber());
     return theta;
   }
   
   private double getScatteringPhi() {
-    double phi = 2 * Math.PI * Math.random();
+    double phi = 2 * Math.PI * random.nextDouble();
     return phi;
   }
   
@@ -2626,18 +2705,6 @@ public class XFEL {
     return crossSection; 
   }
   
-  private int findIfElementIonised(Element e, Map<Element, double[]> ionisationProbs, double elementRND) {
-    double[] elementShellProbs = ionisationProbs.get(e);
-    int shell = -1;
-    for (int k = 0; k < elementShellProbs.length; k++) {
-      if (elementShellProbs[k] > elementRND) { //Then this element is the one that was ionised
-        shell = k;
-        break;
-      }
-    }
-    return shell;
-  }
-  
   private boolean findIfOuterShellIonised(Element e, Map<Element, Double> ionisationProbs, double elementRND) {
     boolean hit = false;
     double elementShellProbs = ionisationProbs.get(e);
@@ -2648,7 +2715,7 @@ public class XFEL {
   }
   
   private double getFSEEnergy(double electronEnergy, double shellBindingEnergy) {
-    double RNDFSEEnergy = Math.random();
+    double RNDFSEEnergy = random.nextDouble();
     double energyCutOff = (14.0/1000.0)/electronEnergy;
     
     double tau = electronEnergy/511;
@@ -2660,13 +2727,13 @@ public class XFEL {
                       (2*(omegaParam+alphaParam-2*betaParam));
     
     double omega = 1 / ((1/energyCutOff) - ((1/energyCutOff)-2)*RNDFSEEnergy);
-//      double omega = 1 / (100 - 98*Math.random());
+//      double omega = 1 / (100 - 98*random.nextDouble());
     return epsilon;
   }
   
 
   private double getCosAngleToX() {
-    double RNDangle = Math.random();
+    double RNDangle = random.nextDouble();
     double lastProb = 0;
     double angle = 0;
     for (int i = 0; i < numberAngularEmissionBins; i++) {
@@ -2683,7 +2750,7 @@ public class XFEL {
     return Math.cos(angle);
   }
   private double PosOrNeg() {
-    double RND = Math.random();
+    double RND = random.nextDouble();
     if (RND < 0.5) {
       return 1;
     }
@@ -2799,8 +2866,8 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
     
     if(beam.getType() == "Tophat") {
     
-      double RND1 = Math.random();
-      double RND2 = Math.random();
+      double RND1 = random.nextDouble();
+      double RND2 = random.nextDouble();
       
       double xCollimation = beam.getBeamX(); // fetch x collimation in um
       xyPos[0] = 1000*xCollimation*(RND1 - 0.5); // x position in nm
@@ -2840,8 +2907,8 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
           double upperCumulativeProbY = gy.cumulativeProbability(yCollimation/2);
           
           // Randomly select cumulative probabilities between those limits
-          double RCPx = lowerCumulativeProbX + Math.random()*(upperCumulativeProbX - lowerCumulativeProbX); // gets a random cumulative probability
-          double RCPy = lowerCumulativeProbY + Math.random()*(upperCumulativeProbY - lowerCumulativeProbY);
+          double RCPx = lowerCumulativeProbX + random.nextDouble()*(upperCumulativeProbX - lowerCumulativeProbX); // gets a random cumulative probability
+          double RCPy = lowerCumulativeProbY + random.nextDouble()*(upperCumulativeProbY - lowerCumulativeProbY);
           
           // Generate the coordinates, units nm
           xyPos[0] = gx.inverseCumulativeProbability(RCPx)*1000;
@@ -2850,8 +2917,8 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
         
         else if(beam.getIsCircular() == true) { // elliptical 2D Gaussian
           
-          double RND1 = Math.random();
-          double RND2 = Math.random();  
+          double RND1 = random.nextDouble();
+          double RND2 = random.nextDouble();  
  
 // First test if can use circular Gaussian because it is quicker to run (do not have to keep placing until you get a photon within the exposed area, as always places in exposed area)
           if(beam.getSx() == beam.getSy()) {
@@ -2862,7 +2929,7 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
           
             double lowerCumulativeProbR = gr.cumulativeProbability(-xCollimation/2);
             double upperCumulativeProbR = gr.cumulativeProbability(xCollimation/2);
-            double RCPr = lowerCumulativeProbR + Math.random()*(upperCumulativeProbR - lowerCumulativeProbR); // gets a random cumulative probability
+            double RCPr = lowerCumulativeProbR + random.nextDouble()*(upperCumulativeProbR - lowerCumulativeProbR); // gets a random cumulative probability
           
             rtPos[0] = gr.inverseCumulativeProbability(RCPr)*1000; // value of r
             rtPos[1] = 2*(Math.PI)*RND2; // angle anticlockwise from x-axis, using convention 0 <= theta < 2*pi, in radians
@@ -2983,19 +3050,13 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
       double[] transitionEnergies = new double[65];
       String elementNum = String.valueOf(augerElements[i]) + "-" + j + ".csv";
       String filePath = "constants/auger_linewidths/" + elementNum;
-      InputStreamReader isr = locateFile(filePath);
-      BufferedReader br = new BufferedReader(isr);
-      String line;
-      String[] components;
-      int count = -1;
-      while ((line = br.readLine()) != null) {
-        count += 1;
-        components = line.split(",");
-        transitionLinewidths[count] = Double.parseDouble(components[1]);
-        transitionProbs[count] = Double.parseDouble(components[2]);
-        transitionEnergies[count] = Double.parseDouble(components[3]);
-        leftShellIndex[count] = Double.parseDouble(components[4]);
-        dropShellIndex[count] = Double.parseDouble(components[5]);
+      ConstantsTable table = ConstantsCache.getInstance().getTable(filePath);
+      for (int count = 0; count < table.getRowCount(); count++) {
+        transitionLinewidths[count] = table.getValue(count, 1);
+        transitionProbs[count] = table.getValue(count, 2);
+        transitionEnergies[count] = table.getValue(count, 3);
+        leftShellIndex[count] = table.getValue(count, 4);
+        dropShellIndex[count] = table.getValue(count, 5);
         
         sumProb += transitionProbs[count];
         cumulativeTransitionProbs[count] = sumProb;
@@ -3049,18 +3110,12 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
           double[] transitionEnergies = new double[65];
           String elementNum = String.valueOf(augerElements[i]) + "-" + j + ".csv";
           String filePath = "constants/fl_linewidths/" + elementNum;
-          InputStreamReader isr = locateFile(filePath);
-          BufferedReader br = new BufferedReader(isr);
-          String line;
-          String[] components;
-          int count = -1;
-          while ((line = br.readLine()) != null) {
-            count += 1;
-            components = line.split(",");
-            transitionLinewidths[count] = Double.parseDouble(components[1]);
-            transitionProbs[count] = Double.parseDouble(components[2]);
-            transitionEnergies[count] = Double.parseDouble(components[3]);
-            dropShellIndex[count] = Double.parseDouble(components[4]);
+          ConstantsTable table = ConstantsCache.getInstance().getTable(filePath);
+          for (int count = 0; count < table.getRowCount(); count++) {
+            transitionLinewidths[count] = table.getValue(count, 1);
+            transitionProbs[count] = table.getValue(count, 2);
+            transitionEnergies[count] = table.getValue(count, 3);
+            dropShellIndex[count] = table.getValue(count, 4);
             sumProb += transitionProbs[count];
             cumulativeTransitionProbs[count] = sumProb;
           }
@@ -3232,44 +3287,16 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
       highEnergy = true;
     }
    
-    //determine if need to get data from file or it's already loaded
-    boolean getFile = mapPopulated(highEnergy, atomicNumber);
-    
-    //get the right file if I need to
-    if (getFile == true) {
-      
-      TreeMap<Double, double[]> elementData = new TreeMap<Double, double[]>();
-      try {
-        elementData =  getAngleFileData(highEnergy, atomicNumber);
-      } catch (IOException e) {
-        // TODO Auto-generated catch block
-        e.printStackTrace();
-      } 
-      //now add the file data to the global array
-      if (highEnergy == true) {
-        highEnergyAngles[atomicNumber] = elementData;
-      }
-      else {
-        lowEnergyAngles[atomicNumber] = elementData;
-      }
-    }
-    
-    //Now use the data in the global array to work out the angle
-    //get nearest energy
-    Double energyKey = returnNearestEnergy(highEnergy, atomicNumber, electronEnergy);
-    
-    //should probably interpolate the values here tbh.... will do at some point
-    
-    //get the differential cross sections for that energy of the element
-    double[] energyAngleProbs = null;
-    if (highEnergy == true) {
-      energyAngleProbs = highEnergyAngles[atomicNumber].get(energyKey);
-    }
-    else {
-      energyAngleProbs = lowEnergyAngles[atomicNumber].get(energyKey);
-    }
+    //the tables are loaded once and shared between all simulations
+    ElasticScatteringTable angles =
+        ElasticScatteringTable.getInstance(highEnergy, atomicNumber);
+    //pick one of the neighbouring tabulated energies, interpolating in log(energy)
+    int energyIndex = angles.interpolatedEnergyIndex(electronEnergy, random.nextDouble());
+    
+    //sample an angle bin from the precomputed distribution for that energy
+    int angleIndex = angles.sampleAngleIndex(energyIndex, random.nextDouble());
     //get the angle from this 
-    double deflectionAngle = returnDeflectionAngle(highEnergy, energyAngleProbs);
+    double deflectionAngle = returnDeflectionAngle(highEnergy, angleIndex);
     
     if (Double.isNaN(deflectionAngle)){
       System.out.println("test");
@@ -3277,124 +3304,7 @@ private boolean testIfInsideExposedArea(double xPos, double yPos, Beam beam) { /
     return deflectionAngle;
   }
   
-  private InputStreamReader locateFile(String filePath) 
-      throws UnsupportedEncodingException, FileNotFoundException{
-    InputStream is = getClass().getResourceAsStream("/" + filePath);
-
-    if (is == null) {
-      is = new FileInputStream(filePath);
-    }
-
-    return new InputStreamReader(is, "US-ASCII");
-  }
-
-  private boolean mapPopulated(boolean highEnergy, int atomicNumber) {
-    if (highEnergy == true) {
-      if (highEnergyAngles[atomicNumber] == null) {
-        return true;
-      }
-      else {
-        return false;
-      }
-    }
-    else {
-      if (lowEnergyAngles[atomicNumber] == null) {
-        return true;
-      }
-      else {
-       return false;
-      }
-    }
-  }
-
-//--put it in here when I have copy and paste back
-private TreeMap<Double, double[]> getAngleFileData(boolean highEnergy, int atomicNum) throws IOException{
-String elementNum = String.valueOf(atomicNum) + ".csv";
-String filePath = "";
-if (highEnergy == true) {
-filePath = "constants/above_20000/" + elementNum;
-}
-else {
-filePath = "constants/below_20000/" + elementNum;
-}
-
-InputStreamReader isr = locateFile(filePath);
-BufferedReader br = new BufferedReader(isr);
-TreeMap<Double, double[]> elementData = new TreeMap<Double, double[]>();
-String line;
-String[] components;
-int count = -1;
-while ((line = br.readLine()) != null) {
-count +=1 ;
-components = line.split(",");
-if (count > 0) { //if this is not the first line
-  Double energy = Double.valueOf(components[0]);
-  String[] angleProbsString = Arrays.copyOfRange(components, 1, components.length);
-  double[] angleProbs = new double[angleProbsString.length];
-  for (int i = 0; i < angleProbsString.length; i++) {
-    angleProbs[i] = Double.parseDouble(angleProbsString[i]);
-  }
-  //Now add this to the local treemap
-  elementData.put(energy, angleProbs);
-}
-}
-return elementData;
-}
-
-
-private Double returnNearestEnergy(boolean highEnergy, int atomicNumber, double electronEnergy) {
-Double nearestEnergy = 0.;
-if (electronEnergy >= 0.05 && electronEnergy <= 300) {
-Double beforeKey = 0.;
-Double afterKey = 0.;
-if (highEnergy == true) {
-  beforeKey = highEnergyAngles[atomicNumber].floorKey(electronEnergy);
-  afterKey = highEnergyAngles[atomicNumber].ceilingKey(electronEnergy);
-  
-}
-else {
-  beforeKey = lowEnergyAngles[atomicNumber].floorKey(electronEnergy);
-  afterKey = lowEnergyAngles[atomicNumber].ceilingKey(electronEnergy);
-}
-if (beforeKey == null) {
-  beforeKey = 0.;
-}
-if (afterKey == null) {
-  afterKey = 0.;
-}
-beforeKey = (beforeKey == 0.) ? afterKey: beforeKey;
-afterKey = (afterKey == 0.) ? beforeKey: afterKey;
-if (Math.abs(electronEnergy - beforeKey) <= Math.abs(electronEnergy-afterKey)) {
-  nearestEnergy = beforeKey;
-}
-else {
-  nearestEnergy = afterKey;
-}
-
-}
-return nearestEnergy;
-}
-
-private double returnDeflectionAngle(boolean highEnergy, double[] energyAngleProbs) {
-double totalProb = 0;
-for (int i = 0; i < energyAngleProbs.length; i++) {
-totalProb += energyAngleProbs[i];
-}
-double[] probPerAngle = new double[energyAngleProbs.length];
-double sumProb = 0;
-for (int j = 0; j < energyAngleProbs.length; j++) {
-sumProb += energyAngleProbs[j];
-probPerAngle[j] = sumProb/totalProb;
-}
-
-double RND = Math.random();
-double index = 0;
-for (int k = 0; k < probPerAngle.length; k++) {
-if (probPerAngle[k] >= RND) {
-  index = k;
-  break;
-}
-}
+private double returnDeflectionAngle(boolean highEnergy, double index) {
 //convert the index to an angle
 double angleDegrees = 0;
 if (highEnergy == true) {
@@ -3448,20 +3358,16 @@ System.out.println("test");
 return angleRadians;
 }
   
-private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element, Double> gosOuterIonisationProbs, Map<Element, double[]> ionisationProbs) {
+private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element, Double> gosOuterIonisationProbs, MaterialModel<Element> shellModel) {
   Element collidedElement = null;
   int collidedShell = -1;
-  double RNDInner = Math.random();
-  double elementRND = Math.random();
+  double RNDInner = random.nextDouble();
+  double elementRND = random.nextDouble();
   if (RNDInner < Pinner) {
     //then this hit an inner shell
-    for (Element e : ionisationProbs.keySet()) {
-      collidedShell = findIfElementIonised(e, ionisationProbs, elementRND);
-      if (collidedShell >= 0) {
-        collidedElement = e;
-        break;
-      }
-    } 
+    int ionised = shellModel.sample(elementRND);
+    collidedElement = shellModel.getElement(ionised);
+    collidedShell = shellModel.getShell(ionised);
   }
   else {
     //hit an outer shell
@@ -3480,7 +3386,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
 
   private int getGOSInelasticType(double[][] shellProbs, int shellIndex) {
     double runningSum = 0;
-    double RND = Math.random();
+    double RND = random.nextDouble();
     int type = 0;
     for (int i = 0; i < 3; i++) {
       runningSum += shellProbs[shellIndex][i]/shellProbs[shellIndex][3];
@@ -3494,7 +3400,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
   
   private int getGOSInelasticTypePlasmon(double[] plasmonProbs) {
     double runningSum = 0;
-    double RND = Math.random();
+    double RND = random.nextDouble();
     int type = 0;
     for (int i = 0; i < 3; i++) {
       runningSum += plasmonProbs[i]/plasmonProbs[3];
@@ -3525,7 +3431,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
   }
   
   public double getEnergyLossDistant(double Wdis, double Uk){ 
-    double RND = Math.random();
+    double RND = random.nextDouble();
     double W = Wdis - Math.pow(RND*Math.pow(Wdis-Uk, 2), 0.5);
     return W; //returning eV
   }
@@ -3577,7 +3483,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
     double kc = Math.max(Qk, Wcc) / (E*1000 + Qk);  //get units right ofc
     double k = 0;
     double a = getClosea(E);
-    double RND = Math.random();
+    double RND = random.nextDouble();
     double zeta = RND * (1.0+5.0*a*kc/2.0);
     if (zeta < 1) {
       k = kc / (1-zeta*(1-2*kc));
@@ -3604,7 +3510,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
     int count = 0;
     while (exit == false) {
       k = getRandomk(E, Qk);
-      double RND = Math.random();
+      double RND = random.nextDouble();
       double LHS = RND * (1 + 5*a*Math.pow(k, 2));
       double RHS = Math.pow(k, 2) * getPDFk(E, k, Qk);
       if (LHS < RHS) {
@@ -3939,9 +3845,6 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
       calculateNormals(false);
     }
 
-    boolean inside = false;
-
-    double[] directionVector = { 0, 0, 1 };
     double[] origin = new double[3];
     origin[0] = x/1000;
     origin[1] = y/1000;
@@ -3951,37 +3854,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
       origin[0] += 0.00001;
     }
 
-    for (int l = 0; l < indicesXFEL.length; l++) {
-      double intersectionDistance = Vector.rayTraceDistance(normals[l],
-          directionVector, origin, originDistances[l]);
-
-      Double distanceObject = Double.valueOf(intersectionDistance);
-
-      if (intersectionDistance < 0 || distanceObject.isNaN()
-          || distanceObject.isInfinite()) {
-        continue;
-      }
-
-      double[] intersectionPoint = Vector.rayTraceToPointWithDistance(
-          directionVector, origin, intersectionDistance);
-
-      double[][] triangleVertices = new double[3][3];
-
-      // copy vertices referenced by indices into single array for
-      // passing onto the polygon inclusion test.
-      for (int m = 0; m < 3; m++) {
-        System.arraycopy(verticesXFEL[indicesXFEL[l][m] - 1], 0, triangleVertices[m],
-            0, 3);
-      }
-
-      boolean crosses = Vector.polygonInclusionTest(triangleVertices,
-          intersectionPoint);
-
-      if (crosses) {
-        inside = !inside;
-      }
-    }
-    return inside;
+    return mesh.isInside(origin[0], origin[1], origin[2]);
   }
   
   private int[] getMaxPixelCoordinates() {
@@ -4031,37 +3904,12 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
       calculateNormals(false);
     }
 
-    double[] directionVector = {ca, cb, cc}; //the actual direction vector
-    double minIntersect = 0;
     double[] origin = new double[3];
     origin[0] = x/1000;
     origin[1] = y/1000;
     origin[2] = z/1000;
-    
-    double intersectionDistance = 0;
-    for (int l = 0; l < indicesXFEL.length; l++) {
-      intersectionDistance = Vector.rayTraceDistance(normals[l],
-          directionVector, origin, originDistances[l]);
-
-      Double distanceObject = Double.valueOf(intersectionDistance);
-
-      if (intersectionDistance < 0 || distanceObject.isNaN()
-          || distanceObject.isInfinite()) {
-          //do nothing
-      }
-      else {
-    //    break; //maybe should just be closest, or an issue with the rayTRace
-        if (minIntersect == 0) {
-          minIntersect = intersectionDistance;
-        }
-        else {
-          double min = Math.min(minIntersect, intersectionDistance);
-          minIntersect = min;
-        }
-      }
-
-    }
-    return minIntersect;
+    //nearest plane in the direction of travel
+    return mesh.planeIntersectionDistance(origin[0], origin[1], origin[2], ca, cb, cc, true);
   }
   
   private double[] getIntersectionPoint(double intersectionDistance, double x, double y, double z,
@@ -4124,212 +3972,10 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
 
       System.arraycopy(originDistancesUsed, 0, originDistances, 0,
           indicesXFEL.length);
+      mesh = new TriangleMesh(verticesXFEL, indicesXFEL);
     
   }
   
-  private static class Vector {
-    /**
-     * Returns magnitude of 3D vector.
-     *
-     * @param vector 3d coordinates of vector
-     * @return magnitude scalar.
-     */
-    public static double vectorMagnitude(final double[] vector) {
-      double squaredDistance = Math.pow(vector[0], 2) + Math.pow(vector[1], 2)
-          + Math.pow(vector[2], 2);
-
-      double distance = Math.sqrt(squaredDistance);
-
-      return distance;
-    }
-
-    /**
-     * returns 3D vector between FROM and TO points.
-     *
-     * @param from from point
-     * @param to to point
-     * @return vector between points.
-     */
-    public static double[] vectorBetweenPoints(final double[] from,
-        final double[] to) {
-      double[] newVector = new double[3];
-
-      for (int i = 0; i < 3; i++) {
-        newVector[i] = to[i] - from[i];
-      }
-
-      return newVector;
-    }
-    
-    public static double[] normaliseVector(final double[] vector) {
-      double[] newVector = new double[3];
-      double magnitude = vectorMagnitude(vector);
-      
-      for (int i = 0; i < 3; i++) {
-        newVector[i] = vector[i]/magnitude;
-      }
-      
-      return newVector;
-    }
-
-    /**
-     * returns 3D cross-product between two vectors.
-     *
-     * @param vector1 vector1
-     * @param vector2 vector2
-     * @return cross product
-     */
-    public static double[] crossProduct(final double[] vector1,
-        final double[] vector2) {
-      double[] newVector = new double[3];
-
-      newVector[0] = vector1[1] * vector2[2] - vector1[2] * vector2[1];
-      newVector[1] = vector1[2] * vector2[0] - vector1[0] * vector2[2];
-      newVector[2] = vector1[0] * vector2[1] - vector1[1] * vector2[0];
-
-      return newVector;
-    }
-
-    /**
-     * returns 3D cross product with magnitude set to 1 between
-     * two vectors.
-     *
-     * @param vector1 vector1
-     * @param vector2 vector2
-     * @return normalised cross product
-     */
-    public static double[] normalisedCrossProduct(final double[] vector1,
-        final double[] vector2) {
-      double[] newVector = crossProduct(vector1, vector2);
-      double magnitude = vectorMagnitude(newVector);
-
-      for (int i = 0; i < 3; i++) {
-        newVector[i] /= magnitude;
-      }
-
-      return newVector;
-    }
-
-    /**
-     * returns dot product between two 3D vectors.
-     *
-     * @param vector1 vector1
-     * @param vector2 vector2
-     * @return dot product
-     */
-    public static double dotProduct(final double[] vector1,
-        final double[] vector2) {
-      double dotProduct = 0;
-
-      for (int i = 0; i < 3; i++) {
-        dotProduct += vector1[i] * vector2[i];
-      }
-
-      return dotProduct;
-    }
-
-    /**
-     * Ray trace from a point to a plane via a direction vector,
-     * find the intersection between the direction vector and the
-     * plane and return this point.
-     *
-     * @param normalUnitVector normal vector with magnitude 1
-     * @param directionVector direction vector of any magnitude
-     * @param origin point from which ray is traced (i.e. voxel coordinate)
-     * @param planeDistance distance of plane from true origin (0, 0, 0)
-     * @return intersection point between plane and direction vector
-     */
-    @SuppressWarnings("unused")
-    public static double[] rayTraceToPoint(final double[] normalUnitVector,
-        final double[] directionVector, final double[] origin,
-        final double planeDistance) {
-      double t = rayTraceDistance(normalUnitVector, directionVector, origin,
-          planeDistance);
-
-      double[] point = new double[3];
-
-      for (int i = 0; i < 3; i++) {
-        point[i] = origin[i] + t * directionVector[i];
-      }
-
-      return point;
-    }
-
-    /**
-     * Ray trace - find intersection of direction vector from point
-     * with plane from already-known distance t.
-     *
-     * @param directionVector direction vector
-     * @param origin point from which ray is traced
-     * @param t distance of origin to plane along direction vector
-     * @return point of intersection
-     */
-    public static double[] rayTraceToPointWithDistance(
-        final double[] directionVector,
-        final double[] origin,
-        final double t) {
-      double[] point = new double[3];
-
-      for (int i = 0; i < 3; i++) {
-        point[i] = origin[i] + t * directionVector[i];
-      }
-
-      return point;
-    }
-
-    /**
-     * Ray trace from a point to a plane via a direction vector,
-     * find the signed distance between the direction vector and
-     * the plane and return this point.
-     *
-     * @param normalUnitVector normal vector with magnitude 1
-     * @param directionVector direction vector of any magnitude
-     * @param origin point from which ray is traced (i.e. voxel coordinate)
-     * @param planeDistance distance of plane from true origin (0, 0, 0)
-     * @return signed distance between direction vector and plane
-     */
-    public static double rayTraceDistance(final double[] normalUnitVector,
-        final double[] directionVector, final double[] origin,
-        final double planeDistance) {
-
-      double originNormalDotProduct = dotProduct(origin, normalUnitVector);
-      double directionNormalDotProduct = dotProduct(directionVector,
-          normalUnitVector);
-
-      double t = -(originNormalDotProduct + planeDistance)
-          / directionNormalDotProduct;
-
-      return t;
-    }
-
-    /**
-     * Original C code
-     * http://www.ecse.rpi.edu/~wrf/Research/Short_Notes/pnpoly.html
-     * Takes an array of vertices of a polygon and determines whether a point
-     * is contained within the polygon or not. Ignores the z axis at the
-     * moment.
-     *
-     * @param vertices array of 3D vertices
-     * @param point point to test inclusion - must be in same plane
-     *          as vertices
-     * @return boolean value - in polygon or not in polygon.
-     */
-    public static boolean polygonInclusionTest(final double[][] vertices,
-        final double[] point) {
-      boolean c = false;
-
-      for (int i = 0, j = vertices.length - 1; i < vertices.length; j = i++) {
-        if (((vertices[i][1] > point[1]) != (vertices[j][1] > point[1]))
-            && (point[0] < (vertices[j][0] - vertices[i][0])
-                * (point[1] - vertices[i][1])
-                / (vertices[j][1] - vertices[i][1]) + vertices[i][0])) {
-          c = !c;
-        }
-      }
-
-      return c;
-    }
-  }
   /*
   private Element getRandomElement(CoefCalc coefCalc) { //weight this by number of electrons in the crystal.
     double sampleVolume = XDimension * YDimension * ZDimension * 1E-21; //cm^3
@@ -4351,7 +3997,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
       elementProb.put(e, sumProb);
     }
     Element toReturn = null;
-    double RND = Math.random();
+    double RND = random.nextDouble();
     for (Element e: numElectrons.keySet()) {
       if (RND <= elementProb.get(e)) {
         toReturn = e;
@@ -4374,7 +4020,7 @@ private Element chooseLowEnElement(CoefCalc coefCalc, double Pinner, Map<Element
       elementProb.put(e, sumProb);
     }
     Element toReturn = null;
-    double RND = Math.random();
+    double RND = random.nextDouble();
     for (Element e: presentElements) {
       if (RND <= elementProb.get(e)) {
         toReturn = e;
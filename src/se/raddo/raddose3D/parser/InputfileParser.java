@@ -1,4 +1,4 @@
-// $ANTLR 3.4 /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g 2021-03-13 16:23:09
+// $ANTLR 3.4 /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g 2026-10-19 00:14:15
 
 package se.raddo.raddose3D.parser;
 import se.raddo.raddose3D.*;
@@ -16,7 +16,7 @@ import java.util.ArrayList;
 @SuppressWarnings({"all", "warnings", "unchecked"})
 public class InputfileParser extends Parser {
     public static final String[] tokenNames = new String[] {
-        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "ABSCOEFCALC", "ANGLEL", "ANGLEP", "ANGULARRESOLUTION", "APERTURERADIUS", "AVERAGE", "BEAM", "CALCSURROUNDING", "CALCULATEFLESCAPE", "CALCULATEPEESCAPE", "CIF", "CIFNAME", "CIRCULAR", "COLLIMATION", "COMMENT", "CONTAINERDENSITY", "CONTAINERMATERIALELEMENTS", "CONTAINERMATERIALMIXTURE", "CONTAINERMATERIALTYPE", "CONTAINERTHICKNESS", "CRYSTAL", "DDM", "DECAYPARAM", "DEFAULT", "DENSITYBASED", "DIFFRACTIONDECAYMODEL", "DIMENSION", "DUMMY", "ELEMENT", "ELEMENTAL", "ENERGY", "ENERGYFWHM", "EXPONENT", "EXPOSURE", "EXPOSURETIME", "FILE", "FLOAT", "FLRESOLUTION", "FLUX", "FWHM", "GONIOMETERAXIS", "HORIZONTAL", "IMAGEDIM", "KEV", "LEAL", "LINEAR", "MATERIALELEMENTS", "MATERIALMIXTURE", "MATERIALTYPE", "MAXRESOLUTION", "MIXTURE", "MODELFILE", "NONE", "NUMCARB", "NUMDNA", "NUMMONOMERS", "NUMRESIDUES", "NUMRNA", "PDB", "PDBNAME", "PERESOLUTION", "PIXELSIZE", "PIXELSPERMICRON", "POLARISATIONDIRECTION", "PROTEINCONC", "PROTEINCONCENTRATION", "PROTEINHEAVYATOMS", "PULSEENERGY", "RDFORTAN", "RDJAVA", "RECTANGULAR", "ROTAXBEAMOFFSET", "RUNS", "SAXS", "SAXSSEQ", "SEMIANGLE", "SEQFILE", "SEQUENCE", "SEQUENCEFILE", "SIMELECTRONS", "SIMPHOTONS", "SIMPLE", "SMALLMOLE", "SMALLMOLEATOMS", "SOLVENTFRACTION", "SOLVENTHEAVYCONC", "STARTOFFSET", "STRING", "SUBPROGRAM", "SURROUNDINGDENSITY", "SURROUNDINGELEMENTS", "SURROUNDINGHEAVYCONC", "SURROUNDINGTHICKNESS", "TRANSLATEPERDEGREE", "TYPE", "UNITCELL", "VERTICAL", "WEDGE", "WIREFRAMETYPE", "WS"
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "ABSCOEFCALC", "ANGLEL", "ANGLEP", "ANGULARRESOLUTION", "APERTURERADIUS", "AVERAGE", "BEAM", "CALCSURROUNDING", "CALCULATEFLESCAPE", "CALCULATEPEESCAPE", "CIF", "CIFNAME", "CIRCULAR", "COLLIMATION", "COMMENT", "CONTAINERDENSITY", "CONTAINERMATERIALELEMENTS", "CONTAINERMATERIALMIXTURE", "CONTAINERMATERIALTYPE", "CONTAINERTHICKNESS", "CRYSTAL", "DDM", "DECAYPARAM", "DEFAULT", "DENSITYBASED", "DIFFRACTIONDECAYMODEL", "DIMENSION", "DUMMY", "ELEMENT", "ELEMENTAL", "ENERGY", "ENERGYFWHM", "EXPONENT", "EXPOSURE", "EXPOSURETIME", "FILE", "FLOAT", "FLRESOLUTION", "FLUX", "FWHM", "GONIOMETERAXIS", "HORIZONTAL", "IMAGEDIM", "KEV", "LEAL", "LINEAR", "MATERIALELEMENTS", "MATERIALMIXTURE", "MATERIALTYPE", "MAXRESOLUTION", "MIXTURE", "MODELFILE", "NONE", "NUMCARB", "NUMDNA", "NUMMONOMERS", "NUMRESIDUES", "NUMRNA", "PDB", "PDBNAME", "PERESOLUTION", "PIXELSIZE", "PIXELSPERMICRON", "POLARISATIONDIRECTION", "PROTEINCONC", "PROTEINCONCENTRATION", "PROTEINHEAVYATOMS", "PULSEENERGY", "RDFORTAN", "RDJAVA", "RECTANGULAR", "ROTAXBEAMOFFSET", "RUNS", "SAXS", "SAXSSEQ", "SEED", "SEMIANGLE", "SEQFILE", "SEQUENCE", "SEQUENCEFILE", "SIMELECTRONS", "SIMPHOTONS", "SIMPLE", "SMALLMOLE", "SMALLMOLEATOMS", "SOLVENTFRACTION", "SOLVENTHEAVYCONC", "STARTOFFSET", "STRING", "SUBPROGRAM", "SURROUNDINGDENSITY", "SURROUNDINGELEMENTS", "SURROUNDINGHEAVYCONC", "SURROUNDINGTHICKNESS", "TRANSLATEPERDEGREE", "TYPE", "UNITCELL", "VERTICAL", "WEDGE", "WIREFRAMETYPE", "WS"
     };
 
     public static final int EOF=-1;
@@ -95,31 +95,32 @@ public class InputfileParser extends Parser {
     public static final int RUNS=76;
     public static final int SAXS=77;
     public static final int SAXSSEQ=78;
-    public static final int SEMIANGLE=79;
-    public static final int SEQFILE=80;
-    public static final int SEQUENCE=81;
-    public static final int SEQUENCEFILE=82;
-    public static final int SIMELECTRONS=83;
-    public static final int SIMPHOTONS=84;
-    public static final int SIMPLE=85;
-    public static final int SMALLMOLE=86;
-    public static final int SMALLMOLEATOMS=87;
-    public static final int SOLVENTFRACTION=88;
-    public static final int SOLVENTHEAVYCONC=89;
-    public static final int STARTOFFSET=90;
-    public static final int STRING=91;
-    public static final int SUBPROGRAM=92;
-    public static final int SURROUNDINGDENSITY=93;
-    public static final int SURROUNDINGELEMENTS=94;
-    public static final int SURROUNDINGHEAVYCONC=95;
-    public static final int SURROUNDINGTHICKNESS=96;
-    public static final int TRANSLATEPERDEGREE=97;
-    public static final int TYPE=98;
-    public static final int UNITCELL=99;
-    public static final int VERTICAL=100;
-    public static final int WEDGE=101;
-    public static final int WIREFRAMETYPE=102;
-    public static final int WS=103;
+    public static final int SEED=79;
+    public static final int SEMIANGLE=80;
+    public static final int SEQFILE=81;
+    public static final int SEQUENCE=82;
+    public static final int SEQUENCEFILE=83;
+    public static final int SIMELECTRONS=84;
+    public static final int SIMPHOTONS=85;
+    public static final int SIMPLE=86;
+    public static final int SMALLMOLE=87;
+    public static final int SMALLMOLEATOMS=88;
+    public static final int SOLVENTFRACTION=89;
+    public static final int SOLVENTHEAVYCONC=90;
+    public static final int STARTOFFSET=91;
+    public static final int STRING=92;
+    public static final int SUBPROGRAM=93;
+    public static final int SURROUNDINGDENSITY=94;
+    public static final int SURROUNDINGELEMENTS=95;
+    public static final int SURROUNDINGHEAVYCONC=96;
+    public static final int SURROUNDINGTHICKNESS=97;
+    public static final int TRANSLATEPERDEGREE=98;
+    public static final int TYPE=99;
+    public static final int UNITCELL=100;
+    public static final int VERTICAL=101;
+    public static final int WEDGE=102;
+    public static final int WIREFRAMETYPE=103;
+    public static final int WS=104;
 
     // delegates
     public Parser[] getDelegates() {
@@ -331,26 +332,26 @@ public class InputfileParser extends Parser {
                 ((crystal_scope)crystal_stack.peek()).crystalProperties = new HashMap<Object, Object>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:268:2: ( CRYSTAL ( crystalLine )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:268:4: CRYSTAL ( crystalLine )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:272:2: ( CRYSTAL ( crystalLine )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:272:4: CRYSTAL ( crystalLine )+
             {
             match(input,CRYSTAL,FOLLOW_CRYSTAL_in_crystal134); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:268:12: ( crystalLine )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:272:12: ( crystalLine )+
             int cnt2=0;
             loop2:
             do {
                 int alt2=2;
                 int LA2_0 = input.LA(1);
 
-                if ( ((LA2_0 >= ABSCOEFCALC && LA2_0 <= ANGLEP)||(LA2_0 >= CALCSURROUNDING && LA2_0 <= CALCULATEPEESCAPE)||LA2_0==CIFNAME||(LA2_0 >= CONTAINERDENSITY && LA2_0 <= CONTAINERTHICKNESS)||(LA2_0 >= DDM && LA2_0 <= DECAYPARAM)||(LA2_0 >= DENSITYBASED && LA2_0 <= DIMENSION)||LA2_0==FLRESOLUTION||LA2_0==GONIOMETERAXIS||(LA2_0 >= MATERIALELEMENTS && LA2_0 <= MATERIALTYPE)||LA2_0==MODELFILE||(LA2_0 >= NUMCARB && LA2_0 <= NUMRNA)||(LA2_0 >= PDBNAME && LA2_0 <= PERESOLUTION)||(LA2_0 >= PIXELSPERMICRON && LA2_0 <= PROTEINHEAVYATOMS)||LA2_0==RUNS||LA2_0==SEQFILE||(LA2_0 >= SEQUENCEFILE && LA2_0 <= SIMPHOTONS)||(LA2_0 >= SMALLMOLEATOMS && LA2_0 <= SOLVENTHEAVYCONC)||(LA2_0 >= SUBPROGRAM && LA2_0 <= SURROUNDINGTHICKNESS)||(LA2_0 >= TYPE && LA2_0 <= UNITCELL)||LA2_0==WIREFRAMETYPE) ) {
+                if ( ((LA2_0 >= ABSCOEFCALC && LA2_0 <= ANGLEP)||(LA2_0 >= CALCSURROUNDING && LA2_0 <= CALCULATEPEESCAPE)||LA2_0==CIFNAME||(LA2_0 >= CONTAINERDENSITY && LA2_0 <= CONTAINERTHICKNESS)||(LA2_0 >= DDM && LA2_0 <= DECAYPARAM)||(LA2_0 >= DENSITYBASED && LA2_0 <= DIMENSION)||LA2_0==FLRESOLUTION||LA2_0==GONIOMETERAXIS||(LA2_0 >= MATERIALELEMENTS && LA2_0 <= MATERIALTYPE)||LA2_0==MODELFILE||(LA2_0 >= NUMCARB && LA2_0 <= NUMRNA)||(LA2_0 >= PDBNAME && LA2_0 <= PERESOLUTION)||(LA2_0 >= PIXELSPERMICRON && LA2_0 <= PROTEINHEAVYATOMS)||LA2_0==RUNS||LA2_0==SEED||LA2_0==SEQFILE||(LA2_0 >= SEQUENCEFILE && LA2_0 <= SIMPHOTONS)||(LA2_0 >= SMALLMOLEATOMS && LA2_0 <= SOLVENTHEAVYCONC)||(LA2_0 >= SUBPROGRAM && LA2_0 <= SURROUNDINGTHICKNESS)||(LA2_0 >= TYPE && LA2_0 <= UNITCELL)||LA2_0==WIREFRAMETYPE) ) {
                     alt2=1;
                 }
 
 
                 switch (alt2) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:268:12: crystalLine
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:272:12: crystalLine
                     {
                     pushFollow(FOLLOW_crystalLine_in_crystal136);
                     crystalLine();
@@ -497,7 +498,11 @@ public class InputfileParser extends Parser {
                ((crystal_scope)crystal_stack.peek()).crystalCoefCalcClass = new CoefCalcFromCIF(((crystal_scope)crystal_stack.peek()).cif);                                                                                                 
             }
 
-
+            // the number of simulated electrons applies to all computed compositions
+            if (((crystal_scope)crystal_stack.peek()).simElectrons > 0 && ((crystal_scope)crystal_stack.peek()).crystalCoefCalcClass instanceof CoefCalcCompute)
+            {
+               ((CoefCalcCompute) ((crystal_scope)crystal_stack.peek()).crystalCoefCalcClass).setNumberSimulatedElectrons(((crystal_scope)crystal_stack.peek()).simElectrons);
+            }
 
             ((crystal_scope)crystal_stack.peek()).crystalProperties.put(Crystal.CRYSTAL_COEFCALC, ((crystal_scope)crystal_stack.peek()).crystalCoefCalcClass);
 
@@ -556,7 +561,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalLine"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:271:1: crystalLine : (a= crystalType |b= crystalDDM |c= crystalCoefcalc |d= crystalDim |e= crystalPPM |f= crystalAngP |g= crystalAngL |h= crystalDecayParam |i= containerThickness |j= containerDensity |k= crystalContainerMaterial |l= containerMaterialMixture |m= unitcell |n= nummonomers |o= numresidues |p= numRNA |q= numDNA |qa= numcarb |r= heavyProteinAtoms |s= heavySolutionConc |t= solventFraction |u= pdb |v= wireframeType |w= modelFile |x= calculatePEEscape |y= proteinConcentration |z= containerMaterialElements |aa= sequenceFile |ab= smallMoleAtoms |ac= cif |bb= calculateFLEscape |cc= flResolution |dd= peResolution |ee= surroundingHeavyConc |ff= oilBased |gg= goniometerAxis |hh= calcSurrounding |ii= oilElements |jj= oilDensity |kk= program |ll= simElectrons |mm= runs |nn= surroundingThickness |pp= polarisationDirection );
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:275:1: crystalLine : (a= crystalType |b= crystalDDM |c= crystalCoefcalc |d= crystalDim |e= crystalPPM |f= crystalAngP |g= crystalAngL |h= crystalDecayParam |i= containerThickness |j= containerDensity |k= crystalContainerMaterial |l= containerMaterialMixture |m= unitcell |n= nummonomers |o= numresidues |p= numRNA |q= numDNA |qa= numcarb |r= heavyProteinAtoms |s= heavySolutionConc |t= solventFraction |u= pdb |v= wireframeType |w= modelFile |x= calculatePEEscape |y= proteinConcentration |z= containerMaterialElements |aa= sequenceFile |ab= smallMoleAtoms |ac= cif |bb= calculateFLEscape |cc= flResolution |dd= peResolution |ee= surroundingHeavyConc |ff= oilBased |gg= goniometerAxis |hh= calcSurrounding |ii= oilElements |jj= oilDensity |kk= program |ll= simElectrons |mm= runs |nn= surroundingThickness |pp= polarisationDirection |oo= seed );
     public final void crystalLine() throws RecognitionException {
         String a =null;
 
@@ -646,10 +651,12 @@ public class InputfileParser extends Parser {
 
         double pp =0.0;
 
+        Long oo =null;
+
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:272:2: (a= crystalType |b= crystalDDM |c= crystalCoefcalc |d= crystalDim |e= crystalPPM |f= crystalAngP |g= crystalAngL |h= crystalDecayParam |i= containerThickness |j= containerDensity |k= crystalContainerMaterial |l= containerMaterialMixture |m= unitcell |n= nummonomers |o= numresidues |p= numRNA |q= numDNA |qa= numcarb |r= heavyProteinAtoms |s= heavySolutionConc |t= solventFraction |u= pdb |v= wireframeType |w= modelFile |x= calculatePEEscape |y= proteinConcentration |z= containerMaterialElements |aa= sequenceFile |ab= smallMoleAtoms |ac= cif |bb= calculateFLEscape |cc= flResolution |dd= peResolution |ee= surroundingHeavyConc |ff= oilBased |gg= goniometerAxis |hh= calcSurrounding |ii= oilElements |jj= oilDensity |kk= program |ll= simElectrons |mm= runs |nn= surroundingThickness |pp= polarisationDirection )
-            int alt3=44;
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:276:2: (a= crystalType |b= crystalDDM |c= crystalCoefcalc |d= crystalDim |e= crystalPPM |f= crystalAngP |g= crystalAngL |h= crystalDecayParam |i= containerThickness |j= containerDensity |k= crystalContainerMaterial |l= containerMaterialMixture |m= unitcell |n= nummonomers |o= numresidues |p= numRNA |q= numDNA |qa= numcarb |r= heavyProteinAtoms |s= heavySolutionConc |t= solventFraction |u= pdb |v= wireframeType |w= modelFile |x= calculatePEEscape |y= proteinConcentration |z= containerMaterialElements |aa= sequenceFile |ab= smallMoleAtoms |ac= cif |bb= calculateFLEscape |cc= flResolution |dd= peResolution |ee= surroundingHeavyConc |ff= oilBased |gg= goniometerAxis |hh= calcSurrounding |ii= oilElements |jj= oilDensity |kk= program |ll= simElectrons |mm= runs |nn= surroundingThickness |pp= polarisationDirection |oo= seed )
+            int alt3=45;
             switch ( input.LA(1) ) {
             case TYPE:
                 {
@@ -878,6 +885,11 @@ public class InputfileParser extends Parser {
                 alt3=44;
                 }
                 break;
+            case SEED:
+                {
+                alt3=45;
+                }
+                break;
             default:
                 NoViableAltException nvae =
                     new NoViableAltException("", 3, 0, input);
@@ -888,7 +900,7 @@ public class InputfileParser extends Parser {
 
             switch (alt3) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:272:4: a= crystalType
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:276:4: a= crystalType
                     {
                     pushFollow(FOLLOW_crystalType_in_crystalLine192);
                     a=crystalType();
@@ -901,7 +913,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:273:4: b= crystalDDM
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:277:4: b= crystalDDM
                     {
                     pushFollow(FOLLOW_crystalDDM_in_crystalLine203);
                     b=crystalDDM();
@@ -914,7 +926,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:274:4: c= crystalCoefcalc
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:278:4: c= crystalCoefcalc
                     {
                     pushFollow(FOLLOW_crystalCoefcalc_in_crystalLine215);
                     c=crystalCoefcalc();
@@ -927,7 +939,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 4 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:275:4: d= crystalDim
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:279:4: d= crystalDim
                     {
                     pushFollow(FOLLOW_crystalDim_in_crystalLine225);
                     d=crystalDim();
@@ -942,7 +954,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 5 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:278:4: e= crystalPPM
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:282:4: e= crystalPPM
                     {
                     pushFollow(FOLLOW_crystalPPM_in_crystalLine236);
                     e=crystalPPM();
@@ -955,7 +967,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 6 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:279:4: f= crystalAngP
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:283:4: f= crystalAngP
                     {
                     pushFollow(FOLLOW_crystalAngP_in_crystalLine247);
                     f=crystalAngP();
@@ -968,7 +980,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 7 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:280:4: g= crystalAngL
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:284:4: g= crystalAngL
                     {
                     pushFollow(FOLLOW_crystalAngL_in_crystalLine258);
                     g=crystalAngL();
@@ -981,7 +993,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 8 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:281:4: h= crystalDecayParam
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:285:4: h= crystalDecayParam
                     {
                     pushFollow(FOLLOW_crystalDecayParam_in_crystalLine269);
                     h=crystalDecayParam();
@@ -996,7 +1008,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 9 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:284:4: i= containerThickness
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:288:4: i= containerThickness
                     {
                     pushFollow(FOLLOW_containerThickness_in_crystalLine279);
                     i=containerThickness();
@@ -1009,7 +1021,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 10 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:285:4: j= containerDensity
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:289:4: j= containerDensity
                     {
                     pushFollow(FOLLOW_containerDensity_in_crystalLine289);
                     j=containerDensity();
@@ -1022,7 +1034,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 11 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:286:4: k= crystalContainerMaterial
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:290:4: k= crystalContainerMaterial
                     {
                     pushFollow(FOLLOW_crystalContainerMaterial_in_crystalLine299);
                     k=crystalContainerMaterial();
@@ -1035,7 +1047,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 12 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:287:4: l= containerMaterialMixture
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:291:4: l= containerMaterialMixture
                     {
                     pushFollow(FOLLOW_containerMaterialMixture_in_crystalLine308);
                     l=containerMaterialMixture();
@@ -1048,7 +1060,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 13 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:288:4: m= unitcell
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:292:4: m= unitcell
                     {
                     pushFollow(FOLLOW_unitcell_in_crystalLine317);
                     m=unitcell();
@@ -1066,7 +1078,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 14 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:294:4: n= nummonomers
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:298:4: n= nummonomers
                     {
                     pushFollow(FOLLOW_nummonomers_in_crystalLine328);
                     n=nummonomers();
@@ -1079,7 +1091,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 15 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:295:4: o= numresidues
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:299:4: o= numresidues
                     {
                     pushFollow(FOLLOW_numresidues_in_crystalLine339);
                     o=numresidues();
@@ -1092,7 +1104,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 16 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:296:4: p= numRNA
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:300:4: p= numRNA
                     {
                     pushFollow(FOLLOW_numRNA_in_crystalLine350);
                     p=numRNA();
@@ -1105,7 +1117,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 17 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:297:4: q= numDNA
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:301:4: q= numDNA
                     {
                     pushFollow(FOLLOW_numDNA_in_crystalLine363);
                     q=numDNA();
@@ -1118,7 +1130,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 18 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:298:4: qa= numcarb
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:302:4: qa= numcarb
                     {
                     pushFollow(FOLLOW_numcarb_in_crystalLine376);
                     qa=numcarb();
@@ -1131,7 +1143,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 19 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:299:4: r= heavyProteinAtoms
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:303:4: r= heavyProteinAtoms
                     {
                     pushFollow(FOLLOW_heavyProteinAtoms_in_crystalLine389);
                     r=heavyProteinAtoms();
@@ -1145,7 +1157,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 20 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:301:4: s= heavySolutionConc
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:305:4: s= heavySolutionConc
                     {
                     pushFollow(FOLLOW_heavySolutionConc_in_crystalLine398);
                     s=heavySolutionConc();
@@ -1159,7 +1171,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 21 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:303:4: t= solventFraction
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:307:4: t= solventFraction
                     {
                     pushFollow(FOLLOW_solventFraction_in_crystalLine407);
                     t=solventFraction();
@@ -1172,7 +1184,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 22 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:304:4: u= pdb
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:308:4: u= pdb
                     {
                     pushFollow(FOLLOW_pdb_in_crystalLine417);
                     u=pdb();
@@ -1185,7 +1197,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 23 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:305:4: v= wireframeType
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:309:4: v= wireframeType
                     {
                     pushFollow(FOLLOW_wireframeType_in_crystalLine430);
                     v=wireframeType();
@@ -1198,7 +1210,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 24 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:306:4: w= modelFile
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:310:4: w= modelFile
                     {
                     pushFollow(FOLLOW_modelFile_in_crystalLine441);
                     w=modelFile();
@@ -1211,7 +1223,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 25 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:307:4: x= calculatePEEscape
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:311:4: x= calculatePEEscape
                     {
                     pushFollow(FOLLOW_calculatePEEscape_in_crystalLine453);
                     x=calculatePEEscape();
@@ -1224,7 +1236,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 26 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:308:4: y= proteinConcentration
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:312:4: y= proteinConcentration
                     {
                     pushFollow(FOLLOW_proteinConcentration_in_crystalLine463);
                     y=proteinConcentration();
@@ -1237,7 +1249,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 27 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:309:4: z= containerMaterialElements
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:313:4: z= containerMaterialElements
                     {
                     pushFollow(FOLLOW_containerMaterialElements_in_crystalLine472);
                     z=containerMaterialElements();
@@ -1251,7 +1263,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 28 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:311:4: aa= sequenceFile
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:315:4: aa= sequenceFile
                     {
                     pushFollow(FOLLOW_sequenceFile_in_crystalLine481);
                     aa=sequenceFile();
@@ -1264,7 +1276,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 29 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:312:4: ab= smallMoleAtoms
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:316:4: ab= smallMoleAtoms
                     {
                     pushFollow(FOLLOW_smallMoleAtoms_in_crystalLine492);
                     ab=smallMoleAtoms();
@@ -1278,7 +1290,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 30 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:314:4: ac= cif
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:318:4: ac= cif
                     {
                     pushFollow(FOLLOW_cif_in_crystalLine513);
                     ac=cif();
@@ -1291,7 +1303,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 31 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:316:4: bb= calculateFLEscape
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:320:4: bb= calculateFLEscape
                     {
                     pushFollow(FOLLOW_calculateFLEscape_in_crystalLine527);
                     bb=calculateFLEscape();
@@ -1304,7 +1316,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 32 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:317:4: cc= flResolution
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:321:4: cc= flResolution
                     {
                     pushFollow(FOLLOW_flResolution_in_crystalLine537);
                     cc=flResolution();
@@ -1317,7 +1329,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 33 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:318:4: dd= peResolution
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:322:4: dd= peResolution
                     {
                     pushFollow(FOLLOW_peResolution_in_crystalLine548);
                     dd=peResolution();
@@ -1330,7 +1342,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 34 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:320:4: ee= surroundingHeavyConc
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:324:4: ee= surroundingHeavyConc
                     {
                     pushFollow(FOLLOW_surroundingHeavyConc_in_crystalLine560);
                     ee=surroundingHeavyConc();
@@ -1344,7 +1356,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 35 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:322:4: ff= oilBased
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:326:4: ff= oilBased
                     {
                     pushFollow(FOLLOW_oilBased_in_crystalLine577);
                     ff=oilBased();
@@ -1357,7 +1369,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 36 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:323:4: gg= goniometerAxis
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:327:4: gg= goniometerAxis
                     {
                     pushFollow(FOLLOW_goniometerAxis_in_crystalLine602);
                     gg=goniometerAxis();
@@ -1370,7 +1382,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 37 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:324:4: hh= calcSurrounding
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:328:4: hh= calcSurrounding
                     {
                     pushFollow(FOLLOW_calcSurrounding_in_crystalLine612);
                     hh=calcSurrounding();
@@ -1383,7 +1395,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 38 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:325:4: ii= oilElements
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:329:4: ii= oilElements
                     {
                     pushFollow(FOLLOW_oilElements_in_crystalLine636);
                     ii=oilElements();
@@ -1397,7 +1409,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 39 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:327:4: jj= oilDensity
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:331:4: jj= oilDensity
                     {
                     pushFollow(FOLLOW_oilDensity_in_crystalLine660);
                     jj=oilDensity();
@@ -1410,7 +1422,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 40 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:328:4: kk= program
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:332:4: kk= program
                     {
                     pushFollow(FOLLOW_program_in_crystalLine685);
                     kk=program();
@@ -1423,7 +1435,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 41 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:329:4: ll= simElectrons
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:333:4: ll= simElectrons
                     {
                     pushFollow(FOLLOW_simElectrons_in_crystalLine710);
                     ll=simElectrons();
@@ -1436,7 +1448,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 42 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:330:4: mm= runs
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:334:4: mm= runs
                     {
                     pushFollow(FOLLOW_runs_in_crystalLine720);
                     mm=runs();
@@ -1449,7 +1461,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 43 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:331:4: nn= surroundingThickness
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:335:4: nn= surroundingThickness
                     {
                     pushFollow(FOLLOW_surroundingThickness_in_crystalLine745);
                     nn=surroundingThickness();
@@ -1464,7 +1476,7 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 44 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:334:11: pp= polarisationDirection
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:338:11: pp= polarisationDirection
                     {
                     pushFollow(FOLLOW_polarisationDirection_in_crystalLine763);
                     pp=polarisationDirection();
@@ -1476,6 +1488,19 @@ public class InputfileParser extends Parser {
 
                     }
                     break;
+                case 45 :
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:339:4: oo= seed
+                    {
+                    pushFollow(FOLLOW_seed_in_crystalLine778);
+                    oo=seed();
+
+                    state._fsp--;
+
+
+                     ((crystal_scope)crystal_stack.peek()).crystalProperties.put(Crystal.CRYSTAL_SEED, oo); 
+
+                    }
+                    break;
 
             }
         }
@@ -1494,7 +1519,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalType"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:339:1: crystalType returns [String crystalType] : TYPE e= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:344:1: crystalType returns [String crystalType] : TYPE e= STRING ;
     public final String crystalType() throws RecognitionException {
         String crystalType = null;
 
@@ -1502,12 +1527,12 @@ public class InputfileParser extends Parser {
         Token e=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:340:2: ( TYPE e= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:340:4: TYPE e= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:345:2: ( TYPE e= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:345:4: TYPE e= STRING
             {
-            match(input,TYPE,FOLLOW_TYPE_in_crystalType796); 
+            match(input,TYPE,FOLLOW_TYPE_in_crystalType821); 
 
-            e=(Token)match(input,STRING,FOLLOW_STRING_in_crystalType800); 
+            e=(Token)match(input,STRING,FOLLOW_STRING_in_crystalType825); 
 
             crystalType = (e!=null?e.getText():null);
 
@@ -1529,7 +1554,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalDDM"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:343:1: crystalDDM returns [int value] : ( DIFFRACTIONDECAYMODEL | DDM ) e= crystalDDMKeyword ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:348:1: crystalDDM returns [int value] : ( DIFFRACTIONDECAYMODEL | DDM ) e= crystalDDMKeyword ;
     public final int crystalDDM() throws RecognitionException {
         int value = 0;
 
@@ -1538,8 +1563,8 @@ public class InputfileParser extends Parser {
 
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:344:2: ( ( DIFFRACTIONDECAYMODEL | DDM ) e= crystalDDMKeyword )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:344:4: ( DIFFRACTIONDECAYMODEL | DDM ) e= crystalDDMKeyword
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:349:2: ( ( DIFFRACTIONDECAYMODEL | DDM ) e= crystalDDMKeyword )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:349:4: ( DIFFRACTIONDECAYMODEL | DDM ) e= crystalDDMKeyword
             {
             if ( input.LA(1)==DDM||input.LA(1)==DIFFRACTIONDECAYMODEL ) {
                 input.consume();
@@ -1551,7 +1576,7 @@ public class InputfileParser extends Parser {
             }
 
 
-            pushFollow(FOLLOW_crystalDDMKeyword_in_crystalDDM854);
+            pushFollow(FOLLOW_crystalDDMKeyword_in_crystalDDM879);
             e=crystalDDMKeyword();
 
             state._fsp--;
@@ -1577,13 +1602,13 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalDDMKeyword"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:347:1: crystalDDMKeyword returns [int value] : ( SIMPLE | LINEAR | LEAL );
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:352:1: crystalDDMKeyword returns [int value] : ( SIMPLE | LINEAR | LEAL );
     public final int crystalDDMKeyword() throws RecognitionException {
         int value = 0;
 
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:348:2: ( SIMPLE | LINEAR | LEAL )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:353:2: ( SIMPLE | LINEAR | LEAL )
             int alt4=3;
             switch ( input.LA(1) ) {
             case SIMPLE:
@@ -1611,27 +1636,27 @@ public class InputfileParser extends Parser {
 
             switch (alt4) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:348:4: SIMPLE
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:353:4: SIMPLE
                     {
-                    match(input,SIMPLE,FOLLOW_SIMPLE_in_crystalDDMKeyword1002); 
+                    match(input,SIMPLE,FOLLOW_SIMPLE_in_crystalDDMKeyword1027); 
 
                      value = 1; 
 
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:349:4: LINEAR
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:354:4: LINEAR
                     {
-                    match(input,LINEAR,FOLLOW_LINEAR_in_crystalDDMKeyword1009); 
+                    match(input,LINEAR,FOLLOW_LINEAR_in_crystalDDMKeyword1034); 
 
                      value = 2; 
 
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:350:4: LEAL
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:355:4: LEAL
                     {
-                    match(input,LEAL,FOLLOW_LEAL_in_crystalDDMKeyword1016); 
+                    match(input,LEAL,FOLLOW_LEAL_in_crystalDDMKeyword1041); 
 
                      value = 3; 
 
@@ -1661,7 +1686,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalDecayParam"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:356:1: crystalDecayParam returns [Double gammaParam, Double b0Param, Double betaParam] : DECAYPARAM a= FLOAT b= FLOAT c= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:361:1: crystalDecayParam returns [Double gammaParam, Double b0Param, Double betaParam] : DECAYPARAM a= FLOAT b= FLOAT c= FLOAT ;
     public final InputfileParser.crystalDecayParam_return crystalDecayParam() throws RecognitionException {
         InputfileParser.crystalDecayParam_return retval = new InputfileParser.crystalDecayParam_return();
         retval.start = input.LT(1);
@@ -1672,16 +1697,16 @@ public class InputfileParser extends Parser {
         Token c=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:357:2: ( DECAYPARAM a= FLOAT b= FLOAT c= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:357:4: DECAYPARAM a= FLOAT b= FLOAT c= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:362:2: ( DECAYPARAM a= FLOAT b= FLOAT c= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:362:4: DECAYPARAM a= FLOAT b= FLOAT c= FLOAT
             {
-            match(input,DECAYPARAM,FOLLOW_DECAYPARAM_in_crystalDecayParam1136); 
+            match(input,DECAYPARAM,FOLLOW_DECAYPARAM_in_crystalDecayParam1161); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDecayParam1140); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDecayParam1165); 
 
-            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDecayParam1144); 
+            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDecayParam1169); 
 
-            c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDecayParam1148); 
+            c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDecayParam1173); 
 
             retval.gammaParam = Double.parseDouble((a!=null?a.getText():null)); retval.b0Param = Double.parseDouble((b!=null?b.getText():null)); retval.betaParam = Double.parseDouble((c!=null?c.getText():null));
 
@@ -1706,7 +1731,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalCoefcalc"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:360:1: crystalCoefcalc returns [int value] : ABSCOEFCALC a= crystalCoefcalcKeyword ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:365:1: crystalCoefcalc returns [int value] : ABSCOEFCALC a= crystalCoefcalcKeyword ;
     public final int crystalCoefcalc() throws RecognitionException {
         int value = 0;
 
@@ -1715,12 +1740,12 @@ public class InputfileParser extends Parser {
 
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:361:2: ( ABSCOEFCALC a= crystalCoefcalcKeyword )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:361:4: ABSCOEFCALC a= crystalCoefcalcKeyword
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:366:2: ( ABSCOEFCALC a= crystalCoefcalcKeyword )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:366:4: ABSCOEFCALC a= crystalCoefcalcKeyword
             {
-            match(input,ABSCOEFCALC,FOLLOW_ABSCOEFCALC_in_crystalCoefcalc1220); 
+            match(input,ABSCOEFCALC,FOLLOW_ABSCOEFCALC_in_crystalCoefcalc1245); 
 
-            pushFollow(FOLLOW_crystalCoefcalcKeyword_in_crystalCoefcalc1224);
+            pushFollow(FOLLOW_crystalCoefcalcKeyword_in_crystalCoefcalc1249);
             a=crystalCoefcalcKeyword();
 
             state._fsp--;
@@ -1746,13 +1771,13 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalCoefcalcKeyword"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:363:1: crystalCoefcalcKeyword returns [int value] : ( DUMMY | AVERAGE | DEFAULT | RDJAVA | RDFORTAN | PDB | SAXS | SEQUENCE | SAXSSEQ | SMALLMOLE | CIF );
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:368:1: crystalCoefcalcKeyword returns [int value] : ( DUMMY | AVERAGE | DEFAULT | RDJAVA | RDFORTAN | PDB | SAXS | SEQUENCE | SAXSSEQ | SMALLMOLE | CIF );
     public final int crystalCoefcalcKeyword() throws RecognitionException {
         int value = 0;
 
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:364:2: ( DUMMY | AVERAGE | DEFAULT | RDJAVA | RDFORTAN | PDB | SAXS | SEQUENCE | SAXSSEQ | SMALLMOLE | CIF )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:369:2: ( DUMMY | AVERAGE | DEFAULT | RDJAVA | RDFORTAN | PDB | SAXS | SEQUENCE | SAXSSEQ | SMALLMOLE | CIF )
             int alt5=11;
             switch ( input.LA(1) ) {
             case DUMMY:
@@ -1820,99 +1845,99 @@ public class InputfileParser extends Parser {
 
             switch (alt5) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:364:4: DUMMY
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:369:4: DUMMY
                     {
-                    match(input,DUMMY,FOLLOW_DUMMY_in_crystalCoefcalcKeyword1303); 
+                    match(input,DUMMY,FOLLOW_DUMMY_in_crystalCoefcalcKeyword1328); 
 
                      value = 1;
 
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:365:4: AVERAGE
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:370:4: AVERAGE
                     {
-                    match(input,AVERAGE,FOLLOW_AVERAGE_in_crystalCoefcalcKeyword1313); 
+                    match(input,AVERAGE,FOLLOW_AVERAGE_in_crystalCoefcalcKeyword1338); 
 
                      value = 1;
 
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:366:4: DEFAULT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:371:4: DEFAULT
                     {
-                    match(input,DEFAULT,FOLLOW_DEFAULT_in_crystalCoefcalcKeyword1321); 
+                    match(input,DEFAULT,FOLLOW_DEFAULT_in_crystalCoefcalcKeyword1346); 
 
                      value = 2;
 
                     }
                     break;
                 case 4 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:367:4: RDJAVA
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:372:4: RDJAVA
                     {
-                    match(input,RDJAVA,FOLLOW_RDJAVA_in_crystalCoefcalcKeyword1329); 
+                    match(input,RDJAVA,FOLLOW_RDJAVA_in_crystalCoefcalcKeyword1354); 
 
                      value = 2;
 
                     }
                     break;
                 case 5 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:368:4: RDFORTAN
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:373:4: RDFORTAN
                     {
-                    match(input,RDFORTAN,FOLLOW_RDFORTAN_in_crystalCoefcalcKeyword1336); 
+                    match(input,RDFORTAN,FOLLOW_RDFORTAN_in_crystalCoefcalcKeyword1361); 
 
                      value = 3;
 
                     }
                     break;
                 case 6 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:369:4: PDB
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:374:4: PDB
                     {
-                    match(input,PDB,FOLLOW_PDB_in_crystalCoefcalcKeyword1343); 
+                    match(input,PDB,FOLLOW_PDB_in_crystalCoefcalcKeyword1368); 
 
                      value = 4;
 
                     }
                     break;
                 case 7 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:370:4: SAXS
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:375:4: SAXS
                     {
-                    match(input,SAXS,FOLLOW_SAXS_in_crystalCoefcalcKeyword1353); 
+                    match(input,SAXS,FOLLOW_SAXS_in_crystalCoefcalcKeyword1378); 
 
                      value = 5;
 
                     }
                     break;
                 case 8 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:371:4: SEQUENCE
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:376:4: SEQUENCE
                     {
-                    match(input,SEQUENCE,FOLLOW_SEQUENCE_in_crystalCoefcalcKeyword1361); 
+                    match(input,SEQUENCE,FOLLOW_SEQUENCE_in_crystalCoefcalcKeyword1386); 
 
                      value = 6;
 
                     }
                     break;
                 case 9 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:372:4: SAXSSEQ
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:377:4: SAXSSEQ
                     {
-                    match(input,SAXSSEQ,FOLLOW_SAXSSEQ_in_crystalCoefcalcKeyword1368); 
+                    match(input,SAXSSEQ,FOLLOW_SAXSSEQ_in_crystalCoefcalcKeyword1393); 
 
                      value = 7;
 
                     }
                     break;
                 case 10 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:373:4: SMALLMOLE
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:378:4: SMALLMOLE
                     {
-                    match(input,SMALLMOLE,FOLLOW_SMALLMOLE_in_crystalCoefcalcKeyword1375); 
+                    match(input,SMALLMOLE,FOLLOW_SMALLMOLE_in_crystalCoefcalcKeyword1400); 
 
                      value = 8;
 
                     }
                     break;
                 case 11 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:374:4: CIF
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:379:4: CIF
                     {
-                    match(input,CIF,FOLLOW_CIF_in_crystalCoefcalcKeyword1386); 
+                    match(input,CIF,FOLLOW_CIF_in_crystalCoefcalcKeyword1411); 
 
                      value = 9;
 
@@ -1936,7 +1961,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalDim"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:388:1: crystalDim returns [Map<Object, Object> properties] : DIMENSION (a= FLOAT b= FLOAT c= FLOAT |e= FLOAT f= FLOAT |d= FLOAT ) ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:393:1: crystalDim returns [Map<Object, Object> properties] : DIMENSION (a= FLOAT b= FLOAT c= FLOAT |e= FLOAT f= FLOAT |d= FLOAT ) ;
     public final Map<Object, Object> crystalDim() throws RecognitionException {
         Map<Object, Object> properties = null;
 
@@ -1952,12 +1977,12 @@ public class InputfileParser extends Parser {
                 properties = new HashMap<Object, Object>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:391:3: ( DIMENSION (a= FLOAT b= FLOAT c= FLOAT |e= FLOAT f= FLOAT |d= FLOAT ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:391:5: DIMENSION (a= FLOAT b= FLOAT c= FLOAT |e= FLOAT f= FLOAT |d= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:396:3: ( DIMENSION (a= FLOAT b= FLOAT c= FLOAT |e= FLOAT f= FLOAT |d= FLOAT ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:396:5: DIMENSION (a= FLOAT b= FLOAT c= FLOAT |e= FLOAT f= FLOAT |d= FLOAT )
             {
-            match(input,DIMENSION,FOLLOW_DIMENSION_in_crystalDim1795); 
+            match(input,DIMENSION,FOLLOW_DIMENSION_in_crystalDim1820); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:392:2: (a= FLOAT b= FLOAT c= FLOAT |e= FLOAT f= FLOAT |d= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:397:2: (a= FLOAT b= FLOAT c= FLOAT |e= FLOAT f= FLOAT |d= FLOAT )
             int alt6=3;
             int LA6_0 = input.LA(1);
 
@@ -1970,7 +1995,7 @@ public class InputfileParser extends Parser {
                     if ( (LA6_2==FLOAT) ) {
                         alt6=1;
                     }
-                    else if ( (LA6_2==EOF||(LA6_2 >= ABSCOEFCALC && LA6_2 <= ANGLEP)||(LA6_2 >= BEAM && LA6_2 <= CALCULATEPEESCAPE)||LA6_2==CIFNAME||(LA6_2 >= CONTAINERDENSITY && LA6_2 <= DECAYPARAM)||(LA6_2 >= DENSITYBASED && LA6_2 <= DIMENSION)||LA6_2==FLRESOLUTION||LA6_2==GONIOMETERAXIS||(LA6_2 >= MATERIALELEMENTS && LA6_2 <= MATERIALTYPE)||LA6_2==MODELFILE||(LA6_2 >= NUMCARB && LA6_2 <= NUMRNA)||(LA6_2 >= PDBNAME && LA6_2 <= PERESOLUTION)||(LA6_2 >= PIXELSPERMICRON && LA6_2 <= PROTEINHEAVYATOMS)||LA6_2==RUNS||LA6_2==SEQFILE||(LA6_2 >= SEQUENCEFILE && LA6_2 <= SIMPHOTONS)||(LA6_2 >= SMALLMOLEATOMS && LA6_2 <= SOLVENTHEAVYCONC)||(LA6_2 >= SUBPROGRAM && LA6_2 <= SURROUNDINGTHICKNESS)||(LA6_2 >= TYPE && LA6_2 <= UNITCELL)||(LA6_2 >= WEDGE && LA6_2 <= WIREFRAMETYPE)) ) {
+                    else if ( (LA6_2==EOF||(LA6_2 >= ABSCOEFCALC && LA6_2 <= ANGLEP)||(LA6_2 >= BEAM && LA6_2 <= CALCULATEPEESCAPE)||LA6_2==CIFNAME||(LA6_2 >= CONTAINERDENSITY && LA6_2 <= DECAYPARAM)||(LA6_2 >= DENSITYBASED && LA6_2 <= DIMENSION)||LA6_2==FLRESOLUTION||LA6_2==GONIOMETERAXIS||(LA6_2 >= MATERIALELEMENTS && LA6_2 <= MATERIALTYPE)||LA6_2==MODELFILE||(LA6_2 >= NUMCARB && LA6_2 <= NUMRNA)||(LA6_2 >= PDBNAME && LA6_2 <= PERESOLUTION)||(LA6_2 >= PIXELSPERMICRON && LA6_2 <= PROTEINHEAVYATOMS)||LA6_2==RUNS||LA6_2==SEED||LA6_2==SEQFILE||(LA6_2 >= SEQUENCEFILE && LA6_2 <= SIMPHOTONS)||(LA6_2 >= SMALLMOLEATOMS && LA6_2 <= SOLVENTHEAVYCONC)||(LA6_2 >= SUBPROGRAM && LA6_2 <= SURROUNDINGTHICKNESS)||(LA6_2 >= TYPE && LA6_2 <= UNITCELL)||(LA6_2 >= WEDGE && LA6_2 <= WIREFRAMETYPE)) ) {
                         alt6=2;
                     }
                     else {
@@ -1981,7 +2006,7 @@ public class InputfileParser extends Parser {
 
                     }
                 }
-                else if ( (LA6_1==EOF||(LA6_1 >= ABSCOEFCALC && LA6_1 <= ANGLEP)||(LA6_1 >= BEAM && LA6_1 <= CALCULATEPEESCAPE)||LA6_1==CIFNAME||(LA6_1 >= CONTAINERDENSITY && LA6_1 <= DECAYPARAM)||(LA6_1 >= DENSITYBASED && LA6_1 <= DIMENSION)||LA6_1==FLRESOLUTION||LA6_1==GONIOMETERAXIS||(LA6_1 >= MATERIALELEMENTS && LA6_1 <= MATERIALTYPE)||LA6_1==MODELFILE||(LA6_1 >= NUMCARB && LA6_1 <= NUMRNA)||(LA6_1 >= PDBNAME && LA6_1 <= PERESOLUTION)||(LA6_1 >= PIXELSPERMICRON && LA6_1 <= PROTEINHEAVYATOMS)||LA6_1==RUNS||LA6_1==SEQFILE||(LA6_1 >= SEQUENCEFILE && LA6_1 <= SIMPHOTONS)||(LA6_1 >= SMALLMOLEATOMS && LA6_1 <= SOLVENTHEAVYCONC)||(LA6_1 >= SUBPROGRAM && LA6_1 <= SURROUNDINGTHICKNESS)||(LA6_1 >= TYPE && LA6_1 <= UNITCELL)||(LA6_1 >= WEDGE && LA6_1 <= WIREFRAMETYPE)) ) {
+                else if ( (LA6_1==EOF||(LA6_1 >= ABSCOEFCALC && LA6_1 <= ANGLEP)||(LA6_1 >= BEAM && LA6_1 <= CALCULATEPEESCAPE)||LA6_1==CIFNAME||(LA6_1 >= CONTAINERDENSITY && LA6_1 <= DECAYPARAM)||(LA6_1 >= DENSITYBASED && LA6_1 <= DIMENSION)||LA6_1==FLRESOLUTION||LA6_1==GONIOMETERAXIS||(LA6_1 >= MATERIALELEMENTS && LA6_1 <= MATERIALTYPE)||LA6_1==MODELFILE||(LA6_1 >= NUMCARB && LA6_1 <= NUMRNA)||(LA6_1 >= PDBNAME && LA6_1 <= PERESOLUTION)||(LA6_1 >= PIXELSPERMICRON && LA6_1 <= PROTEINHEAVYATOMS)||LA6_1==RUNS||LA6_1==SEED||LA6_1==SEQFILE||(LA6_1 >= SEQUENCEFILE && LA6_1 <= SIMPHOTONS)||(LA6_1 >= SMALLMOLEATOMS && LA6_1 <= SOLVENTHEAVYCONC)||(LA6_1 >= SUBPROGRAM && LA6_1 <= SURROUNDINGTHICKNESS)||(LA6_1 >= TYPE && LA6_1 <= UNITCELL)||(LA6_1 >= WEDGE && LA6_1 <= WIREFRAMETYPE)) ) {
                     alt6=3;
                 }
                 else {
@@ -2001,13 +2026,13 @@ public class InputfileParser extends Parser {
             }
             switch (alt6) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:393:7: a= FLOAT b= FLOAT c= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:398:7: a= FLOAT b= FLOAT c= FLOAT
                     {
-                    a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1808); 
+                    a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1833); 
 
-                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1812); 
+                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1837); 
 
-                    c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1816); 
+                    c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1841); 
 
                      properties.put(Crystal.CRYSTAL_DIM_X, Double.parseDouble((a!=null?a.getText():null)));
                                                     properties.put(Crystal.CRYSTAL_DIM_Y, Double.parseDouble((b!=null?b.getText():null)));
@@ -2016,11 +2041,11 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:396:7: e= FLOAT f= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:401:7: e= FLOAT f= FLOAT
                     {
-                    e=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1828); 
+                    e=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1853); 
 
-                    f=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1832); 
+                    f=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1857); 
 
                      properties.put(Crystal.CRYSTAL_DIM_X, Double.parseDouble((e!=null?e.getText():null)));
                                        properties.put(Crystal.CRYSTAL_DIM_Y, Double.parseDouble((f!=null?f.getText():null))); 
@@ -2028,9 +2053,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:398:7: d= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:403:7: d= FLOAT
                     {
-                    d=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1844); 
+                    d=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalDim1869); 
 
                      properties.put(Crystal.CRYSTAL_DIM_X, Double.parseDouble((d!=null?d.getText():null))); 
 
@@ -2058,7 +2083,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalAngP"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:402:1: crystalAngP returns [double value] : ANGLEP a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:407:1: crystalAngP returns [double value] : ANGLEP a= FLOAT ;
     public final double crystalAngP() throws RecognitionException {
         double value = 0.0;
 
@@ -2066,12 +2091,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:403:2: ( ANGLEP a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:403:4: ANGLEP a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:408:2: ( ANGLEP a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:408:4: ANGLEP a= FLOAT
             {
-            match(input,ANGLEP,FOLLOW_ANGLEP_in_crystalAngP1921); 
+            match(input,ANGLEP,FOLLOW_ANGLEP_in_crystalAngP1946); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalAngP1925); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalAngP1950); 
 
             value = Double.parseDouble((a!=null?a.getText():null));
 
@@ -2093,7 +2118,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalAngL"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:407:1: crystalAngL returns [double value] : ANGLEL a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:412:1: crystalAngL returns [double value] : ANGLEL a= FLOAT ;
     public final double crystalAngL() throws RecognitionException {
         double value = 0.0;
 
@@ -2101,12 +2126,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:408:2: ( ANGLEL a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:408:4: ANGLEL a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:413:2: ( ANGLEL a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:413:4: ANGLEL a= FLOAT
             {
-            match(input,ANGLEL,FOLLOW_ANGLEL_in_crystalAngL1980); 
+            match(input,ANGLEL,FOLLOW_ANGLEL_in_crystalAngL2005); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalAngL1984); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalAngL2009); 
 
             value = Double.parseDouble((a!=null?a.getText():null));
 
@@ -2128,7 +2153,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalPPM"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:412:1: crystalPPM returns [double ppm] : PIXELSPERMICRON FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:417:1: crystalPPM returns [double ppm] : PIXELSPERMICRON FLOAT ;
     public final double crystalPPM() throws RecognitionException {
         double ppm = 0.0;
 
@@ -2136,12 +2161,12 @@ public class InputfileParser extends Parser {
         Token FLOAT1=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:413:2: ( PIXELSPERMICRON FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:413:4: PIXELSPERMICRON FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:418:2: ( PIXELSPERMICRON FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:418:4: PIXELSPERMICRON FLOAT
             {
-            match(input,PIXELSPERMICRON,FOLLOW_PIXELSPERMICRON_in_crystalPPM2038); 
+            match(input,PIXELSPERMICRON,FOLLOW_PIXELSPERMICRON_in_crystalPPM2063); 
 
-            FLOAT1=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalPPM2040); 
+            FLOAT1=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_crystalPPM2065); 
 
             ppm = Double.parseDouble((FLOAT1!=null?FLOAT1.getText():null));
 
@@ -2172,7 +2197,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "unitcell"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:416:1: unitcell returns [Double dimA, Double dimB, Double dimC, Double angA, Double angB, Double angC] : UNITCELL a= FLOAT b= FLOAT c= FLOAT (al= FLOAT be= FLOAT ga= FLOAT )? ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:421:1: unitcell returns [Double dimA, Double dimB, Double dimC, Double angA, Double angB, Double angC] : UNITCELL a= FLOAT b= FLOAT c= FLOAT (al= FLOAT be= FLOAT ga= FLOAT )? ;
     public final InputfileParser.unitcell_return unitcell() throws RecognitionException {
         InputfileParser.unitcell_return retval = new InputfileParser.unitcell_return();
         retval.start = input.LT(1);
@@ -2186,22 +2211,22 @@ public class InputfileParser extends Parser {
         Token ga=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:417:2: ( UNITCELL a= FLOAT b= FLOAT c= FLOAT (al= FLOAT be= FLOAT ga= FLOAT )? )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:417:4: UNITCELL a= FLOAT b= FLOAT c= FLOAT (al= FLOAT be= FLOAT ga= FLOAT )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:422:2: ( UNITCELL a= FLOAT b= FLOAT c= FLOAT (al= FLOAT be= FLOAT ga= FLOAT )? )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:422:4: UNITCELL a= FLOAT b= FLOAT c= FLOAT (al= FLOAT be= FLOAT ga= FLOAT )?
             {
-            match(input,UNITCELL,FOLLOW_UNITCELL_in_unitcell2138); 
+            match(input,UNITCELL,FOLLOW_UNITCELL_in_unitcell2163); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2142); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2167); 
 
-            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2146); 
+            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2171); 
 
-            c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2150); 
+            c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2175); 
 
             retval.dimA = Double.parseDouble((a!=null?a.getText():null));
                      retval.dimB = Double.parseDouble((b!=null?b.getText():null));
                      retval.dimC = Double.parseDouble((c!=null?c.getText():null)); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:421:7: (al= FLOAT be= FLOAT ga= FLOAT )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:426:7: (al= FLOAT be= FLOAT ga= FLOAT )?
             int alt7=2;
             int LA7_0 = input.LA(1);
 
@@ -2210,13 +2235,13 @@ public class InputfileParser extends Parser {
             }
             switch (alt7) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:421:8: al= FLOAT be= FLOAT ga= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:426:8: al= FLOAT be= FLOAT ga= FLOAT
                     {
-                    al=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2165); 
+                    al=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2190); 
 
-                    be=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2169); 
+                    be=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2194); 
 
-                    ga=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2173); 
+                    ga=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_unitcell2198); 
 
                     retval.angA = Double.parseDouble((al!=null?al.getText():null));
                             retval.angB = Double.parseDouble((be!=null?be.getText():null));
@@ -2249,7 +2274,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "surroundingThickness"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:430:1: surroundingThickness returns [Map<Object, Object> properties] : SURROUNDINGTHICKNESS (a= FLOAT b= FLOAT c= FLOAT ) ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:435:1: surroundingThickness returns [Map<Object, Object> properties] : SURROUNDINGTHICKNESS (a= FLOAT b= FLOAT c= FLOAT ) ;
     public final Map<Object, Object> surroundingThickness() throws RecognitionException {
         Map<Object, Object> properties = null;
 
@@ -2262,19 +2287,19 @@ public class InputfileParser extends Parser {
                 properties = new HashMap<Object, Object>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:433:3: ( SURROUNDINGTHICKNESS (a= FLOAT b= FLOAT c= FLOAT ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:433:5: SURROUNDINGTHICKNESS (a= FLOAT b= FLOAT c= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:438:3: ( SURROUNDINGTHICKNESS (a= FLOAT b= FLOAT c= FLOAT ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:438:5: SURROUNDINGTHICKNESS (a= FLOAT b= FLOAT c= FLOAT )
             {
-            match(input,SURROUNDINGTHICKNESS,FOLLOW_SURROUNDINGTHICKNESS_in_surroundingThickness2255); 
+            match(input,SURROUNDINGTHICKNESS,FOLLOW_SURROUNDINGTHICKNESS_in_surroundingThickness2280); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:434:2: (a= FLOAT b= FLOAT c= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:435:2: a= FLOAT b= FLOAT c= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:439:2: (a= FLOAT b= FLOAT c= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:440:2: a= FLOAT b= FLOAT c= FLOAT
             {
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_surroundingThickness2265); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_surroundingThickness2290); 
 
-            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_surroundingThickness2269); 
+            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_surroundingThickness2294); 
 
-            c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_surroundingThickness2273); 
+            c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_surroundingThickness2298); 
 
              properties.put(Crystal.SURROUNDING_X, Double.parseDouble((a!=null?a.getText():null)));
                                             properties.put(Crystal.SURROUNDING_Y, Double.parseDouble((b!=null?b.getText():null)));
@@ -2301,7 +2326,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "proteinConcentration"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:442:1: proteinConcentration returns [Double proteinConc] : ( PROTEINCONCENTRATION | PROTEINCONC ) a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:447:1: proteinConcentration returns [Double proteinConc] : ( PROTEINCONCENTRATION | PROTEINCONC ) a= FLOAT ;
     public final Double proteinConcentration() throws RecognitionException {
         Double proteinConc = null;
 
@@ -2309,8 +2334,8 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:443:2: ( ( PROTEINCONCENTRATION | PROTEINCONC ) a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:443:4: ( PROTEINCONCENTRATION | PROTEINCONC ) a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:448:2: ( ( PROTEINCONCENTRATION | PROTEINCONC ) a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:448:4: ( PROTEINCONCENTRATION | PROTEINCONC ) a= FLOAT
             {
             if ( (input.LA(1) >= PROTEINCONC && input.LA(1) <= PROTEINCONCENTRATION) ) {
                 input.consume();
@@ -2322,7 +2347,7 @@ public class InputfileParser extends Parser {
             }
 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_proteinConcentration2409); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_proteinConcentration2434); 
 
             proteinConc = Double.parseDouble((a!=null?a.getText():null));
 
@@ -2344,7 +2369,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "nummonomers"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:447:1: nummonomers returns [int value] : NUMMONOMERS a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:452:1: nummonomers returns [int value] : NUMMONOMERS a= FLOAT ;
     public final int nummonomers() throws RecognitionException {
         int value = 0;
 
@@ -2352,12 +2377,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:448:2: ( NUMMONOMERS a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:448:4: NUMMONOMERS a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:453:2: ( NUMMONOMERS a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:453:4: NUMMONOMERS a= FLOAT
             {
-            match(input,NUMMONOMERS,FOLLOW_NUMMONOMERS_in_nummonomers2591); 
+            match(input,NUMMONOMERS,FOLLOW_NUMMONOMERS_in_nummonomers2616); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_nummonomers2595); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_nummonomers2620); 
 
             value = Integer.parseInt((a!=null?a.getText():null));
 
@@ -2379,7 +2404,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "numresidues"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:451:1: numresidues returns [int value] : NUMRESIDUES a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:456:1: numresidues returns [int value] : NUMRESIDUES a= FLOAT ;
     public final int numresidues() throws RecognitionException {
         int value = 0;
 
@@ -2387,12 +2412,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:452:2: ( NUMRESIDUES a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:452:4: NUMRESIDUES a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:457:2: ( NUMRESIDUES a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:457:4: NUMRESIDUES a= FLOAT
             {
-            match(input,NUMRESIDUES,FOLLOW_NUMRESIDUES_in_numresidues2672); 
+            match(input,NUMRESIDUES,FOLLOW_NUMRESIDUES_in_numresidues2697); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_numresidues2676); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_numresidues2701); 
 
             value = Integer.parseInt((a!=null?a.getText():null));
 
@@ -2414,7 +2439,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "numRNA"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:455:1: numRNA returns [int value] : NUMRNA a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:460:1: numRNA returns [int value] : NUMRNA a= FLOAT ;
     public final int numRNA() throws RecognitionException {
         int value = 0;
 
@@ -2422,12 +2447,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:456:2: ( NUMRNA a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:456:4: NUMRNA a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:461:2: ( NUMRNA a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:461:4: NUMRNA a= FLOAT
             {
-            match(input,NUMRNA,FOLLOW_NUMRNA_in_numRNA2754); 
+            match(input,NUMRNA,FOLLOW_NUMRNA_in_numRNA2779); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_numRNA2758); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_numRNA2783); 
 
             value = Integer.parseInt((a!=null?a.getText():null));
 
@@ -2449,7 +2474,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "numDNA"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:459:1: numDNA returns [int value] : NUMDNA a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:464:1: numDNA returns [int value] : NUMDNA a= FLOAT ;
     public final int numDNA() throws RecognitionException {
         int value = 0;
 
@@ -2457,12 +2482,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:460:2: ( NUMDNA a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:460:4: NUMDNA a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:465:2: ( NUMDNA a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:465:4: NUMDNA a= FLOAT
             {
-            match(input,NUMDNA,FOLLOW_NUMDNA_in_numDNA2811); 
+            match(input,NUMDNA,FOLLOW_NUMDNA_in_numDNA2836); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_numDNA2815); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_numDNA2840); 
 
             value = Integer.parseInt((a!=null?a.getText():null));
 
@@ -2484,7 +2509,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "numcarb"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:463:1: numcarb returns [int value] : NUMCARB a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:468:1: numcarb returns [int value] : NUMCARB a= FLOAT ;
     public final int numcarb() throws RecognitionException {
         int value = 0;
 
@@ -2492,12 +2517,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:464:2: ( NUMCARB a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:464:4: NUMCARB a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:469:2: ( NUMCARB a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:469:4: NUMCARB a= FLOAT
             {
-            match(input,NUMCARB,FOLLOW_NUMCARB_in_numcarb2867); 
+            match(input,NUMCARB,FOLLOW_NUMCARB_in_numcarb2892); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_numcarb2871); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_numcarb2896); 
 
             value = Integer.parseInt((a!=null?a.getText():null));
 
@@ -2524,7 +2549,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "heavyProteinAtoms"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:467:1: heavyProteinAtoms returns [List<String> names, List<Double> num;] : PROTEINHEAVYATOMS (a= ELEMENT b= FLOAT )+ ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:472:1: heavyProteinAtoms returns [List<String> names, List<Double> num;] : PROTEINHEAVYATOMS (a= ELEMENT b= FLOAT )+ ;
     public final InputfileParser.heavyProteinAtoms_return heavyProteinAtoms() throws RecognitionException {
         InputfileParser.heavyProteinAtoms_return retval = new InputfileParser.heavyProteinAtoms_return();
         retval.start = input.LT(1);
@@ -2538,12 +2563,12 @@ public class InputfileParser extends Parser {
         retval.num = new ArrayList<Double>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:472:2: ( PROTEINHEAVYATOMS (a= ELEMENT b= FLOAT )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:472:4: PROTEINHEAVYATOMS (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:477:2: ( PROTEINHEAVYATOMS (a= ELEMENT b= FLOAT )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:477:4: PROTEINHEAVYATOMS (a= ELEMENT b= FLOAT )+
             {
-            match(input,PROTEINHEAVYATOMS,FOLLOW_PROTEINHEAVYATOMS_in_heavyProteinAtoms2932); 
+            match(input,PROTEINHEAVYATOMS,FOLLOW_PROTEINHEAVYATOMS_in_heavyProteinAtoms2957); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:472:22: (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:477:22: (a= ELEMENT b= FLOAT )+
             int cnt8=0;
             loop8:
             do {
@@ -2557,11 +2582,11 @@ public class InputfileParser extends Parser {
 
                 switch (alt8) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:472:23: a= ELEMENT b= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:477:23: a= ELEMENT b= FLOAT
                     {
-                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_heavyProteinAtoms2937); 
+                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_heavyProteinAtoms2962); 
 
-                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_heavyProteinAtoms2941); 
+                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_heavyProteinAtoms2966); 
 
                     retval.names.add((a!=null?a.getText():null)); retval.num.add(Double.parseDouble((b!=null?b.getText():null))); 
 
@@ -2604,7 +2629,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "smallMoleAtoms"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:476:1: smallMoleAtoms returns [List<String> names, List<Double> num;] : SMALLMOLEATOMS (a= ELEMENT b= FLOAT )+ ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:481:1: smallMoleAtoms returns [List<String> names, List<Double> num;] : SMALLMOLEATOMS (a= ELEMENT b= FLOAT )+ ;
     public final InputfileParser.smallMoleAtoms_return smallMoleAtoms() throws RecognitionException {
         InputfileParser.smallMoleAtoms_return retval = new InputfileParser.smallMoleAtoms_return();
         retval.start = input.LT(1);
@@ -2618,12 +2643,12 @@ public class InputfileParser extends Parser {
         retval.num = new ArrayList<Double>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:481:2: ( SMALLMOLEATOMS (a= ELEMENT b= FLOAT )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:481:4: SMALLMOLEATOMS (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:486:2: ( SMALLMOLEATOMS (a= ELEMENT b= FLOAT )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:486:4: SMALLMOLEATOMS (a= ELEMENT b= FLOAT )+
             {
-            match(input,SMALLMOLEATOMS,FOLLOW_SMALLMOLEATOMS_in_smallMoleAtoms3088); 
+            match(input,SMALLMOLEATOMS,FOLLOW_SMALLMOLEATOMS_in_smallMoleAtoms3113); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:481:19: (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:486:19: (a= ELEMENT b= FLOAT )+
             int cnt9=0;
             loop9:
             do {
@@ -2637,11 +2662,11 @@ public class InputfileParser extends Parser {
 
                 switch (alt9) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:481:20: a= ELEMENT b= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:486:20: a= ELEMENT b= FLOAT
                     {
-                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_smallMoleAtoms3093); 
+                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_smallMoleAtoms3118); 
 
-                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_smallMoleAtoms3097); 
+                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_smallMoleAtoms3122); 
 
                     retval.names.add((a!=null?a.getText():null)); retval.num.add(Double.parseDouble((b!=null?b.getText():null))); 
 
@@ -2684,7 +2709,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "heavySolutionConc"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:484:1: heavySolutionConc returns [List<String> names, List<Double> num;] : SOLVENTHEAVYCONC (a= ELEMENT b= FLOAT )+ ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:489:1: heavySolutionConc returns [List<String> names, List<Double> num;] : SOLVENTHEAVYCONC (a= ELEMENT b= FLOAT )+ ;
     public final InputfileParser.heavySolutionConc_return heavySolutionConc() throws RecognitionException {
         InputfileParser.heavySolutionConc_return retval = new InputfileParser.heavySolutionConc_return();
         retval.start = input.LT(1);
@@ -2698,12 +2723,12 @@ public class InputfileParser extends Parser {
         retval.num = new ArrayList<Double>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:489:2: ( SOLVENTHEAVYCONC (a= ELEMENT b= FLOAT )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:489:4: SOLVENTHEAVYCONC (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:494:2: ( SOLVENTHEAVYCONC (a= ELEMENT b= FLOAT )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:494:4: SOLVENTHEAVYCONC (a= ELEMENT b= FLOAT )+
             {
-            match(input,SOLVENTHEAVYCONC,FOLLOW_SOLVENTHEAVYCONC_in_heavySolutionConc3199); 
+            match(input,SOLVENTHEAVYCONC,FOLLOW_SOLVENTHEAVYCONC_in_heavySolutionConc3224); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:489:21: (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:494:21: (a= ELEMENT b= FLOAT )+
             int cnt10=0;
             loop10:
             do {
@@ -2717,11 +2742,11 @@ public class InputfileParser extends Parser {
 
                 switch (alt10) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:489:22: a= ELEMENT b= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:494:22: a= ELEMENT b= FLOAT
                     {
-                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_heavySolutionConc3204); 
+                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_heavySolutionConc3229); 
 
-                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_heavySolutionConc3208); 
+                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_heavySolutionConc3233); 
 
                     retval.names.add((a!=null?a.getText():null)); retval.num.add(Double.parseDouble((b!=null?b.getText():null))); 
 
@@ -2759,7 +2784,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "solventFraction"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:492:1: solventFraction returns [double solFrac] : SOLVENTFRACTION a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:497:1: solventFraction returns [double solFrac] : SOLVENTFRACTION a= FLOAT ;
     public final double solventFraction() throws RecognitionException {
         double solFrac = 0.0;
 
@@ -2767,12 +2792,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:493:2: ( SOLVENTFRACTION a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:493:4: SOLVENTFRACTION a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:498:2: ( SOLVENTFRACTION a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:498:4: SOLVENTFRACTION a= FLOAT
             {
-            match(input,SOLVENTFRACTION,FOLLOW_SOLVENTFRACTION_in_solventFraction3314); 
+            match(input,SOLVENTFRACTION,FOLLOW_SOLVENTFRACTION_in_solventFraction3339); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_solventFraction3318); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_solventFraction3343); 
 
             solFrac = Double.parseDouble((a!=null?a.getText():null));
 
@@ -2794,7 +2819,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "pdb"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:496:1: pdb returns [String pdb] : PDBNAME (a= STRING |a= FLOAT ) ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:501:1: pdb returns [String pdb] : PDBNAME (a= STRING |a= FLOAT ) ;
     public final String pdb() throws RecognitionException {
         String pdb = null;
 
@@ -2802,12 +2827,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:497:2: ( PDBNAME (a= STRING |a= FLOAT ) )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:497:4: PDBNAME (a= STRING |a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:502:2: ( PDBNAME (a= STRING |a= FLOAT ) )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:502:4: PDBNAME (a= STRING |a= FLOAT )
             {
-            match(input,PDBNAME,FOLLOW_PDBNAME_in_pdb3415); 
+            match(input,PDBNAME,FOLLOW_PDBNAME_in_pdb3440); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:497:12: (a= STRING |a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:502:12: (a= STRING |a= FLOAT )
             int alt11=2;
             int LA11_0 = input.LA(1);
 
@@ -2826,16 +2851,16 @@ public class InputfileParser extends Parser {
             }
             switch (alt11) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:497:13: a= STRING
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:502:13: a= STRING
                     {
-                    a=(Token)match(input,STRING,FOLLOW_STRING_in_pdb3420); 
+                    a=(Token)match(input,STRING,FOLLOW_STRING_in_pdb3445); 
 
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:497:22: a= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:502:22: a= FLOAT
                     {
-                    a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_pdb3424); 
+                    a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_pdb3449); 
 
                     }
                     break;
@@ -2863,7 +2888,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "cif"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:500:1: cif returns [String cif] : CIFNAME a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:505:1: cif returns [String cif] : CIFNAME a= STRING ;
     public final String cif() throws RecognitionException {
         String cif = null;
 
@@ -2871,12 +2896,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:501:2: ( CIFNAME a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:501:4: CIFNAME a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:506:2: ( CIFNAME a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:506:4: CIFNAME a= STRING
             {
-            match(input,CIFNAME,FOLLOW_CIFNAME_in_cif3462); 
+            match(input,CIFNAME,FOLLOW_CIFNAME_in_cif3487); 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_cif3466); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_cif3491); 
 
             cif = (a!=null?a.getText():null);
 
@@ -2898,7 +2923,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "wireframeType"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:504:1: wireframeType returns [String value] : WIREFRAMETYPE a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:509:1: wireframeType returns [String value] : WIREFRAMETYPE a= STRING ;
     public final String wireframeType() throws RecognitionException {
         String value = null;
 
@@ -2906,12 +2931,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:505:2: ( WIREFRAMETYPE a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:505:4: WIREFRAMETYPE a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:510:2: ( WIREFRAMETYPE a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:510:4: WIREFRAMETYPE a= STRING
             {
-            match(input,WIREFRAMETYPE,FOLLOW_WIREFRAMETYPE_in_wireframeType3503); 
+            match(input,WIREFRAMETYPE,FOLLOW_WIREFRAMETYPE_in_wireframeType3528); 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_wireframeType3507); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_wireframeType3532); 
 
             value = (a!=null?a.getText():null);
 
@@ -2933,7 +2958,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "modelFile"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:508:1: modelFile returns [String value] : MODELFILE a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:513:1: modelFile returns [String value] : MODELFILE a= STRING ;
     public final String modelFile() throws RecognitionException {
         String value = null;
 
@@ -2941,12 +2966,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:509:2: ( MODELFILE a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:509:4: MODELFILE a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:514:2: ( MODELFILE a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:514:4: MODELFILE a= STRING
             {
-            match(input,MODELFILE,FOLLOW_MODELFILE_in_modelFile3595); 
+            match(input,MODELFILE,FOLLOW_MODELFILE_in_modelFile3620); 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_modelFile3599); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_modelFile3624); 
 
             value = (a!=null?a.getText():null);
 
@@ -2968,7 +2993,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "calculatePEEscape"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:512:1: calculatePEEscape returns [String value] : CALCULATEPEESCAPE a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:517:1: calculatePEEscape returns [String value] : CALCULATEPEESCAPE a= STRING ;
     public final String calculatePEEscape() throws RecognitionException {
         String value = null;
 
@@ -2976,12 +3001,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:513:2: ( CALCULATEPEESCAPE a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:513:4: CALCULATEPEESCAPE a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:518:2: ( CALCULATEPEESCAPE a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:518:4: CALCULATEPEESCAPE a= STRING
             {
-            match(input,CALCULATEPEESCAPE,FOLLOW_CALCULATEPEESCAPE_in_calculatePEEscape3666); 
+            match(input,CALCULATEPEESCAPE,FOLLOW_CALCULATEPEESCAPE_in_calculatePEEscape3691); 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_calculatePEEscape3670); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_calculatePEEscape3695); 
 
             value = (a!=null?a.getText():null);
 
@@ -3003,7 +3028,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "goniometerAxis"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:517:1: goniometerAxis returns [double value] : GONIOMETERAXIS a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:522:1: goniometerAxis returns [double value] : GONIOMETERAXIS a= FLOAT ;
     public final double goniometerAxis() throws RecognitionException {
         double value = 0.0;
 
@@ -3011,12 +3036,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:518:2: ( GONIOMETERAXIS a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:518:4: GONIOMETERAXIS a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:523:2: ( GONIOMETERAXIS a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:523:4: GONIOMETERAXIS a= FLOAT
             {
-            match(input,GONIOMETERAXIS,FOLLOW_GONIOMETERAXIS_in_goniometerAxis3782); 
+            match(input,GONIOMETERAXIS,FOLLOW_GONIOMETERAXIS_in_goniometerAxis3807); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_goniometerAxis3786); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_goniometerAxis3811); 
 
             value = Double.parseDouble((a!=null?a.getText():null));
 
@@ -3038,7 +3063,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "polarisationDirection"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:522:1: polarisationDirection returns [double value] : POLARISATIONDIRECTION a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:527:1: polarisationDirection returns [double value] : POLARISATIONDIRECTION a= FLOAT ;
     public final double polarisationDirection() throws RecognitionException {
         double value = 0.0;
 
@@ -3046,12 +3071,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:523:2: ( POLARISATIONDIRECTION a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:523:4: POLARISATIONDIRECTION a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:528:2: ( POLARISATIONDIRECTION a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:528:4: POLARISATIONDIRECTION a= FLOAT
             {
-            match(input,POLARISATIONDIRECTION,FOLLOW_POLARISATIONDIRECTION_in_polarisationDirection3883); 
+            match(input,POLARISATIONDIRECTION,FOLLOW_POLARISATIONDIRECTION_in_polarisationDirection3908); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_polarisationDirection3887); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_polarisationDirection3912); 
 
             value = Double.parseDouble((a!=null?a.getText():null));
 
@@ -3073,7 +3098,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalContainerMaterial"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:527:1: crystalContainerMaterial returns [int value] : ( CONTAINERMATERIALTYPE | MATERIALTYPE ) e= crystalContainerKeyword ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:532:1: crystalContainerMaterial returns [int value] : ( CONTAINERMATERIALTYPE | MATERIALTYPE ) e= crystalContainerKeyword ;
     public final int crystalContainerMaterial() throws RecognitionException {
         int value = 0;
 
@@ -3082,8 +3107,8 @@ public class InputfileParser extends Parser {
 
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:528:2: ( ( CONTAINERMATERIALTYPE | MATERIALTYPE ) e= crystalContainerKeyword )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:528:4: ( CONTAINERMATERIALTYPE | MATERIALTYPE ) e= crystalContainerKeyword
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:533:2: ( ( CONTAINERMATERIALTYPE | MATERIALTYPE ) e= crystalContainerKeyword )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:533:4: ( CONTAINERMATERIALTYPE | MATERIALTYPE ) e= crystalContainerKeyword
             {
             if ( input.LA(1)==CONTAINERMATERIALTYPE||input.LA(1)==MATERIALTYPE ) {
                 input.consume();
@@ -3095,7 +3120,7 @@ public class InputfileParser extends Parser {
             }
 
 
-            pushFollow(FOLLOW_crystalContainerKeyword_in_crystalContainerMaterial4031);
+            pushFollow(FOLLOW_crystalContainerKeyword_in_crystalContainerMaterial4056);
             e=crystalContainerKeyword();
 
             state._fsp--;
@@ -3121,13 +3146,13 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "crystalContainerKeyword"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:531:1: crystalContainerKeyword returns [int value] : ( NONE | MIXTURE | ELEMENTAL );
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:536:1: crystalContainerKeyword returns [int value] : ( NONE | MIXTURE | ELEMENTAL );
     public final int crystalContainerKeyword() throws RecognitionException {
         int value = 0;
 
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:532:2: ( NONE | MIXTURE | ELEMENTAL )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:537:2: ( NONE | MIXTURE | ELEMENTAL )
             int alt12=3;
             switch ( input.LA(1) ) {
             case NONE:
@@ -3155,27 +3180,27 @@ public class InputfileParser extends Parser {
 
             switch (alt12) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:532:4: NONE
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:537:4: NONE
                     {
-                    match(input,NONE,FOLLOW_NONE_in_crystalContainerKeyword4224); 
+                    match(input,NONE,FOLLOW_NONE_in_crystalContainerKeyword4249); 
 
                      value = 1; 
 
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:533:4: MIXTURE
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:538:4: MIXTURE
                     {
-                    match(input,MIXTURE,FOLLOW_MIXTURE_in_crystalContainerKeyword4233); 
+                    match(input,MIXTURE,FOLLOW_MIXTURE_in_crystalContainerKeyword4258); 
 
                      value = 2; 
 
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:534:4: ELEMENTAL
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:539:4: ELEMENTAL
                     {
-                    match(input,ELEMENTAL,FOLLOW_ELEMENTAL_in_crystalContainerKeyword4241); 
+                    match(input,ELEMENTAL,FOLLOW_ELEMENTAL_in_crystalContainerKeyword4266); 
 
                      value = 3; 
 
@@ -3199,7 +3224,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "containerThickness"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:540:1: containerThickness returns [double value] : CONTAINERTHICKNESS a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:545:1: containerThickness returns [double value] : CONTAINERTHICKNESS a= FLOAT ;
     public final double containerThickness() throws RecognitionException {
         double value = 0.0;
 
@@ -3207,12 +3232,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:541:2: ( CONTAINERTHICKNESS a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:541:4: CONTAINERTHICKNESS a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:546:2: ( CONTAINERTHICKNESS a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:546:4: CONTAINERTHICKNESS a= FLOAT
             {
-            match(input,CONTAINERTHICKNESS,FOLLOW_CONTAINERTHICKNESS_in_containerThickness4381); 
+            match(input,CONTAINERTHICKNESS,FOLLOW_CONTAINERTHICKNESS_in_containerThickness4406); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_containerThickness4385); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_containerThickness4410); 
 
             value = Double.parseDouble((a!=null?a.getText():null));
 
@@ -3234,7 +3259,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "containerMaterialMixture"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:544:1: containerMaterialMixture returns [String value] : ( CONTAINERMATERIALMIXTURE | MATERIALMIXTURE ) a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:549:1: containerMaterialMixture returns [String value] : ( CONTAINERMATERIALMIXTURE | MATERIALMIXTURE ) a= STRING ;
     public final String containerMaterialMixture() throws RecognitionException {
         String value = null;
 
@@ -3242,8 +3267,8 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:545:2: ( ( CONTAINERMATERIALMIXTURE | MATERIALMIXTURE ) a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:545:4: ( CONTAINERMATERIALMIXTURE | MATERIALMIXTURE ) a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:550:2: ( ( CONTAINERMATERIALMIXTURE | MATERIALMIXTURE ) a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:550:4: ( CONTAINERMATERIALMIXTURE | MATERIALMIXTURE ) a= STRING
             {
             if ( input.LA(1)==CONTAINERMATERIALMIXTURE||input.LA(1)==MATERIALMIXTURE ) {
                 input.consume();
@@ -3255,7 +3280,7 @@ public class InputfileParser extends Parser {
             }
 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_containerMaterialMixture4506); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_containerMaterialMixture4531); 
 
             value = (a!=null?a.getText():null);
 
@@ -3282,7 +3307,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "containerMaterialElements"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:549:1: containerMaterialElements returns [List<String> names, List<Double> num;] : ( CONTAINERMATERIALELEMENTS | MATERIALELEMENTS ) (a= ELEMENT b= FLOAT )+ ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:554:1: containerMaterialElements returns [List<String> names, List<Double> num;] : ( CONTAINERMATERIALELEMENTS | MATERIALELEMENTS ) (a= ELEMENT b= FLOAT )+ ;
     public final InputfileParser.containerMaterialElements_return containerMaterialElements() throws RecognitionException {
         InputfileParser.containerMaterialElements_return retval = new InputfileParser.containerMaterialElements_return();
         retval.start = input.LT(1);
@@ -3296,8 +3321,8 @@ public class InputfileParser extends Parser {
         retval.num = new ArrayList<Double>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:554:2: ( ( CONTAINERMATERIALELEMENTS | MATERIALELEMENTS ) (a= ELEMENT b= FLOAT )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:554:4: ( CONTAINERMATERIALELEMENTS | MATERIALELEMENTS ) (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:559:2: ( ( CONTAINERMATERIALELEMENTS | MATERIALELEMENTS ) (a= ELEMENT b= FLOAT )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:559:4: ( CONTAINERMATERIALELEMENTS | MATERIALELEMENTS ) (a= ELEMENT b= FLOAT )+
             {
             if ( input.LA(1)==CONTAINERMATERIALELEMENTS||input.LA(1)==MATERIALELEMENTS ) {
                 input.consume();
@@ -3309,7 +3334,7 @@ public class InputfileParser extends Parser {
             }
 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:554:51: (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:559:51: (a= ELEMENT b= FLOAT )+
             int cnt13=0;
             loop13:
             do {
@@ -3323,11 +3348,11 @@ public class InputfileParser extends Parser {
 
                 switch (alt13) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:554:52: a= ELEMENT b= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:559:52: a= ELEMENT b= FLOAT
                     {
-                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_containerMaterialElements4742); 
+                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_containerMaterialElements4767); 
 
-                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_containerMaterialElements4746); 
+                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_containerMaterialElements4771); 
 
                     retval.names.add((a!=null?a.getText():null)); retval.num.add(Double.parseDouble((b!=null?b.getText():null))); 
 
@@ -3365,7 +3390,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "containerDensity"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:558:1: containerDensity returns [double value] : CONTAINERDENSITY a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:563:1: containerDensity returns [double value] : CONTAINERDENSITY a= FLOAT ;
     public final double containerDensity() throws RecognitionException {
         double value = 0.0;
 
@@ -3373,12 +3398,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:559:2: ( CONTAINERDENSITY a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:559:4: CONTAINERDENSITY a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:564:2: ( CONTAINERDENSITY a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:564:4: CONTAINERDENSITY a= FLOAT
             {
-            match(input,CONTAINERDENSITY,FOLLOW_CONTAINERDENSITY_in_containerDensity4981); 
+            match(input,CONTAINERDENSITY,FOLLOW_CONTAINERDENSITY_in_containerDensity5006); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_containerDensity4985); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_containerDensity5010); 
 
             value = Double.parseDouble((a!=null?a.getText():null));
 
@@ -3400,7 +3425,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "sequenceFile"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:562:1: sequenceFile returns [String value] : ( SEQUENCEFILE | SEQFILE ) a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:567:1: sequenceFile returns [String value] : ( SEQUENCEFILE | SEQFILE ) a= STRING ;
     public final String sequenceFile() throws RecognitionException {
         String value = null;
 
@@ -3408,8 +3433,8 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:563:2: ( ( SEQUENCEFILE | SEQFILE ) a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:563:4: ( SEQUENCEFILE | SEQFILE ) a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:568:2: ( ( SEQUENCEFILE | SEQFILE ) a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:568:4: ( SEQUENCEFILE | SEQFILE ) a= STRING
             {
             if ( input.LA(1)==SEQFILE||input.LA(1)==SEQUENCEFILE ) {
                 input.consume();
@@ -3421,7 +3446,7 @@ public class InputfileParser extends Parser {
             }
 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_sequenceFile5096); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_sequenceFile5121); 
 
             value = (a!=null?a.getText():null);
 
@@ -3443,7 +3468,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "calculateFLEscape"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:567:1: calculateFLEscape returns [String value] : CALCULATEFLESCAPE a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:572:1: calculateFLEscape returns [String value] : CALCULATEFLESCAPE a= STRING ;
     public final String calculateFLEscape() throws RecognitionException {
         String value = null;
 
@@ -3451,12 +3476,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:568:2: ( CALCULATEFLESCAPE a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:568:4: CALCULATEFLESCAPE a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:573:2: ( CALCULATEFLESCAPE a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:573:4: CALCULATEFLESCAPE a= STRING
             {
-            match(input,CALCULATEFLESCAPE,FOLLOW_CALCULATEFLESCAPE_in_calculateFLEscape5219); 
+            match(input,CALCULATEFLESCAPE,FOLLOW_CALCULATEFLESCAPE_in_calculateFLEscape5244); 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_calculateFLEscape5223); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_calculateFLEscape5248); 
 
             value = (a!=null?a.getText():null);
 
@@ -3478,7 +3503,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "flResolution"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:572:1: flResolution returns [int value] : FLRESOLUTION a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:577:1: flResolution returns [int value] : FLRESOLUTION a= FLOAT ;
     public final int flResolution() throws RecognitionException {
         int value = 0;
 
@@ -3486,12 +3511,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:573:2: ( FLRESOLUTION a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:573:4: FLRESOLUTION a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:578:2: ( FLRESOLUTION a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:578:4: FLRESOLUTION a= FLOAT
             {
-            match(input,FLRESOLUTION,FOLLOW_FLRESOLUTION_in_flResolution5334); 
+            match(input,FLRESOLUTION,FOLLOW_FLRESOLUTION_in_flResolution5359); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_flResolution5338); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_flResolution5363); 
 
             value = Integer.parseInt((a!=null?a.getText():null));
 
@@ -3513,7 +3538,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "peResolution"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:576:1: peResolution returns [int value] : PERESOLUTION a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:581:1: peResolution returns [int value] : PERESOLUTION a= FLOAT ;
     public final int peResolution() throws RecognitionException {
         int value = 0;
 
@@ -3521,12 +3546,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:577:2: ( PERESOLUTION a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:577:4: PERESOLUTION a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:582:2: ( PERESOLUTION a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:582:4: PERESOLUTION a= FLOAT
             {
-            match(input,PERESOLUTION,FOLLOW_PERESOLUTION_in_peResolution5420); 
+            match(input,PERESOLUTION,FOLLOW_PERESOLUTION_in_peResolution5445); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_peResolution5424); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_peResolution5449); 
 
             value = Integer.parseInt((a!=null?a.getText():null));
 
@@ -3553,7 +3578,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "surroundingHeavyConc"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:580:1: surroundingHeavyConc returns [List<String> names, List<Double> num;] : SURROUNDINGHEAVYCONC (a= ELEMENT b= FLOAT )+ ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:585:1: surroundingHeavyConc returns [List<String> names, List<Double> num;] : SURROUNDINGHEAVYCONC (a= ELEMENT b= FLOAT )+ ;
     public final InputfileParser.surroundingHeavyConc_return surroundingHeavyConc() throws RecognitionException {
         InputfileParser.surroundingHeavyConc_return retval = new InputfileParser.surroundingHeavyConc_return();
         retval.start = input.LT(1);
@@ -3567,12 +3592,12 @@ public class InputfileParser extends Parser {
         retval.num = new ArrayList<Double>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:585:2: ( SURROUNDINGHEAVYCONC (a= ELEMENT b= FLOAT )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:585:4: SURROUNDINGHEAVYCONC (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:590:2: ( SURROUNDINGHEAVYCONC (a= ELEMENT b= FLOAT )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:590:4: SURROUNDINGHEAVYCONC (a= ELEMENT b= FLOAT )+
             {
-            match(input,SURROUNDINGHEAVYCONC,FOLLOW_SURROUNDINGHEAVYCONC_in_surroundingHeavyConc5510); 
+            match(input,SURROUNDINGHEAVYCONC,FOLLOW_SURROUNDINGHEAVYCONC_in_surroundingHeavyConc5535); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:585:25: (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:590:25: (a= ELEMENT b= FLOAT )+
             int cnt14=0;
             loop14:
             do {
@@ -3586,11 +3611,11 @@ public class InputfileParser extends Parser {
 
                 switch (alt14) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:585:26: a= ELEMENT b= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:590:26: a= ELEMENT b= FLOAT
                     {
-                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_surroundingHeavyConc5515); 
+                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_surroundingHeavyConc5540); 
 
-                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_surroundingHeavyConc5519); 
+                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_surroundingHeavyConc5544); 
 
                     retval.names.add((a!=null?a.getText():null)); retval.num.add(Double.parseDouble((b!=null?b.getText():null))); 
 
@@ -3628,7 +3653,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "oilBased"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:588:1: oilBased returns [String value] : DENSITYBASED a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:593:1: oilBased returns [String value] : DENSITYBASED a= STRING ;
     public final String oilBased() throws RecognitionException {
         String value = null;
 
@@ -3636,12 +3661,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:589:2: ( DENSITYBASED a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:589:4: DENSITYBASED a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:594:2: ( DENSITYBASED a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:594:4: DENSITYBASED a= STRING
             {
-            match(input,DENSITYBASED,FOLLOW_DENSITYBASED_in_oilBased5647); 
+            match(input,DENSITYBASED,FOLLOW_DENSITYBASED_in_oilBased5672); 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_oilBased5651); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_oilBased5676); 
 
             value = (a!=null?a.getText():null);
 
@@ -3663,7 +3688,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "calcSurrounding"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:592:1: calcSurrounding returns [String value] : CALCSURROUNDING a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:597:1: calcSurrounding returns [String value] : CALCSURROUNDING a= STRING ;
     public final String calcSurrounding() throws RecognitionException {
         String value = null;
 
@@ -3671,12 +3696,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:593:2: ( CALCSURROUNDING a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:593:4: CALCSURROUNDING a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:598:2: ( CALCSURROUNDING a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:598:4: CALCSURROUNDING a= STRING
             {
-            match(input,CALCSURROUNDING,FOLLOW_CALCSURROUNDING_in_calcSurrounding5733); 
+            match(input,CALCSURROUNDING,FOLLOW_CALCSURROUNDING_in_calcSurrounding5758); 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_calcSurrounding5737); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_calcSurrounding5762); 
 
             value = (a!=null?a.getText():null);
 
@@ -3703,7 +3728,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "oilElements"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:597:1: oilElements returns [List<String> names, List<Double> num;] : SURROUNDINGELEMENTS (a= ELEMENT b= FLOAT )+ ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:602:1: oilElements returns [List<String> names, List<Double> num;] : SURROUNDINGELEMENTS (a= ELEMENT b= FLOAT )+ ;
     public final InputfileParser.oilElements_return oilElements() throws RecognitionException {
         InputfileParser.oilElements_return retval = new InputfileParser.oilElements_return();
         retval.start = input.LT(1);
@@ -3717,12 +3742,12 @@ public class InputfileParser extends Parser {
         retval.num = new ArrayList<Double>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:602:2: ( SURROUNDINGELEMENTS (a= ELEMENT b= FLOAT )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:602:4: SURROUNDINGELEMENTS (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:607:2: ( SURROUNDINGELEMENTS (a= ELEMENT b= FLOAT )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:607:4: SURROUNDINGELEMENTS (a= ELEMENT b= FLOAT )+
             {
-            match(input,SURROUNDINGELEMENTS,FOLLOW_SURROUNDINGELEMENTS_in_oilElements5840); 
+            match(input,SURROUNDINGELEMENTS,FOLLOW_SURROUNDINGELEMENTS_in_oilElements5865); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:602:24: (a= ELEMENT b= FLOAT )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:607:24: (a= ELEMENT b= FLOAT )+
             int cnt15=0;
             loop15:
             do {
@@ -3736,11 +3761,11 @@ public class InputfileParser extends Parser {
 
                 switch (alt15) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:602:25: a= ELEMENT b= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:607:25: a= ELEMENT b= FLOAT
                     {
-                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_oilElements5845); 
+                    a=(Token)match(input,ELEMENT,FOLLOW_ELEMENT_in_oilElements5870); 
 
-                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_oilElements5849); 
+                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_oilElements5874); 
 
                     retval.names.add((a!=null?a.getText():null)); retval.num.add(Double.parseDouble((b!=null?b.getText():null))); 
 
@@ -3778,7 +3803,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "oilDensity"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:605:1: oilDensity returns [double oildens] : SURROUNDINGDENSITY a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:610:1: oilDensity returns [double oildens] : SURROUNDINGDENSITY a= FLOAT ;
     public final double oilDensity() throws RecognitionException {
         double oildens = 0.0;
 
@@ -3786,12 +3811,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:606:2: ( SURROUNDINGDENSITY a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:606:4: SURROUNDINGDENSITY a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:611:2: ( SURROUNDINGDENSITY a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:611:4: SURROUNDINGDENSITY a= FLOAT
             {
-            match(input,SURROUNDINGDENSITY,FOLLOW_SURROUNDINGDENSITY_in_oilDensity5972); 
+            match(input,SURROUNDINGDENSITY,FOLLOW_SURROUNDINGDENSITY_in_oilDensity5997); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_oilDensity5976); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_oilDensity6001); 
 
             oildens = Double.parseDouble((a!=null?a.getText():null));
 
@@ -3813,7 +3838,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "simElectrons"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:609:1: simElectrons returns [long simel] : ( SIMELECTRONS | SIMPHOTONS ) a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:614:1: simElectrons returns [long simel] : ( SIMELECTRONS | SIMPHOTONS ) a= FLOAT ;
     public final long simElectrons() throws RecognitionException {
         long simel = 0;
 
@@ -3821,8 +3846,8 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:610:2: ( ( SIMELECTRONS | SIMPHOTONS ) a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:610:4: ( SIMELECTRONS | SIMPHOTONS ) a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:615:2: ( ( SIMELECTRONS | SIMPHOTONS ) a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:615:4: ( SIMELECTRONS | SIMPHOTONS ) a= FLOAT
             {
             if ( (input.LA(1) >= SIMELECTRONS && input.LA(1) <= SIMPHOTONS) ) {
                 input.consume();
@@ -3834,7 +3859,7 @@ public class InputfileParser extends Parser {
             }
 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_simElectrons6098); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_simElectrons6123); 
 
             simel = Long.parseLong((a!=null?a.getText():null));
 
@@ -3856,7 +3881,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "program"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:614:1: program returns [String value] : SUBPROGRAM a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:619:1: program returns [String value] : SUBPROGRAM a= STRING ;
     public final String program() throws RecognitionException {
         String value = null;
 
@@ -3864,12 +3889,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:615:2: ( SUBPROGRAM a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:615:4: SUBPROGRAM a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:620:2: ( SUBPROGRAM a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:620:4: SUBPROGRAM a= STRING
             {
-            match(input,SUBPROGRAM,FOLLOW_SUBPROGRAM_in_program6237); 
+            match(input,SUBPROGRAM,FOLLOW_SUBPROGRAM_in_program6262); 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_program6241); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_program6266); 
 
             value = (a!=null?a.getText():null);
 
@@ -3891,7 +3916,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "runs"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:619:1: runs returns [int value] : RUNS a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:624:1: runs returns [int value] : RUNS a= FLOAT ;
     public final int runs() throws RecognitionException {
         int value = 0;
 
@@ -3899,12 +3924,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:620:2: ( RUNS a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:620:4: RUNS a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:625:2: ( RUNS a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:625:4: RUNS a= FLOAT
             {
-            match(input,RUNS,FOLLOW_RUNS_in_runs6317); 
+            match(input,RUNS,FOLLOW_RUNS_in_runs6342); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_runs6321); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_runs6346); 
 
             value = Integer.parseInt((a!=null?a.getText():null));
 
@@ -3924,6 +3949,48 @@ public class InputfileParser extends Parser {
     // $ANTLR end "runs"
 
 
+
+    // $ANTLR start "seed"
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:629:1: seed returns [Long value] : SEED a= FLOAT ;
+    public final Long seed() throws RecognitionException {
+        Long value = null;
+
+
+        Token a=null;
+
+        try {
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:630:2: ( SEED a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:630:4: SEED a= FLOAT
+            {
+            match(input,SEED,FOLLOW_SEED_in_seed6392); 
+
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_seed6396); 
+
+
+            		try {
+            			value = Long.parseLong((a!=null?a.getText():null));
+            		} catch (NumberFormatException e) {
+            			emitErrorMessage("line " + (a!=null?a.getLine():0) + ":" + (a!=null?a.getCharPositionInLine():0)
+            				+ " Seed must be a whole number, not " + (a!=null?a.getText():null));
+            		}
+            	
+
+            }
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+        }
+
+        finally {
+            // do for sure before leaving
+        }
+        return value;
+    }
+    // $ANTLR end "seed"
+
+
     protected static class beam_scope {
         String beamType;
         HashMap<Object, Object> beamProperties;
@@ -3933,7 +4000,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beam"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:626:1: beam returns [Beam bObj] : BEAM ( beamLine )+ ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:636:1: beam returns [Beam bObj] : BEAM ( beamLine )+ ;
     public final Beam beam() throws RecognitionException {
         beam_stack.push(new beam_scope());
         Beam bObj = null;
@@ -3943,12 +4010,12 @@ public class InputfileParser extends Parser {
                 ((beam_scope)beam_stack.peek()).beamProperties = new HashMap<Object, Object>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:637:2: ( BEAM ( beamLine )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:637:4: BEAM ( beamLine )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:647:2: ( BEAM ( beamLine )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:647:4: BEAM ( beamLine )+
             {
-            match(input,BEAM,FOLLOW_BEAM_in_beam6384); 
+            match(input,BEAM,FOLLOW_BEAM_in_beam6459); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:637:9: ( beamLine )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:647:9: ( beamLine )+
             int cnt16=0;
             loop16:
             do {
@@ -3962,9 +4029,9 @@ public class InputfileParser extends Parser {
 
                 switch (alt16) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:637:9: beamLine
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:647:9: beamLine
                     {
-                    pushFollow(FOLLOW_beamLine_in_beam6386);
+                    pushFollow(FOLLOW_beamLine_in_beam6461);
                     beamLine();
 
                     state._fsp--;
@@ -4005,7 +4072,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beamLine"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:640:1: beamLine : ( TYPE a= STRING |b= beamFlux |c= beamFWHM |d= beamEnergy |e= beamCollimation |f= beamFile |g= beamPixelSize |h= beamExposure |i= beamSemiAngle |j= beamApertureRadius |k= imageDimensions |l= pulseEnergy |m= energyFWHM );
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:650:1: beamLine : ( TYPE a= STRING |b= beamFlux |c= beamFWHM |d= beamEnergy |e= beamCollimation |f= beamFile |g= beamPixelSize |h= beamExposure |i= beamSemiAngle |j= beamApertureRadius |k= imageDimensions |l= pulseEnergy |m= energyFWHM );
     public final void beamLine() throws RecognitionException {
         Token a=null;
         Double b =null;
@@ -4034,7 +4101,7 @@ public class InputfileParser extends Parser {
 
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:641:2: ( TYPE a= STRING |b= beamFlux |c= beamFWHM |d= beamEnergy |e= beamCollimation |f= beamFile |g= beamPixelSize |h= beamExposure |i= beamSemiAngle |j= beamApertureRadius |k= imageDimensions |l= pulseEnergy |m= energyFWHM )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:651:2: ( TYPE a= STRING |b= beamFlux |c= beamFWHM |d= beamEnergy |e= beamCollimation |f= beamFile |g= beamPixelSize |h= beamExposure |i= beamSemiAngle |j= beamApertureRadius |k= imageDimensions |l= pulseEnergy |m= energyFWHM )
             int alt17=13;
             switch ( input.LA(1) ) {
             case TYPE:
@@ -4116,20 +4183,20 @@ public class InputfileParser extends Parser {
 
             switch (alt17) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:641:4: TYPE a= STRING
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:651:4: TYPE a= STRING
                     {
-                    match(input,TYPE,FOLLOW_TYPE_in_beamLine6425); 
+                    match(input,TYPE,FOLLOW_TYPE_in_beamLine6500); 
 
-                    a=(Token)match(input,STRING,FOLLOW_STRING_in_beamLine6429); 
+                    a=(Token)match(input,STRING,FOLLOW_STRING_in_beamLine6504); 
 
                      ((beam_scope)beam_stack.peek()).beamType = (a!=null?a.getText():null); 
 
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:642:4: b= beamFlux
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:652:4: b= beamFlux
                     {
-                    pushFollow(FOLLOW_beamFlux_in_beamLine6447);
+                    pushFollow(FOLLOW_beamFlux_in_beamLine6522);
                     b=beamFlux();
 
                     state._fsp--;
@@ -4140,9 +4207,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:643:4: c= beamFWHM
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:653:4: c= beamFWHM
                     {
-                    pushFollow(FOLLOW_beamFWHM_in_beamLine6459);
+                    pushFollow(FOLLOW_beamFWHM_in_beamLine6534);
                     c=beamFWHM();
 
                     state._fsp--;
@@ -4154,9 +4221,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 4 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:645:4: d= beamEnergy
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:655:4: d= beamEnergy
                     {
-                    pushFollow(FOLLOW_beamEnergy_in_beamLine6471);
+                    pushFollow(FOLLOW_beamEnergy_in_beamLine6546);
                     d=beamEnergy();
 
                     state._fsp--;
@@ -4167,9 +4234,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 5 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:646:4: e= beamCollimation
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:656:4: e= beamCollimation
                     {
-                    pushFollow(FOLLOW_beamCollimation_in_beamLine6483);
+                    pushFollow(FOLLOW_beamCollimation_in_beamLine6558);
                     e=beamCollimation();
 
                     state._fsp--;
@@ -4182,9 +4249,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 6 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:649:4: f= beamFile
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:659:4: f= beamFile
                     {
-                    pushFollow(FOLLOW_beamFile_in_beamLine6494);
+                    pushFollow(FOLLOW_beamFile_in_beamLine6569);
                     f=beamFile();
 
                     state._fsp--;
@@ -4195,9 +4262,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 7 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:650:4: g= beamPixelSize
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:660:4: g= beamPixelSize
                     {
-                    pushFollow(FOLLOW_beamPixelSize_in_beamLine6515);
+                    pushFollow(FOLLOW_beamPixelSize_in_beamLine6590);
                     g=beamPixelSize();
 
                     state._fsp--;
@@ -4208,9 +4275,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 8 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:652:4: h= beamExposure
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:662:4: h= beamExposure
                     {
-                    pushFollow(FOLLOW_beamExposure_in_beamLine6532);
+                    pushFollow(FOLLOW_beamExposure_in_beamLine6607);
                     h=beamExposure();
 
                     state._fsp--;
@@ -4221,9 +4288,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 9 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:653:4: i= beamSemiAngle
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:663:4: i= beamSemiAngle
                     {
-                    pushFollow(FOLLOW_beamSemiAngle_in_beamLine6544);
+                    pushFollow(FOLLOW_beamSemiAngle_in_beamLine6619);
                     i=beamSemiAngle();
 
                     state._fsp--;
@@ -4234,9 +4301,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 10 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:654:4: j= beamApertureRadius
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:664:4: j= beamApertureRadius
                     {
-                    pushFollow(FOLLOW_beamApertureRadius_in_beamLine6553);
+                    pushFollow(FOLLOW_beamApertureRadius_in_beamLine6628);
                     j=beamApertureRadius();
 
                     state._fsp--;
@@ -4247,9 +4314,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 11 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:655:4: k= imageDimensions
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:665:4: k= imageDimensions
                     {
-                    pushFollow(FOLLOW_imageDimensions_in_beamLine6562);
+                    pushFollow(FOLLOW_imageDimensions_in_beamLine6637);
                     k=imageDimensions();
 
                     state._fsp--;
@@ -4261,9 +4328,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 12 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:657:4: l= pulseEnergy
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:667:4: l= pulseEnergy
                     {
-                    pushFollow(FOLLOW_pulseEnergy_in_beamLine6572);
+                    pushFollow(FOLLOW_pulseEnergy_in_beamLine6647);
                     l=pulseEnergy();
 
                     state._fsp--;
@@ -4274,9 +4341,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 13 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:658:4: m= energyFWHM
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:668:4: m= energyFWHM
                     {
-                    pushFollow(FOLLOW_energyFWHM_in_beamLine6584);
+                    pushFollow(FOLLOW_energyFWHM_in_beamLine6659);
                     m=energyFWHM();
 
                     state._fsp--;
@@ -4304,7 +4371,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beamFlux"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:662:1: beamFlux returns [Double flux] : FLUX a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:672:1: beamFlux returns [Double flux] : FLUX a= FLOAT ;
     public final Double beamFlux() throws RecognitionException {
         Double flux = null;
 
@@ -4312,12 +4379,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:663:2: ( FLUX a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:663:4: FLUX a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:673:2: ( FLUX a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:673:4: FLUX a= FLOAT
             {
-            match(input,FLUX,FOLLOW_FLUX_in_beamFlux6614); 
+            match(input,FLUX,FOLLOW_FLUX_in_beamFlux6689); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamFlux6618); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamFlux6693); 
 
             flux = Double.parseDouble((a!=null?a.getText():null));
 
@@ -4339,7 +4406,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beamExposure"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:666:1: beamExposure returns [Double exposure] : EXPOSURE a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:676:1: beamExposure returns [Double exposure] : EXPOSURE a= FLOAT ;
     public final Double beamExposure() throws RecognitionException {
         Double exposure = null;
 
@@ -4347,12 +4414,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:667:2: ( EXPOSURE a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:667:4: EXPOSURE a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:677:2: ( EXPOSURE a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:677:4: EXPOSURE a= FLOAT
             {
-            match(input,EXPOSURE,FOLLOW_EXPOSURE_in_beamExposure6660); 
+            match(input,EXPOSURE,FOLLOW_EXPOSURE_in_beamExposure6735); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamExposure6664); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamExposure6739); 
 
             exposure = Double.parseDouble((a!=null?a.getText():null));
 
@@ -4379,7 +4446,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "imageDimensions"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:670:1: imageDimensions returns [Double xImage, Double yImage] : IMAGEDIM a= FLOAT b= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:680:1: imageDimensions returns [Double xImage, Double yImage] : IMAGEDIM a= FLOAT b= FLOAT ;
     public final InputfileParser.imageDimensions_return imageDimensions() throws RecognitionException {
         InputfileParser.imageDimensions_return retval = new InputfileParser.imageDimensions_return();
         retval.start = input.LT(1);
@@ -4389,14 +4456,14 @@ public class InputfileParser extends Parser {
         Token b=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:671:2: ( IMAGEDIM a= FLOAT b= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:671:4: IMAGEDIM a= FLOAT b= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:681:2: ( IMAGEDIM a= FLOAT b= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:681:4: IMAGEDIM a= FLOAT b= FLOAT
             {
-            match(input,IMAGEDIM,FOLLOW_IMAGEDIM_in_imageDimensions6726); 
+            match(input,IMAGEDIM,FOLLOW_IMAGEDIM_in_imageDimensions6801); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_imageDimensions6730); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_imageDimensions6805); 
 
-            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_imageDimensions6734); 
+            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_imageDimensions6809); 
 
             retval.xImage = Double.parseDouble((a!=null?a.getText():null)); retval.yImage = Double.parseDouble((b!=null?b.getText():null));
 
@@ -4426,7 +4493,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beamFWHM"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:675:1: beamFWHM returns [Double x, Double y] : FWHM a= FLOAT b= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:685:1: beamFWHM returns [Double x, Double y] : FWHM a= FLOAT b= FLOAT ;
     public final InputfileParser.beamFWHM_return beamFWHM() throws RecognitionException {
         InputfileParser.beamFWHM_return retval = new InputfileParser.beamFWHM_return();
         retval.start = input.LT(1);
@@ -4436,14 +4503,14 @@ public class InputfileParser extends Parser {
         Token b=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:676:2: ( FWHM a= FLOAT b= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:676:4: FWHM a= FLOAT b= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:686:2: ( FWHM a= FLOAT b= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:686:4: FWHM a= FLOAT b= FLOAT
             {
-            match(input,FWHM,FOLLOW_FWHM_in_beamFWHM6799); 
+            match(input,FWHM,FOLLOW_FWHM_in_beamFWHM6874); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamFWHM6803); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamFWHM6878); 
 
-            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamFWHM6807); 
+            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamFWHM6882); 
 
             retval.x = Double.parseDouble((a!=null?a.getText():null)); retval.y = Double.parseDouble((b!=null?b.getText():null));
 
@@ -4468,7 +4535,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beamEnergy"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:679:1: beamEnergy returns [Double energy] : ENERGY a= FLOAT ( KEV )? ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:689:1: beamEnergy returns [Double energy] : ENERGY a= FLOAT ( KEV )? ;
     public final Double beamEnergy() throws RecognitionException {
         Double energy = null;
 
@@ -4476,16 +4543,16 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:680:2: ( ENERGY a= FLOAT ( KEV )? )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:680:4: ENERGY a= FLOAT ( KEV )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:690:2: ( ENERGY a= FLOAT ( KEV )? )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:690:4: ENERGY a= FLOAT ( KEV )?
             {
-            match(input,ENERGY,FOLLOW_ENERGY_in_beamEnergy6849); 
+            match(input,ENERGY,FOLLOW_ENERGY_in_beamEnergy6924); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamEnergy6853); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamEnergy6928); 
 
             energy = Double.parseDouble((a!=null?a.getText():null));
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:681:2: ( KEV )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:691:2: ( KEV )?
             int alt18=2;
             int LA18_0 = input.LA(1);
 
@@ -4494,9 +4561,9 @@ public class InputfileParser extends Parser {
             }
             switch (alt18) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:681:4: KEV
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:691:4: KEV
                     {
-                    match(input,KEV,FOLLOW_KEV_in_beamEnergy6860); 
+                    match(input,KEV,FOLLOW_KEV_in_beamEnergy6935); 
 
                     }
                     break;
@@ -4522,7 +4589,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "pulseEnergy"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:686:1: pulseEnergy returns [Double pulse] : PULSEENERGY a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:696:1: pulseEnergy returns [Double pulse] : PULSEENERGY a= FLOAT ;
     public final Double pulseEnergy() throws RecognitionException {
         Double pulse = null;
 
@@ -4530,12 +4597,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:687:2: ( PULSEENERGY a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:687:4: PULSEENERGY a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:697:2: ( PULSEENERGY a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:697:4: PULSEENERGY a= FLOAT
             {
-            match(input,PULSEENERGY,FOLLOW_PULSEENERGY_in_pulseEnergy6938); 
+            match(input,PULSEENERGY,FOLLOW_PULSEENERGY_in_pulseEnergy7013); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_pulseEnergy6942); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_pulseEnergy7017); 
 
             pulse = Double.parseDouble((a!=null?a.getText():null));
 
@@ -4557,7 +4624,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beamSemiAngle"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:691:1: beamSemiAngle returns [Double semiAngle] : SEMIANGLE a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:701:1: beamSemiAngle returns [Double semiAngle] : SEMIANGLE a= FLOAT ;
     public final Double beamSemiAngle() throws RecognitionException {
         Double semiAngle = null;
 
@@ -4565,12 +4632,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:692:2: ( SEMIANGLE a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:692:4: SEMIANGLE a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:702:2: ( SEMIANGLE a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:702:4: SEMIANGLE a= FLOAT
             {
-            match(input,SEMIANGLE,FOLLOW_SEMIANGLE_in_beamSemiAngle7020); 
+            match(input,SEMIANGLE,FOLLOW_SEMIANGLE_in_beamSemiAngle7095); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamSemiAngle7024); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamSemiAngle7099); 
 
             semiAngle = Double.parseDouble((a!=null?a.getText():null));
 
@@ -4592,7 +4659,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beamApertureRadius"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:696:1: beamApertureRadius returns [Double apertureRadius] : APERTURERADIUS a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:706:1: beamApertureRadius returns [Double apertureRadius] : APERTURERADIUS a= FLOAT ;
     public final Double beamApertureRadius() throws RecognitionException {
         Double apertureRadius = null;
 
@@ -4600,12 +4667,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:697:2: ( APERTURERADIUS a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:697:4: APERTURERADIUS a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:707:2: ( APERTURERADIUS a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:707:4: APERTURERADIUS a= FLOAT
             {
-            match(input,APERTURERADIUS,FOLLOW_APERTURERADIUS_in_beamApertureRadius7093); 
+            match(input,APERTURERADIUS,FOLLOW_APERTURERADIUS_in_beamApertureRadius7168); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamApertureRadius7097); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamApertureRadius7172); 
 
             apertureRadius = Double.parseDouble((a!=null?a.getText():null));
 
@@ -4627,7 +4694,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beamFile"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:701:1: beamFile returns [String filename] : FILE a= STRING ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:711:1: beamFile returns [String filename] : FILE a= STRING ;
     public final String beamFile() throws RecognitionException {
         String filename = null;
 
@@ -4635,12 +4702,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:702:2: ( FILE a= STRING )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:702:4: FILE a= STRING
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:712:2: ( FILE a= STRING )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:712:4: FILE a= STRING
             {
-            match(input,FILE,FOLLOW_FILE_in_beamFile7189); 
+            match(input,FILE,FOLLOW_FILE_in_beamFile7264); 
 
-            a=(Token)match(input,STRING,FOLLOW_STRING_in_beamFile7193); 
+            a=(Token)match(input,STRING,FOLLOW_STRING_in_beamFile7268); 
 
             filename = (a!=null?a.getText():null);
 
@@ -4662,7 +4729,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beamPixelSize"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:706:1: beamPixelSize returns [Map<Object, Object> properties] : PIXELSIZE a= FLOAT b= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:716:1: beamPixelSize returns [Map<Object, Object> properties] : PIXELSIZE a= FLOAT b= FLOAT ;
     public final Map<Object, Object> beamPixelSize() throws RecognitionException {
         Map<Object, Object> properties = null;
 
@@ -4671,14 +4738,14 @@ public class InputfileParser extends Parser {
         Token b=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:707:5: ( PIXELSIZE a= FLOAT b= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:707:7: PIXELSIZE a= FLOAT b= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:717:5: ( PIXELSIZE a= FLOAT b= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:717:7: PIXELSIZE a= FLOAT b= FLOAT
             {
-            match(input,PIXELSIZE,FOLLOW_PIXELSIZE_in_beamPixelSize7240); 
+            match(input,PIXELSIZE,FOLLOW_PIXELSIZE_in_beamPixelSize7315); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamPixelSize7244); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamPixelSize7319); 
 
-            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamPixelSize7248); 
+            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamPixelSize7323); 
 
             properties = new HashMap<Object, Object>();
                      properties.put(Beam.BEAM_PIXSIZE_X, Double.parseDouble((a!=null?a.getText():null)));
@@ -4702,7 +4769,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "energyFWHM"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:714:1: energyFWHM returns [Double eFWHM] : ENERGYFWHM a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:724:1: energyFWHM returns [Double eFWHM] : ENERGYFWHM a= FLOAT ;
     public final Double energyFWHM() throws RecognitionException {
         Double eFWHM = null;
 
@@ -4710,12 +4777,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:715:2: ( ENERGYFWHM a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:715:4: ENERGYFWHM a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:725:2: ( ENERGYFWHM a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:725:4: ENERGYFWHM a= FLOAT
             {
-            match(input,ENERGYFWHM,FOLLOW_ENERGYFWHM_in_energyFWHM7323); 
+            match(input,ENERGYFWHM,FOLLOW_ENERGYFWHM_in_energyFWHM7398); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_energyFWHM7327); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_energyFWHM7402); 
 
             eFWHM = Double.parseDouble((a!=null?a.getText():null));
 
@@ -4737,7 +4804,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "beamCollimation"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:720:1: beamCollimation returns [Map<Object, Object> properties] : ( COLLIMATION | RECTANGULAR a= FLOAT b= FLOAT | CIRCULAR c= FLOAT f= FLOAT | HORIZONTAL d= FLOAT | VERTICAL e= FLOAT );
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:730:1: beamCollimation returns [Map<Object, Object> properties] : ( COLLIMATION | RECTANGULAR a= FLOAT b= FLOAT | CIRCULAR c= FLOAT f= FLOAT | HORIZONTAL d= FLOAT | VERTICAL e= FLOAT );
     public final Map<Object, Object> beamCollimation() throws RecognitionException {
         Map<Object, Object> properties = null;
 
@@ -4753,7 +4820,7 @@ public class InputfileParser extends Parser {
                 properties = new HashMap<Object, Object>();
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:724:2: ( COLLIMATION | RECTANGULAR a= FLOAT b= FLOAT | CIRCULAR c= FLOAT f= FLOAT | HORIZONTAL d= FLOAT | VERTICAL e= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:734:2: ( COLLIMATION | RECTANGULAR a= FLOAT b= FLOAT | CIRCULAR c= FLOAT f= FLOAT | HORIZONTAL d= FLOAT | VERTICAL e= FLOAT )
             int alt19=5;
             switch ( input.LA(1) ) {
             case COLLIMATION:
@@ -4791,20 +4858,20 @@ public class InputfileParser extends Parser {
 
             switch (alt19) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:724:4: COLLIMATION
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:734:4: COLLIMATION
                     {
-                    match(input,COLLIMATION,FOLLOW_COLLIMATION_in_beamCollimation7407); 
+                    match(input,COLLIMATION,FOLLOW_COLLIMATION_in_beamCollimation7482); 
 
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:725:4: RECTANGULAR a= FLOAT b= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:735:4: RECTANGULAR a= FLOAT b= FLOAT
                     {
-                    match(input,RECTANGULAR,FOLLOW_RECTANGULAR_in_beamCollimation7413); 
+                    match(input,RECTANGULAR,FOLLOW_RECTANGULAR_in_beamCollimation7488); 
 
-                    a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7417); 
+                    a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7492); 
 
-                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7421); 
+                    b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7496); 
 
                      properties.put(Beam.BEAM_COLL_H, Double.parseDouble((a!=null?a.getText():null)));
                                                         properties.put(Beam.BEAM_COLL_V, Double.parseDouble((b!=null?b.getText():null))); 
@@ -4812,13 +4879,13 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:727:4: CIRCULAR c= FLOAT f= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:737:4: CIRCULAR c= FLOAT f= FLOAT
                     {
-                    match(input,CIRCULAR,FOLLOW_CIRCULAR_in_beamCollimation7428); 
+                    match(input,CIRCULAR,FOLLOW_CIRCULAR_in_beamCollimation7503); 
 
-                    c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7432); 
+                    c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7507); 
 
-                    f=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7436); 
+                    f=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7511); 
 
                      properties.put(Beam.BEAM_COLL_H, Double.parseDouble((c!=null?c.getText():null)));
                                                         properties.put(Beam.BEAM_COLL_V, Double.parseDouble((f!=null?f.getText():null))); 
@@ -4827,22 +4894,22 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 4 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:730:4: HORIZONTAL d= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:740:4: HORIZONTAL d= FLOAT
                     {
-                    match(input,HORIZONTAL,FOLLOW_HORIZONTAL_in_beamCollimation7443); 
+                    match(input,HORIZONTAL,FOLLOW_HORIZONTAL_in_beamCollimation7518); 
 
-                    d=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7447); 
+                    d=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7522); 
 
                      properties.put(Beam.BEAM_COLL_H, Double.parseDouble((d!=null?d.getText():null))); 
 
                     }
                     break;
                 case 5 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:731:4: VERTICAL e= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:741:4: VERTICAL e= FLOAT
                     {
-                    match(input,VERTICAL,FOLLOW_VERTICAL_in_beamCollimation7454); 
+                    match(input,VERTICAL,FOLLOW_VERTICAL_in_beamCollimation7529); 
 
-                    e=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7458); 
+                    e=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_beamCollimation7533); 
 
                      properties.put(Beam.BEAM_COLL_V, Double.parseDouble((e!=null?e.getText():null))); 
 
@@ -4883,7 +4950,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "wedge"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:741:1: wedge returns [Wedge wObj] : WEDGE a= FLOAT b= FLOAT ( wedgeLine )+ ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:751:1: wedge returns [Wedge wObj] : WEDGE a= FLOAT b= FLOAT ( wedgeLine )+ ;
     public final Wedge wedge() throws RecognitionException {
         wedge_stack.push(new wedge_scope());
         Wedge wObj = null;
@@ -4895,19 +4962,19 @@ public class InputfileParser extends Parser {
          
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:761:2: ( WEDGE a= FLOAT b= FLOAT ( wedgeLine )+ )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:761:4: WEDGE a= FLOAT b= FLOAT ( wedgeLine )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:771:2: ( WEDGE a= FLOAT b= FLOAT ( wedgeLine )+ )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:771:4: WEDGE a= FLOAT b= FLOAT ( wedgeLine )+
             {
-            match(input,WEDGE,FOLLOW_WEDGE_in_wedge7771); 
+            match(input,WEDGE,FOLLOW_WEDGE_in_wedge7846); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedge7775); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedge7850); 
 
-            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedge7779); 
+            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedge7854); 
 
             ((wedge_scope)wedge_stack.peek()).startAng = Double.parseDouble((a!=null?a.getText():null));
                                          ((wedge_scope)wedge_stack.peek()).endAng = Double.parseDouble((b!=null?b.getText():null)); 
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:763:4: ( wedgeLine )+
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:773:4: ( wedgeLine )+
             int cnt20=0;
             loop20:
             do {
@@ -4921,9 +4988,9 @@ public class InputfileParser extends Parser {
 
                 switch (alt20) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:763:4: wedgeLine
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:773:4: wedgeLine
                     {
-                    pushFollow(FOLLOW_wedgeLine_in_wedge7786);
+                    pushFollow(FOLLOW_wedgeLine_in_wedge7861);
                     wedgeLine();
 
                     state._fsp--;
@@ -4964,7 +5031,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "wedgeLine"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:766:1: wedgeLine : (a= wedgeExposure |b= wedgeAngRes |c= wedgeStartOffset |d= wedgeTranslate |e= wedgeRotAxBeamOffset |f= wedgeMaxRes );
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:776:1: wedgeLine : (a= wedgeExposure |b= wedgeAngRes |c= wedgeStartOffset |d= wedgeTranslate |e= wedgeRotAxBeamOffset |f= wedgeMaxRes );
     public final void wedgeLine() throws RecognitionException {
         double a =0.0;
 
@@ -4980,7 +5047,7 @@ public class InputfileParser extends Parser {
 
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:767:2: (a= wedgeExposure |b= wedgeAngRes |c= wedgeStartOffset |d= wedgeTranslate |e= wedgeRotAxBeamOffset |f= wedgeMaxRes )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:777:2: (a= wedgeExposure |b= wedgeAngRes |c= wedgeStartOffset |d= wedgeTranslate |e= wedgeRotAxBeamOffset |f= wedgeMaxRes )
             int alt21=6;
             switch ( input.LA(1) ) {
             case EXPOSURETIME:
@@ -5023,9 +5090,9 @@ public class InputfileParser extends Parser {
 
             switch (alt21) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:767:4: a= wedgeExposure
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:777:4: a= wedgeExposure
                     {
-                    pushFollow(FOLLOW_wedgeExposure_in_wedgeLine7830);
+                    pushFollow(FOLLOW_wedgeExposure_in_wedgeLine7905);
                     a=wedgeExposure();
 
                     state._fsp--;
@@ -5036,9 +5103,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 2 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:768:4: b= wedgeAngRes
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:778:4: b= wedgeAngRes
                     {
-                    pushFollow(FOLLOW_wedgeAngRes_in_wedgeLine7840);
+                    pushFollow(FOLLOW_wedgeAngRes_in_wedgeLine7915);
                     b=wedgeAngRes();
 
                     state._fsp--;
@@ -5049,9 +5116,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 3 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:769:4: c= wedgeStartOffset
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:779:4: c= wedgeStartOffset
                     {
-                    pushFollow(FOLLOW_wedgeStartOffset_in_wedgeLine7851);
+                    pushFollow(FOLLOW_wedgeStartOffset_in_wedgeLine7926);
                     c=wedgeStartOffset();
 
                     state._fsp--;
@@ -5064,9 +5131,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 4 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:772:4: d= wedgeTranslate
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:782:4: d= wedgeTranslate
                     {
-                    pushFollow(FOLLOW_wedgeTranslate_in_wedgeLine7861);
+                    pushFollow(FOLLOW_wedgeTranslate_in_wedgeLine7936);
                     d=wedgeTranslate();
 
                     state._fsp--;
@@ -5079,9 +5146,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 5 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:775:4: e= wedgeRotAxBeamOffset
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:785:4: e= wedgeRotAxBeamOffset
                     {
-                    pushFollow(FOLLOW_wedgeRotAxBeamOffset_in_wedgeLine7871);
+                    pushFollow(FOLLOW_wedgeRotAxBeamOffset_in_wedgeLine7946);
                     e=wedgeRotAxBeamOffset();
 
                     state._fsp--;
@@ -5092,9 +5159,9 @@ public class InputfileParser extends Parser {
                     }
                     break;
                 case 6 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:776:4: f= wedgeMaxRes
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:786:4: f= wedgeMaxRes
                     {
-                    pushFollow(FOLLOW_wedgeMaxRes_in_wedgeLine7880);
+                    pushFollow(FOLLOW_wedgeMaxRes_in_wedgeLine7955);
                     f=wedgeMaxRes();
 
                     state._fsp--;
@@ -5122,7 +5189,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "wedgeExposure"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:779:1: wedgeExposure returns [double value] : EXPOSURETIME a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:789:1: wedgeExposure returns [double value] : EXPOSURETIME a= FLOAT ;
     public final double wedgeExposure() throws RecognitionException {
         double value = 0.0;
 
@@ -5130,12 +5197,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:780:2: ( EXPOSURETIME a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:780:4: EXPOSURETIME a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:790:2: ( EXPOSURETIME a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:790:4: EXPOSURETIME a= FLOAT
             {
-            match(input,EXPOSURETIME,FOLLOW_EXPOSURETIME_in_wedgeExposure7897); 
+            match(input,EXPOSURETIME,FOLLOW_EXPOSURETIME_in_wedgeExposure7972); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeExposure7901); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeExposure7976); 
 
             value = Double.parseDouble((a!=null?a.getText():null));
 
@@ -5157,7 +5224,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "wedgeAngRes"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:783:1: wedgeAngRes returns [double res] : ANGULARRESOLUTION a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:793:1: wedgeAngRes returns [double res] : ANGULARRESOLUTION a= FLOAT ;
     public final double wedgeAngRes() throws RecognitionException {
         double res = 0.0;
 
@@ -5165,12 +5232,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:784:2: ( ANGULARRESOLUTION a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:784:4: ANGULARRESOLUTION a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:794:2: ( ANGULARRESOLUTION a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:794:4: ANGULARRESOLUTION a= FLOAT
             {
-            match(input,ANGULARRESOLUTION,FOLLOW_ANGULARRESOLUTION_in_wedgeAngRes7983); 
+            match(input,ANGULARRESOLUTION,FOLLOW_ANGULARRESOLUTION_in_wedgeAngRes8058); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeAngRes7987); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeAngRes8062); 
 
             res = Double.parseDouble((a!=null?a.getText():null));
 
@@ -5198,7 +5265,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "wedgeStartOffset"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:787:1: wedgeStartOffset returns [Double x, Double y, Double z] : STARTOFFSET a= FLOAT b= FLOAT (c= FLOAT )? ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:797:1: wedgeStartOffset returns [Double x, Double y, Double z] : STARTOFFSET a= FLOAT b= FLOAT (c= FLOAT )? ;
     public final InputfileParser.wedgeStartOffset_return wedgeStartOffset() throws RecognitionException {
         InputfileParser.wedgeStartOffset_return retval = new InputfileParser.wedgeStartOffset_return();
         retval.start = input.LT(1);
@@ -5209,18 +5276,18 @@ public class InputfileParser extends Parser {
         Token c=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:788:2: ( STARTOFFSET a= FLOAT b= FLOAT (c= FLOAT )? )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:788:4: STARTOFFSET a= FLOAT b= FLOAT (c= FLOAT )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:798:2: ( STARTOFFSET a= FLOAT b= FLOAT (c= FLOAT )? )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:798:4: STARTOFFSET a= FLOAT b= FLOAT (c= FLOAT )?
             {
-            match(input,STARTOFFSET,FOLLOW_STARTOFFSET_in_wedgeStartOffset8094); 
+            match(input,STARTOFFSET,FOLLOW_STARTOFFSET_in_wedgeStartOffset8169); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeStartOffset8098); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeStartOffset8173); 
 
-            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeStartOffset8102); 
+            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeStartOffset8177); 
 
             retval.x = Double.parseDouble((a!=null?a.getText():null)); retval.y = Double.parseDouble((b!=null?b.getText():null));
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:789:17: (c= FLOAT )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:799:17: (c= FLOAT )?
             int alt22=2;
             int LA22_0 = input.LA(1);
 
@@ -5229,9 +5296,9 @@ public class InputfileParser extends Parser {
             }
             switch (alt22) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:789:17: c= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:799:17: c= FLOAT
                     {
-                    c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeStartOffset8123); 
+                    c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeStartOffset8198); 
 
                     }
                     break;
@@ -5268,7 +5335,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "wedgeTranslate"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:793:1: wedgeTranslate returns [Double x, Double y, Double z] : TRANSLATEPERDEGREE a= FLOAT b= FLOAT (c= FLOAT )? ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:803:1: wedgeTranslate returns [Double x, Double y, Double z] : TRANSLATEPERDEGREE a= FLOAT b= FLOAT (c= FLOAT )? ;
     public final InputfileParser.wedgeTranslate_return wedgeTranslate() throws RecognitionException {
         InputfileParser.wedgeTranslate_return retval = new InputfileParser.wedgeTranslate_return();
         retval.start = input.LT(1);
@@ -5279,18 +5346,18 @@ public class InputfileParser extends Parser {
         Token c=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:794:2: ( TRANSLATEPERDEGREE a= FLOAT b= FLOAT (c= FLOAT )? )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:794:4: TRANSLATEPERDEGREE a= FLOAT b= FLOAT (c= FLOAT )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:804:2: ( TRANSLATEPERDEGREE a= FLOAT b= FLOAT (c= FLOAT )? )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:804:4: TRANSLATEPERDEGREE a= FLOAT b= FLOAT (c= FLOAT )?
             {
-            match(input,TRANSLATEPERDEGREE,FOLLOW_TRANSLATEPERDEGREE_in_wedgeTranslate8217); 
+            match(input,TRANSLATEPERDEGREE,FOLLOW_TRANSLATEPERDEGREE_in_wedgeTranslate8292); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeTranslate8221); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeTranslate8296); 
 
-            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeTranslate8225); 
+            b=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeTranslate8300); 
 
             retval.x = Double.parseDouble((a!=null?a.getText():null)); retval.y = Double.parseDouble((b!=null?b.getText():null));
 
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:795:24: (c= FLOAT )?
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:805:24: (c= FLOAT )?
             int alt23=2;
             int LA23_0 = input.LA(1);
 
@@ -5299,9 +5366,9 @@ public class InputfileParser extends Parser {
             }
             switch (alt23) {
                 case 1 :
-                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:795:24: c= FLOAT
+                    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:805:24: c= FLOAT
                     {
-                    c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeTranslate8253); 
+                    c=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeTranslate8328); 
 
                     }
                     break;
@@ -5332,7 +5399,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "wedgeRotAxBeamOffset"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:799:1: wedgeRotAxBeamOffset returns [double delta] : ROTAXBEAMOFFSET a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:809:1: wedgeRotAxBeamOffset returns [double delta] : ROTAXBEAMOFFSET a= FLOAT ;
     public final double wedgeRotAxBeamOffset() throws RecognitionException {
         double delta = 0.0;
 
@@ -5340,12 +5407,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:800:2: ( ROTAXBEAMOFFSET a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:800:4: ROTAXBEAMOFFSET a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:810:2: ( ROTAXBEAMOFFSET a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:810:4: ROTAXBEAMOFFSET a= FLOAT
             {
-            match(input,ROTAXBEAMOFFSET,FOLLOW_ROTAXBEAMOFFSET_in_wedgeRotAxBeamOffset8389); 
+            match(input,ROTAXBEAMOFFSET,FOLLOW_ROTAXBEAMOFFSET_in_wedgeRotAxBeamOffset8464); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeRotAxBeamOffset8393); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeRotAxBeamOffset8468); 
 
             delta = Double.parseDouble((a!=null?a.getText():null));
 
@@ -5367,7 +5434,7 @@ public class InputfileParser extends Parser {
 
 
     // $ANTLR start "wedgeMaxRes"
-    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:803:1: wedgeMaxRes returns [double res] : MAXRESOLUTION a= FLOAT ;
+    // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:813:1: wedgeMaxRes returns [double res] : MAXRESOLUTION a= FLOAT ;
     public final double wedgeMaxRes() throws RecognitionException {
         double res = 0.0;
 
@@ -5375,12 +5442,12 @@ public class InputfileParser extends Parser {
         Token a=null;
 
         try {
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:804:2: ( MAXRESOLUTION a= FLOAT )
-            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:804:4: MAXRESOLUTION a= FLOAT
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:814:2: ( MAXRESOLUTION a= FLOAT )
+            // /home/josh/git/RADDOSE-3D/lib/antlrworks-parsergenerator/Inputfile.g:814:4: MAXRESOLUTION a= FLOAT
             {
-            match(input,MAXRESOLUTION,FOLLOW_MAXRESOLUTION_in_wedgeMaxRes8490); 
+            match(input,MAXRESOLUTION,FOLLOW_MAXRESOLUTION_in_wedgeMaxRes8565); 
 
-            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeMaxRes8494); 
+            a=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_wedgeMaxRes8569); 
 
             res = Double.parseDouble((a!=null?a.getText():null));
 
@@ -5404,12 +5471,12 @@ public class InputfileParser extends Parser {
 
  
 
-    public static final BitSet FOLLOW_crystal_in_configfile47 = new BitSet(new long[]{0x0000000001000400L,0x0000002000000000L});
-    public static final BitSet FOLLOW_wedge_in_configfile65 = new BitSet(new long[]{0x0000000001000400L,0x0000002000000000L});
-    public static final BitSet FOLLOW_beam_in_configfile85 = new BitSet(new long[]{0x0000000001000400L,0x0000002000000000L});
+    public static final BitSet FOLLOW_crystal_in_configfile47 = new BitSet(new long[]{0x0000000001000400L,0x0000004000000000L});
+    public static final BitSet FOLLOW_wedge_in_configfile65 = new BitSet(new long[]{0x0000000001000400L,0x0000004000000000L});
+    public static final BitSet FOLLOW_beam_in_configfile85 = new BitSet(new long[]{0x0000000001000400L,0x0000004000000000L});
     public static final BitSet FOLLOW_EOF_in_configfile105 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_CRYSTAL_in_crystal134 = new BitSet(new long[]{0xBE9C120076F8B870L,0x0000004DF39D107DL});
-    public static final BitSet FOLLOW_crystalLine_in_crystal136 = new BitSet(new long[]{0xBE9C120076F8B872L,0x0000004DF39D107DL});
+    public static final BitSet FOLLOW_CRYSTAL_in_crystal134 = new BitSet(new long[]{0xBE9C120076F8B870L,0x0000009BE73A907DL});
+    public static final BitSet FOLLOW_crystalLine_in_crystal136 = new BitSet(new long[]{0xBE9C120076F8B872L,0x0000009BE73A907DL});
     public static final BitSet FOLLOW_crystalType_in_crystalLine192 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_crystalDDM_in_crystalLine203 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_crystalCoefcalc_in_crystalLine215 = new BitSet(new long[]{0x0000000000000002L});
@@ -5454,210 +5521,213 @@ public class InputfileParser extends Parser {
     public static final BitSet FOLLOW_runs_in_crystalLine720 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_surroundingThickness_in_crystalLine745 = new BitSet(new long[]{0x0000000000000002L});
     public static final BitSet FOLLOW_polarisationDirection_in_crystalLine763 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_TYPE_in_crystalType796 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_crystalType800 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_set_in_crystalDDM842 = new BitSet(new long[]{0x0003000000000000L,0x0000000000200000L});
-    public static final BitSet FOLLOW_crystalDDMKeyword_in_crystalDDM854 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_SIMPLE_in_crystalDDMKeyword1002 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_LINEAR_in_crystalDDMKeyword1009 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_LEAL_in_crystalDDMKeyword1016 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_DECAYPARAM_in_crystalDecayParam1136 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalDecayParam1140 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalDecayParam1144 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalDecayParam1148 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_ABSCOEFCALC_in_crystalCoefcalc1220 = new BitSet(new long[]{0x4000000088004200L,0x0000000000426300L});
-    public static final BitSet FOLLOW_crystalCoefcalcKeyword_in_crystalCoefcalc1224 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_DUMMY_in_crystalCoefcalcKeyword1303 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_AVERAGE_in_crystalCoefcalcKeyword1313 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_DEFAULT_in_crystalCoefcalcKeyword1321 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_RDJAVA_in_crystalCoefcalcKeyword1329 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_RDFORTAN_in_crystalCoefcalcKeyword1336 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_PDB_in_crystalCoefcalcKeyword1343 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_SAXS_in_crystalCoefcalcKeyword1353 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_SEQUENCE_in_crystalCoefcalcKeyword1361 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_SAXSSEQ_in_crystalCoefcalcKeyword1368 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_SMALLMOLE_in_crystalCoefcalcKeyword1375 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_CIF_in_crystalCoefcalcKeyword1386 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_DIMENSION_in_crystalDim1795 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalDim1808 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalDim1812 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalDim1816 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalDim1828 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalDim1832 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalDim1844 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_ANGLEP_in_crystalAngP1921 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalAngP1925 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_ANGLEL_in_crystalAngL1980 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalAngL1984 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_PIXELSPERMICRON_in_crystalPPM2038 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_crystalPPM2040 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_UNITCELL_in_unitcell2138 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_unitcell2142 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_unitcell2146 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_unitcell2150 = new BitSet(new long[]{0x0000010000000002L});
-    public static final BitSet FOLLOW_FLOAT_in_unitcell2165 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_unitcell2169 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_unitcell2173 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_SURROUNDINGTHICKNESS_in_surroundingThickness2255 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_surroundingThickness2265 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_surroundingThickness2269 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_surroundingThickness2273 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_set_in_proteinConcentration2399 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_proteinConcentration2409 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_NUMMONOMERS_in_nummonomers2591 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_nummonomers2595 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_NUMRESIDUES_in_numresidues2672 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_numresidues2676 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_NUMRNA_in_numRNA2754 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_numRNA2758 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_NUMDNA_in_numDNA2811 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_numDNA2815 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_NUMCARB_in_numcarb2867 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_numcarb2871 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_PROTEINHEAVYATOMS_in_heavyProteinAtoms2932 = new BitSet(new long[]{0x0000000100000000L});
-    public static final BitSet FOLLOW_ELEMENT_in_heavyProteinAtoms2937 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_heavyProteinAtoms2941 = new BitSet(new long[]{0x0000000100000002L});
-    public static final BitSet FOLLOW_SMALLMOLEATOMS_in_smallMoleAtoms3088 = new BitSet(new long[]{0x0000000100000000L});
-    public static final BitSet FOLLOW_ELEMENT_in_smallMoleAtoms3093 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_smallMoleAtoms3097 = new BitSet(new long[]{0x0000000100000002L});
-    public static final BitSet FOLLOW_SOLVENTHEAVYCONC_in_heavySolutionConc3199 = new BitSet(new long[]{0x0000000100000000L});
-    public static final BitSet FOLLOW_ELEMENT_in_heavySolutionConc3204 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_heavySolutionConc3208 = new BitSet(new long[]{0x0000000100000002L});
-    public static final BitSet FOLLOW_SOLVENTFRACTION_in_solventFraction3314 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_solventFraction3318 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_PDBNAME_in_pdb3415 = new BitSet(new long[]{0x0000010000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_pdb3420 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_FLOAT_in_pdb3424 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_CIFNAME_in_cif3462 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_cif3466 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_WIREFRAMETYPE_in_wireframeType3503 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_wireframeType3507 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_MODELFILE_in_modelFile3595 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_modelFile3599 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_CALCULATEPEESCAPE_in_calculatePEEscape3666 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_calculatePEEscape3670 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_GONIOMETERAXIS_in_goniometerAxis3782 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_goniometerAxis3786 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_POLARISATIONDIRECTION_in_polarisationDirection3883 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_polarisationDirection3887 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_set_in_crystalContainerMaterial4019 = new BitSet(new long[]{0x0140000200000000L});
-    public static final BitSet FOLLOW_crystalContainerKeyword_in_crystalContainerMaterial4031 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_NONE_in_crystalContainerKeyword4224 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_MIXTURE_in_crystalContainerKeyword4233 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_ELEMENTAL_in_crystalContainerKeyword4241 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_CONTAINERTHICKNESS_in_containerThickness4381 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_containerThickness4385 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_set_in_containerMaterialMixture4496 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_containerMaterialMixture4506 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_set_in_containerMaterialElements4731 = new BitSet(new long[]{0x0000000100000000L});
-    public static final BitSet FOLLOW_ELEMENT_in_containerMaterialElements4742 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_containerMaterialElements4746 = new BitSet(new long[]{0x0000000100000002L});
-    public static final BitSet FOLLOW_CONTAINERDENSITY_in_containerDensity4981 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_containerDensity4985 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_set_in_sequenceFile5086 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_sequenceFile5096 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_CALCULATEFLESCAPE_in_calculateFLEscape5219 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_calculateFLEscape5223 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_FLRESOLUTION_in_flResolution5334 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_flResolution5338 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_PERESOLUTION_in_peResolution5420 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_peResolution5424 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_SURROUNDINGHEAVYCONC_in_surroundingHeavyConc5510 = new BitSet(new long[]{0x0000000100000000L});
-    public static final BitSet FOLLOW_ELEMENT_in_surroundingHeavyConc5515 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_surroundingHeavyConc5519 = new BitSet(new long[]{0x0000000100000002L});
-    public static final BitSet FOLLOW_DENSITYBASED_in_oilBased5647 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_oilBased5651 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_CALCSURROUNDING_in_calcSurrounding5733 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_calcSurrounding5737 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_SURROUNDINGELEMENTS_in_oilElements5840 = new BitSet(new long[]{0x0000000100000000L});
-    public static final BitSet FOLLOW_ELEMENT_in_oilElements5845 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_oilElements5849 = new BitSet(new long[]{0x0000000100000002L});
-    public static final BitSet FOLLOW_SURROUNDINGDENSITY_in_oilDensity5972 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_oilDensity5976 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_set_in_simElectrons6088 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_simElectrons6098 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_SUBPROGRAM_in_program6237 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_program6241 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_RUNS_in_runs6317 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_runs6321 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_BEAM_in_beam6384 = new BitSet(new long[]{0x00006CAC00030100L,0x0000001400008482L});
-    public static final BitSet FOLLOW_beamLine_in_beam6386 = new BitSet(new long[]{0x00006CAC00030102L,0x0000001400008482L});
-    public static final BitSet FOLLOW_TYPE_in_beamLine6425 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_beamLine6429 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_beamFlux_in_beamLine6447 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_beamFWHM_in_beamLine6459 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_beamEnergy_in_beamLine6471 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_beamCollimation_in_beamLine6483 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_beamFile_in_beamLine6494 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_beamPixelSize_in_beamLine6515 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_beamExposure_in_beamLine6532 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_beamSemiAngle_in_beamLine6544 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_beamApertureRadius_in_beamLine6553 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_imageDimensions_in_beamLine6562 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_pulseEnergy_in_beamLine6572 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_energyFWHM_in_beamLine6584 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_FLUX_in_beamFlux6614 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamFlux6618 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_EXPOSURE_in_beamExposure6660 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamExposure6664 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_IMAGEDIM_in_imageDimensions6726 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_imageDimensions6730 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_imageDimensions6734 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_FWHM_in_beamFWHM6799 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamFWHM6803 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamFWHM6807 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_ENERGY_in_beamEnergy6849 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamEnergy6853 = new BitSet(new long[]{0x0000800000000002L});
-    public static final BitSet FOLLOW_KEV_in_beamEnergy6860 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_PULSEENERGY_in_pulseEnergy6938 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_pulseEnergy6942 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_SEMIANGLE_in_beamSemiAngle7020 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamSemiAngle7024 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_APERTURERADIUS_in_beamApertureRadius7093 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamApertureRadius7097 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_FILE_in_beamFile7189 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
-    public static final BitSet FOLLOW_STRING_in_beamFile7193 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_PIXELSIZE_in_beamPixelSize7240 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamPixelSize7244 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamPixelSize7248 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_ENERGYFWHM_in_energyFWHM7323 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_energyFWHM7327 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_COLLIMATION_in_beamCollimation7407 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_RECTANGULAR_in_beamCollimation7413 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7417 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7421 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_CIRCULAR_in_beamCollimation7428 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7432 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7436 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_HORIZONTAL_in_beamCollimation7443 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7447 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_VERTICAL_in_beamCollimation7454 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7458 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_WEDGE_in_wedge7771 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_wedge7775 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_wedge7779 = new BitSet(new long[]{0x0020004000000080L,0x0000000204000800L});
-    public static final BitSet FOLLOW_wedgeLine_in_wedge7786 = new BitSet(new long[]{0x0020004000000082L,0x0000000204000800L});
-    public static final BitSet FOLLOW_wedgeExposure_in_wedgeLine7830 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_wedgeAngRes_in_wedgeLine7840 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_wedgeStartOffset_in_wedgeLine7851 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_wedgeTranslate_in_wedgeLine7861 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_wedgeRotAxBeamOffset_in_wedgeLine7871 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_wedgeMaxRes_in_wedgeLine7880 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_EXPOSURETIME_in_wedgeExposure7897 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_wedgeExposure7901 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_ANGULARRESOLUTION_in_wedgeAngRes7983 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_wedgeAngRes7987 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_STARTOFFSET_in_wedgeStartOffset8094 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_wedgeStartOffset8098 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_wedgeStartOffset8102 = new BitSet(new long[]{0x0000010000000002L});
-    public static final BitSet FOLLOW_FLOAT_in_wedgeStartOffset8123 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_TRANSLATEPERDEGREE_in_wedgeTranslate8217 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_wedgeTranslate8221 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_wedgeTranslate8225 = new BitSet(new long[]{0x0000010000000002L});
-    public static final BitSet FOLLOW_FLOAT_in_wedgeTranslate8253 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_ROTAXBEAMOFFSET_in_wedgeRotAxBeamOffset8389 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_wedgeRotAxBeamOffset8393 = new BitSet(new long[]{0x0000000000000002L});
-    public static final BitSet FOLLOW_MAXRESOLUTION_in_wedgeMaxRes8490 = new BitSet(new long[]{0x0000010000000000L});
-    public static final BitSet FOLLOW_FLOAT_in_wedgeMaxRes8494 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_seed_in_crystalLine778 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TYPE_in_crystalType821 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_crystalType825 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_set_in_crystalDDM867 = new BitSet(new long[]{0x0003000000000000L,0x0000000000400000L});
+    public static final BitSet FOLLOW_crystalDDMKeyword_in_crystalDDM879 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SIMPLE_in_crystalDDMKeyword1027 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LINEAR_in_crystalDDMKeyword1034 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_LEAL_in_crystalDDMKeyword1041 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DECAYPARAM_in_crystalDecayParam1161 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalDecayParam1165 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalDecayParam1169 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalDecayParam1173 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ABSCOEFCALC_in_crystalCoefcalc1245 = new BitSet(new long[]{0x4000000088004200L,0x0000000000846300L});
+    public static final BitSet FOLLOW_crystalCoefcalcKeyword_in_crystalCoefcalc1249 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DUMMY_in_crystalCoefcalcKeyword1328 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_AVERAGE_in_crystalCoefcalcKeyword1338 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DEFAULT_in_crystalCoefcalcKeyword1346 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RDJAVA_in_crystalCoefcalcKeyword1354 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RDFORTAN_in_crystalCoefcalcKeyword1361 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PDB_in_crystalCoefcalcKeyword1368 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SAXS_in_crystalCoefcalcKeyword1378 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SEQUENCE_in_crystalCoefcalcKeyword1386 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SAXSSEQ_in_crystalCoefcalcKeyword1393 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SMALLMOLE_in_crystalCoefcalcKeyword1400 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CIF_in_crystalCoefcalcKeyword1411 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DIMENSION_in_crystalDim1820 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalDim1833 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalDim1837 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalDim1841 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalDim1853 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalDim1857 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalDim1869 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ANGLEP_in_crystalAngP1946 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalAngP1950 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ANGLEL_in_crystalAngL2005 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalAngL2009 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PIXELSPERMICRON_in_crystalPPM2063 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_crystalPPM2065 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_UNITCELL_in_unitcell2163 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_unitcell2167 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_unitcell2171 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_unitcell2175 = new BitSet(new long[]{0x0000010000000002L});
+    public static final BitSet FOLLOW_FLOAT_in_unitcell2190 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_unitcell2194 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_unitcell2198 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SURROUNDINGTHICKNESS_in_surroundingThickness2280 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_surroundingThickness2290 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_surroundingThickness2294 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_surroundingThickness2298 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_set_in_proteinConcentration2424 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_proteinConcentration2434 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUMMONOMERS_in_nummonomers2616 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_nummonomers2620 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUMRESIDUES_in_numresidues2697 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_numresidues2701 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUMRNA_in_numRNA2779 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_numRNA2783 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUMDNA_in_numDNA2836 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_numDNA2840 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUMCARB_in_numcarb2892 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_numcarb2896 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PROTEINHEAVYATOMS_in_heavyProteinAtoms2957 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_ELEMENT_in_heavyProteinAtoms2962 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_heavyProteinAtoms2966 = new BitSet(new long[]{0x0000000100000002L});
+    public static final BitSet FOLLOW_SMALLMOLEATOMS_in_smallMoleAtoms3113 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_ELEMENT_in_smallMoleAtoms3118 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_smallMoleAtoms3122 = new BitSet(new long[]{0x0000000100000002L});
+    public static final BitSet FOLLOW_SOLVENTHEAVYCONC_in_heavySolutionConc3224 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_ELEMENT_in_heavySolutionConc3229 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_heavySolutionConc3233 = new BitSet(new long[]{0x0000000100000002L});
+    public static final BitSet FOLLOW_SOLVENTFRACTION_in_solventFraction3339 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_solventFraction3343 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PDBNAME_in_pdb3440 = new BitSet(new long[]{0x0000010000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_pdb3445 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLOAT_in_pdb3449 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CIFNAME_in_cif3487 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_cif3491 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_WIREFRAMETYPE_in_wireframeType3528 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_wireframeType3532 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MODELFILE_in_modelFile3620 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_modelFile3624 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CALCULATEPEESCAPE_in_calculatePEEscape3691 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_calculatePEEscape3695 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GONIOMETERAXIS_in_goniometerAxis3807 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_goniometerAxis3811 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_POLARISATIONDIRECTION_in_polarisationDirection3908 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_polarisationDirection3912 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_set_in_crystalContainerMaterial4044 = new BitSet(new long[]{0x0140000200000000L});
+    public static final BitSet FOLLOW_crystalContainerKeyword_in_crystalContainerMaterial4056 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NONE_in_crystalContainerKeyword4249 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MIXTURE_in_crystalContainerKeyword4258 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ELEMENTAL_in_crystalContainerKeyword4266 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CONTAINERTHICKNESS_in_containerThickness4406 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_containerThickness4410 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_set_in_containerMaterialMixture4521 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_containerMaterialMixture4531 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_set_in_containerMaterialElements4756 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_ELEMENT_in_containerMaterialElements4767 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_containerMaterialElements4771 = new BitSet(new long[]{0x0000000100000002L});
+    public static final BitSet FOLLOW_CONTAINERDENSITY_in_containerDensity5006 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_containerDensity5010 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_set_in_sequenceFile5111 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_sequenceFile5121 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CALCULATEFLESCAPE_in_calculateFLEscape5244 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_calculateFLEscape5248 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLRESOLUTION_in_flResolution5359 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_flResolution5363 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PERESOLUTION_in_peResolution5445 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_peResolution5449 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SURROUNDINGHEAVYCONC_in_surroundingHeavyConc5535 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_ELEMENT_in_surroundingHeavyConc5540 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_surroundingHeavyConc5544 = new BitSet(new long[]{0x0000000100000002L});
+    public static final BitSet FOLLOW_DENSITYBASED_in_oilBased5672 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_oilBased5676 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CALCSURROUNDING_in_calcSurrounding5758 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_calcSurrounding5762 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SURROUNDINGELEMENTS_in_oilElements5865 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_ELEMENT_in_oilElements5870 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_oilElements5874 = new BitSet(new long[]{0x0000000100000002L});
+    public static final BitSet FOLLOW_SURROUNDINGDENSITY_in_oilDensity5997 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_oilDensity6001 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_set_in_simElectrons6113 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_simElectrons6123 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SUBPROGRAM_in_program6262 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_program6266 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RUNS_in_runs6342 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_runs6346 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SEED_in_seed6392 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_seed6396 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BEAM_in_beam6459 = new BitSet(new long[]{0x00006CAC00030100L,0x0000002800010482L});
+    public static final BitSet FOLLOW_beamLine_in_beam6461 = new BitSet(new long[]{0x00006CAC00030102L,0x0000002800010482L});
+    public static final BitSet FOLLOW_TYPE_in_beamLine6500 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_beamLine6504 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_beamFlux_in_beamLine6522 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_beamFWHM_in_beamLine6534 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_beamEnergy_in_beamLine6546 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_beamCollimation_in_beamLine6558 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_beamFile_in_beamLine6569 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_beamPixelSize_in_beamLine6590 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_beamExposure_in_beamLine6607 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_beamSemiAngle_in_beamLine6619 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_beamApertureRadius_in_beamLine6628 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_imageDimensions_in_beamLine6637 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_pulseEnergy_in_beamLine6647 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_energyFWHM_in_beamLine6659 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLUX_in_beamFlux6689 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamFlux6693 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EXPOSURE_in_beamExposure6735 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamExposure6739 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IMAGEDIM_in_imageDimensions6801 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_imageDimensions6805 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_imageDimensions6809 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FWHM_in_beamFWHM6874 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamFWHM6878 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamFWHM6882 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ENERGY_in_beamEnergy6924 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamEnergy6928 = new BitSet(new long[]{0x0000800000000002L});
+    public static final BitSet FOLLOW_KEV_in_beamEnergy6935 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PULSEENERGY_in_pulseEnergy7013 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_pulseEnergy7017 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SEMIANGLE_in_beamSemiAngle7095 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamSemiAngle7099 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_APERTURERADIUS_in_beamApertureRadius7168 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamApertureRadius7172 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FILE_in_beamFile7264 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+    public static final BitSet FOLLOW_STRING_in_beamFile7268 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PIXELSIZE_in_beamPixelSize7315 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamPixelSize7319 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamPixelSize7323 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ENERGYFWHM_in_energyFWHM7398 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_energyFWHM7402 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_COLLIMATION_in_beamCollimation7482 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RECTANGULAR_in_beamCollimation7488 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7492 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7496 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CIRCULAR_in_beamCollimation7503 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7507 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7511 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_HORIZONTAL_in_beamCollimation7518 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7522 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_VERTICAL_in_beamCollimation7529 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_beamCollimation7533 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_WEDGE_in_wedge7846 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_wedge7850 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_wedge7854 = new BitSet(new long[]{0x0020004000000080L,0x0000000408000800L});
+    public static final BitSet FOLLOW_wedgeLine_in_wedge7861 = new BitSet(new long[]{0x0020004000000082L,0x0000000408000800L});
+    public static final BitSet FOLLOW_wedgeExposure_in_wedgeLine7905 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_wedgeAngRes_in_wedgeLine7915 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_wedgeStartOffset_in_wedgeLine7926 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_wedgeTranslate_in_wedgeLine7936 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_wedgeRotAxBeamOffset_in_wedgeLine7946 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_wedgeMaxRes_in_wedgeLine7955 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_EXPOSURETIME_in_wedgeExposure7972 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_wedgeExposure7976 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ANGULARRESOLUTION_in_wedgeAngRes8058 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_wedgeAngRes8062 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STARTOFFSET_in_wedgeStartOffset8169 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_wedgeStartOffset8173 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_wedgeStartOffset8177 = new BitSet(new long[]{0x0000010000000002L});
+    public static final BitSet FOLLOW_FLOAT_in_wedgeStartOffset8198 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TRANSLATEPERDEGREE_in_wedgeTranslate8292 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_wedgeTranslate8296 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_wedgeTranslate8300 = new BitSet(new long[]{0x0000010000000002L});
+    public static final BitSet FOLLOW_FLOAT_in_wedgeTranslate8328 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ROTAXBEAMOFFSET_in_wedgeRotAxBeamOffset8464 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_wedgeRotAxBeamOffset8468 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_MAXRESOLUTION_in_wedgeMaxRes8565 = new BitSet(new long[]{0x0000010000000000L});
+    public static final BitSet FOLLOW_FLOAT_in_wedgeMaxRes8569 = new BitSet(new long[]{0x0000000000000002L});
 
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package se.raddo.raddose3D.server;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Opens new connections to the database backing a {@link DatabaseConnector}.
+ * The server connects to MySQL, while tests and local installations can supply
+ * any other JDBC connection.
+ */
+public interface ConnectionFactory {
+  /**
+   * Open a new database connection.
+   *
+   * @return
+   *         a new, open connection.
+   * @throws SQLException
+   *           the database could not be reached.
+   */
+  Connection createConnection() throws SQLException;
+}
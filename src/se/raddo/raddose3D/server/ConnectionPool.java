@@ -0,0 +1,223 @@
+package se.raddo.raddose3D.server;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A small pool of database connections, so that several workers can talk to
+ * the database at the same time.
+ * <p>
+ * Connections are opened on demand up to the size of the pool. Each
+ * connection caches its prepared statements, so a statement is prepared once
+ * per connection rather than once per call. A connection on which a statement
+ * failed is closed and replaced by a new one at the next request, and a
+ * connection that has been idle for a while is checked before it is handed
+ * out.
+ */
+public class ConnectionPool {
+  /** Milliseconds a connection may be idle before it is checked again. */
+  private static final long     VALIDATE_AFTER   = 30000;
+
+  /** Seconds to wait for a connection check. */
+  private static final int      VALIDATE_TIMEOUT = 5;
+
+  /** Opens new connections. */
+  private final ConnectionFactory factory;
+
+  /** Connections not currently in use. */
+  private final ConcurrentLinkedQueue<PooledConnection> idle =
+      new ConcurrentLinkedQueue<PooledConnection>();
+
+  /** Permits for the connections in use. */
+  private final Semaphore       permits;
+
+  /**
+   * Create an empty pool.
+   *
+   * @param connectionFactory
+   *          opens new connections.
+   * @param size
+   *          maximum number of connections in use at the same time.
+   */
+  public ConnectionPool(final ConnectionFactory connectionFactory,
+      final int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Pool size must be at least 1");
+    }
+    factory = connectionFactory;
+    permits = new Semaphore(size);
+  }
+
+  /**
+   * Take a connection from the pool, waiting for one to be released if all
+   * are in use. Every connection obtained must be handed back through
+   * release().
+   *
+   * @return
+   *         a connection for exclusive use by the calling thread.
+   * @throws SQLException
+   *           no connection could be opened.
+   */
+  public PooledConnection acquire() throws SQLException {
+    permits.acquireUninterruptibly();
+    try {
+      PooledConnection pooled;
+      while ((pooled = idle.poll()) != null) {
+        if (pooled.isUsable()) {
+          return pooled;
+        }
+        pooled.close();
+      }
+      return new PooledConnection(factory.createConnection());
+    } catch (SQLException e) {
+      permits.release();
+      throw e;
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Hand a connection back to the pool.
+   *
+   * @param pooled
+   *          connection obtained from acquire().
+   */
+  public void release(final PooledConnection pooled) {
+    if (pooled.isBroken()) {
+      pooled.close();
+    } else {
+      pooled.touch();
+      idle.offer(pooled);
+    }
+    permits.release();
+  }
+
+  /**
+   * Close all connections that are not in use.
+   */
+  public void close() {
+    PooledConnection pooled;
+    while ((pooled = idle.poll()) != null) {
+      pooled.close();
+    }
+  }
+
+  /**
+   * A connection together with its cache of prepared statements. Only used
+   * by one thread at a time.
+   */
+  public static final class PooledConnection {
+    /** The underlying connection. */
+    private final Connection                     conn;
+
+    /** Prepared statements by SQL text. */
+    private final Map<String, PreparedStatement> statements =
+        new HashMap<String, PreparedStatement>();
+
+    /** Set if a statement failed and the connection must not be reused. */
+    private boolean                              broken;
+
+    /** Time in milliseconds the connection was last used. */
+    private long                                 lastUsed;
+
+    /**
+     * Wrap a new connection.
+     *
+     * @param connection
+     *          an open connection.
+     */
+    private PooledConnection(final Connection connection) {
+      conn = connection;
+      lastUsed = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the prepared statement for an SQL text, preparing it on first
+     * use. Parameters left from an earlier use are cleared.
+     *
+     * @param sql
+     *          SQL text of the statement.
+     * @return
+     *         prepared statement, which must not be closed by the caller.
+     * @throws SQLException
+     *           the statement could not be prepared.
+     */
+    public PreparedStatement prepare(final String sql) throws SQLException {
+      PreparedStatement pst = statements.get(sql);
+      if (pst == null) {
+        pst = conn.prepareStatement(sql);
+        statements.put(sql, pst);
+      } else {
+        pst.clearParameters();
+      }
+      return pst;
+    }
+
+    /**
+     * Mark the connection as failed, so that the pool replaces it.
+     */
+    public void markBroken() {
+      broken = true;
+    }
+
+    /**
+     * Returns whether the connection was marked as failed.
+     *
+     * @return
+     *         true if the connection must not be reused.
+     */
+    private boolean isBroken() {
+      return broken;
+    }
+
+    /**
+     * Record that the connection has just been used.
+     */
+    private void touch() {
+      lastUsed = System.currentTimeMillis();
+    }
+
+    /**
+     * Check a connection before it is handed out again.
+     *
+     * @return
+     *         true if the connection can be used.
+     */
+    private boolean isUsable() {
+      if (System.currentTimeMillis() - lastUsed < VALIDATE_AFTER) {
+        return true;
+      }
+      try {
+        return conn.isValid(VALIDATE_TIMEOUT);
+      } catch (SQLException e) {
+        return false;
+      }
+    }
+
+    /**
+     * Close the cached statements and the connection, ignoring errors.
+     */
+    private void close() {
+      for (PreparedStatement pst : statements.values()) {
+        try {
+          pst.close();
+        } catch (SQLException e) {
+          // Closing anyway.
+        }
+      }
+      statements.clear();
+      try {
+        conn.close();
+      } catch (SQLException e) {
+        // Closing anyway.
+      }
+    }
+  }
+}
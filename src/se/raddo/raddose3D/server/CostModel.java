@@ -0,0 +1,483 @@
+package se.raddo.raddose3D.server;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+
+import se.raddo.raddose3D.Beam;
+import se.raddo.raddose3D.BeamFactory;
+import se.raddo.raddose3D.CoefCalcCompute;
+import se.raddo.raddose3D.Crystal;
+import se.raddo.raddose3D.CrystalFactory;
+import se.raddo.raddose3D.Initializer;
+import se.raddo.raddose3D.InputException;
+import se.raddo.raddose3D.InputParserString;
+import se.raddo.raddose3D.Wedge;
+
+/**
+ * The CostModel predicts the runtime and memory use of a job from the
+ * runtime and memory use of earlier jobs.
+ * <p>
+ * A job is described by a vector of features that can be read from its input
+ * without simulating it: the number of crystal voxels, the number of voxels
+ * times the number of angular slices of every wedge, the same split by
+ * photoelectron escape, fluorescence escape, cryo surrounding and pink beam,
+ * the number of runs of each kind of Monte Carlo subprogram and the number of
+ * simulated electrons. Runtime and memory are each fitted as a linear
+ * function of these features by least squares over the most recent
+ * observations. A small ridge term keeps the fit stable for features that
+ * rarely occur. Memory is not known for every job, observations without it
+ * only take part in the runtime fit.
+ */
+public final class CostModel {
+  /** Number of features describing a job. */
+  public static final int     FEATURES         = 11;
+
+  /** Number of observations kept for fitting. */
+  public static final int     HISTORY          = 2000;
+
+  /** Feature: constant 1, the fixed cost of a job. */
+  private static final int    CONSTANT         = 0;
+  /** Feature: voxels of all crystals. */
+  private static final int    VOXELS           = 1;
+  /** Feature: voxels times angular slices of all wedges. */
+  private static final int    VOXEL_SLICES     = 2;
+  /** Feature: voxel slices with photoelectron escape. */
+  private static final int    PE_ESCAPE        = 3;
+  /** Feature: voxel slices with fluorescence escape. */
+  private static final int    FL_ESCAPE        = 4;
+  /** Feature: voxel slices with a cryo surrounding. */
+  private static final int    CRYO             = 5;
+  /** Feature: voxel slices with a pink beam. */
+  private static final int    PINK_BEAM        = 6;
+  /** Feature: runs of the MONTECARLO and GOS subprograms. */
+  private static final int    MC_RUNS          = 7;
+  /** Feature: runs of the XFEL subprogram. */
+  private static final int    XFEL_RUNS        = 8;
+  /** Feature: runs of the EMSP and EMED subprograms. */
+  private static final int    EM_RUNS          = 9;
+  /** Feature: runs times simulated electrons of all subprograms. */
+  private static final int    HISTORIES        = 10;
+
+  /** Number of observations needed before predictions are made. */
+  private static final int    MIN_OBSERVATIONS = 2 * FEATURES;
+
+  /** Relative weight of the ridge term. */
+  private static final double RIDGE            = 1e-6;
+
+  /**
+   * Number of voxels assumed for crystals without dimensions, the voxel
+   * limit of the default crystal resolution.
+   */
+  private static final double DEFAULT_VOXELS   = 1e6;
+
+  /** Default crystal resolution in voxels per um. */
+  private static final double DEFAULT_RES      = 0.5;
+
+  /** Observations, each the features followed by seconds and bytes. */
+  private final Deque<double[]> observations  = new ArrayDeque<double[]>();
+
+  /** Fitted runtime coefficients, null if out of date. */
+  private double[]            secondsModel;
+
+  /** Fitted memory coefficients, null if out of date. */
+  private double[]            bytesModel;
+
+  /**
+   * Read the features of a job from its input. Nothing is simulated.
+   *
+   * @param input
+   *          input of the job
+   * @return
+   *         the features
+   * @throws InputException
+   *           the input is malformed
+   */
+  public static double[] getFeatures(final String input)
+      throws InputException {
+    FeatureRecorder recorder = new FeatureRecorder();
+    InputParserString parser = new InputParserString(input);
+    parser.setCrystalFactory(recorder.crystals);
+    parser.setBeamFactory(recorder.beams);
+    parser.sendData(recorder);
+    return recorder.features;
+  }
+
+  /**
+   * Record the cost of a finished job. Only the most recent HISTORY
+   * observations are kept.
+   *
+   * @param features
+   *          features of the job
+   * @param seconds
+   *          runtime of the job in seconds
+   * @param bytes
+   *          peak memory used by the job in bytes, or NaN if unknown
+   */
+  public synchronized void add(final double[] features, final double seconds,
+      final double bytes) {
+    if (features.length != FEATURES) {
+      throw new IllegalArgumentException("Expected " + FEATURES
+          + " features, got " + features.length);
+    }
+    double[] row = Arrays.copyOf(features, FEATURES + 2);
+    row[FEATURES] = seconds;
+    row[FEATURES + 1] = bytes;
+    observations.addFirst(row);
+    while (observations.size() > HISTORY) {
+      observations.removeLast();
+    }
+    secondsModel = null;
+    bytesModel = null;
+  }
+
+  /**
+   * Returns the number of observations the model is based on.
+   *
+   * @return
+   *         number of observations
+   */
+  public synchronized int size() {
+    return observations.size();
+  }
+
+  /**
+   * Predict the runtime of a job.
+   *
+   * @param features
+   *          features of the job
+   * @return
+   *         runtime in seconds, or null if there are too few observations
+   */
+  public synchronized Double predictSeconds(final double[] features) {
+    if (observations.size() < MIN_OBSERVATIONS) {
+      return null;
+    }
+    if (secondsModel == null) {
+      secondsModel = fit(FEATURES);
+    }
+    return predict(secondsModel, features);
+  }
+
+  /**
+   * Predict the memory use of a job.
+   *
+   * @param features
+   *          features of the job
+   * @return
+   *         peak memory in bytes, or null if there are too few observations
+   *         with known memory
+   */
+  public synchronized Double predictBytes(final double[] features) {
+    int known = 0;
+    for (double[] row : observations) {
+      if (!Double.isNaN(row[FEATURES + 1])) {
+        known++;
+      }
+    }
+    if (known < MIN_OBSERVATIONS) {
+      return null;
+    }
+    if (bytesModel == null) {
+      bytesModel = fit(FEATURES + 1);
+    }
+    return predict(bytesModel, features);
+  }
+
+  /**
+   * Evaluate a fitted model. Costs are never negative.
+   *
+   * @param model
+   *          fitted coefficients
+   * @param features
+   *          features of the job
+   * @return
+   *         predicted cost
+   */
+  private static double predict(final double[] model,
+      final double[] features) {
+    double cost = 0;
+    for (int i = 0; i < FEATURES; i++) {
+      cost += model[i] * features[i];
+    }
+    return Math.max(0, cost);
+  }
+
+  /**
+   * Fit one cost as a linear function of the features. Features are scaled
+   * to a common range before solving the normal equations, as voxel slices
+   * run into billions while run counts are small. Observations with an
+   * unknown cost are left out.
+   *
+   * @param target
+   *          column of the cost in the observations
+   * @return
+   *         coefficients of the features
+   */
+  private double[] fit(final int target) {
+    double[] scale = new double[FEATURES];
+    int n = 0;
+    for (double[] row : observations) {
+      if (Double.isNaN(row[target])) {
+        continue;
+      }
+      n++;
+      for (int i = 0; i < FEATURES; i++) {
+        scale[i] = Math.max(scale[i], Math.abs(row[i]));
+      }
+    }
+    for (int i = 0; i < FEATURES; i++) {
+      if (scale[i] == 0) {
+        scale[i] = 1;
+      }
+    }
+
+    double[][] a = new double[FEATURES][FEATURES];
+    double[] b = new double[FEATURES];
+    for (double[] row : observations) {
+      if (Double.isNaN(row[target])) {
+        continue;
+      }
+      for (int i = 0; i < FEATURES; i++) {
+        double xi = row[i] / scale[i];
+        b[i] += xi * row[target];
+        for (int j = 0; j < FEATURES; j++) {
+          a[i][j] += xi * row[j] / scale[j];
+        }
+      }
+    }
+    for (int i = 0; i < FEATURES; i++) {
+      a[i][i] += RIDGE * n;
+    }
+
+    double[] model = solve(a, b);
+    for (int i = 0; i < FEATURES; i++) {
+      model[i] /= scale[i];
+    }
+    return model;
+  }
+
+  /**
+   * Solve a system of linear equations by Gaussian elimination with partial
+   * pivoting. The arguments are overwritten.
+   *
+   * @param a
+   *          square, non-singular coefficient matrix
+   * @param b
+   *          right hand side
+   * @return
+   *         the solution
+   */
+  private static double[] solve(final double[][] a, final double[] b) {
+    int n = b.length;
+    for (int col = 0; col < n; col++) {
+      int pivot = col;
+      for (int row = col + 1; row < n; row++) {
+        if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+          pivot = row;
+        }
+      }
+      double[] t = a[col];
+      a[col] = a[pivot];
+      a[pivot] = t;
+      double tb = b[col];
+      b[col] = b[pivot];
+      b[pivot] = tb;
+
+      for (int row = col + 1; row < n; row++) {
+        double f = a[row][col] / a[col][col];
+        for (int k = col; k < n; k++) {
+          a[row][k] -= f * a[col][k];
+        }
+        b[row] -= f * b[col];
+      }
+    }
+    double[] x = new double[n];
+    for (int row = n - 1; row >= 0; row--) {
+      double s = b[row];
+      for (int k = row + 1; k < n; k++) {
+        s -= a[row][k] * x[k];
+      }
+      x[row] = s / a[row][row];
+    }
+    return x;
+  }
+
+  /**
+   * Estimate the number of voxels of a crystal from its dimensions and
+   * resolution, following the default resolution of {@link Crystal}.
+   *
+   * @param properties
+   *          crystal properties
+   * @return
+   *         number of voxels of the bounding box
+   */
+  static double estimateVoxels(final Map<Object, Object> properties) {
+    Object dimX = properties.get(Crystal.CRYSTAL_DIM_X);
+    if (!(dimX instanceof Number)) {
+      return DEFAULT_VOXELS;
+    }
+    double x = ((Number) dimX).doubleValue();
+    double y = x;
+    double z;
+    if (properties.get(Crystal.CRYSTAL_DIM_Y) instanceof Number) {
+      y = ((Number) properties.get(Crystal.CRYSTAL_DIM_Y)).doubleValue();
+    }
+    z = y;
+    if (properties.get(Crystal.CRYSTAL_DIM_Z) instanceof Number) {
+      z = ((Number) properties.get(Crystal.CRYSTAL_DIM_Z)).doubleValue();
+    }
+    double volume = x * y * z;
+
+    Object res = properties.get(Crystal.CRYSTAL_RESOLUTION);
+    if (res instanceof Number) {
+      double r = ((Number) res).doubleValue();
+      return volume * r * r * r;
+    }
+    return Math.min(volume * DEFAULT_RES * DEFAULT_RES * DEFAULT_RES,
+        DEFAULT_VOXELS);
+  }
+
+  /**
+   * Collects the features of a parsed experiment instead of simulating it.
+   */
+  private static class FeatureRecorder implements Initializer {
+    /** Features of the experiment so far. */
+    private final double[] features = new double[FEATURES];
+
+    /** Voxels of the current crystal. */
+    private double         voxels;
+    /** Subprogram of the current crystal. */
+    private String         program  = "RD3D";
+    /** Runs of the subprogram of the current crystal. */
+    private double         runs;
+    /** Simulated electrons per run of the current crystal. */
+    private double         electrons;
+    /** Photoelectron escape of the current crystal. */
+    private boolean        peEscape;
+    /** Fluorescence escape of the current crystal. */
+    private boolean        flEscape;
+    /** Cryo surrounding of the current crystal. */
+    private boolean        cryo;
+    /** Pink beam of the current beam. */
+    private boolean        pink;
+
+    /** Records crystals instead of creating them. */
+    private final CrystalFactory crystals = new CrystalFactory() {
+      @Override
+      public Crystal createCrystal(final String crystalName,
+          final Map<Object, Object> properties) {
+        voxels = estimateVoxels(properties);
+        features[VOXELS] += voxels;
+        Object p = properties.get(Crystal.CRYSTAL_PROGRAM);
+        program = "RD3D";
+        if (p != null) {
+          program = p.toString().trim().toUpperCase();
+        }
+        runs = 1;
+        if (properties.get(Crystal.CRYSTAL_RUNS) instanceof Number) {
+          runs = ((Number) properties.get(Crystal.CRYSTAL_RUNS))
+              .doubleValue();
+        }
+        peEscape = isTrue(properties.get(Crystal.CRYSTAL_ELECTRON_ESCAPE));
+        flEscape = isTrue(properties.get(
+            Crystal.CRYSTAL_FLUORESCENT_ESCAPE));
+        Object coefCalc = properties.get(Crystal.CRYSTAL_COEFCALC);
+        cryo = false;
+        electrons = 0;
+        if (coefCalc instanceof CoefCalcCompute) {
+          cryo = ((CoefCalcCompute) coefCalc).isCryo();
+          electrons = ((CoefCalcCompute) coefCalc)
+              .getNumberSimulatedElectrons();
+        }
+        return null;
+      }
+    };
+
+    /** Records beams instead of creating them. */
+    private final BeamFactory    beams    = new BeamFactory() {
+      @Override
+      public Beam createBeam(final String beamName,
+          final Map<Object, Object> properties) {
+        pink = properties.get(Beam.ENERGY_FWHM) != null;
+        return null;
+      }
+    };
+
+    /**
+     * Start with the fixed cost of a job.
+     */
+    FeatureRecorder() {
+      features[CONSTANT] = 1;
+    }
+
+    /**
+     * @param value
+     *          property value
+     * @return
+     *         true if the value is the string TRUE, in any case
+     */
+    private static boolean isTrue(final Object value) {
+      return value != null && "TRUE".equalsIgnoreCase(value.toString());
+    }
+
+    @Override
+    public void setCrystal(final Crystal c) {
+      // recorded by the crystal factory
+    }
+
+    @Override
+    public void setBeam(final Beam b) {
+      // recorded by the beam factory
+    }
+
+    @Override
+    public void exposeWedge(final Wedge w) {
+      if (w == null) {
+        return;
+      }
+      double subprogramRuns = runs;
+      if ("XFEL".equals(program)) {
+        features[XFEL_RUNS] += subprogramRuns;
+      } else if ("EMSP".equals(program) || "EMED".equals(program)) {
+        subprogramRuns = 1;
+        features[EM_RUNS] += subprogramRuns;
+      } else if ("MONTECARLO".equals(program) || "GOS".equals(program)) {
+        features[MC_RUNS] += subprogramRuns;
+      } else {
+        double slices = Crystal.STATICEXPOSURE;
+        if (Math.abs(w.getEndAng() - w.getStartAng()) >= w.getAngRes()) {
+          slices = Math.abs(w.getEndAng() - w.getStartAng())
+              / w.getAngRes() + 1;
+        }
+        double voxelSlices = voxels * slices;
+        features[VOXEL_SLICES] += voxelSlices;
+        if (peEscape) {
+          features[PE_ESCAPE] += voxelSlices;
+        }
+        if (flEscape) {
+          features[FL_ESCAPE] += voxelSlices;
+        }
+        if (cryo) {
+          features[CRYO] += voxelSlices;
+        }
+        if (pink) {
+          features[PINK_BEAM] += voxelSlices;
+        }
+        return;
+      }
+      features[HISTORIES] += subprogramRuns * electrons;
+    }
+
+    @Override
+    public void raiseWarning(final String warning) {
+      // warnings are repeated when the job is run
+    }
+
+    @Override
+    public void addReference(final String reference) {
+      // references are repeated when the job is run
+    }
+  }
+}
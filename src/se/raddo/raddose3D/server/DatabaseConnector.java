@@ -1,47 +1,115 @@
 package se.raddo.raddose3D.server;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import se.raddo.raddose3D.server.ConnectionPool.PooledConnection;
 
 /**
  * Provides high level functions for access to a database to store, organize,
  * queue and retrieve RADDOSE-3D jobs.
+ * <p>
+ * Calls take a connection from a small pool for their duration, so that
+ * several workers can store results at the same time. Statements are
+ * prepared once per pooled connection and reused.
+ * <p>
+ * Text output is stored as a row in the output table, which names the file
+ * and its type, and the content in numbered chunks in the table
+ * outputchunks (JobID, Name, Chunk, Compressed, Content) with the primary
+ * key (JobID, Name, Chunk). Compressed is 'Y' for chunks stored deflated,
+ * 'N' otherwise.
+ * <p>
+ * The cost of every simulated job is kept in the table costhistory (JobID,
+ * Version, Features, realtime, memory) with the primary key JobID. Features
+ * holds the comma separated job features of the {@link CostModel}.
  */
 public class DatabaseConnector {
   /**
    * Constants for declaring SQL statement parameters.
    */
-  private static final int SQL_1          = 1, SQL_2 = 2, SQL_3 = 3,
-                                          SQL_4 = 4, SQL_5 = 5, SQL_6 = 6;
-
-  /**
-   * Lock to ensure only one thread can access a single connection. More
-   * flexible than 'synchronized'.
-   */
-  private final Lock       lock           = new ReentrantLock();
-  /** Connection handler. */
-  private Connection       conn;
+  private static final int    SQL_1          = 1, SQL_2 = 2, SQL_3 = 3,
+                                             SQL_4 = 4, SQL_5 = 5, SQL_6 = 6;
 
   /** Milliseconds to wait when trying to reconnect to the database. */
-  private static final int RECONNECT_WAIT = 30000;
+  private static final int    RECONNECT_WAIT = 30000;
+
+  /** SQL statements. Cached per connection by their text. */
+  private static final String SELECT_HIGHEST_PRIORITY =
+      "SELECT MAX(Queue) FROM queue WHERE Status = 'Queued'",
+      SELECT_JOB_WITH_PRIORITY = "SELECT JobID, "
+          + "(RuntimeEst + Penalty - "
+          + "(UNIX_TIMESTAMP() - UNIX_TIMESTAMP(Age))) AS Priority "
+          + "FROM queue "
+          + "WHERE Status = 'Queued' AND Queue >= ? "
+          + "ORDER BY Priority ASC LIMIT 1",
+      SELECT_QUEUED_JOBS = "SELECT JobID, Queue, "
+          + "(RuntimeEst + Penalty - "
+          + "(UNIX_TIMESTAMP() - UNIX_TIMESTAMP(Age))) AS Priority, "
+          + "RuntimeEst "
+          + "FROM queue "
+          + "WHERE Status = 'Queued' "
+          + "ORDER BY Priority ASC LIMIT ?",
+      UPDATE_RUNTIME_ESTIMATE = "UPDATE queue SET RuntimeEst = ? "
+          + "WHERE Status = 'Queued' AND JobID = ?",
+      UPDATE_QUEUE_RUNNING = "UPDATE queue "
+          + "SET Status = 'Running' "
+          + "WHERE Status = 'Queued' AND JobID = ?",
+      UPDATE_JOB_STARTED = "UPDATE jobs "
+          + "SET TimeStarted = NOW() "
+          + "WHERE ID = ?",
+      SELECT_JOB = "SELECT Commands FROM jobs WHERE ID = ?",
+      REPLACE_OUTPUT = "REPLACE INTO output (JobID, Name, Type, Content) "
+          + "VALUES (?, ?, ?, ?)",
+      DELETE_OUTPUT_CHUNKS = "DELETE FROM outputchunks "
+          + "WHERE JobID = ? AND Name = ?",
+      DELETE_OUTPUT_CHUNKS_FROM = "DELETE FROM outputchunks "
+          + "WHERE JobID = ? AND Name = ? AND Chunk >= ?",
+      INSERT_OUTPUT_CHUNK = "INSERT INTO outputchunks "
+          + "(JobID, Name, Chunk, Compressed, Content) "
+          + "VALUES (?, ?, ?, ?, ?)",
+      SELECT_OUTPUT_CHUNK = "SELECT Compressed, Content FROM outputchunks "
+          + "WHERE JobID = ? AND Name = ? AND Chunk = ?",
+      UPDATE_JOB_FINISHED = "UPDATE jobs "
+          + "SET Finished = 'Y', Version = ?, TimeCompleted = NOW() "
+          + "WHERE ID = ?",
+      DELETE_QUEUE = "DELETE FROM queue WHERE JobID = ?",
+      SELECT_VERSION = "SELECT ID FROM versions WHERE Version = ?",
+      INSERT_VERSION = "INSERT INTO versions "
+          + "(jar, Version, Compilation) "
+          + "VALUES (NULL, ?, NOW())",
+      REPLACE_TIMING = "REPLACE INTO runtimeestimate "
+          + "(JobID, Version, X1, X2, realtime, usertime) "
+          + "VALUES (?, ?, ?, ?, ?, ?)",
+      REPLACE_COST = "REPLACE INTO costhistory "
+          + "(JobID, Version, Features, realtime, memory) "
+          + "VALUES (?, ?, ?, ?, ?)",
+      SELECT_COST_HISTORY = "SELECT Features, realtime, memory "
+          + "FROM costhistory ORDER BY JobID DESC LIMIT ?",
+      REPLACE_CRASH = "REPLACE INTO crashes (JobID, StackTrace) "
+          + "VALUES (?, ?)";
 
-  /** Connection credentials. */
-  private String           connUser;
-  /** Connection credentials. */
-  private String           connPass;
+  /** Database connections. Null until connected. */
+  private volatile ConnectionPool pool;
 
   /**
    * Version ID of currently running RADDOSE-3D instance. Use via
    * getVersionNumber()-getter.
    */
-  private Long             version;
+  private volatile Long       version;
 
   /** Types for BLOB output. */
   public enum OutputType {
@@ -64,12 +132,100 @@ public class DatabaseConnector {
     R
   }
 
-  /** Lightweight MySQL Connector/J ping. */
-  private static final String PING_MARKER = "/* ping */";
+  /** A job waiting in the database queue. */
+  public static final class QueuedJob {
+    /** Unique job identifier. */
+    private final Long    jobID;
+
+    /** Queue level of the job. Higher levels may use more workers. */
+    private final Integer queue;
+
+    /** Scheduling priority of the job. Lower values run first. */
+    private final Long    priority;
+
+    /** Runtime estimate in seconds, which is part of the priority. */
+    private final Long    runtimeEstimate;
+
+    /**
+     * Describe a queued job.
+     *
+     * @param jobID
+     *          unique job identifier
+     * @param queue
+     *          queue level
+     * @param priority
+     *          scheduling priority, lower values run first
+     * @param runtimeEstimate
+     *          runtime estimate in seconds included in the priority
+     */
+    public QueuedJob(final Long jobID, final Integer queue,
+        final Long priority, final Long runtimeEstimate) {
+      this.jobID = jobID;
+      this.queue = queue;
+      this.priority = priority;
+      this.runtimeEstimate = runtimeEstimate;
+    }
+
+    /**
+     * Returns this job with a different runtime estimate, which replaces
+     * the old estimate in the priority.
+     *
+     * @param seconds
+     *          new runtime estimate in seconds
+     * @return
+     *         the job with the new estimate
+     */
+    public QueuedJob withRuntimeEstimate(final Long seconds) {
+      return new QueuedJob(jobID, queue, priority - runtimeEstimate + seconds,
+          seconds);
+    }
+
+    /**
+     * Returns the unique job identifier.
+     *
+     * @return
+     *         job identifier
+     */
+    public Long getJobID() {
+      return jobID;
+    }
+
+    /**
+     * Returns the queue level of the job.
+     *
+     * @return
+     *         queue level
+     */
+    public Integer getQueue() {
+      return queue;
+    }
+
+    /**
+     * Returns the scheduling priority at the time the job was read. All
+     * queued jobs age at the same rate, so their order does not change.
+     *
+     * @return
+     *         priority, lower values run first
+     */
+    public Long getPriority() {
+      return priority;
+    }
+
+    /**
+     * Returns the runtime estimate included in the priority.
+     *
+     * @return
+     *         runtime estimate in seconds
+     */
+    public Long getRuntimeEstimate() {
+      return runtimeEstimate;
+    }
+  }
 
   /**
-   * Connect to MySQL database via Connector/J.
-   * 
+   * Connect to MySQL database via Connector/J. The pool holds one connection
+   * per processor plus one for the server's main loop.
+   *
    * @param username
    *          Username for MySQL connection.
    * @param password
@@ -79,146 +235,156 @@ public class DatabaseConnector {
    */
   public void connect(final String username, final String password)
       throws SQLException {
-    if (conn == null) {
-      lock.lock();
+    try {
+      // The newInstance() call is a work around for some
+      // broken Java implementations
+      Class.forName("com.mysql.jdbc.Driver").newInstance();
+    } catch (final ClassNotFoundException e) {
+      throw new SQLException(
+          "Probable cause of error: MySQL Connector/J not found", e);
+    } catch (final InstantiationException e) {
+      throw new SQLException(
+          "Probable cause of error: MySQL Connector/J may not be the "
+              + "correct version for the local architecture.", e);
+    } catch (final IllegalAccessException e) {
+      throw new SQLException(
+          "Probable cause of error: MySQL database name or "
+              + "credentials incorrect.", e);
+    }
 
-      try {
-        // The newInstance() call is a work around for some
-        // broken Java implementations
-        Class.forName("com.mysql.jdbc.Driver").newInstance();
-        connUser = username;
-        connPass = password;
-        reconnect();
-      } catch (final ClassNotFoundException e) {
-        throw new SQLException(
-            "Probable cause of error: MySQL Connector/J not found", e);
-      } catch (final InstantiationException e) {
-        throw new SQLException(
-            "Probable cause of error: MySQL Connector/J may not be the "
-                + "correct version for the local architecture.", e);
-      } catch (final IllegalAccessException e) {
-        throw new SQLException(
-            "Probable cause of error: MySQL database name or "
-                + "credentials incorrect.", e);
-      } finally {
-        lock.unlock();
+    // Let Connector/J send batches of inserts as single statements.
+    final String url = "jdbc:mysql://localhost/raddose?"
+        + "user=" + username + "&password=" + password
+        + "&rewriteBatchedStatements=true";
+    connect(new ConnectionFactory() {
+      @Override
+      public Connection createConnection() throws SQLException {
+        try {
+          return DriverManager.getConnection(url);
+        } catch (SQLException s) {
+          // Catch one exception, try backing off 30 seconds
+          System.out.println("SQL connection failed. Trying to reconnect...");
+          try {
+            Thread.sleep(RECONNECT_WAIT);
+          } catch (InterruptedException i) {
+            // ignore
+          }
+          return DriverManager.getConnection(url);
+        }
       }
-    }
+    }, Runtime.getRuntime().availableProcessors() + 1);
   }
 
   /**
-   * Reconnect an already connected session.
-   * 
+   * Connect to a database through the given connections. The first connection
+   * is opened immediately to verify that the database can be reached.
+   *
+   * @param factory
+   *          Opens connections to the database.
+   * @param poolSize
+   *          Maximum number of connections used at the same time.
    * @throws SQLException
-   *           Could not reconnect. MySQL database name or credentials may be
-   *           incorrect.
+   *           The database could not be reached.
    */
-  private void reconnect() throws SQLException {
-    lock.lock();
+  public void connect(final ConnectionFactory factory, final int poolSize)
+      throws SQLException {
+    if (pool != null) {
+      return;
+    }
+    ConnectionPool newPool = new ConnectionPool(factory, poolSize);
+    newPool.release(newPool.acquire());
+    pool = newPool;
+  }
 
-    if (conn != null) {
-      try {
-        conn.close();
-      } catch (SQLException e) {
-        // Report the exception, but essentially ignore it.
-        reportSQLException(e);
-      }
-      conn = null;
+  /**
+   * Close all database connections that are not in use.
+   */
+  public void close() {
+    if (pool != null) {
+      pool.close();
     }
+  }
 
-    try {
-      conn = DriverManager.getConnection("jdbc:mysql://localhost/raddose?"
-          + "user=" + connUser + "&password=" + connPass);
-    } catch (SQLException s) {
-      // Catch one exception, try backing off 30 seconds
-      try {
-        Thread.sleep(RECONNECT_WAIT);
-      } catch (InterruptedException i) {
-        // ignore
-      }
-      conn = DriverManager.getConnection("jdbc:mysql://localhost/raddose?"
-          + "user=" + connUser + "&password=" + connPass);
+  /**
+   * Take a connection from the pool.
+   *
+   * @return
+   *         pooled connection, to be handed back with release().
+   * @throws SQLException
+   *           No connection could be opened.
+   */
+  private PooledConnection acquire() throws SQLException {
+    if (pool == null) {
+      throw new IllegalStateException("Connection not present!");
     }
-    lock.unlock();
+    return pool.acquire();
+  }
 
-    if (conn == null) {
-      throw new SQLException();
+  /**
+   * Hand a connection back to the pool.
+   *
+   * @param pc
+   *          pooled connection, or null if none was obtained.
+   */
+  private void release(final PooledConnection pc) {
+    if (pc != null) {
+      pool.release(pc);
     }
   }
 
   /**
-   * Verify database connection. Try reestablishing database connection if it
-   * failed.
+   * Report a failed statement. The connection is replaced before it is used
+   * again, as it may have been lost.
+   *
+   * @param pc
+   *          pooled connection, or null if none was obtained.
+   * @param e
+   *          SQLException to be reported.
    */
-  private void ensureConnectionPresent() {
-    lock.lock();
-    if (conn == null) {
-      throw new IllegalStateException("Connection not present!");
+  private void failed(final PooledConnection pc, final SQLException e) {
+    if (pc != null) {
+      pc.markBroken();
     }
+    reportSQLException(e);
+  }
 
-    Statement st = null;
+  /**
+   * Close a result set. Its statement is kept for reuse.
+   *
+   * @param rs
+   *          result set, or null.
+   */
+  private void close(final ResultSet rs) {
     try {
-      st = conn.createStatement();
-      st.execute(PING_MARKER + " SELECT 1");
-      return;
-    } catch (SQLException ex) {
-      System.out.println("SQL connection lost. Trying to reconnect...");
-      try {
-        reconnect();
-        System.out.println("Reconnect may have succeded.");
-      } catch (SQLException exint) {
-        System.out.println("Reconnecting failed.");
-        reportSQLException(exint);
-      }
-    } finally {
-      try {
-        if (st != null) {
-          st.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
+      if (rs != null) {
+        rs.close();
       }
-      lock.unlock();
+    } catch (SQLException ex) {
+      reportSQLException(ex);
     }
   }
 
   /**
    * Returns the highest priority of all jobs queued in the database.
-   * 
+   *
    * @return
    *         job priority, or 0 if the job queue is empty.
    */
   public Integer getHighestPriority() {
-    lock.lock();
-    ensureConnectionPresent();
-    Statement st = null;
+    PooledConnection pc = null;
     ResultSet rs = null;
 
     try {
-      st = conn.createStatement();
-      rs = st
-          .executeQuery("SELECT MAX(Queue) FROM queue WHERE Status = 'Queued'");
+      pc = acquire();
+      rs = pc.prepare(SELECT_HIGHEST_PRIORITY).executeQuery();
       if (rs.next()) {
         return rs.getInt(SQL_1);
       }
     } catch (SQLException ex) {
-      reportSQLException(ex);
+      failed(pc, ex);
     } finally {
-      try {
-        if (rs != null) {
-          rs.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-      try {
-        if (st != null) {
-          st.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-      lock.unlock();
+      close(rs);
+      release(pc);
     }
     return 0;
   }
@@ -226,7 +392,7 @@ public class DatabaseConnector {
   /**
    * Central function for reporting SQL errors.
    * Currently only writes SQL exceptions to STDERR.
-   * 
+   *
    * @param e
    *          SQLException to be reported.
    */
@@ -241,56 +407,93 @@ public class DatabaseConnector {
 
   /**
    * Find the next available job with a given minimum priority.
-   * 
+   *
    * @param priority
    *          Minimum priority of job to be returned.
    * @return
    *         ID of a job with priority >= $priority.
    */
   public Long getJobIDWithPriorityGreaterOrEqual(final Integer priority) {
-    lock.lock();
-    ensureConnectionPresent();
-
-    PreparedStatement pst = null;
+    PooledConnection pc = null;
     ResultSet rs = null;
 
     try {
-      pst = conn.prepareStatement("SELECT JobID, "
-          + "(RuntimeEst + Penalty - "
-          + "(UNIX_TIMESTAMP() - UNIX_TIMESTAMP(Age))) AS Priority "
-          + "FROM queue "
-          + "WHERE Status = 'Queued' AND Queue >= ? "
-          + "ORDER BY Priority ASC LIMIT 1");
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(SELECT_JOB_WITH_PRIORITY);
       pst.setInt(SQL_1, priority);
       rs = pst.executeQuery();
       if (rs.next()) {
         return rs.getLong(SQL_1);
       }
     } catch (SQLException ex) {
-      reportSQLException(ex);
+      failed(pc, ex);
     } finally {
-      try {
-        if (rs != null) {
-          rs.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-      try {
-        if (pst != null) {
-          pst.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-      lock.unlock();
+      close(rs);
+      release(pc);
     }
     return null;
   }
 
+  /**
+   * Retrieve a batch of queued jobs in order of priority, so that a scheduler
+   * can dispatch several jobs without querying the database for each.
+   *
+   * @param limit
+   *          Maximum number of jobs to be returned.
+   * @return
+   *         queued jobs, highest priority first. Empty if the queue is empty
+   *         or the database could not be read.
+   */
+  public List<QueuedJob> getQueuedJobs(final Integer limit) {
+    List<QueuedJob> jobs = new ArrayList<QueuedJob>();
+    PooledConnection pc = null;
+    ResultSet rs = null;
+
+    try {
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(SELECT_QUEUED_JOBS);
+      pst.setInt(SQL_1, limit);
+      rs = pst.executeQuery();
+      while (rs.next()) {
+        jobs.add(new QueuedJob(rs.getLong(SQL_1), rs.getInt(SQL_2),
+            rs.getLong(SQL_3), rs.getLong(SQL_4)));
+      }
+    } catch (SQLException ex) {
+      failed(pc, ex);
+    } finally {
+      close(rs);
+      release(pc);
+    }
+    return jobs;
+  }
+
+  /**
+   * Replace the runtime estimate of a queued job, which moves the job in the
+   * queue and is shown to the user.
+   *
+   * @param jobID
+   *          Unique job identifier.
+   * @param seconds
+   *          Runtime estimate in seconds.
+   */
+  public void updateRuntimeEstimate(final Long jobID, final Long seconds) {
+    PooledConnection pc = null;
+    try {
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(UPDATE_RUNTIME_ESTIMATE);
+      pst.setLong(SQL_1, seconds);
+      pst.setLong(SQL_2, jobID);
+      pst.executeUpdate(); // the job may have started in the meantime
+    } catch (SQLException ex) {
+      failed(pc, ex);
+    } finally {
+      release(pc);
+    }
+  }
+
   /**
    * Obtain an exclusive lock on a job stored in the database.
-   * 
+   *
    * @param jobid
    *          Unique job identifier.
    * @return
@@ -298,57 +501,31 @@ public class DatabaseConnector {
    *         FALSE if the lock failed (eg. job already locked).
    */
   public Boolean lockQueueJob(final Long jobid) {
-    lock.lock();
-    ensureConnectionPresent();
-
-    PreparedStatement pst = null;
+    PooledConnection pc = null;
     Boolean success = false;
 
     try {
-      pst = conn.prepareStatement("UPDATE queue "
-          + "SET Status = 'Running' "
-          + "WHERE Status = 'Queued' AND JobID = ?");
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(UPDATE_QUEUE_RUNNING);
       pst.setLong(SQL_1, jobid);
       int changedRows = pst.executeUpdate();
       success = (changedRows == 1);
-    } catch (SQLException ex) {
-      reportSQLException(ex);
-    } finally {
-      try {
-        if (pst != null) {
-          pst.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-    }
 
-    try {
-      pst = conn.prepareStatement("UPDATE jobs "
-          + "SET TimeStarted = NOW() "
-          + "WHERE ID = ?");
+      pst = pc.prepare(UPDATE_JOB_STARTED);
       pst.setLong(SQL_1, jobid);
       pst.executeUpdate(); // ignore outcome
     } catch (SQLException ex) {
-      reportSQLException(ex);
+      failed(pc, ex);
     } finally {
-      try {
-        if (pst != null) {
-          pst.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
+      release(pc);
     }
 
-    lock.unlock();
-
     return success;
   }
 
   /**
    * Retrieve the input file for a single job from the database.
-   * 
+   *
    * @param id
    *          job identifier
    * @return
@@ -356,44 +533,28 @@ public class DatabaseConnector {
    *         does not exist in the database.
    */
   public String getJob(final Long id) {
-    lock.lock();
-
-    ensureConnectionPresent();
-
-    PreparedStatement pst = null;
+    PooledConnection pc = null;
     ResultSet rs = null;
     try {
-      pst = conn.prepareStatement("SELECT Commands FROM jobs WHERE ID = ?");
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(SELECT_JOB);
       pst.setLong(SQL_1, id);
       rs = pst.executeQuery();
       if (rs.next()) {
         return rs.getString(SQL_1);
       }
     } catch (SQLException ex) {
-      reportSQLException(ex);
+      failed(pc, ex);
     } finally {
-      try {
-        if (rs != null) {
-          rs.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-      try {
-        if (pst != null) {
-          pst.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-      lock.unlock();
+      close(rs);
+      release(pc);
     }
     return null;
   }
 
   /**
    * Create a virtual file in the database from a binary stream.
-   * 
+   *
    * @param jobID
    *          The job number that this file is associated with.
    * @param fileName
@@ -409,36 +570,26 @@ public class DatabaseConnector {
   public void writeBLOB(final Long jobID, final String fileName,
       final FileInputStream blob, final Long blobLength, final OutputType type)
   {
-    lock.lock();
-    ensureConnectionPresent();
-
-    PreparedStatement pst = null;
+    PooledConnection pc = null;
     try {
-      pst = conn
-          .prepareStatement("REPLACE INTO output (JobID, Name, Type, Content) "
-              + "VALUES (?, ?, ?, ?)");
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(REPLACE_OUTPUT);
       pst.setLong(SQL_1, jobID);
       pst.setString(SQL_2, fileName);
       pst.setString(SQL_3, typeEnumToString(type));
       pst.setBinaryStream(SQL_4, blob, blobLength);
       pst.executeUpdate();
     } catch (SQLException ex) {
-      reportSQLException(ex);
+      failed(pc, ex);
     } finally {
-      try {
-        if (pst != null) {
-          pst.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-      lock.unlock();
+      release(pc);
     }
   }
 
   /**
-   * Create a virtual file in the database from a string.
-   * 
+   * Create a virtual file in the database from a string. Chunks stored for a
+   * previous file of the same name are removed.
+   *
    * @param jobID
    *          The job number that this file is associated with.
    * @param fileName
@@ -451,163 +602,267 @@ public class DatabaseConnector {
    */
   public void writeOutputFile(final Long jobID, final String fileName,
       final String fileContent, final OutputType type) {
-    lock.lock();
-    ensureConnectionPresent();
-
-    PreparedStatement pst = null;
+    PooledConnection pc = null;
     try {
-      pst = conn
-          .prepareStatement("REPLACE INTO output (JobID, Name, Type, Content) "
-              + "VALUES (?, ?, ?, ?)");
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(REPLACE_OUTPUT);
       pst.setLong(SQL_1, jobID);
       pst.setString(SQL_2, fileName);
       pst.setString(SQL_3, typeEnumToString(type));
       pst.setString(SQL_4, fileContent);
       pst.executeUpdate();
+
+      pst = pc.prepare(DELETE_OUTPUT_CHUNKS);
+      pst.setLong(SQL_1, jobID);
+      pst.setString(SQL_2, fileName);
+      pst.executeUpdate();
     } catch (SQLException ex) {
-      reportSQLException(ex);
+      failed(pc, ex);
     } finally {
-      try {
-        if (pst != null) {
-          pst.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
+      release(pc);
+    }
+  }
+
+  /**
+   * Store consecutive chunks of a virtual file in a single batch. Each chunk
+   * is one row, so storing a file takes time linear in its size.
+   *
+   * @param jobID
+   *          Number of the job the file belongs to.
+   * @param fileName
+   *          Name of the file, created with writeOutputFile().
+   * @param firstChunk
+   *          Number of the first chunk in the list. Chunks are numbered from 0.
+   * @param chunks
+   *          Content of the chunks.
+   * @param compress
+   *          Whether to store the chunks deflated.
+   * @return
+   *         True on success, false if the chunks could not be stored.
+   */
+  public Boolean writeOutputChunks(final Long jobID, final String fileName,
+      final int firstChunk, final List<byte[]> chunks, final boolean compress) {
+    PooledConnection pc = null;
+    try {
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(INSERT_OUTPUT_CHUNK);
+      int chunk = firstChunk;
+      for (byte[] content : chunks) {
+        pst.setLong(SQL_1, jobID);
+        pst.setString(SQL_2, fileName);
+        pst.setInt(SQL_3, chunk++);
+        pst.setString(SQL_4, compress ? "Y" : "N");
+        pst.setBytes(SQL_5, compress ? deflate(content) : content);
+        pst.addBatch();
       }
-      lock.unlock();
+      pst.executeBatch();
+      return true;
+    } catch (SQLException ex) {
+      failed(pc, ex);
+    } finally {
+      release(pc);
     }
+    return false;
   }
 
   /**
-   * Append a String to a file of a particular job, stored in the database.
-   * This can be used to work around database query length limitations.
-   * 
+   * Remove the chunks of a virtual file from a given chunk onwards, eg. the
+   * rows of a batch that failed part way through.
+   *
    * @param jobID
    *          Number of the job the file belongs to.
    * @param fileName
    *          Name of the file.
-   * @param stringToAppend
-   *          String to be appended.
+   * @param firstChunk
+   *          Number of the first chunk to remove.
+   * @return
+   *         True on success, false if the chunks could not be removed.
    */
-  public void appendOutputFile(final Long jobID, final String fileName,
-      final String stringToAppend) {
-    lock.lock();
-    ensureConnectionPresent();
-
-    PreparedStatement pst = null;
+  public Boolean deleteOutputChunks(final Long jobID, final String fileName,
+      final int firstChunk) {
+    PooledConnection pc = null;
     try {
-      pst = conn
-          .prepareStatement("UPDATE output SET Content = CONCAT(Content, ?) "
-              + "WHERE JobID = ? AND Name = ?");
-      pst.setString(SQL_1, stringToAppend);
-      pst.setLong(SQL_2, jobID);
-      pst.setString(SQL_3, fileName);
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(DELETE_OUTPUT_CHUNKS_FROM);
+      pst.setLong(SQL_1, jobID);
+      pst.setString(SQL_2, fileName);
+      pst.setInt(SQL_3, firstChunk);
       pst.executeUpdate();
+      return true;
     } catch (SQLException ex) {
-      reportSQLException(ex);
+      failed(pc, ex);
     } finally {
-      try {
-        if (pst != null) {
-          pst.close();
+      release(pc);
+    }
+    return false;
+  }
+
+  /**
+   * Retrieve one chunk of a virtual file.
+   *
+   * @param jobID
+   *          Number of the job the file belongs to.
+   * @param fileName
+   *          Name of the file.
+   * @param chunk
+   *          Number of the chunk, starting at 0.
+   * @return
+   *         Content of the chunk, or null if the file has no such chunk.
+   * @throws IOException
+   *           The database could not be read, or the chunk is corrupt.
+   */
+  public byte[] readOutputChunk(final Long jobID, final String fileName,
+      final int chunk) throws IOException {
+    PooledConnection pc = null;
+    ResultSet rs = null;
+    try {
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(SELECT_OUTPUT_CHUNK);
+      pst.setLong(SQL_1, jobID);
+      pst.setString(SQL_2, fileName);
+      pst.setInt(SQL_3, chunk);
+      rs = pst.executeQuery();
+      if (!rs.next()) {
+        return null;
+      }
+      byte[] content = rs.getBytes(SQL_2);
+      if ("Y".equals(rs.getString(SQL_1))) {
+        content = inflate(content);
+      }
+      return content;
+    } catch (SQLException ex) {
+      failed(pc, ex);
+      throw new IOException("Could not read chunk " + chunk + " of "
+          + fileName, ex);
+    } finally {
+      close(rs);
+      release(pc);
+    }
+  }
+
+  /**
+   * Open a virtual file stored in chunks for reading. Chunks are fetched one
+   * at a time as the stream is read.
+   *
+   * @param jobID
+   *          Number of the job the file belongs to.
+   * @param fileName
+   *          Name of the file.
+   * @return
+   *         Stream of the file content.
+   */
+  public InputStream openOutputFile(final Long jobID, final String fileName) {
+    return new OutputChunkInputStream(this, jobID, fileName);
+  }
+
+  /**
+   * Deflate a chunk.
+   *
+   * @param content
+   *          Uncompressed content.
+   * @return
+   *         Compressed content.
+   */
+  private static byte[] deflate(final byte[] content) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    deflater.setInput(content);
+    deflater.finish();
+    ByteArrayOutputStream out =
+        new ByteArrayOutputStream(content.length / 4 + 64);
+    byte[] buf = new byte[65536];
+    while (!deflater.finished()) {
+      out.write(buf, 0, deflater.deflate(buf));
+    }
+    deflater.end();
+    return out.toByteArray();
+  }
+
+  /**
+   * Inflate a chunk.
+   *
+   * @param content
+   *          Compressed content.
+   * @return
+   *         Uncompressed content.
+   * @throws IOException
+   *           The content is not valid deflated data.
+   */
+  private static byte[] inflate(final byte[] content) throws IOException {
+    Inflater inflater = new Inflater();
+    inflater.setInput(content);
+    ByteArrayOutputStream out =
+        new ByteArrayOutputStream(content.length * 4 + 64);
+    byte[] buf = new byte[65536];
+    try {
+      while (!inflater.finished()) {
+        int n = inflater.inflate(buf);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IOException("Truncated output chunk");
         }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
+        out.write(buf, 0, n);
       }
-      lock.unlock();
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt output chunk", e);
+    } finally {
+      inflater.end();
     }
+    return out.toByteArray();
   }
 
   /**
    * Declare the job finished and remove it from the job queue.
-   * 
+   *
    * @param jobID
    *          The unique job identifier.
    */
   public void finalizeJob(final Long jobID) {
-    lock.lock();
-    ensureConnectionPresent();
-
-    PreparedStatement pst = null;
+    Long versionNumber = getVersionNumber();
+    PooledConnection pc = null;
     try {
-      pst = conn
-          .prepareStatement("UPDATE jobs "
-              + "SET Finished = 'Y', Version = ?, TimeCompleted = NOW() "
-              + "WHERE ID = ?");
-      pst.setLong(SQL_1, getVersionNumber());
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(UPDATE_JOB_FINISHED);
+      pst.setLong(SQL_1, versionNumber);
       pst.setLong(SQL_2, jobID);
       pst.executeUpdate();
-    } catch (SQLException ex) {
-      reportSQLException(ex);
-    } finally {
-      try {
-        if (pst != null) {
-          pst.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-    }
 
-    try {
-      pst = conn.prepareStatement("DELETE FROM queue WHERE JobID = ?");
+      pst = pc.prepare(DELETE_QUEUE);
       pst.setLong(SQL_1, jobID);
       pst.executeUpdate();
     } catch (SQLException ex) {
-      reportSQLException(ex);
+      failed(pc, ex);
     } finally {
-      try {
-        if (pst != null) {
-          pst.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
+      release(pc);
     }
-
-    lock.unlock();
   }
 
   /**
    * Retrieve the database internal representation (an integer number) of a
    * given RADDOSE3D instance version string.
-   * 
+   *
+   * @param pc
+   *          Pooled connection to use.
    * @param versionString
    *          A string containing a RADDOSE3D version (e.g. "1.1.1000").
    * @return
    *         A number representing the version of the given RADDOSE3D instance
    *         string or null if the version string has not been defined in the
    *         database.
+   * @throws SQLException
+   *           The database could not be read.
    */
-  private Long selectVersionNumber(final String versionString) {
-    PreparedStatement pst = null;
+  private Long selectVersionNumber(final PooledConnection pc,
+      final String versionString) throws SQLException {
     ResultSet rs = null;
-
     try {
-      pst = conn.prepareStatement("SELECT ID FROM versions WHERE Version = ?");
+      PreparedStatement pst = pc.prepare(SELECT_VERSION);
       pst.setString(SQL_1, versionString);
       rs = pst.executeQuery();
       if (rs.next()) {
         return rs.getLong(SQL_1);
       }
-    } catch (SQLException ex) {
-      reportSQLException(ex);
     } finally {
-      try {
-        if (rs != null) {
-          rs.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-      try {
-        if (pst != null) {
-          pst.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
+      close(rs);
     }
-
     return null;
   }
 
@@ -615,7 +870,7 @@ public class DatabaseConnector {
    * Retrieve the database internal representation (an integer number) of the
    * current RADDOSE3D instance version. If the current RADDOSE3D instance
    * version is unknown to the database, then register it.
-   * 
+   *
    * @return
    *         A number representing the version of the currently running
    *         RADDOSE3D instance.
@@ -626,54 +881,44 @@ public class DatabaseConnector {
       return version;
     }
 
-    // Obtain registered value from database
-    lock.lock();
-    ensureConnectionPresent();
-
-    version = selectVersionNumber(se.raddo.raddose3D.Version.VERSION_STRING);
-    if (version != null) {
-      // Version is already registered in the database. Use that.
-      lock.unlock();
-      return version;
-    }
-
-    // version has not yet been registered in the database. Do this now.
-    PreparedStatement pst = null;
+    // Obtain registered value from database. Only one thread registers it.
+    synchronized (this) {
+      if (version != null) {
+        return version;
+      }
 
-    try {
-      pst = conn
-          .prepareStatement("INSERT INTO versions "
-              + "(jar, Version, Compilation) "
-              + "VALUES (NULL, ?, NOW())");
-      pst.setString(SQL_1, se.raddo.raddose3D.Version.VERSION_STRING);
-      pst.executeUpdate();
-    } catch (SQLException ex) {
-      reportSQLException(ex);
-    } finally {
+      PooledConnection pc = null;
+      Long id = null;
       try {
-        if (pst != null) {
-          pst.close();
+        pc = acquire();
+        id = selectVersionNumber(pc, se.raddo.raddose3D.Version.VERSION_STRING);
+        if (id == null) {
+          // version has not yet been registered in the database. Do this now.
+          PreparedStatement pst = pc.prepare(INSERT_VERSION);
+          pst.setString(SQL_1, se.raddo.raddose3D.Version.VERSION_STRING);
+          pst.executeUpdate();
+          id = selectVersionNumber(pc,
+              se.raddo.raddose3D.Version.VERSION_STRING);
         }
       } catch (SQLException ex) {
-        reportSQLException(ex);
+        failed(pc, ex);
+      } finally {
+        release(pc);
       }
-    }
 
-    version = selectVersionNumber(se.raddo.raddose3D.Version.VERSION_STRING);
-    lock.unlock();
-
-    if (version == null) {
-      // Version still unknown? That's a problem.
-      throw new IllegalStateException("Could not determine version ID.");
+      if (id == null) {
+        // Version still unknown? That's a problem.
+        throw new IllegalStateException("Could not determine version ID.");
+      }
+      version = id;
     }
-
     return version;
   }
 
   /**
    * Convert output type ENUM to the appropriate string representation used in
    * the database.
-   * 
+   *
    * @param type
    *          Java ENUM.
    * @return
@@ -698,41 +943,128 @@ public class DatabaseConnector {
 
   public void saveTimingData(final Long jobID, final Long x1, final Long x2,
       final Double realTime, final Double userTime) {
-    lock.lock();
-    ensureConnectionPresent();
-
-    PreparedStatement pst = null;
+    Long versionNumber = getVersionNumber();
+    PooledConnection pc = null;
     try {
-      pst = conn
-          .prepareStatement("REPLACE INTO runtimeestimate "
-              + "(JobID, Version, X1, X2, realtime, usertime) "
-              + "VALUES (?, ?, ?, ?, ?, ?)");
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(REPLACE_TIMING);
       pst.setLong(SQL_1, jobID);
-      pst.setLong(SQL_2, getVersionNumber());
+      pst.setLong(SQL_2, versionNumber);
       pst.setLong(SQL_3, x1);
       pst.setLong(SQL_4, x2);
       pst.setDouble(SQL_5, realTime);
       pst.setDouble(SQL_6, userTime);
       pst.executeUpdate();
     } catch (SQLException ex) {
-      reportSQLException(ex);
+      failed(pc, ex);
     } finally {
-      try {
-        if (pst != null) {
-          pst.close();
+      release(pc);
+    }
+  }
+
+  /**
+   * Store the cost of a simulated job for the {@link CostModel}.
+   *
+   * @param jobID
+   *          The unique job identifier.
+   * @param features
+   *          Features of the job.
+   * @param realTime
+   *          Runtime of the job in seconds.
+   * @param memory
+   *          Peak memory used by the job in bytes, null if unknown.
+   */
+  public void saveCostData(final Long jobID, final double[] features,
+      final Double realTime, final Double memory) {
+    StringBuilder f = new StringBuilder();
+    for (double d : features) {
+      if (f.length() > 0) {
+        f.append(',');
+      }
+      f.append(d);
+    }
+    Long versionNumber = getVersionNumber();
+    PooledConnection pc = null;
+    try {
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(REPLACE_COST);
+      pst.setLong(SQL_1, jobID);
+      pst.setLong(SQL_2, versionNumber);
+      pst.setString(SQL_3, f.toString());
+      pst.setDouble(SQL_4, realTime);
+      if (memory == null) {
+        pst.setNull(SQL_5, Types.DOUBLE);
+      } else {
+        pst.setDouble(SQL_5, memory);
+      }
+      pst.executeUpdate();
+    } catch (SQLException ex) {
+      failed(pc, ex);
+    } finally {
+      release(pc);
+    }
+  }
+
+  /**
+   * Feed the costs of the most recent jobs to a cost model. Records with a
+   * different number of features, stored by other versions, are skipped.
+   *
+   * @param model
+   *          Cost model receiving the records.
+   * @param limit
+   *          Maximum number of records to read.
+   * @return
+   *         Number of records added to the model.
+   */
+  public int loadCostHistory(final CostModel model, final Integer limit) {
+    List<double[]> rows = new ArrayList<double[]>();
+    PooledConnection pc = null;
+    ResultSet rs = null;
+    try {
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(SELECT_COST_HISTORY);
+      pst.setInt(SQL_1, limit);
+      rs = pst.executeQuery();
+      while (rs.next()) {
+        String[] f = rs.getString(SQL_1).split(",");
+        if (f.length != CostModel.FEATURES) {
+          continue;
         }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
+        double[] row = new double[f.length + 2];
+        try {
+          for (int i = 0; i < f.length; i++) {
+            row[i] = Double.parseDouble(f[i]);
+          }
+        } catch (NumberFormatException e) {
+          continue;
+        }
+        row[f.length] = rs.getDouble(SQL_2);
+        row[f.length + 1] = rs.getDouble(SQL_3);
+        if (rs.wasNull()) {
+          row[f.length + 1] = Double.NaN;
+        }
+        rows.add(row);
       }
+    } catch (SQLException ex) {
+      failed(pc, ex);
+    } finally {
+      close(rs);
+      release(pc);
     }
 
-    lock.unlock();
+    // oldest first, so that the model keeps the most recent records
+    for (int r = rows.size() - 1; r >= 0; r--) {
+      double[] row = rows.get(r);
+      model.add(Arrays.copyOf(row, CostModel.FEATURES),
+          row[CostModel.FEATURES], row[CostModel.FEATURES + 1]);
+    }
+    return rows.size();
   }
 
   /**
    * Mark a job as crashed in the database, and store the stack trace for future
    * debugging purposes.
-   * 
+   *
    * @param jobID
    *          The unique job identifier.
    * @param message
@@ -746,16 +1078,12 @@ public class DatabaseConnector {
    */
   public Boolean markThreadAsCrashed(final Long jobID, final String message,
       final Throwable reason) {
-    lock.lock();
-    ensureConnectionPresent();
-
     Boolean success = false;
 
-    PreparedStatement pst = null;
+    PooledConnection pc = null;
     try {
-      pst = conn
-          .prepareStatement("REPLACE INTO crashes (JobID, StackTrace) "
-              + "VALUES (?, ?)");
+      pc = acquire();
+      PreparedStatement pst = pc.prepare(REPLACE_CRASH);
       pst.setLong(SQL_1, jobID);
 
       String crashmessage = message.concat("Crash due to "
@@ -769,16 +1097,9 @@ public class DatabaseConnector {
       pst.executeUpdate();
       success = true;
     } catch (SQLException ex) {
-      reportSQLException(ex);
+      failed(pc, ex);
     } finally {
-      try {
-        if (pst != null) {
-          pst.close();
-        }
-      } catch (SQLException ex) {
-        reportSQLException(ex);
-      }
-      lock.unlock();
+      release(pc);
     }
     return success;
   }
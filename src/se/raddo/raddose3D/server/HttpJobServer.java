@@ -0,0 +1,710 @@
+package se.raddo.raddose3D.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import se.raddo.raddose3D.Experiment;
+import se.raddo.raddose3D.InputParserString;
+import se.raddo.raddose3D.NamedThreadFactory;
+import se.raddo.raddose3D.OutputFactory;
+import se.raddo.raddose3D.ParallelSimulation;
+
+/**
+ * Embedded HTTP front end for running RADDOSE-3D jobs, as an alternative to
+ * the database queue of {@link RaddoseServer}.
+ * <p>
+ * <ul>
+ * <li>POST /jobs with an input file as request body queues a job and returns
+ * its ID immediately, with status 202 and a Location header. Outputs holding
+ * a value per voxel are only kept if named in ?outputs=name,name.</li>
+ * <li>GET /jobs/ID returns the job state: QUEUED, RUNNING, DONE or FAILED,
+ * the latter followed by the reason on a second line. With ?wait=seconds the
+ * request is held until the job has finished or the time has passed.</li>
+ * <li>GET /jobs/ID/name streams an output of the job with chunked transfer
+ * encoding. The output is sent as it is written and the response ends once
+ * the job has finished. Outputs are Summary.csv, Summary.txt, RDE.csv and
+ * DWDs.csv, and on request DoseState.csv, DoseState.R, VoxelDose.csv and
+ * VoxelFluences.csv.</li>
+ * </ul>
+ * Outputs are kept in memory until a while after the job has finished. The
+ * oldest finished jobs are forgotten earlier if too many of them are kept or
+ * their outputs grow too large.
+ */
+public final class HttpJobServer {
+  /** Default port to listen on. */
+  private static final int      DEFAULTPORT  = 8080;
+
+  /** Largest accepted input file in bytes. */
+  private static final int      MAXINPUT     = 1024 * 1024;
+
+  /** Largest number of jobs queued or running at the same time. */
+  private static final int      MAXJOBS      = 1000;
+
+  /** Longest time in seconds a client may wait for a job to finish. */
+  private static final int      MAXWAIT      = 60;
+
+  /** Time in milliseconds finished jobs and their outputs are kept. */
+  private static final long     RETENTION    = 60L * 60 * 1000;
+
+  /** Default largest number of finished jobs kept. */
+  private static final int      MAXFINISHED  = 1000;
+
+  /** Default largest number of characters of outputs of finished jobs kept. */
+  private static final long     MAXRETAINED  = 64L * 1024 * 1024;
+
+  /** Number of milliseconds per second. */
+  private static final int      SECONDSINMS  = 1000;
+
+  /** HTTP status: OK. */
+  private static final int      OK           = 200;
+  /** HTTP status: Accepted. */
+  private static final int      ACCEPTED     = 202;
+  /** HTTP status: Bad Request. */
+  private static final int      BADREQUEST   = 400;
+  /** HTTP status: Not Found. */
+  private static final int      NOTFOUND     = 404;
+  /** HTTP status: Method Not Allowed. */
+  private static final int      NOTALLOWED   = 405;
+  /** HTTP status: Payload Too Large. */
+  private static final int      TOOLARGE     = 413;
+  /** HTTP status: Service Unavailable. */
+  private static final int      UNAVAILABLE  = 503;
+
+  /** Output names and the output modules producing them. */
+  private static final String[][] OUTPUTS    = {
+      {"Summary.csv", "SummaryCSV" },
+      {"Summary.txt", "SummaryText" },
+      {"RDE.csv", "RDECSV" },
+      {"DWDs.csv", "DWDs" } };
+
+  /**
+   * Outputs with a value per voxel, which are only kept on request as they
+   * grow with the crystal.
+   */
+  private static final String[][] VOXELOUTPUTS = {
+      {"DoseState.csv", "FinalDoseStateCSV" },
+      {"DoseState.R", "FinalDoseStateR" },
+      {"VoxelDose.csv", "VoxelDose" },
+      {"VoxelFluences.csv", "VoxelFluences" } };
+
+  /** Embedded HTTP server. */
+  private final HttpServer      http;
+
+  /** Executor running the jobs. */
+  private final ExecutorService executor;
+
+  /** Executor handling HTTP requests, which may be held for a long time. */
+  private final ExecutorService requests;
+
+  /** All known jobs by ID. */
+  private final Map<Long, Job>  jobs         =
+      new ConcurrentHashMap<Long, Job>();
+
+  /** ID of the last submitted job. */
+  private final AtomicLong      lastID       = new AtomicLong();
+
+  /** Largest number of finished jobs kept. */
+  private final int             maxFinished;
+
+  /** Largest number of characters of outputs of finished jobs kept. */
+  private final long            maxRetained;
+
+  /** States of a job. */
+  private enum State {
+    /** Waiting for a free worker. */
+    QUEUED,
+    /** Being processed. */
+    RUNNING,
+    /** Finished successfully. */
+    DONE,
+    /** Finished with an error. */
+    FAILED
+  }
+
+  /**
+   * Main method for the RADDOSE-3D HTTP server.
+   *
+   * @param args
+   *          Command line parameters: optionally the port, followed by the
+   *          address to listen on. The default is port 8080 on the loopback
+   *          interface.
+   * @throws IOException
+   *           the server could not be started
+   */
+  public static void main(final String[] args) throws IOException {
+    int port = DEFAULTPORT;
+    if (args.length > 0) {
+      port = Integer.parseInt(args[0]);
+    }
+    InetAddress address = InetAddress.getLoopbackAddress();
+    if (args.length > 1) {
+      address = InetAddress.getByName(args[1]);
+    }
+
+    int maxProcesses = RaddoseServer.getMaxProcesses();
+    ParallelSimulation.shareProcessors(maxProcesses);
+
+    HttpJobServer server = new HttpJobServer(
+        new InetSocketAddress(address, port), maxProcesses);
+    server.start();
+    System.out.println("RADDOSE-3D HTTP server listening on "
+        + address.getHostAddress() + ":" + server.getPort()
+        + ". Running up to " + maxProcesses + " jobs in parallel.");
+  }
+
+  /**
+   * Create an HTTP server. Requests are only handled after start().
+   *
+   * @param address
+   *          address and port to listen on. Port 0 picks a free port.
+   * @param maxProcesses
+   *          maximum number of parallel jobs
+   * @throws IOException
+   *           the address could not be bound
+   */
+  public HttpJobServer(final InetSocketAddress address,
+      final int maxProcesses) throws IOException {
+    this(address, maxProcesses, MAXFINISHED, MAXRETAINED);
+  }
+
+  /**
+   * Create an HTTP server with custom limits on the finished jobs kept.
+   * Requests are only handled after start().
+   *
+   * @param address
+   *          address and port to listen on. Port 0 picks a free port.
+   * @param maxProcesses
+   *          maximum number of parallel jobs
+   * @param finishedJobs
+   *          largest number of finished jobs kept
+   * @param retainedChars
+   *          largest number of characters of outputs of finished jobs kept
+   * @throws IOException
+   *           the address could not be bound
+   */
+  public HttpJobServer(final InetSocketAddress address,
+      final int maxProcesses, final int finishedJobs,
+      final long retainedChars) throws IOException {
+    maxFinished = finishedJobs;
+    maxRetained = retainedChars;
+    executor = new ThreadPoolExecutor(maxProcesses, maxProcesses, 0L,
+        TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+        new NamedThreadFactory("raddose-http-worker-",
+            Thread.NORM_PRIORITY - 1));
+    requests = Executors.newCachedThreadPool(
+        new NamedThreadFactory("raddose-http-", Thread.NORM_PRIORITY));
+    http = HttpServer.create(address, 0);
+    http.setExecutor(requests);
+    http.createContext("/jobs", new HttpHandler() {
+      @Override
+      public void handle(final HttpExchange exchange) throws IOException {
+        try {
+          route(exchange);
+        } finally {
+          exchange.close();
+        }
+      }
+    });
+  }
+
+  /**
+   * Start accepting requests.
+   */
+  public void start() {
+    http.start();
+  }
+
+  /**
+   * Stop accepting requests and abandon all queued and running jobs.
+   */
+  public void stop() {
+    http.stop(0);
+    executor.shutdownNow();
+    requests.shutdownNow();
+  }
+
+  /**
+   * Returns the port the server listens on.
+   *
+   * @return
+   *         port number
+   */
+  public int getPort() {
+    return http.getAddress().getPort();
+  }
+
+  /**
+   * Dispatch a request to its handler by method and path.
+   *
+   * @param exchange
+   *          the request
+   * @throws IOException
+   *           the response could not be sent
+   */
+  private void route(final HttpExchange exchange) throws IOException {
+    String[] path = exchange.getRequestURI().getPath().split("/");
+    // path[0] is empty, path[1] is "jobs"
+    String method = exchange.getRequestMethod();
+
+    if (path.length < 2 || !"jobs".equals(path[1])) {
+      sendText(exchange, NOTFOUND, "Unknown request");
+      return;
+    }
+    if (path.length == 2) {
+      if ("POST".equals(method)) {
+        submit(exchange);
+      } else {
+        sendText(exchange, NOTALLOWED, "Use POST to submit a job");
+      }
+      return;
+    }
+    if (path.length > 4 || !"GET".equals(method)) {
+      sendText(exchange, NOTFOUND, "Unknown request");
+      return;
+    }
+
+    Job job;
+    try {
+      job = jobs.get(Long.valueOf(path[2]));
+    } catch (NumberFormatException e) {
+      job = null;
+    }
+    if (job == null) {
+      sendText(exchange, NOTFOUND, "Unknown job");
+      return;
+    }
+
+    if (path.length == 3) {
+      status(exchange, job);
+    } else {
+      stream(exchange, job, path[3]);
+    }
+  }
+
+  /**
+   * Queue a new job.
+   *
+   * @param exchange
+   *          the request, with the input file as body
+   * @throws IOException
+   *           the request could not be read or the response not sent
+   */
+  private void submit(final HttpExchange exchange) throws IOException {
+    InputStream body = exchange.getRequestBody();
+    ByteArrayOutputStream input = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int n;
+    while ((n = body.read(buffer)) != -1) {
+      input.write(buffer, 0, n);
+      if (input.size() > MAXINPUT) {
+        sendText(exchange, TOOLARGE, "Input file too large");
+        return;
+      }
+    }
+    if (input.size() == 0) {
+      sendText(exchange, BADREQUEST, "No input file given");
+      return;
+    }
+
+    Set<String> voxelOutputs = new HashSet<String>();
+    String query = exchange.getRequestURI().getRawQuery();
+    if (query != null) {
+      for (String parameter : query.split("&")) {
+        if (parameter.startsWith("outputs=")) {
+          voxelOutputs.addAll(Arrays.asList(
+              parameter.substring(8).split(",")));
+        }
+      }
+    }
+    for (String name : voxelOutputs) {
+      if (findOutput(VOXELOUTPUTS, name) == null
+          && findOutput(OUTPUTS, name) == null) {
+        sendText(exchange, BADREQUEST, "Unknown output " + name);
+        return;
+      }
+    }
+
+    removeOldJobs();
+    if (countUnfinishedJobs() >= MAXJOBS) {
+      sendText(exchange, UNAVAILABLE, "Too many jobs queued");
+      return;
+    }
+
+    final Job job = new Job(lastID.incrementAndGet(),
+        input.toString("UTF-8"), voxelOutputs);
+    jobs.put(job.id, job);
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        job.run();
+        removeOldJobs();
+      }
+    });
+
+    exchange.getResponseHeaders().set("Location", "/jobs/" + job.id);
+    sendText(exchange, ACCEPTED, String.valueOf(job.id));
+  }
+
+  /**
+   * Report the state of a job, optionally waiting for it to finish.
+   *
+   * @param exchange
+   *          the request
+   * @param job
+   *          the job
+   * @throws IOException
+   *           the response could not be sent
+   */
+  private void status(final HttpExchange exchange, final Job job)
+      throws IOException {
+    int wait = 0;
+    String query = exchange.getRequestURI().getRawQuery();
+    if (query != null) {
+      for (String parameter : query.split("&")) {
+        if (parameter.startsWith("wait=")) {
+          try {
+            wait = Math.min(MAXWAIT, Integer.parseInt(parameter.substring(5)));
+          } catch (NumberFormatException e) {
+            sendText(exchange, BADREQUEST, "Invalid wait time");
+            return;
+          }
+        }
+      }
+    }
+
+    try {
+      job.awaitFinished((long) wait * SECONDSINMS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    State state = job.getState();
+    if (state == State.FAILED) {
+      sendText(exchange, OK, state + "\n" + job.getFailure());
+    } else {
+      sendText(exchange, OK, state.toString());
+    }
+  }
+
+  /**
+   * Stream an output of a job as it is written.
+   *
+   * @param exchange
+   *          the request
+   * @param job
+   *          the job
+   * @param name
+   *          name of the output
+   * @throws IOException
+   *           the response could not be sent
+   */
+  private void stream(final HttpExchange exchange, final Job job,
+      final String name) throws IOException {
+    JobOutput output = job.outputs.get(name);
+    if (output == null && findOutput(VOXELOUTPUTS, name) != null) {
+      sendText(exchange, NOTFOUND, "Output not requested with the job");
+      return;
+    }
+    if (output == null) {
+      sendText(exchange, NOTFOUND, "Unknown output");
+      return;
+    }
+
+    exchange.getResponseHeaders().set("Content-Type",
+        "text/plain; charset=utf-8");
+    // Length 0 selects chunked transfer encoding.
+    exchange.sendResponseHeaders(OK, 0);
+    OutputStream out = exchange.getResponseBody();
+    try {
+      int position = 0;
+      String part;
+      while ((part = output.await(position)) != null) {
+        out.write(part.getBytes("UTF-8"));
+        out.flush();
+        position += part.length();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    out.close();
+  }
+
+  /**
+   * Send a short plain text response.
+   *
+   * @param exchange
+   *          the request
+   * @param status
+   *          HTTP status code
+   * @param text
+   *          response body, a line break is appended
+   * @throws IOException
+   *           the response could not be sent
+   */
+  private static void sendText(final HttpExchange exchange, final int status,
+      final String text) throws IOException {
+    byte[] body = (text + "\n").getBytes("UTF-8");
+    exchange.getResponseHeaders().set("Content-Type",
+        "text/plain; charset=utf-8");
+    exchange.sendResponseHeaders(status, body.length);
+    OutputStream out = exchange.getResponseBody();
+    out.write(body);
+    out.close();
+  }
+
+  /**
+   * Find an output by name.
+   *
+   * @param outputs
+   *          output names and modules
+   * @param name
+   *          name of the output
+   * @return
+   *         name and module of the output, or null if unknown
+   */
+  private static String[] findOutput(final String[][] outputs,
+      final String name) {
+    for (String[] output : outputs) {
+      if (output[0].equals(name)) {
+        return output;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Forget jobs that finished longer ago than the retention time, then the
+   * oldest finished jobs until at most maxFinished jobs holding at most
+   * maxRetained characters of outputs are left.
+   */
+  private synchronized void removeOldJobs() {
+    long expired = System.currentTimeMillis() - RETENTION;
+    List<Job> finished = new ArrayList<Job>();
+    long retained = 0;
+    Iterator<Job> it = jobs.values().iterator();
+    while (it.hasNext()) {
+      Job job = it.next();
+      if (!job.isFinished()) {
+        continue;
+      }
+      if (job.getFinishTime() < expired) {
+        it.remove();
+      } else {
+        finished.add(job);
+        retained += job.getSize();
+      }
+    }
+
+    Collections.sort(finished, new Comparator<Job>() {
+      @Override
+      public int compare(final Job a, final Job b) {
+        int order = Long.compare(a.getFinishTime(), b.getFinishTime());
+        if (order == 0) {
+          order = Long.compare(a.id, b.id);
+        }
+        return order;
+      }
+    });
+    int oldest = 0;
+    while (finished.size() - oldest > maxFinished
+        || retained > maxRetained) {
+      Job job = finished.get(oldest++);
+      jobs.remove(job.id);
+      retained -= job.getSize();
+    }
+  }
+
+  /**
+   * Count the jobs that are queued or running.
+   *
+   * @return
+   *         number of unfinished jobs
+   */
+  private int countUnfinishedJobs() {
+    int count = 0;
+    for (Job job : jobs.values()) {
+      if (!job.isFinished()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * A job submitted over HTTP, with its outputs kept in memory.
+   */
+  private static final class Job implements Runnable {
+    /** Unique ID of the job. */
+    private final long                   id;
+    /** Input file of the job. */
+    private final String                 input;
+    /** Outputs of the job by name. */
+    private final Map<String, JobOutput> outputs =
+        new LinkedHashMap<String, JobOutput>();
+    /** Output modules producing the outputs by name. */
+    private final Map<String, String>    modules =
+        new LinkedHashMap<String, String>();
+
+    /** Current state of the job. */
+    private State                        state   = State.QUEUED;
+    /** Reason the job failed, if it did. */
+    private String                       failure;
+    /** Time in milliseconds the job finished. */
+    private long                         finishTime;
+
+    /**
+     * Prepare a job.
+     *
+     * @param jobID
+     *          unique ID of the job
+     * @param inputFile
+     *          input file of the job
+     * @param voxelOutputs
+     *          names of the outputs with a value per voxel to keep
+     */
+    Job(final long jobID, final String inputFile,
+        final Set<String> voxelOutputs) {
+      id = jobID;
+      input = inputFile;
+      for (String[] output : OUTPUTS) {
+        outputs.put(output[0], new JobOutput());
+        modules.put(output[0], output[1]);
+      }
+      for (String[] output : VOXELOUTPUTS) {
+        if (voxelOutputs.contains(output[0])) {
+          outputs.put(output[0], new JobOutput());
+          modules.put(output[0], output[1]);
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      setState(State.RUNNING, null);
+      try {
+        Experiment experiment = new Experiment();
+        experiment.setSubprogramFiles(false);
+        OutputFactory of = new OutputFactory();
+        for (Map.Entry<String, String> module : modules.entrySet()) {
+          experiment.addObserver(of.createOutputSimple(module.getValue(),
+              outputs.get(module.getKey())));
+        }
+        experiment.process(new InputParserString(input));
+        experiment.close();
+        setState(State.DONE, null);
+      } catch (Throwable crashCause) {
+        setState(State.FAILED, String.valueOf(crashCause));
+      } finally {
+        // Let readers of unfinished outputs complete.
+        for (JobOutput output : outputs.values()) {
+          output.close();
+        }
+      }
+    }
+
+    /**
+     * Change the state of the job and wake up waiting clients.
+     *
+     * @param newState
+     *          the new state
+     * @param reason
+     *          reason of a failure, or null
+     */
+    private synchronized void setState(final State newState,
+        final String reason) {
+      state = newState;
+      failure = reason;
+      if (isFinished()) {
+        finishTime = System.currentTimeMillis();
+      }
+      notifyAll();
+    }
+
+    /**
+     * Wait until the job has finished or the time has passed.
+     *
+     * @param timeout
+     *          maximum time to wait in milliseconds
+     * @throws InterruptedException
+     *           interrupted while waiting
+     */
+    synchronized void awaitFinished(final long timeout)
+        throws InterruptedException {
+      long end = System.currentTimeMillis() + timeout;
+      long remaining = timeout;
+      while (!isFinished() && remaining > 0) {
+        wait(remaining);
+        remaining = end - System.currentTimeMillis();
+      }
+    }
+
+    /**
+     * @return
+     *         current state of the job
+     */
+    synchronized State getState() {
+      return state;
+    }
+
+    /**
+     * @return
+     *         reason the job failed, or null
+     */
+    synchronized String getFailure() {
+      return failure;
+    }
+
+    /**
+     * @return
+     *         time in milliseconds the job finished
+     */
+    synchronized long getFinishTime() {
+      return finishTime;
+    }
+
+    /**
+     * @return
+     *         number of characters held by the outputs of the job
+     */
+    long getSize() {
+      long size = 0;
+      for (JobOutput output : outputs.values()) {
+        size += output.length();
+      }
+      return size;
+    }
+
+    /**
+     * @return
+     *         true once the job is done or has failed
+     */
+    synchronized boolean isFinished() {
+      return state == State.DONE || state == State.FAILED;
+    }
+  }
+}
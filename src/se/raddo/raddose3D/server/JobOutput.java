@@ -0,0 +1,81 @@
+package se.raddo.raddose3D.server;
+
+import se.raddo.raddose3D.Writer;
+
+/**
+ * JobOutput keeps an output of a running job in memory, so that it can be
+ * streamed to any number of readers while it is being written.
+ */
+public class JobOutput extends Writer {
+  /** All data written so far. */
+  private final StringBuilder data   = new StringBuilder();
+  /** Set once the output is complete. */
+  private boolean             closed = false;
+
+  @Override
+  public synchronized void write(final String s) {
+    if (closed) {
+      throw new IllegalStateException("Writer has been closed");
+    }
+    data.append(s);
+    notifyAll();
+  }
+
+  @Override
+  public synchronized void write(final StringBuffer b) {
+    if (closed) {
+      throw new IllegalStateException("Writer has been closed");
+    }
+    data.append(b);
+    notifyAll();
+  }
+
+  @Override
+  public synchronized void write(final char[] cbuf, final int off,
+      final int len) {
+    if (closed) {
+      throw new IllegalStateException("Writer has been closed");
+    }
+    data.append(cbuf, off, len);
+    notifyAll();
+  }
+
+  /**
+   * Returns the amount of data written so far.
+   *
+   * @return
+   *         number of characters
+   */
+  public synchronized int length() {
+    return data.length();
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    notifyAll();
+  }
+
+  /**
+   * Wait until data beyond a given position has been written, or the output
+   * is complete.
+   *
+   * @param position
+   *          number of characters already read
+   * @return
+   *         all data written after position, or null once the output is
+   *         complete and no further data is left
+   * @throws InterruptedException
+   *           interrupted while waiting
+   */
+  public synchronized String await(final int position)
+      throws InterruptedException {
+    while (position >= data.length() && !closed) {
+      wait();
+    }
+    if (position >= data.length()) {
+      return null;
+    }
+    return data.substring(position);
+  }
+}
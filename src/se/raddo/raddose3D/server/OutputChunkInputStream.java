@@ -0,0 +1,89 @@
+package se.raddo.raddose3D.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a virtual file stored in chunks by reassembling its chunks in order.
+ * Only one chunk is held in memory at a time.
+ */
+public class OutputChunkInputStream extends InputStream {
+  /** Reference to initialized database connection. */
+  private final DatabaseConnector sql;
+  /** Unique ID referencing the job in the SQL database. */
+  private final Long              job;
+  /** Unique name referencing the output field in the SQL database. */
+  private final String            filename;
+
+  /** Number of the next chunk to be fetched. */
+  private int                     nextChunk;
+  /** Current chunk, or null once the last chunk has been read. */
+  private byte[]                  chunk = new byte[0];
+  /** Read position within the current chunk. */
+  private int                     position;
+
+  /**
+   * Read a virtual file from the database.
+   *
+   * @param databaseConnection
+   *          Reference to an active database connection.
+   * @param jobID
+   *          Unique identifier referencing the job in the database.
+   * @param outputFilename
+   *          Name of the output data.
+   */
+  public OutputChunkInputStream(final DatabaseConnector databaseConnection,
+      final Long jobID, final String outputFilename) {
+    sql = databaseConnection;
+    job = jobID;
+    filename = outputFilename;
+  }
+
+  /**
+   * Make sure unread data is available in the current chunk, fetching further
+   * chunks as needed.
+   *
+   * @return
+   *         false at the end of the file.
+   * @throws IOException
+   *           A chunk could not be read.
+   */
+  private boolean fill() throws IOException {
+    while (chunk != null && position == chunk.length) {
+      chunk = sql.readOutputChunk(job, filename, nextChunk++);
+      position = 0;
+    }
+    return chunk != null;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fill()) {
+      return -1;
+    }
+    return chunk[position++] & 0xff;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len)
+      throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+    int n = Math.min(len, chunk.length - position);
+    System.arraycopy(chunk, position, b, off, n);
+    position += n;
+    return n;
+  }
+
+  @Override
+  public int available() {
+    if (chunk == null) {
+      return 0;
+    }
+    return chunk.length - position;
+  }
+}
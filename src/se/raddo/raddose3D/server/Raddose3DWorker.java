@@ -1,75 +1,128 @@
 package se.raddo.raddose3D.server;
 
-import java.lang.Thread.UncaughtExceptionHandler;
+import java.io.IOException;
 import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import se.raddo.raddose3D.Experiment;
 import se.raddo.raddose3D.InputException;
 import se.raddo.raddose3D.InputParserString;
 import se.raddo.raddose3D.OutputFactory;
 import se.raddo.raddose3D.OutputProgressEstimate;
+import se.raddo.raddose3D.ResultCache;
 import se.raddo.raddose3D.Writer;
+import se.raddo.raddose3D.WriterMultiple;
 import se.raddo.raddose3D.WriterString;
 
 /**
- * Runs a RADDOSE 3D job in a separate thread. This will allow parallel
- * execution of independent jobs, isolate any errors and provide job statistics.
+ * Runs a RADDOSE 3D job on a thread of the server's executor. This will allow
+ * parallel execution of independent jobs, isolate any errors and provide job
+ * statistics.
  */
-public class Raddose3DWorker
-    extends Thread
-    implements UncaughtExceptionHandler {
+public class Raddose3DWorker implements Runnable {
   /** Connection object to the database. */
   private final DatabaseConnector db;
 
   /** Management object which allows reading out used CPU time. */
   private final ThreadMXBean      managementBean;
 
-  /** Object that should be notified when the thread finishes. */
+  /** Object that should be notified when the job finishes. */
   private final Object            exitNotification;
 
-  /** If the thread crashes the reason is stored here. */
-  private Throwable               crashRecord;
-  /** If the thread crash is recorded properly this is set to true. */
-  private Boolean                 markedAsCrashed            = false;
+  /** Set once the job has finished, successfully or not. */
+  private volatile boolean        done                       = false;
+
+  /** If the job crashes the reason is stored here. */
+  private volatile Throwable      crashRecord;
+  /** If the job crash is recorded properly this is set to true. */
+  private volatile Boolean        markedAsCrashed            = false;
 
   /** The database ID of the job assigned to this thread. */
   private final Long              jobID;
 
-  /** The user time (actual CPU time, not: real time) spent in this thread. */
-  private Long                    threadUserTime             = 0L;
+  /** The user time (actual CPU time, not: real time) spent on this job. */
+  private volatile Long           threadUserTime             = 0L;
+
+  /** User time of the executing thread when the job started. */
+  private long                    startUserTime;
   /** Conversion factor for recorded time to useful output. */
   private static final Integer    NANOSECONDSPERMILLISECONDS = 1000000;
   /** Conversion factor for recorded time to useful output. */
   private static final Integer    MILLISECONDSPERSECONDS     = 1000;
 
+  /** Name of the cached dose state preview, which is not stored directly. */
+  private static final String     PREVIEW = "DoseState.preview";
+
+  /** Cost model features of the job, null if unknown. */
+  private volatile double[]       features;
+
+  /** Runtime in seconds once the job has been simulated. */
+  private volatile Double         realTimeSeconds;
+
+  /** Peak memory of the job in bytes, null if it could not be measured. */
+  private volatile Double         memoryUsed;
+
+  /** Number of jobs being simulated in this JVM. */
+  private static int              simulating                 = 0;
+
+  /** Number of simulations started in this JVM. */
+  private static long             simulationsStarted         = 0;
+
   /**
-   * Prepares a new Raddose3DWorker (Thread) object that can run a specified job
-   * from the database. Actual processing only starts via run() method.
+   * Prepares a new Raddose3DWorker object that can run a specified job from
+   * the database. Actual processing only starts via run() method.
    * 
    * @param databaseJobID
    *          database identifier of the job to be run.
    * @param database
    *          database connection object.
    * @param exitNotificationObject
-   *          any object, on which Notify() will be called when the thread
+   *          any object, on which Notify() will be called when the job
    *          finishes.
+   * @throws IllegalStateException
+   *           the job could not be locked, eg. because another server has
+   *           taken it.
    */
   public Raddose3DWorker(final Long databaseJobID,
       final DatabaseConnector database, final Object exitNotificationObject) {
+    this(databaseJobID, database, exitNotificationObject, null);
+  }
+
+  /**
+   * Prepares a new Raddose3DWorker object that can run a specified job from
+   * the database. Actual processing only starts via run() method.
+   * 
+   * @param databaseJobID
+   *          database identifier of the job to be run.
+   * @param database
+   *          database connection object.
+   * @param exitNotificationObject
+   *          any object, on which Notify() will be called when the job
+   *          finishes.
+   * @param jobFeatures
+   *          cost model features of the job, or null to read them from the
+   *          job.
+   * @throws IllegalStateException
+   *           the job could not be locked, eg. because another server has
+   *           taken it.
+   */
+  public Raddose3DWorker(final Long databaseJobID,
+      final DatabaseConnector database, final Object exitNotificationObject,
+      final double[] jobFeatures) {
     jobID = databaseJobID;
+    features = jobFeatures;
     exitNotification = exitNotificationObject;
     db = database;
     managementBean = ManagementFactory.getThreadMXBean();
 
-    // Calculation threads are less important than the main loop.
-    setPriority(NORM_PRIORITY - 1);
-
-    // Object can handle crashes itself.
-    setUncaughtExceptionHandler(this);
-
     System.out.println("Acquiring lock");
     if (!db.lockQueueJob(jobID)) {
       System.err.println("Could not acquire lock!");
@@ -79,6 +132,26 @@ public class Raddose3DWorker
 
   @Override
   public void run() {
+    // Executor threads are reused, so only count the time spent from here.
+    startUserTime = getCurrentThreadUserTime();
+    try {
+      process();
+    } catch (Throwable crashCause) {
+      recordCrash(crashCause);
+    } finally {
+      done = true;
+      if (exitNotification != null) {
+        synchronized (exitNotification) {
+          exitNotification.notifyAll();
+        }
+      }
+    }
+  }
+
+  /**
+   * Run the job and store its results in the database.
+   */
+  private void process() {
     long startTime = System.currentTimeMillis(); // NOPMD
 
     System.out.println("Worker " + jobID + " started.");
@@ -86,16 +159,20 @@ public class Raddose3DWorker
     String jobData = db.getJob(jobID);
     System.out.println("Job commands: " + jobData);
 
-    final Experiment experiment = new Experiment();
-
-    // add ExperimentYielder to facilitate parallel processing
-    experiment.addObserver(new ExperimentYielder());
-
-    // authoritative timing information via OutputProgressEstimate
-    HashMap<Object, Object> properties = new HashMap<Object, Object>();
-    final OutputProgressEstimate progressEstimate =
-        new OutputProgressEstimate(properties);
-    experiment.addObserver(progressEstimate);
+    // identical deterministic experiments are answered from the cache
+    ResultCache cache = ResultCache.getDefault();
+    String cacheKey = null;
+    if (cache.isEnabled()) {
+      try {
+        cacheKey = ResultCache.getKey(new InputParserString(jobData));
+      } catch (InputException e) {
+        // reported when the experiment is run
+      }
+    }
+    Map<String, String> cached = null;
+    if (cacheKey != null) {
+      cached = cache.load(cacheKey);
+    }
 
     // attach default output modules
     Writer summaryCSV =
@@ -103,12 +180,44 @@ public class Raddose3DWorker
             DatabaseConnector.OutputType.TEXT);
     Writer summaryTXT = new WriterSQL(db, jobID, "Summary.txt",
         DatabaseConnector.OutputType.TEXT);
+    // the dose states are the large outputs, store them compressed
     Writer doseStateCSV = new WriterSQL(db, jobID, "DoseState.csv",
-        DatabaseConnector.OutputType.TEXT);
+        DatabaseConnector.OutputType.TEXT, true);
     Writer doseStateR = new WriterSQL(db, jobID, "DoseState.r",
-        DatabaseConnector.OutputType.TEXT);
+        DatabaseConnector.OutputType.TEXT, true);
     WriterString doseStateRPreview = new WriterString();
 
+    if (cached != null) {
+      System.out.println("Worker " + jobID + ": Result found in cache.");
+      replay(cached, "Summary.csv", summaryCSV);
+      replay(cached, "Summary.txt", summaryTXT);
+      replay(cached, "DoseState.csv", doseStateCSV);
+      replay(cached, "DoseState.r", doseStateR);
+      replay(cached, PREVIEW, doseStateRPreview);
+      finishJob(doseStateRPreview);
+      return;
+    }
+
+    final Experiment experiment = new Experiment();
+    experiment.setSubprogramFiles(false);
+
+    // authoritative timing information via OutputProgressEstimate
+    HashMap<Object, Object> properties = new HashMap<Object, Object>();
+    final OutputProgressEstimate progressEstimate =
+        new OutputProgressEstimate(properties);
+    experiment.addObserver(progressEstimate);
+
+    // keep a copy of every output for the cache
+    Map<String, WriterString> copies =
+        new LinkedHashMap<String, WriterString>();
+    if (cacheKey != null) {
+      summaryCSV = copy(copies, "Summary.csv", summaryCSV);
+      summaryTXT = copy(copies, "Summary.txt", summaryTXT);
+      doseStateCSV = copy(copies, "DoseState.csv", doseStateCSV);
+      doseStateR = copy(copies, "DoseState.r", doseStateR);
+      copies.put(PREVIEW, doseStateRPreview);
+    }
+
     OutputFactory of = new OutputFactory();
     experiment.addObserver(of.createOutputSimple("SummaryCSV", summaryCSV));
     experiment.addObserver(of.createOutputSimple("SummaryText", summaryTXT));
@@ -122,36 +231,41 @@ public class Raddose3DWorker
     // experiment.addObserver(of.createOutputSimple("FluencePerDoseHistCSV",
     // new WriterSQL(db, jobID, "FluencePerDoseHist.csv")));
 
+    if (features == null) {
+      try {
+        features = CostModel.getFeatures(jobData);
+      } catch (InputException e) {
+        // reported when the experiment is run
+      }
+    }
+
+    long simulation = startSimulation();
+    long memoryBefore = getUsedHeap();
+    Long memoryPeak;
     try {
       experiment.process(new InputParserString(jobData));
     } catch (InputException e) {
       throw new IllegalArgumentException("Input malformed", e);
+    } finally {
+      memoryPeak = endSimulation(simulation);
     }
 
     experiment.close();
 
-    // Prepare R job
-    Writer doseStateRPreviewDB = new WriterSQL(db, jobID, "imagegenerator",
-        DatabaseConnector.OutputType.R);
-    doseStateRPreviewDB.write(doseStateRPreview.getDataStringBuffer());
-
-    final int fullCircle = 360;
-    final int numberOfImages = 6;
-    for (int imageNo = 0; imageNo <= numberOfImages - 1; imageNo++) {
-      String fileName = String.format("FinalDoseState%d", imageNo);
-
-      doseStateRPreviewDB.write("\n"
-          + String.format("graph.out('%s',%n",
-              fileName)
-          + " function() {\n"
-          + String.format("  render(%d)%n",
-              (imageNo * fullCircle / numberOfImages))
-          + "})\n");
+    if (cacheKey != null) {
+      Map<String, String> outputs = new LinkedHashMap<String, String>();
+      for (Map.Entry<String, WriterString> c : copies.entrySet()) {
+        outputs.put(c.getKey(), c.getValue().getDataString());
+      }
+      try {
+        cache.store(cacheKey, outputs);
+      } catch (IOException e) {
+        System.err.println("Worker " + jobID + ": Could not cache result: "
+            + e.getMessage());
+      }
     }
-    doseStateRPreviewDB.close();
 
-    db.finalizeJob(jobID);
-    System.out.println("Worker " + jobID + ": Done.");
+    finishJob(doseStateRPreview);
 
     // Update performance metrics.
     List<Long> cvs = progressEstimate.getCrystalVoxelList();
@@ -177,25 +291,206 @@ public class Raddose3DWorker
         (double) realTime / MILLISECONDSPERSECONDS,
         (double) getUserTime() / MILLISECONDSPERSECONDS);
 
-    if (exitNotification != null) {
-      synchronized (exitNotification) {
-        exitNotification.notifyAll();
+    if (features != null) {
+      if (memoryPeak == null) {
+        memoryUsed = null;
+      } else {
+        memoryUsed = (double) Math.max(0, memoryPeak - memoryBefore);
       }
+      realTimeSeconds = (double) realTime / MILLISECONDSPERSECONDS;
+      db.saveCostData(jobID, features, realTimeSeconds, memoryUsed);
     }
   }
 
+  /**
+   * Register the start of a simulation. The heap is shared by all jobs in
+   * this JVM, so the peak heap usage can only be attributed to a job that is
+   * simulated alone. The peaks are reset when such a job starts.
+   * 
+   * @return
+   *         number of the simulation, or -1 if other jobs are being
+   *         simulated.
+   */
+  private static synchronized long startSimulation() {
+    simulationsStarted++;
+    if (simulating++ > 0) {
+      return -1;
+    }
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        pool.resetPeakUsage();
+      }
+    }
+    return simulationsStarted;
+  }
+
+  /**
+   * Register the end of a simulation.
+   * 
+   * @param simulation
+   *          number returned by {@link #startSimulation()}
+   * @return
+   *         peak heap usage in bytes since the simulation started, or null if
+   *         other jobs were simulated at the same time.
+   */
+  private static synchronized Long endSimulation(final long simulation) {
+    simulating--;
+    if (simulation != simulationsStarted) {
+      return null;
+    }
+    long peak = 0;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        peak += pool.getPeakUsage().getUsed();
+      }
+    }
+    return peak;
+  }
+
+  /**
+   * Returns the heap memory currently in use, counted the same way as the
+   * peak in {@link #endSimulation(long)}.
+   * 
+   * @return
+   *         used heap in bytes.
+   */
+  private static long getUsedHeap() {
+    long used = 0;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        used += pool.getUsage().getUsed();
+      }
+    }
+    return used;
+  }
+
+  /**
+   * Store the R job rendering the dose state previews and mark the job as
+   * finished.
+   * 
+   * @param doseStateRPreview
+   *          dose state preview written by the experiment.
+   */
+  private void finishJob(final WriterString doseStateRPreview) {
+    // Prepare R job
+    Writer doseStateRPreviewDB = new WriterSQL(db, jobID, "imagegenerator",
+        DatabaseConnector.OutputType.R);
+    doseStateRPreviewDB.write(doseStateRPreview.getDataStringBuffer());
+
+    final int fullCircle = 360;
+    final int numberOfImages = 6;
+    for (int imageNo = 0; imageNo <= numberOfImages - 1; imageNo++) {
+      String fileName = String.format("FinalDoseState%d", imageNo);
+
+      doseStateRPreviewDB.write("\n"
+          + String.format("graph.out('%s',%n",
+              fileName)
+          + " function() {\n"
+          + String.format("  render(%d)%n",
+              (imageNo * fullCircle / numberOfImages))
+          + "})\n");
+    }
+    doseStateRPreviewDB.close();
+
+    db.finalizeJob(jobID);
+    System.out.println("Worker " + jobID + ": Done.");
+
+  }
+
+  /**
+   * Write a cached output to its destination.
+   * 
+   * @param cached
+   *          cached outputs by name.
+   * @param name
+   *          name of the output.
+   * @param destination
+   *          Writer receiving the output, which is closed afterwards.
+   */
+  private static void replay(final Map<String, String> cached,
+      final String name, final Writer destination) {
+    String data = cached.get(name);
+    if (data != null) {
+      destination.write(data);
+    }
+    destination.close();
+  }
+
+  /**
+   * Keep a copy of everything written to an output.
+   * 
+   * @param copies
+   *          receives the copy by output name.
+   * @param name
+   *          name of the output.
+   * @param destination
+   *          Writer of the output.
+   * @return
+   *         Writer sending data to both the output and the copy.
+   */
+  private static Writer copy(final Map<String, WriterString> copies,
+      final String name, final Writer destination) {
+    WriterString copy = new WriterString();
+    copies.put(name, copy);
+    return new WriterMultiple(new ArrayList<Writer>(Arrays.asList(
+        destination, copy)));
+  }
+
   /**
    * Get user time in milliseconds.
    * 
    * @return
-   *         user time of this thread object.
+   *         user time spent on this job.
    */
   public Long getUserTime() {
     return threadUserTime / NANOSECONDSPERMILLISECONDS;
   }
 
   /**
-   * Get database ID of the job assigned to this thread.
+   * Returns whether the job has finished, successfully or not.
+   * 
+   * @return
+   *         true once the job is no longer running.
+   */
+  public boolean isDone() {
+    return done;
+  }
+
+  /**
+   * Returns the cost model features of the job.
+   * 
+   * @return
+   *         features, or null if unknown.
+   */
+  public double[] getFeatures() {
+    return features;
+  }
+
+  /**
+   * Returns the runtime of the job, if it has been simulated successfully.
+   * 
+   * @return
+   *         runtime in seconds, or null if the job did not finish a
+   *         simulation, eg. because its result was cached.
+   */
+  public Double getRealTime() {
+    return realTimeSeconds;
+  }
+
+  /**
+   * Returns the peak memory of the job. This is only measured for jobs that
+   * were simulated while no other job was.
+   * 
+   * @return
+   *         memory in bytes, or null if the job did not finish a
+   *         simulation or its memory could not be measured.
+   */
+  public Double getMemoryUsed() {
+    return memoryUsed;
+  }
+
+  /**
+   * Get database ID of the job assigned to this worker.
    * 
    * @return
    *         ID of the assigned job.
@@ -206,25 +501,38 @@ public class Raddose3DWorker
 
   /**
    * Update the internally stored user time. This is not the actual wall clock
-   * running time of the thread, but the real CPU time used by the currently
-   * running thread.
+   * running time of the job, but the real CPU time used by the currently
+   * running thread since the job started.
    */
   private void updateTimingInformation() {
+    threadUserTime = getCurrentThreadUserTime() - startUserTime;
+  }
+
+  /**
+   * Returns the user time of the currently running thread.
+   * 
+   * @return
+   *         user time in nanoseconds, or 0 if it cannot be measured.
+   */
+  private long getCurrentThreadUserTime() {
     if (managementBean.isCurrentThreadCpuTimeSupported()) {
-      threadUserTime = managementBean.getCurrentThreadUserTime();
-    } else {
-      threadUserTime = 0L;
+      return managementBean.getCurrentThreadUserTime();
     }
+    return 0L;
   }
 
-  @Override
-  public void uncaughtException(final Thread crashThread,
-      final Throwable crashCause) {
+  /**
+   * Record a crash of the job in the database.
+   * 
+   * @param crashCause
+   *          Exception or Error that ended the job.
+   */
+  private void recordCrash(final Throwable crashCause) {
     crashRecord = crashCause;
 
     updateTimingInformation();
 
-    markedAsCrashed = db.markThreadAsCrashed(jobID, "Thread died after "
+    markedAsCrashed = db.markThreadAsCrashed(jobID, "Job died after "
         + getUserTime() + " ms.\n\n", crashCause);
     if (markedAsCrashed) {
       db.finalizeJob(jobID);
@@ -232,21 +540,21 @@ public class Raddose3DWorker
   }
 
   /**
-   * Returns the Exception or Error that ended the thread execution, or null if
-   * the thread completed successfully.
+   * Returns the Exception or Error that ended the job, or null if the job
+   * completed successfully.
    * 
    * @return
-   *         reason for thread crash or null if thread did not crash.
+   *         reason for job crash or null if job did not crash.
    */
   public Throwable getCrashReason() {
     return crashRecord;
   }
 
   /**
-   * If the thread crashed: Was the crash recorded in the database?
+   * If the job crashed: Was the crash recorded in the database?
    * 
    * @return
-   *         True if the thread crashed and the crash was successfully written
+   *         True if the job crashed and the crash was successfully written
    *         to the database.
    */
   public Boolean getCrashMarker() {
@@ -3,25 +3,70 @@ package se.raddo.raddose3D.server;
 import java.sql.SQLException;
 // Notice, do not import com.mysql.jdbc.*
 // or you will have problems!
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Vector;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import se.raddo.raddose3D.InputException;
+import se.raddo.raddose3D.NamedThreadFactory;
+import se.raddo.raddose3D.ParallelSimulation;
 
 /**
  * Server for batch processing of RADDOSE-3D jobs.
+ * <p>
+ * Jobs run on a bounded executor of one worker per processor, limited by
+ * the estimated memory of a job as in {@link #getMaxProcesses()}. Queued
+ * jobs are read from the database in batches into a local priority queue,
+ * and a job is dispatched as soon as a worker becomes free rather than at the
+ * next poll of the database.
+ * <p>
+ * A {@link CostModel} learns the runtime and memory use of jobs from all
+ * jobs simulated so far. The predicted runtime replaces the runtime estimate
+ * in the priority of every queued job, which orders the queue shortest job
+ * first and is shown to the user. Predicted memory is never taken to be less
+ * than the fixed estimate, so the model can only hold back jobs it expects to
+ * be large. Such a job only starts if it fits next to the jobs already
+ * running. Otherwise no further jobs start
+ * until it fits, so that large jobs are not overtaken forever.
  */
 public final class RaddoseServer {
   /** Maximum time to wait for remaining jobs in seconds. */
   private static final int     SHUTDOWNTIME       = 60;
 
-  /** limit for the maximum number of parallel jobs to be run. */
-  private static final Integer MAXPROCESSES       = 2;
+  /** Estimated memory needed by one job in bytes. */
+  private static final long    JOBMEMORY          = 512L * 1024 * 1024;
+
+  /**
+   * Factor applied to predicted memory, which is learned from few jobs as
+   * memory is only measured for jobs simulated alone.
+   */
+  private static final double  MEMORYMARGIN       = 1.5;
+
+  /** Number of queued jobs read from the database at once. */
+  private static final int     BATCHSIZE          = 32;
 
   /**
-   * Maximum time in milliseconds to wait in main loop.
-   * Events will interrupt.
+   * Maximum time in milliseconds to wait in main loop while all workers are
+   * busy. Finishing workers will interrupt.
    */
   private static final long    TICKWAIT           = 5000;
 
+  /**
+   * Time in milliseconds between polls of the database while a worker is
+   * free but no job could be started.
+   */
+  private static final long    IDLEWAIT           = 100;
+
   /** Number of milliseconds per second. */
   private static final int     SECONDSINMS        = 1000;
 
@@ -29,11 +74,39 @@ public final class RaddoseServer {
    * If set to true, then the server will not start processing any new jobs.
    * Once all running jobs are completed, the server will exit.
    */
-  private Boolean              shutdownInProgress = false;
+  private volatile Boolean     shutdownInProgress = false;
+
+  /** Jobs read from the database and not yet dispatched. */
+  private final PriorityQueue<DatabaseConnector.QueuedJob> pending =
+      new PriorityQueue<DatabaseConnector.QueuedJob>(BATCHSIZE,
+          new Comparator<DatabaseConnector.QueuedJob>() {
+            @Override
+            public int compare(final DatabaseConnector.QueuedJob a,
+                final DatabaseConnector.QueuedJob b) {
+              return a.getPriority().compareTo(b.getPriority());
+            }
+          });
+
+  /** Time in milliseconds when pending was last read from the database. */
+  private long                 lastRefill;
+
+  /** Learns the runtime and memory use of jobs. */
+  private final CostModel      costModel          = new CostModel();
+
+  /** Features of queued jobs, NOFEATURES if they could not be read. */
+  private final Map<Long, double[]> queuedFeatures =
+      new HashMap<Long, double[]>();
+
+  /** Marks queued jobs whose features could not be read. */
+  private static final double[] NOFEATURES        = new double[0];
+
+  /** Memory reserved for running jobs in bytes. */
+  private final Map<Long, Double> reservedMemory  =
+      new HashMap<Long, Double>();
 
   /**
    * Main method for RADDOSE-3D server.
-   * 
+   *
    * @param args
    *          Command line parameters.
    */
@@ -41,16 +114,30 @@ public final class RaddoseServer {
     System.out.println("RADDOSE-3D Server starting up.");
 
     RaddoseServer rds = new RaddoseServer();
-    rds.run(MAXPROCESSES);
+    rds.run(getMaxProcesses());
+  }
+
+  /**
+   * Determine the number of jobs to be run in parallel: one per processor,
+   * as long as the estimated memory of all jobs fits into the heap.
+   *
+   * @return
+   *         maximum number of parallel jobs, at least 1.
+   */
+  static int getMaxProcesses() {
+    Runtime runtime = Runtime.getRuntime();
+    long byMemory = runtime.maxMemory() / JOBMEMORY;
+    return (int) Math.max(1,
+        Math.min(runtime.availableProcessors(), byMemory));
   }
 
   /**
    * Main loop of the RADDOSE-3D server.
-   * 
+   *
    * @param maxProcesses
    *          maximum number of parallel jobs to be run.
    */
-  private void run(final Integer maxProcesses) {
+  private void run(final int maxProcesses) {
     createShutdownHook();
 
     DatabaseConnector sql = new DatabaseConnector();
@@ -66,85 +153,260 @@ public final class RaddoseServer {
 
     System.out.println("RADDOSE-3D version: " + getCurrentVersion());
     System.out.println("Database version: " + sql.getVersionNumber());
+    System.out.println("Cost model based on "
+        + sql.loadCostHistory(costModel, CostModel.HISTORY) + " jobs.");
 
-    //    GetPerformanceIndicators();
-    // SELECT X1, X2, AVG(realtime), AVG(usertime)
-    // FROM runtimeestimate
-    // WHERE Version = (SELECT MAX(Version)
-    // FROM runtimeestimate) AND (X1 > 0) AND (X2 > 0)
-    // GROUP BY X1, X2
-
-    // T = a * X1 + b * X2
-    // => X1 = cv,  X2 = cv * ws
-    // und realtime / usertime
+    ParallelSimulation.shareProcessors(maxProcesses);
 
-    Vector<Raddose3DWorker> workers = new Vector<Raddose3DWorker>();
-    Iterator<Raddose3DWorker> workerIterator;
+    // Calculation threads are less important than the main loop.
+    ExecutorService executor = new ThreadPoolExecutor(maxProcesses,
+        maxProcesses, 0L, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<Runnable>(),
+        new NamedThreadFactory("raddose-worker-", Thread.NORM_PRIORITY - 1));
+    List<Raddose3DWorker> workers = new ArrayList<Raddose3DWorker>();
 
-    System.out.println("RADDOSE-3D Server ready.");
+    System.out.println("RADDOSE-3D Server ready. Running up to "
+        + maxProcesses + " jobs in parallel.");
 
     while ((!shutdownInProgress) || (!workers.isEmpty())) {
+      removeFinishedWorkers(workers);
 
-      // CheckIfThreadsAreAlive
-      // If any thread finished or died
-      //  update timing information
+      if (!shutdownInProgress) {
+        dispatch(sql, executor, workers, maxProcesses);
+      }
 
-      workerIterator = workers.iterator();
-      System.out.print("Thread status:");
+      // Wait for a worker to finish, or poll again shortly if a worker is
+      // free but no job could be started.
+      long wait = TICKWAIT;
+      if (!shutdownInProgress && workers.size() < maxProcesses) {
+        wait = IDLEWAIT;
+      }
+      synchronized (this) {
+        if (!anyFinished(workers)) {
+          try {
+            this.wait(wait);
+          } catch (InterruptedException e) {
+            // Ignore Exception
+          }
+        }
+      }
+    }
 
-      while (workerIterator.hasNext()) {
-        Raddose3DWorker w = workerIterator.next();
-        System.out.print(" #" + w.getJobID() + ":" + w.getState());
-        if (w.getState() == Thread.State.TERMINATED) {
+    executor.shutdown();
+    System.out.println("RADDOSE-3D Server terminated.");
+  }
 
-          if (w.getCrashReason() != null) {
-            System.out.print("  ... crashed");
-            if (!w.getCrashMarker()) {
-              System.out.print("  ... BUT NOT MARKED AS CRASHED IN DATABASE");
-              System.err.println("Thread died without marking crash:");
-              System.err.println(w.getCrashReason());
-            }
-          }
+  /**
+   * Start queued jobs until all workers are busy or no eligible job is left.
+   * A job may only start if its queue level is above the number of jobs
+   * already running, which keeps workers free for higher queue levels.
+   *
+   * @param sql
+   *          database connection.
+   * @param executor
+   *          executor running the jobs.
+   * @param workers
+   *          running workers.
+   * @param maxProcesses
+   *          maximum number of parallel jobs.
+   */
+  private void dispatch(final DatabaseConnector sql,
+      final ExecutorService executor, final List<Raddose3DWorker> workers,
+      final int maxProcesses) {
+    if (workers.size() >= maxProcesses) {
+      return;
+    }
 
-          System.out.println("  ... removing (CPU User time: "
-              + w.getUserTime() + "ms)");
-          workerIterator.remove();
-        }
+    // The database remains authoritative: reread the queue whenever the
+    // local copy runs dry or may have missed newly submitted jobs.
+    long now = System.currentTimeMillis();
+    if (pending.isEmpty() || now - lastRefill >= IDLEWAIT) {
+      pending.clear();
+      Set<Long> queued = new HashSet<Long>();
+      for (DatabaseConnector.QueuedJob job : sql.getQueuedJobs(BATCHSIZE)) {
+        queued.add(job.getJobID());
+        pending.add(estimate(sql, job));
       }
-      System.out.println();
-
-      if (!shutdownInProgress
-          && (workers.size() < maxProcesses)
-          && (sql.getHighestPriority() > workers.size())) {
-        Long nextJob = sql
-            .getJobIDWithPriorityGreaterOrEqual(workers.size() + 1);
-        if (nextJob != null) {
-          for (Raddose3DWorker r : workers) {
-            if (r.getJobID().equals(nextJob)) {
-              nextJob = null;
-            }
-          }
-          if (nextJob != null) {
-            Raddose3DWorker newJob = new Raddose3DWorker(
-                sql.getJobIDWithPriorityGreaterOrEqual(workers.size() + 1),
-                sql, this);
-            workers.add(newJob);
-            newJob.start();
-          }
-        }
+      queuedFeatures.keySet().retainAll(queued);
+      lastRefill = now;
+    }
+
+    List<DatabaseConnector.QueuedJob> skipped =
+        new ArrayList<DatabaseConnector.QueuedJob>();
+    while (workers.size() < maxProcesses && !pending.isEmpty()) {
+      DatabaseConnector.QueuedJob job = pending.poll();
+      if (job.getQueue() <= workers.size() || isRunning(workers, job)) {
+        skipped.add(job);
+        continue;
       }
 
-      // Sleep for 5 seconds or interrupt
-      synchronized (this) {
+      double[] features = queuedFeatures.get(job.getJobID());
+      if (features == NOFEATURES) {
+        features = null;
+      }
+      double memory = JOBMEMORY;
+      if (features != null && costModel.predictBytes(features) != null) {
+        memory = Math.max(costModel.predictBytes(features) * MEMORYMARGIN,
+            JOBMEMORY);
+      }
+      long maxMemory = Runtime.getRuntime().maxMemory();
+      if (!workers.isEmpty() && getReservedMemory() + memory > maxMemory) {
+        // wait for memory rather than letting smaller jobs overtake
+        skipped.add(job);
+        break;
+      }
+
+      Raddose3DWorker newJob;
+      try {
+        newJob = new Raddose3DWorker(job.getJobID(), sql, this, features);
+      } catch (IllegalStateException e) {
+        // Job has been taken by someone else in the meantime.
+        continue;
+      }
+      queuedFeatures.remove(job.getJobID());
+      reservedMemory.put(job.getJobID(), memory);
+      workers.add(newJob);
+      executor.execute(newJob);
+    }
+    pending.addAll(skipped);
+  }
+
+  /**
+   * Predict the runtime of a queued job and put the prediction into its
+   * priority. The prediction is also stored in the database, where the user
+   * sees it, whenever it changes.
+   *
+   * @param sql
+   *          database connection.
+   * @param job
+   *          queued job.
+   * @return
+   *         the job with the predicted runtime, or the job itself if no
+   *         prediction could be made.
+   */
+  private DatabaseConnector.QueuedJob estimate(final DatabaseConnector sql,
+      final DatabaseConnector.QueuedJob job) {
+    double[] features = queuedFeatures.get(job.getJobID());
+    if (features == null) {
+      features = NOFEATURES;
+      String input = sql.getJob(job.getJobID());
+      if (input != null) {
         try {
-          this.wait(TICKWAIT);
-        } catch (InterruptedException e) {
-          // Ignore Exception
+          features = CostModel.getFeatures(input);
+        } catch (InputException e) {
+          // reported when the job is run
+        } catch (RuntimeException e) {
+          // eg. a referenced file is missing, reported when the job is run
         }
       }
+      queuedFeatures.put(job.getJobID(), features);
+    }
+    if (features == NOFEATURES) {
+      return job;
+    }
+    Double seconds = costModel.predictSeconds(features);
+    if (seconds == null) {
+      return job;
+    }
+    Long estimate = Math.round(seconds);
+    if (!estimate.equals(job.getRuntimeEstimate())) {
+      sql.updateRuntimeEstimate(job.getJobID(), estimate);
     }
+    return job.withRuntimeEstimate(estimate);
+  }
 
-    System.out.println("RADDOSE-3D Server terminated.");
+  /**
+   * Returns the memory reserved for all running jobs.
+   *
+   * @return
+   *         reserved memory in bytes.
+   */
+  private double getReservedMemory() {
+    double total = 0;
+    for (Double m : reservedMemory.values()) {
+      total += m;
+    }
+    return total;
+  }
+
+  /**
+   * Check whether a job is already being processed by a worker.
+   *
+   * @param workers
+   *          running workers.
+   * @param job
+   *          queued job.
+   * @return
+   *         true if a worker is processing the job.
+   */
+  private boolean isRunning(final List<Raddose3DWorker> workers,
+      final DatabaseConnector.QueuedJob job) {
+    for (Raddose3DWorker r : workers) {
+      if (r.getJobID().equals(job.getJobID())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Check whether any worker has finished.
+   *
+   * @param workers
+   *          running workers.
+   * @return
+   *         true if at least one worker has finished.
+   */
+  private boolean anyFinished(final List<Raddose3DWorker> workers) {
+    for (Raddose3DWorker w : workers) {
+      if (w.isDone()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Report and remove all workers that have finished.
+   *
+   * @param workers
+   *          running workers.
+   */
+  private void removeFinishedWorkers(final List<Raddose3DWorker> workers) {
+    if (!anyFinished(workers)) {
+      return;
+    }
+
+    Iterator<Raddose3DWorker> workerIterator = workers.iterator();
+    System.out.print("Worker status:");
+
+    while (workerIterator.hasNext()) {
+      Raddose3DWorker w = workerIterator.next();
+      System.out.print(" #" + w.getJobID() + ":"
+          + (w.isDone() ? "DONE" : "RUNNING"));
+      if (w.isDone()) {
+
+        if (w.getCrashReason() != null) {
+          System.out.print("  ... crashed");
+          if (!w.getCrashMarker()) {
+            System.out.print("  ... BUT NOT MARKED AS CRASHED IN DATABASE");
+            System.err.println("Job died without marking crash:");
+            System.err.println(w.getCrashReason());
+          }
+        }
+
+        System.out.println("  ... removing (CPU User time: "
+            + w.getUserTime() + "ms)");
+        reservedMemory.remove(w.getJobID());
+        if (w.getFeatures() != null && w.getRealTime() != null) {
+          Double memory = w.getMemoryUsed();
+          costModel.add(w.getFeatures(), w.getRealTime(),
+              memory == null ? Double.NaN : memory);
+        }
+        workerIterator.remove();
+      }
+    }
+    System.out.println();
   }
 
   /**
@@ -155,7 +417,7 @@ public final class RaddoseServer {
 
   /**
    * Retrieve RADDOSE-3D version string.
-   * 
+   *
    * @return
    *         Version number of underlying RADDOSE-3D build.
    */
@@ -168,6 +430,9 @@ public final class RaddoseServer {
    */
   public void shutdown() {
     shutdownInProgress = true;
+    synchronized (this) {
+      this.notifyAll();
+    }
   }
 
   /**
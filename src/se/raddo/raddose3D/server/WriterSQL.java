@@ -1,10 +1,18 @@
 package se.raddo.raddose3D.server;
 
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+
 import se.raddo.raddose3D.Writer;
 import se.raddo.raddose3D.server.DatabaseConnector.OutputType;
 
 /**
- * WriterSQL writes all received data to an SQL record on a close() call.
+ * WriterSQL writes all received data to an SQL record. The data is stored in
+ * consecutive chunks, which are sent to the database in batches as they fill
+ * up and on a close() call. A batch that cannot be stored is retried. If it
+ * still fails, write() or close() throw an IllegalStateException, so that the
+ * job is marked as crashed rather than left with a truncated output.
  */
 public class WriterSQL extends Writer {
   /** Reference to initialized database connection. */
@@ -13,15 +21,28 @@ public class WriterSQL extends Writer {
   private final Long              job;
   /** Unique name referencing the output field in the SQL database. */
   private final String            filename;
+  /** Whether chunks are stored compressed. */
+  private final boolean           compress;
 
   /** Internal output buffer. */
   private StringBuffer            buffer          = new StringBuffer();
-  /** Maximum buffer length. Causes flush if exceeded. */
-  private static final int        BUFFERMAXLENGTH = 10000000;
+  /** Maximum number of characters in one chunk. */
+  private static final int        CHUNKLENGTH     = 1000000;
+  /** Number of chunks sent to the database together. */
+  private static final int        CHUNKSPERBATCH  = 4;
+  /** Number of attempts to store a batch. */
+  private static final int        ATTEMPTS        = 3;
+  /** Pause before storing a failed batch again, in milliseconds. */
+  private static final long       RETRYDELAY      = 1000;
+
+  /** Complete chunks not yet sent to the database. */
+  private final List<byte[]>      chunks          = new ArrayList<byte[]>();
+  /** Number of the first chunk in chunks. */
+  private int                     firstChunk;
 
   /**
    * Write output to a field in an SQL database.
-   * 
+   *
    * @param databaseConnection
    *          Reference to an active database connection.
    * @param jobID
@@ -34,9 +55,30 @@ public class WriterSQL extends Writer {
   public WriterSQL(final DatabaseConnector databaseConnection,
       final Long jobID, final String outputFilename, final OutputType blobType)
   {
+    this(databaseConnection, jobID, outputFilename, blobType, false);
+  }
+
+  /**
+   * Write output to a field in an SQL database, optionally compressed.
+   *
+   * @param databaseConnection
+   *          Reference to an active database connection.
+   * @param jobID
+   *          Unique identifier referencing the job in the database.
+   * @param outputFilename
+   *          Unique name for the output data.
+   * @param blobType
+   *          Type of the data to be written.
+   * @param compressed
+   *          Whether to store the data compressed.
+   */
+  public WriterSQL(final DatabaseConnector databaseConnection,
+      final Long jobID, final String outputFilename, final OutputType blobType,
+      final boolean compressed) {
     sql = databaseConnection;
     filename = outputFilename;
     job = jobID;
+    compress = compressed;
     sql.writeOutputFile(job, filename, "", blobType);
   }
 
@@ -53,19 +95,80 @@ public class WriterSQL extends Writer {
   }
 
   /**
-   * Check if the buffer length exceeds BUFFERMAXLENGTH. If it does a string of
-   * size BUFFERMAXLENGTH is flushed to the database.
+   * Cut complete chunks of CHUNKLENGTH characters from the buffer, and send
+   * them to the database once CHUNKSPERBATCH chunks have been collected.
    */
   private void checkbuffersize() {
-    while (buffer.length() > BUFFERMAXLENGTH) {
-      sql.appendOutputFile(job, filename, buffer.substring(0, BUFFERMAXLENGTH));
-      buffer.delete(0, BUFFERMAXLENGTH);
+    int start = 0;
+    while (buffer.length() - start >= CHUNKLENGTH) {
+      int end = start + CHUNKLENGTH;
+      // Keep surrogate pairs within one chunk.
+      if (Character.isHighSurrogate(buffer.charAt(end - 1))) {
+        end--;
+      }
+      addChunk(buffer.substring(start, end));
+      start = end;
+    }
+    buffer.delete(0, start);
+    if (chunks.size() >= CHUNKSPERBATCH) {
+      flushChunks();
+    }
+  }
+
+  /**
+   * Encode a chunk for storage.
+   *
+   * @param s
+   *          Content of the chunk.
+   */
+  private void addChunk(final String s) {
+    try {
+      chunks.add(s.getBytes("UTF-8"));
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException("UTF-8 not supported", e);
     }
   }
 
+  /**
+   * Send all collected chunks to the database. A failed batch may have stored
+   * some of its rows, which are removed before it is sent again.
+   *
+   * @throws IllegalStateException
+   *           The chunks could not be stored.
+   */
+  private void flushChunks() {
+    if (chunks.isEmpty()) {
+      return;
+    }
+    int attempt = 1;
+    while (!sql.writeOutputChunks(job, filename, firstChunk, chunks,
+        compress)) {
+      if (attempt++ == ATTEMPTS) {
+        throw new IllegalStateException("Could not store chunks "
+            + firstChunk + " to " + (firstChunk + chunks.size() - 1) + " of "
+            + filename + " of job " + job);
+      }
+      System.err.println("WriterSQL: Storing " + filename + " of job " + job
+          + " failed, retrying");
+      try {
+        Thread.sleep(RETRYDELAY);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while storing "
+            + filename + " of job " + job, e);
+      }
+      sql.deleteOutputChunks(job, filename, firstChunk);
+    }
+    firstChunk += chunks.size();
+    chunks.clear();
+  }
+
   @Override
   public void close() {
-    sql.appendOutputFile(job, filename, buffer.toString());
+    if (buffer.length() > 0) {
+      addChunk(buffer.toString());
+    }
+    flushChunks();
     buffer = null;
   }
 }
@@ -0,0 +1,127 @@
+package se.raddo.raddose3D.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.BatchRunner;
+import se.raddo.raddose3D.Writer;
+import se.raddo.raddose3D.WriterString;
+
+public class BatchRunnerTest {
+
+  /** Create an empty file in a directory, to be deleted on exit. */
+  private static File touch(final File dir, final String name)
+      throws IOException {
+    File f = new File(dir, name);
+    Files.write(f.toPath(), new byte[0]);
+    f.deleteOnExit();
+    return f;
+  }
+
+  @Test
+  public void testReadJobsFromDirectory() throws IOException {
+    File dir = Files.createTempDirectory("raddose3d-batch").toFile();
+    dir.deleteOnExit();
+    touch(dir, "b.txt");
+    touch(dir, "a.txt");
+    touch(dir, "notes.csv");
+
+    List<BatchRunner.Job> jobs = BatchRunner.readJobs(dir.getPath(), "out-");
+    assertEquals(jobs.size(), 2);
+    assertEquals(jobs.get(0).getInput(), new File(dir, "a.txt").getPath());
+    assertEquals(jobs.get(0).getPrefix(), "out-a-");
+    assertEquals(jobs.get(1).getPrefix(), "out-b-");
+    System.out.println("@Test - testReadJobsFromDirectory");
+  }
+
+  @Test
+  public void testReadJobsFromManifest() throws IOException {
+    File dir = Files.createTempDirectory("raddose3d-batch").toFile();
+    dir.deleteOnExit();
+    File manifest = new File(dir, "sweep.list");
+    manifest.deleteOnExit();
+    Files.write(manifest.toPath(), Arrays.asList("# flux sweep", "",
+        "flux1.txt", "  sub/flux2.txt   high-  "));
+
+    List<BatchRunner.Job> jobs =
+        BatchRunner.readJobs(manifest.getPath(), "out-");
+    assertEquals(jobs.size(), 2);
+    assertEquals(new File(jobs.get(0).getInput()),
+        new File(dir.getAbsoluteFile(), "flux1.txt"));
+    assertEquals(jobs.get(0).getPrefix(), "out-flux1-");
+    assertEquals(new File(jobs.get(1).getInput()),
+        new File(new File(dir.getAbsoluteFile(), "sub"), "flux2.txt"));
+    assertEquals(jobs.get(1).getPrefix(), "out-high-");
+    System.out.println("@Test - testReadJobsFromManifest");
+  }
+
+  @Test
+  public void testConcurrentRunsConsolidatedInOrder() {
+    List<BatchRunner.Job> jobs = Arrays.asList(
+        new BatchRunner.Job("first.txt", "a-"),
+        new BatchRunner.Job("broken.txt", "b-"),
+        new BatchRunner.Job("last.txt", "c-"));
+    // All experiments have to run at the same time to pass.
+    final CyclicBarrier barrier = new CyclicBarrier(jobs.size());
+
+    WriterString summary = new WriterString();
+    int failed = new BatchRunner(jobs, jobs.size()).run(
+        new BatchRunner.Runner() {
+          @Override
+          public void run(final BatchRunner.Job job, final Writer w)
+              throws Exception {
+            barrier.await(10, TimeUnit.SECONDS);
+            if (job.getInput().startsWith("broken")) {
+              throw new IllegalStateException("Broken input");
+            }
+            w.write("Wedge Number, Dose\n1, " + job.getPrefix() + "\n");
+            w.close();
+          }
+        }, summary);
+
+    assertEquals(failed, 1);
+    assertEquals(summary.getDataString(), "Input File, Wedge Number, Dose\n"
+        + "first.txt, 1, a-\n"
+        + "last.txt, 1, c-\n");
+    System.out.println("@Test - testConcurrentRunsConsolidatedInOrder");
+  }
+
+  @Test
+  public void testSubprogramHeadersRepeatedOnlyWhenChanged() {
+    List<BatchRunner.Job> jobs = Arrays.asList(
+        new BatchRunner.Job("gos1.txt", "a-"),
+        new BatchRunner.Job("gos2.txt", "b-"),
+        new BatchRunner.Job("plain.txt", "c-"));
+
+    WriterString summary = new WriterString();
+    new BatchRunner(jobs, 1).run(new BatchRunner.Runner() {
+      @Override
+      public void run(final BatchRunner.Job job, final Writer w) {
+        w.write("Wedge Number, Dose\n");
+        if (job.getInput().startsWith("gos")) {
+          w.write("Wedge Number, Subprogram, Run, MC-ADWC\n"
+              + "1, GOS, 1, 2.5\n");
+        } else {
+          w.write("1, 1.5\n");
+        }
+        w.close();
+      }
+    }, summary);
+
+    assertEquals(summary.getDataString(),
+        "Input File, Wedge Number, Subprogram, Run, MC-ADWC\n"
+        + "gos1.txt, 1, GOS, 1, 2.5\n"
+        + "gos2.txt, 1, GOS, 1, 2.5\n"
+        + "Input File, Wedge Number, Dose\n"
+        + "plain.txt, 1, 1.5\n");
+    System.out.println("@Test - testSubprogramHeadersRepeatedOnlyWhenChanged");
+  }
+}
@@ -0,0 +1,316 @@
+package se.raddo.raddose3D.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.Beam;
+import se.raddo.raddose3D.Checkpoint;
+import se.raddo.raddose3D.Crystal;
+import se.raddo.raddose3D.Experiment;
+import se.raddo.raddose3D.Initializer;
+import se.raddo.raddose3D.Input;
+import se.raddo.raddose3D.InputException;
+import se.raddo.raddose3D.InputParserString;
+import se.raddo.raddose3D.Output;
+import se.raddo.raddose3D.OutputFactory;
+import se.raddo.raddose3D.Wedge;
+import se.raddo.raddose3D.WriterString;
+
+public class CheckpointTest {
+  /**
+   * A small experiment with three wedges. Photoelectron escape makes the
+   * result depend on the random number streams.
+   */
+  private static final String INPUT = "Crystal\nType Cuboid\n"
+      + "Dimensions 20 20 20\nPixelsPerMicron 0.5\nAbsCoefCalc RD3D\n"
+      + "UnitCell 78.4 78.4 78.4\nNumMonomers 8\nNumResidues 153\n"
+      + "CalculatePEEscape TRUE\nSeed 42\n"
+      + "Beam\nType Gaussian\nFlux 2e11\nFWHM 70 20\nEnergy 12.1\n"
+      + "Collimation Rectangular 55 19\n"
+      + "Wedge 0 30\nExposureTime 5\n"
+      + "Wedge 30 60\nExposureTime 5\n"
+      + "Wedge 60 90\nExposureTime 10\n";
+
+  /**
+   * The same experiment run by the GOS subprogram, which reports its results
+   * instead of updating the dose state.
+   */
+  private static final String SUBPROGRAM = INPUT.replace("Seed 42\n",
+      "Seed 42\nSubprogram GOS\nSimPhotons 2000\nCalcSurrounding TRUE\n");
+
+  /**
+   * The GOS experiment with enough photons for several simulation batches,
+   * which report their progress from 20%.
+   */
+  private static final String BATCHES = SUBPROGRAM.replace("SimPhotons 2000",
+      "SimPhotons 5000");
+
+  /** Outputs compared between runs. */
+  private static final String[] OUTPUTS = {"SummaryCSV", "SummaryText",
+      "RDECSV", "DWDs", "FinalDoseStateCSV"};
+
+  private File dir;
+
+  @BeforeMethod
+  public void createDirectory() throws IOException {
+    dir = Files.createTempDirectory("checkpoint").toFile();
+  }
+
+  @AfterMethod
+  public void removeDirectory() {
+    for (File f : dir.listFiles()) {
+      f.delete();
+    }
+    dir.delete();
+  }
+
+  /**
+   * Run the experiment.
+   *
+   * @param experiment
+   *          input of the experiment
+   * @param checkpoint
+   *          checkpoint, or null to run without
+   * @param resume
+   *          resume from the checkpoint
+   * @param wedges
+   *          number of wedges after which the run is interrupted
+   * @return
+   *         text of the outputs
+   */
+  private String[] run(final String experiment,
+      final Checkpoint checkpoint, final boolean resume, final int wedges)
+      throws InputException, IOException {
+    final Experiment exp = new Experiment();
+    // Keep the subprogram csv files out of the working directory.
+    exp.setSubprogramFiles(false);
+    OutputFactory of = new OutputFactory();
+    List<Output> outputs = new ArrayList<Output>();
+    WriterString[] text = new WriterString[OUTPUTS.length];
+    for (int i = 0; i < OUTPUTS.length; i++) {
+      if (checkpoint == null) {
+        text[i] = new WriterString();
+        outputs.add(of.createOutputSimple(OUTPUTS[i], text[i]));
+      } else {
+        outputs.add(of.createOutputSimple(OUTPUTS[i],
+            checkpoint.track(output(i).getPath(), i % 2 == 1)));
+      }
+    }
+
+    final InputParserString input = new InputParserString(experiment);
+    if (checkpoint != null) {
+      assertEquals(checkpoint.open(Checkpoint.getFingerprint(
+          Arrays.<Input>asList(input), outputs), resume), resume);
+      exp.setCheckpoint(checkpoint);
+    }
+    for (Output o : outputs) {
+      exp.addObserver(o);
+    }
+
+    try {
+      exp.process(new Input() {
+        @Override
+        public void sendData(final Initializer i) throws InputException {
+          input.sendData(new Interrupted(i, wedges));
+        }
+      });
+    } catch (IllegalStateException e) {
+      assertEquals(e.getMessage(), "preempted");
+    }
+    exp.close();
+
+    String[] result = new String[OUTPUTS.length];
+    for (int i = 0; i < OUTPUTS.length; i++) {
+      if (checkpoint == null) {
+        result[i] = text[i].getDataString();
+      } else {
+        result[i] = new String(Files.readAllBytes(output(i).toPath()),
+            StandardCharsets.UTF_8);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param i
+   *          index of an output
+   * @return
+   *         file written by the output in checkpointed runs
+   */
+  private File output(final int i) {
+    return new File(dir, OUTPUTS[i] + ".txt");
+  }
+
+  @Test
+  public void testResumeReproducesUninterruptedRun()
+      throws InputException, IOException {
+    String[] expected = run(INPUT, null, false, 3);
+
+    File file = new File(dir, "Checkpoint.bin");
+    Checkpoint interrupted = new Checkpoint(file, 0);
+    run(INPUT, interrupted, false, 2);
+    assertEquals(interrupted.getCompletedWedges(), 2);
+    assertTrue(file.isFile());
+    // Snapshots are moved into place, no temporary files are left behind.
+    assertEquals(dir.listFiles().length, 1 + OUTPUTS.length);
+
+    Checkpoint resumed = new Checkpoint(file, 0);
+    String[] actual = run(INPUT, resumed, true, 3);
+    assertEquals(resumed.getCompletedWedges(), 3);
+    for (int i = 0; i < OUTPUTS.length; i++) {
+      assertTrue(expected[i].length() > 0, OUTPUTS[i]);
+      assertEquals(actual[i], expected[i], OUTPUTS[i]);
+    }
+
+    resumed.delete();
+    assertFalse(file.exists());
+    System.out.println("@Test - testResumeReproducesUninterruptedRun");
+  }
+
+  @Test
+  public void testResumeSubprogram() throws InputException, IOException {
+    String[] expected = run(SUBPROGRAM, null, false, 3);
+
+    File file = new File(dir, "Checkpoint.bin");
+    run(SUBPROGRAM, new Checkpoint(file, 0), false, 1);
+    Checkpoint resumed = new Checkpoint(file, 0);
+    String[] actual = run(SUBPROGRAM, resumed, true, 3);
+    assertEquals(resumed.getCompletedWedges(), 3);
+    // Later wedges draw from the random number streams restored on resume.
+    for (int i = 0; i < OUTPUTS.length; i++) {
+      assertEquals(actual[i], expected[i], OUTPUTS[i]);
+    }
+    assertTrue(expected[0].contains("GOS, 1"), expected[0]);
+    System.out.println("@Test - testResumeSubprogram");
+  }
+
+  @Test
+  public void testResumeWithinSimulation() throws InputException, IOException {
+    String[] expected = run(BATCHES, null, false, 3);
+
+    // Preempted during the second batch of the second wedge.
+    File file = new File(dir, "Checkpoint.bin");
+    PrintStream console = System.out;
+    System.setOut(new Preempting(console, "40% ", 2));
+    try {
+      run(BATCHES, new Checkpoint(file, 0), false, 3);
+    } finally {
+      System.setOut(console);
+    }
+
+    ByteArrayOutputStream log = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(log, true));
+    Checkpoint resumed = new Checkpoint(file, 0);
+    String[] actual;
+    try {
+      actual = run(BATCHES, resumed, true, 3);
+    } finally {
+      System.setOut(console);
+    }
+    assertTrue(log.toString().contains("after wedge 1"), log.toString());
+    assertTrue(log.toString().contains("Resuming simulation after batch 1"),
+        log.toString());
+    assertEquals(resumed.getCompletedWedges(), 3);
+    for (int i = 0; i < OUTPUTS.length; i++) {
+      assertEquals(actual[i], expected[i], OUTPUTS[i]);
+    }
+    System.out.println("@Test - testResumeWithinSimulation");
+  }
+
+  @Test
+  public void testIntervalAndMismatch() throws InputException, IOException {
+    File file = new File(dir, "Checkpoint.bin");
+
+    // No snapshot is due within the interval.
+    run(INPUT, new Checkpoint(file, Checkpoint.DEFAULT_INTERVAL), false, 1);
+    assertFalse(file.exists());
+
+    run(INPUT, new Checkpoint(file, 0), false, 1);
+    assertTrue(file.isFile());
+
+    // A snapshot of a different experiment is ignored.
+    Checkpoint other = new Checkpoint(file, 0);
+    other.track(new File(dir, "other.txt").getPath(), false);
+    assertFalse(other.open(Checkpoint.getFingerprint(Arrays.<Input>asList(
+        new InputParserString(INPUT + "Wedge 90 95\n")),
+        new ArrayList<Output>()), true));
+    assertEquals(other.getCompletedWedges(), 0);
+    System.out.println("@Test - testIntervalAndMismatch");
+  }
+
+  /**
+   * Console that stops the run as if the process was killed, once the
+   * simulation has reported some progress a number of times.
+   */
+  private static class Preempting extends PrintStream {
+    private final String progress;
+    private int          times;
+
+    Preempting(final PrintStream console, final String progress,
+        final int times) {
+      super(console, true);
+      this.progress = progress;
+      this.times = times;
+    }
+
+    @Override
+    public void print(final String s) {
+      if (progress.equals(s) && --times == 0) {
+        throw new IllegalStateException("preempted");
+      }
+      super.print(s);
+    }
+  }
+
+  /**
+   * Forwards the parsed experiment, but stops as if the process was killed
+   * after a number of wedges.
+   */
+  private static class Interrupted implements Initializer {
+    private final Initializer exp;
+    private int               wedges;
+
+    Interrupted(final Initializer i, final int wedges) {
+      exp = i;
+      this.wedges = wedges;
+    }
+
+    @Override
+    public void setCrystal(final Crystal c) {
+      exp.setCrystal(c);
+    }
+
+    @Override
+    public void setBeam(final Beam b) {
+      exp.setBeam(b);
+    }
+
+    @Override
+    public void exposeWedge(final Wedge w) {
+      if (wedges-- == 0) {
+        throw new IllegalStateException("preempted");
+      }
+      exp.exposeWedge(w);
+    }
+
+    @Override
+    public void raiseWarning(final String warning) {
+      exp.raiseWarning(warning);
+    }
+
+    @Override
+    public void addReference(final String reference) {
+      exp.addReference(reference);
+    }
+  }
+}
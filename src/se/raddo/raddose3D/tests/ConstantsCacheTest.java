@@ -0,0 +1,173 @@
+package se.raddo.raddose3D.tests;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.ConstantsCache;
+import se.raddo.raddose3D.ConstantsTable;
+
+public class ConstantsCacheTest {
+  /** Temporary directory holding the cache file and test constants. */
+  private File           dir;
+
+  /** Cache of the real constants, kept in dir. */
+  private ConstantsCache cache;
+
+  @BeforeClass
+  public void createCache() throws IOException {
+    dir = Files.createTempDirectory("constants-cache").toFile();
+    cache = new ConstantsCache(new File(dir, "cache"), null);
+  }
+
+  @AfterClass
+  public void removeCache() {
+    delete(dir);
+  }
+
+  /** Compares a cached table against a direct parse of the CSV file. */
+  private void compare(final String path) throws IOException {
+    ConstantsTable table = cache.getTable(path);
+    BufferedReader br = new BufferedReader(new InputStreamReader(
+        new FileInputStream(path), "US-ASCII"));
+    int row = 0;
+    String line;
+    while ((line = br.readLine()) != null) {
+      if (line.length() == 0 || line.charAt(0) == '#') {
+        continue;
+      }
+      String[] components = line.split(",", -1);
+      assertEquals(table.getColumnCount(row), components.length);
+      for (int i = 0; i < components.length; i++) {
+        try {
+          assertEquals(table.getValue(row, i),
+              Double.parseDouble(components[i]));
+          assertNull(table.getText(row, i));
+        } catch (NumberFormatException e) {
+          assertTrue(Double.isNaN(table.getValue(row, i)));
+          assertEquals(table.getText(row, i), components[i]);
+        }
+      }
+      row++;
+    }
+    br.close();
+    assertEquals(table.getRowCount(), row);
+  }
+
+  @Test
+  public void testTablesMatchFiles() throws IOException {
+    compare("constants/low_overvoltage.csv");
+    compare("constants/fullelsepa.csv");
+    compare("constants/above_20000/6.csv");
+    compare("constants/auger_linewidths/26-0.csv");
+    System.out.println("@Test - testTablesMatchFiles");
+  }
+
+  @Test
+  public void testRowAccess() throws IOException {
+    ConstantsTable table = cache.getTable("constants/below_20000/8.csv");
+    double[] row = table.getRow(1, 1);
+    assertEquals(row.length, table.getColumnCount(1) - 1);
+    for (int i = 0; i < row.length; i++) {
+      assertEquals(row[i], table.getValue(1, i + 1));
+    }
+    assertEquals(table.getRow(1, table.getColumnCount(1)).length, 0);
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class)
+  public void testColumnOutOfRange() throws IOException {
+    ConstantsTable table = cache.getTable("constants/below_20000/8.csv");
+    table.getValue(0, table.getColumnCount(0));
+  }
+
+  @Test
+  public void testIncompleteCacheRebuilt() throws IOException {
+    File root = new File(dir, "incomplete");
+    File cacheDir = new File(root, "cache");
+    write(root, "constants/low_overvoltage.csv", "1,2,3\n");
+    new ConstantsCache(cacheDir, root);
+    byte[] built = cacheBytes(cacheDir);
+
+    // A table that exists but is missing from the cache
+    write(root, "constants/high_overvoltage.csv", "4,5,6\n");
+    ConstantsCache rebuilt = new ConstantsCache(cacheDir, root);
+    assertFalse(Arrays.equals(cacheBytes(cacheDir), built));
+    assertEquals(rebuilt.getTable("constants/high_overvoltage.csv")
+        .getValue(0, 2), 6.0);
+    System.out.println("@Test - testIncompleteCacheRebuilt");
+  }
+
+  @Test
+  public void testStaleCacheRebuilt() throws IOException {
+    File root = new File(dir, "stale");
+    File cacheDir = new File(root, "cache");
+    File source = write(root, "constants/low_overvoltage.csv", "1,2,3\n");
+    new ConstantsCache(cacheDir, root);
+    byte[] built = cacheBytes(cacheDir);
+
+    // Same content, touched: the checksum shows the cache is still valid.
+    assertTrue(source.setLastModified(source.lastModified() - 10000));
+    new ConstantsCache(cacheDir, root);
+    assertEquals(cacheBytes(cacheDir), built);
+
+    // Different size
+    write(root, "constants/low_overvoltage.csv", "1,2,3,4\n");
+    ConstantsCache rebuilt = new ConstantsCache(cacheDir, root);
+    assertFalse(Arrays.equals(cacheBytes(cacheDir), built));
+    assertEquals(rebuilt.getTable("constants/low_overvoltage.csv")
+        .getColumnCount(0), 4);
+    System.out.println("@Test - testStaleCacheRebuilt");
+  }
+
+  @Test
+  public void testChecksumMismatchRebuilt() throws IOException {
+    File root = new File(dir, "checksum");
+    File cacheDir = new File(root, "cache");
+    File source = write(root, "constants/low_overvoltage.csv", "1,2,3\n");
+    new ConstantsCache(cacheDir, root);
+    byte[] built = cacheBytes(cacheDir);
+
+    // Same size, different content and modification time
+    write(root, "constants/low_overvoltage.csv", "1,2,7\n");
+    assertTrue(source.setLastModified(source.lastModified() - 10000));
+    ConstantsCache rebuilt = new ConstantsCache(cacheDir, root);
+    assertFalse(Arrays.equals(cacheBytes(cacheDir), built));
+    assertEquals(rebuilt.getTable("constants/low_overvoltage.csv")
+        .getValue(0, 2), 7.0);
+    System.out.println("@Test - testChecksumMismatchRebuilt");
+  }
+
+  /** Writes a constants file below a test root directory. */
+  private static File write(final File root, final String path,
+      final String content) throws IOException {
+    File f = new File(root, path);
+    f.getParentFile().mkdirs();
+    Files.write(f.toPath(), content.getBytes("US-ASCII"));
+    return f;
+  }
+
+  /** Returns the content of the cache file in a cache directory. */
+  private static byte[] cacheBytes(final File cacheDir) throws IOException {
+    File[] files = cacheDir.listFiles();
+    assertEquals(files.length, 1);
+    return Files.readAllBytes(files[0].toPath());
+  }
+
+  /** Deletes a directory tree. */
+  private static void delete(final File f) {
+    File[] children = f.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        delete(child);
+      }
+    }
+    f.delete();
+  }
+}
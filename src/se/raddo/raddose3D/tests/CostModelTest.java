@@ -0,0 +1,131 @@
+package se.raddo.raddose3D.tests;
+
+import java.util.Random;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.InputException;
+import se.raddo.raddose3D.server.CostModel;
+
+public class CostModelTest {
+  /** Crystal block of a small experiment, 1000 voxels. */
+  private static final String CRYSTAL = "Crystal\nType Cuboid\n"
+      + "Dimensions 20 20 20\nPixelsPerMicron 0.5\nAbsCoefCalc Average\n";
+
+  /** Beam and wedge blocks of a small experiment, 46 slices. */
+  private static final String BEAM_WEDGE = "Beam\nType Gaussian\n"
+      + "Flux 2e11\nFWHM 70 20\nEnergy 12.1\n"
+      + "Collimation Rectangular 55 19\n"
+      + "Wedge 0 90\nExposureTime 10\n";
+
+  @Test
+  public void testFeatures() throws InputException {
+    double[] plain = CostModel.getFeatures(CRYSTAL + BEAM_WEDGE);
+    assertEquals(plain.length, CostModel.FEATURES);
+    assertEquals(plain[0], 1d);
+    assertEquals(plain[1], 1000d, 1e-6);
+    assertEquals(plain[2], 46000d, 1e-6);
+    double total = 0;
+    for (double f : plain) {
+      total += f;
+    }
+    assertEquals(total, 47001d, 1e-6);
+
+    // Escape adds a feature of its own, another wedge adds its slices.
+    double[] escape = CostModel.getFeatures(CRYSTAL
+        + "CalculatePEEscape TRUE\n" + BEAM_WEDGE + "Wedge 0 0\n"
+        + "ExposureTime 1\n");
+    assertEquals(escape[1], 1000d, 1e-6);
+    assertEquals(escape[2], 146000d, 1e-6);
+    assertEquals(escape[3], 146000d, 1e-6);
+    System.out.println("@Test - testFeatures");
+  }
+
+  @Test
+  public void testFitRecoversLinearCosts() {
+    CostModel model = new CostModel();
+    double[] secondsPerFeature = {2, 1e-4, 3e-6, 1e-5, 0, 2e-6, 0, 30, 0, 0,
+        1e-3};
+    double[] bytesPerFeature = {1e7, 5000, 0, 0, 0, 100, 0, 0, 0, 0, 0};
+    Random r = new Random(1);
+
+    double[] job = new double[CostModel.FEATURES];
+    for (int n = 0; n < 500; n++) {
+      job[0] = 1;
+      job[1] = r.nextInt(1000000);
+      job[2] = job[1] * (1 + r.nextInt(200));
+      job[3] = r.nextBoolean() ? job[2] : 0;
+      job[5] = r.nextBoolean() ? job[2] : 0;
+      job[7] = r.nextInt(3);
+      job[10] = job[7] * r.nextInt(100000);
+      if (n == 0) {
+        assertNull(model.predictSeconds(job));
+        assertNull(model.predictBytes(job));
+      }
+      model.add(job, dot(secondsPerFeature, job), dot(bytesPerFeature, job));
+    }
+    assertEquals(model.size(), 500);
+
+    job[1] = 500000;
+    job[2] = job[1] * 100;
+    job[3] = job[2];
+    job[5] = 0;
+    job[7] = 1;
+    job[10] = 50000;
+    double seconds = dot(secondsPerFeature, job);
+    assertEquals(model.predictSeconds(job), seconds, seconds * 1e-3);
+    double bytes = dot(bytesPerFeature, job);
+    assertEquals(model.predictBytes(job), bytes, bytes * 1e-3);
+    System.out.println("@Test - testFitRecoversLinearCosts");
+  }
+
+  @Test
+  public void testHistoryLimit() {
+    CostModel model = new CostModel();
+    double[] job = new double[CostModel.FEATURES];
+    job[0] = 1;
+    for (int n = 0; n < CostModel.HISTORY; n++) {
+      model.add(job, 100, 0);
+    }
+    // Recent jobs replace old ones, and costs are never negative.
+    for (int n = 0; n < CostModel.HISTORY; n++) {
+      model.add(job, -1, 5);
+    }
+    assertEquals(model.size(), CostModel.HISTORY);
+    assertEquals(model.predictSeconds(job), 0d);
+    assertEquals(model.predictBytes(job), 5d, 1e-3);
+  }
+
+  @Test
+  public void testUnknownMemory() {
+    CostModel model = new CostModel();
+    double[] job = new double[CostModel.FEATURES];
+    job[0] = 1;
+    for (int n = 0; n < 100; n++) {
+      model.add(job, 10, Double.NaN);
+    }
+    // Jobs without memory still teach the runtime.
+    assertEquals(model.predictSeconds(job), 10d, 1e-3);
+    assertNull(model.predictBytes(job));
+
+    for (int n = 0; n < 2 * CostModel.FEATURES; n++) {
+      model.add(job, 10, 300);
+    }
+    assertEquals(model.predictBytes(job), 300d, 1e-3);
+    System.out.println("@Test - testUnknownMemory");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testWrongFeatureCount() {
+    new CostModel().add(new double[2], 1, 1);
+  }
+
+  private static double dot(final double[] a, final double[] b) {
+    double s = 0;
+    for (int i = 0; i < a.length; i++) {
+      s += a[i] * b[i];
+    }
+    return s;
+  }
+}
@@ -166,16 +166,16 @@ public class CrystalDummy extends Crystal {
   }
   
   @Override
-  public void startMicroED(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startMicroED(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, String crystalType) {
-    
+    return null;
   }
 
   @Override
-  public void startXFEL(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startXFEL(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer, boolean xfelTrue, boolean gos, boolean verticalPolarisation) {
     // TODO Auto-generated method stub
-    
+    return null;
   }
 
   @Override
@@ -201,10 +201,10 @@ public class CrystalDummy extends Crystal {
   }
 
   @Override
-  public void startMC(double XDim, double YDim, double ZDim, Beam beam,
+  public Map<String, Double> startMC(double XDim, double YDim, double ZDim, Beam beam,
       Wedge wedge, CoefCalc coefCalc, int runNum, boolean verticalGoniometer,
       boolean xfel, boolean gos, double[] surrThickness, boolean verticalPolarisation) {
     // TODO Auto-generated method stub
-    
+    return null;
   }
 }
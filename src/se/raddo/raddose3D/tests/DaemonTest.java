@@ -0,0 +1,94 @@
+package se.raddo.raddose3D.tests;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.Daemon;
+
+public class DaemonTest {
+
+  /** A small, quick experiment with one wedge. */
+  private static String job(final double exposureTime) {
+    return "Crystal\nType Cuboid\nDimensions 20 20 20\n"
+        + "PixelsPerMicron 0.5\nAbsCoefCalc Average\n"
+        + "Beam\nType Gaussian\nFlux 2e11\nFWHM 70 20\nEnergy 12.1\n"
+        + "Collimation Rectangular 55 19\n"
+        + "Wedge 0 90\nExposureTime " + exposureTime + "\n";
+  }
+
+  @Test(timeOut = 20000)
+  public void testResponsesInSubmissionOrder() throws IOException {
+    String session = job(10) + Daemon.DELIMITER + "\n"
+        + "Crystals\nare\nfun\n" + Daemon.DELIMITER + "\n"
+        + job(20);
+
+    Daemon d = new Daemon(3);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      d.serve(new ByteArrayInputStream(session.getBytes("UTF-8")), out);
+    } finally {
+      d.close();
+    }
+
+    String[] responses = out.toString("UTF-8").split(
+        "(?m)^" + Daemon.DELIMITER + "\n");
+    assertEquals(responses.length, 3);
+    assertTrue(responses[0].startsWith("# Job 1\nWedge Number"));
+    assertTrue(responses[1].startsWith("# Job 2 failed: "));
+    assertEquals(responses[1].split("\n").length, 1);
+    assertTrue(responses[2].startsWith("# Job 3\nWedge Number"));
+    System.out.println("@Test - testResponsesInSubmissionOrder");
+  }
+
+  @Test(timeOut = 20000)
+  public void testSessionOverSocket() throws Exception {
+    final Daemon d = new Daemon(2);
+    final ServerSocket server = new ServerSocket(0, 0,
+        InetAddress.getLoopbackAddress());
+    Thread listener = new Thread() {
+      @Override
+      public void run() {
+        try {
+          d.listen(server);
+        } catch (IOException e) {
+          fail("Listener failed", e);
+        }
+      }
+    };
+    listener.start();
+
+    Socket s = new Socket(InetAddress.getLoopbackAddress(),
+        server.getLocalPort());
+    OutputStream out = s.getOutputStream();
+    out.write((job(10) + Daemon.DELIMITER + "\n").getBytes("UTF-8"));
+    out.flush();
+
+    // The response arrives while the session is still open.
+    BufferedReader in = new BufferedReader(new InputStreamReader(
+        s.getInputStream(), "UTF-8"));
+    assertEquals(in.readLine(), "# Job 1");
+    String line;
+    while (!Daemon.DELIMITER.equals(line = in.readLine())) {
+      assertNotNull(line);
+    }
+
+    s.shutdownOutput();
+    assertNull(in.readLine());
+    s.close();
+
+    server.close();
+    listener.join();
+    d.close();
+    System.out.println("@Test - testSessionOverSocket");
+  }
+}
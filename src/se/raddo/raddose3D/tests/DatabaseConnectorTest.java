@@ -0,0 +1,147 @@
+package se.raddo.raddose3D.tests;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.server.ConnectionFactory;
+import se.raddo.raddose3D.server.DatabaseConnector;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public class DatabaseConnectorTest {
+  /**
+   * Stand-in for a local database. Every connection answers job queries with
+   * a fixed input, and updates run the given answer.
+   */
+  private static class StandInDatabase implements ConnectionFactory {
+    private final List<Connection> connections = new ArrayList<Connection>();
+    private final Answer<Integer>  update;
+
+    StandInDatabase(final Answer<Integer> update) {
+      this.update = update;
+    }
+
+    @Override
+    public synchronized Connection createConnection() throws SQLException {
+      Connection conn = mock(Connection.class);
+      when(conn.prepareStatement(anyString())).thenAnswer(
+          new Answer<PreparedStatement>() {
+            @Override
+            public PreparedStatement answer(final InvocationOnMock invocation)
+                throws SQLException {
+              PreparedStatement pst = mock(PreparedStatement.class);
+              ResultSet rs = mock(ResultSet.class);
+              when(rs.next()).thenReturn(true);
+              when(rs.getString(1)).thenReturn("Crystal");
+              when(pst.executeQuery()).thenReturn(rs);
+              when(pst.executeUpdate()).thenAnswer(update);
+              return pst;
+            }
+          });
+      connections.add(conn);
+      return conn;
+    }
+
+    synchronized List<Connection> getConnections() {
+      return new ArrayList<Connection>(connections);
+    }
+  }
+
+  private static final Answer<Integer> ONE_ROW = new Answer<Integer>() {
+    @Override
+    public Integer answer(final InvocationOnMock invocation) {
+      return 1;
+    }
+  };
+
+  @Test
+  public void testStatementsPreparedOncePerConnection() throws SQLException {
+    StandInDatabase db = new StandInDatabase(ONE_ROW);
+    DatabaseConnector sql = new DatabaseConnector();
+    sql.connect(db, 1);
+    for (int i = 0; i < 3; i++) {
+      assertEquals(sql.getJob(Long.valueOf(i)), "Crystal");
+    }
+    assertTrue(sql.lockQueueJob(1L));
+    assertTrue(sql.lockQueueJob(2L));
+
+    assertEquals(db.getConnections().size(), 1);
+    Connection conn = db.getConnections().get(0);
+    // one statement for getJob, two for lockQueueJob
+    verify(conn, times(3)).prepareStatement(anyString());
+    System.out.println("@Test - testStatementsPreparedOncePerConnection");
+  }
+
+  @Test
+  public void testConcurrentWriters() throws Exception {
+    // Both writers have to be inside the database at the same time to pass.
+    final CyclicBarrier barrier = new CyclicBarrier(2);
+    final AtomicInteger met = new AtomicInteger();
+    StandInDatabase db = new StandInDatabase(new Answer<Integer>() {
+      @Override
+      public Integer answer(final InvocationOnMock invocation)
+          throws Exception {
+        barrier.await(10, TimeUnit.SECONDS);
+        met.incrementAndGet();
+        return 1;
+      }
+    });
+    final DatabaseConnector sql = new DatabaseConnector();
+    sql.connect(db, 2);
+
+    Thread[] writers = new Thread[2];
+    for (int i = 0; i < writers.length; i++) {
+      final Long job = Long.valueOf(i);
+      writers[i] = new Thread() {
+        @Override
+        public void run() {
+          sql.writeOutputFile(job, "output.csv", "",
+              DatabaseConnector.OutputType.TEXT);
+        }
+      };
+      writers[i].start();
+    }
+    for (Thread t : writers) {
+      t.join();
+    }
+    // the output row and the removal of old chunks
+    assertEquals(met.get(), 4);
+    assertEquals(db.getConnections().size(), 2);
+    System.out.println("@Test - testConcurrentWriters");
+  }
+
+  @Test
+  public void testFailedConnectionReplaced() throws SQLException {
+    final AtomicInteger calls = new AtomicInteger();
+    StandInDatabase db = new StandInDatabase(new Answer<Integer>() {
+      @Override
+      public Integer answer(final InvocationOnMock invocation)
+          throws SQLException {
+        if (calls.incrementAndGet() == 1) {
+          throw new SQLException("Connection lost");
+        }
+        return 1;
+      }
+    });
+    DatabaseConnector sql = new DatabaseConnector();
+    sql.connect(db, 1);
+    assertFalse(sql.lockQueueJob(1L));
+    assertEquals(db.getConnections().size(), 1);
+    verify(db.getConnections().get(0)).close();
+
+    assertTrue(sql.lockQueueJob(1L));
+    assertEquals(db.getConnections().size(), 2);
+    System.out.println("@Test - testFailedConnectionReplaced");
+  }
+}
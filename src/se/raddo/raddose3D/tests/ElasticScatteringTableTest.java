@@ -0,0 +1,124 @@
+package se.raddo.raddose3D.tests;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.ConstantsCache;
+import se.raddo.raddose3D.ConstantsTable;
+import se.raddo.raddose3D.ElasticScatteringTable;
+
+public class ElasticScatteringTableTest {
+  /** Reference implementation: linear scan over a freshly computed CDF. */
+  private static int linearSample(final double[] probs, final double rnd) {
+    double totalProb = 0;
+    for (double p : probs) {
+      totalProb += p;
+    }
+    double sumProb = 0;
+    for (int k = 0; k < probs.length; k++) {
+      sumProb += probs[k];
+      if (sumProb / totalProb >= rnd) {
+        return k;
+      }
+    }
+    return 0;
+  }
+
+  @Test
+  public void testSamplingMatchesLinearScan() throws IOException {
+    ConstantsTable raw = ConstantsCache.getInstance().getTable(
+        "constants/above_20000/6.csv");
+    ElasticScatteringTable table = ElasticScatteringTable.load(true, 6);
+    assertEquals(table.getEnergyCount(), raw.getRowCount() - 1);
+
+    Random r = new Random(1234);
+    for (int e = 0; e < table.getEnergyCount(); e++) {
+      double[] probs = raw.getRow(e + 1, 1);
+      for (int i = 0; i < 200; i++) {
+        double rnd = r.nextDouble();
+        assertEquals(table.sampleAngleIndex(e, rnd), linearSample(probs, rnd));
+      }
+      assertEquals(table.sampleAngleIndex(e, 0.0), linearSample(probs, 0.0));
+    }
+    System.out.println("@Test - testSamplingMatchesLinearScan");
+  }
+
+  @Test
+  public void testNearestEnergy() throws IOException {
+    ElasticScatteringTable table = ElasticScatteringTable.load(false, 8);
+    int last = table.getEnergyCount() - 1;
+    assertEquals(table.nearestEnergyIndex(0), 0);
+    assertEquals(table.nearestEnergyIndex(table.getEnergy(last) + 100), last);
+    for (int i = 0; i < last; i++) {
+      double low = table.getEnergy(i);
+      double high = table.getEnergy(i + 1);
+      assertEquals(table.nearestEnergyIndex(low), i);
+      double mid = (low + high) / 2;
+      int expected = (Math.abs(mid - low) <= Math.abs(mid - high)) ? i : i + 1;
+      assertEquals(table.nearestEnergyIndex(mid), expected);
+      assertEquals(table.nearestEnergyIndex(low + (high - low) * 0.75), i + 1);
+    }
+  }
+
+  @Test
+  public void testSharedInstance() {
+    assertSame(ElasticScatteringTable.getInstance(true, 8),
+        ElasticScatteringTable.getInstance(true, 8));
+    assertNotSame(ElasticScatteringTable.getInstance(true, 8),
+        ElasticScatteringTable.getInstance(false, 8));
+  }
+
+  @Test
+  public void testLogEnergyInterpolation() {
+    ElasticScatteringTable table = ElasticScatteringTable.getInstance(false, 8);
+    double low = table.getEnergy(3);
+    double high = table.getEnergy(4);
+    double energy = Math.sqrt(low * high);  // halfway in log(energy)
+    assertEquals(table.interpolatedEnergyIndex(energy, 0.49), 4);
+    assertEquals(table.interpolatedEnergyIndex(energy, 0.51), 3);
+    assertEquals(table.interpolatedEnergyIndex(low, 0.0), 3);
+    assertEquals(table.interpolatedEnergyIndex(high, 0.99), 4);
+
+    int last = table.getEnergyCount() - 1;
+    assertEquals(table.interpolatedEnergyIndex(0, 0.5), 0);
+    assertEquals(table.interpolatedEnergyIndex(table.getEnergy(last) * 2, 0.5),
+        last);
+
+    Random r = new Random(99);
+    int upper = 0;
+    int samples = 100000;
+    double third = Math.exp(Math.log(low) + (Math.log(high) - Math.log(low))
+        / 3);
+    for (int i = 0; i < samples; i++) {
+      if (table.interpolatedEnergyIndex(third, r.nextDouble()) == 4) {
+        upper++;
+      }
+    }
+    assertEquals((double) upper / samples, 1.0 / 3, 0.01);
+  }
+
+  @Test
+  public void testDuplicateEnergiesUseLastRow() throws IOException {
+    // the hydrogen table repeats its energies from 166 keV upwards
+    ConstantsTable raw = ConstantsCache.getInstance().getTable(
+        "constants/above_20000/1.csv");
+    ElasticScatteringTable table = ElasticScatteringTable.load(true, 1);
+    int lastRow = raw.getRowCount() - 1;
+    int last = table.getEnergyCount() - 1;
+    assertTrue(table.getEnergyCount() < lastRow);
+    assertEquals(table.getEnergy(last), raw.getValue(lastRow, 0));
+    for (int i = 1; i <= last; i++) {
+      assertTrue(table.getEnergy(i) > table.getEnergy(i - 1));
+    }
+
+    double[] probs = raw.getRow(lastRow, 1);
+    Random r = new Random(5);
+    for (int i = 0; i < 200; i++) {
+      double rnd = r.nextDouble();
+      assertEquals(table.sampleAngleIndex(last, rnd), linearSample(probs, rnd));
+    }
+  }
+}
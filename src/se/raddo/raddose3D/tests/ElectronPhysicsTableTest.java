@@ -0,0 +1,151 @@
+package se.raddo.raddose3D.tests;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.CoefCalcCompute;
+import se.raddo.raddose3D.CoefCalcFromParams;
+import se.raddo.raddose3D.Element;
+import se.raddo.raddose3D.ElementEM;
+import se.raddo.raddose3D.RandomStream;
+
+public class ElectronPhysicsTableTest {
+  /** Energies between grid points, in keV. */
+  private static final double[] ENERGIES = {0.073, 0.61, 2.9, 12.4, 47.3,
+      99.9 };
+
+  /** Relative accuracy expected from interpolation. */
+  private static final double   TOLERANCE          = 1e-3;
+
+  /**
+   * Energy of the probability lookups in keV. Here the shell probabilities
+   * of the grid point below differ by more than the tolerance.
+   */
+  private static final double   PROBABILITY_ENERGY = 0.61;
+
+  /** Number of lookups averaged over. */
+  private static final int      SAMPLES            = 2000;
+
+  private CoefCalcCompute createCoefCalc() {
+    List<String> atoms = new ArrayList<String>();
+    List<Double> numbers = new ArrayList<Double>();
+    List<String> emptyAtoms = new ArrayList<String>();
+    List<Double> emptyNumbers = new ArrayList<Double>();
+    atoms.add("S");
+    numbers.add(Double.valueOf(6));
+    CoefCalcCompute coefCalc = new CoefCalcFromParams(78.02, 78.02, 78.02,
+        90.0, 90.0, 90.0, 24, 51, 0, 0, atoms, numbers, emptyAtoms,
+        emptyNumbers, emptyAtoms, emptyNumbers, 0.641, null, "TRUE", 0,
+        emptyAtoms, emptyNumbers, 0, 0);
+    coefCalc.populateCrossSectionCoefficients();
+    return coefCalc;
+  }
+
+  private void assertClose(final double actual, final double expected,
+      final String message) {
+    assertEquals(actual, expected, Math.abs(expected) * TOLERANCE, message);
+  }
+
+  @Test
+  public void testMatchesDirectCalculation() {
+    CoefCalcCompute coefCalc = createCoefCalc();
+    int n = ENERGIES.length;
+    double[] stoppingPower = new double[n];
+    double[] elasticMFPL = new double[n];
+    double[] innerShellMFPL = new double[n];
+    double[] plasmaMFPL = new double[n];
+    for (int i = 0; i < n; i++) {
+      stoppingPower[i] = coefCalc.getStoppingPower(ENERGIES[i], false);
+      elasticMFPL[i] = coefCalc.getElectronElasticMFPL(ENERGIES[i], false);
+      innerShellMFPL[i] = coefCalc.betheIonisationxSection(ENERGIES[i], false);
+      plasmaMFPL[i] = coefCalc.getPlasmaMFPL(ENERGIES[i], false);
+    }
+    double fseLambda = coefCalc.getFSELambda(1e-20, false);
+
+    coefCalc.tabulateElectronPhysics(100);
+    for (int i = 0; i < n; i++) {
+      assertClose(coefCalc.getStoppingPower(ENERGIES[i], false),
+          stoppingPower[i], "stopping power at " + ENERGIES[i]);
+      assertClose(coefCalc.getElectronElasticMFPL(ENERGIES[i], false),
+          elasticMFPL[i], "elastic MFPL at " + ENERGIES[i]);
+      assertClose(coefCalc.betheIonisationxSection(ENERGIES[i], false),
+          innerShellMFPL[i], "inner shell MFPL at " + ENERGIES[i]);
+      assertClose(coefCalc.getPlasmaMFPL(ENERGIES[i], false),
+          plasmaMFPL[i], "plasmon MFPL at " + ENERGIES[i]);
+    }
+    assertClose(coefCalc.getFSELambda(1e-20, false), fseLambda, "FSE lambda");
+    System.out.println("@Test - testMatchesDirectCalculation");
+  }
+
+  @Test
+  public void testProbabilitiesFollowLastLookup() {
+    CoefCalcCompute coefCalc = createCoefCalc();
+    coefCalc.getElectronElasticMFPL(PROBABILITY_ENERGY, false);
+    Map<ElementEM, Double> elasticProbs = coefCalc.getElasticProbs(false);
+    coefCalc.betheIonisationxSection(PROBABILITY_ENERGY, false);
+    Map<Element, double[]> shellProbs = coefCalc.getAllShellProbs(false);
+
+    // probabilities come from either grid point around the energy, so that on
+    // average they are interpolated
+    coefCalc.tabulateElectronPhysics(100);
+    coefCalc.setRandomStream(new RandomStream(7));
+    Map<ElementEM, Double> meanElasticProbs = new HashMap<ElementEM, Double>();
+    Map<Element, double[]> meanShellProbs = new HashMap<Element, double[]>();
+    for (int i = 0; i < SAMPLES; i++) {
+      coefCalc.getElectronElasticMFPL(PROBABILITY_ENERGY, false);
+      Map<ElementEM, Double> tabulatedElasticProbs =
+          coefCalc.getElasticProbs(false);
+      assertEquals(tabulatedElasticProbs.keySet(), elasticProbs.keySet());
+      for (ElementEM e : tabulatedElasticProbs.keySet()) {
+        Double sum = meanElasticProbs.get(e);
+        meanElasticProbs.put(e, (sum == null ? 0 : sum)
+            + tabulatedElasticProbs.get(e) / SAMPLES);
+      }
+      // repeated lookups share the tabulated probabilities
+      assertSame(coefCalc.getElasticProbs(false), tabulatedElasticProbs);
+
+      coefCalc.betheIonisationxSection(PROBABILITY_ENERGY, false);
+      Map<Element, double[]> tabulatedShellProbs =
+          coefCalc.getAllShellProbs(false);
+      assertEquals(tabulatedShellProbs.keySet(), shellProbs.keySet());
+      for (Element e : tabulatedShellProbs.keySet()) {
+        double[] probs = tabulatedShellProbs.get(e);
+        if (!meanShellProbs.containsKey(e)) {
+          meanShellProbs.put(e, new double[probs.length]);
+        }
+        for (int shell = 0; shell < probs.length; shell++) {
+          meanShellProbs.get(e)[shell] += probs[shell] / SAMPLES;
+        }
+      }
+    }
+
+    for (ElementEM e : elasticProbs.keySet()) {
+      assertClose(meanElasticProbs.get(e), elasticProbs.get(e),
+          "elastic probability of " + e.getElementName());
+    }
+    for (Element e : shellProbs.keySet()) {
+      for (int shell = 0; shell < shellProbs.get(e).length; shell++) {
+        assertClose(meanShellProbs.get(e)[shell], shellProbs.get(e)[shell],
+            "shell probability of " + e.getElementName());
+      }
+    }
+    System.out.println("@Test - testProbabilitiesFollowLastLookup");
+  }
+
+  @Test
+  public void testOutsideTableCalculatedDirectly() {
+    CoefCalcCompute coefCalc = createCoefCalc();
+    double stoppingPower = coefCalc.getStoppingPower(150, false);
+    double elasticMFPL = coefCalc.getElectronElasticMFPL(0.02, false);
+    coefCalc.tabulateElectronPhysics(100);
+    assertEquals(coefCalc.getStoppingPower(150, false), stoppingPower, 0.0);
+    assertEquals(coefCalc.getElectronElasticMFPL(0.02, false), elasticMFPL,
+        0.0);
+    System.out.println("@Test - testOutsideTableCalculatedDirectly");
+  }
+}
@@ -1,17 +1,44 @@
 package se.raddo.raddose3D.tests;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.mockito.InOrder;
 import org.testng.annotations.*;
+import static org.testng.Assert.*;
 
 import se.raddo.raddose3D.Beam;
 import se.raddo.raddose3D.Crystal;
 import se.raddo.raddose3D.Experiment;
 import se.raddo.raddose3D.ExperimentDummy;
+import se.raddo.raddose3D.InputException;
+import se.raddo.raddose3D.InputParserString;
 import se.raddo.raddose3D.Output;
+import se.raddo.raddose3D.OutputFactory;
+import se.raddo.raddose3D.OutputSubprogramResults;
+import se.raddo.raddose3D.SubprogramResult;
 import se.raddo.raddose3D.Wedge;
+import se.raddo.raddose3D.WriterString;
 import static org.mockito.Mockito.*;
 
 public class ExperimentTest {
+  /** A seeded Monte Carlo experiment. */
+  private static final String SEEDED = "Crystal\nType Cuboid\n"
+      + "Dimensions 20 20 20\nPixelsPerMicron 0.5\nAbsCoefCalc RD3D\n"
+      + "UnitCell 78.4 78.4 78.4\nNumMonomers 8\nNumResidues 153\n"
+      + "Seed 12345\nSubprogram MONTECARLO\nSimPhotons 2000\n"
+      + "CalcSurrounding TRUE\n"
+      + "Beam\nType Gaussian\nFlux 2e12\nFWHM 20 20\nEnergy 12.4\n"
+      + "Collimation Rectangular 30 30\n"
+      + "Wedge 0 0\nExposureTime 1\n";
+
   private final Crystal c = mock(Crystal.class);
   private final Wedge   w = mock(Wedge.class);
   private final Beam    b = mock(Beam.class);
@@ -91,4 +118,156 @@ public class ExperimentTest {
     verify(testsubscriberThree, never()).publishWedge(any(Wedge.class));
     verify(testsubscriberThree, times(1)).close();
   }
+
+  @Test
+  public void testExperimentPublishesSubprogramResults() {
+    // arrange
+    Experiment e = new Experiment();
+    Crystal crystal = mock(Crystal.class);
+    Output plain = mock(Output.class);
+    Output interested = mock(Output.class,
+        withSettings().extraInterfaces(OutputSubprogramResults.class));
+    SubprogramResult run1 = new SubprogramResult("MONTECARLO", 1,
+        new HashMap<String, Double>());
+    SubprogramResult run2 = new SubprogramResult("MONTECARLO", 2,
+        new HashMap<String, Double>());
+    when(crystal.getSubprogramResults()).thenReturn(Arrays.asList(run1, run2));
+
+    // act
+    e.addObserver(plain);
+    e.addObserver(interested);
+    e.setCrystal(crystal);
+    e.setBeam(b);
+    e.exposeWedge(w);
+    e.close();
+
+    // assert
+    verify(crystal).expose(b, w);
+    InOrder inOrder = inOrder(interested);
+    inOrder.verify((OutputSubprogramResults) interested)
+        .publishSubprogramResult(w, run1);
+    inOrder.verify((OutputSubprogramResults) interested)
+        .publishSubprogramResult(w, run2);
+    inOrder.verify(interested).close();
+    verify(plain, never()).publishWedge(any(Wedge.class));
+    verify(interested, never()).publishWedge(any(Wedge.class));
+    verify(plain, times(1)).close();
+  }
+
+  @Test
+  public void testSummaryCSVReportsSubprogramResults() {
+    Experiment e = new Experiment();
+    Crystal crystal = mock(Crystal.class);
+    Map<String, Double> values = new LinkedHashMap<String, Double>();
+    values.put("RD3D-ADWC", 1.5);
+    values.put("MC-ADWC", 2.25);
+    when(crystal.getSubprogramResults()).thenReturn(Arrays.asList(
+        new SubprogramResult("MONTECARLO", 1, values),
+        new SubprogramResult("MONTECARLO", 2, values)));
+    WriterString csv = new WriterString();
+
+    e.addObserver(new OutputFactory().createOutputSimple("SummaryCSV", csv));
+    e.setCrystal(crystal);
+    e.setBeam(b);
+    e.exposeWedge(w);
+    e.close();
+
+    String[] lines = csv.getDataString().split("\n");
+    assertEquals(lines.length, 4);
+    assertEquals(lines[1], "Wedge Number, Subprogram, Run, RD3D-ADWC, MC-ADWC");
+    assertTrue(lines[2].startsWith("1, MONTECARLO, 1, 1.5"), lines[2]);
+    assertTrue(lines[3].startsWith("1, MONTECARLO, 2, 1.5"), lines[3]);
+  }
+
+  @Test
+  public void testSubprogramFilesUnderPrefix()
+      throws IOException, InputException {
+    String input = "Crystal\nType Cuboid\nDimensions 20 20 20\n"
+        + "PixelsPerMicron 0.5\nAbsCoefCalc RD3D\n"
+        + "UnitCell 78.4 78.4 78.4\nNumMonomers 8\nNumResidues 153\n"
+        + "Seed 1\nSubprogram GOS\nSimPhotons 500\n"
+        + "CalcSurrounding TRUE\n"
+        + "Beam\nType Gaussian\nFlux 2e11\nFWHM 70 20\nEnergy 12.1\n"
+        + "Collimation Rectangular 55 19\n"
+        + "Wedge 0 30\nExposureTime 5\n";
+    File dir = Files.createTempDirectory("experiment").toFile();
+    try {
+      Experiment e = new Experiment();
+      e.setOutputPrefix(new File(dir, "a-").getPath());
+      e.process(new InputParserString(input));
+      e.close();
+      assertTrue(new File(dir, "a-XFEL.csv").isFile());
+
+      // Experiments sharing a process may keep the files to themselves.
+      Experiment quiet = new Experiment();
+      quiet.setOutputPrefix(new File(dir, "b-").getPath());
+      quiet.setSubprogramFiles(false);
+      quiet.process(new InputParserString(input));
+      quiet.close();
+      for (File f : dir.listFiles()) {
+        assertTrue(f.getName().startsWith("a-"), f.getName());
+      }
+    } finally {
+      for (File f : dir.listFiles()) {
+        f.delete();
+      }
+      dir.delete();
+    }
+    System.out.println("@Test - testSubprogramFilesUnderPrefix");
+  }
+
+  @Test
+  public void testSeedReproducibleAcrossJVMs()
+      throws IOException, InterruptedException, InputException {
+    String expected = runSeeded();
+
+    // Another JVM, with different identity hash codes and without caches.
+    Process p = new ProcessBuilder(new File(System.getProperty("java.home"),
+        "bin/java").getPath(), "-XX:+UnlockExperimentalVMOptions",
+        "-XX:hashCode=2", "-Draddose3d.cachedir=none",
+        "-cp", System.getProperty("java.class.path"),
+        ExperimentTest.class.getName()).redirectErrorStream(true).start();
+    p.getOutputStream().close();
+    ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    InputStream in = p.getInputStream();
+    byte[] buffer = new byte[4096];
+    for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+      actual.write(buffer, 0, n);
+    }
+    assertEquals(p.waitFor(), 0, actual.toString("UTF-8"));
+
+    assertTrue(expected.contains("MONTECARLO"), expected);
+    assertTrue(actual.toString("UTF-8").endsWith(expected),
+        actual.toString("UTF-8"));
+    System.out.println("@Test - testSeedReproducibleAcrossJVMs");
+  }
+
+  /**
+   * Runs the seeded experiment and prints its SummaryCSV output, for
+   * testSeedReproducibleAcrossJVMs.
+   *
+   * @param args
+   *          ignored
+   */
+  public static void main(final String[] args) throws InputException {
+    String summary = runSeeded();
+    System.out.flush();
+    System.out.print(summary);
+  }
+
+  /**
+   * Runs the seeded experiment.
+   *
+   * @return
+   *         SummaryCSV output of the experiment
+   */
+  private static String runSeeded() throws InputException {
+    Experiment e = new Experiment();
+    e.setSubprogramFiles(false);
+    WriterString csv = new WriterString();
+    e.addObserver(new OutputFactory().createOutputSimple("SummaryCSV", csv));
+    e.process(new InputParserString(SEEDED));
+    e.close();
+    return csv.getDataString();
+  }
 }
@@ -0,0 +1,155 @@
+package se.raddo.raddose3D.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.CoefCalcCompute;
+import se.raddo.raddose3D.CoefCalcFromParams;
+import se.raddo.raddose3D.Element;
+import se.raddo.raddose3D.GOSInelasticCache;
+import se.raddo.raddose3D.GOSInelasticTable;
+import se.raddo.raddose3D.RandomStream;
+
+public class GOSInelasticTableTest {
+  /** Energies between grid points, in keV. */
+  private static final double[] ENERGIES = {0.073, 0.61, 1.7 };
+
+  /** Highest tabulated energy in keV, low to keep the test fast. */
+  private static final double   MAX_ENERGY = 2;
+
+  private CoefCalcCompute createCoefCalc(final double sulphurs) {
+    List<String> atoms = new ArrayList<String>();
+    List<Double> numbers = new ArrayList<Double>();
+    List<String> emptyAtoms = new ArrayList<String>();
+    List<Double> emptyNumbers = new ArrayList<Double>();
+    atoms.add("S");
+    numbers.add(Double.valueOf(sulphurs));
+    CoefCalcCompute coefCalc = new CoefCalcFromParams(78.02, 78.02, 78.02,
+        90.0, 90.0, 90.0, 24, 51, 0, 0, atoms, numbers, emptyAtoms,
+        emptyNumbers, emptyAtoms, emptyNumbers, 0.641, null, "TRUE", 0,
+        emptyAtoms, emptyNumbers, 0, 0);
+    coefCalc.populateCrossSectionCoefficients();
+    return coefCalc;
+  }
+
+  private void deleteDirectory(final File dir) {
+    for (File f : dir.listFiles()) {
+      f.delete();
+    }
+    dir.delete();
+  }
+
+  @Test
+  public void testLookupMatchesDirectCalculation() throws IOException {
+    CoefCalcCompute coefCalc = createCoefCalc(6);
+    GOSInelasticTable table = new GOSInelasticTable(coefCalc, false,
+        MAX_ENERGY);
+    int n = ENERGIES.length;
+    double[] lambda = new double[n];
+    double[] adjustment = new double[n];
+    double[] plasmon = new double[n];
+    for (int i = 0; i < n; i++) {
+      double gridEnergy = table.getEnergy(table.getPoint(ENERGIES[i]));
+      assertTrue(gridEnergy <= ENERGIES[i]);
+      lambda[i] = coefCalc.getGOSInel(false, gridEnergy);
+      adjustment[i] = coefCalc.returnAdjustment();
+      plasmon[i] = coefCalc.getPlasmonVariable(false)[3];
+    }
+
+    coefCalc.tabulateGOSInelastic(MAX_ENERGY, new GOSInelasticCache(null));
+    for (int i = 0; i < n; i++) {
+      assertEquals(coefCalc.getGOSInel(false, ENERGIES[i]), lambda[i],
+          Math.abs(lambda[i]) * 1e-12, "lambda at " + ENERGIES[i]);
+      assertEquals(coefCalc.returnAdjustment(), adjustment[i],
+          "adjustment at " + ENERGIES[i]);
+      assertEquals(coefCalc.getPlasmonVariable(false)[3], plasmon[i],
+          "plasmon cross section at " + ENERGIES[i]);
+    }
+    // repeated lookups share the tabulated cross sections
+    Map<Element, double[][]> shells = coefCalc.getGOSVariable(false);
+    coefCalc.getGOSInel(false, ENERGIES[n - 1]);
+    assertSame(coefCalc.getGOSVariable(false), shells);
+    System.out.println("@Test - testLookupMatchesDirectCalculation");
+  }
+
+  @Test
+  public void testLookupInterpolatedOnAverage() {
+    CoefCalcCompute coefCalc = createCoefCalc(6);
+    GOSInelasticTable table = new GOSInelasticTable(coefCalc, false,
+        MAX_ENERGY);
+    int samples = 4000;
+    for (double energy : ENERGIES) {
+      int point = table.getPoint(energy);
+      double lower = coefCalc.getGOSInel(false, table.getEnergy(point));
+      double upper = coefCalc.getGOSInel(false, table.getEnergy(point + 1));
+      double direct = coefCalc.getGOSInel(false, energy);
+
+      CoefCalcCompute tabulated = createCoefCalc(6);
+      tabulated.tabulateGOSInelastic(MAX_ENERGY, new GOSInelasticCache(null));
+      tabulated.setRandomStream(new RandomStream(3));
+      double sum = 0;
+      for (int i = 0; i < samples; i++) {
+        double lambda = tabulated.getGOSInel(false, energy);
+        assertTrue(lambda == lower || lambda == upper, "grid point value");
+        sum += lambda;
+      }
+      assertEquals(sum / samples, direct, Math.abs(direct) * 1e-3,
+          "mean lambda at " + energy);
+    }
+    System.out.println("@Test - testLookupInterpolatedOnAverage");
+  }
+
+  @Test
+  public void testKeyDependsOnComposition() {
+    String key = GOSInelasticCache.getKey(createCoefCalc(6), MAX_ENERGY);
+    assertEquals(GOSInelasticCache.getKey(createCoefCalc(6), MAX_ENERGY), key);
+    assertFalse(key.equals(GOSInelasticCache.getKey(createCoefCalc(7),
+        MAX_ENERGY)));
+    assertFalse(key.equals(GOSInelasticCache.getKey(createCoefCalc(6),
+        2 * MAX_ENERGY)));
+    System.out.println("@Test - testKeyDependsOnComposition");
+  }
+
+  @Test
+  public void testCachedTablesMatchCalculated() throws IOException {
+    File dir = Files.createTempDirectory("gos").toFile();
+    try {
+      GOSInelasticCache cache = new GOSInelasticCache(dir);
+      CoefCalcCompute calculated = createCoefCalc(6);
+      String key = GOSInelasticCache.getKey(calculated, MAX_ENERGY);
+      assertNull(cache.load(key, calculated));
+      calculated.tabulateGOSInelastic(MAX_ENERGY, cache);
+      assertTrue(cache.getFile(key).isFile());
+
+      CoefCalcCompute cached = createCoefCalc(6);
+      assertNotNull(cache.load(key, cached));
+      cached.tabulateGOSInelastic(MAX_ENERGY, cache);
+      for (double energy : ENERGIES) {
+        assertEquals(cached.getGOSInel(false, energy),
+            calculated.getGOSInel(false, energy), 0.0);
+        assertEquals(cached.returnAdjustment(),
+            calculated.returnAdjustment(), 0.0);
+        Map<Element, double[][]> cachedShells = cached.getGOSVariable(false);
+        Map<Element, double[][]> calculatedShells =
+            calculated.getGOSVariable(false);
+        assertEquals(cachedShells.keySet(), calculatedShells.keySet());
+        for (Element e : calculatedShells.keySet()) {
+          for (int shell = 0; shell < calculatedShells.get(e).length; shell++) {
+            assertEquals(cachedShells.get(e)[shell],
+                calculatedShells.get(e)[shell]);
+          }
+        }
+      }
+    } finally {
+      deleteDirectory(dir);
+    }
+    System.out.println("@Test - testCachedTablesMatchCalculated");
+  }
+}
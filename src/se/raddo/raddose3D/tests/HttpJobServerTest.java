@@ -0,0 +1,194 @@
+package se.raddo.raddose3D.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.server.HttpJobServer;
+
+public class HttpJobServerTest {
+  private HttpJobServer server;
+
+  /** A small, quick experiment with one wedge. */
+  private static final String JOB = "Crystal\nType Cuboid\n"
+      + "Dimensions 20 20 20\nPixelsPerMicron 0.5\nAbsCoefCalc Average\n"
+      + "Beam\nType Gaussian\nFlux 2e11\nFWHM 70 20\nEnergy 12.1\n"
+      + "Collimation Rectangular 55 19\n"
+      + "Wedge 0 90\nExposureTime 10\n";
+
+  @BeforeMethod
+  public void startServer() throws IOException {
+    server = new HttpJobServer(new InetSocketAddress(
+        InetAddress.getLoopbackAddress(), 0), 1);
+    server.start();
+  }
+
+  @AfterMethod
+  public void stopServer() {
+    server.stop();
+  }
+
+  private HttpURLConnection open(final String path) throws IOException {
+    URL url = new URL("http", InetAddress.getLoopbackAddress()
+        .getHostAddress(), server.getPort(), path);
+    return (HttpURLConnection) url.openConnection();
+  }
+
+  private static String read(final HttpURLConnection c) throws IOException {
+    InputStream in;
+    if (c.getResponseCode() >= 400) {
+      in = c.getErrorStream();
+    } else {
+      in = c.getInputStream();
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buf = new byte[8192];
+    int n;
+    while ((n = in.read(buf)) != -1) {
+      out.write(buf, 0, n);
+    }
+    in.close();
+    return out.toString("UTF-8");
+  }
+
+  private String submit(final String input) throws IOException {
+    return submit("/jobs", input);
+  }
+
+  private String submit(final String path, final String input)
+      throws IOException {
+    HttpURLConnection c = open(path);
+    c.setRequestMethod("POST");
+    c.setDoOutput(true);
+    OutputStream out = c.getOutputStream();
+    out.write(input.getBytes("UTF-8"));
+    out.close();
+    assertEquals(c.getResponseCode(), 202);
+    String id = read(c).trim();
+    assertEquals(c.getHeaderField("Location"), "/jobs/" + id);
+    return id;
+  }
+
+  @Test(timeOut = 30000)
+  public void testSubmitWaitAndStream() throws IOException {
+    String id = submit("/jobs?outputs=VoxelDose.csv", JOB);
+
+    // An output requested early is streamed until the job is done.
+    HttpURLConnection summary = open("/jobs/" + id + "/Summary.csv");
+    assertEquals(summary.getResponseCode(), 200);
+    assertEquals(summary.getHeaderField("Transfer-Encoding"), "chunked");
+    String csv = read(summary);
+    assertTrue(csv.startsWith("Wedge Number"));
+    assertEquals(csv.split("\n").length, 2);
+
+    assertEquals(read(open("/jobs/" + id + "?wait=20")), "DONE\n");
+    assertTrue(read(open("/jobs/" + id + "/VoxelDose.csv")).length() > 0);
+    // Other outputs per voxel are not kept.
+    assertEquals(open("/jobs/" + id + "/DoseState.csv").getResponseCode(),
+        404);
+    System.out.println("@Test - testSubmitWaitAndStream");
+  }
+
+  @Test(timeOut = 30000)
+  public void testFailedJob() throws IOException {
+    String id = submit("Crystals\nare\nfun\n");
+    String status = read(open("/jobs/" + id + "?wait=20"));
+    assertTrue(status.startsWith("FAILED\n"));
+    assertTrue(status.contains("InputException"));
+    // Outputs of a failed job are complete, holding just the header.
+    String csv = read(open("/jobs/" + id + "/Summary.csv"));
+    assertTrue(csv.startsWith("Wedge Number"));
+    assertEquals(csv.split("\n").length, 1);
+    System.out.println("@Test - testFailedJob");
+  }
+
+  @Test(timeOut = 30000)
+  public void testUnknownRequests() throws IOException {
+    assertEquals(open("/jobs/42").getResponseCode(), 404);
+    assertEquals(open("/jobs/x/Summary.csv").getResponseCode(), 404);
+    assertEquals(open("/jobs").getResponseCode(), 405);
+    String id = submit(JOB);
+    assertEquals(open("/jobs/" + id + "/Secret.txt").getResponseCode(), 404);
+
+    HttpURLConnection c = open("/jobs?outputs=Secret.txt");
+    c.setRequestMethod("POST");
+    c.setDoOutput(true);
+    OutputStream out = c.getOutputStream();
+    out.write(JOB.getBytes("UTF-8"));
+    out.close();
+    assertEquals(c.getResponseCode(), 400);
+    System.out.println("@Test - testUnknownRequests");
+  }
+
+  @Test(timeOut = 60000)
+  public void testOldestFinishedJobsEvicted()
+      throws IOException, InterruptedException {
+    HttpJobServer limited = new HttpJobServer(new InetSocketAddress(
+        InetAddress.getLoopbackAddress(), 0), 1, 3, Long.MAX_VALUE);
+    limited.start();
+    HttpJobServer original = server;
+    long size;
+    try {
+      server = limited;
+      // Five finished jobs, three are kept.
+      String[] ids = runFailingJobs(5);
+      awaitRemoved(ids[1]);
+      assertEquals(open("/jobs/" + ids[0]).getResponseCode(), 404);
+      for (int i = 2; i < ids.length; i++) {
+        assertEquals(open("/jobs/" + ids[i]).getResponseCode(), 200);
+      }
+      size = 0;
+      for (String name : new String[] {"Summary.csv", "Summary.txt",
+          "RDE.csv", "DWDs.csv" }) {
+        size += read(open("/jobs/" + ids[2] + "/" + name)).length();
+      }
+      assertTrue(size > 0);
+    } finally {
+      limited.stop();
+    }
+
+    // Outputs of two and a half jobs are kept.
+    limited = new HttpJobServer(new InetSocketAddress(
+        InetAddress.getLoopbackAddress(), 0), 1, 100, size * 5 / 2);
+    limited.start();
+    try {
+      server = limited;
+      String[] ids = runFailingJobs(4);
+      awaitRemoved(ids[1]);
+      assertEquals(open("/jobs/" + ids[0]).getResponseCode(), 404);
+      assertEquals(open("/jobs/" + ids[2]).getResponseCode(), 200);
+      assertEquals(open("/jobs/" + ids[3]).getResponseCode(), 200);
+    } finally {
+      limited.stop();
+      server = original;
+    }
+    System.out.println("@Test - testOldestFinishedJobsEvicted");
+  }
+
+  /** Waits until a job is forgotten once a later job has finished. */
+  private void awaitRemoved(final String id)
+      throws IOException, InterruptedException {
+    while (open("/jobs/" + id).getResponseCode() != 404) {
+      Thread.sleep(10);
+    }
+  }
+
+  /** Submits jobs with invalid input one after another. */
+  private String[] runFailingJobs(final int count) throws IOException {
+    String[] ids = new String[count];
+    for (int i = 0; i < count; i++) {
+      ids[i] = submit("Crystals\nare\nfun\n");
+      assertTrue(read(open("/jobs/" + ids[i] + "?wait=20"))
+          .startsWith("FAILED\n"));
+    }
+    return ids;
+  }
+}
@@ -52,6 +52,27 @@ public class InputParserTest {
     assertEquals(init.wedges.size(), 0);
   }
 
+  @Test(timeOut = 2000)
+  public void InputParserShouldRejectFractionalSeed() throws Exception {
+    for (String seed : new String[] {"1.5", "1e3"}) {
+      InputParser parser = new InputParserString("Crystal\nType Cuboid\n"
+          + "Dimensions 10 10 10\nAbsCoefCalc Dummy\nSeed " + seed + "\n");
+      try {
+        parser.sendData(new InputParserTestInit());
+        fail("Seed " + seed + " accepted");
+      } catch (InputException e) {
+        assertTrue(e.toString().contains(
+            "line 5:5 Seed must be a whole number, not " + seed),
+            e.toString());
+      }
+    }
+
+    InputParserTestInit init = new InputParserTestInit();
+    new InputParserString("Crystal\nType Cuboid\nDimensions 10 10 10\n"
+        + "AbsCoefCalc Dummy\nSeed 42\n").sendData(init);
+    assertEquals(init.crystals.size(), 1);
+  }
+
   private String sampleFile_Simple() {
     return "Crystal\n" + "Type Cuboid\n"
         + "DiffractionDecayModel Simple # equivalent: DDM\n"
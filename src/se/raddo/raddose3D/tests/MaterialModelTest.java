@@ -0,0 +1,142 @@
+package se.raddo.raddose3D.tests;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.MaterialModel;
+
+public class MaterialModelTest {
+  /**
+   * The scan the engines did before, the first entry whose running sum
+   * exceeds the random number.
+   */
+  private int scan(final double[] cumulativeProbs, final double random) {
+    for (int i = 0; i < cumulativeProbs.length; i++) {
+      if (cumulativeProbs[i] > random) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Test
+  public void testProbabilitiesMatchScan() {
+    Map<String, Double> probs = new LinkedHashMap<String, Double>();
+    probs.put("C", 0.5);
+    probs.put("N", 0.6);
+    probs.put("O", 0.9);
+    probs.put("S", 0.98);
+    MaterialModel<String> model = MaterialModel.fromCumulative(probs);
+    assertEquals(model.getNumElements(), 4);
+    assertEquals(model.getProbability(0), 0.5, 1e-12);
+    assertEquals(model.getProbability(1), 0.1, 1e-12);
+    assertEquals(model.getProbability(2), 0.3, 1e-12);
+    assertEquals(model.getProbability(3), 0.08, 1e-12);
+    assertEquals(model.getProbability(-1), 0.02, 1e-12);
+
+    double[] cumulative = {0.5, 0.6, 0.9, 0.98 };
+    int[] sampled = new int[5];
+    int[] scanned = new int[5];
+    Random random = new Random(11);
+    int draws = 200000;
+    for (int n = 0; n < draws; n++) {
+      double u = random.nextDouble();
+      sampled[model.sample(u) + 1]++;
+      scanned[scan(cumulative, u) + 1]++;
+    }
+    for (int i = 0; i < 5; i++) {
+      assertEquals((double) sampled[i] / draws, (double) scanned[i] / draws,
+          0.005);
+    }
+    assertNull(model.getElement(-1));
+    assertEquals(model.getElement(2), "O");
+    System.out.println("@Test - testProbabilitiesMatchScan");
+  }
+
+  @Test
+  public void testShellsWithinElement() {
+    Map<String, Double> probs = new LinkedHashMap<String, Double>();
+    probs.put("Fe", 0.25);
+    probs.put("H", 1.0);
+    Map<String, double[]> shells = new LinkedHashMap<String, double[]>();
+    // below the K edge the K entry stays 0, as in getRelativeShellProbs()
+    shells.put("Fe", new double[] {0, 0.4, 0.7, 1.0 });
+    shells.put("H", new double[] {0, 0, 0, 0 });
+    MaterialModel<String> model = MaterialModel.fromCumulative(probs, shells);
+    int fe = 0;
+    int h = 1;
+    assertEquals(model.getElement(fe), "Fe");
+    int[] counts = new int[4];
+    Random random = new Random(5);
+    for (int n = 0; n < 100000; n++) {
+      counts[model.sampleShell(fe, random.nextDouble())]++;
+      assertEquals(model.sampleShell(h, random.nextDouble()), -1);
+    }
+    assertEquals(counts[0], 0);
+    assertEquals(counts[1] / 100000.0, 0.4, 0.01);
+    assertEquals(counts[2] / 100000.0, 0.3, 0.01);
+    assertEquals(counts[3] / 100000.0, 0.3, 0.01);
+    System.out.println("@Test - testShellsWithinElement");
+  }
+
+  @Test
+  public void testShellsAcrossElements() {
+    Map<String, double[]> shells = new LinkedHashMap<String, double[]>();
+    shells.put("C", new double[] {0.1, 0.1, 0.3 });
+    shells.put("S", new double[] {0.3, 0.8, 1.0 });
+    MaterialModel<String> model = MaterialModel.fromCumulativeShells(shells);
+    assertEquals(model.getNumOutcomes(), 6);
+    assertEquals(model.getElement(2), "C");
+    assertEquals(model.getShell(2), 2);
+    assertEquals(model.getElement(4), "S");
+    assertEquals(model.getShell(4), 1);
+    assertEquals(model.getProbability(1), 0.0, 1e-12);
+    assertEquals(model.getProbability(3), 0.0, 1e-12);
+    assertEquals(model.getProbability(4), 0.5, 1e-12);
+    assertEquals(model.getProbability(-1), 0.0, 1e-12);
+    for (double u = 0; u < 1; u += 0.001) {
+      int outcome = model.sample(u);
+      assertTrue(outcome >= 0);
+      assertTrue(model.getProbability(outcome) > 0);
+    }
+    // an empty material always misses
+    MaterialModel<String> empty = MaterialModel.fromCumulativeShells(
+        new LinkedHashMap<String, double[]>());
+    assertEquals(empty.sample(0.5), -1);
+    assertEquals(empty.getShell(-1), -1);
+    System.out.println("@Test - testShellsAcrossElements");
+  }
+
+  @Test
+  public void testRequiresOrderedMaps() {
+    // Running sums of a HashMap could be read in any order.
+    Map<String, Double> unordered = new HashMap<String, Double>();
+    unordered.put("C", 0.5);
+    try {
+      MaterialModel.fromCumulative(unordered);
+      fail("HashMap accepted");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("HashMap"), e.getMessage());
+    }
+    try {
+      MaterialModel.fromCumulativeShells(new HashMap<String, double[]>());
+      fail("HashMap accepted");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("HashMap"), e.getMessage());
+    }
+
+    Map<String, Double> sorted = new TreeMap<String, Double>();
+    sorted.put("N", 1.0);
+    sorted.put("C", 0.5);
+    MaterialModel<String> model = MaterialModel.fromCumulative(sorted);
+    assertEquals(model.getElement(model.sample(0.25)), "C");
+    assertEquals(model.getElement(model.sample(0.75)), "N");
+    System.out.println("@Test - testRequiresOrderedMaps");
+  }
+}
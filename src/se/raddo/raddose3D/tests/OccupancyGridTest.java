@@ -0,0 +1,91 @@
+package se.raddo.raddose3D.tests;
+
+import java.util.Random;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.OccupancyGrid;
+
+public class OccupancyGridTest {
+  /** Half the edge length of the test cube. */
+  private static final double HALF_EDGE = 1.5;
+
+  /** Corners of the cube. */
+  private static final double[][] VERTICES = {
+      {-HALF_EDGE, -HALF_EDGE, -HALF_EDGE },
+      {HALF_EDGE, -HALF_EDGE, -HALF_EDGE },
+      {HALF_EDGE, HALF_EDGE, -HALF_EDGE },
+      {-HALF_EDGE, HALF_EDGE, -HALF_EDGE },
+      {-HALF_EDGE, -HALF_EDGE, HALF_EDGE },
+      {HALF_EDGE, -HALF_EDGE, HALF_EDGE },
+      {HALF_EDGE, HALF_EDGE, HALF_EDGE },
+      {-HALF_EDGE, HALF_EDGE, HALF_EDGE } };
+
+  /** Two triangles per face, 1-based as in the crystal classes. */
+  private static final int[][] INDICES = {
+      {1, 3, 2 }, {1, 4, 3 }, {5, 6, 7 }, {5, 7, 8 },
+      {1, 2, 6 }, {1, 6, 5 }, {4, 8, 7 }, {4, 7, 3 },
+      {1, 5, 8 }, {1, 8, 4 }, {2, 3, 7 }, {2, 7, 6 } };
+
+  /** Distance from a point to the surface of the cube. */
+  private double distanceToCube(final double[] p) {
+    double outside = 0;
+    double inside = Double.POSITIVE_INFINITY;
+    for (double c : p) {
+      double d = Math.abs(c) - HALF_EDGE;
+      outside += Math.max(d, 0) * Math.max(d, 0);
+      inside = Math.min(inside, -d);
+    }
+    if (outside > 0) {
+      return Math.sqrt(outside);
+    }
+    return inside;
+  }
+
+  private boolean isInsideCube(final double[] p) {
+    return Math.abs(p[0]) < HALF_EDGE && Math.abs(p[1]) < HALF_EDGE
+        && Math.abs(p[2]) < HALF_EDGE;
+  }
+
+  @Test
+  public void testClassifyMatchesCube() {
+    OccupancyGrid grid = new OccupancyGrid(VERTICES, INDICES);
+    Random random = new Random(42);
+    int unknown = 0;
+    for (int n = 0; n < 100000; n++) {
+      double[] p = new double[3];
+      for (int i = 0; i < 3; i++) {
+        p[i] = (random.nextDouble() - 0.5) * 4 * HALF_EDGE;
+      }
+      int occupancy = grid.classify(p[0], p[1], p[2]);
+      if (occupancy == OccupancyGrid.UNKNOWN) {
+        unknown++;
+        // only points near the surface are left to the exact test
+        assertTrue(distanceToCube(p) < 2 * grid.getCellSize());
+      } else {
+        assertEquals(occupancy == OccupancyGrid.INSIDE, isInsideCube(p));
+      }
+    }
+    assertTrue(unknown < 20000, unknown + " points undecided");
+    System.out.println("@Test - testClassifyMatchesCube");
+  }
+
+  @Test
+  public void testDistanceIsLowerBound() {
+    OccupancyGrid grid = new OccupancyGrid(VERTICES, INDICES);
+    Random random = new Random(7);
+    for (int n = 0; n < 10000; n++) {
+      double[] p = new double[3];
+      for (int i = 0; i < 3; i++) {
+        p[i] = (random.nextDouble() - 0.5) * 6 * HALF_EDGE;
+      }
+      assertTrue(grid.getDistanceToSurface(p[0], p[1], p[2])
+          <= distanceToCube(p) + 1e-12);
+    }
+    assertTrue(grid.getSignedDistance(0, 0, 0) < -HALF_EDGE / 2);
+    assertTrue(grid.getDistanceToSurface(0, 0, 0) > HALF_EDGE / 2);
+    assertTrue(Double.isNaN(grid.getSignedDistance(10, 0, 0)));
+    System.out.println("@Test - testDistanceIsLowerBound");
+  }
+}
@@ -0,0 +1,150 @@
+package se.raddo.raddose3D.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.ParallelSimulation;
+
+public class ParallelSimulationTest {
+  private int savedThreads;
+
+  @BeforeMethod
+  public void saveThreads() {
+    savedThreads = ParallelSimulation.getThreads();
+  }
+
+  @AfterMethod
+  public void restoreThreads() {
+    ParallelSimulation.setThreads(savedThreads);
+  }
+
+  @Test
+  public void testBatchPartition() {
+    long[] counts = { 1, 999, 1000, 1001, 123457, 10000000 };
+    for (long n : counts) {
+      int batches = ParallelSimulation.getBatchCount(n);
+      assertTrue(batches >= 1);
+      assertEquals(ParallelSimulation.getBatchStart(n, 0), 0);
+      assertEquals(ParallelSimulation.getBatchStart(n, batches), n);
+      long smallest = Long.MAX_VALUE, largest = 0;
+      for (int b = 0; b < batches; b++) {
+        long size = ParallelSimulation.getBatchStart(n, b + 1)
+            - ParallelSimulation.getBatchStart(n, b);
+        smallest = Math.min(smallest, size);
+        largest = Math.max(largest, size);
+      }
+      assertTrue(smallest > 0);
+      assertTrue(largest - smallest <= 1);
+    }
+    System.out.println("@Test - testBatchPartition");
+  }
+
+  /** Sums history indices, merging in batch order. */
+  private static List<Long> sumHistories(final long histories) {
+    final List<Long> merged = new ArrayList<Long>();
+    ParallelSimulation.run(histories, new ParallelSimulation.Batch<long[]>() {
+      @Override
+      public long[] simulate(final long first, final long end) {
+        long sum = 0;
+        for (long i = first; i < end; i++) {
+          sum += i;
+        }
+        return new long[] { sum, end };
+      }
+
+      @Override
+      public void merge(final long[] tallies, final long end) {
+        assertEquals(tallies[1], end);
+        merged.add(tallies[0]);
+      }
+    });
+    return merged;
+  }
+
+  @Test
+  public void testMergeOrderIndependentOfThreads() {
+    long n = 77777;
+    ParallelSimulation.setThreads(1);
+    List<Long> sequential = sumHistories(n);
+    ParallelSimulation.setThreads(5);
+    List<Long> parallel = sumHistories(n);
+    assertEquals(parallel, sequential);
+    long total = 0;
+    for (long s : parallel) {
+      total += s;
+    }
+    assertEquals(total, n * (n - 1) / 2);
+  }
+
+  @Test
+  public void testProgressSkipsMergedBatches() {
+    final long n = 7000;
+    final long[] sum = new long[1];
+    final List<Integer> reported = new ArrayList<Integer>();
+    ParallelSimulation.setThreads(3);
+    ParallelSimulation.setProgress(new ParallelSimulation.Progress() {
+      @Override
+      public int start(final Object tallies, final long histories) {
+        assertSame(tallies, sum);
+        assertEquals(histories, n);
+        return 3;
+      }
+
+      @Override
+      public void merged(final Object tallies, final int merged) {
+        reported.add(merged);
+      }
+    });
+    try {
+      ParallelSimulation.run(n, new ParallelSimulation.Batch<long[]>() {
+        @Override
+        public long[] simulate(final long first, final long end) {
+          long s = 0;
+          for (long i = first; i < end; i++) {
+            s += i;
+          }
+          return new long[] { s };
+        }
+
+        @Override
+        public void merge(final long[] tallies, final long end) {
+          sum[0] += tallies[0];
+        }
+      }, sum);
+    } finally {
+      ParallelSimulation.setProgress(null);
+    }
+
+    // Histories of the batches merged before are not simulated again.
+    long first = ParallelSimulation.getBatchStart(n, 3);
+    assertEquals(sum[0], n * (n - 1) / 2 - first * (first - 1) / 2);
+    assertEquals(reported, Arrays.asList(4, 5, 6, 7));
+  }
+
+  @Test(expectedExceptions = ArithmeticException.class)
+  public void testExceptionPassedOn() {
+    ParallelSimulation.setThreads(3);
+    ParallelSimulation.run(50000, new ParallelSimulation.Batch<Object>() {
+      @Override
+      public Object simulate(final long first, final long end) {
+        if (first > 20000) {
+          throw new ArithmeticException();
+        }
+        return null;
+      }
+
+      @Override
+      public void merge(final Object tallies, final long end) {
+      }
+    });
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidThreads() {
+    ParallelSimulation.setThreads(0);
+  }
+}
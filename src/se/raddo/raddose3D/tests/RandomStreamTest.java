@@ -0,0 +1,81 @@
+package se.raddo.raddose3D.tests;
+
+import java.util.SplittableRandom;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.RandomStream;
+
+public class RandomStreamTest {
+  @Test
+  public void testSeedReproducesStream() {
+    RandomStream a = new RandomStream(42);
+    RandomStream b = RandomStream.fromSeed(42L);
+    assertEquals(b.getSeed(), 42L);
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(a.nextDouble(), b.nextDouble());
+    }
+    System.out.println("@Test - testSeedReproducesStream");
+  }
+
+  @Test
+  public void testSubstreamsIgnoreParentState() {
+    RandomStream a = new RandomStream(7);
+    RandomStream b = new RandomStream(7);
+    for (int i = 0; i < 100; i++) {
+      b.nextDouble();
+    }
+    // Order of derivation and draws on the parent must not matter.
+    RandomStream b5 = b.substream(5);
+    RandomStream a3 = a.substream(3);
+    RandomStream a5 = a.substream(5);
+    RandomStream b3 = b.substream(3);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(a3.nextDouble(), b3.nextDouble());
+      assertEquals(a5.nextDouble(), b5.nextDouble());
+    }
+  }
+
+  @Test
+  public void testSubstreamsDiffer() {
+    RandomStream root = new RandomStream(0);
+    assertNotEquals(root.substream(0).getSeed(), root.substream(1).getSeed());
+    assertNotEquals(root.substream(0).getSeed(), root.getSeed());
+    assertNotEquals(new RandomStream(1).substream(0).getSeed(),
+        root.substream(0).getSeed());
+
+    // Neighbouring substreams should not be shifted copies of each other.
+    RandomStream s0 = root.substream(0);
+    RandomStream s1 = root.substream(1);
+    double first = s1.nextDouble();
+    for (int i = 0; i < 1000; i++) {
+      assertNotEquals(s0.nextDouble(), first);
+    }
+  }
+
+  @Test
+  public void testRanges() {
+    RandomStream r = RandomStream.fromSeed(null);
+    for (int i = 0; i < 10000; i++) {
+      double d = r.nextDouble();
+      assertTrue(d >= 0 && d < 1);
+      int n = r.nextInt(3, 8);
+      assertTrue(n >= 3 && n < 8);
+    }
+  }
+
+  @Test
+  public void testMatchesSplittableRandom() {
+    RandomStream stream = new RandomStream(-3);
+    SplittableRandom reference = new SplittableRandom(-3);
+    int[][] ranges = {{0, 16}, {3, 8}, {-5, 1000003},
+        {Integer.MIN_VALUE, Integer.MAX_VALUE}, {-1, Integer.MAX_VALUE}};
+    for (int i = 0; i < 10000; i++) {
+      assertEquals(stream.nextDouble(), reference.nextDouble());
+      int[] range = ranges[i % ranges.length];
+      assertEquals(stream.nextInt(range[0], range[1]),
+          reference.nextInt(range[0], range[1]));
+    }
+  }
+}
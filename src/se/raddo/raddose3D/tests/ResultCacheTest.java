@@ -0,0 +1,133 @@
+package se.raddo.raddose3D.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.InputException;
+import se.raddo.raddose3D.InputParserString;
+import se.raddo.raddose3D.ResultCache;
+
+public class ResultCacheTest {
+  /** Crystal block of a small experiment, composition given by parameters. */
+  private static final String CRYSTAL = "Crystal\nType Cuboid\n"
+      + "Dimensions 20 20 20\nPixelsPerMicron 0.5\nAbsCoefCalc RD3D\n"
+      + "UnitCell 78.4 78.4 78.4\nNumMonomers 8\nNumResidues 153\n";
+
+  /** Beam and wedge blocks of a small experiment. */
+  private static final String BEAM_WEDGE = "Beam\nType Gaussian\n"
+      + "Flux 2e11\nFWHM 70 20\nEnergy 12.1\n"
+      + "Collimation Rectangular 55 19\n"
+      + "Wedge 0 90\nExposureTime 10\n";
+
+  private static String key(final String input) throws InputException {
+    return ResultCache.getKey(new InputParserString(input));
+  }
+
+  @Test
+  public void testKeyIgnoresLayout() throws InputException {
+    String key = key(CRYSTAL + BEAM_WEDGE);
+    assertNotNull(key);
+    assertEquals(key.length(), 64);
+
+    // Comments, case, spacing and number formatting do not change the key.
+    String reformatted = "# same experiment\n"
+        + CRYSTAL.replace("Dimensions 20 20 20", "DIMENSIONS 2e1 20.0   20")
+            .replace("Type Cuboid", "Type cuboid")
+        + BEAM_WEDGE.replace("Flux 2e11", "Flux 200000000000 # photons/s");
+    assertEquals(key(reformatted), key);
+
+    // Any change to the experiment does.
+    assertNotEquals(key(CRYSTAL + BEAM_WEDGE.replace("ExposureTime 10",
+        "ExposureTime 11")), key);
+    assertNotEquals(key(CRYSTAL.replace("NumResidues 153", "NumResidues 154")
+        + BEAM_WEDGE), key);
+    assertNotEquals(key(CRYSTAL + BEAM_WEDGE + "Wedge 90 180\n"
+        + "ExposureTime 10\n"), key);
+    System.out.println("@Test - testKeyIgnoresLayout");
+  }
+
+  @Test
+  public void testOnlyDeterministicExperimentsHaveKeys()
+      throws InputException {
+    String escape = CRYSTAL + "CalculatePEEscape TRUE\n";
+    assertNull(key(escape + BEAM_WEDGE));
+
+    String seeded = key(escape + "Seed 42\n" + BEAM_WEDGE);
+    assertNotNull(seeded);
+    assertNotEquals(key(escape + "Seed 43\n" + BEAM_WEDGE), seeded);
+
+    assertNull(key(CRYSTAL + "Subprogram MONTECARLO\n" + BEAM_WEDGE));
+    System.out.println("@Test - testOnlyDeterministicExperimentsHaveKeys");
+  }
+
+  @Test
+  public void testSeededSubprogramsAreNotCached() throws InputException {
+    // A cache hit has to match a fresh run in any JVM, which has not been
+    // shown for every subprogram.
+    for (String program : new String[] {"MONTECARLO", "GOS", "XFEL", "EMSP",
+        "EMED"}) {
+      assertNull(key(CRYSTAL + "Subprogram " + program + "\nSeed 42\n"
+          + BEAM_WEDGE), program);
+    }
+    System.out.println("@Test - testSeededSubprogramsAreNotCached");
+  }
+
+  @Test
+  public void testStoreLoadAndEvict() throws IOException {
+    File dir = Files.createTempDirectory("resultcache").toFile();
+    try {
+      ResultCache cache = new ResultCache(dir, 4000);
+      assertNull(cache.load("a"));
+
+      Map<String, String> outputs = new LinkedHashMap<String, String>();
+      outputs.put("Summary.csv", "Wedge Number,\n1,\n");
+      outputs.put("Empty", "");
+      cache.store("a", outputs);
+      assertEquals(cache.load("a"), outputs);
+
+      // Results that do not compress take about 1.6 kB each.
+      Map<String, String> large = new LinkedHashMap<String, String>();
+      StringBuilder noise = new StringBuilder();
+      java.util.Random r = new java.util.Random(1);
+      for (int i = 0; i < 2000; i++) {
+        noise.append((char) ('!' + r.nextInt(90)));
+      }
+      large.put("Noise", noise.toString());
+      cache.store("b", large);
+      cache.store("c", large);
+      assertTrue(cache.getFile("a").setLastModified(
+          System.currentTimeMillis() + 10000));
+      assertTrue(cache.getFile("b").setLastModified(
+          System.currentTimeMillis() - 10000));
+      cache.store("d", large);
+
+      // The least recently used result has gone.
+      assertNull(cache.load("b"));
+      assertEquals(cache.load("a"), outputs);
+      assertEquals(cache.load("c"), large);
+      assertEquals(cache.load("d"), large);
+    } finally {
+      for (File f : dir.listFiles()) {
+        f.delete();
+      }
+      dir.delete();
+    }
+    System.out.println("@Test - testStoreLoadAndEvict");
+  }
+
+  @Test
+  public void testDisabled() throws IOException {
+    ResultCache cache = new ResultCache(new File("unused"), 0);
+    assertFalse(cache.isEnabled());
+    assertNull(cache.getFile("a"));
+    cache.store("a", new LinkedHashMap<String, String>());
+    assertNull(cache.load("a"));
+    assertFalse(new File("unused").exists());
+  }
+}
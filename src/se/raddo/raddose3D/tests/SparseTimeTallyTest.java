@@ -0,0 +1,81 @@
+package se.raddo.raddose3D.tests;
+
+import java.util.Random;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.SparseTimeTally;
+
+public class SparseTimeTallyTest {
+  @Test
+  public void testMatchesDenseArray() {
+    int bins = 500;
+    double[][][][] dense = new double[3][2][2][bins];
+    SparseTimeTally tally = new SparseTimeTally(3, 2, 2);
+    Random r = new Random(42);
+    for (int n = 0; n < 20000; n++) {
+      int i = r.nextInt(3);
+      int j = r.nextInt(2);
+      int k = r.nextInt(2);
+      // clustered bins, so that most bins are hit repeatedly
+      int bin = Math.min(bins - 1, (int) Math.abs(r.nextGaussian() * 40));
+      double value = r.nextDouble() * 1000;
+      dense[i][j][k][bin] += value;
+      tally.add(i, j, k, bin, value);
+    }
+
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 2; j++) {
+        for (int k = 0; k < 2; k++) {
+          int nonEmpty = 0;
+          for (int bin = 0; bin < bins; bin++) {
+            // summed in the same order, so exactly equal
+            assertEquals(tally.get(i, j, k, bin), dense[i][j][k][bin], 0.0);
+            if (dense[i][j][k][bin] != 0) {
+              nonEmpty++;
+            }
+          }
+          assertEquals(tally.size(i, j, k), nonEmpty);
+          for (int n = 1; n < tally.size(i, j, k); n++) {
+            assertTrue(tally.getBin(i, j, k, n) > tally.getBin(i, j, k, n - 1));
+          }
+          for (int n = 0; n < tally.size(i, j, k); n++) {
+            int bin = tally.getBin(i, j, k, n);
+            assertEquals(tally.getValue(i, j, k, n), dense[i][j][k][bin], 0.0);
+          }
+        }
+      }
+    }
+    System.out.println("@Test - testMatchesDenseArray");
+  }
+
+  @Test
+  public void testAddAfterReading() {
+    SparseTimeTally tally = new SparseTimeTally(1, 1, 1);
+    tally.add(0, 0, 0, 7, 1.5);
+    tally.add(0, 0, 0, 2, 1.0);
+    assertEquals(tally.size(0, 0, 0), 2);
+    tally.add(0, 0, 0, 7, 0.25);
+    tally.add(0, 0, 0, 5, 3.0);
+    assertEquals(tally.size(0, 0, 0), 3);
+    assertEquals(tally.getBin(0, 0, 0, 0), 2);
+    assertEquals(tally.getBin(0, 0, 0, 1), 5);
+    assertEquals(tally.getBin(0, 0, 0, 2), 7);
+    assertEquals(tally.getValue(0, 0, 0, 2), 1.75, 0.0);
+  }
+
+  @Test
+  public void testEmptyVoxel() {
+    SparseTimeTally tally = new SparseTimeTally(2, 2, 2);
+    tally.add(1, 1, 1, 3, 1.0);
+    assertEquals(tally.size(0, 0, 0), 0);
+    assertEquals(tally.get(0, 0, 0, 3), 0.0, 0.0);
+    assertEquals(tally.get(1, 1, 1, 4), 0.0, 0.0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNegativeBin() {
+    new SparseTimeTally(1, 1, 1).add(0, 0, 0, -1, 1.0);
+  }
+}
@@ -0,0 +1,132 @@
+package se.raddo.raddose3D.tests;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.TextFormatter;
+import se.raddo.raddose3D.WriterString;
+
+public class TextFormatterTest {
+  /** Values that exercise rounding, carries and notation changes. */
+  private static final double[] SPECIAL_VALUES = { 0.0, -0.0, 1.0, -1.0,
+      0.5, 0.05, 0.15, 0.125, 1.005, 9.9999995, 99999.95, 999999.5, 0.00009999995,
+      0.0001, 0.000099999, 1e-5, 1e-10, 123456789.123, 1e20, 1e300, 4.9e-324,
+      Double.MAX_VALUE, Double.MIN_NORMAL, Math.PI, -Math.E, 1234.5678e-7,
+      Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 100, 0.1,
+      1e7, 9999999.999, 5e-7, 4.9999e-7 };
+
+  /** Returns random values spread over many orders of magnitude. */
+  private static double[] randomValues(final int count) {
+    Random r = new Random(4711);
+    double[] values = new double[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = (r.nextDouble() - 0.3) * Math.pow(10, r.nextInt(24) - 12);
+    }
+    return values;
+  }
+
+  /** Formats all values with the given operation and the reference. */
+  private static void compare(final double[] values, final String format,
+      final int precision) {
+    WriterString w = new WriterString();
+    TextFormatter t = new TextFormatter(w, 64);
+    StringBuilder expected = new StringBuilder();
+    for (double v : values) {
+      if ("f".equals(format)) {
+        t.appendFixed(v, precision);
+        expected.append(String.format(Locale.ENGLISH, "%." + precision + "f",
+            v));
+      } else if ("e".equals(format)) {
+        t.appendScientific(v, precision);
+        expected.append(String.format(Locale.ENGLISH, "%." + precision + "e",
+            v));
+      } else {
+        t.appendGeneral(v);
+        expected.append(String.format(Locale.ENGLISH, "%g", v));
+      }
+      t.append(';');
+      expected.append(';');
+    }
+    t.flush();
+    assertEquals(w.getDataString(), expected.toString());
+  }
+
+  @Test
+  public void testShortestRepresentation() {
+    WriterString w = new WriterString();
+    TextFormatter t = new TextFormatter(w, 64);
+    StringBuilder expected = new StringBuilder();
+    double[] values = randomValues(10000);
+    for (double v : values) {
+      t.append(v).append(',').append((float) v).append('\n');
+      expected.append(String.valueOf(v)).append(',')
+          .append(String.valueOf((float) v)).append('\n');
+    }
+    for (double v : SPECIAL_VALUES) {
+      t.append(v).append(',').append((float) v).append('\n');
+      expected.append(String.valueOf(v)).append(',')
+          .append(String.valueOf((float) v)).append('\n');
+    }
+    t.flush();
+    assertEquals(w.getDataString(), expected.toString());
+    System.out.println("@Test - testShortestRepresentation");
+  }
+
+  @Test
+  public void testIntegers() {
+    WriterString w = new WriterString();
+    TextFormatter t = new TextFormatter(w, 64);
+    long[] values = { 0, 1, -1, 9, 10, 99, 100, -12345, Integer.MAX_VALUE,
+        Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE };
+    StringBuilder expected = new StringBuilder();
+    for (long v : values) {
+      t.append(v).append(' ');
+      expected.append(v).append(' ');
+    }
+    t.append(-42).append("end");
+    expected.append(-42).append("end");
+    t.flush();
+    assertEquals(w.getDataString(), expected.toString());
+  }
+
+  @Test
+  public void testFixedPrecision() {
+    for (int precision = 0; precision <= 8; precision++) {
+      compare(SPECIAL_VALUES, "f", precision);
+      compare(randomValues(2000), "f", precision);
+    }
+    System.out.println("@Test - testFixedPrecision");
+  }
+
+  @Test
+  public void testScientific() {
+    for (int precision = 0; precision <= 8; precision++) {
+      compare(SPECIAL_VALUES, "e", precision);
+      compare(randomValues(2000), "e", precision);
+    }
+    System.out.println("@Test - testScientific");
+  }
+
+  @Test
+  public void testGeneral() {
+    compare(SPECIAL_VALUES, "g", 6);
+    compare(randomValues(10000), "g", 6);
+    System.out.println("@Test - testGeneral");
+  }
+
+  @Test
+  public void testLongStringsBypassBuffer() {
+    WriterString w = new WriterString();
+    TextFormatter t = new TextFormatter(w, 64);
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      s.append("0123456789");
+    }
+    t.append('<').append(s.toString()).append('>');
+    t.flush();
+    assertEquals(w.getDataString(), "<" + s + ">");
+  }
+}
@@ -0,0 +1,95 @@
+package se.raddo.raddose3D.tests;
+
+import java.util.Random;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.TriangleMesh;
+import se.raddo.raddose3D.Vector;
+
+public class TriangleMeshTest {
+  /** Corners of a 2 x 4 x 6 box, offset from the origin. */
+  private static final double[][] VERTICES = {
+      {-1, -1, -2 }, {1, -1, -2 }, {1, 3, -2 }, {-1, 3, -2 },
+      {-1, -1, 4 }, {1, -1, 4 }, {1, 3, 4 }, {-1, 3, 4 } };
+
+  /** Two triangles per face, 1-based as in the crystal classes. */
+  private static final int[][] INDICES = {
+      {1, 3, 2 }, {1, 4, 3 }, {5, 6, 7 }, {5, 7, 8 },
+      {1, 2, 6 }, {1, 6, 5 }, {4, 8, 7 }, {4, 7, 3 },
+      {1, 5, 8 }, {1, 8, 4 }, {2, 3, 7 }, {2, 7, 6 } };
+
+  /**
+   * The inside test as the crystal classes did it before, one allocated
+   * ray trace per triangle.
+   */
+  private boolean isInsideByVector(final double[] origin) {
+    double[] directionVector = {0, 0, 1 };
+    boolean inside = false;
+    for (int[] triangle : INDICES) {
+      double[][] triangleVertices = new double[3][];
+      for (int m = 0; m < 3; m++) {
+        triangleVertices[m] = VERTICES[triangle[m] - 1];
+      }
+      double[] normal = Vector.normalisedCrossProduct(
+          Vector.vectorBetweenPoints(triangleVertices[0], triangleVertices[1]),
+          Vector.vectorBetweenPoints(triangleVertices[0], triangleVertices[2]));
+      double originDistance = -Vector.dotProduct(normal, triangleVertices[0]);
+      double t = Vector.rayTraceDistance(normal, directionVector, origin,
+          originDistance);
+      if (t < 0 || Double.isNaN(t) || Double.isInfinite(t)) {
+        continue;
+      }
+      if (Vector.polygonInclusionTest(triangleVertices,
+          Vector.rayTraceToPointWithDistance(directionVector, origin, t))) {
+        inside = !inside;
+      }
+    }
+    return inside;
+  }
+
+  @Test
+  public void testInsideMatchesVectorTest() {
+    TriangleMesh mesh = new TriangleMesh(VERTICES, INDICES);
+    Random random = new Random(3);
+    for (int n = 0; n < 20000; n++) {
+      double[] p = {random.nextDouble() * 4 - 2, random.nextDouble() * 6 - 2,
+          random.nextDouble() * 8 - 3 };
+      assertEquals(mesh.isInside(p[0], p[1], p[2]), isInsideByVector(p));
+    }
+    System.out.println("@Test - testInsideMatchesVectorTest");
+  }
+
+  @Test
+  public void testZAxisCrossings() {
+    TriangleMesh mesh = new TriangleMesh(VERTICES, INDICES);
+    double[] distances = new double[mesh.size()];
+    int crossings = mesh.zAxisCrossings(0.3, 0.7, 1, distances);
+    assertEquals(crossings, 2);
+    assertEquals(Math.min(distances[0], distances[1]), -3, 1e-12);
+    assertEquals(Math.max(distances[0], distances[1]), 3, 1e-12);
+    assertEquals(mesh.zAxisCrossings(5, 0.7, 1, distances), 0);
+    System.out.println("@Test - testZAxisCrossings");
+  }
+
+  @Test
+  public void testRayIntersection() {
+    TriangleMesh mesh = new TriangleMesh(VERTICES, INDICES);
+    double[] distances = new double[mesh.size()];
+    // from the centre along +x, hits the face at x = 1 once
+    assertEquals(mesh.rayCrossings(0, 0.5, 1.5, 1, 0, 0, distances), 1);
+    assertEquals(distances[0], 1, 1e-12);
+    // oblique ray from outside passes through two faces
+    assertEquals(mesh.rayCrossings(-2, 0.3, 0.4, 1, 0.2, 0.1, distances), 2);
+    assertEquals(Math.min(distances[0], distances[1]), 1, 1e-12);
+    // nearest and furthest planes in front of the centre along -z
+    assertEquals(mesh.planeIntersectionDistance(0, 1, 1, 0, 0, -1, true), 3,
+        1e-12);
+    assertEquals(mesh.planeIntersectionDistance(0, 1, 1, 0, 0, -1, false), 3,
+        1e-12);
+    assertEquals(mesh.getMinimum(2), -2.0);
+    assertEquals(mesh.getMaximum(1), 3.0);
+    System.out.println("@Test - testRayIntersection");
+  }
+}
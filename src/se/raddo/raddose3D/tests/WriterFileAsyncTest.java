@@ -0,0 +1,173 @@
+package se.raddo.raddose3D.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.Writer;
+import se.raddo.raddose3D.WriterFileAsync;
+
+public class WriterFileAsyncTest {
+  /** Size of the character buffers in the failure tests. */
+  private static final int BUFFER = 10000;
+
+  /** A destination that fails once more than a given size is written. */
+  private static final class FailingStream extends OutputStream {
+    /** Number of bytes accepted before failing. */
+    private int remaining;
+
+    private FailingStream(final int limit) {
+      remaining = limit;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      write(new byte[] {(byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len)
+        throws IOException {
+      if (len > remaining) {
+        throw new IOException("Disk full");
+      }
+      remaining -= len;
+    }
+  }
+
+  /** Read a file back as a UTF-8 string. */
+  private static String readFile(final File f) throws IOException {
+    return new String(Files.readAllBytes(f.toPath()), "UTF-8");
+  }
+
+  @Test
+  public void testWriterFileAsync() throws IOException {
+    File f = File.createTempFile("raddose3d-async", ".txt");
+    f.deleteOnExit();
+    Writer w = new WriterFileAsync(f.getPath());
+
+    w.write("asdf");
+    w.write("");
+    w.write(new StringBuffer("\n"));
+    w.write("bla\u00c5");
+    w.close();
+
+    assertEquals(readFile(f), "asdf\nbla\u00c5");
+    System.out.println("@Test - testWriterFileAsync");
+  }
+
+  @Test
+  public void testFlushAcrossBufferBoundaries() throws IOException {
+    File f = File.createTempFile("raddose3d-async", ".txt");
+    f.deleteOnExit();
+    // Tiny buffers, so that every write spans several of them.
+    Writer w = new WriterFileAsync(f.getPath(), 3);
+    StringBuilder expected = new StringBuilder();
+
+    for (int i = 0; i < 1000; i++) {
+      String s = i + ",";
+      w.write(s);
+      expected.append(s);
+      if (i % 97 == 0) {
+        w.flush();
+        assertEquals(readFile(f), expected.toString());
+      }
+    }
+    w.write(new StringBuffer("end"));
+    expected.append("end");
+    w.flush();
+    assertEquals(readFile(f), expected.toString());
+    w.close();
+    assertEquals(readFile(f), expected.toString());
+  }
+
+  @Test
+  public void testCloseIsIdempotent() throws IOException {
+    File f = File.createTempFile("raddose3d-async", ".txt");
+    f.deleteOnExit();
+    Writer w = new WriterFileAsync(f.getPath());
+    w.write("x");
+    w.close();
+    w.close();
+    assertEquals(readFile(f), "x");
+  }
+
+  @Test(expectedExceptions = RuntimeException.class)
+  public void testWritingAfterClosingShouldFail() throws IOException {
+    File f = File.createTempFile("raddose3d-async", ".txt");
+    f.deleteOnExit();
+    Writer w = new WriterFileAsync(f.getPath());
+    w.write("asdf");
+    w.close();
+    w.write("asdf");
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void testUnwritableFileShouldFail() throws IOException {
+    File d = Files.createTempDirectory("raddose3d-async").toFile();
+    d.deleteOnExit();
+    new WriterFileAsync(d.getPath());
+  }
+
+  /** Writes enough data to swap buffers a number of times. */
+  private static void fillBuffers(final Writer w, final int count) {
+    char[] data = new char[BUFFER];
+    for (int i = 0; i < count; i++) {
+      w.write(data, 0, data.length);
+    }
+  }
+
+  @Test
+  public void testBackgroundFailureSurfacesOnFlush() throws IOException {
+    // The first buffer fits, the second does not.
+    Writer w = new WriterFileAsync(new FailingStream(BUFFER + 1), "stream",
+        BUFFER);
+    fillBuffers(w, 2);
+    try {
+      w.flush();
+      fail("flush() should report the failed write");
+    } catch (IOException e) {
+      assertEquals(e.getCause().getMessage(), "Disk full");
+    }
+    try {
+      w.write("x");
+      fail("write() should report the failed write");
+    } catch (UncheckedIOException e) {
+      assertEquals(e.getCause().getMessage(), "Disk full");
+    }
+    try {
+      w.close();
+      fail("close() should report the failed write");
+    } catch (UncheckedIOException e) {
+      assertEquals(e.getCause().getMessage(), "Disk full");
+    }
+  }
+
+  @Test(timeOut = 10000)
+  public void testBackgroundFailureSurfacesOnWrite() throws IOException {
+    Writer w = new WriterFileAsync(new FailingStream(BUFFER + 1), "stream",
+        BUFFER);
+    int swaps = 0;
+    try {
+      // The failure is seen as soon as the background thread reaches it.
+      while (true) {
+        fillBuffers(w, 1);
+        swaps++;
+      }
+    } catch (UncheckedIOException e) {
+      assertEquals(e.getCause().getMessage(), "Disk full");
+    }
+    assertTrue(swaps >= 2, "failed after " + swaps + " buffers");
+    try {
+      w.close();
+      fail("close() should report the failed write");
+    } catch (UncheckedIOException e) {
+      assertEquals(e.getCause().getMessage(), "Disk full");
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package se.raddo.raddose3D.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.testng.annotations.*;
+
+import se.raddo.raddose3D.server.ConnectionFactory;
+import se.raddo.raddose3D.server.DatabaseConnector;
+import se.raddo.raddose3D.server.WriterSQL;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+public class WriterSQLTest {
+  /**
+   * Stand-in for a local database holding the chunks of one output file.
+   * Statement parameters are recorded, inserted rows are kept in memory by
+   * chunk number and chunk queries are answered from them.
+   */
+  private static class ChunkTable implements ConnectionFactory {
+    private final Map<Integer, Object[]> rows =
+        new HashMap<Integer, Object[]>();
+    private int batches;
+    private int bytesStored;
+    /** Number of batches still to fail after storing their first row. */
+    private int failures;
+
+    @Override
+    public synchronized Connection createConnection() throws SQLException {
+      Connection conn = mock(Connection.class);
+      when(conn.prepareStatement(anyString())).thenAnswer(
+          new Answer<PreparedStatement>() {
+            @Override
+            public PreparedStatement answer(final InvocationOnMock invocation)
+                throws SQLException {
+              return statement((String) invocation.getArguments()[0]);
+            }
+          });
+      return conn;
+    }
+
+    private PreparedStatement statement(final String sql)
+        throws SQLException {
+      final PreparedStatement pst = mock(PreparedStatement.class);
+      final Map<Integer, Object> params = new HashMap<Integer, Object>();
+      final List<Map<Integer, Object>> batch =
+          new ArrayList<Map<Integer, Object>>();
+      Answer<Object> record = new Answer<Object>() {
+        @Override
+        public Object answer(final InvocationOnMock invocation) {
+          Object[] args = invocation.getArguments();
+          params.put((Integer) args[0], args[1]);
+          return null;
+        }
+      };
+      doAnswer(record).when(pst).setLong(anyInt(), anyLong());
+      doAnswer(record).when(pst).setInt(anyInt(), anyInt());
+      doAnswer(record).when(pst).setString(anyInt(), anyString());
+      doAnswer(record).when(pst).setBytes(anyInt(), any(byte[].class));
+      doAnswer(new Answer<Object>() {
+        @Override
+        public Object answer(final InvocationOnMock invocation) {
+          batch.add(new HashMap<Integer, Object>(params));
+          return null;
+        }
+      }).when(pst).addBatch();
+      when(pst.executeUpdate()).thenAnswer(new Answer<Integer>() {
+        @Override
+        public Integer answer(final InvocationOnMock invocation) {
+          if (sql.startsWith("DELETE FROM outputchunks")) {
+            synchronized (ChunkTable.this) {
+              if (sql.contains("Chunk >=")) {
+                Iterator<Integer> chunks = rows.keySet().iterator();
+                while (chunks.hasNext()) {
+                  if (chunks.next() >= (Integer) params.get(3)) {
+                    chunks.remove();
+                  }
+                }
+              } else {
+                rows.clear();
+              }
+            }
+          }
+          return 1;
+        }
+      });
+      when(pst.executeBatch()).thenAnswer(new Answer<int[]>() {
+        @Override
+        public int[] answer(final InvocationOnMock invocation)
+            throws SQLException {
+          synchronized (ChunkTable.this) {
+            batches++;
+            for (Map<Integer, Object> row : batch) {
+              byte[] content = (byte[]) row.get(5);
+              bytesStored += content.length;
+              rows.put((Integer) row.get(3), new Object[] {row.get(4),
+                  content });
+              if (failures > 0) {
+                failures--;
+                batch.clear();
+                throw new SQLException("connection lost");
+              }
+            }
+          }
+          int[] counts = new int[batch.size()];
+          batch.clear();
+          return counts;
+        }
+      });
+      when(pst.executeQuery()).thenAnswer(new Answer<ResultSet>() {
+        @Override
+        public ResultSet answer(final InvocationOnMock invocation)
+            throws SQLException {
+          Object[] row;
+          synchronized (ChunkTable.this) {
+            row = rows.get(params.get(3));
+          }
+          ResultSet rs = mock(ResultSet.class);
+          when(rs.next()).thenReturn(row != null);
+          if (row != null) {
+            when(rs.getString(1)).thenReturn((String) row[0]);
+            when(rs.getBytes(2)).thenReturn((byte[]) row[1]);
+          }
+          return rs;
+        }
+      });
+      return pst;
+    }
+  }
+
+  private String writeAndRead(final ChunkTable table, final String content,
+      final boolean compressed) throws SQLException, IOException {
+    DatabaseConnector sql = new DatabaseConnector();
+    sql.connect(table, 1);
+    WriterSQL w = new WriterSQL(sql, 1L, "DoseState.csv",
+        DatabaseConnector.OutputType.TEXT, compressed);
+    // write in pieces that do not line up with chunk boundaries
+    for (int i = 0; i < content.length(); i += 70001) {
+      w.write(content.substring(i, Math.min(content.length(), i + 70001)));
+    }
+    w.close();
+
+    InputStream in = sql.openOutputFile(1L, "DoseState.csv");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buf = new byte[8192];
+    int n;
+    while ((n = in.read(buf)) != -1) {
+      out.write(buf, 0, n);
+    }
+    in.close();
+    return new String(out.toByteArray(), "UTF-8");
+  }
+
+  @Test
+  public void testChunkedRoundTrip() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    int line = 0;
+    while (sb.length() < 4500000) {
+      // include characters outside the basic plane across chunk boundaries
+      sb.append(line++).append(",0.5,\u00c5,\ud83d\ude00\n");
+    }
+    String content = sb.toString();
+
+    ChunkTable plain = new ChunkTable();
+    assertEquals(writeAndRead(plain, content, false), content);
+    // five chunks, sent as one full batch and one on close()
+    assertEquals(plain.rows.size(), 5);
+    assertEquals(plain.batches, 2);
+
+    ChunkTable compressed = new ChunkTable();
+    assertEquals(writeAndRead(compressed, content, true), content);
+    assertEquals(compressed.rows.size(), 5);
+    assertTrue(compressed.bytesStored < plain.bytesStored / 2);
+    System.out.println("@Test - testChunkedRoundTrip");
+  }
+
+  @Test
+  public void testFailedBatchRetried() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < 4500000) {
+      sb.append(sb.length()).append(",0.5\n");
+    }
+    String content = sb.toString();
+
+    // the first batch stores one of its chunks and then fails
+    ChunkTable table = new ChunkTable();
+    table.failures = 1;
+    assertEquals(writeAndRead(table, content, false), content);
+    assertEquals(table.rows.size(), 5);
+    assertEquals(table.batches, 3);
+    System.out.println("@Test - testFailedBatchRetried");
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testFailingBatchEndsJob() throws Exception {
+    ChunkTable table = new ChunkTable();
+    table.failures = Integer.MAX_VALUE;
+    writeAndRead(table, "1,0.5\n", false);
+  }
+
+  @Test
+  public void testEmptyOutput() throws Exception {
+    ChunkTable table = new ChunkTable();
+    assertEquals(writeAndRead(table, "", true), "");
+    assertEquals(table.rows.size(), 0);
+    assertEquals(table.batches, 0);
+    System.out.println("@Test - testEmptyOutput");
+  }
+}